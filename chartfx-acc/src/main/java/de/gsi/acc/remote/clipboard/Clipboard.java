@@ -10,13 +10,13 @@ import java.net.URL;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -118,7 +118,7 @@ public class Clipboard implements EventSource, EventListener {
     private static final int CACHE_TIME_OUT_DEFAULT = 60;
     // update source definitions
     private final AtomicBoolean autoNotify = new AtomicBoolean(true);
-    private final List<EventListener> updateListeners = Collections.synchronizedList(new LinkedList<>());
+    private final List<EventListener> updateListeners = new CopyOnWriteArrayList<>();
 
     private final Lock clipboardLock = new ReentrantLock();
     private final Condition clipboardCondition = clipboardLock.newCondition();
@@ -51,6 +51,7 @@ import de.gsi.chart.ui.geometry.Corner;
 import de.gsi.chart.ui.geometry.Side;
 import de.gsi.chart.utils.FXUtils;
 import de.gsi.dataset.DataSet;
+import de.gsi.dataset.event.CoalescingEventDispatcher;
 import de.gsi.dataset.event.EventListener;
 import de.gsi.dataset.utils.AssertUtils;
 import de.gsi.dataset.utils.NoDuplicatesList;
@@ -102,6 +103,7 @@ public abstract class Chart extends HiddenSidesPane implements Observable {
     protected final ObservableList<DataSet> allDataSets = FXCollections.observableArrayList();
     protected final List<InvalidationListener> listeners = new ArrayList<>();
     protected final BooleanProperty autoNotification = new SimpleBooleanProperty(this, "autoNotification", true);
+    protected final BooleanProperty eventCoalescing = new SimpleBooleanProperty(this, "eventCoalescing", false);
     private final ObservableList<Renderer> renderers = FXCollections.observableArrayList();
     {
         getRenderers().addListener(this::rendererChanged);
@@ -148,7 +150,14 @@ public abstract class Chart extends HiddenSidesPane implements Observable {
     protected final ListChangeListener<Axis> axesChangeListenerLocal = this::axesChangedLocal;
     protected final ListChangeListener<Axis> axesChangeListener = this::axesChanged;
     protected final ListChangeListener<DataSet> datasetChangeListener = this::datasetsChanged;
-    protected final EventListener dataSetDataListener = obs -> FXUtils.runFX(this::dataSetInvalidated);
+    private final EventListener coalescedDataSetDataListener = CoalescingEventDispatcher.getDefault().wrap(obs -> FXUtils.runFX(this::dataSetInvalidated));
+    protected final EventListener dataSetDataListener = obs -> {
+        if (isEventCoalescing()) {
+            coalescedDataSetDataListener.handle(obs);
+            return;
+        }
+        FXUtils.runFX(this::dataSetInvalidated);
+    };
     protected final ListChangeListener<ChartPlugin> pluginsChangedListener = this::pluginsChanged;
     protected final ChangeListener<? super Window> windowPropertyListener = (ch1, oldWindow, newWindow) -> {
         if (oldWindow != null) {
@@ -517,6 +526,10 @@ public abstract class Chart extends HiddenSidesPane implements Observable {
         return autoNotification;
     }
 
+    public BooleanProperty eventCoalescingProperty() {
+        return eventCoalescing;
+    }
+
     /**
      * Notifies listeners that the data has been invalidated. If the data is added to the chart, it triggers repaint.
      *
@@ -709,6 +722,14 @@ public abstract class Chart extends HiddenSidesPane implements Observable {
         return autoNotification.get();
     }
 
+    /**
+     * @return true: data set events are coalesced by the {@link CoalescingEventDispatcher} and forwarded to the FX
+     *         thread at most once per dispatcher tick and data set
+     */
+    public boolean isEventCoalescing() {
+        return eventCoalescing.get();
+    }
+
     public final boolean isLegendVisible() {
         return legendVisible.getValue();
     }
@@ -820,6 +841,10 @@ public abstract class Chart extends HiddenSidesPane implements Observable {
         autoNotification.set(flag);
     }
 
+    public void setEventCoalescing(final boolean state) {
+        eventCoalescing.set(state);
+    }
+
     public final void setLegend(final Legend value) {
         legend.set(value);
     }
@@ -2,8 +2,11 @@ package de.gsi.chart;
 
 import java.security.InvalidParameterException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -35,7 +38,9 @@ import de.gsi.chart.renderer.spi.GridRenderer;
 import de.gsi.chart.renderer.spi.LabelledMarkerRenderer;
 import de.gsi.chart.ui.geometry.Side;
 import de.gsi.chart.utils.FXUtils;
+import de.gsi.dataset.AxisDescription;
 import de.gsi.dataset.DataSet;
+import de.gsi.dataset.locks.DataSetLock;
 import de.gsi.dataset.utils.AssertUtils;
 
 /**
@@ -254,26 +259,17 @@ public class XYChart extends Chart {
         }
 
         // lock datasets to prevent writes while updating the axes
-        ObservableList<DataSet> dataSets = this.getAllDatasets();
-        // check that all registered data sets have proper ranges defined
-        dataSets.parallelStream().forEach(dataset -> dataset.getAxisDescriptions().parallelStream().filter(axisD -> !axisD.isDefined()) //
-                                                             .forEach(axisDescription -> dataset.lock().writeLockGuard(() -> dataset.recomputeLimits(axisDescription.getDimIndex()))));
-
-        // N.B. possible race condition on this line -> for the future to solve
-        // recomputeLimits holds a writeLock the following sections need a read lock (for allowing parallel axis)
-        // there isn't an easy way to down-grade the established write locks into read locks (yet)
-        // Experimental version:
-        // dataSets.forEach(dataset -> {
-        // dataset.lock().writeLock();
-        // dataset.getAxisDescriptions().parallelStream().filter(axisD -> !axisD.isDefined())
-        // .forEach(axisDescription -> {
-        // dataset.setAutoNotification(false);
-        // dataset.recomputeLimits(dataset.getAxisDescriptions().indexOf(axisDescription));
-        // });
-        // DefaultDataSetLock<DataSet> myLock = (DefaultDataSetLock<DataSet>) dataset.lock();
-        // myLock.downGradeWriteLock();
-        // });
-
+        // N.B. identity-based to lock data sets shared between renderers only once
+        final Set<DataSet> dataSets = Collections.newSetFromMap(new IdentityHashMap<>());
+        dataSets.addAll(this.getAllDatasets());
+        // check that all registered data sets have proper ranges defined: the common case requires only the read lock,
+        // the write lock is acquired only to recompute undefined limits
+        dataSets.forEach(dataset -> {
+            if (Boolean.TRUE.equals(dataset.lock().readLockGuard(() -> hasUndefinedLimits(dataset)))) {
+                dataset.lock().writeLockGuard(() -> dataset.getAxisDescriptions().stream().filter(axisD -> !axisD.isDefined()).forEach(axisDescription -> dataset.recomputeLimits(axisDescription.getDimIndex())));
+            }
+        });
+        // N.B. limits that are invalidated by a writer in between are lazily recomputed by 'updateNumericAxis'
         dataSets.forEach(ds -> ds.lock().readLock());
         try {
             getAxes().forEach(chartAxis -> {
@@ -297,6 +293,10 @@ public class XYChart extends Chart {
         return gridRenderer.verticalGridLinesVisibleProperty();
     }
 
+    private static boolean hasUndefinedLimits(final DataSet dataSet) {
+        return dataSet.getAxisDescriptions().stream().anyMatch(axisD -> !axisD.isDefined());
+    }
+
     private boolean isDataEmpty() {
         return getAllDatasets() == null || getAllDatasets().isEmpty();
     }
@@ -463,6 +463,9 @@ public class XYChart extends Chart {
             // for (final Renderer renderer : change.getAddedSubList()) {
             // checkRendererForRequiredAxes(renderer);
             //}
+
+            // handle removed renderer
+            change.getRemoved().stream().filter(ErrorDataSetRenderer.class::isInstance).forEach(renderer -> ((ErrorDataSetRenderer) renderer).releaseScreenCoordinateCaches());
         }
         // reset change to allow derived classes to add additional listeners to renderer changes
         change.reset();
@@ -481,22 +484,29 @@ public class XYChart extends Chart {
         final boolean isHorizontal = axis.getSide().isHorizontal();
         final Side side = axis.getSide();
         axis.getAutoRange().clear();
-        dataSets.forEach(dataset -> dataset.lock().readLockGuard(() -> {
-            if (dataset.getDimension() > 2 && (side == Side.RIGHT || side == Side.TOP)) {
-                if (!dataset.getAxisDescription(DataSet.DIM_Z).isDefined()) {
-                    dataset.recomputeLimits(DataSet.DIM_Z);
-                }
-                axis.getAutoRange().add(dataset.getAxisDescription(DataSet.DIM_Z).getMin());
-                axis.getAutoRange().add(dataset.getAxisDescription(DataSet.DIM_Z).getMax());
-            } else {
-                final int nDim = isHorizontal ? DataSet.DIM_X : DataSet.DIM_Y;
-                if (!dataset.getAxisDescription(nDim).isDefined()) {
-                    dataset.recomputeLimits(nDim);
+        dataSets.forEach(dataset -> {
+            final int dimIndex = dataset.getDimension() > 2 && (side == Side.RIGHT || side == Side.TOP) ? DataSet.DIM_Z : (isHorizontal ? DataSet.DIM_X : DataSet.DIM_Y);
+            final AxisDescription axisDescription = dataset.getAxisDescription(dimIndex);
+            if (!axisDescription.isDefined()) {
+                dataset.lock().readLockGuard(() -> dataset.recomputeLimits(dimIndex));
+            }
+            // N.B. cheap reads -> optimistic read w/o touching the reader count, falls back to the read lock
+            final DataSetLock<? extends DataSet> lock = dataset.lock();
+            final long stamp = lock.tryOptimisticRead();
+            double min = axisDescription.getMin();
+            double max = axisDescription.getMax();
+            if (!lock.validate(stamp)) {
+                lock.readLock();
+                try {
+                    min = axisDescription.getMin();
+                    max = axisDescription.getMax();
+                } finally {
+                    lock.readUnLock();
                 }
-                axis.getAutoRange().add(dataset.getAxisDescription(nDim).getMin());
-                axis.getAutoRange().add(dataset.getAxisDescription(nDim).getMax());
             }
-        }));
+            axis.getAutoRange().add(min);
+            axis.getAutoRange().add(max);
+        });
 
         // handling of numeric axis and auto-range or auto-grow setting only
         if (!axis.isAutoRanging() && !axis.isAutoGrowRanging()) {
@@ -75,6 +75,28 @@ public interface Axis extends AxisDescription {
      */
     double getDisplayPosition(double value);
 
+    /**
+     * Bulk version of {@link #getDisplayPosition(double)} that transforms a range of data values into display positions.
+     * <p>
+     * The default implementation calls {@link #getDisplayPosition(double)} for each value. Implementations provide tight
+     * specialised loops (e.g. for linear or logarithmic scales) that avoid the per-value call overhead and may be
+     * vectorised by the JIT. N.B. the specialised loops of the built-in axes fall back to the per-value transform for
+     * derived classes that override only {@link #getDisplayPosition(double)}.
+     *
+     * @param values the data values
+     * @param from first index (inclusive)
+     * @param to last index (exclusive)
+     * @param displayPositions storage for the display positions (N.B. indexed like 'values', may be 'values' itself)
+     * @return the 'displayPositions' storage (fluent design)
+     */
+    default double[] getDisplayPositions(final double[] values, final int from, final int to,
+            final double[] displayPositions) {
+        for (int i = from; i < to; i++) {
+            displayPositions[i] = getDisplayPosition(values[i]);
+        }
+        return displayPositions;
+    }
+
     double getHeight();
 
     /**
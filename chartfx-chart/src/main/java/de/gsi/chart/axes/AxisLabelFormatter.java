@@ -21,6 +21,16 @@ public interface AxisLabelFormatter {
      */
     Number fromString(String string);
 
+    /**
+     * Returns an object identifying the current label format (e.g. pattern and precision). Labels of identical values
+     * formatted with equal format keys are identical and may thus be cached by the axis.
+     *
+     * @return the format key or {@code null} if the labels must not be cached (default)
+     */
+    default Object getFormatKey() {
+        return null;
+    }
+
     /**
      * Returns the value of the {@link #tickUnitSupplierProperty()}.
      *
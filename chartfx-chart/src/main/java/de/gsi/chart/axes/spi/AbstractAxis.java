@@ -6,8 +6,8 @@ import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 
-import javafx.animation.FadeTransition;
 import javafx.animation.KeyFrame;
+import javafx.animation.KeyValue;
 import javafx.animation.Timeline;
 import javafx.application.Platform;
 import javafx.beans.property.ObjectProperty;
@@ -46,6 +46,17 @@ public abstract class AbstractAxis extends AbstractAxisParameter implements Axis
     protected static final double MAX_NARROW_FONT_SCALE = 1.0;
     protected static final int RANGE_ANIMATION_DURATION_MS = 700;
     protected static final int BURST_LIMIT_CSS_MS = 3000;
+    // class declaring the effective 'getDisplayPosition(double)' implementation of a given axis class
+    private static final ClassValue<Class<?>> DISPLAY_POSITION_DECLARATION = new ClassValue<>() {
+        @Override
+        protected Class<?> computeValue(final Class<?> type) {
+            try {
+                return type.getMethod("getDisplayPosition", double.class).getDeclaringClass();
+            } catch (final NoSuchMethodException e) {
+                return Axis.class;
+            }
+        }
+    };
     private long lastCssUpdate;
     private boolean callCssUpdater;
     private final transient Canvas canvas = new ResizableCanvas();
@@ -100,6 +111,9 @@ public abstract class AbstractAxis extends AbstractAxisParameter implements Axis
     // cache for minor tick marks (N.B. usually w/o string label)
     protected final transient Map<Double, TickMark> tickMarkDoubleCache = new SoftHashMap<>(MAX_TICK_COUNT * DEFAULT_MINOR_TICK_COUNT);
 
+    // cache for formatted tick mark labels
+    protected final transient TickMarkLabelCache tickMarkLabelCache = new TickMarkLabelCache();
+
     public AbstractAxis() {
         super();
         setMouseTransparent(false);
@@ -272,6 +286,15 @@ public abstract class AbstractAxis extends AbstractAxisParameter implements Axis
         return cachedOffset + ((value - getMin()) * getScale());
     }
 
+    @Override
+    public double[] getDisplayPositions(final double[] values, final int from, final int to,
+            final double[] displayPositions) {
+        if (isLinearTransform()) {
+            return transformLinear(values, from, to, displayPositions, getMin(), cachedOffset, getScale());
+        }
+        return getDisplayPositionsPerElement(values, from, to, displayPositions);
+    }
+
     public GraphicsContext getGraphicsContext() {
         return canvas.getGraphicsContext2D();
     }
@@ -313,7 +336,19 @@ public abstract class AbstractAxis extends AbstractAxisParameter implements Axis
             return formatter.toString(scaledValue);
         }
         // use AxisLabelFormatter based implementation
-        return getAxisLabelFormatter().toString(scaledValue);
+        final AxisLabelFormatter labelFormatter = getAxisLabelFormatter();
+        final Object formatKey = labelFormatter.getFormatKey();
+        if (formatKey == null) {
+            // formatter does not support caching
+            return labelFormatter.toString(scaledValue);
+        }
+        final String cachedLabel = tickMarkLabelCache.get(scaledValue, labelFormatter.getClass(), formatKey);
+        if (cachedLabel != null) {
+            return cachedLabel;
+        }
+        final String label = labelFormatter.toString(scaledValue);
+        tickMarkLabelCache.put(scaledValue, labelFormatter.getClass(), formatKey, label);
+        return label;
     }
 
     /**
@@ -336,6 +371,7 @@ public abstract class AbstractAxis extends AbstractAxisParameter implements Axis
         getMinorTickMarks().clear();
         tickMarkStringCache.clear();
         tickMarkDoubleCache.clear();
+        tickMarkLabelCache.clear();
     }
 
     /**
@@ -633,14 +669,12 @@ public abstract class AbstractAxis extends AbstractAxisParameter implements Axis
             if (majorTickMark && shouldAnimate()) {
                 tick.setOpacity(0);
 
-                final FadeTransition ft = new FadeTransition(Duration.millis(750), tick);
+                final Timeline fadeIn = new Timeline(new KeyFrame(Duration.millis(750), new KeyValue(tick.opacityProperty(), 1.0)));
                 tick.opacityProperty().addListener((ch, o, n) -> {
                     clearAxisCanvas(canvas.getGraphicsContext2D(), width, height);
                     drawAxis(canvas.getGraphicsContext2D(), width, height);
                 });
-                ft.setFromValue(0);
-                ft.setToValue(1);
-                ft.play();
+                fadeIn.play();
             }
         });
 
@@ -1265,9 +1299,12 @@ public abstract class AbstractAxis extends AbstractAxisParameter implements Axis
     }
 
     protected double measureTickMarkLength(final Double major) {
-        // N.B. this is a known performance hot-spot -> start optimisation here
-        final TickMark tick = getNewTickMark(major, 0.0 /* NA */, getTickMarkLabel(major));
-        return getSide().isHorizontal() ? tick.getWidth() : tick.getHeight();
+        // N.B. this is a known performance hot-spot -> uses cached labels and label bounds rather than tick marks
+        final String label = getTickMarkLabel(major);
+        if (getSide().isHorizontal()) {
+            return TickMarkLabelCache.getLabelWidth(label, getTickLabelFont(), getTickLabelRotation());
+        }
+        return TickMarkLabelCache.getLabelHeight(label, getTickLabelFont(), getTickLabelRotation());
     }
 
     protected void recomputeTickMarks(final AxisRange range) { // NOPMD -- complexity is unavoidable
@@ -1360,6 +1397,69 @@ public abstract class AbstractAxis extends AbstractAxisParameter implements Axis
         return side.isVertical() && !isInverted ? Math.abs(m1Start - m2End) <= gap : Math.abs(m2Start - m1End) <= gap;
     }
 
+    /**
+     * Generic fall-back of {@link #getDisplayPositions(double[], int, int, double[])} that calls
+     * {@link #getDisplayPosition(double)} for each value.
+     *
+     * @param values the data values
+     * @param from first index (inclusive)
+     * @param to last index (exclusive)
+     * @param displayPositions storage for the display positions (may be 'values' itself)
+     * @return the 'displayPositions' storage (fluent design)
+     */
+    protected double[] getDisplayPositionsPerElement(final double[] values, final int from, final int to,
+            final double[] displayPositions) {
+        for (int i = from; i < to; i++) {
+            displayPositions[i] = getDisplayPosition(values[i]);
+        }
+        return displayPositions;
+    }
+
+    /**
+     * @param type the axis class providing a specialised bulk transform kernel
+     * @return {@code true} if {@link #getDisplayPosition(double)} is implemented by 'type', ie. not overridden by a derived
+     *         class, so that the kernel of 'type' yields the same result as the scalar transform
+     */
+    protected final boolean isDisplayPositionDeclaredBy(final Class<? extends AbstractAxis> type) {
+        return DISPLAY_POSITION_DECLARATION.get(getClass()) == type;
+    }
+
+    /**
+     * Indicates whether the bulk {@link #getDisplayPositions(double[], int, int, double[])} may use the linear kernel
+     * (see {@link #transformLinear(double[], int, int, double[], double, double, double)}) rather than calling
+     * {@link #getDisplayPosition(double)} for each value.
+     * <p>
+     * N.B. default is {@code false} so that derived axes overriding only {@link #getDisplayPosition(double)} remain
+     * consistent. The built-in linear axes return {@code true} unless their scalar transform has been overridden.
+     *
+     * @return {@code true} if the scalar display position is the linear transform of this axis' cached scale and offset
+     */
+    protected boolean isLinearTransform() {
+        return false;
+    }
+
+    /**
+     * Linear transform kernel {@code displayPositions[i] = offset + (values[i] - min) * scale} used by the bulk
+     * {@link #getDisplayPositions(double[], int, int, double[])} implementations (N.B. kept free of calls and branches so
+     * that the loop may be vectorised by the JIT).
+     *
+     * @param values the data values
+     * @param from first index (inclusive)
+     * @param to last index (exclusive)
+     * @param displayPositions storage for the display positions (may be 'values' itself)
+     * @param min data value corresponding to the 'offset'
+     * @param offset display position corresponding to 'min'
+     * @param scale display units per data unit
+     * @return the 'displayPositions' storage (fluent design)
+     */
+    protected static double[] transformLinear(final double[] values, final int from, final int to,
+            final double[] displayPositions, final double min, final double offset, final double scale) {
+        for (int i = from; i < to; i++) {
+            displayPositions[i] = offset + (values[i] - min) * scale;
+        }
+        return displayPositions;
+    }
+
     protected static void drawAxisLabel(final GraphicsContext gc, final double x, final double y, final Text label) {
         gc.save();
         gc.setTextAlign(label.getTextAlignment());
@@ -1383,8 +1483,8 @@ public abstract class AbstractAxis extends AbstractAxisParameter implements Axis
         gc.setTextBaseline(tickMark.getTextOrigin());
 
         gc.translate(x, y);
-        if (tickMark.getRotate() != 0.0) {
-            gc.rotate(tickMark.getRotate());
+        if (tickMark.getRotation() != 0.0) {
+            gc.rotate(tickMark.getRotation());
         }
         gc.setGlobalAlpha(tickMark.getOpacity());
         if (scaleFont != 1.0) {
@@ -1,9 +1,8 @@
 package de.gsi.chart.axes.spi;
 
-import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import javafx.beans.property.*;
@@ -51,7 +50,7 @@ public abstract class AbstractAxisParameter extends Pane implements Axis {
     protected static final int DEFAULT_MINOR_TICK_COUNT = 10;
 
     private final transient AtomicBoolean autoNotification = new AtomicBoolean(true);
-    private final transient List<EventListener> updateListeners = Collections.synchronizedList(new LinkedList<>());
+    private final transient List<EventListener> updateListeners = new CopyOnWriteArrayList<>();
 
     private final transient StyleableIntegerProperty dimIndex = CSS.createIntegerProperty(this, "dimIndex", -1, this::requestAxisLayout);
     /**
@@ -212,6 +212,50 @@ public class DefaultNumericAxis extends AbstractAxis implements Axis {
         return getDisplayPositionImpl(value);
     }
 
+    @Override
+    public double[] getDisplayPositions(final double[] values, final int from, final int to,
+            final double[] displayPositions) {
+        if (!isDisplayPositionDeclaredBy(DefaultNumericAxis.class)) {
+            // derived axis with custom scalar transform
+            return getDisplayPositionsPerElement(values, from, to, displayPositions);
+        }
+        if (isLogAxis) {
+            final AxisTransform transform = axisTransform;
+            final double lowerBoundLog = cache.lowerBoundLog;
+            final double scale = cache.logScaleLengthInv;
+            final boolean isVertical = cache.isVerticalAxis;
+            final double height = cache.axisHeight;
+            final boolean isInverted = isInvertedAxis;
+            final double inversionOffset = offset;
+            for (int i = from; i < to; i++) {
+                final double valueLogOffset = transform.forward(values[i]) - lowerBoundLog;
+                final double position = isVertical ? height - valueLogOffset * scale : valueLogOffset * scale;
+                displayPositions[i] = isInverted ? inversionOffset - position : position;
+            }
+            return displayPositions;
+        }
+
+        // default case: linear (and time) axis
+        final double linearOffset = cache.localOffset2;
+        final double scale = cache.localScale;
+        if (isInvertedAxis) {
+            final double inversionOffset = offset;
+            for (int i = from; i < to; i++) {
+                displayPositions[i] = inversionOffset - (linearOffset + values[i] * scale);
+            }
+            return displayPositions;
+        }
+        for (int i = from; i < to; i++) {
+            displayPositions[i] = linearOffset + values[i] * scale;
+        }
+        return displayPositions;
+    }
+
+    @Override
+    protected boolean isLinearTransform() {
+        return !isLogAxis && isDisplayPositionDeclaredBy(DefaultNumericAxis.class);
+    }
+
     /**
      * Returns the value of the {@link #logarithmBaseProperty()}.
      *
@@ -202,6 +202,20 @@ public class LinearAxis extends AbstractAxis {
         return cache.localOffset + (value - cache.localCurrentLowerBound) * cache.localScale;
     }
 
+    @Override
+    public double[] getDisplayPositions(final double[] values, final int from, final int to,
+            final double[] displayPositions) {
+        if (!isLinearTransform()) {
+            return getDisplayPositionsPerElement(values, from, to, displayPositions);
+        }
+        return transformLinear(values, from, to, displayPositions, cache.localCurrentLowerBound, cache.localOffset, cache.localScale);
+    }
+
+    @Override
+    protected boolean isLinearTransform() {
+        return isDisplayPositionDeclaredBy(LinearAxis.class);
+    }
+
     /**
      * @return the log axis Type @see LogAxisType
      */
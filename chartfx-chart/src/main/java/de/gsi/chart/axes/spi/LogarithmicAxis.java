@@ -145,6 +145,27 @@ public class LogarithmicAxis extends AbstractAxis {
         return valueLogOffset * cache.logScaleLengthInv;
     }
 
+    @Override
+    public double[] getDisplayPositions(final double[] values, final int from, final int to,
+            final double[] displayPositions) {
+        if (!isDisplayPositionDeclaredBy(LogarithmicAxis.class)) {
+            // derived axis with custom scalar transform
+            return getDisplayPositionsPerElement(values, from, to, displayPositions);
+        }
+        // N.B. log(value) = log10(value) / logBase, NaN for non-positive values
+        final double logBase = cache.logBase;
+        final double lowerBoundLog = cache.lowerBoundLog;
+        final double scale = cache.logScaleLengthInv;
+        final boolean isVertical = cache.isVerticalAxis;
+        final double height = cache.axisHeight;
+        for (int i = from; i < to; i++) {
+            final double value = values[i];
+            final double valueLogOffset = (value > 0 ? Math.log10(value) / logBase : Double.NaN) - lowerBoundLog;
+            displayPositions[i] = isVertical ? height - valueLogOffset * scale : valueLogOffset * scale;
+        }
+        return displayPositions;
+    }
+
     /**
      * Returns the value of the {@link #logarithmBaseProperty()}.
      *
@@ -241,6 +241,20 @@ public final class NumericAxis extends AbstractAxis {
         return localOffset + (value - localCurrentLowerBound) * localScale;
     }
 
+    @Override
+    public double[] getDisplayPositions(final double[] values, final int from, final int to,
+            final double[] displayPositions) {
+        if (!isLinearTransform()) {
+            return getDisplayPositionsPerElement(values, from, to, displayPositions);
+        }
+        return transformLinear(values, from, to, displayPositions, localCurrentLowerBound, localOffset, localScale);
+    }
+
+    @Override
+    protected boolean isLinearTransform() {
+        return true; // N.B. final class;
+    }
+
     @Override
     public LogAxisType getLogAxisType() {
         return LogAxisType.LINEAR_SCALE;
@@ -404,6 +404,20 @@ public class OscilloscopeAxis extends AbstractAxis implements Axis {
         return cache.localOffset + (value - cache.localCurrentLowerBound) * cache.localScale;
     }
 
+    @Override
+    public double[] getDisplayPositions(final double[] values, final int from, final int to,
+            final double[] displayPositions) {
+        if (!isLinearTransform()) {
+            return getDisplayPositionsPerElement(values, from, to, displayPositions);
+        }
+        return transformLinear(values, from, to, displayPositions, cache.localCurrentLowerBound, cache.localOffset, cache.localScale);
+    }
+
+    @Override
+    protected boolean isLinearTransform() {
+        return isDisplayPositionDeclaredBy(OscilloscopeAxis.class);
+    }
+
     protected class Cache {
         protected double localScale;
         protected double localCurrentLowerBound;
@@ -1,21 +1,39 @@
 package de.gsi.chart.axes.spi;
 
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.SimpleDoubleProperty;
 import javafx.geometry.VPos;
-import javafx.scene.text.Text;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+import javafx.scene.text.Font;
 import javafx.scene.text.TextAlignment;
 
 import de.gsi.chart.ui.geometry.Side;
 
 /**
  * TickMark represents the label text, its associated tick mark value and position along the axis for each tick.
+ * <p>
+ * N.B. tick marks are drawn directly onto the axis canvas. Thus, this is a lightweight (non scene-graph node)
+ * representation whose label bounds are looked-up from the shared {@link TickMarkLabelCache} rather than being
+ * (re-)measured by the scene-graph.
  *
  * @author rstein
  */
-public class TickMark extends Text {
+public class TickMark {
     private final Side side; // tick mark side (LEFT, TOP; RIGHT; BOTTOM)
     private double tickValue; // tick mark in data units
     private double tickPosition; // tick position along axis in display units
     private double tickRotation; // tick mark rotation (here: centre axis)
+    private String text;
+    private Font font = Font.getDefault();
+    private Paint fill = Color.BLACK;
+    private boolean visible = true;
+    private double opacity = 1.0;
+    private DoubleProperty opacityProperty; // lazily initialised, needed only for animations
+    private TextAlignment textAlignment = TextAlignment.LEFT;
+    private VPos textOrigin = VPos.BASELINE;
+    private double width = Double.NaN; // cached label bounds including rotation
+    private double height = Double.NaN; // cached label bounds including rotation
 
     /**
      * Creates and initialises an instance of TickMark.
@@ -28,18 +46,12 @@ public class TickMark extends Text {
      */
     public TickMark(final Side side, final double tickValue, final double tickPosition, final double tickRotation,
             final String tickMarkLabel) {
-        super();
         this.side = side;
         this.tickValue = tickValue;
         this.tickPosition = tickPosition;
         this.tickRotation = tickRotation;
-        setText(tickMarkLabel);
-        setRotate(tickRotation);
+        this.text = tickMarkLabel == null ? "" : tickMarkLabel;
         recomputeAlignment(); // NOPMD may be overwritten in user-code
-
-        fontProperty().addListener((ch, o, n) -> applyCss());
-        fillProperty().addListener((ch, o, n) -> applyCss());
-        visibleProperty().addListener((ch, o, n) -> applyCss());
     }
 
     @Override
@@ -57,13 +69,35 @@ public class TickMark extends Text {
                 && (tickValue == other.tickValue);
     }
 
+    /**
+     * @return the tick label fill
+     */
+    public Paint getFill() {
+        return fill;
+    }
+
+    /**
+     * @return the tick label font
+     */
+    public Font getFont() {
+        return font;
+    }
+
     /**
      * @return the height of the tick mark including rotation etc.
      */
     public double getHeight() {
-        // N.B. important: usage of getBoundsInParent() which also takes into
-        // account text rotations
-        return getBoundsInParent().getHeight();
+        if (Double.isNaN(height)) {
+            height = TickMarkLabelCache.getLabelHeight(text, font, tickRotation);
+        }
+        return height;
+    }
+
+    /**
+     * @return the tick label opacity
+     */
+    public double getOpacity() {
+        return opacityProperty == null ? opacity : opacityProperty.get();
     }
 
     /**
@@ -88,6 +122,27 @@ public class TickMark extends Text {
         return side;
     }
 
+    /**
+     * @return the tick label text
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * @return horizontal alignment of the label w.r.t. the tick position
+     */
+    public TextAlignment getTextAlignment() {
+        return textAlignment;
+    }
+
+    /**
+     * @return vertical alignment of the label w.r.t. the tick position
+     */
+    public VPos getTextOrigin() {
+        return textOrigin;
+    }
+
     /**
      * @return tick mark value in data units
      */
@@ -99,9 +154,10 @@ public class TickMark extends Text {
      * @return the width of the tick mark including rotation etc.
      */
     public double getWidth() {
-        // N.B. important: usage of getBoundsInParent() which also takes into
-        // account text rotations
-        return getBoundsInParent().getWidth();
+        if (Double.isNaN(width)) {
+            width = TickMarkLabelCache.getLabelWidth(text, font, tickRotation);
+        }
+        return width;
     }
 
     @Override
@@ -121,6 +177,23 @@ public class TickMark extends Text {
         return result;
     }
 
+    /**
+     * @return whether the tick label is visible
+     */
+    public boolean isVisible() {
+        return visible;
+    }
+
+    /**
+     * @return the tick label opacity property (e.g. for fade-in animations)
+     */
+    public DoubleProperty opacityProperty() {
+        if (opacityProperty == null) {
+            opacityProperty = new SimpleDoubleProperty(this, "opacity", opacity);
+        }
+        return opacityProperty;
+    }
+
     public void recomputeAlignment() {
         // normalise rotation to [-360, +360]
         final int rotation = ((int) getRotation() % 360);
@@ -175,6 +248,35 @@ public class TickMark extends Text {
         }
     }
 
+    /**
+     * @param value the tick label fill
+     */
+    public void setFill(final Paint value) {
+        fill = value;
+    }
+
+    /**
+     * @param value the tick label font
+     */
+    public void setFont(final Font value) {
+        if (value == null || value.equals(font)) {
+            return;
+        }
+        font = value;
+        invalidateBounds();
+    }
+
+    /**
+     * @param value the tick label opacity
+     */
+    public void setOpacity(final double value) {
+        if (opacityProperty == null) {
+            opacity = value;
+            return;
+        }
+        opacityProperty.set(value);
+    }
+
     /**
      * @param value tick position along the axis in display units
      */
@@ -187,8 +289,30 @@ public class TickMark extends Text {
      */
     public void setRotation(final double value) {
         tickRotation = value;
-        setRotate(tickRotation);
         recomputeAlignment();
+        invalidateBounds();
+    }
+
+    /**
+     * @param value the tick label text
+     */
+    public void setText(final String value) {
+        text = value == null ? "" : value;
+        invalidateBounds();
+    }
+
+    /**
+     * @param value horizontal alignment of the label w.r.t. the tick position
+     */
+    public void setTextAlignment(final TextAlignment value) {
+        textAlignment = value;
+    }
+
+    /**
+     * @param value vertical alignment of the label w.r.t. the tick position
+     */
+    public void setTextOrigin(final VPos value) {
+        textOrigin = value;
     }
 
     /**
@@ -197,4 +321,16 @@ public class TickMark extends Text {
     public void setValue(final Double newValue) {
         tickValue = newValue;
     }
+
+    /**
+     * @param value whether the tick label is visible
+     */
+    public void setVisible(final boolean value) {
+        visible = value;
+    }
+
+    private void invalidateBounds() {
+        width = Double.NaN;
+        height = Double.NaN;
+    }
 }
@@ -0,0 +1,206 @@
+package de.gsi.chart.axes.spi;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import javafx.geometry.Bounds;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+import de.gsi.dataset.utils.AssertUtils;
+
+/**
+ * Bounded least-recently-used caches for tick mark labels.
+ * <p>
+ * Each axis keeps an instance caching its formatted labels keyed by (value, formatter class, format key) (see
+ * {@link de.gsi.chart.axes.AxisLabelFormatter#getFormatKey()}). The formatter class is part of the key since format
+ * keys are only meaningful w.r.t. the formatter that defines them. A single cache of pre-measured label bounds keyed by
+ * (text, font, rotation) is shared by all axes. Look-ups do not allocate, so that re-labelling an axis whose range
+ * changed only slightly (e.g. while panning) neither re-formats nor re-measures labels that have been seen before.
+ * <p>
+ * N.B. the per-axis label cache is not thread-safe and meant to be accessed from the axis' layout (FX) thread only.
+ *
+ * @author rstein
+ */
+public class TickMarkLabelCache {
+    public static final int DEFAULT_CAPACITY = 256;
+    private static final int BOUNDS_CAPACITY = 4096;
+    private static final Text MEASURE_TEXT = new Text();
+    private static final LruMap<BoundsKey, BoundsKey> BOUNDS_CACHE = new LruMap<>(BOUNDS_CAPACITY);
+    private static final BoundsKey BOUNDS_PROBE = new BoundsKey();
+    private final LruMap<LabelKey, String> labels;
+    private final LabelKey labelProbe = new LabelKey();
+
+    /**
+     * Creates a label cache with {@link #DEFAULT_CAPACITY}
+     */
+    public TickMarkLabelCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity maximum number of cached labels
+     */
+    public TickMarkLabelCache(final int capacity) {
+        AssertUtils.gtThanZero("capacity", capacity);
+        labels = new LruMap<>(capacity);
+    }
+
+    /**
+     * removes all cached labels
+     */
+    public void clear() {
+        labels.clear();
+    }
+
+    /**
+     * @param value the (scaled) tick value
+     * @param formatterClass the class of the formatter that produced the label
+     * @param formatKey the format key of the formatter that produced the label
+     * @return the cached label or {@code null} if none has been cached
+     */
+    public String get(final double value, final Class<?> formatterClass, final Object formatKey) {
+        return labels.get(labelProbe.set(value, formatterClass, formatKey));
+    }
+
+    /**
+     * @param value the (scaled) tick value
+     * @param formatterClass the class of the formatter that produced the label
+     * @param formatKey the format key of the formatter that produced the label
+     * @param label the formatted label
+     */
+    public void put(final double value, final Class<?> formatterClass, final Object formatKey, final String label) {
+        AssertUtils.notNull("formatterClass", formatterClass);
+        AssertUtils.notNull("formatKey", formatKey);
+        labels.put(new LabelKey().set(value, formatterClass, formatKey), label);
+    }
+
+    /**
+     * @return number of cached labels
+     */
+    public int size() {
+        return labels.size();
+    }
+
+    /**
+     * @param text the label text
+     * @param font the label font
+     * @param rotation the label rotation in degree (around the label centre)
+     * @return the height of the label's bounding box including rotation
+     */
+    public static double getLabelHeight(final String text, final Font font, final double rotation) {
+        synchronized (BOUNDS_CACHE) {
+            return getBounds(text, font, rotation).height;
+        }
+    }
+
+    /**
+     * @param text the label text
+     * @param font the label font
+     * @param rotation the label rotation in degree (around the label centre)
+     * @return the width of the label's bounding box including rotation
+     */
+    public static double getLabelWidth(final String text, final Font font, final double rotation) {
+        synchronized (BOUNDS_CACHE) {
+            return getBounds(text, font, rotation).width;
+        }
+    }
+
+    private static BoundsKey getBounds(final String text, final Font font, final double rotation) {
+        final BoundsKey cached = BOUNDS_CACHE.get(BOUNDS_PROBE.set(text, font, rotation));
+        if (cached != null) {
+            return cached;
+        }
+        // N.B. measure un-rotated text and compute the bounding box of the label rotated around its centre
+        // (equivalent to the former Text::getBoundsInParent() with Text::setRotate(rotation))
+        MEASURE_TEXT.setFont(font);
+        MEASURE_TEXT.setText(text);
+        final Bounds bounds = MEASURE_TEXT.getLayoutBounds();
+        final double angle = Math.toRadians(rotation);
+        final double cos = Math.abs(Math.cos(angle));
+        final double sin = Math.abs(Math.sin(angle));
+        final BoundsKey entry = new BoundsKey().set(text, font, rotation);
+        entry.width = bounds.getWidth() * cos + bounds.getHeight() * sin;
+        entry.height = bounds.getWidth() * sin + bounds.getHeight() * cos;
+        BOUNDS_CACHE.put(entry, entry);
+        return entry;
+    }
+
+    private static class BoundsKey {
+        private String text;
+        private Font font;
+        private double rotation;
+        private double width;
+        private double height;
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof BoundsKey)) {
+                return false;
+            }
+            final BoundsKey other = (BoundsKey) obj;
+            return rotation == other.rotation && text.equals(other.text) && font.equals(other.font);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * text.hashCode() + font.hashCode()) + Double.hashCode(rotation);
+        }
+
+        private BoundsKey set(final String text, final Font font, final double rotation) {
+            this.text = text == null ? "" : text;
+            this.font = Objects.requireNonNull(font, "font");
+            this.rotation = rotation;
+            return this;
+        }
+    }
+
+    private static class LabelKey {
+        private double value;
+        private Class<?> formatterClass;
+        private Object formatKey;
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof LabelKey)) {
+                return false;
+            }
+            final LabelKey other = (LabelKey) obj;
+            return Double.compare(value, other.value) == 0 && formatterClass == other.formatterClass && Objects.equals(formatKey, other.formatKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * Double.hashCode(value) + Objects.hashCode(formatterClass)) + Objects.hashCode(formatKey);
+        }
+
+        private LabelKey set(final double value, final Class<?> formatterClass, final Object formatKey) {
+            this.value = value;
+            this.formatterClass = formatterClass;
+            this.formatKey = formatKey;
+            return this;
+        }
+    }
+
+    private static class LruMap<K, V> extends LinkedHashMap<K, V> {
+        private static final long serialVersionUID = 2401846384128423470L;
+        private final int capacity;
+
+        private LruMap(final int capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+            return size() > capacity;
+        }
+    }
+}
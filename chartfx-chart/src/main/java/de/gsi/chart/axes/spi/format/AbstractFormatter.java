@@ -23,6 +23,7 @@ public abstract class AbstractFormatter extends StringConverter<Number> implemen
     protected double unitScaling;
     protected double rangeMin;
     protected double rangeMax;
+    protected Object formatKey; // N.B. 'null': labels must not be cached
 
     protected double localSchmidtTriggerThreshold = 0.01;
     protected DoubleProperty schmittTriggerThreshold = new SimpleDoubleProperty(this, "schmittTriggerThreshold",
@@ -51,6 +52,11 @@ public abstract class AbstractFormatter extends StringConverter<Number> implemen
         }
     }
 
+    @Override
+    public Object getFormatKey() {
+        return formatKey;
+    }
+
     protected double getLogRange() {
         final double diff = getRange();
 
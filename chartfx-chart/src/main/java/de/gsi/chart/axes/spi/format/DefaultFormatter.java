@@ -147,6 +147,7 @@ public class DefaultFormatter extends AbstractFormatter {
 
             myFormatter.setPrecision(maxSigDigits);
         }
+        formatKey = isExponentialForm ? Integer.valueOf(myFormatter.getPrecision()) : formatterPattern;
 
         // System.out.println(range+" -> "+rangeIndex+":
         // "+formatter.toPattern());
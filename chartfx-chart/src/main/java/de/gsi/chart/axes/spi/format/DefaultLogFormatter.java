@@ -57,12 +57,14 @@ public class DefaultLogFormatter extends AbstractFormatter {
 
         if (smallScale) {
             formatter.setFormatter(formatterSmall);
+            formatKey = formatterSmall;
             if (!formatter.getFormatter().equals(oldFormatter)) {
                 labelCache.clear();
             }
             return;
         }
         formatter.setFormatter(formatterLarge);
+        formatKey = formatterLarge;
         if (!formatter.getFormatter().equals(oldFormatter)) {
             labelCache.clear();
         }
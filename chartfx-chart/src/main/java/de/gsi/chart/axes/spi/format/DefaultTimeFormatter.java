@@ -3,6 +3,7 @@ package de.gsi.chart.axes.spi.format;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.Locale;
 import java.util.concurrent.TimeUnit;
 
@@ -50,6 +51,14 @@ public class DefaultTimeFormatter extends AbstractFormatter {
                 dateFormat[i] = DateTimeFormatter.ofPattern(format, Locale.ENGLISH);
             }
         }
+        timeZone.addListener((ch, o, n) -> {
+            labelCache.clear();
+            updateFormatKey();
+        });
+    }
+
+    private void updateFormatKey() {
+        formatKey = List.of(formatterIndex, getTimeZoneOffset());
     }
 
     public String formatHighResString(final Number utcValueSeconds) {
@@ -103,6 +112,7 @@ public class DefaultTimeFormatter extends AbstractFormatter {
         if (oldIndex != formatterIndex) {
             labelCache.clear();
             oldIndex = formatterIndex;
+            updateFormatKey();
         }
     }
 
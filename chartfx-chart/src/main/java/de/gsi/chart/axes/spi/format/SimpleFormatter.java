@@ -69,6 +69,7 @@ public class SimpleFormatter extends AbstractFormatter {
     protected void rangeUpdated() {
         // normally set formatter based on range, this doesn't because it's the
         // 'simple' implementation
+        formatKey = formatter;
     }
 
     // private String toString(final Number object, final String numFormatter) {
@@ -4,9 +4,8 @@
 
 package de.gsi.chart.plugins;
 
-import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import javafx.beans.property.DoubleProperty;
@@ -39,7 +38,7 @@ public abstract class AbstractSingleValueIndicator extends AbstractValueIndicato
     protected static final String STYLE_CLASS_MARKER = "value-indicator-marker";
     protected static double triangleHalfWidth = 5.0;
     private final transient AtomicBoolean autoNotification = new AtomicBoolean(true);
-    private final transient List<EventListener> updateListeners = Collections.synchronizedList(new LinkedList<>());
+    private final transient List<EventListener> updateListeners = new CopyOnWriteArrayList<>();
     private boolean autoRemove = false;
 
     /**
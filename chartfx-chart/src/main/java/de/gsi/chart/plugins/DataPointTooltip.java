@@ -5,8 +5,6 @@ package de.gsi.chart.plugins;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.IntStream;
-import java.util.stream.Stream;
 
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.SimpleDoubleProperty;
@@ -21,6 +19,7 @@ import de.gsi.chart.XYChart;
 import de.gsi.chart.axes.Axis;
 import de.gsi.chart.renderer.Renderer;
 import de.gsi.chart.renderer.spi.ErrorDataSetRenderer;
+import de.gsi.chart.renderer.spi.utils.ScreenSpaceGridIndex;
 import de.gsi.dataset.DataSet;
 import de.gsi.dataset.GridDataSet;
 import de.gsi.dataset.spi.utils.Tuple;
@@ -103,42 +102,97 @@ public class DataPointTooltip extends AbstractDataFormattingPlugin {
             return Optional.empty();
         }
         final XYChart xyChart = (XYChart) chart;
-        return xyChart.getRenderers().stream() // for all renderers
-                .flatMap(r -> Stream.of(r.getDatasets(), xyChart.getDatasets()).flatMap(List::stream) // combine global and renderer specific Datasets
-                                      .flatMap(d -> getPointsCloseToCursor(d, r, mouseLocation))) // get points in range of cursor
-                .reduce((p1, p2) -> p1.distanceFromMouse < p2.distanceFromMouse ? p1 : p2); // find closest point
+        DataPoint nearest = null;
+        for (final Renderer renderer : xyChart.getRenderers()) {
+            // Get Axes for the Renderer
+            final Axis xAxis = renderer.getAxes().stream().filter(ax -> ax.getSide().isHorizontal()).findFirst().orElse(null);
+            final Axis yAxis = renderer.getAxes().stream().filter(ax -> ax.getSide().isVertical()).findFirst().orElse(null);
+            if (xAxis == null || yAxis == null) {
+                continue; // ignore this renderer because there are no valid axes available
+            }
+            // combine global and renderer specific Datasets
+            for (final List<DataSet> dataSets : List.of(renderer.getDatasets(), xyChart.getDatasets())) {
+                for (final DataSet dataSet : dataSets) {
+                    // N.B. optimistic read: the lookup is repeated under the read lock only if the data set has been modified
+                    final DataPoint point = dataSet.lock().readLockGuardOptimistic(() -> getPointCloseToCursor(dataSet, renderer, xAxis, yAxis, mouseLocation));
+                    if (point != null && (nearest == null || point.distanceFromMouse < nearest.distanceFromMouse)) {
+                        nearest = point; // find closest point
+                    }
+                }
+            }
+        }
+        return Optional.ofNullable(nearest);
     }
 
-    private Stream<DataPoint> getPointsCloseToCursor(final DataSet d, final Renderer r, final Point2D mouseLocation) {
-        // Get Axes for the Renderer
-        final Axis xAxis = r.getAxes().stream().filter(ax -> ax.getSide().isHorizontal()).findFirst().orElse(null);
-        final Axis yAxis = r.getAxes().stream().filter(ax -> ax.getSide().isVertical()).findFirst().orElse(null);
-        if (xAxis == null || yAxis == null) {
-            return Stream.empty(); // ignore this renderer because there are no valid axes available
-        }
+    private DataPoint getPointCloseToCursor(final DataSet d, final Renderer r, final Axis xAxis, final Axis yAxis, final Point2D mouseLocation) {
         if (d instanceof GridDataSet) {
-            return Stream.empty(); // TODO: correct impl for grid data sets
+            return getGridPointCloseToCursor((GridDataSet) d, r, xAxis, yAxis, mouseLocation);
         }
+        if (r instanceof ErrorDataSetRenderer) {
+            // N.B. re-use the screen coordinates of the last redraw
+            final ScreenSpaceGridIndex index = ((ErrorDataSetRenderer) r).getScreenSpaceIndex(d);
+            if (index != null) {
+                final int nearest = index.findNearest(mouseLocation.getX(), mouseLocation.getY(), getPickingDistance());
+                return nearest < 0 || nearest >= d.getDataCount() ? null : getDataPointFromDataSet(r, d, nearest, index.getLastDistance());
+            }
+        }
+
         // get the screen x coordinates and dataset indices between which points can be in picking distance
         final double xMin = xAxis.getValueForDisplay(mouseLocation.getX() - getPickingDistance());
         final double xMax = xAxis.getValueForDisplay(mouseLocation.getX() + getPickingDistance());
         final boolean sorted = r instanceof ErrorDataSetRenderer && ((ErrorDataSetRenderer) r).isAssumeSortedData();
         final int minIdx = sorted ? Math.max(0, d.getIndex(DataSet.DIM_X, xMin) - 1) : 0;
         final int maxIdx = sorted ? Math.min(d.getDataCount(), d.getIndex(DataSet.DIM_X, xMax) + 1) : d.getDataCount();
-        return IntStream.range(minIdx, maxIdx) // loop over all candidate points
-                .mapToObj(i -> getDataPointFromDataSet(r, d, i, xAxis, yAxis, mouseLocation)) // get points with distance to mouse
-                .filter(p -> p.distanceFromMouse <= getPickingDistance()); // filter out points which are too far away
+        int nearest = -1;
+        double minDistance = getPickingDistance();
+        for (int i = minIdx; i < maxIdx; i++) { // loop over all candidate points
+            final double dx = xAxis.getDisplayPosition(d.get(DataSet.DIM_X, i)) - mouseLocation.getX();
+            final double dy = yAxis.getDisplayPosition(d.get(DataSet.DIM_Y, i)) - mouseLocation.getY();
+            final double distance = Math.sqrt(dx * dx + dy * dy);
+            if (distance < minDistance || (nearest < 0 && distance <= minDistance)) {
+                minDistance = distance;
+                nearest = i;
+            }
+        }
+        return nearest < 0 ? null : getDataPointFromDataSet(r, d, nearest, minDistance);
     }
 
-    private DataPoint getDataPointFromDataSet(final Renderer renderer, final DataSet d, final int i, final Axis xAxis, final Axis yAxis, final Point2D mouseLocation) {
+    private DataPoint getDataPointFromDataSet(final Renderer renderer, final DataSet d, final int i, final double distanceFromMouse) {
         final DataPoint point = new DataPoint(renderer, d.get(DataSet.DIM_X, i), d.get(DataSet.DIM_Y, i), getDataLabelSafe(d, i));
-        final double x = xAxis.getDisplayPosition(point.x);
-        final double y = yAxis.getDisplayPosition(point.y);
-        final Point2D displayPoint = new Point2D(x, y);
-        point.distanceFromMouse = displayPoint.distance(mouseLocation);
+        point.distanceFromMouse = distanceFromMouse;
         return point;
     }
 
+    private DataPoint getGridPointCloseToCursor(final GridDataSet d, final Renderer r, final Axis xAxis, final Axis yAxis, final Point2D mouseLocation) {
+        if (d.getNGrid() < 2 || d.getShape(DataSet.DIM_X) == 0 || d.getShape(DataSet.DIM_Y) == 0) {
+            return null;
+        }
+        // nearest grid node via binary search on the grid axes
+        final int xIndex = d.getGridIndex(DataSet.DIM_X, xAxis.getValueForDisplay(mouseLocation.getX()));
+        final int yIndex = d.getGridIndex(DataSet.DIM_Y, yAxis.getValueForDisplay(mouseLocation.getY()));
+        final double x = d.getGrid(DataSet.DIM_X, xIndex);
+        final double y = d.getGrid(DataSet.DIM_Y, yIndex);
+        final double dx = xAxis.getDisplayPosition(x) - mouseLocation.getX();
+        final double dy = yAxis.getDisplayPosition(y) - mouseLocation.getY();
+        // the cursor needs to be within the node's grid cell or the picking distance
+        if (Math.abs(dx) > Math.max(getPickingDistance(), getHalfCellWidth(d, DataSet.DIM_X, xIndex, xAxis))
+                || Math.abs(dy) > Math.max(getPickingDistance(), getHalfCellWidth(d, DataSet.DIM_Y, yIndex, yAxis))) {
+            return null;
+        }
+        final String gridLabel = String.format("%s [%d, %d] = %s", d.getName(), xIndex, yIndex, d.get(DataSet.DIM_Z, xIndex, yIndex));
+        final DataPoint point = new DataPoint(r, x, y, gridLabel);
+        point.distanceFromMouse = Math.sqrt(dx * dx + dy * dy);
+        return point;
+    }
+
+    private static double getHalfCellWidth(final GridDataSet d, final int dimIndex, final int index, final Axis axis) {
+        final int neighbour = index + 1 < d.getShape(dimIndex) ? index + 1 : index - 1;
+        if (neighbour < 0) {
+            return 0.0;
+        }
+        return 0.5 * Math.abs(axis.getDisplayPosition(d.getGrid(dimIndex, neighbour)) - axis.getDisplayPosition(d.getGrid(dimIndex, index)));
+    }
+
     private String formatDataPoint(final DataPoint dataPoint) {
         return formatData(dataPoint.renderer, new Tuple<>(dataPoint.x, dataPoint.y));
     }
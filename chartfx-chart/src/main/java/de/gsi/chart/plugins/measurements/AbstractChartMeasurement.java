@@ -3,10 +3,9 @@ package de.gsi.chart.plugins.measurements;
 import static de.gsi.chart.axes.AxisMode.X;
 
 import java.text.DecimalFormat;
-import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
@@ -80,7 +79,7 @@ public abstract class AbstractChartMeasurement implements EventListener, EventSo
     protected final DecimalFormat formatterSmall = new DecimalFormat(FORMAT_SMALL_SCALE);
     protected final DecimalFormat formatterLarge = new DecimalFormat(FORMAT_LARGE_SCALE);
     private final AtomicBoolean autoNotify = new AtomicBoolean(true);
-    private final List<EventListener> updateListeners = Collections.synchronizedList(new LinkedList<>());
+    private final List<EventListener> updateListeners = new CopyOnWriteArrayList<>();
     private final CheckedValueField valueField = new CheckedValueField();
     private final StringProperty title = new SimpleStringProperty(this, "title", null);
     private final ObjectProperty<DataSet> dataSet = new SimpleObjectProperty<>(this, "dataSet", null);
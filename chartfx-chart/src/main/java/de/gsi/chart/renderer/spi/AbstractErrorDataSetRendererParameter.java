@@ -56,6 +56,7 @@ public abstract class AbstractErrorDataSetRendererParameter<R extends AbstractEr
             AbstractErrorDataSetRendererParameter.DEFAULT_HISTORY_INTENSITY_FADING);
     private final BooleanProperty drawBubbles = new SimpleBooleanProperty(this, "drawBubbles", false);
     private final BooleanProperty allowNaNs = new SimpleBooleanProperty(this, "allowNaNs", false);
+    private final BooleanProperty useDataSetSnapshot = new SimpleBooleanProperty(this, "useDataSetSnapshot", false);
 
     /**
      * 
@@ -71,6 +72,18 @@ public abstract class AbstractErrorDataSetRendererParameter<R extends AbstractEr
         return allowNaNs;
     }
 
+    /**
+     * Data sets supporting copy-on-write snapshots (e.g. {@link de.gsi.dataset.spi.DoubleDataSet}) may be rendered from
+     * a lock-free snapshot so that producers are not blocked while the screen coordinates are computed. N.B. only enable
+     * this if all writers modify the data via the data set API: writers that modify the arrays returned by
+     * {@code getValues(..)} in-place (under the write lock) bypass the copy-on-write and may cause torn frames.
+     *
+     * @return the useDataSetSnapshot property (default: false, i.e. data sets are rendered under their read lock)
+     */
+    public BooleanProperty useDataSetSnapshotProperty() {
+        return useDataSetSnapshot;
+    }
+
     public DoubleProperty barWidthPercentageProperty() {
         return barWidthPercentage;
     }
@@ -215,6 +228,13 @@ public abstract class AbstractErrorDataSetRendererParameter<R extends AbstractEr
         return allowNaNsProperty().get();
     }
 
+    /**
+     * @return true if data sets supporting copy-on-write snapshots are rendered from a snapshot rather than under the read lock
+     */
+    public boolean isUseDataSetSnapshot() {
+        return useDataSetSnapshotProperty().get();
+    }
+
     /**
      * @return true if bars from the data points to the y==0 axis shall be drawn
      */
@@ -287,6 +307,15 @@ public abstract class AbstractErrorDataSetRendererParameter<R extends AbstractEr
         return rendererDataReducer;
     }
 
+    /**
+     * @param state true if copy-on-write snapshots are used rather than the read lock (see {@link #useDataSetSnapshotProperty()})
+     * @return itself (fluent design)
+     */
+    public R setUseDataSetSnapshot(final boolean state) {
+        useDataSetSnapshotProperty().set(state);
+        return getThis();
+    }
+
     /**
      * @param state true if NaN values are permitted
      * @return itself (fluent design)
@@ -475,6 +504,7 @@ public abstract class AbstractErrorDataSetRendererParameter<R extends AbstractEr
         drawBarsProperty().bind(other.drawBarsProperty());
         drawBubblesProperty().bind(other.drawBubblesProperty());
         allowNaNsProperty().bind(other.allowNaNsProperty());
+        useDataSetSnapshotProperty().bind(other.useDataSetSnapshotProperty());
         shiftBarProperty().bind(other.shiftBarProperty());
         shiftBarOffsetProperty().bind(other.shiftBarOffsetProperty());
         dynamicBarWidthProperty().bind(other.dynamicBarWidthProperty());
@@ -512,6 +542,7 @@ public abstract class AbstractErrorDataSetRendererParameter<R extends AbstractEr
         drawBarsProperty().unbind();
         drawBubblesProperty().unbind();
         allowNaNsProperty().unbind();
+        useDataSetSnapshotProperty().unbind();
         shiftBarProperty().unbind();
         shiftBarOffsetProperty().unbind();
         dynamicBarWidthProperty().unbind();
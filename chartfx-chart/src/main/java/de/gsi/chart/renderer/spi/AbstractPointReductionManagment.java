@@ -17,6 +17,8 @@ public abstract class AbstractPointReductionManagment<R extends AbstractPointRed
             5);
     private final BooleanProperty parallelImplementation = new SimpleBooleanProperty(this, "parallelImplementation",
             true);
+    private final BooleanProperty parallelDataSetProcessing = new SimpleBooleanProperty(this,
+            "parallelDataSetProcessing", false);
     private final BooleanProperty pointReduction = new SimpleBooleanProperty(this, "pointReduction", true);
 
     public AbstractPointReductionManagment() {
@@ -69,6 +71,16 @@ public abstract class AbstractPointReductionManagment<R extends AbstractPointRed
         return assumeSortedData.get();
     }
 
+    /**
+     * whether the screen coordinates and data reduction of the individual data sets are computed concurrently (N.B.
+     * only the drawing is performed sequentially in data set order)
+     *
+     * @return true if data sets are processed concurrently
+     */
+    public boolean isParallelDataSetProcessing() {
+        return parallelDataSetProcessing.get();
+    }
+
     /**
      * whether renderer should aim at parallelising sub-functionalities
      *
@@ -93,6 +105,17 @@ public abstract class AbstractPointReductionManagment<R extends AbstractPointRed
         return minRequiredReductionSize;
     }
 
+    /**
+     * Sets whether the screen coordinates and data reduction of the individual data sets are computed concurrently.
+     * This is beneficial for renderers with many data sets (N.B. the per data set point-wise parallelisation is
+     * disabled in this mode).
+     *
+     * @return true if data sets are processed concurrently
+     */
+    public BooleanProperty parallelDataSetProcessingProperty() {
+        return parallelDataSetProcessing;
+    }
+
     /**
      * Sets whether renderer should aim at parallelising sub-functionalities
      *
@@ -133,6 +156,17 @@ public abstract class AbstractPointReductionManagment<R extends AbstractPointRed
         return getThis();
     }
 
+    /**
+     * Sets whether the screen coordinates and data reduction of the individual data sets are computed concurrently.
+     *
+     * @param state true if data sets are processed concurrently
+     * @return itself (fluent design)
+     */
+    public R setParallelDataSetProcessing(final boolean state) {
+        parallelDataSetProcessing.set(state);
+        return getThis();
+    }
+
     /**
      * Sets whether renderer should aim at parallelising sub-functionalities
      *
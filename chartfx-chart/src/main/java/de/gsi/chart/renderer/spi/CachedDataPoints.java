@@ -17,9 +17,8 @@ import de.gsi.chart.utils.StyleParser;
 import de.gsi.dataset.DataSet;
 import de.gsi.dataset.DataSetError;
 import de.gsi.dataset.DataSetError.ErrorType;
-import de.gsi.dataset.utils.ArrayCache;
+import de.gsi.dataset.utils.ArrayPool;
 import de.gsi.dataset.utils.CachedDaemonThreadFactory;
-import de.gsi.dataset.utils.DoubleArrayCache;
 import de.gsi.dataset.utils.ProcessingProfiler;
 import de.gsi.math.ArrayUtils;
 
@@ -31,8 +30,6 @@ import de.gsi.math.ArrayUtils;
  */
 @SuppressWarnings({ "PMD.TooManyMethods", "PMD.TooManyFields" }) // designated purpose of this class
 class CachedDataPoints {
-    private static final String STYLES2 = "styles";
-    private static final String SELECTED2 = "selected";
     private static final double DEG_TO_RAD = Math.PI / 180.0;
 
     protected double[] xValues;
@@ -67,20 +64,28 @@ class CachedDataPoints {
     protected int maxDataCount;
     protected int actualDataCount; // number of data points that remain after data reduction
 
+    /**
+     * constructor for derived persistent caches that manage the array allocation themselves
+     */
+    protected CachedDataPoints() {
+        // arrays are allocated by the derived class
+    }
+
     public CachedDataPoints(final int indexMin, final int indexMax, final int dataLength, final boolean full) {
+        // N.B. pooled arrays are rounded up to the next power of two, all arrays share thus the same length
         maxDataCount = dataLength;
-        xValues = DoubleArrayCache.getInstance().getArrayExact(maxDataCount);
-        yValues = DoubleArrayCache.getInstance().getArrayExact(maxDataCount);
-        styles = ArrayCache.getCachedStringArray(STYLES2, dataLength);
+        xValues = ArrayPool.getDoublePool().getArray(maxDataCount);
+        yValues = ArrayPool.getDoublePool().getArray(maxDataCount);
+        styles = ArrayPool.getStringPool().getArray(dataLength);
         this.indexMin = indexMin;
         this.indexMax = indexMax;
-        errorYNeg = DoubleArrayCache.getInstance().getArrayExact(maxDataCount);
-        errorYPos = DoubleArrayCache.getInstance().getArrayExact(maxDataCount);
+        errorYNeg = ArrayPool.getDoublePool().getArray(maxDataCount);
+        errorYPos = ArrayPool.getDoublePool().getArray(maxDataCount);
         if (full) {
-            errorXNeg = DoubleArrayCache.getInstance().getArrayExact(maxDataCount);
-            errorXPos = DoubleArrayCache.getInstance().getArrayExact(maxDataCount);
+            errorXNeg = ArrayPool.getDoublePool().getArray(maxDataCount);
+            errorXPos = ArrayPool.getDoublePool().getArray(maxDataCount);
         }
-        selected = ArrayCache.getCachedBooleanArray(SELECTED2, dataLength);
+        selected = ArrayPool.getBooleanPool().getArray(dataLength);
         ArrayUtils.fillArray(styles, null);
     }
 
@@ -282,17 +287,21 @@ class CachedDataPoints {
                 final DataSetError ds = (DataSetError) dataSet;
                 for (int index = min; index < max; index++) {
                     final double value = dataSet.get(dimIndex, index);
+                    values[index] = value;
+                    valuesEN[index] = value - ds.getErrorNegative(dimIndex, index);
+                    valuesEP[index] = value + ds.getErrorPositive(dimIndex, index);
+                }
+                // N.B. bulk axis transforms, considerably faster than transforming point-by-point
+                yAxis.getDisplayPositions(values, min, max, values);
+                yAxis.getDisplayPositions(valuesEN, min, max, valuesEN);
+                yAxis.getDisplayPositions(valuesEP, min, max, valuesEP);
 
-                    values[index] = yAxis.getDisplayPosition(value);
-
-                    if (!Double.isNaN(values[index])) {
-                        valuesEN[index] = yAxis.getDisplayPosition(value - ds.getErrorNegative(dimIndex, index));
-                        valuesEP[index] = yAxis.getDisplayPosition(value + ds.getErrorPositive(dimIndex, index));
-                        continue;
+                for (int index = min; index < max; index++) {
+                    if (Double.isNaN(values[index])) {
+                        values[index] = minValue;
+                        valuesEN[index] = minValue;
+                        valuesEP[index] = minValue;
                     }
-                    values[index] = minValue;
-                    valuesEN[index] = minValue;
-                    valuesEP[index] = minValue;
                 }
             });
             return;
@@ -305,8 +314,8 @@ class CachedDataPoints {
             final double[] valuesEP = dimIndex == DIM_X ? errorXPos : errorYPos;
             final double minValue = dimIndex == DIM_X ? xMin : yMin;
 
+            getDisplayPositions(yAxis, dataSet, dimIndex, min, max, values);
             for (int index = min; index < max; index++) {
-                values[index] = yAxis.getDisplayPosition(dataSet.get(dimIndex, index));
                 if (Double.isFinite(values[index])) {
                     valuesEN[index] = values[index];
                     valuesEP[index] = values[index];
@@ -329,17 +338,20 @@ class CachedDataPoints {
                 final DataSetError ds = (DataSetError) dataSet;
                 for (int index = min; index < max; index++) {
                     final double value = dataSet.get(dimIndex, index);
+                    values[index] = value;
+                    valuesEN[index] = value - ds.getErrorNegative(dimIndex, index);
+                    valuesEP[index] = value + ds.getErrorPositive(dimIndex, index);
+                }
+                yAxis.getDisplayPositions(values, min, max, values);
+                yAxis.getDisplayPositions(valuesEN, min, max, valuesEN);
+                yAxis.getDisplayPositions(valuesEP, min, max, valuesEP);
 
-                    if (!Double.isFinite(value)) {
+                for (int index = min; index < max; index++) {
+                    if (!Double.isFinite(values[index])) {
                         values[index] = Double.NaN;
                         valuesEN[index] = Double.NaN;
                         valuesEP[index] = Double.NaN;
-                        continue;
                     }
-
-                    values[index] = yAxis.getDisplayPosition(value);
-                    valuesEN[index] = yAxis.getDisplayPosition(value - ds.getErrorNegative(dimIndex, index));
-                    valuesEP[index] = yAxis.getDisplayPosition(value + ds.getErrorPositive(dimIndex, index));
                 }
             });
             return;
@@ -351,9 +363,8 @@ class CachedDataPoints {
             final double[] valuesEN = dimIndex == DIM_X ? errorXNeg : errorYNeg;
             final double[] valuesEP = dimIndex == DIM_X ? errorXPos : errorYPos;
 
+            getDisplayPositions(yAxis, dataSet, dimIndex, min, max, values);
             for (int index = min; index < max; index++) {
-                values[index] = yAxis.getDisplayPosition(dataSet.get(dimIndex, index));
-
                 if (Double.isFinite(values[index])) {
                     valuesEN[index] = values[index];
                     valuesEP[index] = values[index];
@@ -372,13 +383,10 @@ class CachedDataPoints {
         dataSet.lock().readLockGuardOptimistic(() -> {
             final double[] values = dimIndex == DIM_X ? xValues : yValues;
             final double minValue = dimIndex == DIM_X ? xMin : yMin;
+            getDisplayPositions(axis, dataSet, dimIndex, min, max, values);
             for (int index = min; index < max; index++) {
-                final double value = dataSet.get(dimIndex, index);
-
-                values[index] = axis.getDisplayPosition(value);
-
                 if (Double.isNaN(values[index])) {
-                    yValues[index] = minValue;
+                    values[index] = minValue;
                 }
             }
 
@@ -394,12 +402,9 @@ class CachedDataPoints {
         // no error attached
         dataSet.lock().readLockGuardOptimistic(() -> {
             final double[] values = dimIndex == DIM_X ? xValues : yValues;
+            getDisplayPositions(axis, dataSet, dimIndex, min, max, values);
             for (int index = min; index < max; index++) {
-                final double value = dataSet.get(dimIndex, index);
-
-                if (Double.isFinite(value)) {
-                    values[index] = axis.getDisplayPosition(value);
-                } else {
+                if (!Double.isFinite(values[index])) {
                     values[index] = Double.NaN;
                 }
             }
@@ -513,18 +518,56 @@ class CachedDataPoints {
         minDataPointDistanceX();
     }
 
+    /**
+     * copies the boundary variables and the screen coordinates within [indexMin, indexMax] from a (persistent) cache
+     *
+     * @param source cache from which the screen coordinates should be copied
+     */
+    protected void copyScreenCoordinates(final CachedDataPoints source) {
+        xAxisInverted = source.xAxisInverted;
+        yAxisInverted = source.yAxisInverted;
+        defaultStyle = source.defaultStyle;
+        dataSetIndex = source.dataSetIndex;
+        dataSetStyleIndex = source.dataSetStyleIndex;
+        allowForNaNs = source.allowForNaNs;
+        errorType = source.errorType;
+        xZero = source.xZero;
+        yZero = source.yZero;
+        yMin = source.yMin;
+        yMax = source.yMax;
+        xMin = source.xMin;
+        xMax = source.xMax;
+        polarPlot = source.polarPlot;
+        rendererErrorStyle = source.rendererErrorStyle;
+        xRange = source.xRange;
+        yRange = source.yRange;
+        maxRadius = source.maxRadius;
+
+        final int length = indexMax - indexMin;
+        System.arraycopy(source.xValues, indexMin, xValues, indexMin, length);
+        System.arraycopy(source.yValues, indexMin, yValues, indexMin, length);
+        System.arraycopy(source.errorYNeg, indexMin, errorYNeg, indexMin, length);
+        System.arraycopy(source.errorYPos, indexMin, errorYPos, indexMin, length);
+        if (errorXNeg != null) {
+            System.arraycopy(source.errorXNeg, indexMin, errorXNeg, indexMin, length);
+            System.arraycopy(source.errorXPos, indexMin, errorXPos, indexMin, length);
+        }
+        System.arraycopy(source.styles, indexMin, styles, indexMin, length);
+        System.arraycopy(source.selected, indexMin, selected, indexMin, length);
+    }
+
     public void release() {
-        DoubleArrayCache.getInstance().add(xValues);
-        DoubleArrayCache.getInstance().add(yValues);
-        DoubleArrayCache.getInstance().add(errorYNeg);
-        DoubleArrayCache.getInstance().add(errorYPos);
-        DoubleArrayCache.getInstance().add(errorXNeg);
-        DoubleArrayCache.getInstance().add(errorXPos);
-        ArrayCache.release(SELECTED2, selected);
-        ArrayCache.release(STYLES2, styles);
+        ArrayPool.getDoublePool().release(xValues);
+        ArrayPool.getDoublePool().release(yValues);
+        ArrayPool.getDoublePool().release(errorYNeg);
+        ArrayPool.getDoublePool().release(errorYPos);
+        ArrayPool.getDoublePool().release(errorXNeg);
+        ArrayPool.getDoublePool().release(errorXPos);
+        ArrayPool.getBooleanPool().release(selected);
+        ArrayPool.getStringPool().release(styles);
     }
 
-    private void setBoundaryConditions(final Axis xAxis, final Axis yAxis, final DataSet dataSet, final int dsIndex,
+    protected void setBoundaryConditions(final Axis xAxis, final Axis yAxis, final DataSet dataSet, final int dsIndex,
             final int min, final int max, final ErrorStyle rendererErrorStyle, final boolean isPolarPlot,
             final boolean doAllowForNaNs) {
         indexMin = min;
@@ -576,4 +619,16 @@ class CachedDataPoints {
         dataSetStyleIndex = layoutOffset == null ? 0 : layoutOffset.intValue();
         dataSetIndex = dsIndexLocal == null ? dsIndex : dsIndexLocal.intValue();
     }
+
+    /**
+     * Copies the data values of the given range into 'displayPositions' and transforms them in-place using the bulk
+     * {@link Axis#getDisplayPositions(double[], int, int, double[])} kernel.
+     */
+    private static void getDisplayPositions(final Axis axis, final DataSet dataSet, final int dimIndex, final int min,
+            final int max, final double[] displayPositions) {
+        for (int index = min; index < max; index++) {
+            displayPositions[index] = dataSet.get(dimIndex, index);
+        }
+        axis.getDisplayPositions(displayPositions, min, max, displayPositions);
+    }
 }
@@ -28,7 +28,7 @@ import de.gsi.chart.utils.WritableImageCache;
 import de.gsi.dataset.DataSet;
 import de.gsi.dataset.GridDataSet;
 import de.gsi.dataset.spi.DataRange;
-import de.gsi.dataset.utils.ByteArrayCache;
+import de.gsi.dataset.utils.ArrayPool;
 import de.gsi.dataset.utils.CachedDaemonThreadFactory;
 import de.gsi.dataset.utils.DoubleArrayCache;
 import de.gsi.dataset.utils.ProcessingProfiler;
@@ -39,9 +39,7 @@ import de.gsi.dataset.utils.ProcessingProfiler;
 class ContourDataSetCache extends WritableImageCache {
     private static final Logger LOGGER = LoggerFactory.getLogger(ContourDataSetCache.class);
     private static final String PARALLEL_WORKER_ERROR = "one parallel worker thread finished execution with error";
-    private static final int BGRA_BYTE_SIZE = 4;
-    private static final int REF_WIDTH_PARALLEL = 1024;
-    private static final int REF_HEIGHT_PARALLEL = 1000;
+    private static final int MIN_PARALLEL_ROWS = HeatMapTileCache.TILE_SIZE;
 
     protected final DataSet dataSet;
     protected final Axis xAxis;
@@ -76,6 +74,8 @@ class ContourDataSetCache extends WritableImageCache {
     protected final boolean xInverted;
     protected final boolean yInverted;
     protected final boolean zInverted;
+    protected final int nQuant;
+    protected final HeatMapTileCache tileCache;
 
     // temp data variables
     protected final double[] dataBuffer;
@@ -83,6 +83,19 @@ class ContourDataSetCache extends WritableImageCache {
     protected final double[] reduced;
 
     public ContourDataSetCache(final XYChart chart, final ContourDataSetRenderer renderer, final DataSet dataSet) {
+        this(chart, renderer, dataSet, null);
+    }
+
+    /**
+     * @param chart the chart providing the x- and y-axis
+     * @param renderer the renderer providing the z-axis and the reduction, quantisation and colour settings
+     * @param dataSet the grid data set to be drawn (N.B. to be called while holding the data set's read lock)
+     * @param tileCache optional persistent tile cache. If non-null, the data reduction and colour mapping is performed
+     *            tile-wise and incrementally by the tile cache and neither {@link #dataBuffer} nor {@link #reduced} are
+     *            computed (i.e. only applicable to {@link ContourType#HEATMAP})
+     */
+    public ContourDataSetCache(final XYChart chart, final ContourDataSetRenderer renderer, final DataSet dataSet,
+            final HeatMapTileCache tileCache) {
         if (dataSet.getDimension() < 3) {
             throw new IllegalArgumentException("dataSet needs be at least 3D but is " + dataSet.getDimension());
         }
@@ -98,6 +111,8 @@ class ContourDataSetCache extends WritableImageCache {
         this.xAxis = chart.getXAxis();
         this.yAxis = chart.getYAxis();
         this.zAxis = renderer.getZAxis();
+        this.nQuant = renderer.getNumberQuantisationLevels();
+        this.tileCache = tileCache;
 
         // zMin/zMax from the axis are usually either DataSet driven (via computeLimits)
         // or user-defined limits on the z axis
@@ -142,11 +157,39 @@ class ContourDataSetCache extends WritableImageCache {
         this.xSize = Math.abs(this.indexXMax - this.indexXMin) + 1;
         this.ySize = Math.abs(this.indexYMax - this.indexYMin) + 1;
 
+        final AxisTransform axisTransform = zAxis.getAxisTransform();
+        if (axisTransform == null) {
+            throw new IllegalArgumentException("zAxis of renderer needs to have an axis transform for its z-Axis");
+        }
+        final boolean computeLocalRange = renderer.computeLocalRange()
+                                          && (zAxis.isAutoRanging() || zAxis.isAutoGrowRanging());
+        // N.B. parallelise only if there are at least two tiles worth of data
+        final boolean sufficientlyLarge = xSize * ySize >= 2 * HeatMapTileCache.TILE_SIZE * HeatMapTileCache.TILE_SIZE;
+
+        if (tileCache != null) {
+            dataBuffer = null;
+            reduced = null;
+            computeReducedSize(xSize, ySize, renderer);
+            if (xSize == 0 || ySize == 0) {
+                return;
+            }
+            final boolean parallel = renderer.isParallelImplementation() && sufficientlyLarge;
+            tileCache.computeData(gridDataSet, indexXMin, indexXMax, xInverted, indexYMin, indexYMax, yInverted, //
+                    xSize, ySize, renderer.getReductionType(), parallel);
+            ProcessingProfiler.getTimeDiff(start, "compute data tiles");
+
+            final DataRange zDataRange = computeLocalRange ? tileCache.getRange() : new DataRange();
+            if (zDataRange.isDefined()) {
+                zMin = zDataRange.getMin();
+                zMax = zDataRange.getMax();
+            }
+            tileCache.computeColours(zMin, zMax, zInverted, axisTransform, nQuant, renderer.getColorGradient(), parallel);
+            ProcessingProfiler.getTimeDiff(start, "compute colour tiles");
+            return;
+        }
+
         // copy- transform data
         dataBuffer = DoubleArrayCache.getInstance().getArrayExact(this.xSize * this.ySize);
-        // TODO: tune this limit
-        final int minSizeThreshold = REF_WIDTH_PARALLEL * REF_HEIGHT_PARALLEL;
-        final boolean sufficientlyLarge = xSize * ySize < minSizeThreshold;
         copySubFrame(dataSet, dataBuffer, renderer.isParallelImplementation() && sufficientlyLarge, //
                 xInverted, indexXMin, indexXMax, yInverted, indexYMin, indexYMax);
         ProcessingProfiler.getTimeDiff(start, "copySubFrame");
@@ -156,8 +199,6 @@ class ContourDataSetCache extends WritableImageCache {
         ProcessingProfiler.getTimeDiff(start, "data reduction");
 
         // compute local Range
-        final boolean computeLocalRange = renderer.computeLocalRange()
-                                          && (zAxis.isAutoRanging() || zAxis.isAutoGrowRanging());
         final DataRange zDataRange = computeLocalRange(reduced, xSize, ySize, computeLocalRange);
         if (zDataRange.isDefined()) {
             zMin = zDataRange.getMin();
@@ -166,11 +207,6 @@ class ContourDataSetCache extends WritableImageCache {
         ProcessingProfiler.getTimeDiff(start, "recompute local z range");
 
         // process continuous to quantised z values
-        final AxisTransform axisTransform = zAxis.getAxisTransform();
-        if (axisTransform == null) {
-            throw new IllegalArgumentException("zAxis of renderer needs to have an axis transform for its z-Axis");
-        }
-        final int nQuant = renderer.getNumberQuantisationLevels();
         quantizeData(reduced, xSize, ySize, zInverted, zMin, zMax, axisTransform, nQuant);
         ProcessingProfiler.getTimeDiff(start, "quantized data");
     }
@@ -190,50 +226,61 @@ class ContourDataSetCache extends WritableImageCache {
     }
 
     public void releaseCachedVariables() {
+        if (dataBuffer == null) {
+            return;
+        }
         DoubleArrayCache.getInstance().add(dataBuffer);
         DoubleArrayCache.getInstance().add(tempDataBuffer);
     }
 
-    protected double[] reduceDataArray(final double[] input, final int srcWidth, final int srcHeight,
-            final ContourDataSetRenderer renderer) {
+    /**
+     * Computes the reduced image size and updates {@link #xSize} and {@link #ySize} accordingly if the data needs to be
+     * reduced.
+     *
+     * @param srcWidth width of the visible grid range
+     * @param srcHeight height of the visible grid range
+     * @param renderer the renderer providing the reduction settings
+     * @return {@code true} if the data needs to be reduced
+     */
+    protected boolean computeReducedSize(final int srcWidth, final int srcHeight, final ContourDataSetRenderer renderer) {
         final int reductionFactorX = Math.max(renderer.getReductionFactorX(), 1);
         final int reductionFactorY = Math.max(renderer.getReductionFactorY(), 1);
-        final ReductionType reductionType = renderer.getReductionType();
         final double dataPixelSizeX = (double) reductionFactorX * xSize / xAxisWidth;
         final double dataPixelSizeY = (double) reductionFactorY * ySize / yAxisHeight;
         final boolean mayReduceX = dataPixelSizeX > 1.0 && xSize > 10;
         final boolean mayReduceY = dataPixelSizeY > 1.0 && ySize > 10;
+        if (!(mayReduceX || mayReduceY) || !renderer.isActualReducePoints()) {
+            return false;
+        }
 
-        final double[] reducedData;
-        if ((mayReduceX || mayReduceY) && renderer.isActualReducePoints()) {
-            int targetWidth = (int) (srcWidth / Math.max((dataPixelSizeX), 1));
-            int targetHeight = (int) (srcHeight / Math.max((dataPixelSizeY), 1));
-
-            // special treatment for hexagon-based plots because individual hexagons cannot be asymmetric
-            final ContourType contourType = renderer.getContourType();
-            if (contourType.equals(ContourType.HEATMAP_HEXAGON)) {
-                final double minReductionFactor = Math.min(reductionFactorX, reductionFactorY);
-                final double minPixelSizeX = Math.max((minReductionFactor * xSize / xAxisWidth), 1);
-                final double minPixelSizeY = Math.max((minReductionFactor * ySize / yAxisHeight), 1);
-                targetWidth = (int) (srcWidth / minPixelSizeX);
-                targetHeight = (int) (srcHeight / minPixelSizeY);
-            }
-
-            //            System.err.printf("image width = %d x %d - reduced from %d x %d\n", targetWidth, targetHeight, xSize, ySize);
-
-            tempDataBuffer = DoubleArrayCache.getInstance().getArrayExact(targetWidth * targetHeight);
+        int targetWidth = (int) (srcWidth / Math.max((dataPixelSizeX), 1));
+        int targetHeight = (int) (srcHeight / Math.max((dataPixelSizeY), 1));
+
+        // special treatment for hexagon-based plots because individual hexagons cannot be asymmetric
+        final ContourType contourType = renderer.getContourType();
+        if (contourType.equals(ContourType.HEATMAP_HEXAGON)) {
+            final double minReductionFactor = Math.min(reductionFactorX, reductionFactorY);
+            final double minPixelSizeX = Math.max((minReductionFactor * xSize / xAxisWidth), 1);
+            final double minPixelSizeY = Math.max((minReductionFactor * ySize / yAxisHeight), 1);
+            targetWidth = (int) (srcWidth / minPixelSizeX);
+            targetHeight = (int) (srcHeight / minPixelSizeY);
+        }
 
-            DefaultDataReducer3D.resample(input, srcWidth, srcHeight, tempDataBuffer, targetWidth, targetHeight,
-                    reductionType);
+        xSize = targetWidth;
+        ySize = targetHeight;
+        return true;
+    }
 
-            xSize = targetWidth;
-            ySize = targetHeight;
-            return tempDataBuffer;
+    protected double[] reduceDataArray(final double[] input, final int srcWidth, final int srcHeight,
+            final ContourDataSetRenderer renderer) {
+        if (!computeReducedSize(srcWidth, srcHeight, renderer)) {
+            return input;
         }
 
-        reducedData = input;
-        //        System.err.printf("image width = %d x %d\n", xSize, ySize);
-        return reducedData;
+        tempDataBuffer = DoubleArrayCache.getInstance().getArrayExact(xSize * ySize);
+        DefaultDataReducer3D.resample(input, srcWidth, srcHeight, tempDataBuffer, xSize, ySize,
+                renderer.getReductionType());
+        return tempDataBuffer;
     }
 
     protected static void computeCoordinates(final GridDataSet dataSet, final double[] dataBuffer, final int dataLength, //
@@ -309,16 +356,16 @@ class ContourDataSetCache extends WritableImageCache {
             return;
         }
 
+        // N.B. split into row blocks of at least one tile height to amortise the task overhead
         final int nMaxThreads = CachedDaemonThreadFactory.getNumbersOfThreads();
-        final int minthreshold = REF_HEIGHT_PARALLEL / 2; // TODO: tune this limit
         final int divThread = (int) Math.ceil(height / (double) nMaxThreads);
-        final int stepSize = Math.max(divThread, minthreshold);
+        final int stepSize = Math.max(divThread, MIN_PARALLEL_ROWS);
         final List<Callable<Boolean>> workers = new ArrayList<>();
-        for (int i = yMinIndex; i < yMaxIndex; i += stepSize) {
+        for (int i = yMinIndex; i <= yMaxIndex; i += stepSize) {
             final int start = i;
             workers.add(() -> {
                 final int yMinLocal = start;
-                final int yMaxLocal = Math.min(start + stepSize, yMaxIndex);
+                final int yMaxLocal = Math.min(start + stepSize - 1, yMaxIndex);
                 computeCoordinates((GridDataSet) dataSet, dataBuffer, dataLength, //
                         xInverted, xMinIndex, xMaxIndex, //
                         yInverted, yMinLocal, yMaxLocal, //
@@ -348,8 +395,6 @@ class ContourDataSetCache extends WritableImageCache {
             final ColorGradient colorGradient) {
         final int length = dataWidth * dataHeight;
 
-        final byte[] byteBuffer = ByteArrayCache.getInstance().getArrayExact(length * BGRA_BYTE_SIZE);
-        final int rowSizeInBytes = BGRA_BYTE_SIZE * dataWidth;
         final WritableImage image = this.getImage(dataWidth, dataHeight);
         final PixelWriter pixelWriter = image.getPixelWriter();
         if (pixelWriter == null) {
@@ -359,25 +404,21 @@ class ContourDataSetCache extends WritableImageCache {
             return image;
         }
 
+        // N.B. input data is quantised to multiples of 1/nQuant (see quantizeData)
+        final int[] lut = colorGradient.getColorLut(nQuant);
+        final int[] pixelBuffer = ArrayPool.getIntPool().getArray(length);
         final int hMinus1 = dataHeight - 1;
         for (int yIndex = 0; yIndex < dataHeight; yIndex++) {
             final int rowIndex = dataWidth * yIndex;
-            final int rowPixelIndex = rowSizeInBytes * (hMinus1 - yIndex);
+            final int rowPixelIndex = dataWidth * (hMinus1 - yIndex);
             for (int xIndex = 0; xIndex < dataWidth; xIndex++) {
-                final int x = xIndex;
-                final int[] color = colorGradient.getColorBytes(inputData[rowIndex + xIndex]);
-
-                final int pixelIndex = rowPixelIndex + x * BGRA_BYTE_SIZE;
-                byteBuffer[pixelIndex] = (byte) (color[3]);
-                byteBuffer[pixelIndex + 1] = (byte) (color[2]);
-                byteBuffer[pixelIndex + 2] = (byte) (color[1]);
-                byteBuffer[pixelIndex + 3] = (byte) (color[0]);
+                final long level = Math.round(inputData[rowIndex + xIndex] * nQuant);
+                pixelBuffer[rowPixelIndex + xIndex] = level < 0 || level > nQuant ? 0 : lut[(int) level];
             }
         }
 
-        pixelWriter.setPixels(0, 0, dataWidth, dataHeight, PixelFormat.getByteBgraPreInstance(), byteBuffer, 0,
-                rowSizeInBytes);
-        ByteArrayCache.getInstance().add(byteBuffer);
+        pixelWriter.setPixels(0, 0, dataWidth, dataHeight, PixelFormat.getIntArgbPreInstance(), pixelBuffer, 0, dataWidth);
+        ArrayPool.getIntPool().release(pixelBuffer);
         return image;
     }
 
@@ -5,7 +5,10 @@ import static javafx.scene.paint.CycleMethod.NO_CYCLE;
 import java.security.InvalidParameterException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 
 import javafx.collections.ObservableList;
@@ -32,6 +35,7 @@ import de.gsi.chart.axes.Axis;
 import de.gsi.chart.axes.AxisTransform;
 import de.gsi.chart.axes.spi.DefaultNumericAxis;
 import de.gsi.chart.plugins.Zoomer;
+import de.gsi.chart.renderer.ContourType;
 import de.gsi.chart.renderer.Renderer;
 import de.gsi.chart.renderer.spi.hexagon.Hexagon;
 import de.gsi.chart.renderer.spi.hexagon.HexagonMap;
@@ -72,6 +76,7 @@ import de.gsi.dataset.utils.ProcessingProfiler;
 public class ContourDataSetRenderer extends AbstractContourDataSetRendererParameter<ContourDataSetRenderer> implements Renderer {
     private static final Logger LOGGER = LoggerFactory.getLogger(ContourDataSetRenderer.class);
     private ContourDataSetCache localCache;
+    private final Map<DataSet, HeatMapTileCache> tileCaches = new IdentityHashMap<>();
     private Axis zAxis;
     protected final Rectangle gradientRect = new Rectangle();
 
@@ -201,6 +206,15 @@ public class ContourDataSetRenderer extends AbstractContourDataSetRendererParame
         // N.B. works only since OpenJFX 12!! fall-back for JDK8 is the old implementation
         gc.setImageSmoothing(isSmooth());
 
+        if (lCache.tileCache != null) {
+            // colour-mapped tiles have been computed incrementally -- upload modified rows only
+            final WritableImage image = lCache.tileCache.getImage();
+            ProcessingProfiler.getTimeDiff(start, "color map");
+            gc.drawImage(image, lCache.xDataPixelMin, lCache.yDataPixelMin, lCache.xDataPixelRange, lCache.yDataPixelRange);
+            ProcessingProfiler.getTimeDiff(start, "drawHeatMap");
+            return;
+        }
+
         // process z quantisation to colour transform
         final WritableImage image = localCache.convertDataArrayToImage(lCache.reduced, lCache.xSize, lCache.ySize, getColorGradient());
         ProcessingProfiler.getTimeDiff(start, "color map");
@@ -411,6 +425,7 @@ public class ContourDataSetRenderer extends AbstractContourDataSetRendererParame
         // top of the others
 
         List<DataSet> drawnDataSet = new ArrayList<>(localDataSetList.size());
+        final List<DataSet> tiledDataSets = new ArrayList<>(localDataSetList.size());
         for (int dataSetIndex = localDataSetList.size() - 1; dataSetIndex >= 0; dataSetIndex--) {
             final DataSet dataSet = localDataSetList.get(dataSetIndex);
             if (!(dataSet instanceof GridDataSet) || dataSet.getDimension() <= 2) {
@@ -424,7 +439,11 @@ public class ContourDataSetRenderer extends AbstractContourDataSetRendererParame
                     return false;
                 }
 
-                localCache = new ContourDataSetCache(xyChart, this, dataSet); // NOPMD
+                final HeatMapTileCache tileCache = getContourType() == ContourType.HEATMAP ? getTileCache(dataSet) : null;
+                localCache = new ContourDataSetCache(xyChart, this, dataSet, tileCache); // NOPMD
+                if (tileCache != null) {
+                    tiledDataSets.add(dataSet);
+                }
                 ProcessingProfiler.getTimeDiff(stop, "updateCachedVariables");
                 return true;
             });
@@ -440,12 +459,43 @@ public class ContourDataSetRenderer extends AbstractContourDataSetRendererParame
             ProcessingProfiler.getTimeDiff(mid, "finished drawing");
 
         } // end of 'dataSetIndex' loop
+        releaseTileCaches(tiledDataSets);
 
         ProcessingProfiler.getTimeDiff(start);
 
         return drawnDataSet;
     }
 
+    /**
+     * @param dataSet for which the persistent heat-map tiles should be retrieved
+     * @return persistent tile cache that is notified by the data set about modified index ranges
+     */
+    private HeatMapTileCache getTileCache(final DataSet dataSet) {
+        return tileCaches.computeIfAbsent(dataSet, ds -> {
+            final HeatMapTileCache cache = new HeatMapTileCache();
+            ds.addListener(cache);
+            return cache;
+        });
+    }
+
+    /**
+     * releases the persistent heat-map tiles of data sets that are no longer drawn as heat-map by this renderer
+     *
+     * @param tiledDataSets data sets that are presently drawn using the tile cache
+     */
+    private void releaseTileCaches(final List<DataSet> tiledDataSets) {
+        final Set<DataSet> drawn = Collections.newSetFromMap(new IdentityHashMap<>());
+        drawn.addAll(tiledDataSets);
+        tileCaches.entrySet().removeIf(entry -> {
+            if (drawn.contains(entry.getKey())) {
+                return false;
+            }
+            entry.getKey().removeListener(entry.getValue());
+            entry.getValue().release();
+            return true;
+        });
+    }
+
     public void shiftZAxisToLeft() {
         gradientRect.toBack();
         if (zAxis instanceof Node) {
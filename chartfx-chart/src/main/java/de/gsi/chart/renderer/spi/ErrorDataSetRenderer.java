@@ -2,6 +2,10 @@ package de.gsi.chart.renderer.spi;
 
 import java.security.InvalidParameterException;
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 
 import javafx.collections.ObservableList;
 import javafx.geometry.Orientation;
@@ -24,10 +28,14 @@ import de.gsi.chart.renderer.ErrorStyle;
 import de.gsi.chart.renderer.Renderer;
 import de.gsi.chart.renderer.spi.utils.BezierCurve;
 import de.gsi.chart.renderer.spi.utils.DefaultRenderColorScheme;
+import de.gsi.chart.renderer.spi.utils.ScreenSpaceGridIndex;
 import de.gsi.chart.utils.StyleParser;
 import de.gsi.dataset.DataSet;
 import de.gsi.dataset.DataSetError.ErrorType;
+import de.gsi.dataset.spi.DataSetSnapshot;
+import de.gsi.dataset.spi.DoubleDataSet;
 import de.gsi.dataset.spi.utils.Triple;
+import de.gsi.dataset.utils.CachedDaemonThreadFactory;
 import de.gsi.dataset.utils.DoubleArrayCache;
 import de.gsi.dataset.utils.ProcessingProfiler;
 
@@ -49,6 +57,8 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
     private static final Logger LOGGER = LoggerFactory.getLogger(ErrorDataSetRenderer.class);
     private Marker marker = DefaultMarker.RECTANGLE; // default: rectangle
     private long stopStamp;
+    // persistent per data set screen coordinates (N.B. identity based since DataSet::equals compares the data content)
+    private final Map<DataSet, IncrementalDataPointCache> screenCoordinateCaches = new IdentityHashMap<>();
 
     /**
      * Creates new <code>ErrorDataSetRenderer</code>.
@@ -140,6 +150,7 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
 
         // If there are no data sets
         if (localDataSetList.isEmpty()) {
+            releaseScreenCoordinateCaches();
             return Collections.emptyList();
         }
 
@@ -163,10 +174,11 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
             ProcessingProfiler.getTimeDiff(start, "init");
         }
 
-        List<DataSet> drawnDataSet = new ArrayList<>(localDataSetList.size());
+        final boolean isPolarPlot = ((XYChart) chart).isPolarPlot();
+        final boolean parallelDataSets = isParallelDataSetProcessing() && localDataSetList.size() > 1;
+        final List<Supplier<Optional<CachedDataPoints>>> workers = new ArrayList<>(localDataSetList.size());
         for (int dataSetIndex = localDataSetList.size() - 1; dataSetIndex >= 0; dataSetIndex--) {
             final int ldataSetIndex = dataSetIndex;
-            stopStamp = ProcessingProfiler.getTimeStamp();
             final DataSet dataSet = localDataSetList.get(dataSetIndex);
 
             // N.B. print out for debugging purposes, please keep (used for
@@ -186,71 +198,214 @@ public class ErrorDataSetRenderer extends AbstractErrorDataSetRendererParameter<
                 }
             }
 
-            // check for potentially reduced data range we are supposed to plot
-            final Optional<CachedDataPoints> cachedPoints = dataSet.lock().readLockGuard(() -> {
-                int indexMin;
-                int indexMax; /* indexMax is excluded in the drawing */
-                if (isAssumeSortedData()) {
-                    indexMin = Math.max(0, dataSet.getIndex(DataSet.DIM_X, xMin) - 1);
-                    indexMax = Math.min(dataSet.getIndex(DataSet.DIM_X, xMax) + 2, dataSet.getDataCount());
-                } else {
-                    indexMin = 0;
-                    indexMax = dataSet.getDataCount();
-                }
+            final IncrementalDataPointCache screenCoordinateCache = getScreenCoordinateCache(dataSet);
+            // N.B. per data point parallelisation is disabled if the data sets are already processed concurrently
+            final boolean parallelPoints = isParallelImplementation() && !parallelDataSets;
+            workers.add(() -> computeDataPoints(dataSet, screenCoordinateCache, xAxis, yAxis, xMin, xMax,
+                    dataSetOffset + ldataSetIndex, isPolarPlot, parallelPoints, !parallelDataSets));
+        }
 
-                if (indexMax - indexMin <= 0) {
-                    // zero length/range data set -> nothing to be drawn
-                    return Optional.empty();
+        final List<DataSet> drawnDataSet = new ArrayList<>(localDataSetList.size());
+        if (parallelDataSets) {
+            // compute and reduce all data sets concurrently, draw sequentially in data set order on the calling thread
+            final List<Callable<Optional<CachedDataPoints>>> tasks = new ArrayList<>(workers.size());
+            workers.forEach(worker -> tasks.add(worker::get));
+            List<Future<Optional<CachedDataPoints>>> jobs = Collections.emptyList();
+            try {
+                jobs = CachedDaemonThreadFactory.getCommonPool().invokeAll(tasks);
+                for (int index = 0; index < jobs.size(); index++) {
+                    drawnDataSet.add(localDataSetList.get(localDataSetList.size() - 1 - index));
+                    jobs.get(index).get().ifPresent(value -> drawChartCompontents(gc, value));
                 }
-
-                if (ProcessingProfiler.getDebugState()) {
-                    stopStamp = ProcessingProfiler.getTimeDiff(stopStamp,
-                            "get min/max" + String.format(" from:%d to:%d", indexMin, indexMax));
+            } catch (final InterruptedException | ExecutionException e) {
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
                 }
+                throw new IllegalStateException("one parallel data set worker finished execution with error", e);
+            } finally {
+                // N.B. also release the points of the other jobs if one of them failed
+                releaseCachedDataPoints(jobs);
+            }
+        } else {
+            for (int index = 0; index < workers.size(); index++) {
+                stopStamp = ProcessingProfiler.getTimeStamp();
+                drawnDataSet.add(localDataSetList.get(localDataSetList.size() - 1 - index));
+                workers.get(index).get().ifPresent(value -> {
+                    // draw individual plot components
+                    drawChartCompontents(gc, value);
 
-                final CachedDataPoints localCachedPoints = new CachedDataPoints(indexMin, indexMax,
-                        dataSet.getDataCount(), true);
-                if (ProcessingProfiler.getDebugState()) {
-                    stopStamp = ProcessingProfiler.getTimeDiff(stopStamp, "get CachedPoints");
-                }
+                    value.release();
+                });
+
+                stopStamp = ProcessingProfiler.getTimeStamp();
 
-                // compute local screen coordinates
-                final boolean isPolarPlot = ((XYChart) chart).isPolarPlot();
-                if (isParallelImplementation()) {
-                    localCachedPoints.computeScreenCoordinatesInParallel(xAxis, yAxis, dataSet,
-                            dataSetOffset + ldataSetIndex, indexMin, indexMax, getErrorType(), isPolarPlot,
-                            isallowNaNs());
-                } else {
-                    localCachedPoints.computeScreenCoordinates(xAxis, yAxis, dataSet, dataSetOffset + ldataSetIndex,
-                            indexMin, indexMax, getErrorType(), isPolarPlot, isallowNaNs());
-                }
                 if (ProcessingProfiler.getDebugState()) {
-                    stopStamp = ProcessingProfiler.getTimeDiff(stopStamp, "computeScreenCoordinates()");
+                    ProcessingProfiler.getTimeDiff(stopStamp, "localCachedPoints.release()");
                 }
-                return Optional.of(localCachedPoints);
-            });
+            } // end of 'dataSetIndex' loop
+        }
+        releaseScreenCoordinateCaches(localDataSetList);
+        ProcessingProfiler.getTimeDiff(start);
+
+        return drawnDataSet;
+    }
+
+    /**
+     * computes the screen coordinates of the visible data range and performs the data reduction (N.B. thread-safe
+     * w.r.t. other data sets, may be executed outside the JavaFX application thread)
+     *
+     * @param dataSet the data set to be processed
+     * @param screenCoordinateCache the persistent screen coordinate cache of the data set
+     * @param xAxis the horizontal axis
+     * @param yAxis the vertical axis
+     * @param xMin minimum visible horizontal coordinate
+     * @param xMax maximum visible horizontal coordinate
+     * @param dsIndex global data set index
+     * @param isPolarPlot whether the chart is a polar plot
+     * @param parallelPoints whether the transformation of the data points should be parallelised
+     * @param profile whether the processing time stamps should be recorded (non thread-safe)
+     * @return reduced data points or empty if nothing is to be drawn
+     */
+    private Optional<CachedDataPoints> computeDataPoints(final DataSet dataSet,
+            final IncrementalDataPointCache screenCoordinateCache, final Axis xAxis, final Axis yAxis, final double xMin,
+            final double xMax, final int dsIndex, final boolean isPolarPlot, final boolean parallelPoints,
+            final boolean profile) {
+        final Optional<CachedDataPoints> cachedPoints;
+        if (isUseDataSetSnapshot() && dataSet instanceof DoubleDataSet) {
+            // opt-in copy-on-write snapshot (values are not copied): producers are not blocked while the screen coordinates are computed
+            try (DataSetSnapshot snapshot = ((DoubleDataSet) dataSet).getSnapshot()) {
+                cachedPoints = computeVisibleDataPoints(snapshot, screenCoordinateCache, xAxis, yAxis, xMin, xMax, dsIndex, isPolarPlot, parallelPoints, profile);
+            }
+        } else {
+            cachedPoints = dataSet.lock().readLockGuard(() -> computeVisibleDataPoints(dataSet, screenCoordinateCache, xAxis, yAxis, xMin, xMax, dsIndex, isPolarPlot, parallelPoints, profile));
+        }
+
+        // invoke data reduction algorithm
+        cachedPoints.ifPresent(value -> value.reduce(rendererDataReducerProperty().get(), isReducePoints(), getMinRequiredReductionSize()));
+        return cachedPoints;
+    }
+
+    /**
+     * N.B. to be called while holding the data set's read lock or with an immutable snapshot
+     */
+    private Optional<CachedDataPoints> computeVisibleDataPoints(final DataSet dataSet,
+            final IncrementalDataPointCache screenCoordinateCache, final Axis xAxis, final Axis yAxis, final double xMin,
+            final double xMax, final int dsIndex, final boolean isPolarPlot, final boolean parallelPoints,
+            final boolean profile) {
+        // check for potentially reduced data range we are supposed to plot
+        int indexMin;
+        int indexMax; /* indexMax is excluded in the drawing */
+        if (isAssumeSortedData()) {
+            indexMin = Math.max(0, dataSet.getIndex(DataSet.DIM_X, xMin) - 1);
+            indexMax = Math.min(dataSet.getIndex(DataSet.DIM_X, xMax) + 2, dataSet.getDataCount());
+        } else {
+            indexMin = 0;
+            indexMax = dataSet.getDataCount();
+        }
+
+        if (indexMax - indexMin <= 0) {
+            // zero length/range data set -> nothing to be drawn
+            return Optional.empty();
+        }
 
-            drawnDataSet.add(dataSet);
-            cachedPoints.ifPresent(value -> {
-                // invoke data reduction algorithm
-                value.reduce(rendererDataReducerProperty().get(), isReducePoints(),
-                        getMinRequiredReductionSize());
+        if (profile && ProcessingProfiler.getDebugState()) {
+            stopStamp = ProcessingProfiler.getTimeDiff(stopStamp,
+                    "get min/max" + String.format(" from:%d to:%d", indexMin, indexMax));
+        }
 
-                // draw individual plot components
-                drawChartCompontents(gc, value);
+        final CachedDataPoints localCachedPoints = new CachedDataPoints(indexMin, indexMax,
+                dataSet.getDataCount(), true);
+        if (profile && ProcessingProfiler.getDebugState()) {
+            stopStamp = ProcessingProfiler.getTimeDiff(stopStamp, "get CachedPoints");
+        }
 
-                value.release();
-            });
+        // update persistent screen coordinates (only modified or newly visible indices are recomputed)
+        synchronized (screenCoordinateCache) {
+            screenCoordinateCache.computeScreenCoordinates(xAxis, yAxis, dataSet, dsIndex, indexMin, indexMax,
+                    getErrorType(), isPolarPlot, isallowNaNs(), parallelPoints);
+            // local copy of the visible range that is subsequently reduced in-place
+            localCachedPoints.copyScreenCoordinates(screenCoordinateCache);
+        }
+        if (profile && ProcessingProfiler.getDebugState()) {
+            stopStamp = ProcessingProfiler.getTimeDiff(stopStamp, "computeScreenCoordinates()");
+        }
+        return Optional.of(localCachedPoints);
+    }
 
-            stopStamp = ProcessingProfiler.getTimeStamp();
+    /**
+     * Returns the screen-space index of the data points drawn during the last redraw, e.g. to pick the data point
+     * nearest to the mouse cursor without re-transforming all data points. The index is built lazily once per redraw.
+     * <p>
+     * N.B. to be called from the JavaFX application thread.
+     *
+     * @param dataSet the data set drawn by this renderer
+     * @return the screen-space index or {@code null} if the data set has not been drawn by this renderer
+     */
+    public ScreenSpaceGridIndex getScreenSpaceIndex(final DataSet dataSet) {
+        final IncrementalDataPointCache cache = screenCoordinateCaches.get(dataSet);
+        if (cache == null) {
+            return null;
+        }
+        synchronized (cache) {
+            return cache.getSpatialIndex();
+        }
+    }
+
+    /**
+     * @param dataSet for which the persistent screen coordinates should be retrieved
+     * @return persistent screen coordinate cache that is notified by the data set about modified index ranges
+     */
+    private IncrementalDataPointCache getScreenCoordinateCache(final DataSet dataSet) {
+        return screenCoordinateCaches.computeIfAbsent(dataSet, ds -> {
+            final IncrementalDataPointCache cache = new IncrementalDataPointCache();
+            ds.addListener(cache);
+            return cache;
+        });
+    }
 
-            if (ProcessingProfiler.getDebugState()) {
-                ProcessingProfiler.getTimeDiff(stopStamp, "localCachedPoints.release()");
+    /**
+     * releases the points of all successfully completed jobs
+     *
+     * @param jobs jobs returned by {@link java.util.concurrent.ExecutorService#invokeAll}, i.e. all jobs are done
+     */
+    private static void releaseCachedDataPoints(final List<Future<Optional<CachedDataPoints>>> jobs) {
+        for (final Future<Optional<CachedDataPoints>> job : jobs) {
+            if (job.isCancelled()) {
+                continue;
             }
-        } // end of 'dataSetIndex' loop
-        ProcessingProfiler.getTimeDiff(start);
+            try {
+                job.get().ifPresent(CachedDataPoints::release);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (final ExecutionException e) { // NOPMD - failed jobs did not obtain any points
+                // the failure is reported by the caller
+            }
+        }
+    }
 
-        return drawnDataSet;
+    /**
+     * releases the persistent screen coordinates of all data sets (e.g. when the renderer is removed from its chart)
+     */
+    public void releaseScreenCoordinateCaches() {
+        releaseScreenCoordinateCaches(Collections.emptyList());
+    }
+
+    /**
+     * releases the persistent screen coordinates of data sets that are no longer drawn by this renderer
+     *
+     * @param drawnDataSets data sets that are presently drawn
+     */
+    private void releaseScreenCoordinateCaches(final List<DataSet> drawnDataSets) {
+        final Set<DataSet> drawn = Collections.newSetFromMap(new IdentityHashMap<>());
+        drawn.addAll(drawnDataSets);
+        screenCoordinateCaches.entrySet().removeIf(entry -> {
+            if (drawn.contains(entry.getKey())) {
+                return false;
+            }
+            entry.getKey().removeListener(entry.getValue());
+            entry.getValue().release();
+            return true;
+        });
     }
 
     /**
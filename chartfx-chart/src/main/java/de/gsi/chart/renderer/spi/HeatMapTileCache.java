@@ -0,0 +1,630 @@
+package de.gsi.chart.renderer.spi;
+
+import static de.gsi.dataset.DataSet.DIM_X;
+import static de.gsi.dataset.DataSet.DIM_Y;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+
+import de.gsi.chart.axes.AxisTransform;
+import de.gsi.chart.renderer.datareduction.ReductionType;
+import de.gsi.chart.renderer.spi.utils.ColorGradient;
+import de.gsi.dataset.GridDataSet;
+import de.gsi.dataset.event.AddedDataEvent;
+import de.gsi.dataset.event.AxisChangeEvent;
+import de.gsi.dataset.event.EventListener;
+import de.gsi.dataset.event.UpdateEvent;
+import de.gsi.dataset.event.UpdatedDataEvent;
+import de.gsi.dataset.spi.CircularDoubleGridDataSet;
+import de.gsi.dataset.spi.CircularDoubleGridDataSet.BufferRows;
+import de.gsi.dataset.spi.DataRange;
+import de.gsi.dataset.utils.AssertUtils;
+import de.gsi.dataset.utils.CachedDaemonThreadFactory;
+
+/**
+ * package private class implementation of a persistent (frame-to-frame) tiled heat-map raster required by the
+ * ContourDataSetRenderer.
+ * <p>
+ * The (optionally reduced) z values and colour-mapped ARGB pixels of the visible grid range are kept in
+ * {@link #TILE_SIZE}x{@link #TILE_SIZE} tiles for the last few views (i.e. grid index ranges, image size, axis
+ * inversion and reduction type, see {@link #DEFAULT_VIEW_CAPACITY}). Tiles are recomputed only if
+ * <ul>
+ * <li>the view has not been computed before, e.g. after zooming or panning,</li>
+ * <li>the grid rows they depend on have been modified as notified via {@link UpdatedDataEvent#getIndexMin()} and
+ * {@link UpdatedDataEvent#getIndexMax()}, or</li>
+ * <li>the colour mapping (z range, z-axis transform and inversion, quantisation or gradient) changed, in which case only
+ * the colour mapping (not the data reduction) is re-applied.</li>
+ * </ul>
+ * Dirty tiles are processed in parallel and the colour mapping uses the integer look-up table of
+ * {@link ColorGradient#getColorLut(int)}. Any other data set event or a change of the grid shape invalidates all views,
+ * except for rows being appended (e.g. by a streaming waterfall data set) for which only the notified rows are updated.
+ * <p>
+ * Views that show all rows of a full {@link CircularDoubleGridDataSet} without vertical reduction are kept in ring
+ * buffer row order (see {@link CircularDoubleGridDataSet#getRowOffset()}) and rotated when the pixels are retrieved.
+ * Rolling the buffer thus invalidates only the tiles of the overwritten buffer rows (see {@link BufferRows}) rather
+ * than the whole view.
+ * <p>
+ * The pixel data is identical to the former copy, reduce, quantise and colour-map pipeline of
+ * {@link ContourDataSetCache}.
+ *
+ * @author rstein
+ */
+class HeatMapTileCache implements EventListener {
+    public static final int TILE_SIZE = 128;
+    public static final int DEFAULT_VIEW_CAPACITY = 3;
+    private static final String PARALLEL_WORKER_ERROR = "one parallel worker thread finished execution with error";
+    private final LinkedList<View> views = new LinkedList<>(); // most recently used first
+    private final int viewCapacity;
+    private final Object stateLock = new Object();
+    private int dirtyRowMin = Integer.MAX_VALUE; // first modified grid row (inclusive)
+    private int dirtyRowMax = Integer.MIN_VALUE; // last modified grid row (exclusive)
+    private final BitSet dirtyBufferRows = new BitSet(); // ring buffer rows overwritten by rolling appends
+    private boolean rolled; // whether all logical rows have been shifted by rolling appends
+    private boolean invalidated;
+    private int[] cachedShape = new int[0];
+    private View current;
+    private WritableImage image;
+    private View imageView;
+    private int updatedTiles;
+
+    HeatMapTileCache() {
+        this(DEFAULT_VIEW_CAPACITY);
+    }
+
+    HeatMapTileCache(final int viewCapacity) {
+        AssertUtils.gtThanZero("viewCapacity", viewCapacity);
+        this.viewCapacity = viewCapacity;
+    }
+
+    /**
+     * Recomputes the z values of all tiles of the given view that are not valid. N.B. to be called while holding the
+     * data set's read lock.
+     *
+     * @param dataSet the grid data set (N.B. needs to be the one this cache listens to)
+     * @param xMinIndex first visible grid column (inclusive)
+     * @param xMaxIndex last visible grid column (inclusive)
+     * @param xInverted whether the x-axis is inverted
+     * @param yMinIndex first visible grid row (inclusive)
+     * @param yMaxIndex last visible grid row (inclusive)
+     * @param yInverted whether the y-axis is inverted
+     * @param width (reduced) image width
+     * @param height (reduced) image height
+     * @param reductionType the data reduction applied if the image is smaller than the visible grid range
+     * @param parallel whether tiles should be computed concurrently
+     */
+    public void computeData(final GridDataSet dataSet, final int xMinIndex, final int xMaxIndex, final boolean xInverted,
+            final int yMinIndex, final int yMaxIndex, final boolean yInverted, final int width, final int height,
+            final ReductionType reductionType, final boolean parallel) {
+        synchronized (stateLock) {
+            final int[] shape = dataSet.getShape();
+            if (invalidated || !isSameOrAppendedShape(shape, cachedShape)) {
+                views.clear();
+            } else {
+                for (final View view : views) {
+                    if (dirtyRowMin < dirtyRowMax && view.ring) {
+                        // N.B. logical rows of buffer row ordered views are not well defined across rolls
+                        Arrays.fill(view.dataValid, false);
+                    } else if (dirtyRowMin < dirtyRowMax) {
+                        view.invalidateGridRows(dirtyRowMin, dirtyRowMax);
+                    }
+                    if (rolled && view.ring) {
+                        view.invalidateBufferRows(dirtyBufferRows);
+                    } else if (rolled) {
+                        Arrays.fill(view.dataValid, false);
+                    }
+                }
+            }
+            cachedShape = shape.clone();
+            invalidated = false;
+            dirtyRowMin = Integer.MAX_VALUE;
+            dirtyRowMax = Integer.MIN_VALUE;
+            dirtyBufferRows.clear();
+            rolled = false;
+        }
+
+        // full, unreduced (in y) views of full ring buffers are kept in buffer row order
+        final CircularDoubleGridDataSet ringBuffer = dataSet instanceof CircularDoubleGridDataSet ? (CircularDoubleGridDataSet) dataSet : null;
+        final boolean ring = ringBuffer != null && ringBuffer.getShape(DIM_Y) == ringBuffer.getCapacity() && yMinIndex == 0
+                             && yMaxIndex == ringBuffer.getCapacity() - 1 && height == ringBuffer.getCapacity();
+        current = getView(xMinIndex, xMaxIndex, xInverted, yMinIndex, yMaxIndex, yInverted, width, height, reductionType, ring);
+        final View view = current;
+        if (ring) {
+            view.setRowOffset(ringBuffer.getRowOffset());
+        }
+        final int nx = dataSet.getShape(DIM_X);
+        final int dataDim = dataSet.getNGrid();
+        updatedTiles = processTiles(view.dataValid, parallel, tile -> view.computeTileData(dataSet, dataDim, nx, tile));
+        for (int tile = 0; tile < view.dataValid.length; tile++) {
+            if (!view.dataValid[tile]) {
+                view.dataValid[tile] = true;
+                view.colourValid[tile] = false;
+            }
+        }
+    }
+
+    /**
+     * Maps the z values of the current view to colours and re-applies the mapping only to tiles with modified data or if
+     * any of the mapping parameters changed.
+     *
+     * @param zMin minimum z value
+     * @param zMax maximum z value
+     * @param zInverted whether the z-axis is inverted
+     * @param axisTransform the z-axis transform
+     * @param nQuant number of quantisation levels
+     * @param colorGradient colour gradient
+     * @param parallel whether tiles should be computed concurrently
+     */
+    public void computeColours(final double zMin, final double zMax, final boolean zInverted, final AxisTransform axisTransform,
+            final int nQuant, final ColorGradient colorGradient, final boolean parallel) {
+        final View view = current;
+        final double zMinPixel = axisTransform.forward(zMin);
+        final double zRange = Math.abs(axisTransform.forward(zMax) - zMinPixel);
+        final int[] lut = colorGradient.getColorLut(nQuant);
+        if (!view.isColourMapping(zMinPixel, zRange, zInverted, axisTransform, nQuant, lut)) {
+            Arrays.fill(view.colourValid, false);
+            view.setColourMapping(zMinPixel, zRange, zInverted, axisTransform, nQuant, lut);
+        }
+        processTiles(view.colourValid, parallel, view::computeTileColours);
+    }
+
+    /**
+     * @return (reduced) height of the current view
+     */
+    public int getHeight() {
+        return current == null ? 0 : current.height;
+    }
+
+    /**
+     * @return colour-mapped pixels of the current view as ARGB integers (N.B. top image row first)
+     */
+    public int[] getPixels() {
+        if (current == null) {
+            return new int[0];
+        }
+        final View view = current;
+        if (view.rowShift == 0) {
+            return view.pixels;
+        }
+        // rotate buffer row ordered pixels into display order
+        final int[] pixels = new int[view.pixels.length];
+        final int split = (view.height - view.rowShift) * view.width;
+        System.arraycopy(view.pixels, view.rowShift * view.width, pixels, 0, split);
+        System.arraycopy(view.pixels, 0, pixels, split, view.rowShift * view.width);
+        return pixels;
+    }
+
+    /**
+     * @return range of the finite z values of the current view (after data reduction)
+     */
+    public DataRange getRange() {
+        final DataRange range = new DataRange();
+        if (current != null) {
+            for (int tile = 0; tile < current.tileMin.length; tile++) {
+                range.add(current.tileMin[tile]);
+                range.add(current.tileMax[tile]);
+            }
+        }
+        return range;
+    }
+
+    /**
+     * @return number of tiles whose z values have been recomputed by the last {@link #computeData} call
+     */
+    public int getUpdatedTileCount() {
+        return updatedTiles;
+    }
+
+    /**
+     * @return number of retained views
+     */
+    public int getViewCount() {
+        return views.size();
+    }
+
+    /**
+     * @return (reduced) width of the current view
+     */
+    public int getWidth() {
+        return current == null ? 0 : current.width;
+    }
+
+    /**
+     * Returns the persistent image of the current view. Only the image rows that changed since the last call are
+     * uploaded. N.B. to be called from the JavaFX application thread.
+     *
+     * @return heat-map image
+     */
+    public WritableImage getImage() {
+        final View view = current;
+        if (image == null || (int) image.getWidth() != view.width || (int) image.getHeight() != view.height) {
+            image = new WritableImage(view.width, view.height);
+            imageView = null;
+        }
+        if (imageView != view || view.imageRowShift != view.rowShift) {
+            view.imageRowMin = 0;
+            view.imageRowMax = view.height;
+            view.imageRowShift = view.rowShift;
+            imageView = view;
+        }
+        final PixelWriter pixelWriter = image.getPixelWriter();
+        if (pixelWriter != null && view.imageRowMin < view.imageRowMax && view.rowShift != 0) {
+            // N.B. rotated buffer row ordered pixels, uploaded in two segments
+            final int shift = view.rowShift;
+            final int nFirst = view.height - shift;
+            pixelWriter.setPixels(0, 0, view.width, nFirst, PixelFormat.getIntArgbPreInstance(), view.pixels, shift * view.width, view.width);
+            pixelWriter.setPixels(0, nFirst, view.width, shift, PixelFormat.getIntArgbPreInstance(), view.pixels, 0, view.width);
+        } else if (pixelWriter != null && view.imageRowMin < view.imageRowMax) {
+            pixelWriter.setPixels(0, view.imageRowMin, view.width, view.imageRowMax - view.imageRowMin,
+                    PixelFormat.getIntArgbPreInstance(), view.pixels, view.imageRowMin * view.width, view.width);
+        }
+        view.imageRowMin = Integer.MAX_VALUE;
+        view.imageRowMax = Integer.MIN_VALUE;
+        return image;
+    }
+
+    @Override
+    public void handle(final UpdateEvent event) {
+        if (event instanceof AxisChangeEvent) {
+            // data set axis range/name changes do not modify the data points
+            return;
+        }
+        synchronized (stateLock) {
+            if (event instanceof AddedDataEvent && event.getPayLoad() instanceof BufferRows && cachedShape.length >= 2) {
+                // rolled ring buffer: at most two segments of overwritten buffer rows
+                final BufferRows rows = (BufferRows) event.getPayLoad();
+                final int end = rows.getFirst() + rows.getCount();
+                dirtyBufferRows.set(rows.getFirst(), Math.min(end, rows.getCapacity()));
+                if (end > rows.getCapacity()) {
+                    dirtyBufferRows.set(0, end - rows.getCapacity());
+                }
+                rolled = true;
+                return;
+            }
+            if (event instanceof UpdatedDataEvent && cachedShape.length >= 2) {
+                final UpdatedDataEvent dataEvent = (UpdatedDataEvent) event;
+                // N.B. grid values are stored row-major, i.e. index = row * nx + column
+                final int nx = Math.max(1, cachedShape[DIM_X]);
+                dirtyRowMin = Math.min(dirtyRowMin, Math.max(0, dataEvent.getIndexMin()) / nx);
+                dirtyRowMax = Math.max(dirtyRowMax, dataEvent.getIndexMax() == Integer.MAX_VALUE ? Integer.MAX_VALUE : (dataEvent.getIndexMax() - 1) / nx + 1);
+                return;
+            }
+            invalidated = true;
+        }
+    }
+
+    /**
+     * releases all retained views
+     */
+    public void release() {
+        synchronized (stateLock) {
+            views.clear();
+            invalidated = true;
+        }
+        current = null;
+        image = null;
+        imageView = null;
+    }
+
+    private View getView(final int xMinIndex, final int xMaxIndex, final boolean xInverted, final int yMinIndex,
+            final int yMaxIndex, final boolean yInverted, final int width, final int height, final ReductionType reductionType,
+            final boolean ring) {
+        final Iterator<View> iterator = views.iterator();
+        while (iterator.hasNext()) {
+            final View view = iterator.next();
+            if (view.ring == ring && view.matches(xMinIndex, xMaxIndex, xInverted, yMinIndex, yMaxIndex, yInverted, width, height, reductionType)) {
+                iterator.remove();
+                views.addFirst(view);
+                return view;
+            }
+        }
+        final View view = new View(xMinIndex, xMaxIndex, xInverted, yMinIndex, yMaxIndex, yInverted, width, height, reductionType, ring);
+        views.addFirst(view);
+        while (views.size() > viewCapacity) {
+            views.removeLast();
+        }
+        return view;
+    }
+
+    /**
+     * @param shape the current grid shape
+     * @param cachedShape the grid shape the views have been computed for
+     * @return {@code true} if the shapes are identical or rows have only been appended (i.e. the existing grid rows and
+     *         thus their row-major indices are unchanged)
+     */
+    private static boolean isSameOrAppendedShape(final int[] shape, final int[] cachedShape) {
+        if (shape.length != cachedShape.length || shape.length < 2) {
+            return Arrays.equals(shape, cachedShape);
+        }
+        final int last = shape.length - 1;
+        return Arrays.equals(shape, 0, last, cachedShape, 0, last) && shape[last] >= cachedShape[last];
+    }
+
+    private static int processTiles(final boolean[] valid, final boolean parallel, final TileFunction function) {
+        final List<Callable<Boolean>> workers = new ArrayList<>();
+        for (int tile = 0; tile < valid.length; tile++) {
+            if (valid[tile]) {
+                continue;
+            }
+            final int tileIndex = tile;
+            workers.add(() -> {
+                function.compute(tileIndex);
+                return Boolean.TRUE;
+            });
+        }
+        if (!parallel || workers.size() <= 1) {
+            for (int tile = 0; tile < valid.length; tile++) {
+                if (!valid[tile]) {
+                    function.compute(tile);
+                }
+            }
+            return workers.size();
+        }
+
+        try {
+            final List<Future<Boolean>> jobs = CachedDaemonThreadFactory.getCommonPool().invokeAll(workers);
+            for (final Future<Boolean> future : jobs) {
+                final Boolean r = future.get();
+                if (Boolean.FALSE.equals(r)) {
+                    throw new IllegalStateException(PARALLEL_WORKER_ERROR);
+                }
+            }
+        } catch (final InterruptedException | ExecutionException e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IllegalStateException(PARALLEL_WORKER_ERROR, e);
+        }
+        return workers.size();
+    }
+
+    @FunctionalInterface
+    private interface TileFunction {
+        void compute(int tile);
+    }
+
+    /**
+     * z values, pixels and tile states of one view, i.e. the visible grid range mapped (and possibly reduced) to an
+     * image of given size. N.B. z values are stored bottom row first (cf. {@link ContourDataSetCache#copySubFrame}),
+     * pixels are stored top row first. For 'ring' views, the rows are stored in ring buffer rather than logical row order
+     * and the pixels are rotated by {@link #rowShift} rows for display.
+     */
+    private static class View {
+        private final int xMinIndex;
+        private final int xMaxIndex;
+        private final boolean xInverted;
+        private final int yMinIndex;
+        private final int yMaxIndex;
+        private final boolean yInverted;
+        private final int width;
+        private final int height;
+        private final ReductionType reductionType;
+        private final boolean ring;
+        private final boolean reduced;
+        private final int xRatio;
+        private final int yRatio;
+        private final int xLimit;
+        private final int yLimit;
+        private final int nTilesX;
+        private final double[] values;
+        private final int[] pixels;
+        private final boolean[] dataValid;
+        private final boolean[] colourValid;
+        private final double[] tileMin;
+        private final double[] tileMax;
+        // colour mapping of the valid pixels
+        private double zMinPixel = Double.NaN;
+        private double zRange = Double.NaN;
+        private boolean zInverted;
+        private AxisTransform axisTransform;
+        private int nQuant;
+        private int[] lut;
+        // image rows modified since the last image upload
+        private int imageRowMin = Integer.MAX_VALUE;
+        private int imageRowMax = Integer.MIN_VALUE;
+        // ring buffer row of the first logical row and the resulting rotation of the stored pixel rows
+        private int rowOffset;
+        private int rowShift;
+        private int imageRowShift;
+
+        private View(final int xMinIndex, final int xMaxIndex, final boolean xInverted, final int yMinIndex,
+                final int yMaxIndex, final boolean yInverted, final int width, final int height, final ReductionType reductionType,
+                final boolean ring) {
+            this.xMinIndex = xMinIndex;
+            this.xMaxIndex = xMaxIndex;
+            this.xInverted = xInverted;
+            this.yMinIndex = yMinIndex;
+            this.yMaxIndex = yMaxIndex;
+            this.yInverted = yInverted;
+            this.width = width;
+            this.height = height;
+            this.reductionType = reductionType;
+            this.ring = ring;
+            final int srcWidth = xMaxIndex - xMinIndex + 1;
+            final int srcHeight = yMaxIndex - yMinIndex + 1;
+            reduced = srcWidth != width || srcHeight != height;
+            // N.B. same fixed-point sampling as DefaultDataReducer3D::resample
+            xRatio = (int) ((srcWidth << 16) / width) + 1;
+            yRatio = (int) ((srcHeight << 16) / height) + 1;
+            xLimit = xRatio >> 16;
+            yLimit = yRatio >> 16;
+            nTilesX = (width + TILE_SIZE - 1) / TILE_SIZE;
+            final int nTiles = nTilesX * ((height + TILE_SIZE - 1) / TILE_SIZE);
+            values = new double[width * height];
+            pixels = new int[width * height];
+            dataValid = new boolean[nTiles];
+            colourValid = new boolean[nTiles];
+            tileMin = new double[nTiles];
+            tileMax = new double[nTiles];
+        }
+
+        private void computeTileColours(final int tile) {
+            final int columnMin = (tile % nTilesX) * TILE_SIZE;
+            final int columnMax = Math.min(columnMin + TILE_SIZE, width);
+            final int rowMin = (tile / nTilesX) * TILE_SIZE;
+            final int rowMax = Math.min(rowMin + TILE_SIZE, height);
+            final double zRangeInv = 1.0 / zRange;
+            for (int row = rowMin; row < rowMax; row++) {
+                final int rowIndex = row * width;
+                final int pixelRowIndex = (height - 1 - row) * width;
+                for (int column = columnMin; column < columnMax; column++) {
+                    final double offset = (axisTransform.forward(values[rowIndex + column]) - zMinPixel) * zRangeInv;
+                    // N.B. same truncation as ContourDataSetCache::quantize
+                    final int level = (int) ((zInverted ? 1 - offset : offset) * nQuant);
+                    pixels[pixelRowIndex + column] = level < 0 || level > nQuant ? 0 : lut[level];
+                }
+            }
+            synchronized (this) {
+                imageRowMin = Math.min(imageRowMin, height - rowMax);
+                imageRowMax = Math.max(imageRowMax, height - rowMin);
+            }
+            colourValid[tile] = true;
+        }
+
+        private void computeTileData(final GridDataSet dataSet, final int dataDim, final int nx, final int tile) {
+            final int columnMin = (tile % nTilesX) * TILE_SIZE;
+            final int columnMax = Math.min(columnMin + TILE_SIZE, width);
+            final int rowMin = (tile / nTilesX) * TILE_SIZE;
+            final int rowMax = Math.min(rowMin + TILE_SIZE, height);
+            final int xLimitLocal = reduced ? xLimit : 1;
+            final int yLimitLocal = reduced ? yLimit : 1;
+            final double norm = xLimitLocal * yLimitLocal;
+            double min = Double.NaN;
+            double max = Double.NaN;
+            for (int row = rowMin; row < rowMax; row++) {
+                final int srcRow = reduced ? (row * yRatio) >> 16 : row;
+                for (int column = columnMin; column < columnMax; column++) {
+                    final int srcColumn = reduced ? (column * xRatio) >> 16 : column;
+                    double val;
+                    switch (reduced ? reductionType : ReductionType.DOWN_SAMPLE) {
+                    case MIN:
+                        val = Double.MAX_VALUE;
+                        for (int k = 0; k < yLimitLocal; k++) {
+                            final int gridRowIndex = getGridRow(srcRow + k) * nx;
+                            for (int l = 0; l < xLimitLocal; l++) {
+                                val = Math.min(val, dataSet.get(dataDim, gridRowIndex + getGridColumn(srcColumn + l)));
+                            }
+                        }
+                        break;
+                    case MAX:
+                        val = -Double.MAX_VALUE;
+                        for (int k = 0; k < yLimitLocal; k++) {
+                            final int gridRowIndex = getGridRow(srcRow + k) * nx;
+                            for (int l = 0; l < xLimitLocal; l++) {
+                                val = Math.max(val, dataSet.get(dataDim, gridRowIndex + getGridColumn(srcColumn + l)));
+                            }
+                        }
+                        break;
+                    case DOWN_SAMPLE:
+                        val = dataSet.get(dataDim, getGridRow(srcRow) * nx + getGridColumn(srcColumn));
+                        break;
+                    case AVERAGE:
+                    default:
+                        val = 0.0;
+                        for (int k = 0; k < yLimitLocal; k++) {
+                            final int gridRowIndex = getGridRow(srcRow + k) * nx;
+                            for (int l = 0; l < xLimitLocal; l++) {
+                                val += dataSet.get(dataDim, gridRowIndex + getGridColumn(srcColumn + l));
+                            }
+                        }
+                        val /= norm;
+                        break;
+                    }
+                    values[row * width + column] = val;
+                    if (Double.isFinite(val)) {
+                        min = Double.isNaN(min) ? val : Math.min(min, val);
+                        max = Double.isNaN(max) ? val : Math.max(max, val);
+                    }
+                }
+            }
+            tileMin[tile] = min;
+            tileMax[tile] = max;
+        }
+
+        private int getGridColumn(final int srcColumn) {
+            return xInverted ? xMaxIndex - srcColumn : xMinIndex + srcColumn;
+        }
+
+        private int getGridRow(final int srcRow) {
+            final int row = yInverted ? yMaxIndex - srcRow : yMinIndex + srcRow;
+            if (!ring) {
+                return row;
+            }
+            // N.B. 'row' is the ring buffer row, yMinIndex = 0 and yMaxIndex + 1 = capacity
+            final int logicalRow = row - rowOffset;
+            return logicalRow < 0 ? logicalRow + yMaxIndex + 1 : logicalRow;
+        }
+
+        private void invalidateBufferRows(final BitSet bufferRows) {
+            // N.B. ring views are not reduced in y, i.e. image row = source row
+            for (int row = bufferRows.nextSetBit(0); row >= 0 && row <= yMaxIndex; row = bufferRows.nextSetBit(row + 1)) {
+                final int srcRow = yInverted ? yMaxIndex - row : row;
+                final int tileRow = srcRow / TILE_SIZE;
+                Arrays.fill(dataValid, tileRow * nTilesX, (tileRow + 1) * nTilesX, false);
+            }
+        }
+
+        private void invalidateGridRows(final int gridRowMin, final int gridRowMax) {
+            // visible part of the modified grid rows in (unreduced) source row coordinates
+            final int rowMin = Math.max(gridRowMin, yMinIndex);
+            final int rowMax = Math.min(gridRowMax - 1, yMaxIndex);
+            if (rowMin > rowMax) {
+                return;
+            }
+            final int srcMin = yInverted ? yMaxIndex - rowMax : rowMin - yMinIndex;
+            final int srcMax = yInverted ? yMaxIndex - rowMin : rowMax - yMinIndex;
+            // image rows sampling the source rows, N.B. conservative bounds of the fixed-point sampling
+            final int min;
+            final int max;
+            if (reduced) {
+                min = Math.max(0, (int) (((long) (srcMin - yLimit + 1) << 16) / yRatio) - 1);
+                max = Math.min(height - 1, (int) (((long) srcMax << 16) / yRatio) + 1);
+            } else {
+                min = srcMin;
+                max = srcMax;
+            }
+            for (int tileRow = min / TILE_SIZE; tileRow <= max / TILE_SIZE; tileRow++) {
+                Arrays.fill(dataValid, tileRow * nTilesX, (tileRow + 1) * nTilesX, false);
+            }
+        }
+
+        private boolean isColourMapping(final double zMinPixel, final double zRange, final boolean zInverted,
+                final AxisTransform axisTransform, final int nQuant, final int[] lut) {
+            return Double.compare(this.zMinPixel, zMinPixel) == 0 && Double.compare(this.zRange, zRange) == 0
+                    && this.zInverted == zInverted && this.axisTransform == axisTransform && this.nQuant == nQuant && Arrays.equals(this.lut, lut);
+        }
+
+        private boolean matches(final int xMinIndex, final int xMaxIndex, final boolean xInverted, final int yMinIndex,
+                final int yMaxIndex, final boolean yInverted, final int width, final int height, final ReductionType reductionType) {
+            return this.xMinIndex == xMinIndex && this.xMaxIndex == xMaxIndex && this.xInverted == xInverted
+                    && this.yMinIndex == yMinIndex && this.yMaxIndex == yMaxIndex && this.yInverted == yInverted
+                    && this.width == width && this.height == height && this.reductionType == reductionType;
+        }
+
+        private void setRowOffset(final int rowOffset) {
+            this.rowOffset = rowOffset;
+            // stored pixel row of the displayed (top-first) pixel row 'd' is (d + rowShift) % height
+            rowShift = yInverted || rowOffset == 0 ? rowOffset : height - rowOffset;
+        }
+
+        private void setColourMapping(final double zMinPixel, final double zRange, final boolean zInverted,
+                final AxisTransform axisTransform, final int nQuant, final int[] lut) {
+            this.zMinPixel = zMinPixel;
+            this.zRange = zRange;
+            this.zInverted = zInverted;
+            this.axisTransform = axisTransform;
+            this.nQuant = nQuant;
+            this.lut = lut;
+        }
+    }
+}
@@ -407,9 +407,11 @@ public class HistogramRenderer extends AbstractErrorDataSetRendererParameter<His
             final double[] yValues = DoubleArrayCache.getInstance().getArrayExact(nRange);
 
             for (int i = 0; i < nRange; i++) {
-                xValues[i] = xAxis.getDisplayPosition(ds.get(DIM_X, min + i));
-                yValues[i] = yAxis.getDisplayPosition(ds.get(DIM_Y, min + i));
+                xValues[i] = ds.get(DIM_X, min + i);
+                yValues[i] = ds.get(DIM_Y, min + i);
             }
+            xAxis.getDisplayPositions(xValues, 0, nRange, xValues);
+            yAxis.getDisplayPositions(yValues, 0, nRange, yValues);
             BezierCurve.calcCurveControlPoints(xValues, yValues, xCp1, yCp1, xCp2, yCp2, nRange);
 
             gc.save();
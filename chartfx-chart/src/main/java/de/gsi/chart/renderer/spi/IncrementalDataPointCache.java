@@ -0,0 +1,271 @@
+package de.gsi.chart.renderer.spi;
+
+import static de.gsi.dataset.DataSet.DIM_X;
+import static de.gsi.dataset.DataSet.DIM_Y;
+
+import java.util.Arrays;
+
+import de.gsi.chart.axes.Axis;
+import de.gsi.chart.renderer.ErrorStyle;
+import de.gsi.chart.renderer.spi.utils.ScreenSpaceGridIndex;
+import de.gsi.dataset.DataSet;
+import de.gsi.dataset.event.AxisChangeEvent;
+import de.gsi.dataset.event.EventListener;
+import de.gsi.dataset.event.UpdateEvent;
+import de.gsi.dataset.event.UpdatedDataEvent;
+import de.gsi.dataset.spi.AbstractDataSet;
+import de.gsi.dataset.utils.ArrayPool;
+
+/**
+ * package private class implementation of a persistent (frame-to-frame) screen coordinate cache required by the
+ * ErrorDataSetRenderer.
+ * <p>
+ * The screen coordinates of a data set are retained as long as the axis transforms and renderer settings remain
+ * unchanged. Only the index ranges notified via {@link UpdatedDataEvent#getIndexMin()} and
+ * {@link UpdatedDataEvent#getIndexMax()} and indices that have not been computed before (e.g. newly appended samples or
+ * a data range that became visible) are re-transformed. Any other data set event or a change of the data count that is
+ * not covered by a notified index range invalidates the whole cache.
+ * <p>
+ * The notifications are tagged with the data set's modification count (see {@link AbstractDataSet#getVersion()}) and
+ * are retained until the cache is updated from a data set state (e.g. a {@link de.gsi.dataset.spi.DataSetSnapshot})
+ * that is at least as recent. Thus, a modification that is notified after a snapshot has been taken but before the
+ * cache has been updated from it is re-applied in the following frame rather than being lost.
+ *
+ * @author rstein
+ */
+class IncrementalDataPointCache extends CachedDataPoints implements EventListener {
+    private static final int MIN_CAPACITY = 1024;
+    private static final int N_AXIS_STATES = 7;
+    private final Object stateLock = new Object();
+    private final ScreenSpaceGridIndex spatialIndex = new ScreenSpaceGridIndex();
+    private boolean spatialIndexValid;
+    private int drawnMin; // first index of the last drawn range (inclusive)
+    private int drawnMax; // last index of the last drawn range (exclusive)
+    private double[] transformState = new double[0];
+    private double[] lastTransformState = new double[0];
+    private Axis lastXAxis;
+    private Axis lastYAxis;
+    private int capacity;
+    private int cachedDataCount;
+    private int validMin; // first index with valid screen coordinates (inclusive)
+    private int validMax; // last index with valid screen coordinates (exclusive)
+    private int dirtyMin = Integer.MAX_VALUE;
+    private int dirtyMax = Integer.MIN_VALUE;
+    private long dirtyVersion = Long.MIN_VALUE; // latest modification count covered by [dirtyMin, dirtyMax)
+    private boolean invalidated = true;
+    private long invalidatedVersion = Long.MIN_VALUE; // latest modification count of the notified invalidation
+
+    protected void computeScreenCoordinates(final Axis xAxis, final Axis yAxis, final DataSet dataSet,
+            final int dsIndex, final int min, final int max, final ErrorStyle localRendErrorStyle,
+            final boolean isPolarPlot, final boolean doAllowForNaNs, final boolean isParallel) {
+        // N.B. to be called while holding the data set's read lock or with an immutable snapshot
+        final int dataCount = dataSet.getDataCount();
+        final long dataVersion = getVersion(dataSet, Long.MAX_VALUE);
+        setBoundaryConditions(xAxis, yAxis, dataSet, dsIndex, min, max, localRendErrorStyle, isPolarPlot,
+                doAllowForNaNs);
+        final boolean transformChanged = updateTransformState(xAxis, yAxis);
+
+        synchronized (stateLock) {
+            final boolean countChangeNotified = dirtyMin <= cachedDataCount && dirtyMax >= dataCount;
+            if (invalidated || transformChanged || (dataCount != cachedDataCount && !countChangeNotified)) {
+                validMin = 0;
+                validMax = 0;
+            } else if (dirtyMin < dirtyMax) {
+                // drop the modified indices from the valid range
+                if (dirtyMin > validMin) {
+                    validMax = Math.min(validMax, dirtyMin);
+                } else {
+                    validMin = Math.max(validMin, dirtyMax);
+                }
+            }
+            validMax = Math.min(validMax, dataCount);
+            if (validMin >= validMax) {
+                validMin = 0;
+                validMax = 0;
+            }
+            cachedDataCount = dataCount;
+            // N.B. notifications of modifications that are newer than 'dataSet' (e.g. written after the snapshot has
+            // been taken) are retained and re-applied with the next update
+            if (dirtyVersion <= dataVersion) {
+                dirtyMin = Integer.MAX_VALUE;
+                dirtyMax = Integer.MIN_VALUE;
+                dirtyVersion = Long.MIN_VALUE;
+            }
+            if (invalidatedVersion <= dataVersion) {
+                invalidated = false;
+                invalidatedVersion = Long.MIN_VALUE;
+            }
+        }
+
+        ensureCapacity(dataCount);
+        spatialIndexValid = false;
+        drawnMin = min;
+        drawnMax = max;
+        if (validMin >= validMax || max <= validMin || min >= validMax) {
+            // no overlap with previously computed coordinates
+            computeRange(xAxis, yAxis, dataSet, min, max, isParallel);
+            validMin = min;
+            validMax = max;
+            return;
+        }
+
+        if (min < validMin) {
+            computeRange(xAxis, yAxis, dataSet, min, validMin, isParallel);
+        }
+        if (max > validMax) {
+            computeRange(xAxis, yAxis, dataSet, validMax, max, isParallel);
+        }
+        validMin = Math.min(validMin, min);
+        validMax = Math.max(validMax, max);
+    }
+
+    /**
+     * N.B. the index is lazily (re-)built from the screen coordinates of the last drawn index range. To be called
+     * while holding this cache's monitor.
+     *
+     * @return screen-space index of the last drawn data points
+     */
+    public ScreenSpaceGridIndex getSpatialIndex() {
+        if (!spatialIndexValid) {
+            if (capacity == 0) {
+                spatialIndex.clear();
+            } else {
+                spatialIndex.build(xValues, yValues, drawnMin, drawnMax);
+            }
+            spatialIndexValid = true;
+        }
+        return spatialIndex;
+    }
+
+    @Override
+    public void handle(final UpdateEvent event) {
+        if (event instanceof AxisChangeEvent) {
+            // data set axis range/name changes do not modify the data points
+            return;
+        }
+        // N.B. the source's modification count has already been incremented for the notified change
+        final long version = getVersion(event.getSource(), Long.MIN_VALUE);
+        synchronized (stateLock) {
+            if (event instanceof UpdatedDataEvent) {
+                final UpdatedDataEvent dataEvent = (UpdatedDataEvent) event;
+                dirtyMin = Math.min(dirtyMin, dataEvent.getIndexMin());
+                dirtyMax = Math.max(dirtyMax, dataEvent.getIndexMax());
+                dirtyVersion = Math.max(dirtyVersion, version);
+                return;
+            }
+            invalidated = true;
+            invalidatedVersion = Math.max(invalidatedVersion, version);
+        }
+    }
+
+    /**
+     * invalidates all cached screen coordinates
+     */
+    public void invalidate() {
+        synchronized (stateLock) {
+            invalidated = true;
+        }
+    }
+
+    @Override
+    public void release() {
+        if (capacity == 0) {
+            return;
+        }
+        ArrayPool.getDoublePool().release(xValues);
+        ArrayPool.getDoublePool().release(yValues);
+        ArrayPool.getDoublePool().release(errorYNeg);
+        ArrayPool.getDoublePool().release(errorYPos);
+        ArrayPool.getDoublePool().release(errorXNeg);
+        ArrayPool.getDoublePool().release(errorXPos);
+        xValues = null;
+        yValues = null;
+        errorYNeg = null;
+        errorYPos = null;
+        errorXNeg = null;
+        errorXPos = null;
+        styles = null;
+        selected = null;
+        capacity = 0;
+        spatialIndex.clear();
+        spatialIndexValid = true;
+        invalidate();
+    }
+
+    private void computeRange(final Axis xAxis, final Axis yAxis, final DataSet dataSet, final int min,
+            final int max, final boolean isParallel) {
+        if (isParallel) {
+            computeScreenCoordinatesParallel(xAxis, yAxis, dataSet, min, max);
+        } else {
+            computeScreenCoordinatesNonThreaded(xAxis, yAxis, dataSet, min, max);
+        }
+    }
+
+    private void ensureCapacity(final int dataCount) {
+        if (dataCount <= capacity) {
+            return;
+        }
+        // grow geometrically (power-of-two pool size classes) to amortise the copying for continuously appended data
+        final int newCapacity = 1 << ArrayPool.getSizeClass(Math.max(MIN_CAPACITY, dataCount));
+        xValues = grow(xValues, newCapacity);
+        yValues = grow(yValues, newCapacity);
+        errorYNeg = grow(errorYNeg, newCapacity);
+        errorYPos = grow(errorYPos, newCapacity);
+        errorXNeg = grow(errorXNeg, newCapacity);
+        errorXPos = grow(errorXPos, newCapacity);
+        styles = styles == null ? new String[newCapacity] : Arrays.copyOf(styles, newCapacity);
+        selected = selected == null ? new boolean[newCapacity] : Arrays.copyOf(selected, newCapacity);
+        capacity = newCapacity;
+    }
+
+    private boolean updateTransformState(final Axis xAxis, final Axis yAxis) {
+        if (transformState.length != 2 * N_AXIS_STATES + 4) {
+            transformState = new double[2 * N_AXIS_STATES + 4];
+        }
+        setAxisState(transformState, 0, xAxis);
+        setAxisState(transformState, N_AXIS_STATES, yAxis);
+        transformState[2 * N_AXIS_STATES] = rendererErrorStyle.ordinal();
+        transformState[2 * N_AXIS_STATES + 1] = (polarPlot ? 1 : 0) + (allowForNaNs ? 2 : 0);
+        transformState[2 * N_AXIS_STATES + 2] = errorType[DIM_X].ordinal();
+        transformState[2 * N_AXIS_STATES + 3] = errorType[DIM_Y].ordinal();
+
+        if (xAxis == lastXAxis && yAxis == lastYAxis && Arrays.equals(transformState, lastTransformState)) {
+            return false;
+        }
+        lastXAxis = xAxis;
+        lastYAxis = yAxis;
+        final double[] swap = lastTransformState;
+        lastTransformState = transformState;
+        transformState = swap;
+        return true;
+    }
+
+    /**
+     * @param source the data set (or other event source)
+     * @param defaultVersion the value returned if the source does not provide a modification count
+     * @return modification count of the source (see {@link AbstractDataSet#getVersion()})
+     */
+    private static long getVersion(final Object source, final long defaultVersion) {
+        return source instanceof AbstractDataSet ? ((AbstractDataSet<?>) source).getVersion() : defaultVersion;
+    }
+
+    private static double[] grow(final double[] array, final int newCapacity) {
+        final double[] newArray = ArrayPool.getDoublePool().getArray(newCapacity);
+        if (array != null) {
+            System.arraycopy(array, 0, newArray, 0, array.length);
+            ArrayPool.getDoublePool().release(array);
+        }
+        return newArray;
+    }
+
+    private static void setAxisState(final double[] state, final int offset, final Axis axis) {
+        state[offset] = axis.getMin();
+        state[offset + 1] = axis.getMax();
+        state[offset + 2] = axis.getLength();
+        state[offset + 3] = (axis.isInvertedAxis() ? 1 : 0) + (axis.isLogAxis() ? 2 : 0);
+        // N.B. sampled transform guards against transform parameters not covered by the min/max/length state above
+        state[offset + 4] = axis.getDisplayPosition(axis.getMin());
+        state[offset + 5] = axis.getDisplayPosition(axis.getMax());
+        state[offset + 6] = axis.getDisplayPosition(0.5 * (axis.getMin() + axis.getMax()));
+    }
+}
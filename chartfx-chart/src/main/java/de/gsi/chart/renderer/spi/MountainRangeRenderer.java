@@ -9,6 +9,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.WeakHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import javafx.beans.property.DoubleProperty;
@@ -178,7 +179,7 @@ public class MountainRangeRenderer extends ErrorDataSetRenderer implements Rende
         private final double zMin;
         private final double zMax;
         private final double yShift;
-        private final transient List<EventListener> updateListener = new ArrayList<>();
+        private final transient List<EventListener> updateListener = new CopyOnWriteArrayList<>();
         private final transient List<AxisDescription> axesDescriptions = new ArrayList<>(Arrays.asList( //
                 new DefaultAxisDescription(DIM_X, "x-Axis", "a.u."), //
                 new DefaultAxisDescription(DIM_Y, "y-Axis", "a.u.")));
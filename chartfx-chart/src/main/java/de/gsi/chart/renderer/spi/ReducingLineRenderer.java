@@ -22,14 +22,18 @@ import de.gsi.chart.axes.spi.CategoryAxis;
 import de.gsi.chart.renderer.Renderer;
 import de.gsi.chart.renderer.spi.utils.DefaultRenderColorScheme;
 import de.gsi.dataset.DataSet;
+import de.gsi.dataset.spi.MultiResolutionDataSet;
 import de.gsi.dataset.utils.ProcessingProfiler;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+
 /**
  * Simple, uncomplicated reducing line renderer
  * 
  * @author braeun
  */
 public class ReducingLineRenderer extends AbstractDataSetManagement<ReducingLineRenderer> implements Renderer {
+    private final IntArrayList reducedIndices = new IntArrayList();
     private int maxPoints;
 
     public ReducingLineRenderer() {
@@ -80,7 +84,7 @@ public class ReducingLineRenderer extends AbstractDataSetManagement<ReducingLine
         List<DataSet> drawnDataSet = new ArrayList<>(localDataSetList.size());
         for (final DataSet ds : localDataSetList) {
             final int lindex = index;
-            ds.lock().readLockGuardOptimistic(() -> {
+            final Runnable drawDataSet = () -> {
                 // update categories in case of category axes for the first
                 // (index == '0') indexed data set
                 if (lindex == 0) {
@@ -98,7 +102,11 @@ public class ReducingLineRenderer extends AbstractDataSetManagement<ReducingLine
                 gc.save();
                 DefaultRenderColorScheme.setLineScheme(gc, ds.getStyle(), lindex);
                 DefaultRenderColorScheme.setGraphicsContextAttributes(gc, ds.getStyle());
-                if (ds.getDataCount() > 0) {
+                if (ds instanceof MultiResolutionDataSet) {
+                    // level-of-detail reduction: O(pixels) rather than O(samples)
+                    final int nBuckets = Math.max(1, Math.min(maxPoints, (int) Math.ceil(xAxisWidth)));
+                    drawReducedIndices(gc, xAxis, yAxis, (MultiResolutionDataSet) ds, xmin, xmax, nBuckets);
+                } else if (ds.getDataCount() > 0) {
                     final int indexMin = Math.max(0, ds.getIndex(DIM_X, xmin));
                     final int indexMax = Math.min(ds.getIndex(DIM_X, xmax) + 1, ds.getDataCount());
                     final int n = Math.abs(indexMax - indexMin);
@@ -154,7 +162,13 @@ public class ReducingLineRenderer extends AbstractDataSetManagement<ReducingLine
                     }
                 }
                 gc.restore();
-            });
+            };
+            if (ds instanceof MultiResolutionDataSet) {
+                // N.B. the level-of-detail pyramid must not be read optimistically
+                ds.lock().readLockGuard(drawDataSet);
+            } else {
+                ds.lock().readLockGuardOptimistic(drawDataSet);
+            }
             index++;
         }
         ProcessingProfiler.getTimeDiff(start);
@@ -162,6 +176,25 @@ public class ReducingLineRenderer extends AbstractDataSetManagement<ReducingLine
         return drawnDataSet;
     }
 
+    private void drawReducedIndices(final GraphicsContext gc, final Axis xAxis, final Axis yAxis,
+            final MultiResolutionDataSet ds, final double xmin, final double xmax, final int nBuckets) {
+        ds.getReducedIndices(xmin, xmax, nBuckets, reducedIndices);
+        if (reducedIndices.size() < 2) {
+            return;
+        }
+        int index = reducedIndices.getInt(0);
+        double x0 = xAxis.getDisplayPosition(ds.get(DIM_X, index));
+        double y0 = yAxis.getDisplayPosition(ds.get(DIM_Y, index));
+        for (int i = 1; i < reducedIndices.size(); i++) {
+            index = reducedIndices.getInt(i);
+            final double x1 = xAxis.getDisplayPosition(ds.get(DIM_X, index));
+            final double y1 = yAxis.getDisplayPosition(ds.get(DIM_Y, index));
+            gc.strokeLine(x0, y0, x1, y1);
+            x0 = x1;
+            y0 = y1;
+        }
+    }
+
     public void setMaxPoints(final int maxPoints) {
         this.maxPoints = maxPoints;
     }
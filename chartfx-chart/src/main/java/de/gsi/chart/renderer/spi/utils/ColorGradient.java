@@ -14,6 +14,8 @@ import javafx.scene.paint.CycleMethod;
 import javafx.scene.paint.LinearGradient;
 import javafx.scene.paint.Stop;
 
+import de.gsi.dataset.utils.AssertUtils;
+
 /**
  * @author braeun
  */
@@ -112,6 +114,7 @@ public class ColorGradient {
     private final String name;
     private final WeakHashMap<Double, Color> colorMap = new WeakHashMap<>();
     private final WeakHashMap<Double, int[]> colorMapBytes = new WeakHashMap<>();
+    private volatile int[] colorLut = new int[0]; // NOPMD -- replaced atomically, never modified after publication
 
     /**
      * Creates a new instance of ColorGradient.**
@@ -234,6 +237,33 @@ public class ColorGradient {
         });
     }
 
+    /**
+     * Returns a pre-computed look-up table of the gradient's colours quantised to {@code nLevels} levels, i.e. entry
+     * {@code k} contains the colour of offset {@code k / nLevels} as packed (non-premultiplied) 32-bit ARGB integer.
+     * The table is identical to {@link #getColorBytes(double)} for the same offsets but allows colour-mapping of large
+     * images without boxing or per-pixel look-ups.
+     * <p>
+     * N.B. The table of the last requested quantisation is cached. The returned array is shared and must not be
+     * modified.
+     *
+     * @param nLevels number of quantisation levels (N.B. table size is {@code nLevels + 1})
+     * @return ARGB colour look-up table
+     */
+    public int[] getColorLut(final int nLevels) {
+        AssertUtils.gtThanZero("nLevels", nLevels);
+        final int[] lut = colorLut;
+        if (lut.length == nLevels + 1) {
+            return lut;
+        }
+        final int[] newLut = new int[nLevels + 1];
+        for (int k = 0; k <= nLevels; k++) {
+            final int[] color = getColorBytes(k / (double) nLevels);
+            newLut[k] = (color[0] << 24) | (color[1] << 16) | (color[2] << 8) | color[3];
+        }
+        colorLut = newLut;
+        return newLut;
+    }
+
     /**
      * Returns the gradient stops.
      *
@@ -0,0 +1,202 @@
+package de.gsi.chart.renderer.spi.utils;
+
+import java.util.Arrays;
+
+/**
+ * Screen-space uniform grid index of data point coordinates for fast nearest-point picking (e.g. for tool tips).
+ * <p>
+ * The index is built in O(n) (counting sort by grid cell) from the screen coordinates that have already been computed
+ * by the renderer and is meant to be reused until the next redraw. The cell size is adapted to the point density (about
+ * four points per cell on average) so that {@link #findNearest(double, double, double)} only visits the few cells
+ * overlapping the picking radius. Internal arrays are retained between builds, thus neither re-building (for similar
+ * data sizes) nor picking allocates.
+ * <p>
+ * N.B. this class is not thread-safe.
+ *
+ * @author rstein
+ */
+public class ScreenSpaceGridIndex {
+    private static final double MIN_CELL_SIZE = 1.0; // [pixel]
+    private static final double MAX_CELL_SIZE = 64.0; // [pixel]
+    private static final int POINTS_PER_CELL = 4;
+    private static final int MIN_CELL_COUNT = 1024;
+    private int[] cellStart = new int[0];
+    private int[] pointIndex = new int[0];
+    private double[] pointX = new double[0];
+    private double[] pointY = new double[0];
+    private int nPoints;
+    private int nCellsX;
+    private int nCellsY;
+    private double minX;
+    private double minY;
+    private double cellSize = 1.0;
+    private double lastDistance = Double.NaN;
+
+    /**
+     * (Re-)builds the index from the given screen coordinates. Points with non-finite coordinates are ignored.
+     *
+     * @param xValues horizontal screen coordinates
+     * @param yValues vertical screen coordinates
+     * @param indexMin first data point index (inclusive)
+     * @param indexMax last data point index (exclusive)
+     */
+    public void build(final double[] xValues, final double[] yValues, final int indexMin, final int indexMax) {
+        // compute screen bounds of valid points
+        double xMin = Double.POSITIVE_INFINITY;
+        double xMax = Double.NEGATIVE_INFINITY;
+        double yMin = Double.POSITIVE_INFINITY;
+        double yMax = Double.NEGATIVE_INFINITY;
+        int nValid = 0;
+        for (int i = indexMin; i < indexMax; i++) {
+            final double x = xValues[i];
+            final double y = yValues[i];
+            if (Double.isFinite(x) && Double.isFinite(y)) {
+                xMin = Math.min(xMin, x);
+                xMax = Math.max(xMax, x);
+                yMin = Math.min(yMin, y);
+                yMax = Math.max(yMax, y);
+                nValid++;
+            }
+        }
+        nPoints = nValid;
+        if (nValid == 0) {
+            nCellsX = 0;
+            nCellsY = 0;
+            return;
+        }
+
+        final double area = Math.max(1.0, (xMax - xMin) * (yMax - yMin));
+        cellSize = Math.min(MAX_CELL_SIZE, Math.max(MIN_CELL_SIZE, Math.sqrt(area * POINTS_PER_CELL / nValid)));
+        // limit the number of cells (N.B. screen coordinates of invisible points may be far outside the canvas)
+        final double maxCellsPerAxis = Math.floor(Math.sqrt(Math.max(MIN_CELL_COUNT, POINTS_PER_CELL * (double) nValid)));
+        cellSize = Math.max(cellSize, Math.max(xMax - xMin, yMax - yMin) / maxCellsPerAxis);
+        minX = xMin;
+        minY = yMin;
+        nCellsX = (int) ((xMax - xMin) / cellSize) + 1;
+        nCellsY = (int) ((yMax - yMin) / cellSize) + 1;
+        final int nCells = nCellsX * nCellsY;
+
+        cellStart = ensureCapacity(cellStart, nCells + 1);
+        pointIndex = ensureCapacity(pointIndex, nValid);
+        pointX = ensureCapacity(pointX, nValid);
+        pointY = ensureCapacity(pointY, nValid);
+
+        // counting sort of the points by cell: histogram, prefix sum, scatter
+        Arrays.fill(cellStart, 0, nCells + 1, 0);
+        for (int i = indexMin; i < indexMax; i++) {
+            if (Double.isFinite(xValues[i]) && Double.isFinite(yValues[i])) {
+                cellStart[getCell(xValues[i], yValues[i]) + 1]++;
+            }
+        }
+        for (int cell = 0; cell < nCells; cell++) {
+            cellStart[cell + 1] += cellStart[cell];
+        }
+        for (int i = indexMin; i < indexMax; i++) {
+            final double x = xValues[i];
+            final double y = yValues[i];
+            if (Double.isFinite(x) && Double.isFinite(y)) {
+                // N.B. uses cellStart[cell] as insertion cursor, restored below
+                final int pos = cellStart[getCell(x, y)]++;
+                pointIndex[pos] = i;
+                pointX[pos] = x;
+                pointY[pos] = y;
+            }
+        }
+        System.arraycopy(cellStart, 0, cellStart, 1, nCells);
+        cellStart[0] = 0;
+    }
+
+    /**
+     * removes all points from the index
+     */
+    public void clear() {
+        nPoints = 0;
+        nCellsX = 0;
+        nCellsY = 0;
+    }
+
+    /**
+     * @param x horizontal screen coordinate
+     * @param y vertical screen coordinate
+     * @param maxDistance maximum distance from (x,y)
+     * @return data point index of the nearest point within 'maxDistance' or '-1' if there is none (N.B. the distance is
+     *         available via {@link #getLastDistance()})
+     */
+    public int findNearest(final double x, final double y, final double maxDistance) {
+        lastDistance = Double.NaN;
+        if (nPoints == 0 || !(maxDistance >= 0)) {
+            return -1;
+        }
+        final int cellXMin = Math.max(0, (int) Math.floor((x - maxDistance - minX) / cellSize));
+        final int cellXMax = Math.min(nCellsX - 1, (int) Math.floor((x + maxDistance - minX) / cellSize));
+        final int cellYMin = Math.max(0, (int) Math.floor((y - maxDistance - minY) / cellSize));
+        final int cellYMax = Math.min(nCellsY - 1, (int) Math.floor((y + maxDistance - minY) / cellSize));
+        if (cellXMin > cellXMax || cellYMin > cellYMax) {
+            return -1;
+        }
+
+        int nearest = -1;
+        double minDistance2 = maxDistance * maxDistance;
+        for (int cellY = cellYMin; cellY <= cellYMax; cellY++) {
+            final int rowOffset = cellY * nCellsX;
+            final int start = cellStart[rowOffset + cellXMin];
+            final int stop = cellStart[rowOffset + cellXMax + 1]; // N.B. cells of one row are contiguous
+            for (int pos = start; pos < stop; pos++) {
+                final double dx = pointX[pos] - x;
+                final double dy = pointY[pos] - y;
+                final double distance2 = dx * dx + dy * dy;
+                if (distance2 < minDistance2 || (distance2 == minDistance2 && (nearest < 0 || pointIndex[pos] < nearest))) {
+                    minDistance2 = distance2;
+                    nearest = pointIndex[pos];
+                }
+            }
+        }
+        if (nearest >= 0) {
+            lastDistance = Math.sqrt(minDistance2);
+        }
+        return nearest;
+    }
+
+    /**
+     * @return size of the (square) grid cells in screen coordinates
+     */
+    public double getCellSize() {
+        return cellSize;
+    }
+
+    /**
+     * @return screen distance of the point found by the last {@link #findNearest(double, double, double)} call or NaN
+     *         if none has been found
+     */
+    public double getLastDistance() {
+        return lastDistance;
+    }
+
+    /**
+     * @return {@code true} if the index does not contain any point
+     */
+    public boolean isEmpty() {
+        return nPoints == 0;
+    }
+
+    /**
+     * @return number of indexed points
+     */
+    public int size() {
+        return nPoints;
+    }
+
+    private int getCell(final double x, final double y) {
+        final int cellX = Math.min(nCellsX - 1, (int) ((x - minX) / cellSize));
+        final int cellY = Math.min(nCellsY - 1, (int) ((y - minY) / cellSize));
+        return cellY * nCellsX + cellX;
+    }
+
+    private static double[] ensureCapacity(final double[] array, final int size) {
+        return array.length >= size ? array : new double[size];
+    }
+
+    private static int[] ensureCapacity(final int[] array, final int size) {
+        return array.length >= size ? array : new int[size];
+    }
+}
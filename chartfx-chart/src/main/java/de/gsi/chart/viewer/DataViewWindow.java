@@ -1,9 +1,8 @@
 package de.gsi.chart.viewer;
 
-import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
 
@@ -81,7 +80,7 @@ public class DataViewWindow extends BorderPane implements EventSource {
     protected transient boolean parallelListeners = false;
     private final transient AtomicBoolean autoNotification = new AtomicBoolean(true);
     private final transient AtomicBoolean updatingStage = new AtomicBoolean(false);
-    private final transient List<EventListener> updateListeners = Collections.synchronizedList(new LinkedList<>());
+    private final transient List<EventListener> updateListeners = new CopyOnWriteArrayList<>();
 
     private final StringProperty name = new SimpleStringProperty(this, "name", "");
     private final HBox leftButtons = new HBox();
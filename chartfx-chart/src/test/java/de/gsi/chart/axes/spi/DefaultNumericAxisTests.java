@@ -1,5 +1,6 @@
 package de.gsi.chart.axes.spi;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -9,7 +10,9 @@ import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import de.gsi.chart.axes.Axis;
 import de.gsi.chart.axes.LogAxisType;
+import de.gsi.chart.ui.geometry.Side;
 
 /**
  * @author rstein
@@ -89,4 +92,76 @@ public class DefaultNumericAxisTests {
         axis.updateCachedVariables();
         axis.calculateMinorTickValues();
     }
+
+    @Test
+    public void displayPositionsTests() {
+        final DefaultNumericAxis axis = new DefaultNumericAxis("axis name", 0.1, +10, 1.0);
+        axis.resize(1000, 50);
+        for (final Side side : new Side[] { Side.BOTTOM, Side.LEFT }) {
+            axis.setSide(side);
+            for (final boolean logAxis : new boolean[] { false, true }) {
+                axis.setLogAxis(logAxis);
+                for (final boolean inverted : new boolean[] { false, true }) {
+                    axis.isInvertedAxis = inverted; // N.B. bypasses the invertAxis listener requiring the FX thread
+                    axis.updateCachedVariables();
+                    assertDisplayPositions(axis);
+                }
+            }
+        }
+
+        final LogarithmicAxis logAxis = new LogarithmicAxis(0.1, 1000, 1.0);
+        logAxis.resize(1000, 50);
+        logAxis.updateCachedVariables();
+        assertDisplayPositions(logAxis);
+
+        final LinearAxis linearAxis = new LinearAxis(-10, +10, 1.0);
+        linearAxis.resize(1000, 50);
+        linearAxis.updateCachedVariables();
+        assertDisplayPositions(linearAxis);
+
+        final OscilloscopeAxis oscilloscopeAxis = new OscilloscopeAxis("axis name", -10, +10, 1.0);
+        oscilloscopeAxis.resize(1000, 50);
+        oscilloscopeAxis.updateCachedVariables();
+        assertDisplayPositions(oscilloscopeAxis);
+
+        // derived axes overriding only the scalar transform must not be bypassed by the bulk kernels
+        final DefaultNumericAxis customAxis = new DefaultNumericAxis("axis name", 0.1, +10, 1.0) {
+            @Override
+            public double getDisplayPosition(final double value) {
+                return 2.0 * super.getDisplayPosition(value) + 1.0;
+            }
+        };
+        customAxis.resize(1000, 50);
+        customAxis.updateCachedVariables();
+        assertFalse(customAxis.isLinearTransform());
+        assertDisplayPositions(customAxis);
+        assertTrue(linearAxis.isLinearTransform());
+
+        final LinearAxis customLinearAxis = new LinearAxis(-10, +10, 1.0) {
+            @Override
+            public double getDisplayPosition(final double value) {
+                return -super.getDisplayPosition(value);
+            }
+        };
+        customLinearAxis.resize(1000, 50);
+        customLinearAxis.updateCachedVariables();
+        assertFalse(customLinearAxis.isLinearTransform());
+        assertDisplayPositions(customLinearAxis);
+    }
+
+    private static void assertDisplayPositions(final Axis axis) {
+        final double[] values = { -20.0, -1.0, 0.0, 0.1, 0.5, 1.0, 2.5, 9.9, 10.0, 1000.0, Double.NaN };
+        final double[] expected = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            expected[i] = axis.getDisplayPosition(values[i]);
+        }
+        assertArrayEquals(expected, axis.getDisplayPositions(values, 0, values.length, new double[values.length]));
+
+        // sub-range and in-place transform
+        final double[] inPlace = values.clone();
+        axis.getDisplayPositions(inPlace, 2, 5, inPlace);
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(i >= 2 && i < 5 ? expected[i] : values[i], inPlace[i]);
+        }
+    }
 }
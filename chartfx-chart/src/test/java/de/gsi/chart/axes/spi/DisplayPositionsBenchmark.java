@@ -0,0 +1,72 @@
+package de.gsi.chart.axes.spi;
+
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import de.gsi.chart.axes.Axis;
+
+/**
+ * Benchmark comparing the scalar {@link Axis#getDisplayPosition(double)} with the bulk
+ * {@link Axis#getDisplayPositions(double[], int, int, double[])} transform of 1M data values for linear and logarithmic
+ * axes.
+ *
+ * @author rstein
+ */
+@State(Scope.Benchmark)
+public class DisplayPositionsBenchmark {
+    private static final int N_SAMPLES = 1_000_000;
+    private final double[] values = new double[N_SAMPLES];
+    private final double[] displayPositions = new double[N_SAMPLES];
+    private Axis axis;
+
+    @Param({ "linear", "log", "logarithmicAxis" })
+    private String axisType;
+
+    @Setup
+    public void setup() {
+        final Random rnd = new Random(42);
+        for (int i = 0; i < N_SAMPLES; i++) {
+            values[i] = 0.1 + 99.9 * rnd.nextDouble();
+        }
+        if ("logarithmicAxis".equals(axisType)) {
+            final LogarithmicAxis logarithmicAxis = new LogarithmicAxis(0.1, 100.0, 1.0);
+            logarithmicAxis.resize(1000, 50);
+            axis = logarithmicAxis;
+            return;
+        }
+        final DefaultNumericAxis numericAxis = new DefaultNumericAxis("benchmark axis", 0.1, 100.0, 1.0);
+        numericAxis.resize(1000, 50);
+        numericAxis.setLogAxis("log".equals(axisType));
+        numericAxis.updateCachedVariables();
+        axis = numericAxis;
+    }
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2)
+    public void scalar(Blackhole blackhole) {
+        for (int i = 0; i < N_SAMPLES; i++) {
+            displayPositions[i] = axis.getDisplayPosition(values[i]);
+        }
+        blackhole.consume(displayPositions);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2)
+    public void bulk(Blackhole blackhole) {
+        blackhole.consume(axis.getDisplayPositions(values, 0, N_SAMPLES, displayPositions));
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+}
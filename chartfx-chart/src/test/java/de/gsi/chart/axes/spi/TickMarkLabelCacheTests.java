@@ -0,0 +1,66 @@
+package de.gsi.chart.axes.spi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javafx.scene.text.Font;
+
+import org.junit.jupiter.api.Test;
+
+import de.gsi.chart.axes.spi.format.DefaultFormatter;
+import de.gsi.chart.axes.spi.format.SimpleFormatter;
+
+/**
+ * @author rstein
+ */
+public class TickMarkLabelCacheTests {
+    @Test
+    public void labelCacheTests() {
+        assertThrows(IllegalArgumentException.class, () -> new TickMarkLabelCache(0));
+        final TickMarkLabelCache cache = new TickMarkLabelCache(3);
+        assertThrows(IllegalArgumentException.class, () -> cache.put(1.0, DefaultFormatter.class, null, "1.0"));
+
+        final String label = "1.0";
+        cache.put(1.0, DefaultFormatter.class, "%.1f", label);
+        assertSame(label, cache.get(1.0, DefaultFormatter.class, "%.1f"));
+        assertNull(cache.get(1.0, DefaultFormatter.class, "%.2f"), "different format");
+        assertNull(cache.get(2.0, DefaultFormatter.class, "%.1f"), "different value");
+        assertNull(cache.get(1.0, SimpleFormatter.class, "%.1f"), "same format key of a different formatter class");
+        assertThrows(IllegalArgumentException.class, () -> cache.put(1.0, null, "%.1f", "1.0"));
+
+        // least-recently-used entry is evicted
+        cache.put(2.0, DefaultFormatter.class, "%.1f", "2.0");
+        cache.put(3.0, DefaultFormatter.class, "%.1f", "3.0");
+        assertSame(label, cache.get(1.0, DefaultFormatter.class, "%.1f"));
+        cache.put(4.0, DefaultFormatter.class, "%.1f", "4.0");
+        assertEquals(3, cache.size());
+        assertNull(cache.get(2.0, DefaultFormatter.class, "%.1f"));
+        assertSame(label, cache.get(1.0, DefaultFormatter.class, "%.1f"));
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertNull(cache.get(1.0, DefaultFormatter.class, "%.1f"));
+    }
+
+    @Test
+    public void labelBoundsTests() {
+        final Font font = Font.font(10);
+        final double width = TickMarkLabelCache.getLabelWidth("label", font, 0.0);
+        final double height = TickMarkLabelCache.getLabelHeight("label", font, 0.0);
+        assertTrue(width > 0);
+        assertTrue(height > 0);
+        assertEquals(width, TickMarkLabelCache.getLabelWidth("label", font, 0.0));
+        assertTrue(TickMarkLabelCache.getLabelWidth("longer label", font, 0.0) > width);
+        assertTrue(TickMarkLabelCache.getLabelWidth("label", Font.font(20), 0.0) > width);
+
+        // rotated bounding boxes
+        assertEquals(height, TickMarkLabelCache.getLabelWidth("label", font, 90.0), 1e-9);
+        assertEquals(width, TickMarkLabelCache.getLabelHeight("label", font, 90.0), 1e-9);
+        final double diagonal = (width + height) * Math.sqrt(0.5);
+        assertEquals(diagonal, TickMarkLabelCache.getLabelWidth("label", font, 45.0), 1e-9);
+        assertEquals(diagonal, TickMarkLabelCache.getLabelHeight("label", font, 45.0), 1e-9);
+    }
+}
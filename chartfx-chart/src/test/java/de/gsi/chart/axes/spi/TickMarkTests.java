@@ -130,8 +130,22 @@ public class TickMarkTests {
     public void tickMarkPropertyTests() {
         TickMark tickMark = new TickMark(Side.TOP, 0.0, 0.0, 0.0, "label");
 
-        assertDoesNotThrow(() -> tickMark.fontProperty().set(Font.font(20)));
-        assertDoesNotThrow(() -> tickMark.fillProperty().set(Color.BLUE));
-        assertDoesNotThrow(() -> tickMark.visibleProperty().set(false));
+        final double width = tickMark.getWidth();
+        assertDoesNotThrow(() -> tickMark.setFont(Font.font(20)));
+        assertEquals(Font.font(20), tickMark.getFont());
+        assertTrue(tickMark.getWidth() > width, "label bounds are re-measured for the new font");
+        assertDoesNotThrow(() -> tickMark.setFill(Color.BLUE));
+        assertEquals(Color.BLUE, tickMark.getFill());
+        assertDoesNotThrow(() -> tickMark.setVisible(false));
+        assertFalse(tickMark.isVisible());
+
+        tickMark.setOpacity(0.5);
+        assertEquals(0.5, tickMark.getOpacity());
+        tickMark.opacityProperty().set(0.25);
+        assertEquals(0.25, tickMark.getOpacity());
+
+        tickMark.setText("longer label");
+        assertEquals("longer label", tickMark.getText());
+        assertTrue(tickMark.getWidth() > width);
     }
 }
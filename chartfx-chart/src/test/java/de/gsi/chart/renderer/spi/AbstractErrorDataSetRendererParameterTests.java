@@ -66,6 +66,11 @@ public class AbstractErrorDataSetRendererParameterTests {
         renderer.setDrawMarker(false);
         assertFalse(renderer.isDrawMarker());
 
+        renderer.setParallelDataSetProcessing(true);
+        assertTrue(renderer.isParallelDataSetProcessing());
+        renderer.setParallelDataSetProcessing(false);
+        assertFalse(renderer.isParallelDataSetProcessing());
+
         renderer.setDynamicBarWidth(true);
         assertTrue(renderer.isDynamicBarWidth());
         renderer.setDynamicBarWidth(false);
@@ -90,6 +90,9 @@ public class ErrorDataSetRendererTests {
         testRenderer(lineStyle);
         renderer.setPointReduction(true);
         testRenderer(lineStyle);
+        renderer.setParallelDataSetProcessing(true);
+        testRenderer(lineStyle);
+        renderer.setParallelDataSetProcessing(false);
         renderer.setDrawMarker(false);
         testRenderer(lineStyle);
         renderer.setDrawBubbles(true);
@@ -0,0 +1,214 @@
+package de.gsi.chart.renderer.spi;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import static de.gsi.dataset.DataSet.DIM_Z;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import de.gsi.chart.axes.AxisTransform;
+import de.gsi.chart.axes.spi.DefaultNumericAxis;
+import de.gsi.chart.renderer.datareduction.DefaultDataReducer3D;
+import de.gsi.chart.renderer.datareduction.ReductionType;
+import de.gsi.chart.renderer.spi.utils.ColorGradient;
+import de.gsi.dataset.GridDataSet;
+import de.gsi.dataset.event.AddedDataEvent;
+import de.gsi.dataset.event.UpdatedMetaDataEvent;
+import de.gsi.dataset.spi.CircularDoubleGridDataSet;
+import de.gsi.dataset.spi.DataRange;
+import de.gsi.dataset.spi.DoubleGridDataSet;
+
+/**
+ * Tests the tiled heat-map raster against the copy, reduce, quantise and colour-map pipeline of ContourDataSetCache
+ *
+ * @author rstein
+ */
+public class HeatMapTileCacheTests {
+    private static final int N_X = 300;
+    private static final int N_Y = 200;
+    private static final int N_QUANT = 20;
+    private static final ColorGradient GRADIENT = ColorGradient.VIRIDIS;
+    private static final AxisTransform TRANSFORM = new DefaultNumericAxis("z").getAxisTransform();
+
+    @Test
+    public void testConstructor() {
+        assertThrows(IllegalArgumentException.class, () -> new HeatMapTileCache(0));
+        final HeatMapTileCache cache = new HeatMapTileCache();
+        assertEquals(0, cache.getWidth());
+        assertEquals(0, cache.getHeight());
+        assertEquals(0, cache.getPixels().length);
+        assertEquals(false, cache.getRange().isDefined());
+    }
+
+    @Test
+    public void testIdenticalToReferencePipeline() {
+        final DoubleGridDataSet dataSet = getTestDataSet();
+        final HeatMapTileCache cache = new HeatMapTileCache();
+        dataSet.addListener(cache);
+
+        for (final ReductionType reductionType : ReductionType.values()) {
+            for (int inverted = 0; inverted < 4; inverted++) {
+                final boolean xInverted = (inverted & 1) != 0;
+                final boolean yInverted = (inverted & 2) != 0;
+                for (final int[] size : new int[][] { { 251, 171 }, { 125, 85 }, { 60, 160 } }) {
+                    final String msg = reductionType + " inverted = " + inverted + " size = " + Arrays.toString(size);
+                    cache.computeData(dataSet, 20, 270, xInverted, 10, 180, yInverted, size[0], size[1], reductionType, true);
+                    final double[] reference = getReferenceValues(dataSet, 20, 270, xInverted, 10, 180, yInverted, size[0], size[1], reductionType);
+                    final DataRange range = ContourDataSetCache.computeLocalRange(reference, size[0], size[1], true);
+                    assertEquals(range.getMin(), cache.getRange().getMin(), msg);
+                    assertEquals(range.getMax(), cache.getRange().getMax(), msg);
+
+                    cache.computeColours(range.getMin(), range.getMax(), yInverted, TRANSFORM, N_QUANT, GRADIENT, true);
+                    assertEquals(size[0], cache.getWidth(), msg);
+                    assertEquals(size[1], cache.getHeight(), msg);
+                    assertArrayEquals(getReferencePixels(reference, size[0], size[1], range, yInverted), cache.getPixels(), msg);
+                }
+            }
+        }
+        assertEquals(HeatMapTileCache.DEFAULT_VIEW_CAPACITY, cache.getViewCount());
+    }
+
+    @Test
+    public void testIncrementalUpdates() {
+        final DoubleGridDataSet dataSet = getTestDataSet();
+        final HeatMapTileCache cache = new HeatMapTileCache();
+        dataSet.addListener(cache);
+        final int nTiles = 3 * 2; // 300 x 200 pixel with 128 pixel tiles
+
+        cache.computeData(dataSet, 0, N_X - 1, false, 0, N_Y - 1, false, N_X, N_Y, ReductionType.AVERAGE, false);
+        assertEquals(nTiles, cache.getUpdatedTileCount());
+        cache.computeData(dataSet, 0, N_X - 1, false, 0, N_Y - 1, false, N_X, N_Y, ReductionType.AVERAGE, false);
+        assertEquals(0, cache.getUpdatedTileCount(), "unmodified data");
+
+        // modify one value in the upper tile row
+        dataSet.set(DIM_Z, new int[] { 10, 150 }, 42.0);
+        cache.computeData(dataSet, 0, N_X - 1, false, 0, N_Y - 1, false, N_X, N_Y, ReductionType.AVERAGE, false);
+        assertEquals(3, cache.getUpdatedTileCount(), "one tile row");
+        cache.computeColours(0, 1, false, TRANSFORM, N_QUANT, GRADIENT, false);
+        final double[] reference = getReferenceValues(dataSet, 0, N_X - 1, false, 0, N_Y - 1, false, N_X, N_Y, ReductionType.AVERAGE);
+        assertArrayEquals(getReferencePixels(reference, N_X, N_Y, new DataRange(0, 1), false), cache.getPixels());
+
+        // previous view is retained
+        cache.computeData(dataSet, 0, 99, false, 0, 99, false, 50, 50, ReductionType.AVERAGE, false);
+        assertEquals(1, cache.getUpdatedTileCount());
+        cache.computeData(dataSet, 0, N_X - 1, false, 0, N_Y - 1, false, N_X, N_Y, ReductionType.AVERAGE, false);
+        assertEquals(0, cache.getUpdatedTileCount(), "retained view");
+
+        // index range events and other events
+        cache.handle(new AddedDataEvent(dataSet, "rows 0-1", 0, 2 * N_X));
+        cache.computeData(dataSet, 0, N_X - 1, false, 0, N_Y - 1, false, N_X, N_Y, ReductionType.AVERAGE, false);
+        assertEquals(3, cache.getUpdatedTileCount(), "first tile row");
+        cache.handle(new UpdatedMetaDataEvent(dataSet));
+        cache.computeData(dataSet, 0, N_X - 1, false, 0, N_Y - 1, false, N_X, N_Y, ReductionType.AVERAGE, false);
+        assertEquals(nTiles, cache.getUpdatedTileCount(), "invalidated");
+        assertEquals(1, cache.getViewCount());
+
+        cache.release();
+        assertEquals(0, cache.getViewCount());
+    }
+
+    @Test
+    public void testAppendedRows() {
+        final Random random = new Random(42);
+        final double[] x = new double[N_X];
+        Arrays.setAll(x, i -> i);
+        final CircularDoubleGridDataSet dataSet = new CircularDoubleGridDataSet("waterfall", x, N_Y);
+        final HeatMapTileCache cache = new HeatMapTileCache();
+        dataSet.addListener(cache);
+        final double[] row = new double[N_X];
+        final int height = HeatMapTileCache.TILE_SIZE;
+        for (int y = 0; y <= N_Y; y++) {
+            Arrays.setAll(row, i -> random.nextDouble());
+            dataSet.appendRow(y, row);
+            if (y < height - 1) {
+                continue;
+            }
+            cache.computeData(dataSet, 0, N_X - 1, false, 0, height - 1, false, N_X, height, ReductionType.AVERAGE, false);
+            if (y == height - 1 || y == N_Y) {
+                assertEquals(3, cache.getUpdatedTileCount(), "new view or rolled rows, y = " + y);
+            } else {
+                assertEquals(0, cache.getUpdatedTileCount(), "rows appended outside of the view, y = " + y);
+            }
+            cache.computeColours(0, 1, false, TRANSFORM, N_QUANT, GRADIENT, false);
+            final double[] reference = getReferenceValues(dataSet, 0, N_X - 1, false, 0, height - 1, false, N_X, height, ReductionType.AVERAGE);
+            assertArrayEquals(getReferencePixels(reference, N_X, height, new DataRange(0, 1), false), cache.getPixels(), "y = " + y);
+        }
+    }
+
+    @Test
+    public void testRolledRingBuffer() {
+        final Random random = new Random(42);
+        final double[] x = new double[N_X];
+        Arrays.setAll(x, i -> i);
+        final int capacity = 2 * HeatMapTileCache.TILE_SIZE;
+        final CircularDoubleGridDataSet dataSet = new CircularDoubleGridDataSet("waterfall", x, capacity);
+        final HeatMapTileCache cache = new HeatMapTileCache();
+        dataSet.addListener(cache);
+        final double[] row = new double[N_X];
+        for (int y = 0; y < capacity + HeatMapTileCache.TILE_SIZE + 2; y++) {
+            Arrays.setAll(row, i -> random.nextDouble());
+            dataSet.appendRow(y, row);
+            if (y < capacity - 1) {
+                continue;
+            }
+            for (final boolean yInverted : new boolean[] { false, true }) {
+                cache.computeData(dataSet, 0, N_X - 1, false, 0, capacity - 1, yInverted, N_X / 2, capacity, ReductionType.AVERAGE, false);
+                // N.B. 2x2 tiles per view
+                if (y == capacity - 1) {
+                    assertEquals(4, cache.getUpdatedTileCount(), "new view, yInverted = " + yInverted);
+                } else {
+                    assertEquals(2, cache.getUpdatedTileCount(), "overwritten buffer row only, y = " + y + " yInverted = " + yInverted);
+                }
+                cache.computeColours(0, 1, false, TRANSFORM, N_QUANT, GRADIENT, false);
+                final double[] reference = getReferenceValues(dataSet, 0, N_X - 1, false, 0, capacity - 1, yInverted, N_X / 2, capacity, ReductionType.AVERAGE);
+                assertArrayEquals(getReferencePixels(reference, N_X / 2, capacity, new DataRange(0, 1), false), cache.getPixels(), "y = " + y + " yInverted = " + yInverted);
+            }
+        }
+    }
+
+    private static double[] getReferenceValues(final GridDataSet dataSet, final int xMin, final int xMax,
+            final boolean xInverted, final int yMin, final int yMax, final boolean yInverted, final int width,
+            final int height, final ReductionType reductionType) {
+        final int srcWidth = xMax - xMin + 1;
+        final int srcHeight = yMax - yMin + 1;
+        final double[] buffer = new double[srcWidth * srcHeight];
+        ContourDataSetCache.copySubFrame(dataSet, buffer, false, xInverted, xMin, xMax, yInverted, yMin, yMax);
+        if (srcWidth == width && srcHeight == height) {
+            return buffer;
+        }
+        final double[] reduced = new double[width * height];
+        DefaultDataReducer3D.resample(buffer, srcWidth, srcHeight, reduced, width, height, reductionType);
+        return reduced;
+    }
+
+    private static int[] getReferencePixels(final double[] values, final int width, final int height,
+            final DataRange range, final boolean zInverted) {
+        final double[] quantised = Arrays.copyOf(values, values.length);
+        ContourDataSetCache.quantizeData(quantised, width, height, zInverted, range.getMin(), range.getMax(), TRANSFORM, N_QUANT);
+        final int[] pixels = new int[width * height];
+        for (int row = 0; row < height; row++) {
+            for (int column = 0; column < width; column++) {
+                final int[] color = GRADIENT.getColorBytes(quantised[row * width + column]);
+                pixels[(height - 1 - row) * width + column] = (color[0] << 24) | (color[1] << 16) | (color[2] << 8) | color[3];
+            }
+        }
+        return pixels;
+    }
+
+    private static DoubleGridDataSet getTestDataSet() {
+        final Random random = new Random(42);
+        final double[] x = new double[N_X];
+        final double[] y = new double[N_Y];
+        final double[] z = new double[N_X * N_Y];
+        Arrays.setAll(x, i -> i);
+        Arrays.setAll(y, i -> i);
+        Arrays.setAll(z, i -> random.nextDouble());
+        z[17] = Double.NaN;
+        return new DoubleGridDataSet("test", false, new double[][] { x, y }, z);
+    }
+}
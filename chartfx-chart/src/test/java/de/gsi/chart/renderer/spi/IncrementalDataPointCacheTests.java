@@ -0,0 +1,79 @@
+package de.gsi.chart.renderer.spi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.junit.jupiter.api.Test;
+
+import de.gsi.chart.axes.spi.DefaultNumericAxis;
+import de.gsi.chart.renderer.ErrorStyle;
+import de.gsi.chart.ui.geometry.Side;
+import de.gsi.dataset.DataSet;
+import de.gsi.dataset.spi.DataSetSnapshot;
+import de.gsi.dataset.spi.DoubleDataSet;
+
+/**
+ * @author rstein
+ */
+public class IncrementalDataPointCacheTests {
+    private static final int N_SAMPLES = 10;
+
+    @Test
+    public void testWriteBetweenSnapshotAndRender() {
+        final DefaultNumericAxis xAxis = new TestAxis(Side.BOTTOM, N_SAMPLES);
+        final DefaultNumericAxis yAxis = new TestAxis(Side.LEFT, 100);
+        assertNotEquals(yAxis.getDisplayPosition(2.0), yAxis.getDisplayPosition(50.0));
+
+        final double[] values = new double[N_SAMPLES];
+        for (int i = 0; i < N_SAMPLES; i++) {
+            values[i] = i;
+        }
+        final DoubleDataSet dataSet = new DoubleDataSet("test", values, values, N_SAMPLES, true);
+        final IncrementalDataPointCache cache = new IncrementalDataPointCache();
+        dataSet.addListener(cache);
+
+        // first frame: all screen coordinates are computed
+        update(cache, xAxis, yAxis, dataSet);
+        assertEquals(yAxis.getDisplayPosition(2.0), cache.yValues[2]);
+
+        // second frame: write (and its notification) interleaved between taking the snapshot and rendering it
+        try (DataSetSnapshot snapshot = dataSet.getSnapshot()) {
+            dataSet.set(2, 2.0, 50.0);
+            update(cache, xAxis, yAxis, snapshot);
+            assertEquals(yAxis.getDisplayPosition(2.0), cache.yValues[2], "snapshot content");
+        }
+
+        // third frame: the modification must not have been consumed by the previous (older) snapshot
+        try (DataSetSnapshot snapshot = dataSet.getSnapshot()) {
+            update(cache, xAxis, yAxis, snapshot);
+            assertEquals(yAxis.getDisplayPosition(50.0), cache.yValues[2], "re-applied modification");
+        }
+
+        // fourth frame: nothing modified, notification has been consumed
+        dataSet.lock().readLockGuard(() -> update(cache, xAxis, yAxis, dataSet));
+        assertEquals(yAxis.getDisplayPosition(50.0), cache.yValues[2]);
+        assertEquals(yAxis.getDisplayPosition(3.0), cache.yValues[3]);
+
+        cache.release();
+    }
+
+    private static void update(final IncrementalDataPointCache cache, final DefaultNumericAxis xAxis,
+            final DefaultNumericAxis yAxis, final DataSet dataSet) {
+        synchronized (cache) {
+            cache.computeScreenCoordinates(xAxis, yAxis, dataSet, 0, 0, dataSet.getDataCount(), ErrorStyle.NONE, false, false, false);
+        }
+    }
+
+    private static class TestAxis extends DefaultNumericAxis {
+        private TestAxis(final Side side, final double max) {
+            super(side.name(), 0, max, max / 10);
+            setSide(side);
+            if (side.isHorizontal()) {
+                resize(1000, 50);
+            } else {
+                resize(50, 1000);
+            }
+            updateCachedVariables();
+        }
+    }
+}
@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -20,6 +22,7 @@ public class ColorGradientTests {
         assertDoesNotThrow(() -> new ColorGradient((Stop) null, (Stop) null));
         assertDoesNotThrow(() -> new ColorGradient("myGradient", new ArrayList<Stop>()));
         assertDoesNotThrow(() -> new ColorGradient("myGradient", (Stop) null, (Stop) null));
+        assertThrows(IllegalArgumentException.class, () -> ColorGradient.DEFAULT.getColorLut(0));
 
         final List<ColorGradient> gradients = new ArrayList<>(ColorGradient.colorGradients());
         gradients.add(new ColorGradient("myGradient1", new ArrayList<Stop>()));
@@ -40,6 +43,14 @@ public class ColorGradientTests {
             assertArrayEquals(transparentColorBytes, gradient.getColorBytes(-0.1), " color bytes below range ");
             assertArrayEquals(transparentColorBytes, gradient.getColorBytes(+1.1), " color bytes above range ");
 
+            final int[] lut = gradient.getColorLut(10);
+            assertEquals(11, lut.length, "colour look-up table size");
+            assertSame(lut, gradient.getColorLut(10), "colour look-up table caching");
+            for (int level = 0; level <= 10; level++) {
+                final int[] color = gradient.getColorBytes(level / 10.0);
+                assertEquals((color[0] << 24) | (color[1] << 16) | (color[2] << 8) | color[3], lut[level], "colour look-up table entry " + level);
+            }
+
             assertNotNull(gradient.toString(), "gradient name");
         }
     }
@@ -0,0 +1,72 @@
+package de.gsi.chart.renderer.spi.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the ScreenSpaceGridIndex against a brute-force nearest point search
+ *
+ * @author rstein
+ */
+public class ScreenSpaceGridIndexTests {
+    @Test
+    public void basicTests() {
+        final ScreenSpaceGridIndex index = new ScreenSpaceGridIndex();
+        assertTrue(index.isEmpty());
+        assertEquals(-1, index.findNearest(0, 0, 10));
+        assertTrue(Double.isNaN(index.getLastDistance()));
+
+        final double[] x = { 10, 20, Double.NaN, 30, 1e9 };
+        final double[] y = { 10, 20, 0, 30, 1e9 };
+        index.build(x, y, 0, x.length);
+        assertEquals(4, index.size(), "NaN coordinates are ignored");
+        assertEquals(1, index.findNearest(21, 21, 5));
+        assertEquals(Math.sqrt(2), index.getLastDistance(), 1e-12);
+        assertEquals(-1, index.findNearest(25, 25, 2), "outside picking distance");
+        assertEquals(-1, index.findNearest(-1e10, 25, 2), "outside grid");
+        assertEquals(4, index.findNearest(1e9, 1e9 + 1, 2), "far outside the canvas");
+
+        index.build(x, y, 1, 2);
+        assertEquals(1, index.size());
+        assertEquals(-1, index.findNearest(10, 10, 5), "not within index range");
+
+        index.clear();
+        assertTrue(index.isEmpty());
+        assertEquals(-1, index.findNearest(20, 20, 5));
+    }
+
+    @Test
+    public void bruteForceTests() {
+        final int nPoints = 100_000;
+        final double[] x = new double[nPoints];
+        final double[] y = new double[nPoints];
+        final Random rnd = new Random(42);
+        for (int i = 0; i < nPoints; i++) {
+            x[i] = 800 * rnd.nextDouble();
+            y[i] = 300 + 100 * rnd.nextGaussian();
+        }
+        final ScreenSpaceGridIndex index = new ScreenSpaceGridIndex();
+        index.build(x, y, 0, nPoints);
+        assertEquals(nPoints, index.size());
+
+        final double pickingDistance = 5.0;
+        for (int test = 0; test < 1000; test++) {
+            final double mouseX = 800 * rnd.nextDouble();
+            final double mouseY = 600 * rnd.nextDouble();
+            int expected = -1;
+            double minDistance = pickingDistance;
+            for (int i = 0; i < nPoints; i++) {
+                final double distance = Math.hypot(x[i] - mouseX, y[i] - mouseY);
+                if (distance < minDistance || (expected < 0 && distance <= minDistance)) {
+                    minDistance = distance;
+                    expected = i;
+                }
+            }
+            assertEquals(expected, index.findNearest(mouseX, mouseY, pickingDistance));
+        }
+    }
+}
@@ -41,4 +41,30 @@ public class AddedDataEvent extends UpdatedDataEvent {
     public AddedDataEvent(final EventSource source, final String msg, final Object payload) {
         super(source, msg, payload);
     }
+
+    /**
+     * generates new update event
+     * 
+     * @param source the class issuing the event
+     * @param msg a customised message to be passed along (e.g. for debugging)
+     * @param indexMin first data point index that has been added or shifted (inclusive)
+     * @param indexMax last data point index that has been added or shifted (exclusive)
+     */
+    public AddedDataEvent(final EventSource source, final String msg, final int indexMin, final int indexMax) {
+        super(source, msg, null, indexMin, indexMax);
+    }
+
+    /**
+     * generates new update event
+     * 
+     * @param source the class issuing the event
+     * @param msg a customised message to be passed along (e.g. for debugging)
+     * @param payload a customised user pay-load to be passed to the listener
+     * @param indexMin first data point index that has been added or shifted (inclusive)
+     * @param indexMax last data point index that has been added or shifted (exclusive)
+     */
+    public AddedDataEvent(final EventSource source, final String msg, final Object payload, final int indexMin,
+            final int indexMax) {
+        super(source, msg, payload, indexMin, indexMax);
+    }
 }
@@ -0,0 +1,200 @@
+package de.gsi.dataset.event;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.gsi.dataset.utils.AssertUtils;
+import de.gsi.dataset.utils.CachedDaemonThreadFactory;
+
+/**
+ * Central dispatcher that coalesces {@link UpdateEvent}s and forwards them to the wrapped {@link EventListener}s at most
+ * once per tick and event source.
+ * <p>
+ * Events that are received within one tick are merged per (source, listener) pair with latest-value semantics, i.e.
+ * <ul>
+ * <li>{@link AddedDataEvent}s and {@link UpdatedDataEvent}s are merged into a single event covering the union of the
+ * notified index ranges (see {@link UpdatedDataEvent#getIndexMin()} and {@link UpdatedDataEvent#getIndexMax()}),</li>
+ * <li>a {@link RemovedDataEvent} or a data event merged with a non-data event yields a {@link UpdatedDataEvent}
+ * covering the full index range,</li>
+ * <li>non-data events of the same type are replaced by the latest event, otherwise they are merged into an
+ * {@link InvalidatedEvent}.</li>
+ * </ul>
+ * All dispatchers share one daemon scheduler thread on which the coalesced events are delivered. Thus, listeners should
+ * return quickly and hand off longer computations or UI updates (e.g. via {@code Platform.runLater(..)}) which -- since
+ * at most one event per tick is forwarded -- caps the number of these hand-offs independent of the producers' rate.
+ * <p>
+ * Basic usage:
+ *
+ * <pre>
+ * {@code
+ *  evtSource.addListener(CoalescingEventDispatcher.getDefault().wrap(evt -> {  ... do stuff with the event ... }));
+ * }
+ * </pre>
+ *
+ * @author rstein
+ */
+public class CoalescingEventDispatcher {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CoalescingEventDispatcher.class);
+    /** default tick period in milliseconds (25 Hz) */
+    public static final long DEFAULT_TICK_PERIOD = 40;
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(CachedDaemonThreadFactory.getInstance());
+    private static final CoalescingEventDispatcher DEFAULT_DISPATCHER = new CoalescingEventDispatcher(DEFAULT_TICK_PERIOD);
+    private final Queue<CoalescingListener> pendingListeners = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean tickScheduled = new AtomicBoolean(false);
+    private final Object deliveryLock = new Object();
+    private final long tickPeriod;
+
+    /**
+     * @param tickPeriod the minimum period in milliseconds between two deliveries to the same listener
+     */
+    public CoalescingEventDispatcher(final long tickPeriod) {
+        AssertUtils.gtThanZero("tickPeriod", tickPeriod);
+        this.tickPeriod = tickPeriod;
+    }
+
+    /**
+     * synchronously delivers all pending events on the calling thread (e.g. prior to shut-down or for testing purposes)
+     */
+    public void flush() {
+        synchronized (deliveryLock) {
+            CoalescingListener listener;
+            while ((listener = pendingListeners.poll()) != null) {
+                listener.deliver();
+            }
+        }
+    }
+
+    /**
+     * @return the minimum period in milliseconds between two deliveries to the same listener
+     */
+    public long getTickPeriod() {
+        return tickPeriod;
+    }
+
+    /**
+     * @param listener the listener to be notified with the coalesced events
+     * @return new listener that is to be registered with the event source(s) in place of the original listener
+     */
+    public EventListener wrap(final EventListener listener) {
+        AssertUtils.notNull("listener", listener);
+        return new CoalescingListener(listener);
+    }
+
+    private void schedule(final CoalescingListener listener) {
+        pendingListeners.add(listener);
+        if (tickScheduled.compareAndSet(false, true)) {
+            SCHEDULER.schedule(this::tick, tickPeriod, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void tick() {
+        // N.B. reset before delivering so that events arriving during the delivery are scheduled for the next tick
+        tickScheduled.set(false);
+        try {
+            flush();
+        } finally {
+            if (!pendingListeners.isEmpty() && tickScheduled.compareAndSet(false, true)) {
+                SCHEDULER.schedule(this::tick, tickPeriod, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * @return the default dispatcher instance with a tick period of {@link #DEFAULT_TICK_PERIOD}
+     */
+    public static CoalescingEventDispatcher getDefault() {
+        return DEFAULT_DISPATCHER;
+    }
+
+    /**
+     * Merges two subsequent events of the same source
+     *
+     * @param pending the earlier, not yet delivered event (may be null)
+     * @param next the newly received event
+     * @return the coalesced event
+     */
+    protected static UpdateEvent merge(final UpdateEvent pending, final UpdateEvent next) {
+        if (pending == null) {
+            return next;
+        }
+        final EventSource source = (EventSource) next.getSource();
+        final boolean isPendingData = pending instanceof UpdatedDataEvent;
+        final boolean isNextData = next instanceof UpdatedDataEvent;
+        if (isPendingData && isNextData) {
+            if (pending instanceof RemovedDataEvent || next instanceof RemovedDataEvent) {
+                // N.B. removals shift indices, the resulting range is thus not well defined
+                return new UpdatedDataEvent(source, next.getMessage(), next.getPayLoad());
+            }
+            final UpdatedDataEvent pendingData = (UpdatedDataEvent) pending;
+            final UpdatedDataEvent nextData = (UpdatedDataEvent) next;
+            final int indexMin = Math.min(pendingData.getIndexMin(), nextData.getIndexMin());
+            final int indexMax = Math.max(pendingData.getIndexMax(), nextData.getIndexMax());
+            if (pending instanceof AddedDataEvent && next instanceof AddedDataEvent) {
+                return new AddedDataEvent(source, next.getMessage(), indexMin, indexMax);
+            }
+            return new UpdatedDataEvent(source, next.getMessage(), next.getPayLoad(), indexMin, indexMax);
+        }
+        if (isPendingData || isNextData) {
+            return new UpdatedDataEvent(source, next.getMessage(), next.getPayLoad());
+        }
+        if (pending.getClass().equals(next.getClass())) {
+            return next;
+        }
+        return new InvalidatedEvent(source, next.getMessage(), next.getPayLoad());
+    }
+
+    /**
+     * private listener collecting the latest event per source until the next tick
+     */
+    private class CoalescingListener implements EventListener {
+        private final EventListener listener;
+        private final Map<Object, UpdateEvent> pendingEvents = new IdentityHashMap<>();
+        private final List<UpdateEvent> deliveryList = new ArrayList<>();
+
+        protected CoalescingListener(final EventListener listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        public void handle(final UpdateEvent event) {
+            if (event == null) {
+                return;
+            }
+            final boolean firstPending;
+            synchronized (pendingEvents) {
+                firstPending = pendingEvents.isEmpty();
+                pendingEvents.put(event.getSource(), merge(pendingEvents.get(event.getSource()), event));
+            }
+            if (firstPending) {
+                schedule(this);
+            }
+        }
+
+        protected void deliver() {
+            // N.B. only called while holding the dispatcher's delivery lock
+            synchronized (pendingEvents) {
+                deliveryList.addAll(pendingEvents.values());
+                pendingEvents.clear();
+            }
+            for (final UpdateEvent event : deliveryList) {
+                try {
+                    listener.handle(event);
+                } catch (final Exception e) { // NOPMD - listener exceptions must not stall the other listeners
+                    LOGGER.atError().setCause(e).addArgument(event).log("listener threw exception while handling coalesced event {}");
+                }
+            }
+            deliveryList.clear();
+        }
+    }
+}
@@ -3,8 +3,8 @@ package de.gsi.dataset.event;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import de.gsi.dataset.utils.AggregateException;
@@ -58,79 +58,98 @@ public interface EventSource {
     }
 
     /**
-     * invoke object within update listener list
+     * invoke object within update listener list (sequentially within the calling thread)
      *
      * @param updateEvent the event the listeners are notified with
      */
     default void invokeListener(final UpdateEvent updateEvent) {
-        invokeListener(updateEvent, true);
+        invokeListener(updateEvent, false);
     }
 
     /**
      * invoke object within update listener list
      *
      * @param updateEvent the event the listeners are notified with
-     * @param executeParallel {@code true} execute event listener via parallel executor service
+     * @param executeParallel {@code true} execute event listener via parallel executor service (N.B. the calling thread
+     *        participates and waits until all listeners have been notified)
      */
-    @SuppressWarnings("PMD.NPathComplexity") // cannot be further split w/o adding unwanted further public default implementations (N.B. 'private default' ... is forbidden)
     default void invokeListener(final UpdateEvent updateEvent, final boolean executeParallel) {
-        if (updateEventListener() == null || !isAutoNotification()) {
+        final List<EventListener> listeners = updateEventListener();
+        if (listeners == null || !isAutoNotification() || listeners.isEmpty()) {
             return;
         }
-        List<EventListener> eventListener;
-        synchronized (updateEventListener()) {
-            if (!isAutoNotification() || updateEventListener() == null || updateEventListener().isEmpty()) {
-                return;
+        if (!executeParallel || listeners.size() == 1) {
+            // N.B. re-used per-thread snapshot buffer, no allocation for the nominal case
+            final ListenerCursor cursor = ListenerCursor.get();
+            final EventListener[] snapshot;
+            if (listeners instanceof CopyOnWriteArrayList) {
+                snapshot = cursor.open(listeners);
+            } else {
+                synchronized (listeners) {
+                    snapshot = cursor.open(listeners);
+                }
             }
-            eventListener = new ArrayList<>(updateEventListener());
-        }
-        if (!executeParallel || eventListener.size() == 1) {
-            // alt implementation:
-            final AggregateException exceptions = new AggregateException(
-                    EventSource.class.getSimpleName() + "(NonParallel)");
-            for (EventListener listener : eventListener) {
-                try {
-                    listener.handle(updateEvent);
-                } catch (Exception e) { // NOPMD -- necessary since these are forwarded
-                    exceptions.add(e);
+            AggregateException exceptions = null; // N.B. lazily created
+            try {
+                for (int i = 0; i < snapshot.length && snapshot[i] != null; i++) {
+                    try {
+                        snapshot[i].handle(updateEvent);
+                    } catch (Exception e) { // NOPMD -- necessary since these are forwarded
+                        if (exceptions == null) {
+                            exceptions = new AggregateException(EventSource.class.getSimpleName() + "(NonParallel)");
+                        }
+                        exceptions.add(e);
+                    }
                 }
+            } finally {
+                cursor.close();
             }
-            if (!exceptions.isEmpty()) {
+            if (exceptions != null) {
                 throw exceptions;
             }
             return;
         }
 
         // execute event listeners in parallel
+        final EventListener[] snapshot;
+        if (listeners instanceof CopyOnWriteArrayList) {
+            snapshot = listeners.toArray(new EventListener[0]);
+        } else {
+            synchronized (listeners) {
+                snapshot = listeners.toArray(new EventListener[0]);
+            }
+        }
+        if (snapshot.length == 0) {
+            return;
+        }
+        new ParallelDispatch(snapshot, updateEvent == null ? new UpdateEvent(this) : updateEvent).execute(EventThreadHelper.getExecutorService());
+    }
+
+    /**
+     * invoke object within update listener list without waiting for the listeners to complete, i.e. the listeners are
+     * notified in parallel via the event executor service and the calling (producer) thread returns immediately.
+     * <p>
+     * N.B. since the caller does not wait, exceptions thrown by listeners cannot be forwarded to the caller and are passed
+     * to the uncaught exception handler of the executing thread instead.
+     *
+     * @param updateEvent the event the listeners are notified with
+     */
+    default void invokeListenerAsync(final UpdateEvent updateEvent) {
+        final List<EventListener> eventListener = getListenerSnapshot(this);
+        if (eventListener == null) {
+            return;
+        }
         final UpdateEvent event = updateEvent == null ? new UpdateEvent(this) : updateEvent;
-        final AggregateException exceptions = new AggregateException(
-                EventSource.class.getSimpleName() + "(Parallel)");
         final ExecutorService es = EventThreadHelper.getExecutorService();
-        final List<Future<Boolean>> jobs = new ArrayList<>(eventListener.size());
         for (EventListener listener : eventListener) {
-            jobs.add(es.submit(() -> {
+            es.execute(() -> {
                 try {
                     listener.handle(event);
-                    return Boolean.TRUE;
                 } catch (Exception e) { // NOPMD -- necessary since these are forwarded
-                    exceptions.add(e);
-                    exceptions.fillInStackTrace();
+                    final Thread thread = Thread.currentThread();
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
                 }
-                return Boolean.FALSE;
-            }));
-        }
-
-        try {
-            // wait for submitted tasks to complete
-            for (final Future<Boolean> future : jobs) {
-                future.get();
-            }
-        } catch (final Exception e) { // NOPMD -- necessary since these are forwarded
-            exceptions.add(new IllegalStateException("one parallel worker thread finished execution with error", e));
-        }
-        // all submitted tasks are completed
-        if (!exceptions.isEmpty()) {
-            throw exceptions;
+            });
         }
     }
 
@@ -166,4 +185,23 @@ public interface EventSource {
      * @return list containing all update event listener (needs to be provided by implementing class)
      */
     List<EventListener> updateEventListener();
+
+    /**
+     * @param source the event source
+     * @return stable snapshot of the listeners to be notified or {@code null} if there are none (N.B. the listener list
+     *         is not copied if it is already a {@link CopyOnWriteArrayList})
+     */
+    private static List<EventListener> getListenerSnapshot(final EventSource source) {
+        final List<EventListener> listeners = source.updateEventListener();
+        if (listeners == null || !source.isAutoNotification() || listeners.isEmpty()) {
+            return null;
+        }
+        if (listeners instanceof CopyOnWriteArrayList) {
+            // iterators of copy-on-write lists operate on an immutable snapshot
+            return listeners;
+        }
+        synchronized (listeners) {
+            return listeners.isEmpty() ? null : new ArrayList<>(listeners);
+        }
+    }
 }
@@ -0,0 +1,54 @@
+package de.gsi.dataset.event;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Per-thread re-usable snapshot buffers for the sequential {@link EventSource#invokeListener(UpdateEvent, boolean)}
+ * notification. The listener list is copied into a pre-allocated array (which is a stable snapshot w.r.t. concurrent
+ * listener (de-)registrations) rather than allocating a new iterator or list copy for each event. One buffer is kept per
+ * nesting level since listeners may themselves fire events on the same thread.
+ *
+ * @author rstein
+ */
+final class ListenerCursor {
+    private static final int INITIAL_DEPTH = 4;
+    private static final ThreadLocal<ListenerCursor> CURSORS = ThreadLocal.withInitial(ListenerCursor::new);
+    private EventListener[][] buffers = new EventListener[INITIAL_DEPTH][];
+    private int depth;
+
+    private ListenerCursor() {
+        // only instantiated via 'get()'
+    }
+
+    /**
+     * releases the snapshot obtained by the last {@link #open(List)} call and clears the references to the listeners
+     */
+    void close() {
+        depth--;
+        final EventListener[] buffer = buffers[depth];
+        for (int i = 0; i < buffer.length && buffer[i] != null; i++) {
+            buffer[i] = null;
+        }
+    }
+
+    /**
+     * @param listeners the listeners to be notified (N.B. must be synchronised on if not a copy-on-write list)
+     * @return snapshot of the listeners, terminated by the array end or the first {@code null} entry
+     */
+    EventListener[] open(final List<EventListener> listeners) {
+        if (depth == buffers.length) {
+            buffers = Arrays.copyOf(buffers, 2 * depth);
+        }
+        final EventListener[] buffer = buffers[depth];
+        final int size = listeners.size();
+        // N.B. 'toArray(..)' returns a new array if the list has grown concurrently
+        final EventListener[] snapshot = listeners.toArray(buffer == null || buffer.length <= size ? new EventListener[Math.max(2 * size, 8)] : buffer);
+        buffers[depth++] = snapshot;
+        return snapshot;
+    }
+
+    static ListenerCursor get() {
+        return CURSORS.get();
+    }
+}
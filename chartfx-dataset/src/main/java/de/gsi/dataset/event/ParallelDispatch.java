@@ -0,0 +1,76 @@
+package de.gsi.dataset.event;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import de.gsi.dataset.utils.AggregateException;
+
+/**
+ * Parallel notification of a listener snapshot for {@link EventSource#invokeListener(UpdateEvent, boolean)}. The same
+ * instance is submitted to the executor once per helper thread and each thread (including the calling one) claims the
+ * next not yet notified listener, i.e. there is no per-listener task or future allocation. The
+ * {@link AggregateException} is only created if a listener actually fails.
+ *
+ * @author rstein
+ */
+@SuppressWarnings("PMD.DoNotUseThreads") // thread handling is the declared purpose of this class
+final class ParallelDispatch implements Runnable {
+    private final EventListener[] listeners;
+    private final UpdateEvent event;
+    private final AtomicInteger next = new AtomicInteger();
+    private final CountDownLatch done;
+    private AggregateException exceptions; // N.B. lazily created, guarded by 'this'
+
+    ParallelDispatch(final EventListener[] listeners, final UpdateEvent event) {
+        this.listeners = listeners;
+        this.event = event;
+        this.done = new CountDownLatch(listeners.length);
+    }
+
+    @Override
+    public void run() {
+        int index;
+        while ((index = next.getAndIncrement()) < listeners.length) {
+            try {
+                listeners[index].handle(event);
+            } catch (Exception e) { // NOPMD -- necessary since these are forwarded
+                addException(e);
+            } finally {
+                done.countDown();
+            }
+        }
+    }
+
+    /**
+     * notifies all listeners using the calling and up to {@link EventThreadHelper#getMaxThreads()} helper threads and
+     * returns once all listeners have been notified
+     *
+     * @param executorService executor providing the helper threads
+     */
+    void execute(final ExecutorService executorService) {
+        final int nHelper = Math.min(listeners.length - 1, EventThreadHelper.getMaxThreads());
+        for (int i = 0; i < nHelper; i++) {
+            executorService.execute(this);
+        }
+        run();
+        try {
+            done.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            addException(new IllegalStateException("interrupted while waiting for parallel listener notification", e));
+        }
+        synchronized (this) {
+            if (exceptions != null) {
+                throw exceptions;
+            }
+        }
+    }
+
+    private synchronized void addException(final Exception e) {
+        if (exceptions == null) {
+            exceptions = new AggregateException(EventSource.class.getSimpleName() + "(Parallel)");
+        }
+        exceptions.add(e);
+    }
+}
@@ -11,6 +11,8 @@ package de.gsi.dataset.event;
  */
 public class UpdatedDataEvent extends UpdateEvent {
     private static final long serialVersionUID = 2906468013676213645L;
+    private final int indexMin;
+    private final int indexMax;
 
     /**
      * generates new update event
@@ -18,7 +20,7 @@ public class UpdatedDataEvent extends UpdateEvent {
      * @param source the class issuing the event
      */
     public UpdatedDataEvent(final EventSource source) {
-        super(source, null, null);
+        this(source, null, null);
     }
 
     /**
@@ -28,7 +30,7 @@ public class UpdatedDataEvent extends UpdateEvent {
      * @param msg a customised message to be passed along (e.g. for debugging)
      */
     public UpdatedDataEvent(final EventSource source, final String msg) {
-        super(source, msg, null);
+        this(source, msg, null);
     }
 
     /**
@@ -39,6 +41,52 @@ public class UpdatedDataEvent extends UpdateEvent {
      * @param payload a customised user pay-load to be passed to the listener
      */
     public UpdatedDataEvent(final EventSource source, final String msg, final Object payload) {
+        this(source, msg, payload, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * generates new update event
+     * 
+     * @param source the class issuing the event
+     * @param msg a customised message to be passed along (e.g. for debugging)
+     * @param indexMin first data point index that has been modified (inclusive)
+     * @param indexMax last data point index that has been modified (exclusive)
+     */
+    public UpdatedDataEvent(final EventSource source, final String msg, final int indexMin, final int indexMax) {
+        this(source, msg, null, indexMin, indexMax);
+    }
+
+    /**
+     * generates new update event
+     * 
+     * @param source the class issuing the event
+     * @param msg a customised message to be passed along (e.g. for debugging)
+     * @param payload a customised user pay-load to be passed to the listener
+     * @param indexMin first data point index that has been modified (inclusive)
+     * @param indexMax last data point index that has been modified (exclusive)
+     */
+    public UpdatedDataEvent(final EventSource source, final String msg, final Object payload, final int indexMin,
+            final int indexMax) {
         super(source, msg, payload);
+        this.indexMin = indexMin;
+        this.indexMax = indexMax;
+    }
+
+    /**
+     * N.B. events that do not specify the modified range default to '0', i.e. the whole data range
+     * 
+     * @return first data point index that has been modified (inclusive)
+     */
+    public int getIndexMin() {
+        return indexMin;
+    }
+
+    /**
+     * N.B. events that do not specify the modified range default to {@code Integer.MAX_VALUE}, i.e. the whole data range
+     * 
+     * @return last data point index that has been modified (exclusive)
+     */
+    public int getIndexMax() {
+        return indexMax;
     }
 }
@@ -46,6 +46,20 @@ import de.gsi.dataset.DataSet;
  */
 @SuppressWarnings({ "PMD.DoNotUseThreads", "PMD.CommentSize" }) // Runnable used as functional interface
 public interface DataSetLock<D extends DataSet> extends Serializable {
+    /**
+     * converts the write lock held (once) by the calling thread into a read lock without letting other writers
+     * acquire the lock in between. The read lock needs to be released via {@link #readUnLock()}.
+     * <p>
+     * N.B. the default implementation releases the write lock before acquiring the read lock, i.e. it is not atomic
+     * and other writers may acquire the lock in between. Implementations should override this (see
+     * {@link DefaultDataSetLock#downGradeWriteLock()}).
+     *
+     * @return supporting DataSet (fluent design)
+     */
+    default D downGradeWriteLock() {
+        writeUnLock();
+        return readLock();
+    }
 
     /**
      * reentrant read-lock
@@ -85,6 +99,35 @@ public interface DataSetLock<D extends DataSet> extends Serializable {
      */
     D readUnLock();
 
+    /**
+     * Non-blocking alternative to the read lock for short reads, e.g.:
+     *
+     * <pre>
+     * long stamp = lock.tryOptimisticRead();
+     * double min = axisDescription.getMin(); // N.B. may be inconsistent
+     * if (!lock.validate(stamp)) {
+     *     [..] re-read using the read lock [..]
+     * }
+     * </pre>
+     *
+     * N.B. the default implementation always returns zero, i.e. callers fall back to the read lock.
+     *
+     * @return a stamp to be checked via {@link #validate(long)}, or zero if exclusively locked
+     */
+    default long tryOptimisticRead() {
+        return 0L;
+    }
+
+    /**
+     * @param stamp the stamp obtained from {@link #tryOptimisticRead()}
+     * @return {@code true} if the lock has not been exclusively acquired since issuance of the given stamp, i.e.
+     *         values read in between are consistent (N.B. default implementation: always {@code false}, i.e. callers
+     *         fall back to the read lock)
+     */
+    default boolean validate(final long stamp) {
+        return false;
+    }
+
     /**
      * @return supporting DataSet (fluent design)
      */
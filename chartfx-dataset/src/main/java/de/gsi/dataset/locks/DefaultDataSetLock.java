@@ -68,30 +68,44 @@ public class DefaultDataSetLock<D extends DataSet> implements DataSetLock<D> {
     }
 
     /**
-     * experimental down-grading of the writer lock
+     * Atomically converts the write lock held by the calling thread into a read lock, i.e. without letting other
+     * writers modify the data set in between. This allows e.g. to update cached values (limits etc.) under the write
+     * lock and to continue reading them concurrently with other readers. The auto-notification state is restored as
+     * for {@link #writeUnLock()} and the read lock has to be released via {@link #readUnLock()}.
+     * <p>
+     * N.B. the write lock needs to be held exactly once (i.e. not nested) and must have been acquired via
+     * {@link #writeLock()} rather than the write lock guards.
      *
      * @return corresponding data set
-     * @deprecated do not use (yet)
+     * @throws IllegalStateException if the write lock is not held by the calling thread or held more than once
      */
-    @Deprecated
+    @Override
     public D downGradeWriteLock() {
-        if (!stampedLock.isWriteLocked()) {
-            throw new IllegalStateException("cannot downconvert lock - lock is not write locked");
-        }
-        if (getWriterCount() > 1) {
-            throw new IllegalStateException("cannot downconvert lock - holding n writelocks = " + getWriterCount());
-        }
-        final long result = stampedLock.tryConvertToReadLock(lastWriteStamp);
-        if (result == 0l) { // NOPMD to be expected return value from 'tryConvertToReadLock'
-            throw new IllegalStateException("cannot downconvert lock - tryConvertToReadLock return '0'");
-        }
-        this.readerCount.getAndIncrement();
-        this.writerCount.getAndDecrement();
-        if ((lastReadStamp == 0) && stampedLock.isReadLocked() && (getReaderCount() > 1)) {
-            stampedLock.unlockRead(lastReadStamp);
-        }
-        lastReadStamp = result;
+        synchronized (stampedLock) {
+            if (writeLockedByThread != Thread.currentThread()) { // NOPMD -- thread identity check
+                throw new IllegalStateException("cannot downconvert lock - lock is not write locked by calling thread");
+            }
+            if (getWriterCount() != 1) {
+                throw new IllegalStateException("cannot downconvert lock - holding n writelocks = " + getWriterCount());
+            }
+            final long result = stampedLock.tryConvertToReadLock(lastWriteStamp);
+            if (result == 0L) { // NOPMD to be expected return value from 'tryConvertToReadLock'
+                throw new IllegalStateException("cannot downconvert lock - tryConvertToReadLock return '0'");
+            }
+            lastWriteStamp = 0;
+            writerCount.decrementAndGet();
+            // restore present auto-notify state
+            dataSet.autoNotification().set(autoNotifyState.get());
+            writeLockedByThread = null; // NOPMD
 
+            if (readerCount.getAndIncrement() == 0) {
+                lastReadStamp = result;
+            } else {
+                // another reader is blocked in readLock() and is about to acquire the (shared) read lock on behalf
+                // of all counted readers -> release ours to keep a single read hold
+                stampedLock.unlockRead(result);
+            }
+        }
         return dataSet;
     }
 
@@ -173,32 +187,30 @@ public class DefaultDataSetLock<D extends DataSet> implements DataSetLock<D> {
 
     @Override
     public D readLockGuardOptimistic(final Runnable reading) { // NOPMD -- runnable not used in a thread context
-        final long stamp = stampedLock.tryOptimisticRead();
-        reading.run();
-        if (!stampedLock.validate(stamp)) {
-            readLock();
-            try {
-                reading.run();
-            } finally {
-                readUnLock();
-            }
-        }
+        readLockGuardOptimistic(() -> {
+            reading.run();
+            return null;
+        });
         return dataSet;
     }
 
     @Override
     public <R> R readLockGuardOptimistic(final Supplier<R> reading) {
-        final long stamp = stampedLock.tryOptimisticRead();
-        R result = reading.get();
-        if (!stampedLock.validate(stamp)) {
-            readLock();
+        final long stamp = tryOptimisticRead();
+        if (stamp != 0L) {
             try {
-                result = reading.get();
-            } finally {
-                readUnLock();
+                final R result = reading.get();
+                if (validate(stamp)) {
+                    return result;
+                }
+            } catch (final RuntimeException e) { // NOPMD -- inconsistent optimistic reads may e.g. exceed array bounds
+                if (validate(stamp)) {
+                    throw e;
+                }
             }
         }
-        return result;
+        // data has been (or is being) modified -> fall-back to the read lock
+        return readLockGuard(reading);
     }
 
     @Override
@@ -275,6 +287,25 @@ public class DefaultDataSetLock<D extends DataSet> implements DataSetLock<D> {
         return dataSet;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * N.B. neither blocks nor modifies the reader/writer counts. If the calling thread holds the write lock, its write
+     * stamp is returned, which stays valid until the write lock is released.
+     */
+    @Override
+    public long tryOptimisticRead() {
+        if (writeLockedByThread == Thread.currentThread()) { // NOPMD -- only written by this thread if equal
+            return lastWriteStamp;
+        }
+        return stampedLock.tryOptimisticRead();
+    }
+
+    @Override
+    public boolean validate(final long stamp) {
+        return stampedLock.validate(stamp);
+    }
+
     protected boolean threadsAreUnequal(final Thread thread1, final Thread thread2) {
         synchronized (stampedLock) {
             return thread1 != thread2;
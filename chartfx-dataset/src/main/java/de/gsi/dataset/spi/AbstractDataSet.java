@@ -1,12 +1,13 @@
 package de.gsi.dataset.spi;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.LinkedList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.IntToDoubleFunction;
 
 import de.gsi.dataset.AxisDescription;
@@ -48,7 +49,7 @@ public abstract class AbstractDataSet<D extends AbstractStylable<D>> extends Abs
     private String name;
     protected int dimension;
     private final List<AxisDescription> axesDescriptions = new ArrayList<>();
-    private final transient List<EventListener> updateListeners = Collections.synchronizedList(new LinkedList<>());
+    private final transient List<EventListener> updateListeners = new CopyOnWriteArrayList<>();
     private final transient DataSetLock<? extends DataSet> lock = new DefaultDataSetLock<>(this);
     private StringHashMapList dataLabels = new StringHashMapList();
     private StringHashMapList dataStyles = new StringHashMapList();
@@ -58,6 +59,7 @@ public abstract class AbstractDataSet<D extends AbstractStylable<D>> extends Abs
     private transient EditConstraints editConstraints;
     private final Map<String, String> metaInfoMap = new ConcurrentHashMap<>();
     private final transient AtomicBoolean axisUpdating = new AtomicBoolean(false);
+    private final transient AtomicLong version = new AtomicLong();
     protected final transient EventListener axisListener = e -> {
         if (!isAutoNotification() || !(e instanceof AxisChangeEvent) || axisUpdating.get()) {
             return;
@@ -389,6 +391,7 @@ public abstract class AbstractDataSet<D extends AbstractStylable<D>> extends Abs
      * @return itself (fluent design)
      */
     public D fireInvalidated(final UpdateEvent event) {
+        version.incrementAndGet();
         invokeListener(event);
         return getThis();
     }
@@ -456,6 +459,30 @@ public abstract class AbstractDataSet<D extends AbstractStylable<D>> extends Abs
         return name;
     }
 
+    /**
+     * Returns an immutable snapshot of the current data, labels, styles, meta data and axis descriptions that can be
+     * accessed without holding this data set's lock, e.g. to compute screen coordinates outside the JavaFX application
+     * thread without blocking producers.
+     * <p>
+     * This default implementation copies the data values in O(n) while holding the read lock. Implementations storing
+     * their values in arrays (see {@link DoubleDataSet#getSnapshot()}) may share them with the snapshot without copying
+     * and copy them only if they are modified while a snapshot is still outstanding. Snapshots should thus be closed
+     * once they are no longer needed. N.B. the data labels, styles, meta data (info, warning and error lists) and axis
+     * descriptions are always copied, i.e. the cost of taking a snapshot scales with their number of entries.
+     *
+     * @return the snapshot (N.B. to be closed, e.g. via try-with-resources)
+     */
+    public DataSetSnapshot getSnapshot() {
+        return lock().readLockGuard(() -> {
+            final int dataCount = getDataCount();
+            final double[][] values = new double[getDimension()][];
+            for (int dimIndex = 0; dimIndex < values.length; dimIndex++) {
+                values[dimIndex] = Arrays.copyOf(getValues(dimIndex), dataCount);
+            }
+            return new DataSetSnapshot(this, values, dataCount, null);
+        });
+    }
+
     /**
      * A string representation of the CSS style associated with this specific {@code DataSet} data point. @see
      * #getStyle()
@@ -473,6 +500,14 @@ public abstract class AbstractDataSet<D extends AbstractStylable<D>> extends Abs
         return (D) this;
     }
 
+    /**
+     * @return modification count of this data set that is incremented with each notified change (see
+     *         {@link #fireInvalidated(UpdateEvent)})
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
     @Override
     public List<String> getWarningList() {
         return warningList;
@@ -664,6 +699,160 @@ public abstract class AbstractDataSet<D extends AbstractStylable<D>> extends Abs
         return this;
     }
 
+    /**
+     * Incrementally expands the limits of the given dimension by a newly added or modified value (O(1)).
+     * <p>
+     * N.B. an undefined range is left undefined (to be lazily recomputed via {@link #recomputeLimits(int)}) unless the
+     * data set consists only of the newly added values. To be called while holding the write lock and after the values
+     * have been stored.
+     *
+     * @param dimIndex the dimension index
+     * @param nNewValues number of data points that have been added or modified with this update
+     * @param values the new values (e.g. for error data sets the value+/-error limits)
+     */
+    protected void expandLimits(final int dimIndex, final int nNewValues, final double... values) {
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (final double value : values) {
+            if (Double.isFinite(value)) {
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+        }
+        expandLimitsToRange(dimIndex, nNewValues, min, max);
+    }
+
+    /**
+     * Incrementally expands the limits of the given dimension by a range of newly added or modified values (O(k)).
+     *
+     * @param dimIndex the dimension index
+     * @param nNewValues number of data points that have been added or modified with this update
+     * @param values the array containing the new values
+     * @param fromIndex first index (inclusive) of the new values
+     * @param toIndex last index (exclusive) of the new values
+     * @see #expandLimits(int, int, double...)
+     */
+    protected void expandLimits(final int dimIndex, final int nNewValues, final double[] values, final int fromIndex, final int toIndex) {
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = fromIndex; i < toIndex; i++) {
+            final double value = values[i];
+            if (Double.isFinite(value)) {
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+        }
+        expandLimitsToRange(dimIndex, nNewValues, min, max);
+    }
+
+    /**
+     * Expands the limits of the given dimension to include the (finite) range [min, max] of a batch of newly added or
+     * modified values, issuing at most one range change notification for the whole batch.
+     *
+     * @param dimIndex the dimension index
+     * @param nNewValues number of data points that have been added or modified with this update
+     * @param min minimum of the new finite values (N.B. {@code min > max} if there are none)
+     * @param max maximum of the new finite values
+     * @see #expandLimits(int, int, double...)
+     */
+    protected void expandLimitsToRange(final int dimIndex, final int nNewValues, final double min, final double max) {
+        final AxisDescription axisDescription = getAxisDescription(dimIndex);
+        if (min > max || !axisDescription.isDefined() && getDataCount() != nNewValues) {
+            return;
+        }
+        final double oldMin = axisDescription.getMin();
+        final double oldMax = axisDescription.getMax();
+        final double newMin = oldMin <= min ? oldMin : min; // N.B. also replaces an undefined (NaN) limit
+        final double newMax = oldMax >= max ? oldMax : max;
+        if (newMin != oldMin || newMax != oldMax) { // NOPMD - exact comparison intended
+            axisDescription.set(newMin, newMax);
+        }
+    }
+
+    /**
+     * @param dimIndex the dimension index
+     * @param fromIndex first index (inclusive, clamped to the valid index range)
+     * @param toIndex last index (exclusive, clamped to the valid index range)
+     * @return {@code true} if the values within the given index range are sorted in ascending order (N.B. NaN values are
+     *         not)
+     */
+    protected boolean isAscending(final int dimIndex, final int fromIndex, final int toIndex) {
+        final int end = Math.min(toIndex, getDataCount());
+        for (int i = Math.max(fromIndex, 0) + 1; i < end; i++) {
+            if (!(get(dimIndex, i) >= get(dimIndex, i - 1))) { // NOPMD -- also catches NaN values
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sets the limits of a dimension whose values are known to be sorted in ascending order (e.g. the time-axis of
+     * streaming data) to its first and last value (O(1)). Unlike {@link #invalidateLimitsIfExtremum(int, double...)} this
+     * keeps the limits defined when the oldest samples are removed or overwritten. To be called while holding the write
+     * lock and after the values have been stored.
+     *
+     * @param dimIndex the dimension index
+     */
+    protected void setLimitsOfAscendingDimension(final int dimIndex) {
+        final int dataCount = getDataCount();
+        final AxisDescription axisDescription = getAxisDescription(dimIndex);
+        if (dataCount == 0) {
+            axisDescription.clear();
+            return;
+        }
+        axisDescription.set(get(dimIndex, 0), get(dimIndex, dataCount - 1));
+    }
+
+    /**
+     * Invalidates the limits of the given dimension only if the removed or overwritten value was (or may have been) one
+     * of its extrema. The limits are lazily recomputed via {@link #recomputeLimits(int)}.
+     *
+     * @param dimIndex the dimension index
+     * @param values the removed or to be overwritten values (e.g. for error data sets the value+/-error limits)
+     * @return {@code true} if the limits have been invalidated
+     */
+    protected boolean invalidateLimitsIfExtremum(final int dimIndex, final double... values) {
+        final AxisDescription axisDescription = getAxisDescription(dimIndex);
+        if (!axisDescription.isDefined()) {
+            return false;
+        }
+        final double min = axisDescription.getMin();
+        final double max = axisDescription.getMax();
+        for (final double value : values) {
+            if (Double.isFinite(value) && (value <= min || value >= max)) {
+                axisDescription.clear();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param dimIndex the dimension index
+     * @param values the array containing the removed or to be overwritten values
+     * @param fromIndex first index (inclusive) of the removed values
+     * @param toIndex last index (exclusive) of the removed values
+     * @return {@code true} if the limits have been invalidated
+     * @see #invalidateLimitsIfExtremum(int, double...)
+     */
+    protected boolean invalidateLimitsIfExtremum(final int dimIndex, final double[] values, final int fromIndex, final int toIndex) {
+        final AxisDescription axisDescription = getAxisDescription(dimIndex);
+        if (!axisDescription.isDefined()) {
+            return false;
+        }
+        final double min = axisDescription.getMin();
+        final double max = axisDescription.getMax();
+        for (int i = fromIndex; i < toIndex; i++) {
+            final double value = values[i];
+            if (Double.isFinite(value) && (value <= min || value >= max)) {
+                axisDescription.clear();
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public synchronized List<EventListener> updateEventListener() {
         return updateListeners;
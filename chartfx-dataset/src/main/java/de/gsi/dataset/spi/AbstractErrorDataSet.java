@@ -102,6 +102,89 @@ public abstract class AbstractErrorDataSet<D extends AbstractErrorDataSet<D>> ex
         return getThis();
     }
 
+    /**
+     * Incrementally expands the limits of the given dimension by the newly added or modified data points within the
+     * given index range including their errors (O(k)).
+     *
+     * @param dimIndex the dimension index
+     * @param nNewValues number of data points that have been added or modified with this update
+     * @param fromIndex first index (inclusive) of the new data points
+     * @param toIndex last index (exclusive) of the new data points
+     * @see #expandLimits(int, int, double...)
+     */
+    protected void expandLimitsByIndex(final int dimIndex, final int nNewValues, final int fromIndex, final int toIndex) {
+        if (!getAxisDescription(dimIndex).isDefined() && getDataCount() != nNewValues) {
+            return;
+        }
+        final ErrorType type = getErrorType(dimIndex);
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = fromIndex; i < toIndex; i++) {
+            final double value = get(dimIndex, i);
+            final double lower;
+            final double upper;
+            switch (type) {
+            case NO_ERROR:
+                lower = value;
+                upper = value;
+                break;
+            case ASYMMETRIC:
+                lower = value - getErrorNegative(dimIndex, i);
+                upper = value + getErrorPositive(dimIndex, i);
+                break;
+            case SYMMETRIC:
+            default:
+                lower = value - getErrorPositive(dimIndex, i);
+                upper = value + getErrorPositive(dimIndex, i);
+                break;
+            }
+            if (Double.isFinite(lower)) {
+                min = Math.min(min, lower);
+                max = Math.max(max, lower);
+            }
+            if (Double.isFinite(upper)) {
+                min = Math.min(min, upper);
+                max = Math.max(max, upper);
+            }
+        }
+        expandLimitsToRange(dimIndex, nNewValues, min, max);
+    }
+
+    /**
+     * Invalidates the limits of the given dimension if any of the data points (including their errors) within the given
+     * index range is an extremum. To be called before the data points are removed or overwritten.
+     *
+     * @param dimIndex the dimension index
+     * @param fromIndex first index (inclusive) of the removed data points
+     * @param toIndex last index (exclusive) of the removed data points
+     * @return {@code true} if the limits have been invalidated
+     * @see #invalidateLimitsIfExtremum(int, double...)
+     */
+    protected boolean invalidateLimitsIfExtremumByIndex(final int dimIndex, final int fromIndex, final int toIndex) {
+        if (!getAxisDescription(dimIndex).isDefined()) {
+            return false;
+        }
+        for (int i = fromIndex; i < toIndex; i++) {
+            final boolean invalidated;
+            switch (getErrorType(dimIndex)) {
+            case NO_ERROR:
+                invalidated = invalidateLimitsIfExtremum(dimIndex, get(dimIndex, i));
+                break;
+            case ASYMMETRIC:
+                invalidated = invalidateLimitsIfExtremum(dimIndex, get(dimIndex, i) - getErrorNegative(dimIndex, i), get(dimIndex, i) + getErrorPositive(dimIndex, i));
+                break;
+            case SYMMETRIC:
+            default:
+                invalidated = invalidateLimitsIfExtremum(dimIndex, get(dimIndex, i) - getErrorPositive(dimIndex, i), get(dimIndex, i) + getErrorPositive(dimIndex, i));
+                break;
+            }
+            if (invalidated) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * sets the error type of the data set for the given dimension index
      * 
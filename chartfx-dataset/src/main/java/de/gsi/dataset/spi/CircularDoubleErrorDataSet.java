@@ -21,6 +21,8 @@ public class CircularDoubleErrorDataSet extends AbstractErrorDataSet<CircularDou
     protected DoubleCircularBuffer yErrorsNeg;
     protected CircularBuffer<String> dataLabels;
     protected CircularBuffer<String> dataStyles;
+    private transient boolean sortedX = true; // N.B. 'true' only if the x coordinates are known to be ascending
+    private transient String[] nullStrings; // N.B. default (null) labels and styles for bulk additions
 
     /**
      * Creates a new instance of <code>CircularDoubleErrorDataSet</code>.
@@ -81,6 +83,7 @@ public class CircularDoubleErrorDataSet extends AbstractErrorDataSet<CircularDou
     public CircularDoubleErrorDataSet add(final double x, final double y, final double yErrorNeg, final double yErrorPos, final String label,
             final String style) {
         lock().writeLockGuard(() -> {
+            invalidateLimitsOfOverwrittenSamples(1);
             xValues.put(x);
             yValues.put(y);
             yErrorsPos.put(yErrorPos);
@@ -88,8 +91,7 @@ public class CircularDoubleErrorDataSet extends AbstractErrorDataSet<CircularDou
             dataLabels.put(label);
             dataStyles.put(style);
 
-            // invalidate ranges
-            getAxisDescriptions().forEach(AxisDescription::clear);
+            expandLimitsOfNewSamples(1);
         });
 
         return fireInvalidated(new AddedDataEvent(this));
@@ -115,25 +117,90 @@ public class CircularDoubleErrorDataSet extends AbstractErrorDataSet<CircularDou
         AssertUtils.equalDoubleArrays(xVals, yVals);
         AssertUtils.equalDoubleArrays(xVals, yErrNeg);
         AssertUtils.equalDoubleArrays(xVals, yErrPos);
+        return add(xVals, yVals, yErrNeg, yErrPos, xVals.length);
+    }
+
+    /**
+     * <p>
+     * Adds the first {@code nSamples} entries of the specified arrays to the data set.
+     * </p>
+     * Note: The method copies values from specified double arrays.
+     *
+     * @param xVals the new x coordinates
+     * @param yVals the new y coordinates
+     * @param yErrNeg the +dy errors
+     * @param yErrPos the -dy errors
+     * @param nSamples number of samples to be added (N.B. arrays may be longer)
+     * @return itself
+     */
+    public CircularDoubleErrorDataSet add(final double[] xVals, final double[] yVals, final double[] yErrNeg, final double[] yErrPos, final int nSamples) {
+        AssertUtils.notNull("X coordinates", xVals);
+        AssertUtils.notNull("Y coordinates", yVals);
+        AssertUtils.notNull("Y error neg", yErrNeg);
+        AssertUtils.notNull("Y error pos", yErrPos);
+        AssertUtils.indexInBounds(nSamples, xVals.length + 1, "xVals bounds");
+        AssertUtils.indexInBounds(nSamples, yVals.length + 1, "yVals bounds");
+        AssertUtils.indexInBounds(nSamples, yErrNeg.length + 1, "yErrNeg bounds");
+        AssertUtils.indexInBounds(nSamples, yErrPos.length + 1, "yErrPos bounds");
 
         lock().writeLockGuard(() -> {
-            this.xValues.put(xVals, xVals.length);
-            this.yValues.put(yVals, yVals.length);
-            this.yErrorsNeg.put(yErrNeg, yErrNeg.length);
-            this.yErrorsPos.put(yErrPos, yErrPos.length);
-            dataLabels.put(new String[yErrPos.length], yErrPos.length);
-            dataStyles.put(new String[yErrPos.length], yErrPos.length);
-
-            getAxisDescription(DIM_X).add(xVals);
-            for (int i = 0; i < yVals.length; i++) {
-                getAxisDescription(DIM_Y).add(yVals[i] + yErrPos[i]);
-                getAxisDescription(DIM_Y).add(yVals[i] - yErrNeg[i]);
+            invalidateLimitsOfOverwrittenSamples(nSamples);
+            this.xValues.put(xVals, nSamples);
+            this.yValues.put(yVals, nSamples);
+            this.yErrorsNeg.put(yErrNeg, nSamples);
+            this.yErrorsPos.put(yErrPos, nSamples);
+            if (nullStrings == null || nullStrings.length < nSamples) {
+                nullStrings = new String[nSamples];
             }
+            dataLabels.put(nullStrings, nSamples);
+            dataStyles.put(nullStrings, nSamples);
+
+            expandLimitsOfNewSamples(nSamples);
         });
 
         return fireInvalidated(new AddedDataEvent(this));
     }
 
+    /**
+     * expands the limits by the newly added samples. For ascending x coordinates (e.g. time-series) the x-limits are
+     * given by the first and last sample (O(1)) and thus remain defined while the oldest samples are being overwritten.
+     *
+     * @param nNewSamples number of samples that have been added
+     */
+    private void expandLimitsOfNewSamples(final int nNewSamples) {
+        // N.B. only the last 'capacity' samples are retained
+        final int dataCount = getDataCount();
+        final int nRetained = Math.min(nNewSamples, dataCount);
+        if (sortedX) {
+            sortedX = isAscending(DIM_X, dataCount - nRetained - 1, dataCount);
+            if (sortedX) {
+                setLimitsOfAscendingDimension(DIM_X);
+            } else {
+                // overwritten samples have not been checked for extrema
+                getAxisDescription(DIM_X).clear();
+            }
+        } else {
+            expandLimitsByIndex(DIM_X, nRetained, dataCount - nRetained, dataCount);
+        }
+        expandLimitsByIndex(DIM_Y, nRetained, dataCount - nRetained, dataCount);
+    }
+
+    /**
+     * invalidates the limits if one of the oldest samples that are going to be overwritten is an extremum
+     *
+     * @param nNewSamples number of samples that are going to be added
+     */
+    private void invalidateLimitsOfOverwrittenSamples(final int nNewSamples) {
+        final int nOverwritten = Math.min(getDataCount(), getDataCount() + nNewSamples - xValues.capacity());
+        if (nOverwritten <= 0) {
+            return;
+        }
+        if (!sortedX) {
+            invalidateLimitsIfExtremumByIndex(DIM_X, 0, nOverwritten);
+        }
+        invalidateLimitsIfExtremumByIndex(DIM_Y, 0, nOverwritten);
+    }
+
     @Override
     public int getDataCount() {
         return xValues.available();
@@ -184,6 +251,14 @@ public class CircularDoubleErrorDataSet extends AbstractErrorDataSet<CircularDou
         throw new UnsupportedOperationException("Removing data labels is not supported for this type of DataSet");
     }
 
+    @Override
+    public CircularDoubleErrorDataSet recomputeLimits(final int dimIndex) {
+        if (dimIndex == DIM_X) {
+            sortedX = isAscending(DIM_X, 0, getDataCount());
+        }
+        return super.recomputeLimits(dimIndex);
+    }
+
     /**
      * resets all data
      * 
@@ -197,6 +272,7 @@ public class CircularDoubleErrorDataSet extends AbstractErrorDataSet<CircularDou
             yErrorsPos.reset();
             dataLabels.reset();
             dataStyles.reset();
+            sortedX = true;
             getAxisDescriptions().forEach(AxisDescription::clear);
         });
 
@@ -0,0 +1,407 @@
+package de.gsi.dataset.spi;
+
+import java.io.Serializable;
+
+import de.gsi.dataset.AxisDescription;
+import de.gsi.dataset.DataSet;
+import de.gsi.dataset.DataSet3D;
+import de.gsi.dataset.GridDataSet;
+import de.gsi.dataset.event.AddedDataEvent;
+import de.gsi.dataset.event.RemovedDataEvent;
+import de.gsi.dataset.event.UpdatedDataEvent;
+import de.gsi.dataset.utils.AssertUtils;
+
+/**
+ * Ring-buffered 3D grid data set for streaming waterfall/spectrogram displays with a fixed x grid (e.g. frequencies)
+ * and a y grid (e.g. time) that grows by appending rows at the end. Once the capacity is reached, each new row
+ * overwrites the oldest one.
+ * <p>
+ * Appending a row is O(nx): the row is copied into the ring buffer and the logical (oldest-first) row order is exposed
+ * by rotating the row index in {@link #get(int, int)} and {@link #get(int, int...)} rather than by moving data. The
+ * z-range is tracked incrementally via per-row minima/maxima, i.e. it is expanded in O(1) per appended row and — if an
+ * overwritten row contained an extremum — recomputed in O(rows) rather than O(rows*nx).
+ * <p>
+ * Appends are notified via {@link AddedDataEvent}s with the (row-major, i.e. index = row * nx + column) index range
+ * of the new rows while the buffer is being filled, so that e.g. the ContourDataSetRenderer updates only these rows.
+ * Once the buffer is full, each append shifts all logical rows and the event covers the whole data set. Its payload
+ * identifies the overwritten ring buffer rows (see {@link BufferRows} and {@link #getRowOffset()}), so that listeners
+ * which keep their state in buffer row order need to update only these rows.
+ * <p>
+ * N.B. data labels and styles are not supported since their indices would be invalidated by rolling the buffer.
+ *
+ * @author rstein
+ */
+@SuppressWarnings({ "java:S2160" }) // equals is still valid because of DataSet interface
+public class CircularDoubleGridDataSet extends AbstractGridDataSet<CircularDoubleGridDataSet> implements DataSet3D {
+    private static final long serialVersionUID = -1954226472104337817L;
+    private static final String ROW_VALUES = "row values";
+    protected transient double[] xGrid; // fixed x grid values
+    protected transient double[] yValues; // y grid values of all rows (ring buffer, physical row order)
+    protected transient double[] zValues; // z values of all rows (ring buffer, physical row order, row-major)
+    protected transient double[] rowMin; // minimum z value per physical row
+    protected transient double[] rowMax; // maximum z value per physical row
+    protected transient int capacity; // maximum number of rows
+    protected transient int head; // physical index of the oldest row
+    protected transient int rowCount; // number of valid rows
+    protected transient int[] shape; // [nx, rowCount]
+
+    /**
+     * Creates a new instance of <code>CircularDoubleGridDataSet</code> as copy of another grid data set (deep-copy).
+     *
+     * @param another 3D grid data set to copy into this data set
+     * @param capacity maximum number of retained rows (N.B. only the last 'capacity' rows are copied)
+     */
+    public CircularDoubleGridDataSet(final GridDataSet another, final int capacity) {
+        this(another.getName(), another.getGridValues(DIM_X), capacity);
+        set(another, true);
+    }
+
+    /**
+     * Creates a new instance of <code>CircularDoubleGridDataSet</code>.
+     *
+     * @param name name of this DataSet.
+     * @param xGrid the fixed x grid values (N.B. copied)
+     * @param capacity maximum number of retained rows
+     * @throws IllegalArgumentException if {@code name} or {@code xGrid} is {@code null}, or the capacity is not
+     *             positive
+     */
+    public CircularDoubleGridDataSet(final String name, final double[] xGrid, final int capacity) {
+        super(name, 3);
+        AssertUtils.notNull("xGrid", xGrid);
+        AssertUtils.gtThanZero("capacity", capacity);
+        this.xGrid = xGrid.clone();
+        this.capacity = capacity;
+        yValues = new double[capacity];
+        zValues = new double[capacity * xGrid.length];
+        rowMin = new double[capacity];
+        rowMax = new double[capacity];
+        shape = new int[] { xGrid.length, 0 };
+    }
+
+    /**
+     * Appends a new row at the end of the data set, overwriting the oldest row if the capacity has been reached.
+     *
+     * @param y the y coordinate of the new row (N.B. must not be smaller than the last y coordinate)
+     * @param z the z values of the new row (N.B. copied, needs to contain at least nx values)
+     * @return itself (fluent design)
+     */
+    public CircularDoubleGridDataSet appendRow(final double y, final double[] z) {
+        return appendRow(y, z, 0);
+    }
+
+    /**
+     * Appends a new row at the end of the data set, overwriting the oldest row if the capacity has been reached.
+     *
+     * @param y the y coordinate of the new row (N.B. must not be smaller than the last y coordinate)
+     * @param z array containing the z values of the new row (N.B. copied)
+     * @param offset index of the first z value of the new row within 'z'
+     * @return itself (fluent design)
+     */
+    public CircularDoubleGridDataSet appendRow(final double y, final double[] z, final int offset) {
+        AssertUtils.notNull(ROW_VALUES, z);
+        if (offset < 0 || offset + shape[DIM_X] > z.length) {
+            throw new IllegalArgumentException("z values [" + offset + ", " + (offset + shape[DIM_X]) + ") out of bounds: " + z.length);
+        }
+        final AddedDataEvent event = lock().writeLockGuard(() -> {
+            checkMonotonic(y, rowCount == 0 ? Double.NaN : getGrid(DIM_Y, rowCount - 1));
+            final boolean rolling = rowCount == capacity;
+            putRow(y, z, offset);
+            return getAddedEvent("appendRow", 1, rolling);
+        });
+        fireInvalidated(event);
+        return this;
+    }
+
+    /**
+     * Appends several rows at the end of the data set. If more than 'capacity' rows are appended, only the last
+     * 'capacity' rows are retained.
+     *
+     * @param y the y coordinates of the new rows (N.B. must be monotonically increasing)
+     * @param z the z values of the new rows (row-major, i.e. y.length * nx values)
+     * @return itself (fluent design)
+     */
+    public CircularDoubleGridDataSet appendRows(final double[] y, final double[] z) {
+        AssertUtils.notNull("y", y);
+        AssertUtils.notNull(ROW_VALUES, z);
+        final int nx = shape[DIM_X];
+        if (z.length != y.length * nx) {
+            throw new IllegalArgumentException("z values must have a length of y.length * nx = " + y.length * nx + ": " + z.length);
+        }
+        if (y.length == 0) {
+            return this;
+        }
+        final AddedDataEvent event = lock().writeLockGuard(() -> {
+            checkMonotonic(y[0], rowCount == 0 ? Double.NaN : getGrid(DIM_Y, rowCount - 1));
+            for (int i = 1; i < y.length; i++) {
+                checkMonotonic(y[i], y[i - 1]);
+            }
+            final boolean rolling = rowCount + y.length > capacity;
+            // N.B. rows that would be overwritten immediately are skipped
+            for (int i = Math.max(0, y.length - capacity); i < y.length; i++) {
+                putRow(y[i], z, i * nx);
+            }
+            return getAddedEvent("appendRows", y.length, rolling);
+        });
+        fireInvalidated(event);
+        return this;
+    }
+
+    /**
+     * clear all data points
+     *
+     * @return itself (fluent design)
+     */
+    public CircularDoubleGridDataSet clearData() {
+        lock().writeLockGuard(() -> {
+            head = 0;
+            rowCount = 0;
+            shape[DIM_Y] = 0;
+            getAxisDescriptions().forEach(AxisDescription::clear);
+        });
+        fireInvalidated(new RemovedDataEvent(this, "clearData()"));
+        return this;
+    }
+
+    @Override
+    public double get(final int dimIndex, final int index) {
+        final int nx = shape[DIM_X];
+        switch (dimIndex) {
+        case DIM_X:
+            return xGrid[index % nx];
+        case DIM_Y:
+            return yValues[getPhysicalRow(index / nx)];
+        case DIM_Z:
+            return zValues[getPhysicalRow(index / nx) * nx + index % nx];
+        default:
+            throw new IndexOutOfBoundsException("dimIndex out of bounds: " + dimIndex);
+        }
+    }
+
+    @Override
+    public double get(final int dimIndex, final int... indices) {
+        switch (dimIndex) {
+        case DIM_X:
+            return xGrid[indices[DIM_X]];
+        case DIM_Y:
+            return yValues[getPhysicalRow(indices[DIM_Y])];
+        case DIM_Z:
+            return zValues[getPhysicalRow(indices[DIM_Y]) * shape[DIM_X] + indices[DIM_X]];
+        default:
+            throw new IndexOutOfBoundsException("dimIndex out of bounds: " + dimIndex);
+        }
+    }
+
+    /**
+     * @return maximum number of retained rows
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * N.B. the rows are stored in a ring buffer, i.e. logical row 'r' is stored in buffer row (r + offset) % capacity
+     *
+     * @return ring buffer row of the oldest (i.e. first logical) row
+     */
+    public int getRowOffset() {
+        return head;
+    }
+
+    @Override
+    public int getDataCount() {
+        return shape[DIM_X] * rowCount;
+    }
+
+    @Override
+    public double getGrid(final int dimIndex, final int index) {
+        switch (dimIndex) {
+        case DIM_X:
+            return xGrid[index];
+        case DIM_Y:
+            return yValues[getPhysicalRow(index)];
+        default:
+            throw new IndexOutOfBoundsException("Grid index out of bounds");
+        }
+    }
+
+    @Override
+    public int[] getShape() {
+        return shape;
+    }
+
+    @Override
+    public double[] getValues(final int dimIndex) {
+        if (dimIndex != DIM_Z) {
+            return super.getValues(dimIndex); // return new list with full coordinates
+        }
+        // N.B. returns a new array in logical row order (two block copies)
+        final int nx = shape[DIM_X];
+        final double[] values = new double[nx * rowCount];
+        final int nFirst = Math.min(rowCount, capacity - head);
+        System.arraycopy(zValues, head * nx, values, 0, nFirst * nx);
+        System.arraycopy(zValues, 0, values, nFirst * nx, (rowCount - nFirst) * nx);
+        return values;
+    }
+
+    @Override
+    public DataSet recomputeLimits(final int dimIndex) {
+        if (dimIndex == DIM_Y) {
+            setLimitsOfAscendingDimension(DIM_Y);
+            return this;
+        }
+        if (dimIndex != DIM_Z) {
+            return super.recomputeLimits(dimIndex);
+        }
+        // O(rows) using the per-row limits
+        final DataRange newRange = new DataRange();
+        for (int row = 0; row < rowCount; row++) {
+            final int physicalRow = getPhysicalRow(row);
+            newRange.add(rowMin[physicalRow]);
+            newRange.add(rowMax[physicalRow]);
+        }
+        getAxisDescription(dimIndex).set(newRange.getMin(), newRange.getMax());
+        return this;
+    }
+
+    @Override
+    public DataSet set(final DataSet other, final boolean copy) {
+        if (!(other instanceof GridDataSet) || other.getDimension() != 3) {
+            throw new UnsupportedOperationException("other data set has to be a 3D GridDataSet");
+        }
+        final GridDataSet another = (GridDataSet) other;
+        lock().writeLockGuard(() -> another.lock().writeLockGuard(() -> {
+            final int nx = another.getShape(DIM_X);
+            final int ny = another.getShape(DIM_Y);
+            if (nx != xGrid.length) {
+                xGrid = new double[nx];
+                zValues = new double[capacity * nx];
+            }
+            for (int i = 0; i < nx; i++) {
+                xGrid[i] = another.getGrid(DIM_X, i);
+            }
+            shape[DIM_X] = nx;
+            head = 0;
+            rowCount = 0;
+            getAxisDescriptions().forEach(AxisDescription::clear);
+            final double[] row = new double[nx];
+            for (int j = Math.max(0, ny - capacity); j < ny; j++) {
+                for (int i = 0; i < nx; i++) {
+                    row[i] = another.get(DIM_Z, i, j);
+                }
+                putRow(another.getGrid(DIM_Y, j), row, 0);
+            }
+            this.setStyle(another.getStyle());
+        }));
+        return fireInvalidated(new UpdatedDataEvent(this));
+    }
+
+    /**
+     * @return the event notifying the last 'nRows' appended rows. N.B. to be called while holding the write lock
+     */
+    private AddedDataEvent getAddedEvent(final String msg, final int nRows, final boolean rolling) {
+        final int dataCount = getDataCount();
+        if (rolling) {
+            // all logical rows have been shifted, only the overwritten buffer rows have been modified
+            final int nWritten = Math.min(nRows, capacity);
+            return new AddedDataEvent(this, msg, new BufferRows(getPhysicalRow(rowCount - nWritten), nWritten, capacity), 0, dataCount);
+        }
+        return new AddedDataEvent(this, msg, dataCount - nRows * shape[DIM_X], dataCount);
+    }
+
+    private int getPhysicalRow(final int row) {
+        final int physicalRow = head + row;
+        return physicalRow >= capacity ? physicalRow - capacity : physicalRow;
+    }
+
+    /**
+     * copies a new row into the ring buffer and updates the limits. N.B. to be called while holding the write lock
+     */
+    private void putRow(final double y, final double[] z, final int offset) {
+        final int nx = shape[DIM_X];
+        final int physicalRow;
+        if (rowCount == capacity) {
+            physicalRow = head;
+            head = getPhysicalRow(1);
+            // invalidate z limits if the overwritten row contained an extremum (N.B. y limits are updated below)
+            invalidateLimitsIfExtremum(DIM_Z, rowMin[physicalRow], rowMax[physicalRow]);
+        } else {
+            physicalRow = getPhysicalRow(rowCount);
+            rowCount++;
+            shape[DIM_Y] = rowCount;
+        }
+        System.arraycopy(z, offset, zValues, physicalRow * nx, nx);
+        yValues[physicalRow] = y;
+
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = offset; i < offset + nx; i++) {
+            final double value = z[i];
+            if (value < min) {
+                min = value;
+            }
+            if (value > max) {
+                max = value;
+            }
+        }
+        rowMin[physicalRow] = min;
+        rowMax[physicalRow] = max;
+
+        if (rowCount == 1) {
+            // first row: x limits of the fixed grid
+            expandLimits(DIM_X, nx, xGrid, 0, nx);
+        }
+        // N.B. y is monotonically increasing (see checkMonotonic) -> O(1) limits from the first and last row
+        setLimitsOfAscendingDimension(DIM_Y);
+        expandLimits(DIM_Z, nx, min, max);
+    }
+
+    private static void checkMonotonic(final double y, final double previousY) {
+        if (Double.isNaN(y) || y < previousY) {
+            throw new IllegalArgumentException("y coordinates must be monotonically increasing: " + y + " < " + previousY);
+        }
+    }
+
+    /**
+     * ring buffer rows overwritten by an append once the buffer is full (passed as {@link AddedDataEvent} payload). The
+     * rows [first, first + count) wrap around at the capacity, i.e. form at most two segments: [first, min(first +
+     * count, capacity)) and [0, first + count - capacity).
+     */
+    public static final class BufferRows implements Serializable {
+        private static final long serialVersionUID = 3417298531870225415L;
+        private final int first;
+        private final int count;
+        private final int capacity;
+
+        private BufferRows(final int first, final int count, final int capacity) {
+            this.first = first;
+            this.count = count;
+            this.capacity = capacity;
+        }
+
+        /**
+         * @return ring buffer capacity (rows)
+         */
+        public int getCapacity() {
+            return capacity;
+        }
+
+        /**
+         * @return number of overwritten buffer rows
+         */
+        public int getCount() {
+            return count;
+        }
+
+        /**
+         * @return first overwritten buffer row
+         */
+        public int getFirst() {
+            return first;
+        }
+
+        @Override
+        public String toString() {
+            return "BufferRows [first=" + first + ", count=" + count + ", capacity=" + capacity + "]";
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package de.gsi.dataset.spi;
+
+import de.gsi.dataset.DataSet;
+import de.gsi.dataset.utils.AssertUtils;
+
+/**
+ * Immutable snapshot of a data set's values (array references + data count + version) as returned by
+ * {@link AbstractDataSet#getSnapshot()}.
+ * <p>
+ * The snapshot may share its arrays with the source data set, which copies them before modifying any of the first
+ * {@link #getDataCount()} values while the snapshot is outstanding (copy-on-write). Thus, the snapshot can be read
+ * without holding the source's lock and should be closed as soon as it is no longer needed to avoid unnecessary copies.
+ * <p>
+ * N.B. the arrays returned by {@link #getValues(int)} may be longer than {@link #getDataCount()} and must not be
+ * modified. Modifications of the source's arrays that bypass its API (e.g. via {@link DataSet#getValues(int)}) are not
+ * detected.
+ *
+ * @author rstein
+ */
+@SuppressWarnings({ "java:S2160" }) // equals is still valid because of DataSet interface
+public class DataSetSnapshot extends AbstractDataSet<DataSetSnapshot> implements AutoCloseable {
+    private static final long serialVersionUID = 3487046137628164932L;
+    private final transient double[][] values;
+    private final int dataCount;
+    private final long version;
+    private transient Runnable release;
+    private boolean closed;
+
+    /**
+     * N.B. to be called while holding the source's read lock
+     *
+     * @param source the data set the snapshot is taken from (name, labels, styles, meta data and axis descriptions are
+     *            copied)
+     * @param values the values per dimension (N.B. not copied)
+     * @param dataCount number of valid data points
+     * @param release optional action to be executed once the snapshot is closed (may be {@code null})
+     */
+    public DataSetSnapshot(final DataSet source, final double[][] values, final int dataCount, final Runnable release) {
+        super(source.getName(), source.getDimension());
+        AssertUtils.notNull("values", values);
+        AssertUtils.gtEqThanZero("dataCount", dataCount);
+        if (values.length != source.getDimension()) {
+            throw new IllegalArgumentException("values must have " + source.getDimension() + " dimensions: " + values.length);
+        }
+        this.values = values;
+        this.dataCount = dataCount;
+        this.version = source instanceof AbstractDataSet ? ((AbstractDataSet<?>) source).getVersion() : 0;
+        this.release = release;
+        copyMetaData(source);
+        copyDataLabelsAndStyles(source, false);
+        copyAxisDescription(source);
+    }
+
+    /**
+     * releases the snapshot, i.e. the source data set no longer needs to copy its values before modifying them
+     */
+    @Override
+    public void close() {
+        final Runnable action;
+        synchronized (this) {
+            action = release;
+            release = null;
+            closed = true;
+        }
+        if (action != null) {
+            action.run();
+        }
+    }
+
+    @Override
+    public double get(final int dimIndex, final int index) {
+        return values[dimIndex][index];
+    }
+
+    @Override
+    public int getDataCount() {
+        return dataCount;
+    }
+
+    @Override
+    public double[] getValues(final int dimIndex) {
+        return values[dimIndex];
+    }
+
+    /**
+     * @return the source's modification count at the time the snapshot was taken (see
+     *         {@link AbstractDataSet#getVersion()})
+     */
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * @return {@code true} if the snapshot has been closed
+     */
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public DataSet set(final DataSet other, final boolean copy) {
+        throw new UnsupportedOperationException("snapshots are immutable");
+    }
+}
@@ -1,8 +1,7 @@
 package de.gsi.dataset.spi;
 
-import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import de.gsi.dataset.AxisDescription;
@@ -20,7 +19,7 @@ import de.gsi.dataset.spi.utils.MathUtils;
  */
 public class DefaultAxisDescription extends DataRange implements AxisDescription {
     private final transient AtomicBoolean autoNotification = new AtomicBoolean(true);
-    private final transient List<EventListener> updateListeners = Collections.synchronizedList(new LinkedList<>());
+    private final transient List<EventListener> updateListeners = new CopyOnWriteArrayList<>();
     private final int dimIndex;
     private String name;
     private String unit;
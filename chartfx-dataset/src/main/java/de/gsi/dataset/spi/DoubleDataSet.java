@@ -14,6 +14,10 @@ import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
 /**
  * Implementation of the {@code DataSet} interface which stores x,y values in two separate arrays. It provides methods
  * allowing easily manipulate of data points.
+ * <p>
+ * Snapshots (see {@link #getSnapshot()}) share the internal arrays without copying them. The arrays are copied only if
+ * values that are visible to an outstanding snapshot are about to be modified (copy-on-write), while appending data
+ * points beyond the snapshot's data count does not require a copy.
  *
  * @see DoubleErrorDataSet for an implementation with asymmetric errors in Y
  * @author rstein
@@ -25,6 +29,12 @@ public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements Edi
     private static final String Y_COORDINATES = "Y coordinates";
     protected DoubleArrayList xValues; // way faster than java default lists
     protected DoubleArrayList yValues; // way faster than java default lists
+    private final transient Object snapshotLock = new Object();
+    private transient double[] sharedXValues; // x array shared with outstanding snapshots
+    private transient double[] sharedYValues; // y array shared with outstanding snapshots
+    private transient int sharedCount; // largest data count of outstanding snapshots
+    private transient int nSnapshots; // number of outstanding snapshots sharing the arrays
+    private transient boolean sortedX = true; // N.B. 'true' only if the x coordinates are known to be ascending
 
     /**
      * Creates a new instance of <code>DoubleDataSet</code> as copy of another (deep-copy).
@@ -101,7 +111,8 @@ public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements Edi
      * @return itself (fluent design)
      */
     public DoubleDataSet add(final double x, final double y, final String label) {
-        lock().writeLockGuard(() -> {
+        final int indexAt = lock().writeLockGuard(() -> {
+            copyOnWrite(xValues.size());
             xValues.add(x);
             yValues.add(y);
 
@@ -109,10 +120,11 @@ public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements Edi
                 addDataLabel(xValues.size() - 1, label);
             }
 
-            getAxisDescription(DIM_X).add(x);
-            getAxisDescription(DIM_Y).add(y);
+            expandLimitsX(1, xValues.size() - 1, xValues.size(), false);
+            expandLimits(DIM_Y, 1, y);
+            return xValues.size() - 1;
         });
-        return fireInvalidated(new UpdatedDataEvent(this, "add"));
+        return fireInvalidated(new UpdatedDataEvent(this, "add", indexAt, indexAt + 1));
     }
 
     /**
@@ -126,19 +138,38 @@ public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements Edi
         AssertUtils.notNull(X_COORDINATES, xValuesNew);
         AssertUtils.notNull(Y_COORDINATES, yValuesNew);
         AssertUtils.equalDoubleArrays(xValuesNew, yValuesNew);
+        return add(xValuesNew, yValuesNew, xValuesNew.length);
+    }
 
-        lock().writeLockGuard(() -> {
-            final int addAt = xValues.size();
-            final int newElements = Math.min(xValuesNew.length, yValuesNew.length);
-            resize(addAt + newElements);
-            xValues.setElements(addAt, xValuesNew);
-            yValues.setElements(addAt, yValuesNew);
-
-            getAxisDescription(DIM_X).add(xValuesNew);
-            getAxisDescription(DIM_Y).add(yValuesNew);
+    /**
+     * Add the first {@code nSamples} entries of the array vectors to data set.
+     *
+     * @param xValuesNew X coordinates
+     * @param yValuesNew Y coordinates
+     * @param nSamples number of samples to be added (N.B. arrays may be longer)
+     * @return itself
+     */
+    public DoubleDataSet add(final double[] xValuesNew, final double[] yValuesNew, final int nSamples) {
+        AssertUtils.notNull(X_COORDINATES, xValuesNew);
+        AssertUtils.notNull(Y_COORDINATES, yValuesNew);
+        AssertUtils.indexInBounds(nSamples, xValuesNew.length + 1, "xValuesNew bounds");
+        AssertUtils.indexInBounds(nSamples, yValuesNew.length + 1, "yValuesNew bounds");
+
+        final int addAt = lock().writeLockGuard(() -> {
+            final int indexAt = xValues.size();
+            final int newElements = nSamples;
+            final boolean wasSorted = sortedX;
+            resize(indexAt + newElements);
+            xValues.setElements(indexAt, xValuesNew, 0, newElements);
+            yValues.setElements(indexAt, yValuesNew, 0, newElements);
+
+            sortedX = wasSorted; // N.B. 'resize' does not know about the new values
+            expandLimitsX(newElements, indexAt, indexAt + newElements, false);
+            expandLimits(DIM_Y, newElements, yValuesNew, 0, newElements);
+            return indexAt;
         });
 
-        return fireInvalidated(new AddedDataEvent(this));
+        return fireInvalidated(new AddedDataEvent(this, "add", addAt, getDataCount()));
     }
 
     /**
@@ -175,17 +206,19 @@ public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements Edi
      * @return itself (fluent design)
      */
     public DoubleDataSet add(final int index, final double x, final double y, final String label) {
-        lock().writeLockGuard(() -> {
+        final int addAt = lock().writeLockGuard(() -> {
             final int indexAt = Math.max(0, Math.min(index, getDataCount() + 1));
 
+            copyOnWrite(indexAt);
             xValues.add(indexAt, x);
             yValues.add(indexAt, y);
             getDataLabelMap().addValueAndShiftKeys(indexAt, xValues.size(), label);
             getDataStyleMap().shiftKeys(indexAt, xValues.size());
-            getAxisDescription(DIM_X).add(x);
-            getAxisDescription(DIM_Y).add(y);
+            expandLimitsX(1, indexAt, indexAt + 1, false);
+            expandLimits(DIM_Y, 1, y);
+            return indexAt;
         });
-        return fireInvalidated(new AddedDataEvent(this));
+        return fireInvalidated(new AddedDataEvent(this, "add", addAt, getDataCount()));
     }
 
     /**
@@ -202,16 +235,18 @@ public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements Edi
         final int min = Math.min(x.length, y.length);
         AssertUtils.equalDoubleArrays(x, y, min);
 
-        lock().writeLockGuard(() -> {
+        final int addAt = lock().writeLockGuard(() -> {
             final int indexAt = Math.max(0, Math.min(index, getDataCount() + 1));
+            copyOnWrite(indexAt);
             xValues.addElements(indexAt, x, 0, min);
             yValues.addElements(indexAt, y, 0, min);
-            getAxisDescription(DIM_X).add(x, min);
-            getAxisDescription(DIM_Y).add(y, min);
+            expandLimitsX(min, indexAt, indexAt + min, false);
+            expandLimits(DIM_Y, min, y, 0, min);
             getDataLabelMap().shiftKeys(indexAt, xValues.size());
             getDataStyleMap().shiftKeys(indexAt, xValues.size());
+            return indexAt;
         });
-        return fireInvalidated(new AddedDataEvent(this));
+        return fireInvalidated(new AddedDataEvent(this, "add", addAt, getDataCount()));
     }
 
     /**
@@ -227,6 +262,7 @@ public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements Edi
             getDataStyleMap().clear();
             clearMetaInfo();
 
+            sortedX = true;
             getAxisDescriptions().forEach(AxisDescription::clear);
         });
         return fireInvalidated(new RemovedDataEvent(this, "clearData()"));
@@ -249,6 +285,35 @@ public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements Edi
         return Math.min(xValues.size(), yValues.size());
     }
 
+    /**
+     * Returns an immutable snapshot sharing the internal arrays without copying them, i.e. the read lock is held only
+     * for the duration of this call. The arrays are copied by the first subsequent modification of values that are
+     * visible to an outstanding snapshot. N.B. data labels, styles, meta data and axis descriptions are copied (see
+     * {@link AbstractDataSet#getSnapshot()}).
+     *
+     * @return the snapshot (N.B. to be closed once no longer needed, e.g. via try-with-resources)
+     */
+    @Override
+    public DataSetSnapshot getSnapshot() {
+        return lock().readLockGuard(() -> {
+            final double[] x = xValues.elements();
+            final double[] y = yValues.elements();
+            final int dataCount = getDataCount();
+            synchronized (snapshotLock) {
+                if (nSnapshots == 0 || sharedXValues != x || sharedYValues != y) {
+                    // N.B. outstanding snapshots (if any) refer to arrays that have since been replaced
+                    sharedXValues = x;
+                    sharedYValues = y;
+                    sharedCount = 0;
+                    nSnapshots = 0;
+                }
+                sharedCount = Math.max(sharedCount, dataCount);
+                nSnapshots++;
+            }
+            return new DataSetSnapshot(this, new double[][] { x, y }, dataCount, () -> releaseSnapshot(x));
+        });
+    }
+
     @Override
     public final double[] getValues(final int dimIndex) {
         return dimIndex == DataSet.DIM_X ? xValues.elements() : yValues.elements();
@@ -261,8 +326,10 @@ public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements Edi
     public DoubleDataSet increaseCapacity(final int amount) {
         lock().writeLockGuard(() -> {
             final int size = getDataCount();
+            final boolean wasSorted = sortedX;
             resize(getCapacity() + amount);
             resize(size);
+            sortedX = wasSorted;
         });
         return getThis();
     }
@@ -291,15 +358,23 @@ public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements Edi
             AssertUtils.indexOrder(fromIndex, "fromIndex", toIndex, "toIndex");
 
             final int clampedToIndex = Math.min(toIndex, getDataCount());
+            // invalidate ranges only if an extremum is being removed
+            if (!sortedX) {
+                invalidateLimitsIfExtremum(DIM_X, xValues.elements(), fromIndex, clampedToIndex);
+            }
+            invalidateLimitsIfExtremum(DIM_Y, yValues.elements(), fromIndex, clampedToIndex);
+
+            copyOnWrite(fromIndex);
             xValues.removeElements(fromIndex, clampedToIndex);
             yValues.removeElements(fromIndex, clampedToIndex);
+            if (sortedX) {
+                // N.B. O(1) also when removing the oldest samples of a time-series
+                setLimitsOfAscendingDimension(DIM_X);
+            }
 
             // remove old label and style keys
             getDataLabelMap().remove(fromIndex, clampedToIndex);
             getDataStyleMap().remove(fromIndex, clampedToIndex);
-
-            // invalidate ranges
-            getAxisDescriptions().forEach(AxisDescription::clear);
         });
         return fireInvalidated(new RemovedDataEvent(this));
     }
@@ -312,8 +387,14 @@ public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements Edi
      */
     public DoubleDataSet resize(final int size) {
         lock().writeLockGuard(() -> {
+            final int oldSize = xValues.size();
+            if (size > oldSize) {
+                // N.B. growing the arrays zero-fills the new elements
+                copyOnWrite(oldSize);
+            }
             xValues.size(size);
             yValues.size(size);
+            sortedX = sortedX && isAscending(DIM_X, oldSize - 1, size);
         });
         return fireInvalidated(new UpdatedDataEvent(this, "increaseCapacity()"));
     }
@@ -401,6 +482,7 @@ public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements Edi
                     this.yValues = new DoubleArrayList();
                 }
                 resize(0);
+                copyOnWrite(0);
 
                 this.xValues.addElements(0, xValues, 0, nSamplesToAdd);
                 this.yValues.addElements(0, yValues, 0, nSamplesToAdd);
@@ -409,7 +491,8 @@ public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements Edi
                 this.yValues = DoubleArrayList.wrap(yValues, nSamplesToAdd);
             }
 
-            // invalidate ranges
+            // invalidate ranges (N.B. the order of the x coordinates is re-evaluated by 'recomputeLimits')
+            sortedX = false;
             getAxisDescriptions().forEach(AxisDescription::clear);
         });
         return fireInvalidated(new UpdatedDataEvent(this));
@@ -436,8 +519,17 @@ public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements Edi
      * @return itself (fluent design)
      */
     public DoubleDataSet set(final int index, final double x, final double y) {
-        lock().writeLockGuard(() -> {
-            final int dataCount = Math.max(index + 1, this.getDataCount());
+        final int indexMin = lock().writeLockGuard(() -> {
+            final int oldCount = this.getDataCount();
+            final int dataCount = Math.max(index + 1, oldCount);
+            if (index < oldCount) {
+                // invalidate ranges only if an extremum is being overwritten
+                if (!sortedX) {
+                    invalidateLimitsIfExtremum(DIM_X, xValues.elements()[index]);
+                }
+                invalidateLimitsIfExtremum(DIM_Y, yValues.elements()[index]);
+            }
+            copyOnWrite(Math.min(index, oldCount));
             xValues.size(dataCount);
             yValues.size(dataCount);
             xValues.elements()[index] = x;
@@ -445,24 +537,107 @@ public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements Edi
             getDataLabelMap().remove(index);
             getDataStyleMap().remove(index);
 
-            // invalidate ranges
-            getAxisDescriptions().forEach(AxisDescription::clear);
+            final int modifiedFrom = Math.min(index, oldCount);
+            expandLimitsX(index + 1 - modifiedFrom, modifiedFrom, index + 1, index < oldCount);
+            expandLimits(DIM_Y, index + 1 - modifiedFrom, yValues.elements(), modifiedFrom, index + 1);
+            return modifiedFrom;
         });
-        return fireInvalidated(new UpdatedDataEvent(this, "set - single"));
+        return fireInvalidated(new UpdatedDataEvent(this, "set - single", indexMin, index + 1));
     }
 
     public DoubleDataSet set(final int index, final double[] x, final double[] y) {
-        lock().writeLockGuard(() -> {
-            resize(Math.max(index + x.length, xValues.size()));
+        final int indexMin = lock().writeLockGuard(() -> {
+            final int oldCount = xValues.size();
+            // invalidate ranges only if an extremum is being overwritten
+            if (!sortedX) {
+                invalidateLimitsIfExtremum(DIM_X, xValues.elements(), Math.min(index, oldCount), Math.min(index + x.length, oldCount));
+            }
+            invalidateLimitsIfExtremum(DIM_Y, yValues.elements(), Math.min(index, oldCount), Math.min(index + x.length, oldCount));
+            copyOnWrite(Math.min(index, oldCount));
+            final boolean wasSorted = sortedX;
+            resize(Math.max(index + x.length, oldCount));
+            sortedX = wasSorted; // N.B. 'resize' does not know about the new values
             System.arraycopy(x, 0, xValues.elements(), index, x.length);
             System.arraycopy(y, 0, yValues.elements(), index, y.length);
             getDataLabelMap().remove(index, index + x.length);
             getDataStyleMap().remove(index, index + x.length);
 
-            // invalidate ranges
-            getAxisDescriptions().forEach(AxisDescription::clear);
+            final int modifiedFrom = Math.min(index, oldCount);
+            expandLimitsX(index + x.length - modifiedFrom, modifiedFrom, index + x.length, index < oldCount);
+            expandLimits(DIM_Y, index + x.length - modifiedFrom, yValues.elements(), modifiedFrom, index + x.length);
+            return modifiedFrom;
         });
-        return fireInvalidated(new UpdatedDataEvent(this, "set - via arrays"));
+        return fireInvalidated(new UpdatedDataEvent(this, "set - via arrays", indexMin, index + x.length));
+    }
+
+    @Override
+    public DataSet recomputeLimits(final int dimIndex) {
+        if (dimIndex == DIM_X) {
+            // N.B. also re-establishes the sorted-x state after direct modifications of the arrays
+            sortedX = isAscending(DIM_X, 0, getDataCount());
+        }
+        return super.recomputeLimits(dimIndex);
+    }
+
+    /**
+     * Copies the internal arrays if values at or beyond 'fromIndex' are about to be modified that are visible to an
+     * outstanding snapshot. N.B. to be called while holding the write lock and prior to modifying the arrays, also by
+     * derived classes that modify the arrays directly.
+     *
+     * @param fromIndex first index that is going to be modified (or shifted)
+     */
+    protected void copyOnWrite(final int fromIndex) {
+        synchronized (snapshotLock) {
+            if (nSnapshots == 0 || fromIndex >= sharedCount) {
+                return;
+            }
+            if (xValues.elements() == sharedXValues) {
+                xValues = copyOf(xValues);
+            }
+            if (yValues.elements() == sharedYValues) {
+                yValues = copyOf(yValues);
+            }
+            sharedXValues = null;
+            sharedYValues = null;
+            sharedCount = 0;
+            nSnapshots = 0;
+        }
+    }
+
+    /**
+     * Updates the x-limits after the samples within [fromIndex, toIndex) have been added or modified. While the x
+     * coordinates are sorted in ascending order (e.g. time-series) the limits are given by the first and last sample
+     * (O(1)), otherwise they are expanded by the modified samples.
+     *
+     * @param nNewValues number of data points that have been added or modified with this update
+     * @param fromIndex first index (inclusive) of the added or modified samples
+     * @param toIndex last index (exclusive) of the added or modified samples
+     * @param overwritten {@code true} if existing samples have been overwritten
+     */
+    private void expandLimitsX(final int nNewValues, final int fromIndex, final int toIndex, final boolean overwritten) {
+        if (sortedX) {
+            sortedX = isAscending(DIM_X, fromIndex - 1, toIndex + 1);
+            if (sortedX) {
+                setLimitsOfAscendingDimension(DIM_X);
+                return;
+            }
+            if (overwritten) {
+                // overwritten samples have not been checked for extrema
+                getAxisDescription(DIM_X).clear();
+                return;
+            }
+        }
+        expandLimits(DIM_X, nNewValues, xValues.elements(), fromIndex, toIndex);
+    }
+
+    private void releaseSnapshot(final double[] x) {
+        synchronized (snapshotLock) {
+            if (sharedXValues == x && nSnapshots > 0 && --nSnapshots == 0) {
+                sharedXValues = null;
+                sharedYValues = null;
+                sharedCount = 0;
+            }
+        }
     }
 
     /**
@@ -478,4 +653,10 @@ public class DoubleDataSet extends AbstractDataSet<DoubleDataSet> implements Edi
         });
         return fireInvalidated(new UpdatedDataEvent(this, "increaseCapacity()"));
     }
+
+    private static DoubleArrayList copyOf(final DoubleArrayList list) {
+        final double[] elements = new double[list.elements().length]; // N.B. retains the capacity
+        System.arraycopy(list.elements(), 0, elements, 0, list.size());
+        return DoubleArrayList.wrap(elements, list.size());
+    }
 }
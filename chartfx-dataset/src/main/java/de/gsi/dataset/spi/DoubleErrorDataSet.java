@@ -28,6 +28,7 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
     protected DoubleArrayList yValues; // way faster than java default lists
     protected DoubleArrayList yErrorsPos;
     protected DoubleArrayList yErrorsNeg;
+    private transient boolean sortedX = true; // N.B. 'true' only if the x coordinates are known to be ascending
 
     /**
      * Creates a new instance of <code>DoubleErrorDataSet</code> as copy of another (deep-copy).
@@ -123,7 +124,7 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
      * @return itself (fluent design)
      */
     public DoubleErrorDataSet add(final double x, final double y, final double yErrorNeg, final double yErrorPos, final String label) {
-        lock().writeLockGuard(() -> {
+        final int indexAt = lock().writeLockGuard(() -> {
             xValues.add(x);
             yValues.add(y);
             yErrorsNeg.add(yErrorNeg);
@@ -133,11 +134,11 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
                 addDataLabel(xValues.size() - 1, label);
             }
 
-            getAxisDescription(DIM_X).add(x);
-            getAxisDescription(DIM_Y).add(y - yErrorNeg);
-            getAxisDescription(DIM_Y).add(y + yErrorPos);
+            expandLimitsX(1, xValues.size() - 1, xValues.size(), false);
+            expandLimits(DIM_Y, 1, y - yErrorNeg, y + yErrorPos);
+            return xValues.size() - 1;
         });
-        return fireInvalidated(new UpdatedDataEvent(this, "add"));
+        return fireInvalidated(new UpdatedDataEvent(this, "add", indexAt, indexAt + 1));
     }
 
     /**
@@ -156,20 +157,23 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
         AssertUtils.notNull("Y error coordinates", yErrorsPosNew);
         AssertUtils.equalDoubleArrays(xValuesNew, yValuesNew);
 
-        lock().writeLockGuard(() -> {
-            final int addAt = xValues.size();
+        final int addAt = lock().writeLockGuard(() -> {
+            final int indexAt = xValues.size();
             final int newElements = Math.min(Math.min(xValuesNew.length, yValuesNew.length), Math.min(yErrorsNegNew.length, yErrorsPosNew.length));
-            this.resize(addAt + newElements);
-
-            xValues.setElements(addAt, xValuesNew, 0, newElements);
-            yValues.setElements(addAt, yValuesNew, 0, newElements);
-            yErrorsNeg.setElements(addAt, yErrorsNegNew, 0, newElements);
-            yErrorsPos.setElements(addAt, yErrorsPosNew, 0, newElements);
-
-            getAxisDescription(DIM_X).add(xValuesNew);
-            getAxisDescription(DIM_Y).add(yValuesNew);
+            final boolean wasSorted = sortedX;
+            this.resize(indexAt + newElements);
+
+            xValues.setElements(indexAt, xValuesNew, 0, newElements);
+            yValues.setElements(indexAt, yValuesNew, 0, newElements);
+            yErrorsNeg.setElements(indexAt, yErrorsNegNew, 0, newElements);
+            yErrorsPos.setElements(indexAt, yErrorsPosNew, 0, newElements);
+
+            sortedX = wasSorted; // N.B. 'resize' does not know about the new values
+            expandLimitsX(newElements, indexAt, indexAt + newElements, false);
+            expandLimitsByIndex(DIM_Y, newElements, indexAt, indexAt + newElements);
+            return indexAt;
         });
-        return fireInvalidated(new AddedDataEvent(this));
+        return fireInvalidated(new AddedDataEvent(this, "add", addAt, getDataCount()));
     }
 
     /**
@@ -225,7 +229,7 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
      * @return itself (fluent design)
      */
     public DoubleErrorDataSet add(final int index, final double x, final double y, final double yErrorNeg, final double yErrorPos, final String label) {
-        lock().writeLockGuard(() -> {
+        final int addAt = lock().writeLockGuard(() -> {
             final int indexAt = Math.max(0, Math.min(index, getDataCount() + 1));
 
             xValues.add(indexAt, x);
@@ -234,11 +238,11 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
             yErrorsPos.add(indexAt, yErrorPos);
             getDataLabelMap().addValueAndShiftKeys(indexAt, xValues.size(), label);
             getDataStyleMap().shiftKeys(indexAt, xValues.size());
-            getAxisDescription(DIM_X).add(x);
-            getAxisDescription(DIM_Y).add(y - yErrorNeg);
-            getAxisDescription(DIM_Y).add(y + yErrorPos);
+            expandLimitsX(1, indexAt, indexAt + 1, false);
+            expandLimits(DIM_Y, 1, y - yErrorNeg, y + yErrorPos);
+            return indexAt;
         });
-        return fireInvalidated(new AddedDataEvent(this));
+        return fireInvalidated(new AddedDataEvent(this, "add", addAt, getDataCount()));
     }
 
     /**
@@ -259,7 +263,7 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
         final int min = Math.min(x.length, y.length);
         AssertUtils.equalDoubleArrays(x, y, min);
 
-        lock().writeLockGuard(() -> {
+        final int addAt = lock().writeLockGuard(() -> {
             final int indexAt = Math.max(0, Math.min(index, getDataCount()));
 
             xValues.addElements(indexAt, x, 0, min);
@@ -267,15 +271,16 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
             yErrorsNeg.addElements(indexAt, yErrorNeg, 0, min);
             yErrorsPos.addElements(indexAt, yErrorPos, 0, min);
 
-            // recompute ranges
-            getAxisDescription(DIM_X).add(x);
-            getAxisDescription(DIM_Y).add(y);
+            // update ranges
+            expandLimitsX(min, indexAt, indexAt + min, false);
+            expandLimitsByIndex(DIM_Y, min, indexAt, indexAt + min);
 
             getDataLabelMap().shiftKeys(indexAt, xValues.size());
             getDataStyleMap().shiftKeys(indexAt, xValues.size());
+            return indexAt;
         });
 
-        return fireInvalidated(new AddedDataEvent(this));
+        return fireInvalidated(new AddedDataEvent(this, "add", addAt, getDataCount()));
     }
 
     /**
@@ -293,6 +298,7 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
             getDataStyleMap().clear();
             clearMetaInfo();
 
+            sortedX = true;
             getAxisDescriptions().forEach(AxisDescription::clear);
         });
         return fireInvalidated(new RemovedDataEvent(this, "clearData()"));
@@ -347,8 +353,10 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
     public DoubleErrorDataSet increaseCapacity(final int amount) {
         lock().writeLockGuard(() -> {
             final int size = getDataCount();
+            final boolean wasSorted = sortedX;
             resize(this.getCapacity() + amount);
             resize(size);
+            sortedX = wasSorted;
         });
         return getThis();
     }
@@ -371,17 +379,24 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
             AssertUtils.indexOrder(fromIndex, "fromIndex", toIndex, "toIndex");
 
             final int clampedToIndex = Math.min(toIndex, getDataCount());
+            // invalidate ranges only if an extremum is being removed
+            if (!sortedX) {
+                invalidateLimitsIfExtremumByIndex(DIM_X, fromIndex, clampedToIndex);
+            }
+            invalidateLimitsIfExtremumByIndex(DIM_Y, fromIndex, clampedToIndex);
+
             xValues.removeElements(fromIndex, clampedToIndex);
             yValues.removeElements(fromIndex, clampedToIndex);
             yErrorsNeg.removeElements(fromIndex, clampedToIndex);
             yErrorsPos.removeElements(fromIndex, clampedToIndex);
+            if (sortedX) {
+                // N.B. O(1) also when removing the oldest samples of a time-series
+                setLimitsOfAscendingDimension(DIM_X);
+            }
 
             // remove old label and style keys
             getDataLabelMap().remove(fromIndex, clampedToIndex);
             getDataLabelMap().remove(fromIndex, clampedToIndex);
-
-            // invalidate ranges
-            getAxisDescriptions().forEach(AxisDescription::clear);
         });
         return fireInvalidated(new RemovedDataEvent(this));
     }
@@ -394,10 +409,12 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
      */
     public DoubleErrorDataSet resize(final int size) {
         lock().writeLockGuard(() -> {
+            final int oldSize = xValues.size();
             xValues.size(size);
             yValues.size(size);
             yErrorsPos.size(size);
             yErrorsNeg.size(size);
+            sortedX = sortedX && isAscending(DIM_X, oldSize - 1, size);
         });
         return fireInvalidated(new UpdatedDataEvent(this, "increaseCapacity()"));
     }
@@ -522,7 +539,8 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
                 this.yErrorsPos = DoubleArrayList.wrap(yErrorsPos, nSamplesToAdd);
             }
 
-            // invalidate ranges
+            // invalidate ranges (N.B. the order of the x coordinates is re-evaluated by 'recomputeLimits')
+            sortedX = false;
             getAxisDescriptions().forEach(AxisDescription::clear);
         });
         return fireInvalidated(new UpdatedDataEvent(this));
@@ -566,8 +584,14 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
      * @return itself (fluent design)
      */
     public DoubleErrorDataSet set(final int index, final double x, final double y, final double yErrorNeg, final double yErrorPos) {
-        lock().writeLockGuard(() -> {
-            final int dataCount = Math.max(index + 1, this.getDataCount());
+        final int indexMin = lock().writeLockGuard(() -> {
+            final int oldCount = this.getDataCount();
+            final int dataCount = Math.max(index + 1, oldCount);
+            // invalidate ranges only if an extremum is being overwritten
+            if (!sortedX) {
+                invalidateLimitsIfExtremumByIndex(DIM_X, Math.min(index, oldCount), Math.min(index + 1, oldCount));
+            }
+            invalidateLimitsIfExtremumByIndex(DIM_Y, Math.min(index, oldCount), Math.min(index + 1, oldCount));
             xValues.size(dataCount);
             yValues.size(dataCount);
             xValues.elements()[index] = x;
@@ -579,16 +603,26 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
             getDataLabelMap().remove(index);
             getDataStyleMap().remove(index);
 
-            // invalidate ranges
-            getAxisDescriptions().forEach(AxisDescription::clear);
+            final int modifiedFrom = Math.min(index, oldCount);
+            expandLimitsX(index + 1 - modifiedFrom, modifiedFrom, index + 1, index < oldCount);
+            expandLimitsByIndex(DIM_Y, index + 1 - modifiedFrom, modifiedFrom, index + 1);
+            return modifiedFrom;
         });
 
-        return fireInvalidated(new UpdatedDataEvent(this, "set - single"));
+        return fireInvalidated(new UpdatedDataEvent(this, "set - single", indexMin, index + 1));
     }
 
     public DoubleErrorDataSet set(final int index, final double[] x, final double[] y, final double[] yErrorNeg, final double[] yErrorPos) {
-        lock().writeLockGuard(() -> {
-            resize(Math.max(index + x.length, xValues.size()));
+        final int indexMin = lock().writeLockGuard(() -> {
+            final int oldCount = xValues.size();
+            // invalidate ranges only if an extremum is being overwritten
+            if (!sortedX) {
+                invalidateLimitsIfExtremumByIndex(DIM_X, Math.min(index, oldCount), Math.min(index + x.length, oldCount));
+            }
+            invalidateLimitsIfExtremumByIndex(DIM_Y, Math.min(index, oldCount), Math.min(index + x.length, oldCount));
+            final boolean wasSorted = sortedX;
+            resize(Math.max(index + x.length, oldCount));
+            sortedX = wasSorted; // N.B. 'resize' does not know about the new values
             System.arraycopy(x, 0, xValues.elements(), index, x.length);
             System.arraycopy(y, 0, yValues.elements(), index, y.length);
             System.arraycopy(yErrorNeg, 0, yErrorsNeg.elements(), index, yErrorNeg.length);
@@ -596,10 +630,12 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
             getDataLabelMap().remove(index, index + x.length);
             getDataStyleMap().remove(index, index + x.length);
 
-            // invalidate ranges
-            getAxisDescriptions().forEach(AxisDescription::clear);
+            final int modifiedFrom = Math.min(index, oldCount);
+            expandLimitsX(index + x.length - modifiedFrom, modifiedFrom, index + x.length, index < oldCount);
+            expandLimitsByIndex(DIM_Y, index + x.length - modifiedFrom, modifiedFrom, index + x.length);
+            return modifiedFrom;
         });
-        return fireInvalidated(new UpdatedDataEvent(this, "set - via arrays"));
+        return fireInvalidated(new UpdatedDataEvent(this, "set - via arrays", indexMin, index + x.length));
     }
 
     /**
@@ -608,6 +644,14 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
      * @see java.util.ArrayList#trimToSize()
      * @return itself (fluent design)
      */
+    @Override
+    public DoubleErrorDataSet recomputeLimits(final int dimIndex) {
+        if (dimIndex == DIM_X) {
+            sortedX = isAscending(DIM_X, 0, getDataCount());
+        }
+        return super.recomputeLimits(dimIndex);
+    }
+
     public DoubleErrorDataSet trim() {
         lock().writeLockGuard(() -> {
             xValues.trim(0);
@@ -617,4 +661,30 @@ public class DoubleErrorDataSet extends AbstractErrorDataSet<DoubleErrorDataSet>
         });
         return fireInvalidated(new UpdatedDataEvent(this, "increaseCapacity()"));
     }
+
+    /**
+     * Updates the x-limits after the samples within [fromIndex, toIndex) have been added or modified. While the x
+     * coordinates are sorted in ascending order (e.g. time-series) the limits are given by the first and last sample
+     * (O(1)), otherwise they are expanded by the modified samples.
+     *
+     * @param nNewValues number of data points that have been added or modified with this update
+     * @param fromIndex first index (inclusive) of the added or modified samples
+     * @param toIndex last index (exclusive) of the added or modified samples
+     * @param overwritten {@code true} if existing samples have been overwritten
+     */
+    private void expandLimitsX(final int nNewValues, final int fromIndex, final int toIndex, final boolean overwritten) {
+        if (sortedX) {
+            sortedX = isAscending(DIM_X, fromIndex - 1, toIndex + 1);
+            if (sortedX) {
+                setLimitsOfAscendingDimension(DIM_X);
+                return;
+            }
+            if (overwritten) {
+                // overwritten samples have not been checked for extrema
+                getAxisDescription(DIM_X).clear();
+                return;
+            }
+        }
+        expandLimitsByIndex(DIM_X, nNewValues, fromIndex, toIndex);
+    }
 }
@@ -257,8 +257,13 @@ public class DoubleGridDataSet extends AbstractGridDataSet<DoubleGridDataSet> im
      * @return itself for method chaining
      */
     public GridDataSet set(int dimIndex, int[] indices, double value) {
-        lock().writeLockGuard(() -> values[dimIndex - shape.length].set(indices, value));
-        return fireInvalidated(new UpdatedDataEvent(this, "set x_" + dimIndex + Arrays.toString(indices) + " = " + value));
+        final int index = lock().writeLockGuard(() -> {
+            final MultiArrayDouble container = values[dimIndex - shape.length];
+            final int[] containerIndices = reverseOrder(indices);
+            container.set(containerIndices, value);
+            return container.getIndex(containerIndices) - container.getOffset();
+        });
+        return fireInvalidated(new UpdatedDataEvent(this, "set x_" + dimIndex + Arrays.toString(indices) + " = " + value, index, index + 1));
     }
 
     public void clearData() {
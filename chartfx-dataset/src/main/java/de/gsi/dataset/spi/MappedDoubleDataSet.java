@@ -0,0 +1,357 @@
+package de.gsi.dataset.spi;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import de.gsi.dataset.AxisDescription;
+import de.gsi.dataset.DataSet;
+import de.gsi.dataset.event.AddedDataEvent;
+import de.gsi.dataset.event.RemovedDataEvent;
+import de.gsi.dataset.event.UpdatedDataEvent;
+import de.gsi.dataset.utils.ArrayPool;
+import de.gsi.dataset.utils.AssertUtils;
+
+/**
+ * Append-only, off-heap implementation of the {@code DataSet} interface that stores each dimension (column) in a
+ * separate memory-mapped file. This allows to chart multi-GB archives without correspondingly large heaps or GC
+ * pressure: the data is paged in and out by the operating system on demand.
+ * <p>
+ * Each column file '{@code <basePath>.<dimIndex>}' consists of a small header (magic, version, data count) followed by
+ * the little-endian double values. The files are mapped in segments of {@code segmentSize} values (N.B. single mappings
+ * are limited to 2 GB) which are added as the data grows. An existing data set is re-opened with its previous content.
+ * <p>
+ * {@link #get(int, int)} and {@link #getIndex(int, double...)} (binary search, assumes sorted values) operate directly
+ * on the mapped data. N.B. {@link #getValues(int)} needs to copy the data onto the heap and should be avoided for large
+ * data sets.
+ *
+ * @author rstein
+ */
+public class MappedDoubleDataSet extends AbstractDataSet<MappedDoubleDataSet> implements AutoCloseable {
+    private static final long serialVersionUID = 2393581742917426538L;
+    /** default number of values per mapped segment (128 MB) */
+    public static final int DEFAULT_SEGMENT_SIZE = 1 << 24;
+    private static final int MAGIC = 0x43465844; // "CFXD"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 16; // int magic, int version, long data count
+    private static final int DATA_COUNT_OFFSET = 8;
+    private final transient FileChannel[] channels;
+    private final transient MappedByteBuffer[] headers;
+    private final transient MappedByteBuffer[][] mappedSegments; // [dimIndex][segment]
+    private final transient DoubleBuffer[][] segments; // [dimIndex][segment]
+    private final int segmentShift;
+    private final int segmentMask;
+    private int dataCount;
+
+    /**
+     * Creates a new or opens an existing <code>MappedDoubleDataSet</code> with {@link #DEFAULT_SEGMENT_SIZE}.
+     *
+     * @param name name of this DataSet.
+     * @param basePath base path of the column files
+     * @param nDims number of dimensions
+     * @throws IOException in case the column files cannot be created or mapped
+     */
+    public MappedDoubleDataSet(final String name, final Path basePath, final int nDims) throws IOException {
+        this(name, basePath, nDims, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Creates a new or opens an existing <code>MappedDoubleDataSet</code>.
+     *
+     * @param name name of this DataSet.
+     * @param basePath base path of the column files
+     * @param nDims number of dimensions
+     * @param segmentSize number of values per mapped segment (N.B. needs to be a power of two and must not change for
+     *            existing files)
+     * @throws IOException in case the column files cannot be created or mapped
+     */
+    public MappedDoubleDataSet(final String name, final Path basePath, final int nDims, final int segmentSize) throws IOException {
+        super(name, nDims);
+        AssertUtils.notNull("basePath", basePath);
+        AssertUtils.gtThanZero("nDims", nDims);
+        if (!ArrayPool.isPowerOfTwo(segmentSize) || segmentSize > (Integer.MAX_VALUE / Double.BYTES)) {
+            throw new IllegalArgumentException("segmentSize '" + segmentSize + "' must be a power of two and less than 2 GB");
+        }
+        segmentShift = Integer.numberOfTrailingZeros(segmentSize);
+        segmentMask = segmentSize - 1;
+        channels = new FileChannel[nDims];
+        headers = new MappedByteBuffer[nDims];
+        mappedSegments = new MappedByteBuffer[nDims][0];
+        segments = new DoubleBuffer[nDims][0];
+
+        int existingCount = Integer.MAX_VALUE;
+        try {
+            for (int dim = 0; dim < nDims; dim++) {
+                final Path columnPath = basePath.resolveSibling(basePath.getFileName() + "." + dim);
+                channels[dim] = FileChannel.open(columnPath, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                final boolean isNew = channels[dim].size() < HEADER_BYTES;
+                headers[dim] = channels[dim].map(MapMode.READ_WRITE, 0, HEADER_BYTES);
+                if (isNew) {
+                    headers[dim].putInt(0, MAGIC).putInt(4, VERSION).putLong(DATA_COUNT_OFFSET, 0L);
+                } else if (headers[dim].getInt(0) != MAGIC || headers[dim].getInt(4) != VERSION) {
+                    throw new IOException("incompatible column file header: " + columnPath);
+                }
+                existingCount = (int) Math.min(existingCount, headers[dim].getLong(DATA_COUNT_OFFSET));
+            }
+            ensureCapacity(existingCount);
+        } catch (final IOException | RuntimeException e) {
+            try {
+                closeChannels();
+            } catch (final UncheckedIOException closeException) {
+                e.addSuppressed(closeException.getCause());
+            }
+            throw e;
+        }
+        // N.B. the limits of existing data are lazily recomputed on demand
+        dataCount = existingCount;
+    }
+
+    /**
+     * Add point to the end of the data set
+     *
+     * @param newValues the coordinates of the new data point (one value per dimension)
+     * @return itself (fluent design)
+     */
+    public MappedDoubleDataSet add(final double... newValues) {
+        AssertUtils.checkArrayDimension("newValues", newValues, getDimension());
+        final int indexAt = lock().writeLockGuard(() -> {
+            final int index = dataCount;
+            ensureCapacityUnchecked(index + 1);
+            for (int dim = 0; dim < newValues.length; dim++) {
+                put(dim, index, newValues[dim]);
+            }
+            setDataCount(index + 1);
+            for (int dim = 0; dim < newValues.length; dim++) {
+                expandLimits(dim, 1, newValues[dim]);
+            }
+            return index;
+        });
+        return fireInvalidated(new AddedDataEvent(this, "add", indexAt, indexAt + 1));
+    }
+
+    /**
+     * Add array vectors to the end of the data set.
+     *
+     * @param newValues the coordinates of the new data points (one array per dimension)
+     * @return itself (fluent design)
+     */
+    public MappedDoubleDataSet add(final double[][] newValues) {
+        AssertUtils.notNull("newValues", newValues);
+        if (newValues.length != getDimension()) {
+            throw new IllegalArgumentException("newValues dimension '" + newValues.length + "' does not match data set dimension " + getDimension());
+        }
+        final int nPoints = newValues[0].length;
+        for (int dim = 0; dim < newValues.length; dim++) {
+            AssertUtils.notNull("coordinates dim " + dim, newValues[dim]);
+            AssertUtils.checkArrayDimension("New Data for dim " + dim, newValues[dim], nPoints);
+        }
+
+        final int addAt = lock().writeLockGuard(() -> {
+            final int indexAt = dataCount;
+            ensureCapacityUnchecked(indexAt + nPoints);
+            for (int dim = 0; dim < newValues.length; dim++) {
+                put(dim, indexAt, newValues[dim], nPoints);
+            }
+            setDataCount(indexAt + nPoints);
+            for (int dim = 0; dim < newValues.length; dim++) {
+                expandLimits(dim, nPoints, newValues[dim], 0, nPoints);
+            }
+            return indexAt;
+        });
+        return fireInvalidated(new AddedDataEvent(this, "add", addAt, addAt + nPoints));
+    }
+
+    /**
+     * clear all data points (N.B. the files keep their mapped size)
+     *
+     * @return itself (fluent design)
+     */
+    public MappedDoubleDataSet clearData() {
+        lock().writeLockGuard(() -> {
+            setDataCount(0);
+            getDataLabelMap().clear();
+            getDataStyleMap().clear();
+            clearMetaInfo();
+
+            getAxisDescriptions().forEach(AxisDescription::clear);
+        });
+        return fireInvalidated(new RemovedDataEvent(this, "clearData()"));
+    }
+
+    /**
+     * Flushes the data to the storage device and closes the underlying files. The data set must not be used afterwards.
+     */
+    @Override
+    public void close() {
+        lock().writeLockGuard(() -> {
+            force();
+            closeChannels();
+        });
+    }
+
+    /**
+     * Forces any changes to be written to the storage device
+     *
+     * @return itself (fluent design)
+     */
+    public MappedDoubleDataSet force() {
+        for (final MappedByteBuffer header : headers) {
+            if (header != null) {
+                header.force();
+            }
+        }
+        for (final MappedByteBuffer[] column : mappedSegments) {
+            for (final MappedByteBuffer segment : column) {
+                segment.force();
+            }
+        }
+        return getThis();
+    }
+
+    @Override
+    public final double get(final int dimIndex, final int index) {
+        return segments[dimIndex][index >>> segmentShift].get(index & segmentMask);
+    }
+
+    @Override
+    public int getDataCount() {
+        return dataCount;
+    }
+
+    @Override
+    public int getIndex(final int dimIndex, final double... x) {
+        AssertUtils.checkArrayDimension("x", x, 1);
+        final int lastIndex = dataCount - 1;
+        if (lastIndex < 0 || !Double.isFinite(x[0]) || x[0] <= get(dimIndex, 0)) {
+            return 0;
+        }
+        if (x[0] >= get(dimIndex, lastIndex)) {
+            return lastIndex;
+        }
+
+        // binary closest search directly on the mapped data -- assumes sorted data set
+        int low = 0;
+        int high = lastIndex;
+        while (high - low > 1) {
+            final int middle = (low + high) >>> 1;
+            final double valMiddle = get(dimIndex, middle);
+            if (valMiddle == x[0]) {
+                return middle;
+            }
+            if (x[0] < valMiddle) {
+                high = middle;
+            } else {
+                low = middle;
+            }
+        }
+        return Math.abs(get(dimIndex, low) - x[0]) < Math.abs(get(dimIndex, high) - x[0]) ? low : high;
+    }
+
+    /**
+     * @return number of values per mapped segment
+     */
+    public int getSegmentSize() {
+        return segmentMask + 1;
+    }
+
+    @Override
+    public MappedDoubleDataSet set(final DataSet other, final boolean copy) {
+        lock().writeLockGuard(() -> other.lock().writeLockGuard(() -> {
+            final int nSamples = other.getDataCount();
+            final int nDims = Math.min(getDimension(), other.getDimension());
+            ensureCapacityUnchecked(nSamples);
+            for (int dim = 0; dim < getDimension(); dim++) {
+                for (int index = 0; index < nSamples; index++) {
+                    put(dim, index, dim < nDims ? other.get(dim, index) : Double.NaN);
+                }
+            }
+            setDataCount(nSamples);
+
+            copyMetaData(other);
+            copyDataLabelsAndStyles(other, copy);
+            copyAxisDescription(other);
+        }));
+        return fireInvalidated(new UpdatedDataEvent(this));
+    }
+
+    /**
+     * closes all channels, N.B. the first failure is rethrown (with further failures as suppressed exceptions) only after
+     * all channels have been closed
+     */
+    private void closeChannels() {
+        IOException exception = null;
+        for (final FileChannel channel : channels) {
+            if (channel == null) {
+                continue;
+            }
+            try {
+                channel.close();
+            } catch (final IOException e) {
+                if (exception == null) {
+                    exception = e;
+                } else {
+                    exception.addSuppressed(e);
+                }
+            }
+        }
+        if (exception != null) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private void ensureCapacity(final int minCapacity) throws IOException {
+        final int nSegments = minCapacity == 0 ? 0 : ((minCapacity - 1) >>> segmentShift) + 1;
+        final long segmentBytes = (long) Double.BYTES << segmentShift;
+        for (int dim = 0; dim < segments.length; dim++) {
+            final int oldSegments = segments[dim].length;
+            if (oldSegments >= nSegments) {
+                continue;
+            }
+            mappedSegments[dim] = Arrays.copyOf(mappedSegments[dim], nSegments);
+            segments[dim] = Arrays.copyOf(segments[dim], nSegments);
+            for (int segment = oldSegments; segment < nSegments; segment++) {
+                // N.B. mapping beyond the end of file grows the file (sparse on most file systems)
+                mappedSegments[dim][segment] = channels[dim].map(MapMode.READ_WRITE, HEADER_BYTES + segment * segmentBytes, segmentBytes);
+                segments[dim][segment] = mappedSegments[dim][segment].order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+            }
+        }
+    }
+
+    private void ensureCapacityUnchecked(final int minCapacity) {
+        try {
+            ensureCapacity(minCapacity);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("could not map additional segment for data set " + getName(), e);
+        }
+    }
+
+    private void put(final int dimIndex, final int index, final double value) {
+        segments[dimIndex][index >>> segmentShift].put(index & segmentMask, value);
+    }
+
+    private void put(final int dimIndex, final int index, final double[] values, final int nValues) {
+        int offset = 0;
+        while (offset < nValues) {
+            final int dst = index + offset;
+            final int length = Math.min(nValues - offset, segmentMask + 1 - (dst & segmentMask));
+            final DoubleBuffer segment = segments[dimIndex][dst >>> segmentShift].duplicate();
+            segment.position(dst & segmentMask);
+            segment.put(values, offset, length);
+            offset += length;
+        }
+    }
+
+    private void setDataCount(final int newDataCount) {
+        dataCount = newDataCount;
+        for (final MappedByteBuffer header : headers) {
+            header.putLong(DATA_COUNT_OFFSET, newDataCount);
+        }
+    }
+}
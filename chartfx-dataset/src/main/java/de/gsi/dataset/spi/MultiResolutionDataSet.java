@@ -0,0 +1,227 @@
+package de.gsi.dataset.spi;
+
+import de.gsi.dataset.AxisDescription;
+import de.gsi.dataset.DataSet;
+import de.gsi.dataset.DataSet2D;
+import de.gsi.dataset.event.AddedDataEvent;
+import de.gsi.dataset.event.RemovedDataEvent;
+import de.gsi.dataset.event.UpdatedDataEvent;
+import de.gsi.dataset.utils.AssertUtils;
+import de.gsi.dataset.utils.MinMaxPyramid;
+
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+
+/**
+ * Append-only data set for very large (e.g. archived) traces with monotonically increasing x coordinates that maintains
+ * a min/max level-of-detail pyramid (see {@link MinMaxPyramid}) of the y values.
+ * <p>
+ * The pyramid is updated incrementally in amortised O(1) per appended data point and allows renderers to reduce any
+ * visible x range to the first/min/max/last data points per pixel in O(pixels) rather than O(samples) (see
+ * {@link #getReducedIndices(double, double, int, IntArrayList)}).
+ *
+ * @author rstein
+ */
+public class MultiResolutionDataSet extends AbstractDataSet<MultiResolutionDataSet> implements DataSet2D {
+    private static final long serialVersionUID = -3110510420345581034L;
+    private static final String X_COORDINATES = "X coordinates";
+    private static final String Y_COORDINATES = "Y coordinates";
+    protected DoubleArrayList xValues; // way faster than java default lists
+    protected DoubleArrayList yValues; // way faster than java default lists
+    protected final MinMaxPyramid pyramid;
+
+    /**
+     * Creates a new instance of <code>MultiResolutionDataSet</code>.
+     *
+     * @param name name of this DataSet.
+     * @throws IllegalArgumentException if {@code name} is {@code null}
+     */
+    public MultiResolutionDataSet(final String name) {
+        this(name, 0);
+    }
+
+    /**
+     * Creates a new instance of <code>MultiResolutionDataSet</code>.
+     *
+     * @param name name of this DataSet.
+     * @param initalSize initial capacity of buffer (N.B. size=0)
+     * @throws IllegalArgumentException if {@code name} is {@code null}
+     */
+    public MultiResolutionDataSet(final String name, final int initalSize) {
+        this(name, initalSize, new MinMaxPyramid());
+    }
+
+    /**
+     * Creates a new instance of <code>MultiResolutionDataSet</code>.
+     *
+     * @param name name of this DataSet.
+     * @param initalSize initial capacity of buffer (N.B. size=0)
+     * @param pyramid empty level-of-detail pyramid (e.g. with custom base width and fan-out)
+     * @throws IllegalArgumentException if {@code name} or {@code pyramid} is {@code null} or the pyramid is not empty
+     */
+    public MultiResolutionDataSet(final String name, final int initalSize, final MinMaxPyramid pyramid) {
+        super(name, 2);
+        AssertUtils.gtEqThanZero("initalSize", initalSize);
+        AssertUtils.notNull("pyramid", pyramid);
+        if (pyramid.getSampleCount() != 0) {
+            throw new IllegalArgumentException("pyramid must be empty");
+        }
+        xValues = new DoubleArrayList(initalSize);
+        yValues = new DoubleArrayList(initalSize);
+        this.pyramid = pyramid;
+    }
+
+    /**
+     * Add point to the end of the data set
+     *
+     * @param x horizontal coordinate of the new data point (N.B. must not be smaller than the last x coordinate)
+     * @param y vertical coordinate of the new data point
+     * @return itself (fluent design)
+     */
+    public MultiResolutionDataSet add(final double x, final double y) {
+        final int indexAt = lock().writeLockGuard(() -> {
+            checkMonotonic(x);
+            xValues.add(x);
+            yValues.add(y);
+            pyramid.add(y);
+
+            expandLimits(DIM_X, 1, x);
+            expandLimits(DIM_Y, 1, y);
+            return xValues.size() - 1;
+        });
+        return fireInvalidated(new AddedDataEvent(this, "add", indexAt, indexAt + 1));
+    }
+
+    /**
+     * Add array vectors to the end of the data set.
+     *
+     * @param xValuesNew X coordinates (N.B. must be monotonically increasing)
+     * @param yValuesNew Y coordinates
+     * @return itself (fluent design)
+     */
+    public MultiResolutionDataSet add(final double[] xValuesNew, final double[] yValuesNew) {
+        AssertUtils.notNull(X_COORDINATES, xValuesNew);
+        AssertUtils.notNull(Y_COORDINATES, yValuesNew);
+        AssertUtils.equalDoubleArrays(xValuesNew, yValuesNew);
+
+        final int addAt = lock().writeLockGuard(() -> {
+            final int indexAt = xValues.size();
+            final int newElements = xValuesNew.length;
+            if (newElements > 0) {
+                checkMonotonic(xValuesNew[0]);
+            }
+            for (int i = 1; i < newElements; i++) {
+                checkMonotonic(xValuesNew[i], xValuesNew[i - 1]);
+            }
+            xValues.addElements(indexAt, xValuesNew);
+            yValues.addElements(indexAt, yValuesNew);
+            pyramid.add(yValuesNew, 0, newElements);
+
+            expandLimits(DIM_X, newElements, xValuesNew, 0, newElements);
+            expandLimits(DIM_Y, newElements, yValuesNew, 0, newElements);
+            return indexAt;
+        });
+        return fireInvalidated(new AddedDataEvent(this, "add", addAt, addAt + xValuesNew.length));
+    }
+
+    /**
+     * clear all data points
+     *
+     * @return itself (fluent design)
+     */
+    public MultiResolutionDataSet clearData() {
+        lock().writeLockGuard(() -> {
+            xValues.clear();
+            yValues.clear();
+            pyramid.clear();
+            getDataLabelMap().clear();
+            getDataStyleMap().clear();
+            clearMetaInfo();
+
+            getAxisDescriptions().forEach(AxisDescription::clear);
+        });
+        return fireInvalidated(new RemovedDataEvent(this, "clearData()"));
+    }
+
+    @Override
+    public final double get(final int dimIndex, final int index) {
+        return dimIndex == DataSet.DIM_X ? xValues.elements()[index] : yValues.elements()[index];
+    }
+
+    @Override
+    public int getDataCount() {
+        return Math.min(xValues.size(), yValues.size());
+    }
+
+    /**
+     * @return the level-of-detail min/max pyramid of the y values (N.B. to be accessed while holding the read lock)
+     */
+    public MinMaxPyramid getPyramid() {
+        return pyramid;
+    }
+
+    /**
+     * Computes the indices of the data points that need to be drawn to faithfully represent the given x range with
+     * 'nBuckets' horizontal buckets (e.g. pixels), i.e. the first, minimum, maximum and last data point of each bucket.
+     * <p>
+     * N.B. to be called while holding the read lock.
+     *
+     * @param xMin minimum x coordinate of the visible range
+     * @param xMax maximum x coordinate of the visible range
+     * @param nBuckets the number of horizontal buckets (e.g. pixels)
+     * @param indices storage for the resulting ascending data point indices (N.B. is cleared)
+     * @return the 'indices' storage (fluent design)
+     */
+    public IntArrayList getReducedIndices(final double xMin, final double xMax, final int nBuckets, final IntArrayList indices) {
+        AssertUtils.notNull("indices", indices);
+        final int dataCount = getDataCount();
+        if (dataCount == 0) {
+            indices.clear();
+            return indices;
+        }
+        // N.B. include one data point outside the visible range on either side for continuous lines
+        final int indexMin = Math.max(0, getIndex(DIM_X, Math.min(xMin, xMax)) - 1);
+        final int indexMax = Math.min(dataCount, getIndex(DIM_X, Math.max(xMin, xMax)) + 2);
+        final double[] y = yValues.elements();
+        pyramid.reduce(indexMin, indexMax, nBuckets, i -> y[i], indices);
+        return indices;
+    }
+
+    @Override
+    public final double[] getValues(final int dimIndex) {
+        return dimIndex == DataSet.DIM_X ? xValues.elements() : yValues.elements();
+    }
+
+    @Override
+    public MultiResolutionDataSet set(final DataSet other, final boolean copy) {
+        lock().writeLockGuard(() -> other.lock().writeLockGuard(() -> {
+            final int nSamples = other.getDataCount();
+            final double[] otherX = other.getValues(DIM_X);
+            for (int i = 1; i < nSamples; i++) {
+                checkMonotonic(otherX[i], otherX[i - 1]);
+            }
+            // N.B. the internal storage is never shared since the pyramid requires append-only semantic
+            xValues.clear();
+            yValues.clear();
+            pyramid.clear();
+            xValues.addElements(0, otherX, 0, nSamples);
+            yValues.addElements(0, other.getValues(DIM_Y), 0, nSamples);
+            pyramid.add(yValues.elements(), 0, nSamples);
+
+            copyMetaData(other);
+            copyDataLabelsAndStyles(other, copy);
+            copyAxisDescription(other);
+        }));
+        return fireInvalidated(new UpdatedDataEvent(this));
+    }
+
+    private void checkMonotonic(final double x) {
+        checkMonotonic(x, xValues.isEmpty() ? Double.NaN : xValues.getDouble(xValues.size() - 1));
+    }
+
+    private static void checkMonotonic(final double x, final double previousX) {
+        if (x < previousX) {
+            throw new IllegalArgumentException("x coordinates must be monotonically increasing: " + x + " < " + previousX);
+        }
+    }
+}
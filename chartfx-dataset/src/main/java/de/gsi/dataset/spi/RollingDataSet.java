@@ -110,6 +110,7 @@ public class RollingDataSet extends FragmentedDataSet {
 
         public void shift(double value) {
             lock().writeLockGuard(() -> {
+                copyOnWrite(0);
                 for (int i = 0; i < xValues.size(); i++) {
                     this.getValues(DIM_X)[i] += value;
                 }
@@ -0,0 +1,292 @@
+package de.gsi.dataset.utils;
+
+import java.lang.ref.SoftReference;
+import java.lang.reflect.Array;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+
+/**
+ * Lock-free pool for large recurring (primitive) arrays with power-of-two size classes.
+ * <p>
+ * Arrays are pooled by size class, i.e. a request for {@code minSize} elements returns an array with a length of at
+ * least {@code minSize} rounded up to the next power of two. Thus, requests of slightly different sizes (e.g. renderer
+ * buffers for data sets with varying number of samples) share the same arrays. Only arrays with a power-of-two length
+ * are accepted when released to the pool.
+ * <p>
+ * Each thread keeps a small free list (one array per size class up to {@link #MAX_THREAD_LOCAL_BYTES}) that is
+ * consulted before the shared lock-free (Treiber) stacks. The per-thread free lists are softly referenced as a whole and
+ * may thus be reclaimed by the garbage collector under memory pressure. The arrays in the shared stacks are softly
+ * referenced individually and their total size is bounded by a soft limit (see {@link #setMaxBytes(long)}). Arrays that
+ * would exceed this limit are dropped and left to the garbage collector.
+ * <p>
+ * usage example:
+ *
+ * <pre>
+ * final double[] buffer = ArrayPool.getDoublePool().getArray(n); // N.B. may be larger than 'n'
+ * [..] user code [..]
+ * ArrayPool.getDoublePool().release(buffer);
+ * </pre>
+ *
+ * N.B. an array must not be used anymore after it has been released and must be released only once.
+ *
+ * @author rstein
+ * @param <T> the array type, e.g. {@code double[]}
+ */
+public final class ArrayPool<T> {
+    /** maximum size in bytes of arrays that are kept in the per-thread free lists */
+    public static final int MAX_THREAD_LOCAL_BYTES = 1 << 18;
+    private static final int N_SIZE_CLASSES = 31; // 2^0 ... 2^30
+    private static final long DEFAULT_MAX_BYTES = Runtime.getRuntime().maxMemory() / 8;
+    private static final ArrayPool<boolean[]> BOOLEAN_POOL = new ArrayPool<>(boolean[]::new, 1);
+    private static final ArrayPool<byte[]> BYTE_POOL = new ArrayPool<>(byte[]::new, Byte.BYTES);
+    private static final ArrayPool<double[]> DOUBLE_POOL = new ArrayPool<>(double[]::new, Double.BYTES);
+    private static final ArrayPool<float[]> FLOAT_POOL = new ArrayPool<>(float[]::new, Float.BYTES);
+    private static final ArrayPool<int[]> INT_POOL = new ArrayPool<>(int[]::new, Integer.BYTES);
+    private static final ArrayPool<long[]> LONG_POOL = new ArrayPool<>(long[]::new, Long.BYTES);
+    private static final ArrayPool<short[]> SHORT_POOL = new ArrayPool<>(short[]::new, Short.BYTES); // NOPMD
+    private static final ArrayPool<String[]> STRING_POOL = new ArrayPool<>(String[]::new, Integer.BYTES); // N.B. compressed references
+
+    private final IntFunction<T> allocator;
+    private final int bytesPerElement;
+    private final int maxThreadLocalClass;
+    private final AtomicReferenceArray<Node<T>> sharedStacks = new AtomicReferenceArray<>(N_SIZE_CLASSES);
+    private final ThreadLocal<SoftReference<Object[]>> threadLocalCache = ThreadLocal.withInitial(() -> new SoftReference<>(new Object[N_SIZE_CLASSES]));
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder dropCount = new LongAdder();
+    private final AtomicLong bytesRetained = new AtomicLong();
+    private volatile long maxBytes = DEFAULT_MAX_BYTES;
+
+    private ArrayPool(final IntFunction<T> allocator, final int bytesPerElement) {
+        this.allocator = allocator;
+        this.bytesPerElement = bytesPerElement;
+        this.maxThreadLocalClass = Integer.numberOfTrailingZeros(MAX_THREAD_LOCAL_BYTES / bytesPerElement);
+    }
+
+    /**
+     * removes all arrays from the shared stacks and the calling thread's free list
+     */
+    public void clear() {
+        threadLocalCache.remove();
+        for (int sizeClass = 0; sizeClass < N_SIZE_CLASSES; sizeClass++) {
+            Node<T> node = sharedStacks.getAndSet(sizeClass, null);
+            while (node != null) {
+                bytesRetained.addAndGet(-getBytes(sizeClass));
+                node = node.next;
+            }
+        }
+    }
+
+    /**
+     * @param minSize minimum required array length
+     * @return pooled or newly allocated array with a length of at least 'minSize' (rounded up to the next power of two)
+     */
+    public T getArray(final int minSize) {
+        AssertUtils.gtEqThanZero("minSize", minSize);
+        final int sizeClass = getSizeClass(minSize);
+        if (sizeClass >= N_SIZE_CLASSES) {
+            missCount.increment();
+            return allocator.apply(minSize);
+        }
+
+        if (sizeClass <= maxThreadLocalClass) {
+            final Object[] localCache = getLocalCache();
+            @SuppressWarnings("unchecked")
+            final T localArray = (T) localCache[sizeClass];
+            if (localArray != null) {
+                localCache[sizeClass] = null;
+                hitCount.increment();
+                return localArray;
+            }
+        }
+
+        Node<T> head;
+        while ((head = sharedStacks.get(sizeClass)) != null) {
+            if (!sharedStacks.compareAndSet(sizeClass, head, head.next)) {
+                continue;
+            }
+            bytesRetained.addAndGet(-getBytes(sizeClass));
+            final T array = head.reference.get();
+            if (array != null) {
+                hitCount.increment();
+                return array;
+            }
+            // array has been reclaimed by the garbage collector -- try next
+        }
+
+        missCount.increment();
+        return allocator.apply(1 << sizeClass);
+    }
+
+    /**
+     * @return estimate of the number of bytes retained by the shared stacks (N.B. excludes the softly referenced per-thread
+     *         free lists)
+     */
+    public long getBytesRetained() {
+        return bytesRetained.get();
+    }
+
+    /**
+     * @return number of released arrays that have not been pooled (non power-of-two length or soft limit exceeded)
+     */
+    public long getDropCount() {
+        return dropCount.sum();
+    }
+
+    /**
+     * @return number of requests that have been served by a pooled array
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * @return soft limit on the number of bytes retained by the shared stacks
+     */
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * @return number of requests that required a new allocation
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Returns ownership of the array to the pool
+     *
+     * @param array the array to be released (may be null)
+     * @return {@code true} if the array has been pooled
+     */
+    public boolean release(final T array) {
+        if (array == null) {
+            return false;
+        }
+        final int length = Array.getLength(array);
+        if (!isPowerOfTwo(length)) {
+            dropCount.increment();
+            return false;
+        }
+        final int sizeClass = Integer.numberOfTrailingZeros(length);
+
+        if (sizeClass <= maxThreadLocalClass) {
+            final Object[] localCache = getLocalCache();
+            if (localCache[sizeClass] == null) {
+                localCache[sizeClass] = array;
+                return true;
+            }
+        }
+
+        final long bytes = getBytes(sizeClass);
+        if (bytesRetained.addAndGet(bytes) > maxBytes) {
+            bytesRetained.addAndGet(-bytes);
+            dropCount.increment();
+            return false;
+        }
+        final Node<T> node = new Node<>(array);
+        do {
+            node.next = sharedStacks.get(sizeClass);
+        } while (!sharedStacks.compareAndSet(sizeClass, node.next, node));
+        return true;
+    }
+
+    /**
+     * resets the hit, miss and drop counters
+     */
+    public void resetMetrics() {
+        hitCount.reset();
+        missCount.reset();
+        dropCount.reset();
+    }
+
+    /**
+     * @param maxBytes soft limit on the number of bytes retained by the shared stacks
+     */
+    public void setMaxBytes(final long maxBytes) {
+        AssertUtils.gtEqThanZero("maxBytes", maxBytes);
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public String toString() {
+        return ArrayPool.class.getSimpleName() + "[hits=" + getHitCount() + ", misses=" + getMissCount() + ", drops=" + getDropCount() + ", bytesRetained=" + getBytesRetained() + ']';
+    }
+
+    private long getBytes(final int sizeClass) {
+        return (long) bytesPerElement << sizeClass;
+    }
+
+    private Object[] getLocalCache() {
+        Object[] localCache = threadLocalCache.get().get();
+        if (localCache == null) {
+            // free list has been reclaimed by the garbage collector
+            localCache = new Object[N_SIZE_CLASSES];
+            threadLocalCache.set(new SoftReference<>(localCache));
+        }
+        return localCache;
+    }
+
+    public static ArrayPool<boolean[]> getBooleanPool() {
+        return BOOLEAN_POOL;
+    }
+
+    public static ArrayPool<byte[]> getBytePool() {
+        return BYTE_POOL;
+    }
+
+    public static ArrayPool<double[]> getDoublePool() {
+        return DOUBLE_POOL;
+    }
+
+    public static ArrayPool<float[]> getFloatPool() {
+        return FLOAT_POOL;
+    }
+
+    public static ArrayPool<int[]> getIntPool() {
+        return INT_POOL;
+    }
+
+    public static ArrayPool<long[]> getLongPool() {
+        return LONG_POOL;
+    }
+
+    public static ArrayPool<short[]> getShortPool() { // NOPMD
+        return SHORT_POOL;
+    }
+
+    public static ArrayPool<String[]> getStringPool() {
+        return STRING_POOL;
+    }
+
+    /**
+     * @param size array length
+     * @return the size class index, i.e. the exponent of the next power of two that is greater or equal to 'size'
+     */
+    public static int getSizeClass(final int size) {
+        return size <= 1 ? 0 : Integer.SIZE - Integer.numberOfLeadingZeros(size - 1);
+    }
+
+    /**
+     * @param value the value to be checked
+     * @return {@code true} if the value is a (positive) power of two
+     */
+    public static boolean isPowerOfTwo(final int value) {
+        return value > 0 && (value & (value - 1)) == 0;
+    }
+
+    /**
+     * private node of the shared lock-free stacks
+     */
+    private static class Node<T> {
+        protected final SoftReference<T> reference;
+        protected Node<T> next;
+
+        protected Node(final T array) {
+            reference = new SoftReference<>(array);
+        }
+    }
+}
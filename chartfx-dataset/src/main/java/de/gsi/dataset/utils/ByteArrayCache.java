@@ -37,16 +37,51 @@ import java.lang.ref.Reference;
 public class ByteArrayCache extends CacheCollection<byte[]> {
     private static final ByteArrayCache SELF = new ByteArrayCache();
 
+    @Override
+    public boolean add(final byte[] recoveredObject) {
+        if (recoveredObject != null && ArrayPool.isPowerOfTwo(recoveredObject.length)) {
+            return ArrayPool.getBytePool().release(recoveredObject);
+        }
+        return super.add(recoveredObject);
+    }
+
+    /**
+     * @param requiredSize minimum required array length
+     * @return cached or newly allocated array with a length of at least 'requiredSize'
+     */
     public byte[] getArray(final int requiredSize) {
-        return getArray(requiredSize, false);
+        final byte[] cachedArray = getCachedArray(requiredSize, false);
+        return cachedArray == null ? new byte[requiredSize] : cachedArray;
     }
 
+    /**
+     * @param requiredSize required array length
+     * @return cached or newly allocated array with a length of exactly 'requiredSize'
+     */
     public byte[] getArrayExact(final int requiredSize) {
-        return getArray(requiredSize, true);
+        if (ArrayPool.isPowerOfTwo(requiredSize)) {
+            return ArrayPool.getBytePool().getArray(requiredSize);
+        }
+        final byte[] cachedArray = getCachedArray(requiredSize, true);
+        return cachedArray == null ? new byte[requiredSize] : cachedArray;
     }
 
-    private byte[] getArray(final int requiredSize, final boolean exact) {
+    /**
+     * N.B. unlike {@link #getArray(int)} the returned length is rounded up to the next power of two so that requests of
+     * slightly different sizes share the same {@link ArrayPool} size class.
+     *
+     * @param requiredSize minimum required array length
+     * @return pooled or newly allocated array with a length of 'requiredSize' rounded up to the next power of two
+     */
+    public byte[] getPooledArray(final int requiredSize) {
+        return ArrayPool.getBytePool().getArray(requiredSize);
+    }
+
+    private byte[] getCachedArray(final int requiredSize, final boolean exact) {
         synchronized (contents) {
+            if (contents.isEmpty()) {
+                return null;
+            }
             byte[] bestFit = null;
             int bestFitSize = Integer.MAX_VALUE;
 
@@ -68,13 +103,9 @@ public class ByteArrayCache extends CacheCollection<byte[]> {
                 }
             }
 
-            if (bestFit == null) {
-                // could not find any cached, return new byte[]
-                bestFit = new byte[requiredSize];
-                return bestFit;
+            if (bestFit != null) {
+                remove(bestFit);
             }
-
-            remove(bestFit);
             return bestFit;
         }
     }
@@ -0,0 +1,607 @@
+package de.gsi.dataset.utils;
+
+import static de.gsi.dataset.DataSet.DIM_X;
+import static de.gsi.dataset.DataSet.DIM_Y;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.gsi.dataset.AxisDescription;
+import de.gsi.dataset.DataSet;
+import de.gsi.dataset.DataSetError;
+import de.gsi.dataset.DataSetMetaData;
+import de.gsi.dataset.spi.DoubleErrorDataSet;
+
+/**
+ * Chunked, compressed and column-oriented binary file container for two-dimensional DataSets that permits reading
+ * x-ranges without decompressing the whole file (e.g. to load only the data needed for the visible range of a chart).
+ *
+ * The samples are split into chunks of {@code chunkSize} samples. Each column (x, y and -- for DataSets with errors --
+ * eyn and eyp) of a chunk is stored as an independently deflate-compressed block of the IEEE754 bit-patterns that are
+ * delta- (x) or XOR-encoded (y, eyn, eyp) with respect to the previous sample and byte-shuffled. A footer stores the
+ * meta-data and the chunk index, i.e. file offset, number of samples and x-min/x-max, y-min/y-max range per chunk.
+ *
+ * <pre>
+ * header  : magic (int), version (int)
+ * chunks  : chunk[0].x, chunk[0].y[, chunk[0].eyn, chunk[0].eyp], chunk[1].x, ...
+ * footer  : name, axis descriptions, meta-data (strings as length-prefixed UTF-8), nSamples, chunkSize, nColumns, chunk index
+ * trailer : footer offset (long), magic (int)
+ * </pre>
+ *
+ * Chunks are encoded and decoded in parallel using {@link CachedDaemonThreadFactory#getCommonPool()}.
+ *
+ * @author rstein
+ */
+public final class ChunkedDataSetFile {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChunkedDataSetFile.class);
+    public static final String FILE_EXTENSION = ".cds";
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 16;
+    private static final int MAGIC = 0x43445346; // 'CDSF'
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 2 * Integer.BYTES;
+    private static final int TRAILER_SIZE = Long.BYTES + Integer.BYTES;
+    private static final int COLUMN_X = 0;
+    private static final int COLUMN_Y = 1;
+    private static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8; // N.B. some VMs reserve header words in arrays
+
+    private ChunkedDataSetFile() {
+        // utility class
+    }
+
+    /**
+     * @param file chunked DataSet file
+     * @return DataSet with all samples and the meta-data stored in the file
+     * @throws IOException in case of IO problems or corrupt files
+     */
+    public static DataSet read(final Path file) throws IOException {
+        return read(file, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Reads only the chunks whose x-range overlaps with [xMin, xMax].
+     *
+     * N.B. the chunks are read in their entirety, i.e. the returned DataSet may contain samples outside the requested
+     * range. Chunks without any valid (non-NaN) x-coordinate cannot be located and are thus always read.
+     *
+     * @param file chunked DataSet file
+     * @param xMin minimum of the requested x-range
+     * @param xMax maximum of the requested x-range
+     * @return DataSet with the samples of the overlapping chunks and the meta-data stored in the file
+     * @throws IOException in case of IO problems or corrupt files
+     */
+    public static DataSet read(final Path file, final double xMin, final double xMax) throws IOException {
+        AssertUtils.notNull("file", file);
+        if (xMin > xMax) {
+            throw new IllegalArgumentException("xMin = " + xMin + " must be smaller or equal than xMax = " + xMax);
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final Footer footer = readFooter(channel);
+            final List<ChunkInfo> selected = new ArrayList<>();
+            long nSamplesSelected = 0;
+            for (final ChunkInfo chunk : footer.chunks) {
+                // N.B. chunks without any valid x-coordinate (e.g. all NaN, range [+Inf, -Inf]) are always selected
+                if (!(chunk.xMin <= chunk.xMax) || chunk.xMax >= xMin && chunk.xMin <= xMax) { // NOPMD - also catches NaNs
+                    selected.add(chunk);
+                    nSamplesSelected += chunk.nSamples;
+                }
+            }
+            if (nSamplesSelected > MAX_ARRAY_LENGTH) {
+                throw new IOException("requested x-range [" + xMin + ", " + xMax + "] contains " + nSamplesSelected + " samples, exceeding the maximum array length - please read a narrower range");
+            }
+            final int nSamples = (int) nSamplesSelected;
+
+            final double[][] columns = new double[footer.nColumns][nSamples];
+            final ExecutorService executor = CachedDaemonThreadFactory.getCommonPool();
+            final CompletableFuture<?>[] tasks = new CompletableFuture<?>[selected.size()];
+            int offset = 0;
+            for (int i = 0; i < tasks.length; i++) {
+                final ChunkInfo chunk = selected.get(i);
+                final int targetOffset = offset;
+                tasks[i] = CompletableFuture.runAsync(() -> decodeChunk(channel, chunk, columns, targetOffset), executor);
+                offset += chunk.nSamples;
+            }
+            try {
+                CompletableFuture.allOf(tasks).join();
+            } catch (final CompletionException e) {
+                if (e.getCause() instanceof UncheckedIOException) {
+                    throw ((UncheckedIOException) e.getCause()).getCause();
+                }
+                throw new IOException("could not decode chunks of file: " + file, e.getCause());
+            }
+
+            // N.B. DoubleErrorDataSet for consistency with the other DataSetUtils formats (zero errors if none were stored)
+            final double[] eyn = footer.nColumns > 2 ? columns[2] : new double[nSamples];
+            final double[] eyp = footer.nColumns > 2 ? columns[3] : new double[nSamples];
+            final DataSet dataSet = new DoubleErrorDataSet(footer.name, columns[0], columns[1], eyn, eyp, nSamples, false);
+            footer.applyMetaData(dataSet);
+            LOGGER.atDebug().addArgument(selected.size()).addArgument(footer.chunks.size()).addArgument(file).log("read {} of {} chunks from '{}'");
+            return dataSet;
+        }
+    }
+
+    /**
+     * @param file chunked DataSet file
+     * @return chunk index (e.g. to render a coarse overview without decompressing the data)
+     * @throws IOException in case of IO problems or corrupt files
+     */
+    public static List<ChunkInfo> readChunkIndex(final Path file) throws IOException {
+        AssertUtils.notNull("file", file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return Collections.unmodifiableList(readFooter(channel).chunks);
+        }
+    }
+
+    /**
+     * @param dataSet the (two-dimensional) DataSet to be stored
+     * @param file destination (existing files are overwritten)
+     * @throws IOException in case of IO problems
+     */
+    public static void write(final DataSet dataSet, final Path file) throws IOException {
+        write(dataSet, file, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param dataSet the (two-dimensional) DataSet to be stored
+     * @param file destination (existing files are overwritten)
+     * @param chunkSize number of samples per chunk, i.e. the granularity of range reads
+     * @throws IOException in case of IO problems
+     */
+    public static void write(final DataSet dataSet, final Path file, final int chunkSize) throws IOException {
+        AssertUtils.notNull("dataSet", dataSet);
+        AssertUtils.notNull("file", file);
+        AssertUtils.gtThanZero("chunkSize", chunkSize);
+        if (dataSet.getDimension() > 2) {
+            throw new IllegalArgumentException("only two-dimensional DataSets are supported, dimension = " + dataSet.getDimension());
+        }
+
+        dataSet.lock().readLock();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            final int nSamples = dataSet.getDataCount();
+            final boolean hasErrors = dataSet instanceof DataSetError && ((DataSetError) dataSet).getErrorType(DIM_Y) != DataSetError.ErrorType.NO_ERROR;
+            final double[][] columns = hasErrors ? new double[][] { dataSet.getValues(DIM_X), dataSet.getValues(DIM_Y), ((DataSetError) dataSet).getErrorsNegative(DIM_Y), ((DataSetError) dataSet).getErrorsPositive(DIM_Y) }
+                                                 : new double[][] { dataSet.getValues(DIM_X), dataSet.getValues(DIM_Y) };
+
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(VERSION);
+            writeFully(channel, header.flip());
+
+            // encode chunks in parallel and write them in order
+            final ExecutorService executor = CachedDaemonThreadFactory.getCommonPool();
+            final int nMaxPending = 2 * CachedDaemonThreadFactory.getNumbersOfThreads();
+            final ArrayDeque<CompletableFuture<EncodedChunk>> pending = new ArrayDeque<>(nMaxPending);
+            final List<ChunkInfo> chunks = new ArrayList<>();
+            for (int from = 0; from < nSamples || !pending.isEmpty();) {
+                if (from < nSamples && pending.size() < nMaxPending) {
+                    final int chunkStart = from;
+                    final int length = Math.min(chunkSize, nSamples - from);
+                    pending.add(CompletableFuture.supplyAsync(() -> encodeChunk(columns, chunkStart, length), executor));
+                    from += length;
+                    continue;
+                }
+                final EncodedChunk encoded = joinChunk(pending.poll());
+                encoded.info.offset = channel.position();
+                for (final byte[] block : encoded.blocks) {
+                    writeFully(channel, ByteBuffer.wrap(block));
+                }
+                chunks.add(encoded.info);
+            }
+
+            final long footerOffset = channel.position();
+            writeFully(channel, ByteBuffer.wrap(Footer.encode(dataSet, nSamples, chunkSize, columns.length, chunks)));
+            writeFully(channel, ByteBuffer.allocate(TRAILER_SIZE).putLong(footerOffset).putInt(MAGIC).flip());
+        } finally {
+            dataSet.lock().readUnLock();
+        }
+        LOGGER.atDebug().addArgument(dataSet.getName()).addArgument(file).log("wrote data set '{}' to '{}'");
+    }
+
+    private static void decodeChunk(final FileChannel channel, final ChunkInfo chunk, final double[][] columns, final int targetOffset) {
+        final Inflater inflater = new Inflater();
+        try {
+            final ByteBuffer compressed = ByteBuffer.allocate(Arrays.stream(chunk.columnSizes).sum());
+            while (compressed.hasRemaining()) {
+                if (channel.read(compressed, chunk.offset + compressed.position()) < 0) {
+                    throw new IOException("unexpected end of file while reading chunk at offset " + chunk.offset);
+                }
+            }
+            final byte[] raw = new byte[chunk.nSamples * Double.BYTES];
+            int blockOffset = 0;
+            for (int column = 0; column < columns.length; column++) {
+                inflater.reset();
+                inflater.setInput(compressed.array(), blockOffset, chunk.columnSizes[column]);
+                int nRaw = 0;
+                while (nRaw < raw.length && !inflater.finished()) {
+                    final int nInflated = inflater.inflate(raw, nRaw, raw.length - nRaw);
+                    if (nInflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                        break;
+                    }
+                    nRaw += nInflated;
+                }
+                if (nRaw != raw.length) {
+                    throw new IOException("corrupt chunk at offset " + chunk.offset + ": expected " + raw.length + " bytes but got " + nRaw);
+                }
+                decodeColumn(raw, chunk.nSamples, column == COLUMN_X, columns[column], targetOffset);
+                blockOffset += chunk.columnSizes[column];
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (final DataFormatException e) {
+            throw new UncheckedIOException(new IOException("corrupt chunk at offset " + chunk.offset, e));
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * @param raw byte-shuffled delta- or XOR-encoded bit-patterns
+     * @param nSamples number of samples
+     * @param delta true: delta-encoded, false: XOR-encoded
+     * @param target destination
+     * @param targetOffset destination offset
+     */
+    private static void decodeColumn(final byte[] raw, final int nSamples, final boolean delta, final double[] target, final int targetOffset) {
+        long previous = 0;
+        for (int i = 0; i < nSamples; i++) {
+            long word = 0;
+            for (int b = 0, index = i; b < Long.BYTES; b++, index += nSamples) {
+                word |= (raw[index] & 0xFFL) << (8 * b);
+            }
+            previous = delta ? previous + word : previous ^ word;
+            target[targetOffset + i] = Double.longBitsToDouble(previous);
+        }
+    }
+
+    private static EncodedChunk encodeChunk(final double[][] columns, final int from, final int length) {
+        final ChunkInfo info = new ChunkInfo(from, length, columns.length);
+        final byte[][] blocks = new byte[columns.length][];
+        final byte[] raw = new byte[length * Double.BYTES];
+        final byte[] buffer = new byte[raw.length + 64];
+        final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            for (int column = 0; column < columns.length; column++) {
+                encodeColumn(columns[column], from, length, column == COLUMN_X, raw);
+                deflater.reset();
+                deflater.setInput(raw);
+                deflater.finish();
+                final ByteArrayOutputStream output = new ByteArrayOutputStream(raw.length / 4);
+                while (!deflater.finished()) {
+                    output.write(buffer, 0, deflater.deflate(buffer));
+                }
+                blocks[column] = output.toByteArray();
+                info.columnSizes[column] = blocks[column].length;
+            }
+        } finally {
+            deflater.end();
+        }
+        final double[] xRange = range(columns[COLUMN_X], from, length);
+        final double[] yRange = range(columns[COLUMN_Y], from, length);
+        info.xMin = xRange[0];
+        info.xMax = xRange[1];
+        info.yMin = yRange[0];
+        info.yMax = yRange[1];
+        return new EncodedChunk(info, blocks);
+    }
+
+    /**
+     * @param values source
+     * @param from first sample index
+     * @param length number of samples
+     * @param delta true: delta-encoded, false: XOR-encoded
+     * @param raw destination for the byte-shuffled words (byte 'b' of sample 'i' is stored at 'b * length + i')
+     */
+    private static void encodeColumn(final double[] values, final int from, final int length, final boolean delta, final byte[] raw) {
+        long previous = 0;
+        for (int i = 0; i < length; i++) {
+            final long bits = Double.doubleToRawLongBits(values[from + i]);
+            long word = delta ? bits - previous : bits ^ previous;
+            previous = bits;
+            for (int b = 0, index = i; b < Long.BYTES; b++, index += length) {
+                raw[index] = (byte) word;
+                word >>>= 8;
+            }
+        }
+    }
+
+    private static EncodedChunk joinChunk(final CompletableFuture<EncodedChunk> future) throws IOException {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            throw new IOException("could not encode chunk", e.getCause());
+        }
+    }
+
+    /**
+     * @param values source
+     * @param from first sample index
+     * @param length number of samples
+     * @return [min, max] ignoring NaN values ([+Inf, -Inf] if there are no valid values)
+     */
+    private static double[] range(final double[] values, final int from, final int length) {
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = from; i < from + length; i++) {
+            final double value = values[i];
+            min = value < min ? value : min;
+            max = value > max ? value : max;
+        }
+        return new double[] { min, max };
+    }
+
+    private static Footer readFooter(final FileChannel channel) throws IOException {
+        final long fileSize = channel.size();
+        if (fileSize < HEADER_SIZE + TRAILER_SIZE) {
+            throw new IOException("file too short to be a chunked DataSet file: " + fileSize + " bytes");
+        }
+        final ByteBuffer header = readFully(channel, 0, HEADER_SIZE);
+        final ByteBuffer trailer = readFully(channel, fileSize - TRAILER_SIZE, TRAILER_SIZE);
+        final long footerOffset = trailer.getLong();
+        if (header.getInt() != MAGIC || trailer.getInt() != MAGIC) {
+            throw new IOException("not a chunked DataSet file (magic mismatch)");
+        }
+        final int version = header.getInt();
+        if (version != VERSION) {
+            throw new IOException("unsupported chunked DataSet file version " + version);
+        }
+        if (footerOffset < HEADER_SIZE || footerOffset > fileSize - TRAILER_SIZE) {
+            throw new IOException("corrupt chunked DataSet file (footer offset " + footerOffset + ")");
+        }
+        final ByteBuffer footer = readFully(channel, footerOffset, (int) (fileSize - TRAILER_SIZE - footerOffset));
+        return Footer.decode(footer.array(), footerOffset);
+    }
+
+    private static ByteBuffer readFully(final FileChannel channel, final long position, final int length) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("unexpected end of file at position " + (position + buffer.position()));
+            }
+        }
+        return buffer.flip();
+    }
+
+    private static void writeFully(final FileChannel channel, final ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Index entry of a chunk of samples.
+     */
+    public static final class ChunkInfo {
+        private long offset;
+        private final int firstIndex;
+        private final int nSamples;
+        private final int[] columnSizes;
+        private double xMin;
+        private double xMax;
+        private double yMin;
+        private double yMax;
+
+        private ChunkInfo(final int firstIndex, final int nSamples, final int nColumns) {
+            this.firstIndex = firstIndex;
+            this.nSamples = nSamples;
+            this.columnSizes = new int[nColumns];
+        }
+
+        /**
+         * @return number of compressed bytes of this chunk in the file
+         */
+        public long getCompressedSize() {
+            long size = 0;
+            for (final int columnSize : columnSizes) {
+                size += columnSize;
+            }
+            return size;
+        }
+
+        /**
+         * @return number of samples in this chunk
+         */
+        public int getDataCount() {
+            return nSamples;
+        }
+
+        /**
+         * @return index of the first sample of this chunk within the stored DataSet
+         */
+        public int getFirstIndex() {
+            return firstIndex;
+        }
+
+        public double getXMax() {
+            return xMax;
+        }
+
+        public double getXMin() {
+            return xMin;
+        }
+
+        public double getYMax() {
+            return yMax;
+        }
+
+        public double getYMin() {
+            return yMin;
+        }
+
+        @Override
+        public String toString() {
+            return "ChunkInfo [firstIndex=" + firstIndex + ", nSamples=" + nSamples + ", x=[" + xMin + ", " + xMax + "], y=[" + yMin + ", " + yMax + "]]";
+        }
+    }
+
+    private static final class EncodedChunk {
+        private final ChunkInfo info;
+        private final byte[][] blocks;
+
+        private EncodedChunk(final ChunkInfo info, final byte[][] blocks) {
+            this.info = info;
+            this.blocks = blocks;
+        }
+    }
+
+    private static final class Footer {
+        private String name;
+        private final List<String[]> axes = new ArrayList<>();
+        private final List<String[]> metaInfo = new ArrayList<>();
+        private final List<List<String>> metaLists = List.of(new ArrayList<>(), new ArrayList<>(), new ArrayList<>()); // info, warning, error
+        private int nColumns;
+        private final List<ChunkInfo> chunks = new ArrayList<>();
+
+        private void applyMetaData(final DataSet dataSet) {
+            for (int dim = 0; dim < Math.min(axes.size(), dataSet.getDimension()); dim++) {
+                final AxisDescription axis = dataSet.getAxisDescription(dim);
+                axis.set(axes.get(dim)[0], axes.get(dim)[1]);
+                dataSet.recomputeLimits(dim);
+            }
+            if (dataSet instanceof DataSetMetaData) {
+                final DataSetMetaData metaData = (DataSetMetaData) dataSet;
+                for (final String[] entry : metaInfo) {
+                    metaData.getMetaInfo().put(entry[0], entry[1]);
+                }
+                metaData.getInfoList().addAll(metaLists.get(0));
+                metaData.getWarningList().addAll(metaLists.get(1));
+                metaData.getErrorList().addAll(metaLists.get(2));
+            }
+        }
+
+        private static Footer decode(final byte[] data, final long footerOffset) throws IOException {
+            final Footer footer = new Footer();
+            try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(data))) {
+                footer.name = readString(input);
+                final int nAxes = input.readInt();
+                for (int i = 0; i < nAxes; i++) {
+                    footer.axes.add(new String[] { readString(input), readString(input) });
+                }
+                final int nMetaInfo = input.readInt();
+                for (int i = 0; i < nMetaInfo; i++) {
+                    footer.metaInfo.add(new String[] { readString(input), readString(input) });
+                }
+                for (final List<String> list : footer.metaLists) {
+                    final int nEntries = input.readInt();
+                    for (int i = 0; i < nEntries; i++) {
+                        list.add(readString(input));
+                    }
+                }
+                input.readInt(); // total number of samples
+                input.readInt(); // chunk size
+                footer.nColumns = input.readInt();
+                if (footer.nColumns != 2 && footer.nColumns != 4) {
+                    throw new IOException("unsupported number of columns: " + footer.nColumns);
+                }
+                final int nChunks = input.readInt();
+                for (int i = 0; i < nChunks; i++) {
+                    final long offset = input.readLong();
+                    final ChunkInfo chunk = new ChunkInfo(input.readInt(), input.readInt(), footer.nColumns);
+                    chunk.offset = offset;
+                    chunk.xMin = input.readDouble();
+                    chunk.xMax = input.readDouble();
+                    chunk.yMin = input.readDouble();
+                    chunk.yMax = input.readDouble();
+                    for (int column = 0; column < footer.nColumns; column++) {
+                        chunk.columnSizes[column] = input.readInt();
+                    }
+                    if (chunk.nSamples < 0 || chunk.nSamples > MAX_ARRAY_LENGTH / Double.BYTES || chunk.offset < HEADER_SIZE || chunk.offset + chunk.getCompressedSize() > footerOffset) {
+                        throw new IOException("corrupt chunk index entry: " + chunk);
+                    }
+                    footer.chunks.add(chunk);
+                }
+            }
+            return footer;
+        }
+
+        private static byte[] encode(final DataSet dataSet, final int nSamples, final int chunkSize, final int nColumns, final List<ChunkInfo> chunks) throws IOException {
+            final ByteArrayOutputStream byteOutput = new ByteArrayOutputStream(1024 + chunks.size() * (Long.BYTES + 6 * Double.BYTES + nColumns * Integer.BYTES));
+            try (DataOutputStream output = new DataOutputStream(byteOutput)) {
+                writeString(output, dataSet.getName());
+                output.writeInt(dataSet.getAxisDescriptions().size());
+                for (final AxisDescription axis : dataSet.getAxisDescriptions()) {
+                    writeString(output, axis.getName());
+                    writeString(output, axis.getUnit());
+                }
+                final DataSetMetaData metaData = dataSet instanceof DataSetMetaData ? (DataSetMetaData) dataSet : null;
+                final Map<String, String> metaInfo = metaData == null ? Map.of() : metaData.getMetaInfo();
+                output.writeInt(metaInfo.size());
+                for (final Map.Entry<String, String> entry : metaInfo.entrySet()) {
+                    writeString(output, entry.getKey());
+                    writeString(output, entry.getValue());
+                }
+                for (final List<String> list : metaData == null ? List.<List<String>>of(List.of(), List.of(), List.of()) : List.of(metaData.getInfoList(), metaData.getWarningList(), metaData.getErrorList())) {
+                    output.writeInt(list.size());
+                    for (final String entry : list) {
+                        writeString(output, entry);
+                    }
+                }
+                output.writeInt(nSamples);
+                output.writeInt(chunkSize);
+                output.writeInt(nColumns);
+                output.writeInt(chunks.size());
+                for (final ChunkInfo chunk : chunks) {
+                    output.writeLong(chunk.offset);
+                    output.writeInt(chunk.firstIndex);
+                    output.writeInt(chunk.nSamples);
+                    output.writeDouble(chunk.xMin);
+                    output.writeDouble(chunk.xMax);
+                    output.writeDouble(chunk.yMin);
+                    output.writeDouble(chunk.yMax);
+                    for (final int columnSize : chunk.columnSizes) {
+                        output.writeInt(columnSize);
+                    }
+                }
+            }
+            return byteOutput.toByteArray();
+        }
+
+        /**
+         * N.B. unlike {@link DataInputStream#readUTF()} not limited to 64 kB (e.g. for large meta-data entries)
+         *
+         * @param input footer stream
+         * @return length-prefixed UTF-8 encoded string
+         * @throws IOException in case of IO problems or corrupt length
+         */
+        private static String readString(final DataInputStream input) throws IOException {
+            final int length = input.readInt();
+            if (length < 0 || length > input.available()) {
+                throw new IOException("corrupt string length: " + length);
+            }
+            final byte[] bytes = new byte[length];
+            input.readFully(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * @param output footer stream
+         * @param string to be written as length-prefixed UTF-8 byte array ({@code null} is stored as empty string)
+         * @throws IOException in case of IO problems
+         */
+        private static void writeString(final DataOutputStream output, final String string) throws IOException {
+            final byte[] bytes = string == null ? new byte[0] : string.getBytes(StandardCharsets.UTF_8);
+            output.writeInt(bytes.length);
+            output.write(bytes);
+        }
+    }
+}
@@ -9,20 +9,22 @@ import static de.gsi.dataset.utils.DataSetUtils.ErrType.EYP;
 import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
 import java.io.File;
 import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.PushbackInputStream;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.nio.DoubleBuffer;
 import java.nio.FloatBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
@@ -30,11 +32,13 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 import java.util.zip.ZipEntry;
@@ -55,6 +59,7 @@ import de.gsi.dataset.spi.DataSetBuilder;
 import de.gsi.dataset.spi.DefaultAxisDescription;
 import de.gsi.dataset.spi.DefaultDataSet;
 import de.gsi.dataset.spi.DoubleErrorDataSet;
+import de.gsi.dataset.spi.DoubleGridDataSet;
 
 /**
  * @author braeun
@@ -67,6 +72,10 @@ public class DataSetUtils extends DataSetUtilsHelper {
     private static final String CACHED_WRITE_BYTE_BUFFER = "writeByteBuffer";
     public static final String NO_DATASET = "noDataset";
     private static final int SWITCH_TO_BINARY_KEY = 0xFE;
+    private static final int PUSHBACK_BUFFER_SIZE = 8192;
+    private static final int TEXT_CHUNK_SIZE = 1 << 20; // bytes per parallel parsed chunk of the numeric data section
+    private static final String KEY_VALUE_SEPARATOR = " : ";
+    private static final String[] AXIS_FIELDS = { "Min", "Max", "Name", "Unit" };
     private static final Logger LOGGER = LoggerFactory.getLogger(DataSetUtils.class);
     private static final String DEFAULT_TIME_FORMAT = "yyyyMMdd_HHmmss";
     // prefix for axis specific Metadata representation
@@ -222,6 +231,9 @@ public class DataSetUtils extends DataSetUtilsHelper {
         if (fileName.toLowerCase(Locale.UK).endsWith(".zip")) {
             return Compression.ZIP;
         }
+        if (fileName.toLowerCase(Locale.UK).endsWith(ChunkedDataSetFile.FILE_EXTENSION)) {
+            return Compression.CHUNKED;
+        }
         return Compression.NONE;
     }
 
@@ -324,26 +336,45 @@ public class DataSetUtils extends DataSetUtilsHelper {
         return df.format(new Date(time));
     }
 
+    /**
+     * @param line header line
+     * @return index of the axis field ('#?Min', '#?Max', '#?Name', '#?Unit') or '-1' if the line is not an axis field
+     */
+    private static int getAxisField(final String line) {
+        for (int i = 0; i < AXIS_FIELDS.length; i++) {
+            if (line.startsWith(AXIS_FIELDS[i], 2)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     protected static String getKey(final String line, final String replace) {
         if (line == null) {
             return null;
         }
-        final String[] split = line.split(" : ");
-        if (split.length < 2) {
+        final int separator = line.indexOf(KEY_VALUE_SEPARATOR);
+        if (separator < 0 || getValue(line) == null) {
             return null;
         }
-        return split[0].replaceAll(replace, "");
+        return line.substring(0, separator).replace(replace, "");
     }
 
     protected static String getValue(final String line) {
         if (line == null) {
             return null;
         }
-        final String[] split = line.split(" : ");
-        if (split.length < 2) {
+        final int separator = line.indexOf(KEY_VALUE_SEPARATOR);
+        if (separator < 0) {
             return null;
         }
-        return split[1];
+        final int start = separator + KEY_VALUE_SEPARATOR.length();
+        final int nextSeparator = line.indexOf(KEY_VALUE_SEPARATOR, start);
+        if (start == line.length() || (start == nextSeparator && line.length() == nextSeparator + KEY_VALUE_SEPARATOR.length())) {
+            // N.B. mimics String::split which drops trailing empty strings
+            return null;
+        }
+        return line.substring(start, nextSeparator < 0 ? line.length() : nextSeparator);
     }
 
     /**
@@ -376,7 +407,7 @@ public class DataSetUtils extends DataSetUtilsHelper {
         default:
             throw new IOException("Unimplemented Compression");
         }
-        return new SplitCharByteInputStream(new PushbackInputStream(istream, 8192));
+        return new SplitCharByteInputStream(new PushbackInputStream(istream, PUSHBACK_BUFFER_SIZE));
     }
 
     /**
@@ -407,6 +438,15 @@ public class DataSetUtils extends DataSetUtilsHelper {
         }
     }
 
+    private static DataSet readChunkedDataSetFromFile(final String fileName, final double xMin, final double xMax) {
+        try {
+            return ChunkedDataSetFile.read(Path.of(fileName), xMin, xMax);
+        } catch (final IOException e) {
+            LOGGER.atError().addArgument(fileName).log("could not open/parse file: '{}'", e);
+            return null;
+        }
+    }
+
     /**
      * Read a Dataset from a byte array containing comma separated values.<br>
      * The data format is a custom extension of csv with an additional #-commented Metadata Header and a $-commented
@@ -424,7 +464,7 @@ public class DataSetUtils extends DataSetUtilsHelper {
         }
         DataSet dataSet = null;
         try (final SplitCharByteInputStream inputFile = new SplitCharByteInputStream(
-                     new PushbackInputStream(new ByteArrayInputStream(byteArray), 8192))) {
+                     new PushbackInputStream(new ByteArrayInputStream(byteArray), PUSHBACK_BUFFER_SIZE))) {
             dataSet = readDataSetFromStream(inputFile);
 
         } catch (final IOException e) {
@@ -452,7 +492,7 @@ public class DataSetUtils extends DataSetUtilsHelper {
      * column header. Expects the following columns in this order to be present: index, x, y, eyn, eyp.
      *
      * @param fileName Path and name of file containing csv data.
-     * @param compression Compression of the file (GZIP, ZIP or NONE). Supply AUTO or omit this value to use file
+     * @param compression Compression of the file (GZIP, ZIP, NONE or CHUNKED). Supply AUTO or omit this value to use file
      *            extension.
      * @return DataSet with the data and metadata read from the file
      */
@@ -460,9 +500,12 @@ public class DataSetUtils extends DataSetUtilsHelper {
         if ((fileName == null) || fileName.isEmpty()) {
             throw new IllegalArgumentException("fileName must not be null or empty");
         }
+        final Compression fileCompression = compression == Compression.AUTO ? evaluateAutoCompression(fileName) : compression;
+        if (fileCompression == Compression.CHUNKED) {
+            return readChunkedDataSetFromFile(fileName, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+        }
         DataSet dataSet = null;
-        try (SplitCharByteInputStream inputFile = openDatasetFileInput(new File(fileName),
-                     compression == Compression.AUTO ? evaluateAutoCompression(fileName) : compression)) {
+        try (SplitCharByteInputStream inputFile = openDatasetFileInput(new File(fileName), fileCompression)) {
             dataSet = readDataSetFromStream(inputFile);
 
         } catch (final IOException e) {
@@ -471,10 +514,34 @@ public class DataSetUtils extends DataSetUtilsHelper {
         return dataSet;
     }
 
+    /**
+     * Read the [xMin, xMax] range of a Dataset from a file.<br>
+     * Only the chunks overlapping with the range are read and decompressed for files in the chunked columnar format
+     * (see {@link ChunkedDataSetFile} and {@link Compression#CHUNKED}), other formats are read completely.
+     *
+     * @param fileName Path and name of file containing the data.
+     * @param xMin minimum of the requested x-range
+     * @param xMax maximum of the requested x-range
+     * @return DataSet with (at least) the data within the requested range and the metadata read from the file
+     */
+    public static DataSet readDataSetFromFile(final String fileName, final double xMin, final double xMax) {
+        if ((fileName == null) || fileName.isEmpty()) {
+            throw new IllegalArgumentException("fileName must not be null or empty");
+        }
+        if (evaluateAutoCompression(fileName) != Compression.CHUNKED) {
+            return readDataSetFromFile(fileName, Compression.AUTO);
+        }
+        return readChunkedDataSetFromFile(fileName, xMin, xMax);
+    }
+
     /**
      * Read a Dataset from a stream containing comma separated values.<br>
      * The data format is a custom extension of csv with an additional #-commented Metadata Header and a $-commented
      * column header. Expects the following columns in this order to be present: index, x, y, eyn, eyp.
+     * <p>
+     * The stream is parsed directly on the byte-level: the header is decoded line-by-line while the numeric data
+     * section is split into chunks that are parsed in parallel (see {@link CachedDaemonThreadFactory#getCommonPool()})
+     * into arrays that are pre-allocated based on the '#nSamples' header entry.
      *
      * @param inputStream Path and name of file containing csv data.
      * @return DataSet with the data and metadata read from the file
@@ -483,7 +550,7 @@ public class DataSetUtils extends DataSetUtilsHelper {
         boolean binary = false;
 
         DataSet dataSet = null;
-        try (BufferedReader inputReader = new BufferedReader(new InputStreamReader(inputStream))) {
+        try (ByteLineReader inputReader = new ByteLineReader(inputStream)) {
             String dataSetName = "unknown data set";
             int nDataCountEstimate = 0;
             final ArrayList<String> info = new ArrayList<>();
@@ -505,70 +572,50 @@ public class DataSetUtils extends DataSetUtilsHelper {
                     }
                     break;
                 }
-
-                if (line.matches("^#.Min.*")) {
-                    int dim = AXIS_ID.indexOf(line.charAt(1));
-                    if (dim < 0)
-                        LOGGER.atError().log("Axis index does not exist: {}", line.charAt(1));
-                    while (axisDesc.size() < dim + 1)
-                        axisDesc.add(new DefaultAxisDescription(axisDesc.size()));
-                    axisDesc.get(dim).setMin(Double.parseDouble(getValue(line)));
-                    continue;
-                }
-                if (line.matches("^#.Max.*")) {
-                    int dim = AXIS_ID.indexOf(line.charAt(1));
-                    if (dim < 0)
-                        LOGGER.atError().log("Axis index does not exist: {}", line.charAt(1));
-                    while (axisDesc.size() < dim + 1)
-                        axisDesc.add(new DefaultAxisDescription(axisDesc.size()));
-                    axisDesc.get(dim).setMax(Double.parseDouble(getValue(line)));
-                    continue;
-                }
-                if (line.matches("^#.Name.*")) {
-                    int dim = AXIS_ID.indexOf(line.charAt(1));
-                    if (dim < 0)
-                        LOGGER.atError().log("Axis index does not exist: {}", line.charAt(1));
-                    while (axisDesc.size() < dim + 1)
-                        axisDesc.add(new DefaultAxisDescription(axisDesc.size()));
-                    axisDesc.get(dim).set(getValue(line) == null ? "" : getValue(line));
+                if (line.length() < 2 || line.charAt(0) != '#') {
                     continue;
                 }
-                if (line.matches("^#.Unit.*")) {
-                    int dim = AXIS_ID.indexOf(line.charAt(1));
-                    if (dim < 0)
+
+                // axis descriptions: '#<axis id>{Min,Max,Name,Unit} : <value>'
+                final int axisField = getAxisField(line);
+                if (axisField >= 0) {
+                    final int dim = AXIS_ID.indexOf(line.charAt(1));
+                    if (dim < 0) {
                         LOGGER.atError().log("Axis index does not exist: {}", line.charAt(1));
-                    while (axisDesc.size() < dim + 1)
+                        continue;
+                    }
+                    while (axisDesc.size() < dim + 1) {
                         axisDesc.add(new DefaultAxisDescription(axisDesc.size()));
-                    axisDesc.get(dim).set(axisDesc.get(dim).getName(), getValue(line) == null ? "" : getValue(line));
+                    }
+                    final String value = getValue(line);
+                    switch (axisField) {
+                    case 0:
+                        axisDesc.get(dim).setMin(Double.parseDouble(value));
+                        break;
+                    case 1:
+                        axisDesc.get(dim).setMax(Double.parseDouble(value));
+                        break;
+                    case 2:
+                        axisDesc.get(dim).set(value == null ? "" : value);
+                        break;
+                    default:
+                        axisDesc.get(dim).set(axisDesc.get(dim).getName(), value == null ? "" : value);
+                        break;
+                    }
                     continue;
                 }
 
-                if (line.contains("#dataSetName")) {
+                if (line.startsWith("#dataSetName")) {
                     dataSetName = getValue(line);
-                    continue;
-                }
-
-                if (line.contains("#nSamples")) {
+                } else if (line.startsWith("#nSamples")) {
                     nDataCountEstimate = Integer.parseInt(getValue(line));
-                    continue;
-                }
-
-                if (line.contains("#info")) {
+                } else if (line.startsWith("#info")) {
                     info.add(getValue(line));
-                    continue;
-                }
-
-                if (line.contains("#warning")) {
+                } else if (line.startsWith("#warning")) {
                     warning.add(getValue(line));
-                    continue;
-                }
-
-                if (line.contains("#error")) {
+                } else if (line.startsWith("#error")) {
                     error.add(getValue(line));
-                    continue;
-                }
-
-                if (line.contains("#metaKey -")) {
+                } else if (line.startsWith("#metaKey -")) {
                     final String key = getKey(line, "#metaKey -");
                     final String value = getValue(line);
                     if (key == null || value == null) {
@@ -580,9 +627,11 @@ public class DataSetUtils extends DataSetUtilsHelper {
             }
 
             if (binary) {
-                dataSet = readNumericDataFromBinaryFile(inputReader, inputStream, dataSetName);
+                dataSet = readNumericDataFromBinaryFile(inputReader.readRemainingLines(), inputStream, dataSetName);
+            } else if (is3D) {
+                dataSet = readNumericData3D(inputReader, dataSetName, nDataCountEstimate);
             } else {
-                dataSet = readNumericDataFromFile(inputReader, dataSetName, is3D, nDataCountEstimate);
+                dataSet = readNumericData2D(inputReader, dataSetName, nDataCountEstimate);
             }
 
             if (dataSet == null) {
@@ -608,16 +657,166 @@ public class DataSetUtils extends DataSetUtilsHelper {
     }
 
     /**
-     * @param inputReader input reader for string data
+     * Parses the numeric 'index, x, y[, eyn, eyp]' section in chunks of {@value #TEXT_CHUNK_SIZE} bytes in parallel.
+     *
+     * For each chunk the number of rows is counted first, the row offsets of consecutive chunks are chained and the
+     * values are then parsed directly into the pre-allocated arrays. Rows exceeding the '#nSamples' estimate are kept
+     * per chunk and appended at the end.
+     *
+     * @param inputReader reader positioned at the beginning of the numeric data section
+     * @param dataSetName used to store the read data
+     * @param nSamplesGuessed expected number of samples (e.g. from the '#nSamples' header entry)
+     * @return the DataSet read from the stream (truncated to the last completely parsed chunk in case of errors)
+     * @throws IOException in case of IO problems
+     */
+    private static DataSet readNumericData2D(final ByteLineReader inputReader, final String dataSetName, final int nSamplesGuessed) throws IOException {
+        final ExecutorService executor = CachedDaemonThreadFactory.getCommonPool();
+        final int nMaxPending = 2 * CachedDaemonThreadFactory.getNumbersOfThreads();
+        final TextColumns columns = new TextColumns(Math.max(nSamplesGuessed, 0));
+        final ArrayDeque<TextChunk> pending = new ArrayDeque<>(nMaxPending);
+        final List<TextChunk> overflow = new ArrayList<>();
+        CompletableFuture<Integer> rowOffset = CompletableFuture.completedFuture(0);
+        int nRows = 0; // rows of the already completed chunks
+        TextChunk previous = null;
+        try {
+            boolean endOfStream = false;
+            while (!endOfStream) {
+                final TextChunk chunk;
+                if (pending.size() < nMaxPending) {
+                    chunk = new TextChunk(new byte[TEXT_CHUNK_SIZE]);
+                } else {
+                    // wait for the oldest chunk and recycle its buffer
+                    final TextChunk oldest = pending.poll();
+                    nRows = oldest.complete(overflow);
+                    chunk = new TextChunk(oldest.data);
+                }
+                endOfStream = chunk.fill(inputReader, previous);
+                previous = chunk;
+
+                final CompletableFuture<Integer> rowCount = CompletableFuture.supplyAsync(chunk::countRows, executor);
+                chunk.parsed = rowOffset.thenAcceptBothAsync(rowCount, (offset, n) -> chunk.parseRows(columns, offset, n), executor);
+                rowOffset = rowOffset.thenCombine(rowCount, Integer::sum);
+                pending.add(chunk);
+            }
+            while (!pending.isEmpty()) {
+                nRows = pending.poll().complete(overflow);
+            }
+        } catch (final CompletionException e) {
+            LOGGER.atError().setCause(e.getCause()).addArgument(dataSetName).log("readNumericData2D could not parse numeric data for: '{}'");
+            // wait for in-flight chunks before handing out the shared arrays
+            for (final TextChunk chunk : pending) {
+                chunk.parsed.handle((v, t) -> null).join();
+            }
+        }
+        columns.append(overflow, nRows);
+        return new DoubleErrorDataSet(dataSetName, columns.x, columns.y, columns.eyn, columns.eyp, nRows, false);
+    }
+
+    /**
+     * @param buffer source
+     * @param from start index of the line (inclusive)
+     * @param to end index of the line (exclusive)
+     * @return true if the line contains only white-spaces or control characters
+     */
+    private static boolean isBlankLine(final byte[] buffer, final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            if (buffer[i] > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses the comma-separated values of a line, skipping the first (index) column.
+     *
+     * @param buffer source
+     * @param from start index of the line (inclusive)
+     * @param to end index of the line (exclusive)
+     * @param values storage for the parsed values (at most values.length columns are parsed)
+     * @return number of parsed columns
+     */
+    private static int parseColumns(final byte[] buffer, final int from, final int to, final double[] values) {
+        int index = from;
+        while (index < to && buffer[index] != ',') {
+            index++;
+        }
+        int nColumns = 0;
+        while (index < to && nColumns < values.length) {
+            final int start = index + 1;
+            index = start;
+            while (index < to && buffer[index] != ',') {
+                index++;
+            }
+            values[nColumns++] = FastDoubleParser.parseDouble(buffer, start, index);
+        }
+        return nColumns;
+    }
+
+    /**
+     * Parses the numeric 'index, x, y, z' section of grid data sets.
+     *
+     * @param inputReader reader positioned at the beginning of the numeric data section
+     * @param dataSetName used to store the read data
+     * @param nSamplesGuessed expected number of samples (e.g. from the '#nSamples' header entry)
+     * @return the DataSet read from the stream (truncated to the last complete grid row in case of errors)
+     * @throws IOException in case of IO problems
+     */
+    private static DataSet readNumericData3D(final ByteLineReader inputReader, final String dataSetName, final int nSamplesGuessed) throws IOException {
+        final double[] values = new double[3];
+        double[] x = new double[16];
+        double[] y = new double[16];
+        double[] z = new double[Math.max(nSamplesGuessed, 16)];
+        int nX = 0;
+        int nY = 0;
+        int nZ = 0;
+        try {
+            while (inputReader.nextLine()) {
+                if (isBlankLine(inputReader.buffer, inputReader.lineStart, inputReader.lineEnd)) {
+                    continue;
+                }
+                if (parseColumns(inputReader.buffer, inputReader.lineStart, inputReader.lineEnd, values) < values.length) {
+                    throw new NumberFormatException("missing columns in line: '" + inputReader.getLine() + "'");
+                }
+                if (nY == 0 || values[1] != y[nY - 1]) {
+                    y = nY < y.length ? y : Arrays.copyOf(y, 2 * y.length);
+                    y[nY++] = values[1];
+                }
+                if (nY < 2) {
+                    x = nX < x.length ? x : Arrays.copyOf(x, 2 * x.length);
+                    x[nX++] = values[0];
+                }
+                z = nZ < z.length ? z : Arrays.copyOf(z, 2 * z.length);
+                z[nZ++] = values[2];
+            }
+        } catch (final NumberFormatException e) {
+            LOGGER.atError().setCause(e).addArgument(dataSetName).log("readNumericData3D could not parse numeric data for: '{}'");
+        }
+        if ((long) nX * nY != nZ) {
+            LOGGER.atError().addArgument(dataSetName).addArgument(nX).addArgument(nY).addArgument(nZ).log("readNumericData3D inconsistent grid for '{}': nX = {} x nY = {} != nZ = {}");
+            // N.B. keep the complete grid rows, same as the truncated 2D data
+            nY = nX == 0 ? 0 : Math.min(nY, nZ / nX);
+        }
+        if (nY == 0) {
+            return new DoubleGridDataSet(dataSetName, 3);
+        }
+        final double[][] zArray = new double[nY][];
+        for (int i = 0; i < nY; i++) {
+            zArray[i] = Arrays.copyOfRange(z, i * nX, (i + 1) * nX);
+        }
+        return new DataSetBuilder(dataSetName).setValues(DIM_X, Arrays.copyOf(x, nX)).setValues(DIM_Y, Arrays.copyOf(y, nY)).setValues(DIM_Z, zArray).build();
+    }
+
+    /**
+     * @param toRead '$'-prefixed binary column descriptions (e.g. '$x;float32[];1024')
      * @param inputFile input stream for binary data
      * @param dataSetName used to store the read data
      * @return the DataSet read from File
      * @throws IOException in case of IO problems
      */
-    private static DataSet readNumericDataFromBinaryFile(final BufferedReader inputReader,
+    private static DataSet readNumericDataFromBinaryFile(final List<String> toRead,
             final SplitCharByteInputStream inputFile, final String dataSetName) throws IOException {
         final DataSetBuilder builder = new DataSetBuilder();
-        final List<String> toRead = inputReader.lines().collect(Collectors.toList());
         if (inputFile.reachedSplit()) {
             inputFile.switchToBinary();
             for (int i = 0; i < toRead.size(); i++) {
@@ -672,62 +871,30 @@ public class DataSetUtils extends DataSetUtilsHelper {
         return builder.setName("CorruptedDataSet").setMetaErrorList("Error reading file").build();
     }
 
+    /**
+     * @param inputFile reader positioned at the beginning of the numeric data section
+     * @param dataSetName used to store the read data
+     * @param is3D whether the data section contains 'index, x, y, z' grid data rather than 'index, x, y[, eyn, eyp]'
+     * @param nSamplesGuessed expected number of samples (e.g. from the '#nSamples' header entry)
+     * @return the DataSet read from the reader or {@code null} in case of IO problems
+     * @deprecated the numeric data section is parsed directly from the byte stream by
+     *             {@link #readDataSetFromStream(SplitCharByteInputStream)}
+     */
+    @Deprecated
     protected static DataSet readNumericDataFromFile(final BufferedReader inputFile, final String dataSetName,
             final boolean is3D, final int nSamplesGuessed) {
-        DataSet result = null;
         try {
-            if (is3D) {
-                int i = 0;
-                DoubleBuffer x = DoubleBuffer.allocate(nSamplesGuessed);
-                DoubleBuffer y = DoubleBuffer.allocate(nSamplesGuessed);
-                DoubleBuffer z = DoubleBuffer.allocate(nSamplesGuessed);
-
-                for (String line = inputFile.readLine(); line != null; line = inputFile.readLine()) {
-                    final String[] parse = line.split(",");
-                    if (parse.length == 0) {
-                        continue;
-                    }
-                    double yNew = Double.parseDouble(parse[2]);
-                    if (y.position() == 0 || yNew != y.get(y.position() - 1)) {
-                        y.put(yNew);
-                    }
-                    if (y.position() < 2) {
-                        x.put(Double.parseDouble(parse[1]));
-                    }
-                    z.put(Double.parseDouble(parse[3]));
-                    i++;
-                }
-                double[] xArray = new double[x.position()];
-                x.position(0);
-                x.get(xArray);
-                double[] yArray = new double[y.position()];
-                y.position(0);
-                y.get(yArray);
-                double[][] zArray = new double[yArray.length][xArray.length];
-                z.position(0);
-                for (i = 0; i < zArray.length; i++) {
-                    z.get(zArray[i]);
-                }
-                result = new DataSetBuilder(dataSetName).setValues(DIM_X, xArray).setValues(DIM_Y, yArray).setValues(DIM_Z, zArray).build();
-            } else {
-                result = new DoubleErrorDataSet(dataSetName);
-                for (String line = inputFile.readLine(); line != null; line = inputFile.readLine()) {
-                    final String[] parse = line.split(",");
-                    if (parse.length == 0) {
-                        continue;
-                    }
-
-                    final double x = Double.parseDouble(parse[1]);
-                    final double y = Double.parseDouble(parse[2]);
-                    final double eyn = parse.length < 5 ? 0.0 : Double.parseDouble(parse[3]);
-                    final double eyp = parse.length < 5 ? 0.0 : Double.parseDouble(parse[4]);
-                    ((DoubleErrorDataSet) result).add(x, y, eyn, eyp);
-                }
+            final StringBuilder text = new StringBuilder();
+            for (String line = inputFile.readLine(); line != null; line = inputFile.readLine()) {
+                text.append(line).append('\n');
             }
-        } catch (final Exception e) {
-            LOGGER.atError().setCause(e).addArgument(result == null ? "null" : result.getName()).log("readNumericDataFrom File could not parse numeric data for: '{}'");
+            try (ByteLineReader inputReader = new ByteLineReader(new ByteArrayInputStream(text.toString().getBytes(StandardCharsets.UTF_8)))) {
+                return is3D ? readNumericData3D(inputReader, dataSetName, nSamplesGuessed) : readNumericData2D(inputReader, dataSetName, nSamplesGuessed);
+            }
+        } catch (final IOException e) {
+            LOGGER.atError().setCause(e).addArgument(dataSetName).log("readNumericDataFromFile could not read numeric data for: '{}'");
+            return null;
         }
-        return result;
     }
 
     public static void setExportMetaDataByDefault(final boolean state) {
@@ -873,7 +1040,7 @@ public class DataSetUtils extends DataSetUtilsHelper {
      * @param dataSet The DataSet to export
      * @param path Path to the location of the file
      * @param fileName Filename (with "{metadatafield;type;format}" placeholders for variables)
-     * @param compression Compression of the file (GZIP, ZIP or NONE). Supply AUTO or omit this value to use file
+     * @param compression Compression of the file (GZIP, ZIP, NONE or CHUNKED). Supply AUTO or omit this value to use file
      *            extension.
      * @param binary true: whether to store data as binary or string
      * @return actual name of the file that was written or none in case of errors
@@ -894,11 +1061,17 @@ public class DataSetUtils extends DataSetUtilsHelper {
                 LOGGER.atInfo().addArgument(longFileName).log("needed to create directory for file: {}");
             }
 
+            final Compression fileCompression = compression == Compression.AUTO ? evaluateAutoCompression(fileName) : compression;
+            if (fileCompression == Compression.CHUNKED) {
+                ChunkedDataSetFile.write(dataSet, file.toPath());
+                LOGGER.atDebug().addArgument(dataSet.getName()).addArgument(longFileName).log("write data set '{}' to {}");
+                return longFileName;
+            }
+
             // create OutputStream
             final ByteArrayOutputStream byteOutput = new ByteArrayOutputStream(8192);
             // TODO: cache ByteArrayOutputStream
-            try (OutputStream outputfile = openDatasetFileOutput(file,
-                         compression == Compression.AUTO ? evaluateAutoCompression(fileName) : compression)) {
+            try (OutputStream outputfile = openDatasetFileOutput(file, fileCompression)) {
                 writeDataSetToByteArray(dataSet, byteOutput, binary, useFloat32BinaryStandard());
 
                 byteOutput.writeTo(outputfile);
@@ -1183,7 +1356,12 @@ public class DataSetUtils extends DataSetUtilsHelper {
         /**
          * Plaintext csv data
          */
-        NONE
+        NONE,
+        /**
+         * Chunked columnar binary format with individually compressed blocks that permits reading x-ranges (see
+         * {@link ChunkedDataSetFile}). Auto-detected by the '.cds' file extension, the 'binary' option is ignored.
+         */
+        CHUNKED
     }
 
     /**
@@ -1210,6 +1388,277 @@ public class DataSetUtils extends DataSetUtilsHelper {
         EYP
     }
 
+    /**
+     * Line reader operating directly on the bytes of the (character-part of the) {@link SplitCharByteInputStream}.
+     *
+     * N.B. individual reads are limited to the push-back buffer size of the {@link SplitCharByteInputStream} since the
+     * bytes following the binary marker are pushed back into the stream.
+     */
+    private static final class ByteLineReader implements Closeable {
+        private final InputStream inputStream;
+        private byte[] buffer = new byte[PUSHBACK_BUFFER_SIZE];
+        private int position;
+        private int limit;
+        private boolean endOfStream;
+        private int lineStart;
+        private int lineEnd;
+
+        private ByteLineReader(final InputStream inputStream) {
+            this.inputStream = inputStream;
+        }
+
+        @Override
+        public void close() throws IOException {
+            inputStream.close();
+        }
+
+        /**
+         * @return the current line decoded with the platform's default charset
+         */
+        private String getLine() {
+            return new String(buffer, lineStart, lineEnd - lineStart);
+        }
+
+        /**
+         * Advances to the next line which is then accessible via [lineStart, lineEnd) of the buffer (excluding the line
+         * terminator).
+         *
+         * @return false if the end of the stream has been reached
+         * @throws IOException in case of IO problems
+         */
+        private boolean nextLine() throws IOException {
+            int index = position;
+            while (true) {
+                while (index < limit && buffer[index] != '\n') {
+                    index++;
+                }
+                if (index < limit || endOfStream) {
+                    break;
+                }
+                if (position > 0) {
+                    System.arraycopy(buffer, position, buffer, 0, limit - position);
+                    index -= position;
+                    limit -= position;
+                    position = 0;
+                }
+                if (limit == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, 2 * buffer.length);
+                }
+                final int nRead = inputStream.read(buffer, limit, Math.min(buffer.length - limit, PUSHBACK_BUFFER_SIZE));
+                if (nRead < 0) {
+                    endOfStream = true;
+                } else {
+                    limit += nRead;
+                }
+            }
+            if (position == limit) {
+                return false;
+            }
+            lineStart = position;
+            lineEnd = index > lineStart && buffer[index - 1] == '\r' ? index - 1 : index;
+            position = Math.min(index + 1, limit);
+            return true;
+        }
+
+        /**
+         * @param target destination
+         * @param offset destination offset
+         * @param length maximum number of bytes to be read
+         * @return number of bytes read or '-1' if the end of the stream has been reached
+         * @throws IOException in case of IO problems
+         */
+        private int read(final byte[] target, final int offset, final int length) throws IOException {
+            if (position < limit) {
+                final int nCopy = Math.min(length, limit - position);
+                System.arraycopy(buffer, position, target, offset, nCopy);
+                position += nCopy;
+                return nCopy;
+            }
+            if (endOfStream) {
+                return -1;
+            }
+            final int nRead = inputStream.read(target, offset, Math.min(length, PUSHBACK_BUFFER_SIZE));
+            endOfStream = nRead < 0;
+            return nRead;
+        }
+
+        /**
+         * @return the next line or {@code null} if the end of the stream has been reached
+         * @throws IOException in case of IO problems
+         */
+        private String readLine() throws IOException {
+            return nextLine() ? getLine() : null;
+        }
+
+        private List<String> readRemainingLines() throws IOException {
+            final List<String> lines = new ArrayList<>();
+            for (String line = readLine(); line != null; line = readLine()) {
+                lines.add(line);
+            }
+            return lines;
+        }
+    }
+
+    /**
+     * Byte chunk of the numeric data section that ends on a line boundary.
+     */
+    private static final class TextChunk {
+        private byte[] data;
+        private int length; // bytes of complete lines
+        private int filled; // bytes including the incomplete trailing line
+        private CompletableFuture<Void> parsed;
+        private int rowOffset;
+        private int nRows;
+        private double[] overflow; // interleaved x, y, eyn, eyp of rows exceeding the pre-allocated capacity
+        private int overflowOffset;
+
+        private TextChunk(final byte[] data) {
+            this.data = data;
+        }
+
+        /**
+         * @param overflow list collecting chunks with rows exceeding the pre-allocated capacity
+         * @return row index following the last row of this chunk
+         */
+        private int complete(final List<TextChunk> overflow) {
+            parsed.join();
+            if (this.overflow != null) {
+                overflow.add(this);
+            }
+            return rowOffset + nRows;
+        }
+
+        private int countRows() {
+            int count = 0;
+            boolean blank = true;
+            for (int i = 0; i < length; i++) {
+                final byte b = data[i];
+                if (b == '\n') {
+                    count += blank ? 0 : 1;
+                    blank = true;
+                } else if (b > ' ') {
+                    blank = false;
+                }
+            }
+            return blank ? count : count + 1;
+        }
+
+        /**
+         * @param reader source
+         * @param previous previous chunk whose incomplete trailing line is carried over (may be {@code null})
+         * @return true if the end of the stream has been reached
+         * @throws IOException in case of IO problems
+         */
+        private boolean fill(final ByteLineReader reader, final TextChunk previous) throws IOException {
+            filled = 0;
+            if (previous != null) {
+                filled = previous.filled - previous.length;
+                if (filled >= data.length) {
+                    data = new byte[2 * filled];
+                }
+                System.arraycopy(previous.data, previous.length, data, 0, filled);
+            }
+            while (true) {
+                while (filled < data.length) {
+                    final int nRead = reader.read(data, filled, data.length - filled);
+                    if (nRead < 0) {
+                        length = filled;
+                        return true;
+                    }
+                    filled += nRead;
+                }
+                for (int i = filled - 1; i >= 0; i--) {
+                    if (data[i] == '\n') {
+                        length = i + 1;
+                        return false;
+                    }
+                }
+                // single line exceeds the chunk size
+                data = Arrays.copyOf(data, 2 * data.length);
+            }
+        }
+
+        private void parseRows(final TextColumns columns, final int offset, final int n) {
+            final int capacity = columns.x.length;
+            if (offset + n > capacity) {
+                overflowOffset = Math.max(offset, capacity);
+                overflow = new double[4 * (offset + n - overflowOffset)];
+            }
+            final double[] values = new double[4];
+            int row = offset;
+            int index = 0;
+            while (index < length) {
+                int end = index;
+                while (end < length && data[end] != '\n') {
+                    end++;
+                }
+                if (!isBlankLine(data, index, end)) {
+                    final int nColumns = parseColumns(data, index, end, values);
+                    if (nColumns < 2) {
+                        throw new NumberFormatException("missing columns in line: '" + new String(data, index, end - index) + "'");
+                    }
+                    if (nColumns < 4) {
+                        values[2] = 0.0;
+                        values[3] = 0.0;
+                    }
+                    if (row < capacity) {
+                        columns.x[row] = values[0];
+                        columns.y[row] = values[1];
+                        columns.eyn[row] = values[2];
+                        columns.eyp[row] = values[3];
+                    } else {
+                        System.arraycopy(values, 0, overflow, 4 * (row - overflowOffset), 4);
+                    }
+                    row++;
+                }
+                index = end + 1;
+            }
+            rowOffset = offset;
+            nRows = n;
+        }
+    }
+
+    /**
+     * Pre-allocated columns of the numeric data section that are shared between the parallel chunk parsers.
+     */
+    private static final class TextColumns {
+        private double[] x;
+        private double[] y;
+        private double[] eyn;
+        private double[] eyp;
+
+        private TextColumns(final int capacity) {
+            x = new double[capacity];
+            y = new double[capacity];
+            eyn = new double[capacity];
+            eyp = new double[capacity];
+        }
+
+        /**
+         * @param overflow chunks with rows exceeding the pre-allocated capacity (in row order)
+         * @param nRows total number of rows
+         */
+        private void append(final List<TextChunk> overflow, final int nRows) {
+            if (nRows <= x.length) {
+                return;
+            }
+            x = Arrays.copyOf(x, nRows);
+            y = Arrays.copyOf(y, nRows);
+            eyn = Arrays.copyOf(eyn, nRows);
+            eyp = Arrays.copyOf(eyp, nRows);
+            for (final TextChunk chunk : overflow) {
+                final int end = Math.min(chunk.rowOffset + chunk.nRows, nRows);
+                for (int row = chunk.overflowOffset; row < end; row++) {
+                    final int index = 4 * (row - chunk.overflowOffset);
+                    x[row] = chunk.overflow[index];
+                    y[row] = chunk.overflow[index + 1];
+                    eyn[row] = chunk.overflow[index + 2];
+                    eyp[row] = chunk.overflow[index + 3];
+                }
+            }
+        }
+    }
+
     protected static class SplitCharByteInputStream extends FilterInputStream {
         protected static final byte MARKER = (byte) SWITCH_TO_BINARY_KEY;
         private final PushbackInputStream pbin;
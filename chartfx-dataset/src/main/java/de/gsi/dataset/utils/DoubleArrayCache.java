@@ -37,16 +37,51 @@ import java.lang.ref.Reference;
 public class DoubleArrayCache extends CacheCollection<double[]> {
     private static final DoubleArrayCache SELF = new DoubleArrayCache();
 
+    @Override
+    public boolean add(final double[] recoveredObject) {
+        if (recoveredObject != null && ArrayPool.isPowerOfTwo(recoveredObject.length)) {
+            return ArrayPool.getDoublePool().release(recoveredObject);
+        }
+        return super.add(recoveredObject);
+    }
+
+    /**
+     * @param requiredSize minimum required array length
+     * @return cached or newly allocated array with a length of at least 'requiredSize'
+     */
     public double[] getArray(final int requiredSize) {
-        return getArray(requiredSize, false);
+        final double[] cachedArray = getCachedArray(requiredSize, false);
+        return cachedArray == null ? new double[requiredSize] : cachedArray;
     }
 
+    /**
+     * @param requiredSize required array length
+     * @return cached or newly allocated array with a length of exactly 'requiredSize'
+     */
     public double[] getArrayExact(final int requiredSize) {
-        return getArray(requiredSize, true);
+        if (ArrayPool.isPowerOfTwo(requiredSize)) {
+            return ArrayPool.getDoublePool().getArray(requiredSize);
+        }
+        final double[] cachedArray = getCachedArray(requiredSize, true);
+        return cachedArray == null ? new double[requiredSize] : cachedArray;
     }
 
-    private double[] getArray(final int requiredSize, final boolean exact) {
+    /**
+     * N.B. unlike {@link #getArray(int)} the returned length is rounded up to the next power of two so that requests of
+     * slightly different sizes share the same {@link ArrayPool} size class.
+     *
+     * @param requiredSize minimum required array length
+     * @return pooled or newly allocated array with a length of 'requiredSize' rounded up to the next power of two
+     */
+    public double[] getPooledArray(final int requiredSize) {
+        return ArrayPool.getDoublePool().getArray(requiredSize);
+    }
+
+    private double[] getCachedArray(final int requiredSize, final boolean exact) {
         synchronized (contents) {
+            if (contents.isEmpty()) {
+                return null;
+            }
             double[] bestFit = null;
             int bestFitSize = Integer.MAX_VALUE;
 
@@ -68,13 +103,9 @@ public class DoubleArrayCache extends CacheCollection<double[]> {
                 }
             }
 
-            if (bestFit == null) {
-                // could not find any cached, return new double[]
-                bestFit = new double[requiredSize];
-                return bestFit;
+            if (bestFit != null) {
+                remove(bestFit);
             }
-
-            remove(bestFit);
             return bestFit;
         }
     }
@@ -0,0 +1,209 @@
+package de.gsi.dataset.utils;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Allocation-free parser for decimal floating-point numbers stored as ASCII characters in byte arrays, e.g. the numeric
+ * sections of text-based data files.
+ *
+ * Uses the Clinger fast-path and the Eisel-Lemire algorithm (see D. Lemire, "Number Parsing at a Gigabyte per Second",
+ * Software: Practice and Experience 51(8), 2021), which both yield the correctly rounded result, i.e. the same value as
+ * {@link Double#parseDouble(String)}. The rare inputs that cannot be decided this way (e.g. more than 19 significant
+ * digits, extreme exponents, 'NaN', 'Infinity' or hexadecimal notation) fall back to {@link Double#parseDouble(String)}.
+ *
+ * @author rstein
+ */
+public final class FastDoubleParser {
+    private static final int MAX_SIGNIFICANT_DIGITS = 19; // fits into an unsigned 64-bit long
+    private static final int MAX_EXPONENT_DIGITS = 10_000; // well beyond any finite non-zero double
+    private static final int SMALLEST_POWER = -325;
+    private static final int LARGEST_POWER = 308;
+    private static final long MAX_EXACT_SIGNIFICAND = 1L << 53;
+    private static final double[] EXACT_POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, //
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+    // 128-bit normalised (truncated) approximations of 5^q for q in [SMALLEST_POWER, LARGEST_POWER]
+    private static final long[] POWER_OF_FIVE_HIGH = new long[LARGEST_POWER - SMALLEST_POWER + 1];
+    private static final long[] POWER_OF_FIVE_LOW = new long[LARGEST_POWER - SMALLEST_POWER + 1];
+
+    static {
+        final BigInteger mask64 = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+        final BigInteger limit128 = BigInteger.ONE.shiftLeft(128);
+        for (int q = SMALLEST_POWER; q <= LARGEST_POWER; q++) {
+            BigInteger value;
+            if (q < 0) {
+                // reciprocal 2^b/5^-q rounded up
+                final BigInteger power5 = BigInteger.valueOf(5).pow(-q);
+                final int z = power5.bitLength();
+                final int b = q >= -27 ? z + 127 : 2 * z + 128;
+                value = BigInteger.ONE.shiftLeft(b).divide(power5).add(BigInteger.ONE);
+                while (value.compareTo(limit128) >= 0) {
+                    value = value.shiftRight(1);
+                }
+            } else {
+                // 5^q with the most-significant bit at position 127 (truncated)
+                value = BigInteger.valueOf(5).pow(q);
+                value = value.bitLength() <= 128 ? value.shiftLeft(128 - value.bitLength()) : value.shiftRight(value.bitLength() - 128);
+            }
+            POWER_OF_FIVE_HIGH[q - SMALLEST_POWER] = value.shiftRight(64).longValue();
+            POWER_OF_FIVE_LOW[q - SMALLEST_POWER] = value.and(mask64).longValue();
+        }
+    }
+
+    private FastDoubleParser() {
+        // utility class
+    }
+
+    /**
+     * @param bytes ASCII-encoded characters
+     * @param from index of the first character (inclusive)
+     * @param to index of the last character (exclusive)
+     * @return parsed value (leading and trailing white-spaces are ignored)
+     * @throws NumberFormatException if the range does not contain a parsable number
+     */
+    public static double parseDouble(final byte[] bytes, final int from, final int to) {
+        int index = from;
+        int end = to;
+        while (index < end && bytes[index] <= ' ') {
+            index++;
+        }
+        while (end > index && bytes[end - 1] <= ' ') {
+            end--;
+        }
+        if (index == end) {
+            throw new NumberFormatException("empty number string");
+        }
+
+        final boolean negative = bytes[index] == '-';
+        if (negative || bytes[index] == '+') {
+            index++;
+        }
+
+        long significand = 0;
+        int nDigits = 0;
+        int nSignificantDigits = 0;
+        int power = 0;
+        byte c;
+        // integer part
+        while (index < end && (c = bytes[index]) >= '0' && c <= '9') {
+            significand = 10 * significand + (c - '0');
+            nSignificantDigits += significand == 0 ? 0 : 1;
+            nDigits++;
+            index++;
+        }
+        // fractional part
+        if (index < end && bytes[index] == '.') {
+            index++;
+            while (index < end && (c = bytes[index]) >= '0' && c <= '9') {
+                significand = 10 * significand + (c - '0');
+                nSignificantDigits += significand == 0 ? 0 : 1;
+                nDigits++;
+                power--;
+                index++;
+            }
+        }
+        if (nDigits == 0 || nSignificantDigits > MAX_SIGNIFICANT_DIGITS) {
+            return parseDoubleFallback(bytes, from, to);
+        }
+        // exponent part
+        if (index < end && ((c = bytes[index]) == 'e' || c == 'E')) {
+            index++;
+            final boolean negativeExponent = index < end && bytes[index] == '-';
+            if (index < end && (negativeExponent || bytes[index] == '+')) {
+                index++;
+            }
+            final int exponentStart = index;
+            int exponent = 0;
+            while (index < end && (c = bytes[index]) >= '0' && c <= '9') {
+                exponent = exponent < MAX_EXPONENT_DIGITS ? 10 * exponent + (c - '0') : exponent;
+                index++;
+            }
+            if (index == exponentStart) {
+                return parseDoubleFallback(bytes, from, to);
+            }
+            power += negativeExponent ? -exponent : exponent;
+        }
+        if (index != end) {
+            // trailing characters (e.g. 'd' or 'f' suffix), let the JDK decide
+            return parseDoubleFallback(bytes, from, to);
+        }
+
+        if (significand == 0) {
+            return negative ? -0.0 : 0.0;
+        }
+        if (power >= -22 && power <= 22 && Long.compareUnsigned(significand, MAX_EXACT_SIGNIFICAND) <= 0) {
+            // Clinger's fast-path: significand and power of ten are exact -> single rounding
+            final double value = power < 0 ? significand / EXACT_POWERS_OF_TEN[-power] : significand * EXACT_POWERS_OF_TEN[power];
+            return negative ? -value : value;
+        }
+        final double value = computeEiselLemire(significand, power);
+        if (Double.isNaN(value)) {
+            return parseDoubleFallback(bytes, from, to);
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * @param significand non-zero unsigned decimal significand
+     * @param power decimal exponent
+     * @return correctly rounded |significand * 10^power| or {@code NaN} if the result cannot be decided
+     */
+    private static double computeEiselLemire(final long significand, final int power) {
+        if (power < SMALLEST_POWER || power > LARGEST_POWER) {
+            return Double.NaN;
+        }
+        final int index = power - SMALLEST_POWER;
+        final long factorHigh = POWER_OF_FIVE_HIGH[index];
+        final long exponent = (((152_170L + 65_536L) * power) >> 16) + 1024 + 63;
+        int leadingZeros = Long.numberOfLeadingZeros(significand);
+        final long normalised = significand << leadingZeros;
+
+        long lower = normalised * factorHigh;
+        long upper = unsignedMultiplyHigh(normalised, factorHigh);
+        if ((upper & 0x1FF) == 0x1FF && Long.compareUnsigned(lower + normalised, lower) < 0) {
+            // truncation error of the 64-bit product may matter -> use full 128-bit factor
+            final long factorLow = POWER_OF_FIVE_LOW[index];
+            final long productLow = normalised * factorLow;
+            final long productMiddle2 = unsignedMultiplyHigh(normalised, factorLow);
+            final long productMiddle = lower + productMiddle2;
+            long productHigh = upper;
+            if (Long.compareUnsigned(productMiddle, lower) < 0) {
+                productHigh++;
+            }
+            if (productMiddle + 1 == 0 && (productHigh & 0x1FF) == 0x1FF && Long.compareUnsigned(productLow + normalised, productLow) < 0) {
+                return Double.NaN;
+            }
+            upper = productHigh;
+            lower = productMiddle;
+        }
+
+        final long upperBit = upper >>> 63;
+        long mantissa = upper >>> (upperBit + 9);
+        leadingZeros += (int) (1 ^ upperBit);
+        if (lower == 0 && (upper & 0x1FF) == 0 && (mantissa & 3) == 1) {
+            // exactly half-way between two doubles
+            return Double.NaN;
+        }
+        mantissa += mantissa & 1;
+        mantissa >>>= 1;
+        if (mantissa >= (1L << 53)) {
+            mantissa = 1L << 52;
+            leadingZeros--;
+        }
+        mantissa &= ~(1L << 52);
+        final long realExponent = exponent - leadingZeros;
+        if (realExponent < 1 || realExponent > 2046) {
+            // sub-normal or overflow
+            return Double.NaN;
+        }
+        return Double.longBitsToDouble(mantissa | realExponent << 52);
+    }
+
+    private static double parseDoubleFallback(final byte[] bytes, final int from, final int to) {
+        return Double.parseDouble(new String(bytes, from, to - from, StandardCharsets.ISO_8859_1));
+    }
+
+    private static long unsignedMultiplyHigh(final long x, final long y) {
+        return Math.multiplyHigh(x, y) + ((x >> 63) & y) + ((y >> 63) & x);
+    }
+}
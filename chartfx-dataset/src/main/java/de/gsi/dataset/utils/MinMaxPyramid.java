@@ -0,0 +1,332 @@
+package de.gsi.dataset.utils;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntToDoubleFunction;
+
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+
+/**
+ * Streaming multi-resolution (level-of-detail) min/max index over a sequence of values.
+ * <p>
+ * Level '0' aggregates {@code baseWidth} consecutive samples into one bucket, each further level aggregates
+ * {@code fanOut} buckets of the previous level. Each bucket stores the minimum and maximum value and their sample
+ * indices. The first and last sample of a bucket are implicitly given by the bucket's index range. Appending a sample
+ * updates the pyramid in amortised O(1) while the memory overhead amounts to about
+ * {@code 24 / (baseWidth * (1 - 1/fanOut))} bytes per sample.
+ * <p>
+ * The {@link #reduce(int, int, int, IntToDoubleFunction, IntArrayList)} query selects the coarsest level whose bucket
+ * width does not exceed the requested number of samples per bucket (e.g. per pixel) and returns the first, min, max and
+ * last sample index of each bucket in ascending order (M4 aggregation). Its cost is proportional to the number of
+ * requested buckets rather than the number of samples.
+ * <p>
+ * N.B. this class is not thread-safe. Access needs to be guarded externally, e.g. by the data set's lock.
+ *
+ * @author rstein
+ */
+public class MinMaxPyramid implements Serializable {
+    private static final long serialVersionUID = -2693452120413712478L;
+    public static final int DEFAULT_BASE_WIDTH = 16;
+    public static final int DEFAULT_FAN_OUT = 4;
+    private final int baseWidth;
+    private final int fanOut;
+    private final List<Level> levels = new ArrayList<>();
+    private int sampleCount;
+    private int partialMinIndex = -1;
+    private int partialMaxIndex = -1;
+    private double partialMin;
+    private double partialMax;
+
+    /**
+     * Creates a new pyramid with {@link #DEFAULT_BASE_WIDTH} and {@link #DEFAULT_FAN_OUT}
+     */
+    public MinMaxPyramid() {
+        this(DEFAULT_BASE_WIDTH, DEFAULT_FAN_OUT);
+    }
+
+    /**
+     * @param baseWidth number of samples aggregated in one bucket of level '0' (N.B. needs to be &gt;= 2)
+     * @param fanOut number of buckets aggregated into one bucket of the next level (N.B. needs to be &gt;= 2)
+     */
+    public MinMaxPyramid(final int baseWidth, final int fanOut) {
+        AssertUtils.gtOrEqual("baseWidth", 2, baseWidth);
+        AssertUtils.gtOrEqual("fanOut", 2, fanOut);
+        this.baseWidth = baseWidth;
+        this.fanOut = fanOut;
+    }
+
+    /**
+     * @param value new sample value to be appended (N.B. NaN values are ignored for the min/max computation)
+     */
+    public void add(final double value) {
+        final int index = sampleCount++;
+        if (partialMinIndex < 0 ? !Double.isNaN(value) : value < partialMin) {
+            partialMin = value;
+            partialMinIndex = index;
+        }
+        if (partialMaxIndex < 0 ? !Double.isNaN(value) : value > partialMax) {
+            partialMax = value;
+            partialMaxIndex = index;
+        }
+        if (sampleCount % baseWidth != 0) {
+            return;
+        }
+
+        // base bucket complete -- propagate to higher levels
+        getLevel(0).add(partialMin, partialMinIndex, partialMax, partialMaxIndex);
+        partialMinIndex = -1;
+        partialMaxIndex = -1;
+        for (int level = 0; getLevel(level).size() % fanOut == 0; level++) {
+            getLevel(level + 1).aggregate(getLevel(level), fanOut);
+        }
+    }
+
+    /**
+     * @param values new sample values to be appended
+     * @param from first index (inclusive) within 'values'
+     * @param to last index (exclusive) within 'values'
+     */
+    public void add(final double[] values, final int from, final int to) {
+        AssertUtils.notNull("values", values);
+        for (int i = from; i < to; i++) {
+            add(values[i]);
+        }
+    }
+
+    /**
+     * removes all samples
+     */
+    public void clear() {
+        levels.forEach(Level::clear);
+        sampleCount = 0;
+        partialMinIndex = -1;
+        partialMaxIndex = -1;
+    }
+
+    /**
+     * @return number of samples aggregated in one bucket of level '0'
+     */
+    public int getBaseWidth() {
+        return baseWidth;
+    }
+
+    /**
+     * @param level the pyramid level
+     * @return number of complete buckets of the given level
+     */
+    public int getBucketCount(final int level) {
+        return level < levels.size() ? levels.get(level).size() : 0;
+    }
+
+    /**
+     * @param level the pyramid level
+     * @return number of samples aggregated in one bucket of the given level
+     */
+    public int getBucketWidth(final int level) {
+        int width = baseWidth;
+        for (int i = 0; i < level; i++) {
+            width *= fanOut;
+        }
+        return width;
+    }
+
+    /**
+     * @return number of buckets of the previous level aggregated into one bucket of the next level
+     */
+    public int getFanOut() {
+        return fanOut;
+    }
+
+    /**
+     * @param samplesPerBucket maximum number of samples per bucket
+     * @return the coarsest level whose bucket width does not exceed 'samplesPerBucket' or '-1' if the raw samples should
+     *         be used
+     */
+    public int getLevelFor(final double samplesPerBucket) {
+        int level = -1;
+        int width = baseWidth;
+        while (level + 1 < levels.size() && width <= samplesPerBucket) {
+            level++;
+            width *= fanOut;
+        }
+        return level;
+    }
+
+    /**
+     * @return number of levels
+     */
+    public int getLevelCount() {
+        return levels.size();
+    }
+
+    /**
+     * @param level the pyramid level
+     * @param bucket the bucket index
+     * @return sample index of the bucket's maximum value or '-1' if the bucket contains only NaN values
+     */
+    public int getMaxIndex(final int level, final int bucket) {
+        return levels.get(level).maxIndices.getInt(bucket);
+    }
+
+    /**
+     * @param level the pyramid level
+     * @param bucket the bucket index
+     * @return sample index of the bucket's minimum value or '-1' if the bucket contains only NaN values
+     */
+    public int getMinIndex(final int level, final int bucket) {
+        return levels.get(level).minIndices.getInt(bucket);
+    }
+
+    /**
+     * @return number of samples that have been added
+     */
+    public int getSampleCount() {
+        return sampleCount;
+    }
+
+    /**
+     * Computes the level-of-detail reduced sample indices for the given index range
+     *
+     * @param indexMin first sample index (inclusive)
+     * @param indexMax last sample index (exclusive)
+     * @param maxBuckets the number of requested buckets (e.g. number of pixels)
+     * @param values accessor to the raw sample values (needed for partially covered buckets at the range boundaries)
+     * @param indices storage for the resulting ascending sample indices (N.B. is cleared)
+     */
+    public void reduce(final int indexMin, final int indexMax, final int maxBuckets, final IntToDoubleFunction values,
+            final IntArrayList indices) {
+        AssertUtils.gtThanZero("maxBuckets", maxBuckets);
+        AssertUtils.notNull("values", values);
+        AssertUtils.notNull("indices", indices);
+        indices.clear();
+        final int min = Math.max(0, indexMin);
+        final int max = Math.min(sampleCount, indexMax);
+        if (min >= max) {
+            return;
+        }
+        final int level = getLevelFor((max - min) / (double) maxBuckets);
+        if (level < 0) {
+            for (int i = min; i < max; i++) {
+                indices.add(i);
+            }
+            return;
+        }
+        reduceRange(level, min, max, values, indices);
+    }
+
+    private Level getLevel(final int level) {
+        if (level == levels.size()) {
+            levels.add(new Level());
+        }
+        return levels.get(level);
+    }
+
+    private void reduceRange(final int level, final int min, final int max, final IntToDoubleFunction values,
+            final IntArrayList indices) {
+        if (min >= max) {
+            return;
+        }
+        if (level < 0) {
+            // partially covered base bucket -- aggregate raw samples
+            int minIndex = -1;
+            int maxIndex = -1;
+            for (int i = min; i < max; i++) {
+                final double value = values.applyAsDouble(i);
+                if (minIndex < 0 ? !Double.isNaN(value) : value < values.applyAsDouble(minIndex)) {
+                    minIndex = i;
+                }
+                if (maxIndex < 0 ? !Double.isNaN(value) : value > values.applyAsDouble(maxIndex)) {
+                    maxIndex = i;
+                }
+            }
+            addBucket(min, max - 1, minIndex, maxIndex, indices);
+            return;
+        }
+
+        final Level lvl = levels.get(level);
+        final int width = getBucketWidth(level);
+        final int firstBucket = (min + width - 1) / width;
+        final int lastBucket = Math.min(max / width, lvl.size()); // exclusive
+        if (firstBucket >= lastBucket) {
+            reduceRange(level - 1, min, max, values, indices);
+            return;
+        }
+        reduceRange(level - 1, min, firstBucket * width, values, indices);
+        for (int bucket = firstBucket; bucket < lastBucket; bucket++) {
+            addBucket(bucket * width, (bucket + 1) * width - 1, lvl.minIndices.getInt(bucket), lvl.maxIndices.getInt(bucket), indices);
+        }
+        reduceRange(level - 1, lastBucket * width, max, values, indices);
+    }
+
+    private static void addBucket(final int first, final int last, final int minIndex, final int maxIndex,
+            final IntArrayList indices) {
+        addIndex(first, indices);
+        if (minIndex >= 0) {
+            addIndex(Math.min(minIndex, maxIndex), indices);
+            addIndex(Math.max(minIndex, maxIndex), indices);
+        }
+        addIndex(last, indices);
+    }
+
+    private static void addIndex(final int index, final IntArrayList indices) {
+        if (indices.isEmpty() || indices.getInt(indices.size() - 1) < index) {
+            indices.add(index);
+        }
+    }
+
+    /**
+     * private storage of the buckets of one pyramid level
+     */
+    private static class Level implements Serializable {
+        private static final long serialVersionUID = 6025316532498237744L;
+        protected final DoubleArrayList minValues = new DoubleArrayList();
+        protected final DoubleArrayList maxValues = new DoubleArrayList();
+        protected final IntArrayList minIndices = new IntArrayList();
+        protected final IntArrayList maxIndices = new IntArrayList();
+
+        protected void add(final double min, final int minIndex, final double max, final int maxIndex) {
+            minValues.add(min);
+            minIndices.add(minIndex);
+            maxValues.add(max);
+            maxIndices.add(maxIndex);
+        }
+
+        protected void aggregate(final Level lower, final int fanOut) {
+            final int end = lower.size();
+            int minIndex = -1;
+            int maxIndex = -1;
+            double min = Double.NaN;
+            double max = Double.NaN;
+            for (int bucket = end - fanOut; bucket < end; bucket++) {
+                final int bucketMinIndex = lower.minIndices.getInt(bucket);
+                if (bucketMinIndex < 0) {
+                    continue; // NaN-only bucket
+                }
+                final double bucketMin = lower.minValues.getDouble(bucket);
+                final double bucketMax = lower.maxValues.getDouble(bucket);
+                if (minIndex < 0 || bucketMin < min) {
+                    min = bucketMin;
+                    minIndex = bucketMinIndex;
+                }
+                if (maxIndex < 0 || bucketMax > max) {
+                    max = bucketMax;
+                    maxIndex = lower.maxIndices.getInt(bucket);
+                }
+            }
+            add(min, minIndex, max, maxIndex);
+        }
+
+        protected void clear() {
+            minValues.clear();
+            maxValues.clear();
+            minIndices.clear();
+            maxIndices.clear();
+        }
+
+        protected int size() {
+            return minIndices.size();
+        }
+    }
+}
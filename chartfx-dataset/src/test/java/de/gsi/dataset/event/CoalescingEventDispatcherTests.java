@@ -0,0 +1,94 @@
+package de.gsi.dataset.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the CoalescingEventDispatcher
+ *
+ * @author rstein
+ */
+public class CoalescingEventDispatcherTests {
+    @Test
+    public void constructorTests() {
+        assertThrows(IllegalArgumentException.class, () -> new CoalescingEventDispatcher(0));
+        assertThrows(IllegalArgumentException.class, () -> new CoalescingEventDispatcher(10).wrap(null));
+        assertEquals(CoalescingEventDispatcher.DEFAULT_TICK_PERIOD, CoalescingEventDispatcher.getDefault().getTickPeriod());
+    }
+
+    @Test
+    public void coalescingTests() {
+        final CoalescingEventDispatcher dispatcher = new CoalescingEventDispatcher(10_000);
+        final TestEventSource source1 = new TestEventSource();
+        final TestEventSource source2 = new TestEventSource();
+        final List<UpdateEvent> received = new ArrayList<>();
+        final EventListener listener = dispatcher.wrap(received::add);
+        source1.addListener(listener);
+        source2.addListener(listener);
+
+        source1.invokeListener(new AddedDataEvent(source1, "add1", 10, 12));
+        source1.invokeListener(new AddedDataEvent(source1, "add2", 12, 20));
+        source2.invokeListener(new AddedDataEvent(source2, "add3", 0, 1));
+        source2.invokeListener(new UpdatedDataEvent(source2, "update", 5, 7));
+        assertTrue(received.isEmpty());
+
+        dispatcher.flush();
+        assertEquals(2, received.size());
+        final UpdatedDataEvent event1 = (UpdatedDataEvent) (received.get(0).getSource() == source1 ? received.get(0) : received.get(1));
+        final UpdatedDataEvent event2 = (UpdatedDataEvent) (received.get(0).getSource() == source2 ? received.get(0) : received.get(1));
+        assertTrue(event1 instanceof AddedDataEvent);
+        assertEquals(10, event1.getIndexMin());
+        assertEquals(20, event1.getIndexMax());
+        assertEquals(UpdatedDataEvent.class, event2.getClass());
+        assertEquals(0, event2.getIndexMin());
+        assertEquals(7, event2.getIndexMax());
+
+        received.clear();
+        dispatcher.flush();
+        assertTrue(received.isEmpty(), "no re-delivery of already delivered events");
+    }
+
+    @Test
+    public void mergeTests() {
+        final TestEventSource source = new TestEventSource();
+        final UpdateEvent update = new UpdatedDataEvent(source, "update", 2, 3);
+        assertEquals(update, CoalescingEventDispatcher.merge(null, update));
+
+        final UpdateEvent removed = CoalescingEventDispatcher.merge(update, new RemovedDataEvent(source));
+        assertEquals(UpdatedDataEvent.class, removed.getClass());
+        assertEquals(0, ((UpdatedDataEvent) removed).getIndexMin());
+        assertEquals(Integer.MAX_VALUE, ((UpdatedDataEvent) removed).getIndexMax());
+
+        final UpdateEvent mixed = CoalescingEventDispatcher.merge(new AxisRangeChangeEvent(source, 0), update);
+        assertEquals(UpdatedDataEvent.class, mixed.getClass());
+        assertEquals(Integer.MAX_VALUE, ((UpdatedDataEvent) mixed).getIndexMax());
+
+        final UpdateEvent latest = new AxisRangeChangeEvent(source, 1);
+        assertEquals(latest, CoalescingEventDispatcher.merge(new AxisRangeChangeEvent(source, 0), latest));
+        assertEquals(InvalidatedEvent.class, CoalescingEventDispatcher.merge(new AxisNameChangeEvent(source, 0), latest).getClass());
+    }
+
+    @Test
+    public void scheduledDeliveryTests() throws InterruptedException {
+        final CoalescingEventDispatcher dispatcher = new CoalescingEventDispatcher(20);
+        final TestEventSource source = new TestEventSource();
+        final CountDownLatch latch = new CountDownLatch(1);
+        source.addListener(dispatcher.wrap(evt -> {
+            if (((UpdatedDataEvent) evt).getIndexMax() == 100) {
+                latch.countDown();
+            }
+        }));
+        for (int i = 0; i < 100; i++) {
+            source.invokeListener(new AddedDataEvent(source, "add", i, i + 1));
+        }
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+    }
+}
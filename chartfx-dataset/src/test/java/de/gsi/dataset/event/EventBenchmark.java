@@ -17,6 +17,8 @@ import org.openjdk.jmh.infra.Blackhole;
  * - spawn new handlers in new threads
  * - all handlers have threads polling events
  * Measure throughput, latency
+ * The allocation rate per dispatched event is best assessed using the GC profiler, e.g. {@code -prof gc} and
+ * comparing the 'gc.alloc.rate.norm' metric.
  * 
  * @author Alexander Krimm
  */
@@ -28,12 +30,13 @@ public class EventBenchmark {
     private TestEventSource es1;
     private TestEventSource es2;
     private TestEventSource es3;
+    private TestEventSource es4;
 
     // private TestEventSource es1b;
-    // private TestEventSource es2b;
-    // private Blackhole[] payload = new Blackhole[1];
+    private TestEventSource es2b;
+    private final Blackhole[] payload = new Blackhole[1];
     // private UpdateEvent ev1;
-    // private UpdateEvent ev2;
+    private UpdateEvent ev2;
 
     @Setup()
     public void initialize() {
@@ -63,16 +66,22 @@ public class EventBenchmark {
                 hole.consume(index);
             });
         }
-        // // 1 to many, preallocated
-        // es2b = new TestEventSource();
-        // for (int i = 0; i < nListeners ; i++) {
-        //     final int index = i;
-        //     es2b.addListener(event -> {
-        //         Blackhole hole = ((Blackhole[]) event.getPayLoad())[0];
-        //         Blackhole.consumeCPU(100);
-        //         hole.consume(index);
-        //     });
-        // ev2=new UpdateEvent(es2b,"test",payload);
+        // 1 to many, preallocated
+        es2b = new TestEventSource();
+        for (int i = 0; i < nListeners; i++) {
+            final int index = i;
+            es2b.addListener(event -> {
+                Blackhole hole = ((Blackhole[]) event.getPayLoad())[0];
+                Blackhole.consumeCPU(100);
+                hole.consume(index);
+            });
+        }
+        ev2 = new UpdateEvent(es2b, "test", payload);
+        // 1 to many, asynchronous (N.B. the Blackhole must not be used outside the benchmark thread)
+        es4 = new TestEventSource();
+        for (int i = 0; i < nListeners; i++) {
+            es4.addListener(event -> Blackhole.consumeCPU(100));
+        }
         // recursive
         es3 = new TestEventSource();
         es3.addListener(event ->
@@ -108,13 +117,22 @@ public class EventBenchmark {
         es2.invokeListener(new UpdateEvent(es2, "test", blackhole), parallel);
     }
 
-    // @Benchmark
-    // @Warmup(iterations = 1)
-    // @Fork(value = 2, warmups = 2)
-    // public void oneToManyPreallocated(Blackhole blackhole) {
-    //     payload[0] = blackhole;
-    //     es2b.invokeListener(ev2, parallel);
-    // }
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2)
+    public void oneToManyPreallocated(Blackhole blackhole) {
+        // N.B. isolates the dispatch overhead from the event allocation
+        payload[0] = blackhole;
+        es2b.invokeListener(ev2, parallel);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2)
+    public void oneToManyAsync() {
+        // non-blocking notification: the producer does not wait for the listeners to complete
+        es4.invokeListenerAsync(new UpdateEvent(es4, "test"));
+    }
 
     @Benchmark
     @Warmup(iterations = 1)
@@ -1,5 +1,6 @@
 package de.gsi.dataset.event;
 
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -7,12 +8,19 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.sun.management.ThreadMXBean;
+
 import de.gsi.dataset.utils.AggregateException;
 
 /**
@@ -60,13 +68,30 @@ class EventSourceTests {
         evtSource.invokeListener(updateEvent, false);
         assertEquals(6, updateCount.get(), "invokeListener()");
 
+        evtSource.invokeListener(updateEvent, true);
+        assertEquals(9, updateCount.get(), "invokeListener(.., true)");
+
+        // default notification is sequential within the calling thread
+        final Thread caller = Thread.currentThread();
+        final AtomicInteger foreignThreadCount = new AtomicInteger();
+        final EventListener threadCheck = evt -> {
+            if (Thread.currentThread() != caller) {
+                foreignThreadCount.incrementAndGet();
+            }
+        };
+        evtSource.addListener(threadCheck);
+        evtSource.invokeListener(updateEvent);
+        assertEquals(12, updateCount.get(), "invokeListener(updateEvent)");
+        assertEquals(0, foreignThreadCount.get(), "sequential default");
+        evtSource.removeListener(threadCheck);
+
         // check autonotification
         assertTrue(evtSource.isAutoNotification(), "initial autonotification()");
         evtSource.autoNotification.set(false);
         assertFalse(evtSource.isAutoNotification(), "false autonotification()");
         evtSource.invokeListener(updateEvent, false);
         // N.B. notification count should not increase
-        assertEquals(6, updateCount.get(), "invokeListener()");
+        assertEquals(12, updateCount.get(), "invokeListener()");
         evtSource.autoNotification.set(true);
 
         // clear event listener and add exception throwing listener
@@ -106,6 +131,72 @@ class EventSourceTests {
         evtSource.invokeListener(updateEvent, false);
     }
 
+    @Test
+    void asyncAndLegacyListenerListTests() throws InterruptedException {
+        final TestEventSource evtSource = new TestEventSource();
+        final CountDownLatch latch = new CountDownLatch(3);
+        for (int i = 0; i < 3; i++) {
+            evtSource.addListener(evt -> latch.countDown());
+        }
+        evtSource.invokeListenerAsync(new UpdateEvent(evtSource));
+        assertTrue(latch.await(1, TimeUnit.SECONDS), "asynchronous listener notification");
+
+        // listener throwing exceptions must not affect the producer
+        evtSource.addListener(evt -> exceptionThrowingFunctionA());
+        assertDoesNotThrow(() -> evtSource.invokeListenerAsync(null));
+
+        // non copy-on-write listener lists are copied before notification
+        final AtomicInteger updateCount = new AtomicInteger();
+        evtSource.eventListener = Collections.synchronizedList(new ArrayList<>());
+        final EventListener countingListener = evt -> updateCount.incrementAndGet();
+        evtSource.addListener(countingListener);
+        evtSource.addListener(evt -> evtSource.removeListener(countingListener)); // modification during notification
+        evtSource.invokeListener(null, false);
+        assertEquals(1, updateCount.get(), "listener notified from stable snapshot");
+        assertEquals(1, evtSource.updateEventListener().size(), "registered listener instance removed");
+        evtSource.invokeListener(null, true);
+        assertEquals(1, updateCount.get(), "removed listener is not notified anymore");
+    }
+
+    @Test
+    void allocationFreeNotificationTests() {
+        final java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof ThreadMXBean) || !((ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+            LOGGER.atWarn().log("thread allocation measurement not supported by JVM - skipping test");
+            return;
+        }
+        final ThreadMXBean threadBean = (ThreadMXBean) bean;
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+
+        final TestEventSource evtSource = new TestEventSource();
+        final AtomicInteger updateCount = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            evtSource.addListener(evt -> updateCount.incrementAndGet());
+        }
+        // nested notification on the same thread
+        final UpdateEvent nestedEvent = new UpdateEvent(new TestEventSource());
+        evtSource.addListener(evt -> {
+            if (evt.getSource() == evtSource) {
+                evtSource.invokeListener(nestedEvent, false);
+            }
+        });
+        final UpdateEvent updateEvent = new UpdateEvent(evtSource);
+        final int nEvents = 10_000;
+        for (int i = 0; i < nEvents; i++) { // warm-up
+            evtSource.invokeListener(updateEvent, false);
+        }
+
+        final long threadId = Thread.currentThread().getId();
+        final long before = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < nEvents; i++) {
+            evtSource.invokeListener(updateEvent, false);
+        }
+        final long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+        assertEquals(2 * nEvents * 3 * 2, updateCount.get(), "listener notifications");
+        // N.B. the dispatch itself must not allocate (small margin for the measurement itself)
+        assertTrue(allocated < 4096, "allocated bytes during sequential notification: " + allocated);
+    }
+
     protected void exceptionThrowingFunctionA() {
         throw new IllegalStateException("bad bad exception #2");
     }
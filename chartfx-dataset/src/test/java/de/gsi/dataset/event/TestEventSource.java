@@ -1,8 +1,7 @@
 package de.gsi.dataset.event;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -11,7 +10,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
  */
 public class TestEventSource implements EventSource {
     protected final AtomicBoolean autoNotification = new AtomicBoolean(true);
-    protected List<EventListener> eventListener = Collections.synchronizedList(new ArrayList<>()); // N.B. final omitted for tests
+    protected List<EventListener> eventListener = new CopyOnWriteArrayList<>(); // N.B. final omitted for tests
 
     @Override
     public AtomicBoolean autoNotification() {
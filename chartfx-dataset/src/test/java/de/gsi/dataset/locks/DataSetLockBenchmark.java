@@ -0,0 +1,112 @@
+package de.gsi.dataset.locks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import de.gsi.dataset.DataSet;
+import de.gsi.dataset.spi.DoubleDataSet;
+
+/**
+ * Benchmark of cheap reads (data count and axis range) under contention of 1 writer and 7 reader threads, comparing
+ * the pessimistic read lock guard, the optimistic read lock guard and the explicit optimistic-read stamp API of
+ * {@link DefaultDataSetLock}.
+ *
+ * @author rstein
+ */
+@State(Scope.Benchmark)
+public class DataSetLockBenchmark {
+    private static final int N_SAMPLES = 1000;
+    private final DoubleDataSet dataSet = new DoubleDataSet("test", N_SAMPLES);
+    private final DataSetLock<DoubleDataSet> lock = new DefaultDataSetLock<>(dataSet);
+    private int counter;
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i < N_SAMPLES; i++) {
+            dataSet.add(i, Math.sin(0.01 * i));
+        }
+        dataSet.recomputeLimits(DataSet.DIM_Y);
+    }
+
+    @Benchmark
+    @Group("pessimistic")
+    @GroupThreads(1)
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2)
+    public void pessimisticWriter() {
+        write();
+    }
+
+    @Benchmark
+    @Group("pessimistic")
+    @GroupThreads(7)
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2)
+    public void pessimisticReader(Blackhole blackhole) {
+        blackhole.consume(lock.readLockGuard(() -> dataSet.getDataCount() + dataSet.getAxisDescription(DataSet.DIM_Y).getMax()));
+    }
+
+    @Benchmark
+    @Group("optimisticGuard")
+    @GroupThreads(1)
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2)
+    public void optimisticGuardWriter() {
+        write();
+    }
+
+    @Benchmark
+    @Group("optimisticGuard")
+    @GroupThreads(7)
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2)
+    public void optimisticGuardReader(Blackhole blackhole) {
+        blackhole.consume(lock.readLockGuardOptimistic(() -> dataSet.getDataCount() + dataSet.getAxisDescription(DataSet.DIM_Y).getMax()));
+    }
+
+    @Benchmark
+    @Group("optimisticStamp")
+    @GroupThreads(1)
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2)
+    public void optimisticStampWriter() {
+        write();
+    }
+
+    @Benchmark
+    @Group("optimisticStamp")
+    @GroupThreads(7)
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2)
+    public void optimisticStampReader(Blackhole blackhole) {
+        final long stamp = lock.tryOptimisticRead();
+        double value = dataSet.getDataCount() + dataSet.getAxisDescription(DataSet.DIM_Y).getMax();
+        if (!lock.validate(stamp)) {
+            lock.readLock();
+            try {
+                value = dataSet.getDataCount() + dataSet.getAxisDescription(DataSet.DIM_Y).getMax();
+            } finally {
+                lock.readUnLock();
+            }
+        }
+        blackhole.consume(value);
+    }
+
+    private void write() {
+        lock.writeLockGuard(() -> {
+            counter++;
+            dataSet.getAxisDescription(DataSet.DIM_Y).set(-1.0, 1.0 + (counter & 0xF));
+        });
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+}
@@ -2,6 +2,8 @@ package de.gsi.dataset.locks;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -375,6 +377,113 @@ public class DataSetLockTest {
         }
     }
 
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    public void testOptimisticRead() {
+        DefaultDataSet dataSet = new DefaultDataSet("test");
+        DefaultDataSetLock<DefaultDataSet> myLockImpl = new DefaultDataSetLock<>(dataSet);
+        DataSetLock<DefaultDataSet> myLock = myLockImpl;
+
+        long stamp = myLock.tryOptimisticRead();
+        assertNotEquals(0L, stamp);
+        assertTrue(myLock.validate(stamp));
+        assertEquals(0, myLockImpl.getReaderCount(), "optimistic reads do not count as readers");
+        myLock.readLockGuard(() -> dataSet.getDataCount());
+        assertTrue(myLock.validate(stamp), "read locks do not invalidate the stamp");
+        myLock.writeLockGuard(() -> dataSet.add(1.0, 2.0));
+        assertFalse(myLock.validate(stamp), "write lock invalidates the stamp");
+
+        // optimistic read by the thread holding the write lock
+        myLock.writeLock();
+        stamp = myLock.tryOptimisticRead();
+        assertTrue(myLock.validate(stamp));
+        assertEquals(1, (int) myLock.readLockGuardOptimistic(() -> dataSet.getDataCount()));
+        myLock.writeUnLock();
+        assertFalse(myLock.validate(stamp));
+
+        // optimistic read blocked by another writer thread -> falls back to the read lock
+        Thread writer = new Thread(() -> myLock.writeLockGuard(() -> {
+            dataSet.add(2.0, 3.0);
+            sleep(200);
+        }));
+        writer.start();
+        Awaitility.await().atMost(1, TimeUnit.SECONDS).until(() -> myLockImpl.getWriterCount() == 1);
+        assertEquals(0L, myLock.tryOptimisticRead());
+        assertEquals(2, (int) myLock.readLockGuardOptimistic(() -> dataSet.getDataCount()));
+        assertEquals(0, myLockImpl.getReaderCount());
+
+        // exceptions of inconsistent optimistic reads are retried, consistent ones are propagated
+        final int[] calls = { 0 };
+        assertEquals(1, (int) myLock.readLockGuardOptimistic(() -> {
+            if (calls[0]++ == 0) {
+                myLock.writeLockGuard(() -> dataSet.add(3.0, 4.0));
+                throw new IndexOutOfBoundsException("inconsistent read");
+            }
+            return calls[0] - 1;
+        }));
+        assertThrows(IllegalStateException.class, () -> myLock.readLockGuardOptimistic(() -> {
+            throw new IllegalStateException("consistent read");
+        }));
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    public void testDownGradeWriteLock() {
+        DefaultDataSet dataSet = new DefaultDataSet("test");
+        DefaultDataSetLock<DefaultDataSet> myLockImpl = new DefaultDataSetLock<>(dataSet);
+        DataSetLock<DefaultDataSet> myLock = myLockImpl;
+
+        assertThrows(IllegalStateException.class, myLock::downGradeWriteLock, "not write locked");
+        myLock.writeLock();
+        myLock.writeLock();
+        assertThrows(IllegalStateException.class, myLock::downGradeWriteLock, "nested write lock");
+        myLock.writeUnLock();
+        assertFalse(dataSet.isAutoNotification());
+
+        Thread otherThread = new Thread(() -> assertThrows(IllegalStateException.class, myLock::downGradeWriteLock));
+        otherThread.start();
+        try {
+            otherThread.join();
+        } catch (InterruptedException e) {
+            fail("thread was interupted");
+        }
+
+        dataSet.add(1.0, 2.0);
+        assertEquals(dataSet, myLock.downGradeWriteLock());
+        assertEquals(1, myLockImpl.getReaderCount());
+        assertEquals(0, myLockImpl.getWriterCount());
+        assertTrue(dataSet.isAutoNotification(), "auto-notification restored");
+        assertTrue(myLockImpl.getLockObject().isReadLocked());
+        final long stamp = myLock.tryOptimisticRead();
+
+        // other readers may proceed while writers are blocked
+        Thread reader = new Thread(() -> myLock.readLockGuard(() -> dataSet.getDataCount()));
+        reader.start();
+        Thread writer = new Thread(() -> myLock.writeLockGuard(() -> dataSet.add(2.0, 3.0)));
+        writer.start();
+        try {
+            reader.join();
+        } catch (InterruptedException e) {
+            fail("reader was interupted");
+        }
+        sleep(200);
+        assertTrue(writer.isAlive());
+        assertEquals(1, dataSet.getDataCount());
+        assertTrue(myLock.validate(stamp), "no other writer in between");
+
+        myLock.readUnLock();
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            fail("writer was interupted");
+        }
+        assertEquals(2, dataSet.getDataCount());
+        assertEquals(0, myLockImpl.getReaderCount());
+        assertEquals(0, myLockImpl.getWriterCount());
+        assertFalse(myLockImpl.getLockObject().isReadLocked());
+        assertFalse(myLockImpl.getLockObject().isWriteLocked());
+    }
+
     private static void sleep(int millis) {
         try {
             Thread.sleep(millis);
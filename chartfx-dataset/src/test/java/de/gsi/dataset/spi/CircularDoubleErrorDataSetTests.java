@@ -2,7 +2,9 @@ package de.gsi.dataset.spi;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import static de.gsi.dataset.DataSet.DIM_X;
 import static de.gsi.dataset.DataSet.DIM_Y;
@@ -76,4 +78,67 @@ public class CircularDoubleErrorDataSetTests {
         assertThrows(UnsupportedOperationException.class, () -> dataSet.addDataLabel(0, "addedLabel"));
         assertThrows(UnsupportedOperationException.class, () -> dataSet.addDataStyle(0, "color:green"));
     }
+
+    @Test
+    public void incrementalLimitTests() {
+        final CircularDoubleErrorDataSet dataSet = new CircularDoubleErrorDataSet("test", 3);
+        dataSet.add(1.0, 5.0, 0.0, 0.0);
+        assertTrue(dataSet.getAxisDescription(DIM_X).isDefined(), "x-limits after first point");
+        dataSet.add(2.0, 3.0, 0.0, 0.0);
+        dataSet.add(3.0, 2.0, 0.5, 0.5);
+        assertTrue(dataSet.getAxisDescription(DIM_Y).isDefined(), "y-limits after add");
+        assertEquals(1.5, dataSet.getAxisDescription(DIM_Y).getMin(), "y-min including errors");
+        assertEquals(5.0, dataSet.getAxisDescription(DIM_Y).getMax(), "y-max");
+
+        // overwrites the oldest sample (x- and y-extremum)
+        dataSet.add(4.0, 4.0, 0.0, 0.0);
+        assertTrue(dataSet.getAxisDescription(DIM_X).isDefined(), "ascending x-limits after overwriting extremum");
+        assertEquals(2.0, dataSet.getAxisDescription(DIM_X).getMin(), "x-min given by the oldest sample");
+        assertEquals(4.0, dataSet.getAxisDescription(DIM_X).getMax(), "x-max given by the newest sample");
+        assertFalse(dataSet.getAxisDescription(DIM_Y).isDefined(), "y-limits after overwriting extremum");
+        assertEquals(4.0, dataSet.getAxisDescription(DIM_Y).getMax(), "lazily recomputed y-max");
+
+        // overwrites a non-extremum sample
+        dataSet.add(5.0, 3.5, 0.0, 0.0);
+        assertTrue(dataSet.getAxisDescription(DIM_X).isDefined(), "ascending x-limits after overwriting extremum");
+        assertEquals(3.0, dataSet.getAxisDescription(DIM_X).getMin(), "x-min given by the oldest sample");
+        assertTrue(dataSet.getAxisDescription(DIM_Y).isDefined(), "y-limits after overwriting non-extremum");
+        assertEquals(4.0, dataSet.getAxisDescription(DIM_Y).getMax(), "y-max");
+
+        // bulk overwrite of all samples
+        dataSet.add(new double[] { 6.0, 7.0, 8.0, 9.0 }, new double[] { 1.0, 2.0, 3.0, 4.0 }, new double[4], new double[4]);
+        assertTrue(dataSet.getAxisDescription(DIM_X).isDefined(), "ascending x-limits after bulk overwrite");
+        assertEquals(7.0, dataSet.getAxisDescription(DIM_X).getMin(), "x-min after bulk overwrite");
+        assertEquals(2.0, dataSet.getAxisDescription(DIM_Y).getMin(), "y-min after bulk overwrite");
+
+        // streaming time-series: x-limits stay defined for every append into the full buffer
+        for (int i = 10; i < 100; i++) {
+            dataSet.add(i, Math.sin(i), 0.0, 0.0);
+            assertTrue(dataSet.getAxisDescription(DIM_X).isDefined(), "ascending x-limits while streaming");
+            assertEquals(i - 2.0, dataSet.getAxisDescription(DIM_X).getMin(), "x-min while streaming");
+            assertEquals(i, dataSet.getAxisDescription(DIM_X).getMax(), "x-max while streaming");
+        }
+
+        // non-ascending x coordinates fall back to invalidating overwritten extrema
+        dataSet.add(0.0, 0.0, 0.0, 0.0);
+        assertFalse(dataSet.getAxisDescription(DIM_X).isDefined(), "x-limits after breaking the ascending order");
+        assertEquals(0.0, dataSet.getAxisDescription(DIM_X).getMin(), "lazily recomputed x-min");
+        assertEquals(99.0, dataSet.getAxisDescription(DIM_X).getMax(), "lazily recomputed x-max");
+        dataSet.add(50.0, 0.0, 0.0, 0.0);
+        assertTrue(dataSet.getAxisDescription(DIM_X).isDefined(), "x-limits after overwriting non-extremum");
+        dataSet.add(60.0, 0.0, 0.0, 0.0);
+        assertFalse(dataSet.getAxisDescription(DIM_X).isDefined(), "x-limits after overwriting x-extremum");
+        assertEquals(60.0, dataSet.getAxisDescription(DIM_X).getMax(), "lazily recomputed x-max");
+
+        // bulk append of the first samples of longer (e.g. re-used) arrays
+        final CircularDoubleErrorDataSet partial = new CircularDoubleErrorDataSet("partial", 3);
+        partial.add(new double[] { 1.0, 2.0, 3.0, 0.0 }, new double[] { 0.5, 5.0, 4.0, 99.0 }, new double[4], new double[4], 2);
+        assertEquals(2, partial.getDataCount(), "partial bulk append");
+        partial.add(new double[] { 3.0, 4.0, 0.0 }, new double[] { 1.0, 2.0, 99.0 }, new double[3], new double[3], 2);
+        assertEquals(3, partial.getDataCount(), "partial bulk append into full buffer");
+        assertEquals(4.0, partial.get(DIM_X, 2), "last x after partial bulk append");
+        assertEquals(2.0, partial.getAxisDescription(DIM_X).getMin(), "x-min after partial bulk append");
+        assertEquals(5.0, partial.getAxisDescription(DIM_Y).getMax(), "y-max after partial bulk append");
+        assertThrows(IndexOutOfBoundsException.class, () -> partial.add(new double[2], new double[2], new double[1], new double[2], 2));
+    }
 }
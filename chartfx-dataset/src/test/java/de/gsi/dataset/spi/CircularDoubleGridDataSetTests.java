@@ -0,0 +1,162 @@
+package de.gsi.dataset.spi;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import static de.gsi.dataset.DataSet.DIM_X;
+import static de.gsi.dataset.DataSet.DIM_Y;
+import static de.gsi.dataset.DataSet.DIM_Z;
+
+import org.junit.jupiter.api.Test;
+
+import de.gsi.dataset.event.AddedDataEvent;
+import de.gsi.dataset.event.UpdatedDataEvent;
+import de.gsi.dataset.spi.CircularDoubleGridDataSet.BufferRows;
+
+/**
+ * Checks for CircularDoubleGridDataSet appending, rolling, limits and notified index ranges.
+ *
+ * @author rstein
+ */
+public class CircularDoubleGridDataSetTests {
+    private static final double[] X_GRID = { 1.0, 2.0, 3.0 };
+
+    @Test
+    public void testConstructors() {
+        assertThrows(IllegalArgumentException.class, () -> new CircularDoubleGridDataSet("test", null, 4));
+        assertThrows(IllegalArgumentException.class, () -> new CircularDoubleGridDataSet("test", X_GRID, 0));
+
+        final CircularDoubleGridDataSet dataSet = new CircularDoubleGridDataSet("test", X_GRID, 4);
+        assertEquals("test", dataSet.getName());
+        assertEquals(3, dataSet.getDimension());
+        assertEquals(4, dataSet.getCapacity());
+        assertEquals(0, dataSet.getDataCount());
+        assertArrayEquals(new int[] { 3, 0 }, dataSet.getShape());
+
+        final DoubleGridDataSet source = new DoubleGridDataSet("source", false, new double[][] { X_GRID, { 0.0, 1.0, 2.0 } },
+                new double[] { 1, 2, 3, 4, 5, 6, 7, 8, 9 });
+        final CircularDoubleGridDataSet copy = new CircularDoubleGridDataSet(source, 2);
+        assertEquals("source", copy.getName());
+        assertArrayEquals(new int[] { 3, 2 }, copy.getShape());
+        assertArrayEquals(new double[] { 1.0, 2.0 }, copy.getGridValues(DIM_Y));
+        assertArrayEquals(new double[] { 4, 5, 6, 7, 8, 9 }, copy.getValues(DIM_Z));
+        assertEquals(9.0, copy.get(DIM_Z, 2, 1));
+    }
+
+    @Test
+    public void testAppendAndRoll() {
+        final CircularDoubleGridDataSet dataSet = new CircularDoubleGridDataSet("test", X_GRID, 3);
+        dataSet.appendRow(0.0, new double[] { 1, 2, 3 });
+        dataSet.appendRow(1.0, new double[] { -1, 4, 5, 6, -1 }, 1);
+        assertArrayEquals(new int[] { 3, 2 }, dataSet.getShape());
+        assertEquals(6, dataSet.getDataCount());
+        assertArrayEquals(new double[] { 1, 2, 3, 4, 5, 6 }, dataSet.getValues(DIM_Z));
+        assertArrayEquals(new double[] { 1, 2, 3, 1, 2, 3 }, dataSet.getValues(DIM_X));
+        assertArrayEquals(new double[] { 0, 0, 0, 1, 1, 1 }, dataSet.getValues(DIM_Y));
+        assertEquals(1.0, dataSet.getAxisDescription(DIM_Z).getMin());
+        assertEquals(6.0, dataSet.getAxisDescription(DIM_Z).getMax());
+        assertEquals(3.0, dataSet.getAxisDescription(DIM_X).getMax());
+
+        dataSet.appendRows(new double[] { 2.0, 3.0 }, new double[] { 7, 8, 9, 10, 11, 12 });
+        assertArrayEquals(new int[] { 3, 3 }, dataSet.getShape());
+        assertArrayEquals(new double[] { 1.0, 2.0, 3.0 }, dataSet.getGridValues(DIM_Y));
+        assertArrayEquals(new double[] { 4, 5, 6, 7, 8, 9, 10, 11, 12 }, dataSet.getValues(DIM_Z));
+        for (int row = 0; row < 3; row++) {
+            for (int column = 0; column < 3; column++) {
+                assertEquals(4.0 + 3 * row + column, dataSet.get(DIM_Z, column, row));
+                assertEquals(4.0 + 3 * row + column, dataSet.get(DIM_Z, 3 * row + column));
+                assertEquals(row + 1.0, dataSet.get(DIM_Y, column, row));
+                assertEquals(X_GRID[column], dataSet.get(DIM_X, column, row));
+            }
+        }
+        assertEquals(2, dataSet.getGridIndex(DIM_Y, 2.9));
+
+        // overwritten minimum -> limits are recomputed from the retained rows
+        assertEquals(4.0, dataSet.getAxisDescription(DIM_Z).getMin());
+        assertEquals(12.0, dataSet.getAxisDescription(DIM_Z).getMax());
+        assertEquals(1.0, dataSet.getAxisDescription(DIM_Y).getMin());
+        assertEquals(3.0, dataSet.getAxisDescription(DIM_Y).getMax());
+
+        // more rows than capacity
+        dataSet.appendRows(new double[] { 4.0, 5.0, 6.0, 7.0 }, new double[] { 0, 0, 0, 1, 1, 1, 2, 2, 2, 3, 3, 3 });
+        assertArrayEquals(new double[] { 5.0, 6.0, 7.0 }, dataSet.getGridValues(DIM_Y));
+        assertArrayEquals(new double[] { 1, 1, 1, 2, 2, 2, 3, 3, 3 }, dataSet.getValues(DIM_Z));
+        // monotonic y -> limits remain defined (first/last row) when the oldest rows are overwritten
+        assertTrue(dataSet.getAxisDescriptions().get(DIM_Y).isDefined());
+        assertEquals(5.0, dataSet.getAxisDescriptions().get(DIM_Y).getMin());
+        assertEquals(7.0, dataSet.getAxisDescriptions().get(DIM_Y).getMax());
+        assertEquals(1.0, dataSet.getAxisDescription(DIM_Z).getMin());
+        assertEquals(3.0, dataSet.getAxisDescription(DIM_Z).getMax());
+
+        // NaN values are ignored by the limits
+        dataSet.appendRow(8.0, new double[] { Double.NaN, 2.5, 2.5 });
+        assertTrue(Double.isNaN(dataSet.get(DIM_Z, 6)));
+        assertEquals(2.0, dataSet.getAxisDescription(DIM_Z).getMin());
+        assertEquals(3.0, dataSet.getAxisDescription(DIM_Z).getMax());
+
+        dataSet.clearData();
+        assertEquals(0, dataSet.getDataCount());
+        assertArrayEquals(new int[] { 3, 0 }, dataSet.getShape());
+        assertFalse(dataSet.getAxisDescription(DIM_Z).isDefined());
+        dataSet.appendRow(-1.0, new double[] { 1, 2, 3 });
+        assertEquals(-1.0, dataSet.getAxisDescription(DIM_Y).getMin());
+        assertEquals(3.0, dataSet.getAxisDescription(DIM_Z).getMax());
+    }
+
+    @Test
+    public void testArgumentChecks() {
+        final CircularDoubleGridDataSet dataSet = new CircularDoubleGridDataSet("test", X_GRID, 3);
+        assertThrows(IllegalArgumentException.class, () -> dataSet.appendRow(0.0, null));
+        assertThrows(IllegalArgumentException.class, () -> dataSet.appendRow(0.0, new double[2]));
+        assertThrows(IllegalArgumentException.class, () -> dataSet.appendRow(0.0, new double[3], 1));
+        assertThrows(IllegalArgumentException.class, () -> dataSet.appendRows(new double[2], new double[5]));
+        assertThrows(IllegalArgumentException.class, () -> dataSet.appendRows(new double[] { 1.0, 0.0 }, new double[6]));
+        assertThrows(IllegalArgumentException.class, () -> dataSet.appendRow(Double.NaN, new double[3]));
+        dataSet.appendRow(1.0, new double[3]);
+        assertThrows(IllegalArgumentException.class, () -> dataSet.appendRow(0.0, new double[3]));
+        assertEquals(3, dataSet.getDataCount());
+    }
+
+    @Test
+    public void testNotifiedIndexRange() {
+        final CircularDoubleGridDataSet dataSet = new CircularDoubleGridDataSet("test", X_GRID, 3);
+        final UpdatedDataEvent[] lastEvent = new UpdatedDataEvent[1];
+        dataSet.addListener(evt -> lastEvent[0] = (UpdatedDataEvent) evt);
+
+        dataSet.appendRow(0.0, new double[3]);
+        assertTrue(lastEvent[0] instanceof AddedDataEvent);
+        assertEquals(0, lastEvent[0].getIndexMin(), "first row - min index");
+        assertEquals(3, lastEvent[0].getIndexMax(), "first row - max index");
+
+        dataSet.appendRows(new double[] { 1.0, 2.0 }, new double[6]);
+        assertEquals(3, lastEvent[0].getIndexMin(), "filling rows - min index");
+        assertEquals(9, lastEvent[0].getIndexMax(), "filling rows - max index");
+
+        assertNull(lastEvent[0].getPayLoad(), "filling rows - no overwritten buffer rows");
+
+        // rolling shifts all logical rows but overwrites only the oldest buffer rows
+        dataSet.appendRow(3.0, new double[3]);
+        assertEquals(0, lastEvent[0].getIndexMin(), "rolling row - min index");
+        assertEquals(9, lastEvent[0].getIndexMax(), "rolling row - max index");
+        assertEquals(1, dataSet.getRowOffset());
+        BufferRows rows = (BufferRows) lastEvent[0].getPayLoad();
+        assertEquals(0, rows.getFirst(), "rolling row - first buffer row");
+        assertEquals(1, rows.getCount(), "rolling row - buffer row count");
+        assertEquals(3, rows.getCapacity(), "rolling row - capacity");
+
+        // wrapped buffer rows: [2, 3) and [0, 1)
+        dataSet.appendRow(4.0, new double[3]);
+        assertEquals(2, dataSet.getRowOffset());
+        dataSet.appendRows(new double[] { 5.0, 6.0 }, new double[6]);
+        assertEquals(1, dataSet.getRowOffset());
+        rows = (BufferRows) lastEvent[0].getPayLoad();
+        assertEquals(2, rows.getFirst(), "wrapped rows - first buffer row");
+        assertEquals(2, rows.getCount(), "wrapped rows - buffer row count");
+        assertEquals(5.0, dataSet.getGrid(DIM_Y, 1));
+        assertEquals(6.0, dataSet.getGrid(DIM_Y, 2));
+    }
+}
@@ -1,18 +1,26 @@
 package de.gsi.dataset.spi;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import static de.gsi.dataset.DataSet.DIM_X;
 import static de.gsi.dataset.DataSet.DIM_Y;
 
 import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import de.gsi.dataset.event.UpdatedDataEvent;
+
 /**
  * Checks for DoubleDataSet interfaces and constructors.
  * 
@@ -185,6 +193,112 @@ public class DoubleDataSetTests extends EditableDataSetTests {
         }
     }
 
+    @Test
+    public void modifiedIndexRangeTests() {
+        final DoubleDataSet dataSet = new DoubleDataSet("test", testCoordinate[0], testCoordinate[1], n, true);
+        final UpdatedDataEvent[] lastEvent = new UpdatedDataEvent[1];
+        dataSet.addListener(evt -> lastEvent[0] = (UpdatedDataEvent) evt);
+
+        dataSet.add(4.0, 8.0);
+        assertEquals(n, lastEvent[0].getIndexMin(), "append single point - min index");
+        assertEquals(n + 1, lastEvent[0].getIndexMax(), "append single point - max index");
+
+        dataSet.add(new double[] { 5.0, 6.0 }, new double[] { 10.0, 12.0 });
+        assertEquals(n + 1, lastEvent[0].getIndexMin(), "append arrays - min index");
+        assertEquals(n + 3, lastEvent[0].getIndexMax(), "append arrays - max index");
+
+        dataSet.add(new double[] { 6.5, 7.0, -1.0 }, new double[] { 13.0, 14.0, -1.0 }, 2);
+        assertEquals(n + 3, lastEvent[0].getIndexMin(), "append partial arrays - min index");
+        assertEquals(n + 5, lastEvent[0].getIndexMax(), "append partial arrays - max index");
+        assertEquals(7.0, dataSet.get(DIM_X, n + 4), "append partial arrays - last x");
+        assertEquals(14.0, dataSet.getAxisDescription(DIM_Y).getMax(), "append partial arrays - y-max");
+        assertThrows(IndexOutOfBoundsException.class, () -> dataSet.add(new double[2], new double[3], 3));
+
+        dataSet.add(1, 1.5, 3.0);
+        assertEquals(1, lastEvent[0].getIndexMin(), "insert point - min index");
+        assertEquals(dataSet.getDataCount(), lastEvent[0].getIndexMax(), "insert point - max index (shifted points)");
+
+        dataSet.set(2, 2.0, 5.0);
+        assertEquals(2, lastEvent[0].getIndexMin(), "set point - min index");
+        assertEquals(3, lastEvent[0].getIndexMax(), "set point - max index");
+
+        dataSet.set(new double[] { 1.0, 2.0 }, new double[] { 3.0, 4.0 });
+        assertEquals(0, lastEvent[0].getIndexMin(), "unspecified range - min index");
+        assertEquals(Integer.MAX_VALUE, lastEvent[0].getIndexMax(), "unspecified range - max index");
+    }
+
+    @Test
+    public void incrementalLimitTests() {
+        final DoubleDataSet dataSet = new DoubleDataSet("test", testCoordinate[0], testCoordinate[1], n, true);
+        dataSet.recomputeLimits(DIM_X);
+        dataSet.recomputeLimits(DIM_Y);
+
+        // appending and inserting keeps the limits defined
+        dataSet.add(4.0, 8.0);
+        dataSet.add(new double[] { 5.0, 6.0 }, new double[] { -10.0, 12.0 });
+        dataSet.add(0, -1.0, 3.0);
+        assertTrue(dataSet.getAxisDescription(DIM_X).isDefined(), "x-limits after add");
+        assertTrue(dataSet.getAxisDescription(DIM_Y).isDefined(), "y-limits after add");
+        assertLimits(dataSet, -1.0, 6.0, -10.0, 12.0);
+
+        // overwriting or removing a non-extremum keeps the limits defined
+        dataSet.set(2, 2.5, 5.0);
+        dataSet.remove(3);
+        assertTrue(dataSet.getAxisDescription(DIM_Y).isDefined(), "y-limits after set/remove of non-extremum");
+        assertLimits(dataSet, -1.0, 6.0, -10.0, 12.0);
+
+        // ascending x coordinates: the x-limits are given by the first and last sample and remain defined
+        dataSet.set(0, 0.5, 3.0);
+        assertTrue(dataSet.getAxisDescription(DIM_X).isDefined(), "x-limits after set of ascending extremum");
+        assertTrue(dataSet.getAxisDescription(DIM_Y).isDefined(), "y-limits after set of non-extremum");
+        dataSet.remove(dataSet.getDataCount() - 1);
+        assertFalse(dataSet.getAxisDescription(DIM_Y).isDefined(), "y-limits after removal of extremum");
+        assertTrue(dataSet.getAxisDescription(DIM_X).isDefined(), "x-limits after removal of ascending extremum");
+        assertEquals(5.0, dataSet.getAxisDescription(DIM_X).getMax(), "x-max after removal");
+
+        // removing the oldest samples (e.g. time-series) keeps the x-limits defined
+        dataSet.remove(0, 2);
+        assertTrue(dataSet.getAxisDescription(DIM_X).isDefined(), "x-limits after remove-from-front");
+        assertEquals(2.5, dataSet.getAxisDescription(DIM_X).getMin(), "x-min after remove-from-front");
+
+        // overwriting a sample out of ascending order invalidates the x-limits
+        dataSet.set(1, 9.0, 8.0);
+        assertFalse(dataSet.getAxisDescription(DIM_X).isDefined(), "x-limits after set breaking the ascending order");
+
+        // appending to invalidated limits must not define them with only the new value
+        dataSet.add(7.0, 1.0);
+        assertFalse(dataSet.getAxisDescription(DIM_X).isDefined(), "x-limits remain undefined");
+        assertEquals(2.5, dataSet.getAxisDescription(DIM_X).getMin(), "lazily recomputed x-min");
+        assertEquals(9.0, dataSet.getAxisDescription(DIM_X).getMax(), "lazily recomputed x-max");
+        assertEquals(-10.0, dataSet.getAxisDescription(DIM_Y).getMin(), "lazily recomputed y-min");
+        assertEquals(8.0, dataSet.getAxisDescription(DIM_Y).getMax(), "lazily recomputed y-max");
+
+        // unsorted x coordinates: removing an extremum invalidates the limits
+        dataSet.remove(1);
+        assertFalse(dataSet.getAxisDescription(DIM_X).isDefined(), "x-limits after removal of unsorted extremum");
+        assertEquals(7.0, dataSet.getAxisDescription(DIM_X).getMax(), "lazily recomputed x-max");
+
+        // first point after clearing defines the limits
+        dataSet.clearData();
+        dataSet.add(2.0, 3.0);
+        assertTrue(dataSet.getAxisDescription(DIM_X).isDefined(), "x-limits after first point");
+        assertLimits(dataSet, 2.0, 2.0, 3.0, 3.0);
+
+        // bulk append of a growing series: one range update per axis and batch
+        final AtomicInteger xRangeEvents = new AtomicInteger();
+        dataSet.getAxisDescription(DIM_X).autoNotification().set(true); // N.B. disabled by default
+        dataSet.getAxisDescription(DIM_X).addListener(evt -> xRangeEvents.incrementAndGet());
+        final double[] xNew = new double[100];
+        final double[] yNew = new double[100];
+        for (int i = 0; i < xNew.length; i++) {
+            xNew[i] = 3.0 + i;
+            yNew[i] = i % 2 == 0 ? Double.NaN : i;
+        }
+        dataSet.add(xNew, yNew);
+        assertEquals(1, xRangeEvents.get(), "range events for bulk append");
+        assertLimits(dataSet, 2.0, 102.0, 1.0, 99.0);
+    }
+
     @Test
     public void trimTest() {
         DoubleDataSet dataSet = new DoubleDataSet("test");
@@ -253,4 +367,76 @@ public class DoubleDataSetTests extends EditableDataSetTests {
 
         assertEquals(dataSet1, dataSet3);
     }
+
+    private static void assertLimits(final DoubleDataSet dataSet, final double xMin, final double xMax, final double yMin, final double yMax) {
+        assertEquals(xMin, dataSet.getAxisDescription(DIM_X).getMin(), "x-min");
+        assertEquals(xMax, dataSet.getAxisDescription(DIM_X).getMax(), "x-max");
+        assertEquals(yMin, dataSet.getAxisDescription(DIM_Y).getMin(), "y-min");
+        assertEquals(yMax, dataSet.getAxisDescription(DIM_Y).getMax(), "y-max");
+    }
+
+    @Test
+    public void snapshotTests() {
+        final DoubleDataSet dataSet = new DoubleDataSet("test", 10);
+        dataSet.set(testCoordinate[0], testCoordinate[1]);
+        dataSet.addDataLabel(1, "label");
+        dataSet.getAxisDescription(DIM_X).set("time", "s");
+        final long version = dataSet.getVersion();
+
+        final DataSetSnapshot snapshot = dataSet.getSnapshot();
+        assertEquals(version, snapshot.getVersion());
+        assertEquals(n, snapshot.getDataCount());
+        assertEquals("label", snapshot.getDataLabel(1));
+        assertEquals("time", snapshot.getAxisDescription(DIM_X).getName());
+        assertEquals(3.0, snapshot.getAxisDescription(DIM_X).getMax());
+        assertSame(dataSet.getValues(DIM_X), snapshot.getValues(DIM_X), "O(1) snapshot shares the arrays");
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.set(dataSet));
+
+        // appending beyond the snapshot's data count does not copy
+        dataSet.add(4.0, 8.0);
+        assertSame(dataSet.getValues(DIM_X), snapshot.getValues(DIM_X), "append");
+        assertNotEquals(version, dataSet.getVersion());
+        assertEquals(n, snapshot.getDataCount());
+
+        // modifying values visible to the snapshot copies the arrays
+        dataSet.set(0, -1.0, -2.0);
+        assertNotSame(dataSet.getValues(DIM_X), snapshot.getValues(DIM_X), "copy-on-write");
+        assertEquals(1.0, snapshot.get(DIM_X, 0));
+        assertEquals(2.0, snapshot.get(DIM_Y, 0));
+        assertEquals(-1.0, dataSet.get(DIM_X, 0));
+        assertEquals(4.0, dataSet.get(DIM_X, 3));
+        assertEquals(4, dataSet.getDataCount());
+        snapshot.close();
+        assertTrue(snapshot.isClosed());
+
+        // released snapshots do not cause copies
+        final double[] xValues = dataSet.getValues(DIM_X);
+        try (DataSetSnapshot released = dataSet.getSnapshot()) {
+            assertEquals(4, released.getDataCount());
+        }
+        dataSet.set(0, 1.0, 2.0);
+        dataSet.remove(2);
+        assertSame(xValues, dataSet.getValues(DIM_X), "no outstanding snapshot");
+
+        // other modifications of shared values
+        try (DataSetSnapshot removed = dataSet.getSnapshot(); DataSetSnapshot inserted = dataSet.getSnapshot()) {
+            dataSet.remove(0);
+            assertArrayEquals(new double[] { 1.0, 2.0, 4.0 }, Arrays.copyOf(removed.getValues(DIM_X), removed.getDataCount()));
+            assertArrayEquals(new double[] { 2.0, 4.0 }, Arrays.copyOf(dataSet.getValues(DIM_X), dataSet.getDataCount()));
+            try (DataSetSnapshot cleared = dataSet.getSnapshot()) {
+                dataSet.clearData();
+                dataSet.add(5.0, 6.0);
+                assertEquals(2.0, cleared.get(DIM_X, 0));
+                assertEquals(5.0, dataSet.get(DIM_X, 0));
+            }
+            assertEquals(1.0, inserted.get(DIM_X, 0));
+        }
+
+        // default implementation (deep copy)
+        final DoubleErrorDataSet errorDataSet = new DoubleErrorDataSet("error", testCoordinate[0], testCoordinate[1], new double[n], new double[n], n, true);
+        try (DataSetSnapshot copy = errorDataSet.getSnapshot()) {
+            assertNotSame(errorDataSet.getValues(DIM_X), copy.getValues(DIM_X));
+            assertArrayEquals(testCoordinate[1], copy.getValues(DIM_Y));
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package de.gsi.dataset.spi;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -130,6 +131,27 @@ public class DoubleErrorDataSetTests extends EditableDataSetTests {
         }
     }
 
+    @Test
+    public void incrementalLimitTests() {
+        final DoubleErrorDataSet dataSet = new DoubleErrorDataSet("test", testCoordinate[0], testCoordinate[1], testEYN, testEYP, n, true);
+        dataSet.recomputeLimits(DIM_X);
+        dataSet.recomputeLimits(DIM_Y);
+        assertEquals(2.0 - 0.2, dataSet.getAxisDescription(DIM_Y).getMin(), "initial y-min including errors");
+
+        dataSet.add(4.0, 8.0, 0.5, 1.0);
+        dataSet.add(new double[] { 5.0 }, new double[] { 1.0 }, new double[] { 0.5 }, new double[] { 0.5 });
+        assertTrue(dataSet.getAxisDescription(DIM_Y).isDefined(), "y-limits after add");
+        assertEquals(0.5, dataSet.getAxisDescription(DIM_Y).getMin(), "y-min after add including errors");
+        assertEquals(9.0, dataSet.getAxisDescription(DIM_Y).getMax(), "y-max after add including errors");
+
+        dataSet.set(1, 2.0, 4.0, 0.1, 0.1);
+        assertTrue(dataSet.getAxisDescription(DIM_Y).isDefined(), "y-limits after set of non-extremum");
+
+        dataSet.remove(3);
+        assertFalse(dataSet.getAxisDescription(DIM_Y).isDefined(), "y-limits after removal of extremum");
+        assertEquals(6.3, dataSet.getAxisDescription(DIM_Y).getMax(), 1e-12, "lazily recomputed y-max");
+    }
+
     @Test
     public void trimTest() {
         final DoubleErrorDataSet dataSet = new DoubleErrorDataSet("test");
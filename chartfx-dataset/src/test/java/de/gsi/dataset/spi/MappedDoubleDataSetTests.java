@@ -0,0 +1,102 @@
+package de.gsi.dataset.spi;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import static de.gsi.dataset.DataSet.DIM_X;
+import static de.gsi.dataset.DataSet.DIM_Y;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import de.gsi.dataset.DataSet;
+import de.gsi.dataset.utils.DataSetUtils;
+
+/**
+ * Checks for MappedDoubleDataSet interfaces and constructors.
+ *
+ * @author rstein
+ */
+public class MappedDoubleDataSetTests {
+    private static final int SEGMENT_SIZE = 1024;
+
+    @Test
+    public void defaultTests(@TempDir final Path tmpDir) throws IOException {
+        final Path basePath = tmpDir.resolve("archive");
+        assertThrows(IllegalArgumentException.class, () -> new MappedDoubleDataSet("test", basePath, 2, 1000));
+        assertThrows(IllegalArgumentException.class, () -> new MappedDoubleDataSet("test", basePath, 0, SEGMENT_SIZE));
+
+        final int nSamples = 5 * SEGMENT_SIZE + 17; // N.B. spans several segments
+        try (MappedDoubleDataSet dataSet = new MappedDoubleDataSet("test", basePath, 2, SEGMENT_SIZE)) {
+            assertEquals(SEGMENT_SIZE, dataSet.getSegmentSize());
+            assertEquals(0, dataSet.getDataCount());
+            assertEquals(0, dataSet.getIndex(DIM_X, 1.0));
+            assertThrows(IllegalArgumentException.class, () -> dataSet.add(1.0));
+            assertThrows(IllegalArgumentException.class, () -> dataSet.add(new double[][] { new double[2] }));
+
+            for (int i = 0; i < 10; i++) {
+                dataSet.add(i, -i);
+            }
+            final double[] x = new double[nSamples - 10];
+            final double[] y = new double[nSamples - 10];
+            for (int i = 0; i < x.length; i++) {
+                x[i] = 10 + i;
+                y[i] = -10 - i;
+            }
+            dataSet.add(new double[][] { x, y });
+            assertEquals(nSamples, dataSet.getDataCount());
+            for (int i = 0; i < nSamples; i++) {
+                assertEquals(i, dataSet.get(DIM_X, i));
+                assertEquals(-i, dataSet.get(DIM_Y, i));
+            }
+            assertEquals(nSamples - 1.0, dataSet.getAxisDescription(DIM_X).getMax());
+            assertEquals(1 - nSamples, dataSet.getAxisDescription(DIM_Y).getMin());
+
+            assertEquals(0, dataSet.getIndex(DIM_X, -5.0));
+            assertEquals(2000, dataSet.getIndex(DIM_X, 2000.0));
+            assertEquals(2000, dataSet.getIndex(DIM_X, 2000.4));
+            assertEquals(2001, dataSet.getIndex(DIM_X, 2000.6));
+            assertEquals(nSamples - 1, dataSet.getIndex(DIM_X, 1e9));
+            assertEquals(-1234.0, dataSet.getValue(DIM_Y, 1234.0));
+        }
+
+        // re-open existing archive
+        try (MappedDoubleDataSet dataSet = new MappedDoubleDataSet("test", basePath, 2, SEGMENT_SIZE)) {
+            assertEquals(nSamples, dataSet.getDataCount());
+            assertEquals(42.0, dataSet.get(DIM_X, 42));
+            assertEquals(nSamples - 1.0, dataSet.getAxisDescription(DIM_X).getMax());
+            assertEquals(1 - nSamples, dataSet.getAxisDescription(DIM_Y).getMin());
+
+            dataSet.clearData();
+            assertEquals(0, dataSet.getDataCount());
+        }
+
+        Files.write(tmpDir.resolve("corrupt.0"), new byte[64]);
+        assertThrows(IOException.class, () -> new MappedDoubleDataSet("test", tmpDir.resolve("corrupt"), 1, SEGMENT_SIZE));
+    }
+
+    @Test
+    public void dataSetUtilsTests(@TempDir final Path tmpDir) throws IOException {
+        final DataSet reference = new DoubleDataSet("reference", new double[] { 1, 2, 3, 4 }, new double[] { 4, 3, 2, 1 }, 4, true);
+        try (MappedDoubleDataSet dataSet = new MappedDoubleDataSet("test", tmpDir.resolve("archive"), 2, SEGMENT_SIZE)) {
+            dataSet.set(reference);
+            assertEquals(4, dataSet.getDataCount());
+            assertArrayEquals(Arrays.copyOf(reference.getValues(DIM_Y), 4), dataSet.getValues(DIM_Y));
+
+            final String fileName = DataSetUtils.writeDataSetToFile(dataSet, tmpDir, "mapped.csv", true);
+            final DataSet readBack = DataSetUtils.readDataSetFromFile(tmpDir.resolve(fileName).toString());
+            assertArrayEquals(dataSet.getValues(DIM_X), Arrays.copyOf(readBack.getValues(DIM_X), readBack.getDataCount()));
+            assertArrayEquals(dataSet.getValues(DIM_Y), Arrays.copyOf(readBack.getValues(DIM_Y), readBack.getDataCount()));
+
+            dataSet.set(readBack);
+            assertEquals(4, dataSet.getDataCount());
+            assertEquals(1.0, dataSet.get(DIM_Y, 3));
+        }
+    }
+}
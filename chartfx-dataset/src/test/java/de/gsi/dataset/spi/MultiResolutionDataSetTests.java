@@ -0,0 +1,65 @@
+package de.gsi.dataset.spi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import de.gsi.dataset.DataSet;
+import de.gsi.dataset.utils.MinMaxPyramid;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+
+/**
+ * Checks for MultiResolutionDataSet interfaces and constructors.
+ *
+ * @author rstein
+ */
+public class MultiResolutionDataSetTests {
+    @Test
+    public void defaultTests() {
+        assertThrows(IllegalArgumentException.class, () -> new MultiResolutionDataSet("test", -1));
+        assertThrows(IllegalArgumentException.class, () -> new MultiResolutionDataSet("test", 0, null));
+        final MinMaxPyramid nonEmpty = new MinMaxPyramid();
+        nonEmpty.add(1.0);
+        assertThrows(IllegalArgumentException.class, () -> new MultiResolutionDataSet("test", 0, nonEmpty));
+
+        final MultiResolutionDataSet dataSet = new MultiResolutionDataSet("test");
+        final int nSamples = 10_000;
+        for (int i = 0; i < nSamples / 2; i++) {
+            dataSet.add(i, Math.sin(0.01 * i));
+        }
+        final double[] x = new double[nSamples / 2];
+        final double[] y = new double[nSamples / 2];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = nSamples / 2 + i;
+            y[i] = i == 1234 ? 10.0 : Math.sin(0.01 * x[i]);
+        }
+        dataSet.add(x, y);
+        assertEquals(nSamples, dataSet.getDataCount());
+        assertEquals(nSamples, dataSet.getPyramid().getSampleCount());
+        assertEquals(nSamples - 1.0, dataSet.getAxisDescription(DataSet.DIM_X).getMax());
+        assertEquals(10.0, dataSet.getAxisDescription(DataSet.DIM_Y).getMax());
+
+        assertThrows(IllegalArgumentException.class, () -> dataSet.add(0.0, 1.0), "non-monotonic x");
+        assertThrows(IllegalArgumentException.class, () -> dataSet.add(new double[] { 1e6, 0 }, new double[2]), "non-monotonic x");
+        assertEquals(nSamples, dataSet.getDataCount());
+
+        final IntArrayList indices = dataSet.getReducedIndices(0, nSamples, 100, new IntArrayList());
+        assertTrue(indices.size() < nSamples / 10, "reduced");
+        assertTrue(indices.contains(nSamples / 2 + 1234), "outlier is retained");
+        assertEquals(0, indices.getInt(0));
+        assertEquals(nSamples - 1, indices.getInt(indices.size() - 1));
+
+        final MultiResolutionDataSet copy = new MultiResolutionDataSet("copy");
+        copy.set(dataSet);
+        assertEquals(nSamples, copy.getPyramid().getSampleCount());
+        assertEquals(dataSet.get(DataSet.DIM_Y, 42), copy.get(DataSet.DIM_Y, 42));
+
+        dataSet.clearData();
+        assertEquals(0, dataSet.getDataCount());
+        assertEquals(0, dataSet.getPyramid().getSampleCount());
+        assertTrue(dataSet.getReducedIndices(0, 1, 100, indices).isEmpty());
+    }
+}
@@ -0,0 +1,72 @@
+package de.gsi.dataset.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark comparing the acquire/release round-trip of the synchronised (String-keyed) {@link ArrayCache}, the
+ * best-fit {@link DoubleArrayCache} (non power-of-two sizes) and the lock-free {@link ArrayPool} under contention of 8
+ * threads. Sizes of 1000 and 1024 are served by the thread-local free lists, 100000 by the shared stacks.
+ *
+ * @author rstein
+ */
+@State(Scope.Benchmark)
+public class ArrayPoolBenchmark {
+    private static final String CACHE_ID = "ArrayPoolBenchmark";
+
+    @Param({ "1000", "1024", "100000" })
+    private int size;
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2)
+    @Threads(8)
+    public void arrayCache(Blackhole blackhole) {
+        final double[] array = ArrayCache.getCachedDoubleArray(CACHE_ID, size);
+        array[0] = size;
+        blackhole.consume(array);
+        ArrayCache.release(CACHE_ID, array);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2)
+    @Threads(8)
+    public void doubleArrayCache(Blackhole blackhole) {
+        final double[] array = DoubleArrayCache.getInstance().getArrayExact(size);
+        array[0] = size;
+        blackhole.consume(array);
+        DoubleArrayCache.getInstance().add(array);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2)
+    @Threads(8)
+    public void arrayPool(Blackhole blackhole) {
+        final double[] array = ArrayPool.getDoublePool().getArray(size);
+        array[0] = size;
+        blackhole.consume(array);
+        ArrayPool.getDoublePool().release(array);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2)
+    @Threads(8)
+    public void allocation(Blackhole blackhole) {
+        final double[] array = new double[size];
+        array[0] = size;
+        blackhole.consume(array);
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+}
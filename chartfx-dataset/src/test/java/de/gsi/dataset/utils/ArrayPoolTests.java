@@ -0,0 +1,141 @@
+package de.gsi.dataset.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Regression testing for @see ArrayPool
+ *
+ * @author rstein
+ */
+public class ArrayPoolTests {
+    private static final int LARGE_SIZE = 1 << 16; // N.B. exceeds the thread-local free list limit for doubles
+
+    @Test
+    public void basicTests() {
+        assertEquals(0, ArrayPool.getSizeClass(0));
+        assertEquals(0, ArrayPool.getSizeClass(1));
+        assertEquals(1, ArrayPool.getSizeClass(2));
+        assertEquals(2, ArrayPool.getSizeClass(3));
+        assertEquals(10, ArrayPool.getSizeClass(1024));
+        assertEquals(11, ArrayPool.getSizeClass(1025));
+        assertTrue(ArrayPool.isPowerOfTwo(1));
+        assertTrue(ArrayPool.isPowerOfTwo(1024));
+        assertFalse(ArrayPool.isPowerOfTwo(0));
+        assertFalse(ArrayPool.isPowerOfTwo(1000));
+        assertFalse(ArrayPool.isPowerOfTwo(-4));
+
+        assertThrows(IllegalArgumentException.class, () -> ArrayPool.getDoublePool().getArray(-1));
+        assertThrows(IllegalArgumentException.class, () -> ArrayPool.getDoublePool().setMaxBytes(-1));
+        assertFalse(ArrayPool.getDoublePool().release(null));
+
+        assertEquals(1024, ArrayPool.getDoublePool().getArray(1000).length);
+        assertEquals(1024, ArrayPool.getBooleanPool().getArray(1000).length);
+        assertEquals(1024, ArrayPool.getBytePool().getArray(1000).length);
+        assertEquals(1024, ArrayPool.getFloatPool().getArray(1000).length);
+        assertEquals(1024, ArrayPool.getIntPool().getArray(1000).length);
+        assertEquals(1024, ArrayPool.getLongPool().getArray(1000).length);
+        assertEquals(1024, ArrayPool.getShortPool().getArray(1000).length);
+        assertEquals(1024, ArrayPool.getStringPool().getArray(1000).length);
+        assertNotNull(ArrayPool.getDoublePool().toString());
+    }
+
+    @Test
+    public void reuseTests() {
+        final ArrayPool<double[]> pool = ArrayPool.getDoublePool();
+        pool.clear();
+        pool.resetMetrics();
+
+        // thread-local free list
+        final double[] small = pool.getArray(100);
+        assertEquals(128, small.length);
+        assertTrue(pool.release(small));
+        assertSame(small, pool.getArray(120), "size class re-use");
+        assertEquals(1, pool.getHitCount());
+        assertEquals(1, pool.getMissCount());
+
+        // shared stack
+        final double[] large = pool.getArray(LARGE_SIZE - 10);
+        assertEquals(LARGE_SIZE, large.length);
+        assertTrue(pool.release(large));
+        assertEquals((long) Double.BYTES * LARGE_SIZE, pool.getBytesRetained());
+        assertSame(large, pool.getArray(LARGE_SIZE));
+        assertEquals(0, pool.getBytesRetained());
+        assertEquals(2, pool.getHitCount());
+
+        // non power-of-two arrays are not pooled
+        assertFalse(pool.release(new double[1000]));
+        assertEquals(1, pool.getDropCount());
+
+        pool.resetMetrics();
+        assertEquals(0, pool.getHitCount());
+        assertEquals(0, pool.getMissCount());
+        assertEquals(0, pool.getDropCount());
+    }
+
+    @Test
+    public void softLimitTests() {
+        final ArrayPool<double[]> pool = ArrayPool.getDoublePool();
+        final long oldMaxBytes = pool.getMaxBytes();
+        pool.clear();
+        pool.resetMetrics();
+        try {
+            pool.setMaxBytes((long) Double.BYTES * LARGE_SIZE);
+            assertEquals((long) Double.BYTES * LARGE_SIZE, pool.getMaxBytes());
+            assertTrue(pool.release(new double[LARGE_SIZE]));
+            assertFalse(pool.release(new double[LARGE_SIZE]), "exceeds soft limit");
+            assertEquals(1, pool.getDropCount());
+            assertEquals((long) Double.BYTES * LARGE_SIZE, pool.getBytesRetained());
+
+            pool.clear();
+            assertEquals(0, pool.getBytesRetained());
+            pool.getArray(LARGE_SIZE);
+            assertEquals(1, pool.getMissCount());
+        } finally {
+            pool.setMaxBytes(oldMaxBytes);
+        }
+    }
+
+    @Test
+    public void concurrencyTests() throws Exception {
+        final ArrayPool<double[]> pool = ArrayPool.getDoublePool();
+        final int nThreads = 8;
+        final ExecutorService executor = Executors.newFixedThreadPool(nThreads);
+        try {
+            final List<Future<Boolean>> results = new ArrayList<>();
+            for (int thread = 0; thread < nThreads; thread++) {
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        final int size = (i % 2 == 0) ? 100 : LARGE_SIZE;
+                        final double[] array = pool.getArray(size);
+                        array[0] = i;
+                        array[size - 1] = i;
+                        if (array[0] != array[size - 1]) {
+                            return false; // concurrent use of the same array
+                        }
+                        pool.release(array);
+                    }
+                    return true;
+                }));
+            }
+            for (final Future<Boolean> result : results) {
+                assertTrue(result.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
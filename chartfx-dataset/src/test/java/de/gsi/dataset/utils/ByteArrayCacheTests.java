@@ -60,6 +60,13 @@ public class ByteArrayCacheTests {
         cache.clear();
         assertEquals(0, cache.size());
 
+        // N.B. only the pooled variant rounds up to the next power of two
+        assertEquals(1000, cache.getArray(1000).length);
+        final byte[] pooled = cache.getPooledArray(1000);
+        assertEquals(1024, pooled.length);
+        assertTrue(cache.add(pooled));
+        assertEquals(0, cache.size(), "power-of-two arrays are returned to the pool");
+
         // prevent adding twice
         final byte[] array = new byte[1000];
         assertFalse(cache.contains(array));
@@ -0,0 +1,178 @@
+package de.gsi.dataset.utils;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import static de.gsi.dataset.DataSet.DIM_X;
+import static de.gsi.dataset.DataSet.DIM_Y;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import de.gsi.dataset.DataSet;
+import de.gsi.dataset.DataSetError;
+import de.gsi.dataset.spi.DataSetBuilder;
+import de.gsi.dataset.spi.DoubleDataSet;
+import de.gsi.dataset.spi.DoubleErrorDataSet;
+
+/**
+ * @author rstein
+ */
+class ChunkedDataSetFileTests {
+    private static final int N_SAMPLES = 100_000;
+    private static final int CHUNK_SIZE = 1000;
+
+    @Test
+    void testFailureCases(@TempDir Path tmpDir) throws IOException {
+        final Path file = tmpDir.resolve("corrupt" + ChunkedDataSetFile.FILE_EXTENSION);
+        assertThrows(IllegalArgumentException.class, () -> ChunkedDataSetFile.write(null, file));
+        assertThrows(IllegalArgumentException.class, () -> ChunkedDataSetFile.write(new DoubleDataSet("test"), null));
+        assertThrows(IllegalArgumentException.class, () -> ChunkedDataSetFile.write(new DoubleDataSet("test"), file, 0));
+        assertThrows(IllegalArgumentException.class, () -> ChunkedDataSetFile.read(file, 1.0, 0.0));
+
+        Files.write(file, new byte[] { 1, 2, 3 });
+        assertThrows(IOException.class, () -> ChunkedDataSetFile.read(file));
+        Files.write(file, new byte[64]);
+        assertThrows(IOException.class, () -> ChunkedDataSetFile.read(file));
+        assertNull(DataSetUtils.readDataSetFromFile(file.toString()));
+
+        // truncated chunk data
+        ChunkedDataSetFile.write(createTestDataSet(true), file, CHUNK_SIZE);
+        final byte[] bytes = Files.readAllBytes(file);
+        Arrays.fill(bytes, 100, 200, (byte) 0x55);
+        Files.write(file, bytes);
+        assertThrows(IOException.class, () -> ChunkedDataSetFile.read(file));
+    }
+
+    @Test
+    void testRangeRead(@TempDir Path tmpDir) throws IOException {
+        final DataSet dataSet = createTestDataSet(true);
+        final Path file = tmpDir.resolve("range" + ChunkedDataSetFile.FILE_EXTENSION);
+        ChunkedDataSetFile.write(dataSet, file, CHUNK_SIZE);
+
+        final List<ChunkedDataSetFile.ChunkInfo> index = ChunkedDataSetFile.readChunkIndex(file);
+        assertEquals(N_SAMPLES / CHUNK_SIZE, index.size());
+        for (int i = 0; i < index.size(); i++) {
+            final ChunkedDataSetFile.ChunkInfo chunk = index.get(i);
+            assertEquals(i * CHUNK_SIZE, chunk.getFirstIndex());
+            assertEquals(CHUNK_SIZE, chunk.getDataCount());
+            assertEquals(dataSet.get(DIM_X, chunk.getFirstIndex()), chunk.getXMin());
+            assertEquals(dataSet.get(DIM_X, chunk.getFirstIndex() + CHUNK_SIZE - 1), chunk.getXMax());
+            assertTrue(chunk.getYMin() >= -1.0 && chunk.getYMax() <= 1.0);
+            assertTrue(chunk.getCompressedSize() > 0);
+        }
+
+        // x = 0.01 * index -> [100.005, 250.0] is covered by the chunks starting at 10000 ... 25000
+        final DataSet range = ChunkedDataSetFile.read(file, 100.005, 250.0);
+        assertEquals(16 * CHUNK_SIZE, range.getDataCount());
+        assertEquals(dataSet.get(DIM_X, 10_000), range.get(DIM_X, 0));
+        assertEquals(dataSet.get(DIM_X, 25_999), range.get(DIM_X, range.getDataCount() - 1));
+        assertEquals(dataSet.getValues(DIM_Y)[12_345], range.get(DIM_Y, 2345));
+        assertEquals(range.getDataCount(), DataSetUtils.readDataSetFromFile(file.toString(), 100.005, 250.0).getDataCount());
+
+        assertEquals(0, ChunkedDataSetFile.read(file, -10.0, -1.0).getDataCount());
+        assertEquals(CHUNK_SIZE, ChunkedDataSetFile.read(file, 0.0, 0.0).getDataCount());
+    }
+
+    @Test
+    void testRoundTrip(@TempDir Path tmpDir) throws IOException {
+        for (final boolean withErrors : new boolean[] { true, false }) {
+            final DataSet dataSet = createTestDataSet(withErrors);
+            final Path file = tmpDir.resolve("roundTrip" + ChunkedDataSetFile.FILE_EXTENSION);
+            ChunkedDataSetFile.write(dataSet, file, CHUNK_SIZE);
+
+            // delta/XOR-encoded columns compress significantly better than the raw doubles
+            final long rawSize = (withErrors ? 4L : 2L) * Double.BYTES * N_SAMPLES;
+            assertTrue(Files.size(file) < rawSize / 2, "file size = " + Files.size(file) + " vs. raw = " + rawSize);
+
+            final DataSet read = DataSetUtils.readDataSetFromFile(file.toString());
+            assertEquals(DoubleErrorDataSet.class, read.getClass());
+            assertEquals(dataSet.getName(), read.getName());
+            assertEquals(N_SAMPLES, read.getDataCount());
+            for (int dim = 0; dim < 2; dim++) {
+                assertArrayEquals(Arrays.copyOf(dataSet.getValues(dim), N_SAMPLES), Arrays.copyOf(read.getValues(dim), N_SAMPLES));
+                assertEquals(dataSet.getAxisDescription(dim).getName(), read.getAxisDescription(dim).getName());
+                assertEquals(dataSet.getAxisDescription(dim).getUnit(), read.getAxisDescription(dim).getUnit());
+                assertEquals(dataSet.getAxisDescription(dim).getMin(), read.getAxisDescription(dim).getMin());
+                assertEquals(dataSet.getAxisDescription(dim).getMax(), read.getAxisDescription(dim).getMax());
+            }
+            final double[] expectedErrors = withErrors ? Arrays.copyOf(((DataSetError) dataSet).getErrorsNegative(DIM_Y), N_SAMPLES) : new double[N_SAMPLES];
+            assertArrayEquals(expectedErrors, Arrays.copyOf(((DataSetError) read).getErrorsNegative(DIM_Y), N_SAMPLES));
+            assertArrayEquals(expectedErrors, Arrays.copyOf(((DataSetError) read).getErrorsPositive(DIM_Y), N_SAMPLES));
+            final DoubleErrorDataSet metaData = (DoubleErrorDataSet) read;
+            assertEquals(Map.of("key", "value"), metaData.getMetaInfo());
+            assertEquals(List.of("info"), metaData.getInfoList());
+            assertEquals(List.of("warning"), metaData.getWarningList());
+            assertEquals(List.of("error"), metaData.getErrorList());
+        }
+
+        // meta-data exceeding the 64 kB limit of modified UTF-8 'writeUTF'
+        final DoubleDataSet largeMetaData = new DoubleDataSet("large meta-data \u00b5");
+        final String largeEntry = "\u00e4".repeat(100_000);
+        largeMetaData.getMetaInfo().put("large", largeEntry);
+        largeMetaData.getInfoList().add(largeEntry);
+        final Path largeFile = tmpDir.resolve("large" + ChunkedDataSetFile.FILE_EXTENSION);
+        ChunkedDataSetFile.write(largeMetaData, largeFile);
+        final DoubleErrorDataSet largeRead = (DoubleErrorDataSet) ChunkedDataSetFile.read(largeFile);
+        assertEquals("large meta-data \u00b5", largeRead.getName());
+        assertEquals(largeEntry, largeRead.getMetaInfo().get("large"));
+        assertEquals(List.of(largeEntry), largeRead.getInfoList());
+
+        // chunk without any valid x-coordinate (stored range [+Inf, -Inf]) must not be dropped
+        final double[] xNaN = new double[3 * CHUNK_SIZE];
+        final double[] yNaN = new double[3 * CHUNK_SIZE];
+        for (int i = 0; i < xNaN.length; i++) {
+            xNaN[i] = i >= CHUNK_SIZE && i < 2 * CHUNK_SIZE ? Double.NaN : i;
+            yNaN[i] = -i;
+        }
+        final Path nanFile = tmpDir.resolve("nan" + ChunkedDataSetFile.FILE_EXTENSION);
+        ChunkedDataSetFile.write(new DoubleDataSet("nan", xNaN, yNaN, xNaN.length, true), nanFile, CHUNK_SIZE);
+        final DataSet nanRead = ChunkedDataSetFile.read(nanFile);
+        assertEquals(xNaN.length, nanRead.getDataCount());
+        assertArrayEquals(xNaN, Arrays.copyOf(nanRead.getValues(DIM_X), xNaN.length));
+        assertArrayEquals(yNaN, Arrays.copyOf(nanRead.getValues(DIM_Y), yNaN.length));
+        assertEquals(2 * CHUNK_SIZE, ChunkedDataSetFile.read(nanFile, 0.0, 10.0).getDataCount());
+
+        // empty data set
+        final Path emptyFile = tmpDir.resolve("empty" + ChunkedDataSetFile.FILE_EXTENSION);
+        ChunkedDataSetFile.write(new DoubleDataSet("empty"), emptyFile);
+        assertEquals(0, ChunkedDataSetFile.read(emptyFile).getDataCount());
+        assertTrue(ChunkedDataSetFile.readChunkIndex(emptyFile).isEmpty());
+    }
+
+    private static DataSet createTestDataSet(final boolean withErrors) {
+        final double[] x = new double[N_SAMPLES];
+        final double[] y = new double[N_SAMPLES];
+        final double[] ey = new double[N_SAMPLES];
+        for (int i = 0; i < N_SAMPLES; i++) {
+            x[i] = 0.01 * i;
+            y[i] = Math.sin(x[i]);
+            ey[i] = 0.1;
+        }
+        y[42] = Double.NaN;
+        final DataSetBuilder builder = new DataSetBuilder("chunked").setValues(DIM_X, x).setValues(DIM_Y, y) //
+                                               .setAxisName(DIM_X, "time")
+                                               .setAxisUnit(DIM_X, "s")
+                                               .setAxisName(DIM_Y, "voltage")
+                                               .setAxisUnit(DIM_Y, "V") //
+                                               .setMetaInfoMap(Map.of("key", "value"))
+                                               .setMetaInfoList("info")
+                                               .setMetaWarningList("warning")
+                                               .setMetaErrorList("error");
+        if (!withErrors) {
+            // N.B. DataSetBuilder always creates DataSetError implementations
+            return new DoubleDataSet(builder.build());
+        }
+        return builder.setNegError(DIM_Y, ey).setPosError(DIM_Y, ey).build();
+    }
+}
@@ -11,10 +11,12 @@ import static de.gsi.dataset.DataSet.DIM_X;
 import static de.gsi.dataset.DataSet.DIM_Y;
 import static de.gsi.dataset.DataSet.DIM_Z;
 
+import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.PushbackInputStream;
+import java.io.StringReader;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Locale;
@@ -29,6 +31,7 @@ import org.junit.jupiter.params.provider.CsvSource;
 
 import de.gsi.dataset.DataSet;
 import de.gsi.dataset.DataSetError;
+import de.gsi.dataset.GridDataSet;
 import de.gsi.dataset.spi.DataSetBuilder;
 import de.gsi.dataset.spi.DefaultDataSet;
 import de.gsi.dataset.spi.DoubleErrorDataSet;
@@ -130,6 +133,7 @@ class DataSetUtilsTest {
             "true, dataset.bin.zip",
             "false, dataset.csv",
             "true, dataset.bin",
+            "true, dataset.cds",
     })
     void
     readAndWriteDefaultDataSetToFile(boolean binary, String filename, @TempDir Path tmpdir) {
@@ -171,6 +175,41 @@ class DataSetUtilsTest {
         }
     }
 
+    @DisplayName("Read large text DataSet spanning multiple parallel parsed chunks")
+    @ParameterizedTest(name = "nSamples header: {0}")
+    @CsvSource({ "200000", "1000", "0" })
+    void readLargeTextDataSet(int nSamplesHeader) {
+        final int nSamples = 200_000;
+        final StringBuilder builder = new StringBuilder(64 * nSamples);
+        builder.append("#file producer : chartfx\n#dataSetName : largeDataSet\n#nSamples : ").append(nSamplesHeader) //
+                .append("\n#xName : time\n#yUnit : V\n#metaKey -key : value\n$index, x, y, eyn, eyp\r\n");
+        for (int i = 0; i < nSamples; i++) {
+            builder.append(i).append(',').append(0.5 * i).append(',').append(Math.sin(0.001 * i));
+            if (i % 2 == 0) {
+                builder.append(',').append(0.1).append(",0.2");
+            }
+            builder.append(i % 3 == 0 ? "\r\n" : "\n");
+            if (i % 1000 == 0) {
+                builder.append(" \n"); // blank lines are ignored
+            }
+        }
+        final DataSet dataSet = DataSetUtils.readDataSetFromByteArray(builder.toString().getBytes());
+
+        assertTrue(dataSet instanceof DoubleErrorDataSet);
+        assertEquals("largeDataSet", dataSet.getName());
+        assertEquals("time", dataSet.getAxisDescription(DIM_X).getName());
+        assertEquals("V", dataSet.getAxisDescription(DIM_Y).getUnit());
+        assertEquals("value", ((DoubleErrorDataSet) dataSet).getMetaInfo().get("key"));
+        assertEquals(nSamples, dataSet.getDataCount());
+        final DoubleErrorDataSet errorDataSet = (DoubleErrorDataSet) dataSet;
+        for (int i = 0; i < nSamples; i++) {
+            assertEquals(0.5 * i, dataSet.get(DIM_X, i));
+            assertEquals(Math.sin(0.001 * i), dataSet.get(DIM_Y, i));
+            assertEquals(i % 2 == 0 ? 0.1 : 0.0, errorDataSet.getErrorNegative(DIM_Y, i));
+            assertEquals(i % 2 == 0 ? 0.2 : 0.0, errorDataSet.getErrorPositive(DIM_Y, i));
+        }
+    }
+
     @Test
     void testFailureCases() {
         assertThrows(IllegalArgumentException.class, () -> DataSetUtils.readDataSetFromByteArray(null));
@@ -179,6 +218,26 @@ class DataSetUtilsTest {
         assertThrows(IllegalArgumentException.class, () -> DataSetUtils.writeDataSetToFile(new DefaultDataSet("test"), null, null));
         assertThrows(IllegalArgumentException.class, () -> DataSetUtils.writeDataSetToFile(new DefaultDataSet("test"), Path.of("/tmp"), ""));
         assertThrows(IllegalArgumentException.class, () -> DataSetUtils.writeDataSetToFile(new DefaultDataSet("test"), Path.of("/tmp"), null));
+        // malformed numeric data: data set is truncated to the last completely parsed chunk
+        final DataSet corrupted = DataSetUtils.readDataSetFromByteArray("#file producer : chartfx\n#nSamples : 2\n$index, x, y, eyn, eyp\n0,1,2\n1,a,b\n".getBytes());
+        assertEquals(0, corrupted.getDataCount());
+        // malformed grid data: data set is truncated to the last complete grid row
+        final DataSet corrupted3D = DataSetUtils.readDataSetFromByteArray("#file producer : chartfx\n#nSamples : 6\n$index, x, y, z\n0,1,10,1\n1,2,10,2\n2,1,20,3\n3,2,20,4\n4,1,30,a\n".getBytes());
+        assertArrayEquals(new int[] { 2, 2 }, ((GridDataSet) corrupted3D).getShape());
+        assertEquals(4.0, corrupted3D.get(DIM_Z, 3));
+        final DataSet empty3D = DataSetUtils.readDataSetFromByteArray("#file producer : chartfx\n$index, x, y, z\n0,a,10,1\n".getBytes());
+        assertEquals(0, empty3D.getDataCount());
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void testLegacyNumericReader() {
+        final DataSet dataSet = DataSetUtils.readNumericDataFromFile(new BufferedReader(new StringReader("0,1,2\n1,2,3,0.1,0.2\n")), "legacy", false, 2);
+        assertEquals(2, dataSet.getDataCount());
+        assertEquals(2.0, dataSet.get(DIM_X, 1));
+        assertEquals(3.0, dataSet.get(DIM_Y, 1));
+        final DataSet dataSet3D = DataSetUtils.readNumericDataFromFile(new BufferedReader(new StringReader("0,1,10,1\n1,2,10,2\n2,1,20,3\n3,2,20,4\n")), "legacy3D", true, 4);
+        assertArrayEquals(new int[] { 2, 2 }, ((GridDataSet) dataSet3D).getShape());
     }
 
     @Test
@@ -186,6 +245,7 @@ class DataSetUtilsTest {
         assertEquals(Compression.GZIP, DataSetUtils.evaluateAutoCompression("test.bin.gz"));
         assertEquals(Compression.ZIP, DataSetUtils.evaluateAutoCompression("test.csv.zip"));
         assertEquals(Compression.NONE, DataSetUtils.evaluateAutoCompression("test.csv"));
+        assertEquals(Compression.CHUNKED, DataSetUtils.evaluateAutoCompression("test.cds"));
     }
 
     @Test
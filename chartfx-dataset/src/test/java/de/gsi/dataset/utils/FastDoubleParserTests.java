@@ -0,0 +1,91 @@
+package de.gsi.dataset.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author rstein
+ */
+class FastDoubleParserTests {
+    private static final int N_RANDOM_SAMPLES = 200_000;
+
+    @Test
+    void testFallbackCases() {
+        assertParse("NaN");
+        assertParse("-Infinity");
+        assertParse("+Infinity");
+        assertParse("1.0d");
+        assertParse("2.5f");
+        assertParse("0x1.8p1");
+        assertParse("12345678901234567890123"); // more than 19 significant digits
+        assertParse("4.9e-324"); // sub-normal
+        assertParse("2.2250738585072011e-308"); // sub-normal boundary
+        assertParse("1.7976931348623157e308");
+        assertParse("1.8e308"); // overflow
+        assertParse("1e-400"); // underflow
+        assertParse("9007199254740993"); // 2^53 + 1: half-way case
+
+        assertThrows(NumberFormatException.class, () -> parse(""));
+        assertThrows(NumberFormatException.class, () -> parse("  "));
+        assertThrows(NumberFormatException.class, () -> parse("-"));
+        assertThrows(NumberFormatException.class, () -> parse("1.0e"));
+        assertThrows(NumberFormatException.class, () -> parse("1,0"));
+        assertThrows(NumberFormatException.class, () -> parse("abc"));
+    }
+
+    @Test
+    void testRandomValues() {
+        final Random random = new Random(42);
+        for (int i = 0; i < N_RANDOM_SAMPLES; i++) {
+            assertParse(Double.toString(Double.longBitsToDouble(random.nextLong())));
+            assertParse(Double.toString(random.nextDouble() * Math.pow(10, random.nextInt(40) - 20)));
+            assertParse(Float.toString(Float.intBitsToFloat(random.nextInt())));
+            assertParse((random.nextLong() >>> (1 + random.nextInt(63))) + "." + (random.nextLong() >>> (1 + random.nextInt(63))) + 'e' + (random.nextInt(700) - 350));
+        }
+    }
+
+    @Test
+    void testSimpleValues() {
+        assertParse("0");
+        assertParse("-0");
+        assertParse("0.0");
+        assertParse("-0.0e10");
+        assertParse("1");
+        assertParse("+1");
+        assertParse("-1.5");
+        assertParse(".5");
+        assertParse("5.");
+        assertParse("0.1");
+        assertParse("3.141592653589793");
+        assertParse("1.0E-5");
+        assertParse("1e+22");
+        assertParse("1e23");
+        assertParse("0.000000000000000000000000000001");
+        assertParse("9223372036854775807");
+        assertParse("18446744073709551615");
+
+        // white-spaces and line terminators are ignored
+        assertEquals(1.5, parse(" 1.5"));
+        assertEquals(1.5, parse("1.5\r"));
+        assertEquals(-2.0, parse("\t-2.0 "));
+
+        // sub-range parsing
+        final byte[] bytes = "0,1.25,-3e2\n".getBytes(StandardCharsets.ISO_8859_1);
+        assertEquals(1.25, FastDoubleParser.parseDouble(bytes, 2, 6));
+        assertEquals(-300.0, FastDoubleParser.parseDouble(bytes, 7, 12));
+    }
+
+    private static void assertParse(final String value) {
+        assertEquals(Double.doubleToRawLongBits(Double.parseDouble(value)), Double.doubleToRawLongBits(parse(value)), value);
+    }
+
+    private static double parse(final String value) {
+        final byte[] bytes = value.getBytes(StandardCharsets.ISO_8859_1);
+        return FastDoubleParser.parseDouble(bytes, 0, bytes.length);
+    }
+}
@@ -0,0 +1,94 @@
+package de.gsi.dataset.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+
+/**
+ * Regression testing for @see MinMaxPyramid
+ *
+ * @author rstein
+ */
+public class MinMaxPyramidTests {
+    @Test
+    public void basicTests() {
+        assertThrows(IllegalArgumentException.class, () -> new MinMaxPyramid(1, 4));
+        assertThrows(IllegalArgumentException.class, () -> new MinMaxPyramid(16, 1));
+
+        final MinMaxPyramid pyramid = new MinMaxPyramid(4, 2);
+        assertEquals(4, pyramid.getBaseWidth());
+        assertEquals(2, pyramid.getFanOut());
+        assertEquals(16, pyramid.getBucketWidth(2));
+        assertEquals(-1, pyramid.getLevelFor(100));
+
+        for (int i = 0; i < 33; i++) {
+            pyramid.add(i == 5 ? Double.NaN : i % 7);
+        }
+        assertEquals(33, pyramid.getSampleCount());
+        assertEquals(4, pyramid.getLevelCount()); // bucket widths: 4, 8, 16, 32
+        assertEquals(8, pyramid.getBucketCount(0));
+        assertEquals(1, pyramid.getBucketCount(3));
+        assertEquals(0, pyramid.getBucketCount(4));
+        assertEquals(6, pyramid.getMaxIndex(0, 1), "NaN is ignored"); // [4, 5=NaN, 6, 0]
+        assertEquals(7, pyramid.getMinIndex(0, 1));
+        assertEquals(0, pyramid.getMinIndex(3, 0));
+        assertEquals(6, pyramid.getMaxIndex(3, 0));
+        assertEquals(-1, pyramid.getLevelFor(3));
+        assertEquals(1, pyramid.getLevelFor(10));
+        assertEquals(3, pyramid.getLevelFor(1000));
+
+        pyramid.clear();
+        assertEquals(0, pyramid.getSampleCount());
+        assertEquals(0, pyramid.getBucketCount(0));
+        pyramid.add(new double[] { Double.NaN, Double.NaN, Double.NaN, Double.NaN }, 0, 4);
+        assertEquals(-1, pyramid.getMinIndex(0, 0));
+        assertEquals(-1, pyramid.getMaxIndex(0, 0));
+    }
+
+    @Test
+    public void reduceTests() {
+        final int nSamples = 100_000;
+        final double[] values = new double[nSamples];
+        final Random rnd = new Random(42);
+        final MinMaxPyramid pyramid = new MinMaxPyramid();
+        for (int i = 0; i < nSamples; i++) {
+            values[i] = rnd.nextGaussian();
+            pyramid.add(values[i]);
+        }
+        final IntArrayList indices = new IntArrayList();
+        assertThrows(IllegalArgumentException.class, () -> pyramid.reduce(0, nSamples, 0, i -> values[i], indices));
+
+        pyramid.reduce(10, 10, 100, i -> values[i], indices);
+        assertTrue(indices.isEmpty());
+        pyramid.reduce(10, 20, 100, i -> values[i], indices);
+        assertEquals(10, indices.size(), "raw samples for small ranges");
+
+        final int[][] ranges = { { 0, nSamples }, { 13, nSamples - 7 }, { 12_345, 54_321 }, { 99_000, 200_000 } };
+        final int nBuckets = 200;
+        for (final int[] range : ranges) {
+            pyramid.reduce(range[0], range[1], nBuckets, i -> values[i], indices);
+            final int max = Math.min(range[1], nSamples);
+            assertEquals(range[0], indices.getInt(0), "first sample");
+            assertEquals(max - 1, indices.getInt(indices.size() - 1), "last sample");
+            assertTrue(indices.size() <= 4 * MinMaxPyramid.DEFAULT_FAN_OUT * (nBuckets + 2 * MinMaxPyramid.DEFAULT_BASE_WIDTH), "O(buckets) result size");
+
+            int minIndex = range[0];
+            int maxIndex = range[0];
+            for (int i = range[0]; i < max; i++) {
+                minIndex = values[i] < values[minIndex] ? i : minIndex;
+                maxIndex = values[i] > values[maxIndex] ? i : maxIndex;
+            }
+            assertTrue(indices.contains(minIndex), "global minimum is retained");
+            assertTrue(indices.contains(maxIndex), "global maximum is retained");
+            for (int i = 1; i < indices.size(); i++) {
+                assertTrue(indices.getInt(i - 1) < indices.getInt(i), "ascending indices");
+            }
+        }
+    }
+}
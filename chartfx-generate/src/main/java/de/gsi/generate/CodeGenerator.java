@@ -21,7 +21,10 @@ import org.apache.maven.project.MavenProject;
  * helper functions and container classes for all primitive types.
  *
  * By default it looks for input files in src/main/codegen and writes the generated code to
- * target/generated-sources/codegen.
+ * target/generated-sources/codegen, which is added to the compile source roots. Both locations can be overridden per
+ * execution, e.g. to expand templates that need a newer JDK (such as the jdk.incubator.vector based kernels in
+ * src/main/codegen-java17) into a separate directory that is compiled by a dedicated compiler execution
+ * ('addCompileSourceRoot' = false).
  *
  * There are two different types of template classes. Classes ending in `Gen` are are rewritten, by repeating the
  * blocks inside `//// codegen: originalType -&gt; outputType1, outputType2, ...` and `//// end codegen` for each
@@ -67,20 +70,29 @@ public class CodeGenerator extends AbstractMojo {
 
     @Parameter(defaultValue = "${project}", required = true, readonly = true)
     MavenProject project;
-    @Parameter(defaultValue = "${project.basedir}/src/main/codegen", readonly = true)
+    @Parameter(defaultValue = "${project.basedir}/src/main/codegen")
     String input;
-    @Parameter(defaultValue = "${project.build.directory}/generated-sources/codegen", readonly = true)
+    @Parameter(defaultValue = "${project.build.directory}/generated-sources/codegen")
     String output;
+    @Parameter(defaultValue = "true")
+    boolean addCompileSourceRoot = true;
 
     @Override
     public void execute() throws MojoExecutionException {
         final Path inputPath = Path.of(this.input);
         final Path outputPath = Path.of(this.output);
 
+        if (!Files.isDirectory(inputPath)) {
+            getLog().info("No code generation templates found in " + inputPath);
+            return;
+        }
+
         // Add the generated classes to the build path
-        project.addCompileSourceRoot(this.output);
-        if (getLog().isInfoEnabled()) {
-            getLog().info("Added directory for generated sources to compile sources: " + outputPath);
+        if (addCompileSourceRoot) {
+            project.addCompileSourceRoot(this.output);
+            if (getLog().isInfoEnabled()) {
+                getLog().info("Added directory for generated sources to compile sources: " + outputPath);
+            }
         }
 
         // Adding other types to helper function classes (...GenBase.java)
@@ -0,0 +1,165 @@
+package de.gsi.math;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD implementation of the {@link ArrayMathKernels} based on the (JDK 17+) 'jdk.incubator.vector' API using the
+ * platform's preferred vector shape. The remaining tail that does not fill a whole vector is handled by the
+ * {@link ArrayMathScalarKernels}, as are the kernels that do not benefit from the JDK 17 vector API (e.g. de-interleaving
+ * complex values).
+ *
+ * N.B. this class is compiled only with JDK 17+ and instantiated via reflection by {@link ArrayMathSimd} if the
+ * 'jdk.incubator.vector' module is available at run-time (ie. '--add-modules jdk.incubator.vector').
+ *
+ * @author rstein
+ */
+final class ArrayMathVectorKernelsGen implements ArrayMathKernels {
+    private static final ArrayMathKernels SCALAR = new ArrayMathScalarKernels();
+    private static final int BLOCK_SIZE = 1024; // number of samples processed per block (N.B. fits into L1 cache)
+
+    //// codegen: double -> float
+    private static final VectorSpecies<Double> SPECIES_DOUBLE = DoubleVector.SPECIES_PREFERRED; //// codegen: subst:float:_DOUBLE:_FLOAT
+
+    @Override
+    public void add(final double[] in, final int offsetIn, final double[] value, final int offsetValue, final double[] out, final int offsetOut, final int length) {
+        final int upperBound = SPECIES_DOUBLE.loopBound(length); //// codegen: subst:float:_DOUBLE:_FLOAT
+        int i = 0;
+        for (; i < upperBound; i += SPECIES_DOUBLE.length()) { //// codegen: subst:float:_DOUBLE:_FLOAT
+            final DoubleVector a = DoubleVector.fromArray(SPECIES_DOUBLE, in, offsetIn + i); //// codegen: subst:float:_DOUBLE:_FLOAT
+            final DoubleVector b = DoubleVector.fromArray(SPECIES_DOUBLE, value, offsetValue + i); //// codegen: subst:float:_DOUBLE:_FLOAT
+            a.add(b).intoArray(out, offsetOut + i);
+        }
+        SCALAR.add(in, offsetIn + i, value, offsetValue + i, out, offsetOut + i, length - i);
+    }
+
+    @Override
+    public void add(final double[] in, final int offsetIn, final double value, final double[] out, final int offsetOut, final int length) {
+        final int upperBound = SPECIES_DOUBLE.loopBound(length); //// codegen: subst:float:_DOUBLE:_FLOAT
+        int i = 0;
+        for (; i < upperBound; i += SPECIES_DOUBLE.length()) { //// codegen: subst:float:_DOUBLE:_FLOAT
+            DoubleVector.fromArray(SPECIES_DOUBLE, in, offsetIn + i).add(value).intoArray(out, offsetOut + i); //// codegen: subst:float:_DOUBLE:_FLOAT
+        }
+        SCALAR.add(in, offsetIn + i, value, out, offsetOut + i, length - i);
+    }
+
+    @Override
+    public void decibel(final double[] in, final int offsetIn, final double[] out, final int offsetOut, final int length) {
+        final int upperBound = SPECIES_DOUBLE.loopBound(length); //// codegen: subst:float:_DOUBLE:_FLOAT
+        int i = 0;
+        for (; i < upperBound; i += SPECIES_DOUBLE.length()) { //// codegen: subst:float:_DOUBLE:_FLOAT
+            DoubleVector.fromArray(SPECIES_DOUBLE, in, offsetIn + i).lanewise(VectorOperators.LOG10).mul((double) 20).intoArray(out, offsetOut + i); //// codegen: subst:float:_DOUBLE:_FLOAT
+        }
+        SCALAR.decibel(in, offsetIn + i, out, offsetOut + i, length - i);
+    }
+
+    @Override
+    public void divide(final double[] in, final int offsetIn, final double[] divisor, final int offsetDiv, final double[] out, final int offsetOut, final int length) {
+        final int upperBound = SPECIES_DOUBLE.loopBound(length); //// codegen: subst:float:_DOUBLE:_FLOAT
+        int i = 0;
+        for (; i < upperBound; i += SPECIES_DOUBLE.length()) { //// codegen: subst:float:_DOUBLE:_FLOAT
+            final DoubleVector a = DoubleVector.fromArray(SPECIES_DOUBLE, in, offsetIn + i); //// codegen: subst:float:_DOUBLE:_FLOAT
+            final DoubleVector b = DoubleVector.fromArray(SPECIES_DOUBLE, divisor, offsetDiv + i); //// codegen: subst:float:_DOUBLE:_FLOAT
+            a.div(b).intoArray(out, offsetOut + i);
+        }
+        SCALAR.divide(in, offsetIn + i, divisor, offsetDiv + i, out, offsetOut + i, length - i);
+    }
+
+    @Override
+    public void magnitude(final double[] complex, final int offsetIn, final double[] out, final int offsetOut, final int length) {
+        // block-wise: scalar de-interleaving of the squared magnitude followed by the vectorised square-root while in L1 cache
+        // N.B. cross-lane shuffles/gathers for the de-interleaving are slower (JDK 17); 'sqrt' is correctly rounded, ie. identical to the scalar kernel
+        for (int block = 0; block < length; block += BLOCK_SIZE) {
+            final int blockLength = Math.min(BLOCK_SIZE, length - block);
+            final int blockOffset = offsetOut + block;
+            for (int i = 0; i < blockLength; i++) {
+                final int i2 = offsetIn + ((block + i) << 1);
+                final double re = complex[i2];
+                final double im = complex[i2 + 1];
+                out[blockOffset + i] = re * re + im * im;
+            }
+            final int upperBound = SPECIES_DOUBLE.loopBound(blockLength); //// codegen: subst:float:_DOUBLE:_FLOAT
+            int i = 0;
+            for (; i < upperBound; i += SPECIES_DOUBLE.length()) { //// codegen: subst:float:_DOUBLE:_FLOAT
+                DoubleVector.fromArray(SPECIES_DOUBLE, out, blockOffset + i).lanewise(VectorOperators.SQRT).intoArray(out, blockOffset + i); //// codegen: subst:float:_DOUBLE:_FLOAT
+            }
+            for (; i < blockLength; i++) {
+                out[blockOffset + i] = (double) MathBase.sqrt(out[blockOffset + i]);
+            }
+        }
+    }
+
+    @Override
+    public void magnitudeDecibel(final double[] complex, final int offsetIn, final double[] out, final int offsetOut, final int length) {
+        // block-wise: scalar de-interleaving of the squared magnitude followed by the vectorised log10 while in L1 cache
+        for (int block = 0; block < length; block += BLOCK_SIZE) {
+            final int blockLength = Math.min(BLOCK_SIZE, length - block);
+            final int blockOffset = offsetOut + block;
+            for (int i = 0; i < blockLength; i++) {
+                final int i2 = offsetIn + ((block + i) << 1);
+                final double re = complex[i2];
+                final double im = complex[i2 + 1];
+                out[blockOffset + i] = re * re + im * im;
+            }
+            final int upperBound = SPECIES_DOUBLE.loopBound(blockLength); //// codegen: subst:float:_DOUBLE:_FLOAT
+            int i = 0;
+            for (; i < upperBound; i += SPECIES_DOUBLE.length()) { //// codegen: subst:float:_DOUBLE:_FLOAT
+                DoubleVector.fromArray(SPECIES_DOUBLE, out, blockOffset + i).lanewise(VectorOperators.LOG10).mul((double) 10).intoArray(out, blockOffset + i); //// codegen: subst:float:_DOUBLE:_FLOAT
+            }
+            for (; i < blockLength; i++) {
+                out[blockOffset + i] = (double) (10 * MathBase.log10(out[blockOffset + i]));
+            }
+        }
+    }
+
+    @Override
+    public void multiply(final double[] in, final int offsetIn, final double[] multiplicator, final int offsetMul, final double[] out, final int offsetOut, final int length) {
+        final int upperBound = SPECIES_DOUBLE.loopBound(length); //// codegen: subst:float:_DOUBLE:_FLOAT
+        int i = 0;
+        for (; i < upperBound; i += SPECIES_DOUBLE.length()) { //// codegen: subst:float:_DOUBLE:_FLOAT
+            final DoubleVector a = DoubleVector.fromArray(SPECIES_DOUBLE, in, offsetIn + i); //// codegen: subst:float:_DOUBLE:_FLOAT
+            final DoubleVector b = DoubleVector.fromArray(SPECIES_DOUBLE, multiplicator, offsetMul + i); //// codegen: subst:float:_DOUBLE:_FLOAT
+            a.mul(b).intoArray(out, offsetOut + i);
+        }
+        SCALAR.multiply(in, offsetIn + i, multiplicator, offsetMul + i, out, offsetOut + i, length - i);
+    }
+
+    @Override
+    public void multiply(final double[] in, final int offsetIn, final double multiplicator, final double[] out, final int offsetOut, final int length) {
+        final int upperBound = SPECIES_DOUBLE.loopBound(length); //// codegen: subst:float:_DOUBLE:_FLOAT
+        int i = 0;
+        for (; i < upperBound; i += SPECIES_DOUBLE.length()) { //// codegen: subst:float:_DOUBLE:_FLOAT
+            DoubleVector.fromArray(SPECIES_DOUBLE, in, offsetIn + i).mul(multiplicator).intoArray(out, offsetOut + i); //// codegen: subst:float:_DOUBLE:_FLOAT
+        }
+        SCALAR.multiply(in, offsetIn + i, multiplicator, out, offsetOut + i, length - i);
+    }
+
+    @Override
+    public void multiplyAdd(final double[] in, final int offsetIn, final double[] multiplicator, final int offsetMul, final double[] value, final int offsetValue, final double[] out, final int offsetOut, final int length) {
+        // N.B. separate 'mul' and 'add' rather than 'fma' to yield the same rounding as the scalar kernel
+        final int upperBound = SPECIES_DOUBLE.loopBound(length); //// codegen: subst:float:_DOUBLE:_FLOAT
+        int i = 0;
+        for (; i < upperBound; i += SPECIES_DOUBLE.length()) { //// codegen: subst:float:_DOUBLE:_FLOAT
+            final DoubleVector a = DoubleVector.fromArray(SPECIES_DOUBLE, in, offsetIn + i); //// codegen: subst:float:_DOUBLE:_FLOAT
+            final DoubleVector b = DoubleVector.fromArray(SPECIES_DOUBLE, multiplicator, offsetMul + i); //// codegen: subst:float:_DOUBLE:_FLOAT
+            final DoubleVector c = DoubleVector.fromArray(SPECIES_DOUBLE, value, offsetValue + i); //// codegen: subst:float:_DOUBLE:_FLOAT
+            a.mul(b).add(c).intoArray(out, offsetOut + i);
+        }
+        SCALAR.multiplyAdd(in, offsetIn + i, multiplicator, offsetMul + i, value, offsetValue + i, out, offsetOut + i, length - i);
+    }
+
+    @Override
+    public void subtract(final double[] in, final int offsetIn, final double[] value, final int offsetValue, final double[] out, final int offsetOut, final int length) {
+        final int upperBound = SPECIES_DOUBLE.loopBound(length); //// codegen: subst:float:_DOUBLE:_FLOAT
+        int i = 0;
+        for (; i < upperBound; i += SPECIES_DOUBLE.length()) { //// codegen: subst:float:_DOUBLE:_FLOAT
+            final DoubleVector a = DoubleVector.fromArray(SPECIES_DOUBLE, in, offsetIn + i); //// codegen: subst:float:_DOUBLE:_FLOAT
+            final DoubleVector b = DoubleVector.fromArray(SPECIES_DOUBLE, value, offsetValue + i); //// codegen: subst:float:_DOUBLE:_FLOAT
+            a.sub(b).intoArray(out, offsetOut + i);
+        }
+        SCALAR.subtract(in, offsetIn + i, value, offsetValue + i, out, offsetOut + i, length - i);
+    }
+    //// end codegen
+}
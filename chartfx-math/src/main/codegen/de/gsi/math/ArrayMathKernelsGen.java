@@ -0,0 +1,35 @@
+package de.gsi.math;
+
+/**
+ * Primitive array kernels used by {@link ArrayMathSimd}. All kernels write their result to the given output array,
+ * which may be identical to (one of) the input arrays for in-place operations. Range checks are performed by the
+ * caller.
+ *
+ * Complex input arrays are interleaved, i.e. {re0, im0, re1, im1, ...}, and 'length' refers to the number of complex
+ * values.
+ *
+ * @author rstein
+ */
+interface ArrayMathKernelsGen {
+    //// codegen: double -> float
+    void add(double[] in, int offsetIn, double[] value, int offsetValue, double[] out, int offsetOut, int length);
+
+    void add(double[] in, int offsetIn, double value, double[] out, int offsetOut, int length);
+
+    void decibel(double[] in, int offsetIn, double[] out, int offsetOut, int length);
+
+    void divide(double[] in, int offsetIn, double[] divisor, int offsetDiv, double[] out, int offsetOut, int length);
+
+    void magnitude(double[] complex, int offsetIn, double[] out, int offsetOut, int length);
+
+    void magnitudeDecibel(double[] complex, int offsetIn, double[] out, int offsetOut, int length);
+
+    void multiply(double[] in, int offsetIn, double[] multiplicator, int offsetMul, double[] out, int offsetOut, int length);
+
+    void multiply(double[] in, int offsetIn, double multiplicator, double[] out, int offsetOut, int length);
+
+    void multiplyAdd(double[] in, int offsetIn, double[] multiplicator, int offsetMul, double[] value, int offsetValue, double[] out, int offsetOut, int length);
+
+    void subtract(double[] in, int offsetIn, double[] value, int offsetValue, double[] out, int offsetOut, int length);
+    //// end codegen
+}
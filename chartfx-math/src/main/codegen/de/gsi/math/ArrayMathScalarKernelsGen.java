@@ -0,0 +1,88 @@
+package de.gsi.math;
+
+/**
+ * Plain-loop implementation of the {@link ArrayMathKernels}. This is the reference and fall-back implementation for
+ * JVMs without (enabled) 'jdk.incubator.vector' module and is kept simple enough for the JIT's auto-vectorisation.
+ *
+ * @author rstein
+ */
+final class ArrayMathScalarKernelsGen implements ArrayMathKernels {
+    //// codegen: double -> float
+    @Override
+    public void add(final double[] in, final int offsetIn, final double[] value, final int offsetValue, final double[] out, final int offsetOut, final int length) {
+        for (int i = 0; i < length; i++) {
+            out[i + offsetOut] = in[i + offsetIn] + value[i + offsetValue];
+        }
+    }
+
+    @Override
+    public void add(final double[] in, final int offsetIn, final double value, final double[] out, final int offsetOut, final int length) {
+        for (int i = 0; i < length; i++) {
+            out[i + offsetOut] = in[i + offsetIn] + value;
+        }
+    }
+
+    @Override
+    public void decibel(final double[] in, final int offsetIn, final double[] out, final int offsetOut, final int length) {
+        for (int i = 0; i < length; i++) {
+            out[i + offsetOut] = (double) (20 * MathBase.log10(in[i + offsetIn]));
+        }
+    }
+
+    @Override
+    public void divide(final double[] in, final int offsetIn, final double[] divisor, final int offsetDiv, final double[] out, final int offsetOut, final int length) {
+        for (int i = 0; i < length; i++) {
+            out[i + offsetOut] = in[i + offsetIn] / divisor[i + offsetDiv];
+        }
+    }
+
+    @Override
+    public void magnitude(final double[] complex, final int offsetIn, final double[] out, final int offsetOut, final int length) {
+        for (int i = 0; i < length; i++) {
+            final int i2 = offsetIn + (i << 1);
+            final double re = complex[i2];
+            final double im = complex[i2 + 1];
+            out[i + offsetOut] = (double) MathBase.sqrt(re * re + im * im);
+        }
+    }
+
+    @Override
+    public void magnitudeDecibel(final double[] complex, final int offsetIn, final double[] out, final int offsetOut, final int length) {
+        // 20*log10(sqrt(re^2 + im^2)) = 10*log10(re^2 + im^2) -> saves the square-root
+        for (int i = 0; i < length; i++) {
+            final int i2 = offsetIn + (i << 1);
+            final double re = complex[i2];
+            final double im = complex[i2 + 1];
+            out[i + offsetOut] = (double) (10 * MathBase.log10(re * re + im * im));
+        }
+    }
+
+    @Override
+    public void multiply(final double[] in, final int offsetIn, final double[] multiplicator, final int offsetMul, final double[] out, final int offsetOut, final int length) {
+        for (int i = 0; i < length; i++) {
+            out[i + offsetOut] = in[i + offsetIn] * multiplicator[i + offsetMul];
+        }
+    }
+
+    @Override
+    public void multiply(final double[] in, final int offsetIn, final double multiplicator, final double[] out, final int offsetOut, final int length) {
+        for (int i = 0; i < length; i++) {
+            out[i + offsetOut] = in[i + offsetIn] * multiplicator;
+        }
+    }
+
+    @Override
+    public void multiplyAdd(final double[] in, final int offsetIn, final double[] multiplicator, final int offsetMul, final double[] value, final int offsetValue, final double[] out, final int offsetOut, final int length) {
+        for (int i = 0; i < length; i++) {
+            out[i + offsetOut] = in[i + offsetIn] * multiplicator[i + offsetMul] + value[i + offsetValue];
+        }
+    }
+
+    @Override
+    public void subtract(final double[] in, final int offsetIn, final double[] value, final int offsetValue, final double[] out, final int offsetOut, final int length) {
+        for (int i = 0; i < length; i++) {
+            out[i + offsetOut] = in[i + offsetIn] - value[i + offsetValue];
+        }
+    }
+    //// end codegen
+}
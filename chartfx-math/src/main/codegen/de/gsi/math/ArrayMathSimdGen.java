@@ -0,0 +1,258 @@
+package de.gsi.math;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.gsi.dataset.utils.AssertUtils;
+
+/**
+ * Vectorised (SIMD) counterparts of the most frequently used {@link ArrayMath} functions for double and float arrays
+ * as well as fused kernels (e.g. multiply-add, magnitude-to-dB) that compute in a single rather than several passes
+ * over memory.
+ *
+ * The kernels are based on the 'jdk.incubator.vector' API if the library has been built with JDK 17+ and the module
+ * is enabled at run-time (ie. '--add-modules jdk.incubator.vector'). Otherwise, the plain scalar loops are used as a
+ * fall-back. Apart from the transcendental functions (log10), both implementations yield bit-identical results.
+ *
+ * @author rstein
+ */
+public final class ArrayMathSimdGen {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ArrayMathSimdGen.class);
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String VECTOR_KERNELS = "de.gsi.math.ArrayMathVectorKernels";
+    private static final int VECTOR_MIN_JDK_VERSION = 17;
+    private static final ArrayMathKernels KERNELS = getKernels();
+    private static final String IN = "in";
+    private static final String COMPLEX = "complex";
+    private static final String DIVISOR = "divisor";
+    private static final String MULTIPLICATOR = "multiplicator";
+    private static final String OUT = "out";
+    private static final String VALUE = "value";
+
+    private ArrayMathSimdGen() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * @return {@code true} if the kernels are based on the vector API, {@code false} if the scalar fall-back is used
+     */
+    public static boolean isVectorised() {
+        return !(KERNELS instanceof ArrayMathScalarKernels);
+    }
+
+    //// codegen: double -> float
+    public static double[] add(final double[] in, final double value) {
+        return add(in, 0, value, new double[in.length], 0, in.length);
+    }
+
+    public static double[] add(final double[] in, final double[] value) {
+        return add(in, 0, value, 0, new double[in.length], 0, in.length);
+    }
+
+    public static double[] add(final double[] in, final int offsetIn, final double value, final double[] out, final int offsetOut, final int length) {
+        checkRange(IN, in, offsetIn, length);
+        checkRange(OUT, out, offsetOut, length);
+        KERNELS.add(in, offsetIn, value, out, offsetOut, length);
+        return out;
+    }
+
+    public static double[] add(final double[] in, final int offsetIn, final double[] value, final int offsetValue, final double[] out, final int offsetOut, final int length) {
+        checkRange(IN, in, offsetIn, length);
+        checkRange(VALUE, value, offsetValue, length);
+        checkRange(OUT, out, offsetOut, length);
+        KERNELS.add(in, offsetIn, value, offsetValue, out, offsetOut, length);
+        return out;
+    }
+
+    public static double[] addInPlace(final double[] in, final double value) {
+        return add(in, 0, value, in, 0, in.length);
+    }
+
+    public static double[] addInPlace(final double[] in, final double[] value) {
+        return add(in, 0, value, 0, in, 0, in.length);
+    }
+
+    /**
+     * @param in input values
+     * @return 20*log10(in)
+     */
+    public static double[] decibel(final double[] in) {
+        return decibel(in, 0, new double[in.length], 0, in.length);
+    }
+
+    public static double[] decibel(final double[] in, final int offsetIn, final double[] out, final int offsetOut, final int length) {
+        checkRange(IN, in, offsetIn, length);
+        checkRange(OUT, out, offsetOut, length);
+        KERNELS.decibel(in, offsetIn, out, offsetOut, length);
+        return out;
+    }
+
+    public static double[] decibelInPlace(final double[] in) {
+        return decibel(in, 0, in, 0, in.length);
+    }
+
+    public static double[] divide(final double[] in, final double[] divisor) {
+        return divide(in, 0, divisor, 0, new double[in.length], 0, in.length);
+    }
+
+    public static double[] divide(final double[] in, final int offsetIn, final double[] divisor, final int offsetDiv, final double[] out, final int offsetOut, final int length) {
+        checkRange(IN, in, offsetIn, length);
+        checkRange(DIVISOR, divisor, offsetDiv, length);
+        checkRange(OUT, out, offsetOut, length);
+        KERNELS.divide(in, offsetIn, divisor, offsetDiv, out, offsetOut, length);
+        return out;
+    }
+
+    public static double[] divideInPlace(final double[] in, final double[] divisor) {
+        return divide(in, 0, divisor, 0, in, 0, in.length);
+    }
+
+    /**
+     * @param complex interleaved complex values {re0, im0, re1, im1, ...}
+     * @return sqrt(re^2 + im^2)
+     */
+    public static double[] magnitude(final double[] complex) {
+        return magnitude(complex, 0, new double[complex.length / 2], 0, complex.length / 2);
+    }
+
+    /**
+     * @param complex interleaved complex values {re0, im0, re1, im1, ...}
+     * @param offsetIn index of the first real value in 'complex'
+     * @param out output array
+     * @param offsetOut index of the first output value
+     * @param length number of complex values
+     * @return the output array 'out' containing sqrt(re^2 + im^2)
+     */
+    public static double[] magnitude(final double[] complex, final int offsetIn, final double[] out, final int offsetOut, final int length) {
+        checkRange(COMPLEX, complex, offsetIn, 2 * length);
+        checkRange(OUT, out, offsetOut, length);
+        KERNELS.magnitude(complex, offsetIn, out, offsetOut, length);
+        return out;
+    }
+
+    /**
+     * @param complex interleaved complex values {re0, im0, re1, im1, ...}
+     * @return 20*log10(sqrt(re^2 + im^2)) computed as 10*log10(re^2 + im^2)
+     */
+    public static double[] magnitudeDecibel(final double[] complex) {
+        return magnitudeDecibel(complex, 0, new double[complex.length / 2], 0, complex.length / 2);
+    }
+
+    /**
+     * @param complex interleaved complex values {re0, im0, re1, im1, ...}
+     * @param offsetIn index of the first real value in 'complex'
+     * @param out output array
+     * @param offsetOut index of the first output value
+     * @param length number of complex values
+     * @return the output array 'out' containing 20*log10(sqrt(re^2 + im^2)) computed as 10*log10(re^2 + im^2)
+     */
+    public static double[] magnitudeDecibel(final double[] complex, final int offsetIn, final double[] out, final int offsetOut, final int length) {
+        checkRange(COMPLEX, complex, offsetIn, 2 * length);
+        checkRange(OUT, out, offsetOut, length);
+        KERNELS.magnitudeDecibel(complex, offsetIn, out, offsetOut, length);
+        return out;
+    }
+
+    public static double[] multiply(final double[] in, final double multiplicator) {
+        return multiply(in, 0, multiplicator, new double[in.length], 0, in.length);
+    }
+
+    public static double[] multiply(final double[] in, final double[] multiplicator) {
+        return multiply(in, 0, multiplicator, 0, new double[in.length], 0, in.length);
+    }
+
+    public static double[] multiply(final double[] in, final int offsetIn, final double multiplicator, final double[] out, final int offsetOut, final int length) {
+        checkRange(IN, in, offsetIn, length);
+        checkRange(OUT, out, offsetOut, length);
+        KERNELS.multiply(in, offsetIn, multiplicator, out, offsetOut, length);
+        return out;
+    }
+
+    public static double[] multiply(final double[] in, final int offsetIn, final double[] multiplicator, final int offsetMul, final double[] out, final int offsetOut, final int length) {
+        checkRange(IN, in, offsetIn, length);
+        checkRange(MULTIPLICATOR, multiplicator, offsetMul, length);
+        checkRange(OUT, out, offsetOut, length);
+        KERNELS.multiply(in, offsetIn, multiplicator, offsetMul, out, offsetOut, length);
+        return out;
+    }
+
+    /**
+     * @param in input values
+     * @param multiplicator multiplicator values
+     * @param value values to be added
+     * @return in * multiplicator + value (N.B. two roundings, ie. not an 'fma')
+     */
+    public static double[] multiplyAdd(final double[] in, final double[] multiplicator, final double[] value) {
+        return multiplyAdd(in, 0, multiplicator, 0, value, 0, new double[in.length], 0, in.length);
+    }
+
+    public static double[] multiplyAdd(final double[] in, final int offsetIn, final double[] multiplicator, final int offsetMul, final double[] value, final int offsetValue, final double[] out, final int offsetOut, final int length) {
+        checkRange(IN, in, offsetIn, length);
+        checkRange(MULTIPLICATOR, multiplicator, offsetMul, length);
+        checkRange(VALUE, value, offsetValue, length);
+        checkRange(OUT, out, offsetOut, length);
+        KERNELS.multiplyAdd(in, offsetIn, multiplicator, offsetMul, value, offsetValue, out, offsetOut, length);
+        return out;
+    }
+
+    public static double[] multiplyAddInPlace(final double[] in, final double[] multiplicator, final double[] value) {
+        return multiplyAdd(in, 0, multiplicator, 0, value, 0, in, 0, in.length);
+    }
+
+    public static double[] multiplyInPlace(final double[] in, final double multiplicator) {
+        return multiply(in, 0, multiplicator, in, 0, in.length);
+    }
+
+    public static double[] multiplyInPlace(final double[] in, final double[] multiplicator) {
+        return multiply(in, 0, multiplicator, 0, in, 0, in.length);
+    }
+
+    public static double[] subtract(final double[] in, final double value) {
+        // N.B. in - value == in + (-value) for all IEEE 754 values
+        return add(in, 0, -value, new double[in.length], 0, in.length);
+    }
+
+    public static double[] subtract(final double[] in, final double[] value) {
+        return subtract(in, 0, value, 0, new double[in.length], 0, in.length);
+    }
+
+    public static double[] subtract(final double[] in, final int offsetIn, final double[] value, final int offsetValue, final double[] out, final int offsetOut, final int length) {
+        checkRange(IN, in, offsetIn, length);
+        checkRange(VALUE, value, offsetValue, length);
+        checkRange(OUT, out, offsetOut, length);
+        KERNELS.subtract(in, offsetIn, value, offsetValue, out, offsetOut, length);
+        return out;
+    }
+
+    public static double[] subtractInPlace(final double[] in, final double value) {
+        return add(in, 0, -value, in, 0, in.length);
+    }
+
+    public static double[] subtractInPlace(final double[] in, final double[] value) {
+        return subtract(in, 0, value, 0, in, 0, in.length);
+    }
+
+    private static void checkRange(final String name, final double[] array, final int offset, final int length) {
+        AssertUtils.notNull(name, array);
+        AssertUtils.gtEqThanZero(name, offset);
+        AssertUtils.gtEqThanZero(name, length);
+        AssertUtils.gtOrEqual(name, length + offset, array.length);
+    }
+    //// end codegen
+
+    private static ArrayMathKernels getKernels() {
+        if (Runtime.version().feature() >= VECTOR_MIN_JDK_VERSION && ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+            try {
+                return (ArrayMathKernels) Class.forName(VECTOR_KERNELS).getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // library built without JDK 17+ profile or incompatible incubator API
+                if (LOGGER.isWarnEnabled()) {
+                    LOGGER.atWarn().setCause(e).log("could not initialise vectorised kernels - using scalar fall-back");
+                }
+            }
+        } else if (LOGGER.isDebugEnabled()) {
+            LOGGER.atDebug().addArgument(VECTOR_MODULE).log("module '{}' not available - using scalar fall-back");
+        }
+        return new ArrayMathScalarKernels();
+    }
+}
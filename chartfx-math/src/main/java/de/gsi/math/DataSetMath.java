@@ -24,9 +24,12 @@ import de.gsi.dataset.spi.DoubleDataSet;
 import de.gsi.dataset.spi.DoubleErrorDataSet;
 import de.gsi.dataset.spi.Histogram;
 import de.gsi.dataset.spi.utils.DoublePointError;
+import de.gsi.dataset.utils.DoubleArrayCache;
 import de.gsi.dataset.utils.NoDuplicatesList;
+import de.gsi.math.filter.SlidingWindowFilter;
 import de.gsi.math.spectra.Apodization;
 import de.gsi.math.spectra.SpectrumTools;
+import de.gsi.math.spectra.fft.FftPlanCache;
 
 /**
  * Some math operation on DataSet, DataSetError and Histogram
@@ -400,6 +403,16 @@ public final class DataSetMath { // NOPMD - nomen est omen
         }
     }
 
+    /**
+     * Sliding-window filter: for each sample x0 the filter operation is applied to all samples within |x - x0| &lt;= width.
+     * N.B. see {@link SlidingWindowFilter} for the O(n) or O(n log w) implementation on sorted x-coordinates and its use
+     * as incremental {@link MathDataSet} transform for growing data sets
+     *
+     * @param function the input data set
+     * @param width the window half-width in units of the x-coordinate
+     * @param filterType the filter operation
+     * @return new filtered data set
+     */
     public static DataSet filterFunction(final DataSet function, final double width, final Filter filterType) {
         final int n = function.getDataCount();
         final DoubleErrorDataSet filteredFunction = new DoubleErrorDataSet(filterType.getTag() + "(" + function.getName() + "," + width + ")", n);
@@ -407,65 +420,8 @@ public final class DataSetMath { // NOPMD - nomen est omen
             final AxisDescription refAxisDescription = function.getAxisDescription(dim);
             filteredFunction.getAxisDescription(dim).set(refAxisDescription.getName(), refAxisDescription.getUnit());
         }
-        final double[] subArrayY = new double[n];
-        final double[] subArrayYn = new double[n];
-        final double[] subArrayYp = new double[n];
-
-        final double[] xValues = function.getValues(DIM_X);
-        final double[] yValues = function.getValues(DIM_Y);
-        final double[] yen = errors(function, EYN);
-        final double[] yep = errors(function, EYN);
 
-        for (int i = 0; i < n; i++) {
-            final double time0 = xValues[i];
-
-            int count = 0;
-            for (int j = 0; j < n; j++) {
-                final double time = xValues[j];
-                if (MathBase.abs(time0 - time) <= width) {
-                    subArrayY[count] = yValues[j];
-                    subArrayYn[count] = yen[j];
-                    subArrayYp[count] = yep[j];
-                    count++;
-                }
-            }
-
-            final double norm = count > 0 ? 1.0 / MathBase.sqrt(count) : 0.0;
-
-            switch (filterType) {
-            case MEDIAN:
-                filteredFunction.add(time0, Math.median(subArrayY, count), Math.median(subArrayYn, count),
-                        Math.median(subArrayYp, count));
-                break;
-            case MIN:
-                filteredFunction.add(time0, Math.minimum(subArrayY, count), Math.minimum(subArrayYn, count),
-                        Math.minimum(subArrayYp, count));
-                break;
-            case MAX:
-                filteredFunction.add(time0, Math.maximum(subArrayY, count), Math.maximum(subArrayYn, count),
-                        Math.maximum(subArrayYp, count));
-                break;
-            case P2P:
-                filteredFunction.add(time0, Math.peakToPeak(subArrayY, count), Math.peakToPeak(subArrayYn, count),
-                        Math.peakToPeak(subArrayYp, count));
-                break;
-            case RMS:
-                filteredFunction.add(time0, Math.rms(subArrayY, count), Math.rms(subArrayYn, count),
-                        Math.rms(subArrayYp, count));
-                break;
-            case GEOMMEAN:
-                filteredFunction.add(time0, Math.geometricMean(subArrayY, 0, count),
-                        Math.geometricMean(subArrayYn, 0, count), Math.geometricMean(subArrayYp, 0, count));
-                break;
-            case MEAN:
-            default:
-                filteredFunction.add(time0, Math.mean(subArrayY, count), Math.mean(subArrayYn, count) * norm,
-                        Math.mean(subArrayYp, count) * norm);
-                break;
-            }
-        }
-
-        return filteredFunction;
+        return SlidingWindowFilter.apply(filterType, width, function, filteredFunction);
     }
 
     public static DataSet geometricMeanFilteredFunction(final DataSet function, final double width) {
@@ -783,30 +739,37 @@ public final class DataSetMath { // NOPMD - nomen est omen
             final boolean dbScale, final boolean normalisedFrequency) {
         final int n = function.getDataCount();
 
-        final DoubleFFT_1D fastFourierTrafo = new DoubleFFT_1D(n);
+        final DoubleFFT_1D fastFourierTrafo = FftPlanCache.getRealPlan(n);
 
         // N.B. since realForward computes the FFT in-place -> generate a copy
-        final double[] fftSpectra = new double[n];
+        // N.B. cached array may be larger than 'n', only the first 'n' samples are used by the plan
+        final double[] fftSpectra = DoubleArrayCache.getInstance().getArray(n);
+        final double[] window = apodization.getWindow(n);
         for (int i = 0; i < n; i++) {
-            final double window = apodization.getIndex(i, n);
-            fftSpectra[i] = function.get(DIM_Y, i) * window;
+            fftSpectra[i] = function.get(DIM_Y, i) * window[i];
         }
 
         fastFourierTrafo.realForward(fftSpectra);
-        final double[] mag = dbScale ? SpectrumTools.computeMagnitudeSpectrum_dB(fftSpectra, true)
-                                     : SpectrumTools.computeMagnitudeSpectrum(fftSpectra, true);
+        final int nMag = n / 2;
+        final double[] mag = new double[nMag];
+        if (dbScale) {
+            SpectrumTools.computeMagnitudeSpectrum_dB(fftSpectra, 0, n, mag, 0, true);
+        } else {
+            SpectrumTools.computeMagnitudeSpectrum(fftSpectra, 0, n, mag, 0, true);
+        }
+        DoubleArrayCache.getInstance().add(fftSpectra);
+
         final double dt = function.get(DIM_X, function.getDataCount() - 1) - function.get(DIM_X, 0);
-        final double fsampling = normalisedFrequency || dt <= 0 ? 0.5 / mag.length : 1.0 / dt;
+        final double fsampling = normalisedFrequency || dt <= 0 ? 0.5 / nMag : 1.0 / dt;
 
         final String functionName = "Mag" + (dbScale ? "[dB]" : "") + "(" + function.getName() + ")";
 
-        final DoubleErrorDataSet ret = new DoubleErrorDataSet(functionName, mag.length);
-        for (int i = 0; i < mag.length; i++) {
-            // TODO: consider magnitude error estimate
-            ret.add(i * fsampling, mag[i], 0, 0);
+        final double[] frequency = new double[nMag];
+        for (int i = 0; i < nMag; i++) {
+            frequency[i] = i * fsampling;
         }
-
-        return ret;
+        // TODO: consider magnitude error estimate
+        return new DoubleErrorDataSet(functionName, frequency, mag, new double[nMag], new double[nMag], nMag, false);
     }
 
     public static DataSet magnitudeSpectrumComplex(final DataSet function) {
@@ -817,35 +780,41 @@ public final class DataSetMath { // NOPMD - nomen est omen
             final boolean dbScale, final boolean normalisedFrequency) {
         final int n = function.getDataCount();
 
-        final DoubleFFT_1D fastFourierTrafo = new DoubleFFT_1D(n);
+        final DoubleFFT_1D fastFourierTrafo = FftPlanCache.getComplexPlan(n);
 
-        // N.B. since realForward computes the FFT in-place -> generate a copy
-        final double[] fftSpectra = new double[2 * n];
+        // N.B. since complexForward computes the FFT in-place -> generate a copy
+        // N.B. cached arrays may be larger than requested, only the first '2*n' samples are used by the plan
+        final double[] fftSpectra = DoubleArrayCache.getInstance().getArray(2 * n);
+        final double[] window = apodization.getWindow(n);
         for (int i = 0; i < n; i++) {
-            final double window = apodization.getIndex(i, n);
-            fftSpectra[2 * i] = function.get(DIM_Y, i) * window;
-            fftSpectra[2 * i + 1] = function.get(DIM_Z, i) * window;
+            fftSpectra[2 * i] = function.get(DIM_Y, i) * window[i];
+            fftSpectra[2 * i + 1] = function.get(DIM_Z, i) * window[i];
         }
 
         fastFourierTrafo.complexForward(fftSpectra);
-        final double[] mag = dbScale ? SpectrumTools.computeMagnitudeSpectrum_dB(fftSpectra, true)
-                                     : SpectrumTools.computeMagnitudeSpectrum(fftSpectra, true);
+        final double[] mag = DoubleArrayCache.getInstance().getArray(n);
+        if (dbScale) {
+            SpectrumTools.computeMagnitudeSpectrum_dB(fftSpectra, 0, 2 * n, mag, 0, true);
+        } else {
+            SpectrumTools.computeMagnitudeSpectrum(fftSpectra, 0, 2 * n, mag, 0, true);
+        }
+        DoubleArrayCache.getInstance().add(fftSpectra);
+
         final double dt = function.get(DIM_X, function.getDataCount() - 1) - function.get(DIM_X, 0);
-        final double fsampling = normalisedFrequency || dt <= 0 ? 0.5 / mag.length : 1.0 / dt;
+        final double fsampling = normalisedFrequency || dt <= 0 ? 0.5 / n : 1.0 / dt;
 
         final String functionName = "Mag" + (dbScale ? "[dB]" : "") + "(" + function.getName() + ")";
 
-        final DoubleErrorDataSet ret = new DoubleErrorDataSet(functionName, mag.length);
-        for (int i = 0; i < mag.length; i++) {
-            // TODO: consider magnitude error estimate
-            if (i < mag.length / 2) {
-                ret.add((i - mag.length / 2.0) * fsampling, mag[i + mag.length / 2], 0, 0);
-            } else {
-                ret.add((i - mag.length / 2.0) * fsampling, mag[i - mag.length / 2], 0, 0);
-            }
+        final double[] frequency = new double[n];
+        final double[] magnitude = new double[n];
+        for (int i = 0; i < n; i++) {
+            frequency[i] = (i - n / 2.0) * fsampling;
+            magnitude[i] = i < n / 2 ? mag[i + n / 2] : mag[i - n / 2];
         }
+        DoubleArrayCache.getInstance().add(mag);
 
-        return ret;
+        // TODO: consider magnitude error estimate
+        return new DoubleErrorDataSet(functionName, frequency, magnitude, new double[n], new double[n], n, false);
     }
 
     public static DataSet magnitudeSpectrumDecibel(final DataSet function) {
@@ -928,14 +897,14 @@ public final class DataSetMath { // NOPMD - nomen est omen
         final int ncount = function.getDataCount();
         switch (op) {
         case ADD:
-            return new DoubleErrorDataSet(functionName, function.getValues(DIM_X), ArrayMath.add(y, value), eyn, eyp,
+            return new DoubleErrorDataSet(functionName, function.getValues(DIM_X), ArrayMathSimd.add(y, value), eyn, eyp,
                     ncount, true);
         case SUBTRACT:
-            return new DoubleErrorDataSet(functionName, function.getValues(DIM_X), ArrayMath.subtract(y, value), eyn, eyp,
+            return new DoubleErrorDataSet(functionName, function.getValues(DIM_X), ArrayMathSimd.subtract(y, value), eyn, eyp,
                     ncount, true);
         case MULTIPLY:
-            return new DoubleErrorDataSet(functionName, function.getValues(DIM_X), ArrayMath.multiply(y, value),
-                    ArrayMath.multiply(eyn, value), ArrayMath.multiply(eyp, value), ncount, true);
+            return new DoubleErrorDataSet(functionName, function.getValues(DIM_X), ArrayMathSimd.multiply(y, value),
+                    ArrayMathSimd.multiplyInPlace(eyn, value), ArrayMathSimd.multiplyInPlace(eyp, value), ncount, true);
         case DIVIDE:
             return new DoubleErrorDataSet(functionName, function.getValues(DIM_X), ArrayMath.divide(y, value),
                     ArrayMath.divide(eyn, value), ArrayMath.divide(eyp, value), ncount, true);
@@ -10,6 +10,7 @@ import java.util.stream.Collectors;
 import de.gsi.dataset.DataSet;
 import de.gsi.dataset.DataSetError;
 import de.gsi.dataset.event.AddedDataEvent;
+import de.gsi.dataset.event.CoalescingEventDispatcher;
 import de.gsi.dataset.event.EventListener;
 import de.gsi.dataset.event.EventRateLimiter;
 import de.gsi.dataset.event.EventRateLimiter.UpdateStrategy;
@@ -21,7 +22,9 @@ import de.gsi.dataset.spi.DoubleErrorDataSet;
 /**
  * DataSet that automatically transforms source DataSet accordance to
  * DataSetFunction or DataSetValueFunction definition. An optional rate limit is
- * available to limit the number of redundant (GUI) updates if desired.
+ * available to limit the number of redundant (GUI) updates if desired. Alternatively,
+ * source events may be coalesced via the {@link CoalescingEventDispatcher} (see
+ * {@link #setEventCoalescing(boolean)}).
  *
  * @author rstein
  */
@@ -29,6 +32,9 @@ public class MathDataSet extends DoubleErrorDataSet {
     private static final long serialVersionUID = -4978160822533565009L;
     private static final long DEFAULT_UPDATE_LIMIT = 40;
     private final transient EventListener eventListener;
+    private final transient EventListener updateListener;
+    private final transient EventListener coalescedUpdateListener;
+    private transient volatile boolean eventCoalescing;
     private final transient List<DataSet> sourceDataSets;
     private final transient DataSetFunction dataSetFunction;
     private final transient DataSetsFunction dataSetsFunction;
@@ -134,10 +140,12 @@ public class MathDataSet extends DoubleErrorDataSet {
         }
 
         if (minUpdatePeriod > 0) {
-            eventListener = new EventRateLimiter(this::handle, this.minUpdatePeriod, this.updateStrategy);
+            updateListener = new EventRateLimiter(this::handle, this.minUpdatePeriod, this.updateStrategy);
         } else {
-            eventListener = this::handle;
+            updateListener = this::handle;
         }
+        coalescedUpdateListener = CoalescingEventDispatcher.getDefault().wrap(updateListener);
+        eventListener = evt -> (eventCoalescing ? coalescedUpdateListener : updateListener).handle(evt);
         registerListener(); // NOPMD
 
         // exceptionally call handler during DataSet creation
@@ -152,10 +160,26 @@ public class MathDataSet extends DoubleErrorDataSet {
         return sourceDataSets;
     }
 
+    /**
+     * @return {@code true} if the source events are coalesced by the {@link CoalescingEventDispatcher}
+     */
+    public boolean isEventCoalescing() {
+        return eventCoalescing;
+    }
+
     public final void registerListener() {
         sourceDataSets.forEach(srcDataSet -> srcDataSet.addListener(eventListener));
     }
 
+    /**
+     * @param state {@code true}: source events are coalesced by the default {@link CoalescingEventDispatcher} so that
+     *            the transform is recomputed at most once per dispatcher tick, {@code false} (default): source events
+     *            are handled immediately (or rate-limited if a minimum update period has been specified)
+     */
+    public void setEventCoalescing(final boolean state) {
+        eventCoalescing = state;
+    }
+
     private void handleDataSetValueFunctionInterface() {
         final DataSet dataSet = sourceDataSets.get(0);
         final int length = dataSet.getDataCount();
@@ -0,0 +1,587 @@
+package de.gsi.math.filter;
+
+import static de.gsi.dataset.DataSet.DIM_X;
+import static de.gsi.dataset.DataSet.DIM_Y;
+
+import java.util.Arrays;
+import java.util.List;
+
+import de.gsi.dataset.DataSet;
+import de.gsi.dataset.spi.DoubleErrorDataSet;
+import de.gsi.dataset.utils.AssertUtils;
+import de.gsi.math.DataSetMath;
+import de.gsi.math.DataSetMath.ErrType;
+import de.gsi.math.DataSetMath.Filter;
+import de.gsi.math.MathDataSet;
+
+/**
+ * Streaming sliding-window filter engine used by {@link DataSetMath#filterFunction(DataSet, double, Filter)}.
+ * <p>
+ * For each sample {@code x0} the filter is evaluated on all samples with {@code |x - x0| <= width}. For sorted
+ * x-coordinates a two-pointer window is moved across the data set so that each sample enters and leaves the window
+ * exactly once:
+ * <ul>
+ * <li>MEAN, RMS, GEOMMEAN: running (compensated) sums, O(1) per sample,</li>
+ * <li>MIN, MAX, P2P: monotonic index deques, amortised O(1) per sample,</li>
+ * <li>MEDIAN: Fenwick-tree based order-statistic over the value ranks, O(log n) per sample.</li>
+ * </ul>
+ * Unsorted data falls back to the brute-force O(n^2) window search.
+ * <p>
+ * Instances keep track of the last processed source sample so that consecutive {@link #apply(DataSet, DoubleErrorDataSet)}
+ * calls on a growing data set only re-filter the tail that is affected by the newly appended samples. N.B. already
+ * processed samples are assumed to be unchanged if the data set grew and its last previously seen sample is unchanged;
+ * call {@link #invalidate()} if this is not the case. The filter may be directly used as {@link MathDataSet} transform,
+ * e.g.:
+ *
+ * <pre>
+ * final MathDataSet filtered = new MathDataSet("median", new SlidingWindowFilter(Filter.MEDIAN, 0.5), source);
+ * </pre>
+ *
+ * @author rstein
+ */
+public class SlidingWindowFilter implements MathDataSet.DataSetsFunction {
+    private final Filter filterType;
+    private final double width;
+    private int lastCount;
+    private double lastX = Double.NaN;
+    private double lastY = Double.NaN;
+
+    /**
+     * @param filterType the filter operation to be applied
+     * @param width the window half-width in units of the x-coordinate
+     */
+    public SlidingWindowFilter(final Filter filterType, final double width) {
+        AssertUtils.notNull("filterType", filterType);
+        this.filterType = filterType;
+        this.width = width;
+    }
+
+    /**
+     * Filters the source data set into the target data set. If the source only grew since the last call, only the
+     * affected tail of the target is recomputed.
+     *
+     * @param source the input data set
+     * @param target the output data set (N.B. should be used exclusively with this filter instance)
+     * @return the target data set (fluent design)
+     */
+    public DoubleErrorDataSet apply(final DataSet source, final DoubleErrorDataSet target) {
+        return apply(filterType, width, source, target, this);
+    }
+
+    public Filter getFilterType() {
+        return filterType;
+    }
+
+    public double getWidth() {
+        return width;
+    }
+
+    /**
+     * forces a full re-computation on the next {@link #apply(DataSet, DoubleErrorDataSet)} call
+     */
+    public void invalidate() {
+        lastCount = 0;
+        lastX = Double.NaN;
+        lastY = Double.NaN;
+    }
+
+    /**
+     * Incrementally filters the first input data set into the output data set of a {@link MathDataSet} chain.
+     *
+     * @param inputDataSet the source data sets (only the first is used)
+     * @param outputDataSet the {@link MathDataSet} holding this filter
+     */
+    @Override
+    public void transform(final List<DataSet> inputDataSet, final MathDataSet outputDataSet) {
+        if (inputDataSet.isEmpty()) {
+            return;
+        }
+        apply(inputDataSet.get(0), outputDataSet);
+    }
+
+    private int getFirstModifiedIndex(final DataSet target, final double[] xValues, final double[] yValues, final int n) {
+        if (lastCount <= 0 || lastCount >= n || target.getDataCount() != lastCount) {
+            return 0;
+        }
+        if (Double.compare(xValues[lastCount - 1], lastX) != 0 || Double.compare(yValues[lastCount - 1], lastY) != 0) {
+            return 0;
+        }
+        // all outputs with x >= x_new - width see at least one new sample
+        return firstIndexWithin(xValues, 0, lastCount, xValues[lastCount], width);
+    }
+
+    /**
+     * Filters the source data set into the target data set without keeping any state between calls.
+     *
+     * @param filterType the filter operation
+     * @param width the window half-width in units of the x-coordinate
+     * @param source the input data set
+     * @param target the output data set
+     * @return the target data set (fluent design)
+     */
+    public static DoubleErrorDataSet apply(final Filter filterType, final double width, final DataSet source, final DoubleErrorDataSet target) {
+        AssertUtils.notNull("filterType", filterType);
+        return apply(filterType, width, source, target, null);
+    }
+
+    /**
+     * Applies the sliding-window filter to the given array.
+     *
+     * @param filterType the filter operation
+     * @param width the window half-width in units of the x-coordinate
+     * @param xValues the (preferably sorted) x-coordinates
+     * @param values the values to be filtered
+     * @param length number of valid samples in xValues and values
+     * @param output the filtered values (needs to be at least of size 'toIndex')
+     * @param fromIndex first output index to be computed
+     * @param toIndex last output index (exclusive) to be computed
+     * @param isValue {@code true}: filter values, {@code false}: filter errors (for MEAN the error is scaled by
+     *            1/sqrt(n))
+     */
+    public static void filter(final Filter filterType, final double width, final double[] xValues, final double[] values, final int length, final double[] output,
+            final int fromIndex, final int toIndex, final boolean isValue) {
+        AssertUtils.indexInBounds(length, Math.min(xValues.length, values.length) + 1, "length");
+        AssertUtils.indexInBounds(toIndex, Math.min(length, output.length) + 1, "toIndex");
+        AssertUtils.indexOrder(fromIndex, "fromIndex", toIndex, "toIndex");
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        if (!isSorted(xValues, length)) {
+            final Window window = createWindow(filterType, values, 0, length);
+            for (int i = fromIndex; i < toIndex; i++) {
+                window.clear();
+                for (int j = 0; j < length; j++) {
+                    if (Math.abs(xValues[i] - xValues[j]) <= width) {
+                        window.add(j);
+                    }
+                }
+                output[i] = result(filterType, window, isValue);
+            }
+            return;
+        }
+
+        int lower = firstIndexWithin(xValues, 0, fromIndex, xValues[fromIndex], width);
+        int upper = lower;
+        final int maxUpper = firstIndexBeyond(xValues, toIndex - 1, length, xValues[toIndex - 1], width);
+        final Window window = createWindow(filterType, values, lower, maxUpper);
+        for (int i = fromIndex; i < toIndex; i++) {
+            final double x0 = xValues[i];
+            while (upper < length && xValues[upper] - x0 <= width) {
+                window.add(upper++);
+            }
+            while (x0 - xValues[lower] > width) {
+                window.remove(lower++);
+            }
+            output[i] = result(filterType, window, isValue);
+        }
+    }
+
+    protected static boolean isSorted(final double[] xValues, final int length) {
+        for (int i = 1; i < length; i++) {
+            if (!(xValues[i] >= xValues[i - 1])) { // NOPMD - also catches NaNs
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return first index in [fromIndex, toIndex) for which {@code x0 - xValues[index] <= width} (N.B. same floating-point
+     *         expression as used by the window loop)
+     */
+    protected static int firstIndexWithin(final double[] xValues, final int fromIndex, final int toIndex, final double x0, final double width) {
+        int low = fromIndex;
+        int high = toIndex;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (x0 - xValues[mid] > width) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @return first index in [fromIndex, toIndex) for which {@code xValues[index] - x0 > width} (N.B. same floating-point
+     *         expression as used by the window loop)
+     */
+    protected static int firstIndexBeyond(final double[] xValues, final int fromIndex, final int toIndex, final double x0, final double width) {
+        int low = fromIndex;
+        int high = toIndex;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (xValues[mid] - x0 <= width) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static DoubleErrorDataSet apply(final Filter filterType, final double width, final DataSet source, final DoubleErrorDataSet target, final SlidingWindowFilter state) {
+        AssertUtils.notNull("source", source);
+        AssertUtils.notNull("target", target);
+        source.lock().readLockGuard(() -> target.lock().writeLockGuard(() -> {
+            final int n = source.getDataCount();
+            final double[] xValues = source.getValues(DIM_X);
+            final double[] yValues = source.getValues(DIM_Y);
+            final double[] yen = DataSetMath.errors(source, ErrType.EYN);
+            final double[] yep = DataSetMath.errors(source, ErrType.EYP);
+            final boolean sorted = isSorted(xValues, n);
+
+            final int fromIndex = sorted && state != null ? state.getFirstModifiedIndex(target, xValues, yValues, n) : 0;
+            if (fromIndex > 0 && target.getCapacity() < n) {
+                target.increaseCapacity(n - target.getCapacity());
+            }
+            final double[] yOut = fromIndex > 0 ? target.getValues(DIM_Y) : new double[n];
+            final double[] yenOut = fromIndex > 0 ? target.getErrorsNegative(DIM_Y) : new double[n];
+            final double[] yepOut = fromIndex > 0 ? target.getErrorsPositive(DIM_Y) : new double[n];
+
+            filter(filterType, width, xValues, yValues, n, yOut, fromIndex, n, true);
+            filter(filterType, width, xValues, yen, n, yenOut, fromIndex, n, false);
+            filter(filterType, width, xValues, yep, n, yepOut, fromIndex, n, false);
+
+            final double[] xOut = fromIndex > 0 ? target.getValues(DIM_X) : new double[n];
+            System.arraycopy(xValues, fromIndex, xOut, fromIndex, n - fromIndex);
+            target.set(xOut, yOut, yenOut, yepOut, n, false); // N.B. zero-copy re-use of (existing) arrays
+
+            if (state != null) {
+                state.lastCount = n;
+                state.lastX = n > 0 ? xValues[n - 1] : Double.NaN;
+                state.lastY = n > 0 ? yValues[n - 1] : Double.NaN;
+            }
+        }));
+        return target;
+    }
+
+    private static Window createWindow(final Filter filterType, final double[] values, final int fromIndex, final int toIndex) {
+        switch (filterType) {
+        case MEDIAN:
+            return new MedianWindow(values, fromIndex, toIndex);
+        case MIN:
+        case MAX:
+        case P2P:
+            return new ExtremumWindow(values, toIndex);
+        case RMS:
+        case GEOMMEAN:
+        case MEAN:
+        default:
+            return new MomentWindow(values);
+        }
+    }
+
+    private static double result(final Filter filterType, final Window window, final boolean isValue) {
+        switch (filterType) {
+        case MEDIAN:
+            return ((MedianWindow) window).median();
+        case MIN:
+            return ((ExtremumWindow) window).minimum();
+        case MAX:
+            return ((ExtremumWindow) window).maximum();
+        case P2P:
+            return Math.abs(((ExtremumWindow) window).maximum() - ((ExtremumWindow) window).minimum());
+        case RMS:
+            return ((MomentWindow) window).rms();
+        case GEOMMEAN:
+            return ((MomentWindow) window).geometricMean();
+        case MEAN:
+        default:
+            final MomentWindow moments = (MomentWindow) window;
+            return isValue || moments.count == 0 ? moments.mean() : moments.mean() / Math.sqrt(moments.count);
+        }
+    }
+
+    /**
+     * running sums for mean, rms and geometric mean. N.B. only finite samples enter the running sums since a NaN or
+     * infinite sample could not be removed from them again (e.g. Inf - Inf = NaN), non-finite samples are counted
+     * separately and yield the same result as the plain (non-compensated) summation over the window.
+     */
+    private static class MomentWindow implements Window {
+        private final double[] values;
+        private int count;
+        private int zeroCount;
+        private int nanCount;
+        private int positiveInfCount;
+        private int negativeInfCount;
+        private final KahanSum sum = new KahanSum();
+        private final KahanSum sum2 = new KahanSum();
+        private final KahanSum logSum = new KahanSum();
+
+        protected MomentWindow(final double[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public void add(final int index) {
+            update(values[index], +1);
+        }
+
+        @Override
+        public void clear() {
+            count = 0;
+            zeroCount = 0;
+            nanCount = 0;
+            positiveInfCount = 0;
+            negativeInfCount = 0;
+            sum.clear();
+            sum2.clear();
+            logSum.clear();
+        }
+
+        public double geometricMean() {
+            if (count == 0) {
+                return -1;
+            }
+            if (zeroCount > 0) {
+                return 0.0;
+            }
+            if (nanCount > 0) {
+                return Double.NaN;
+            }
+            return positiveInfCount + negativeInfCount > 0 ? Double.POSITIVE_INFINITY : Math.exp(logSum.value() / count);
+        }
+
+        public double mean() {
+            if (count == 0 || nanCount > 0 || (positiveInfCount > 0 && negativeInfCount > 0)) {
+                return Double.NaN;
+            }
+            if (positiveInfCount > 0) {
+                return Double.POSITIVE_INFINITY;
+            }
+            return negativeInfCount > 0 ? Double.NEGATIVE_INFINITY : sum.value() / count;
+        }
+
+        @Override
+        public void remove(final int index) {
+            update(values[index], -1);
+        }
+
+        public double rms() {
+            if (count == 0) {
+                return -1;
+            }
+            if (nanCount + positiveInfCount + negativeInfCount > 0) {
+                return Double.NaN;
+            }
+            final double mean = sum.value() / count;
+            return Math.sqrt(Math.abs(sum2.value() / count - mean * mean));
+        }
+
+        private void update(final double value, final int sign) {
+            count += sign;
+            if (Double.isNaN(value)) {
+                nanCount += sign;
+                return;
+            }
+            if (Double.isInfinite(value)) {
+                if (value > 0) {
+                    positiveInfCount += sign;
+                } else {
+                    negativeInfCount += sign;
+                }
+                return;
+            }
+            sum.add(sign * value);
+            sum2.add(sign * value * value);
+            if (value == 0.0) {
+                zeroCount += sign;
+            } else {
+                logSum.add(sign * Math.log(Math.abs(value)));
+            }
+        }
+    }
+
+    /**
+     * monotonic deques (indices with strictly increasing order) for min, max and peak-to-peak. N.B. NaN samples are not
+     * ordered and thus only counted: the window extrema are NaN while a NaN sample is within the window.
+     */
+    private static class ExtremumWindow implements Window {
+        private final double[] values;
+        private final int[] minQueue;
+        private final int[] maxQueue;
+        private int nanCount;
+        private int minHead;
+        private int minTail;
+        private int maxHead;
+        private int maxTail;
+
+        protected ExtremumWindow(final double[] values, final int maxIndex) {
+            this.values = values;
+            minQueue = new int[maxIndex];
+            maxQueue = new int[maxIndex];
+        }
+
+        @Override
+        public void add(final int index) {
+            final double value = values[index];
+            if (Double.isNaN(value)) {
+                nanCount++;
+                return;
+            }
+            while (minTail > minHead && values[minQueue[minTail - 1]] >= value) {
+                minTail--;
+            }
+            minQueue[minTail++] = index;
+            while (maxTail > maxHead && values[maxQueue[maxTail - 1]] <= value) {
+                maxTail--;
+            }
+            maxQueue[maxTail++] = index;
+        }
+
+        @Override
+        public void clear() {
+            nanCount = 0;
+            minHead = 0;
+            minTail = 0;
+            maxHead = 0;
+            maxTail = 0;
+        }
+
+        public double maximum() {
+            if (nanCount > 0) {
+                return Double.NaN;
+            }
+            return maxTail > maxHead ? values[maxQueue[maxHead]] : -Double.MAX_VALUE;
+        }
+
+        public double minimum() {
+            if (nanCount > 0) {
+                return Double.NaN;
+            }
+            return minTail > minHead ? values[minQueue[minHead]] : +Double.MAX_VALUE;
+        }
+
+        @Override
+        public void remove(final int index) {
+            if (Double.isNaN(values[index])) {
+                nanCount--;
+                return;
+            }
+            if (minTail > minHead && minQueue[minHead] == index) {
+                minHead++;
+            }
+            if (maxTail > maxHead && maxQueue[maxHead] == index) {
+                maxHead++;
+            }
+        }
+    }
+
+    /**
+     * order-statistic based on a binary indexed (Fenwick) tree over the ranks of all values that may enter the window
+     */
+    private static class MedianWindow implements Window {
+        private final double[] values;
+        private final double[] sorted;
+        private final int[] tree;
+        private final int highestBit;
+        private int count;
+
+        protected MedianWindow(final double[] values, final int fromIndex, final int toIndex) {
+            this.values = values;
+            sorted = Arrays.copyOfRange(values, fromIndex, toIndex);
+            Arrays.sort(sorted);
+            tree = new int[sorted.length + 1];
+            highestBit = sorted.length == 0 ? 0 : Integer.highestOneBit(sorted.length);
+        }
+
+        @Override
+        public void add(final int index) {
+            update(rank(values[index]), +1);
+        }
+
+        @Override
+        public void clear() {
+            Arrays.fill(tree, 0);
+            count = 0;
+        }
+
+        public double median() {
+            if (count == 0) {
+                return Double.NaN;
+            }
+            if (count % 2 == 1) {
+                return kthSmallest((count + 1) / 2);
+            }
+            return 0.5 * (kthSmallest(count / 2) + kthSmallest(count / 2 + 1));
+        }
+
+        @Override
+        public void remove(final int index) {
+            update(rank(values[index]), -1);
+        }
+
+        private double kthSmallest(final int k) {
+            int position = 0;
+            int remaining = k;
+            for (int step = highestBit; step > 0; step >>= 1) {
+                final int next = position + step;
+                if (next < tree.length && tree[next] < remaining) {
+                    position = next;
+                    remaining -= tree[next];
+                }
+            }
+            return sorted[position]; // N.B. 'position' is the 1-based rank minus one
+        }
+
+        private int rank(final double value) {
+            // first occurrence of value in the sorted array, consistent with Arrays.sort(..) ordering (incl. NaNs)
+            int low = 0;
+            int high = sorted.length;
+            while (low < high) {
+                final int mid = (low + high) >>> 1;
+                if (Double.compare(sorted[mid], value) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low + 1;
+        }
+
+        private void update(final int rank, final int delta) {
+            count += delta;
+            for (int i = rank; i < tree.length; i += i & -i) {
+                tree[i] += delta;
+            }
+        }
+    }
+
+    /**
+     * Kahan-Babuska compensated summation to limit the round-off drift of the running add/remove sums
+     */
+    private static class KahanSum {
+        private double sum;
+        private double compensation;
+
+        public void add(final double value) {
+            final double t = sum + value;
+            if (Math.abs(sum) >= Math.abs(value)) {
+                compensation += (sum - t) + value;
+            } else {
+                compensation += (value - t) + sum;
+            }
+            sum = t;
+        }
+
+        public void clear() {
+            sum = 0.0;
+            compensation = 0.0;
+        }
+
+        public double value() {
+            return sum + compensation;
+        }
+    }
+
+    private interface Window {
+        void add(final int index);
+
+        void clear();
+
+        void remove(final int index);
+    }
+}
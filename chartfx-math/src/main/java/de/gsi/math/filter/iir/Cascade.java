@@ -21,25 +21,49 @@
 
 package de.gsi.math.filter.iir;
 
+import java.util.Arrays;
+
 import org.apache.commons.math3.complex.Complex;
 import org.apache.commons.math3.complex.ComplexUtils;
 
+import de.gsi.dataset.utils.ArrayPool;
+import de.gsi.dataset.utils.AssertUtils;
+
 /**
  * The mother of all filters. It contains the coefficients of all filter stages as a sequence of 2nd order filters and
  * the states of the 2nd order filters which also imply if it's direct form I or II
+ *
+ * The filter states are kept in flat primitive arrays. Besides the sample-by-sample {@link #filter(double)}, blocks of
+ * samples can be processed via {@link #filter(double[], double[], int, int)} (sharing the same state, ie. both can be
+ * mixed), many channels through the same coefficients via
+ * {@link #filterInterleaved(double[], double[], int, int, int)} and zero-phase (forward-backward) filtering via
+ * {@link #filtfilt(double[], double[], int, int)}.
  */
 public class Cascade {
+    private static final String IN = "in";
+    private static final String OUT = "out";
+    // number of state variables per biquad: DF-I: {x[n-1], x[n-2], y[n-1], y[n-2]}, DF-II: {v[n-1], v[n-2], -, -}
+    private static final int STATE_SIZE = 4;
+
     // coefficients
     private Biquad[] mBiquads;
 
-    // the states of the filters
-    private DirectFormAbstract[] mStates;
+    // the states of the filters (STATE_SIZE consecutive values per biquad)
+    private double[] mState;
+
+    // the states of the multi-channel filter: [biquad*STATE_SIZE + state variable][channel]
+    private double[][] mChannelState = new double[0][0];
 
     // number of biquads in the system
     private int mNumBiquads;
 
+    // DirectFormAbstract.DIRECT_FORM_I or DIRECT_FORM_II
+    private int mDirectFormType = DirectFormAbstract.DIRECT_FORM_II;
+
     public Cascade() {
         mNumBiquads = 0;
+        mBiquads = new Biquad[0];
+        mState = new double[0];
     }
 
     public void applyScale(final double scale) {
@@ -50,16 +74,161 @@ public class Cascade {
         }
     }
 
+    /**
+     * zero-phase (forward-backward) filtering of a block of samples. The signal is extended at both ends by odd
+     * reflection and the filter states initialised to their steady-state values to minimise the transients at the
+     * edges. The filter order is effectively doubled, the phase response is zero. N.B. uses its own states, ie. does
+     * neither affect nor depend on the state of the sample-by-sample or block filter
+     *
+     * @param in input samples
+     * @param out output samples (may be identical to 'in')
+     * @param offset index of the first sample in 'in' and 'out'
+     * @param length number of samples to be filtered
+     */
+    public void filtfilt(final double[] in, final double[] out, final int offset, final int length) {
+        checkRange(IN, in, offset, length);
+        checkRange(OUT, out, offset, length);
+        if (length == 0) {
+            return;
+        }
+        final int padLength = Math.min(3 * (2 * mNumBiquads + 1), length - 1);
+        final int extLength = length + 2 * padLength;
+        final double[] ext = ArrayPool.getDoublePool().getArray(extLength);
+        final double[] state = ArrayPool.getDoublePool().getArray(mNumBiquads * STATE_SIZE);
+        try {
+            // odd extension: 2*x[0] - x[k] (left) and 2*x[n-1] - x[n-1-k] (right)
+            final double first = in[offset];
+            final double last = in[offset + length - 1];
+            for (int k = 1; k <= padLength; k++) {
+                ext[padLength - k] = 2 * first - in[offset + k];
+                ext[padLength + length - 1 + k] = 2 * last - in[offset + length - 1 - k];
+            }
+            System.arraycopy(in, offset, ext, padLength, length);
+
+            // forward
+            setSteadyState(state, ext[0]);
+            filterBlock(state, ext, 0, extLength);
+
+            // backward
+            reverse(ext, extLength);
+            setSteadyState(state, ext[0]);
+            filterBlock(state, ext, 0, extLength);
+
+            for (int i = 0; i < length; i++) {
+                out[offset + i] = ext[extLength - 1 - padLength - i];
+            }
+        } finally {
+            ArrayPool.getDoublePool().release(state);
+            ArrayPool.getDoublePool().release(ext);
+        }
+    }
+
     public double filter(final double in) {
+        final double[] state = mState;
         double out = in;
-        for (int i = 0; i < mNumBiquads; i++) {
-            if (mStates[i] != null) {
-                out = mStates[i].process1(out, mBiquads[i]);
+        if (mDirectFormType == DirectFormAbstract.DIRECT_FORM_I) {
+            for (int i = 0, s = 0; i < mNumBiquads; i++, s += STATE_SIZE) {
+                final Biquad bq = mBiquads[i];
+                final double output = bq.mB0 * out + bq.mB1 * state[s] + bq.mB2 * state[s + 1] - bq.mA1 * state[s + 2] - bq.mA2 * state[s + 3];
+                state[s + 1] = state[s];
+                state[s + 3] = state[s + 2];
+                state[s] = out;
+                state[s + 2] = output;
+                out = output;
             }
+            return out;
+        }
+        for (int i = 0, s = 0; i < mNumBiquads; i++, s += STATE_SIZE) {
+            final Biquad bq = mBiquads[i];
+            final double w = out - bq.mA1 * state[s] - bq.mA2 * state[s + 1];
+            out = bq.mB0 * w + bq.mB1 * state[s] + bq.mB2 * state[s + 1];
+            state[s + 1] = state[s];
+            state[s] = w;
         }
         return out;
     }
 
+    /**
+     * filters a block of samples. Yields the same result and continues from the same state as calling
+     * {@link #filter(double)} for each sample
+     *
+     * @param in input samples
+     * @param out output samples (may be identical to 'in')
+     * @param offset index of the first sample in 'in' and 'out'
+     * @param length number of samples to be filtered
+     */
+    public void filter(final double[] in, final double[] out, final int offset, final int length) {
+        checkRange(IN, in, offset, length);
+        checkRange(OUT, out, offset, length);
+        if (in != out) {
+            System.arraycopy(in, offset, out, offset, length);
+        }
+        filterBlock(mState, out, offset, offset + length);
+    }
+
+    /**
+     * filters a block of samples of many channels through the same filter coefficients. The samples are interleaved,
+     * ie. {ch0[0], ch1[0], ..., chN[0], ch0[1], ch1[1], ...}. Each channel yields the same result as if filtered
+     * separately. The channel states are kept between calls (independent of the single-channel state) and are
+     * re-initialised if the number of channels changes or on {@link #reset()}.
+     *
+     * @param in interleaved input samples
+     * @param out interleaved output samples (may be identical to 'in')
+     * @param offset index of the first sample of the first channel in 'in' and 'out'
+     * @param nSamples number of samples per channel
+     * @param nChannels number of channels
+     */
+    public void filterInterleaved(final double[] in, final double[] out, final int offset, final int nSamples, final int nChannels) {
+        AssertUtils.gtThanZero("nChannels", nChannels);
+        AssertUtils.gtEqThanZero("nSamples", nSamples);
+        final int length = nSamples * nChannels;
+        checkRange(IN, in, offset, length);
+        checkRange(OUT, out, offset, length);
+        if (mChannelState.length != mNumBiquads * STATE_SIZE || mChannelState.length > 0 && mChannelState[0].length != nChannels) {
+            mChannelState = new double[mNumBiquads * STATE_SIZE][nChannels];
+        }
+        if (in != out) {
+            System.arraycopy(in, offset, out, offset, length);
+        }
+
+        // sample-major, channel-minor: the innermost loop over the channels has no loop-carried dependencies
+        for (int n = 0, base = offset; n < nSamples; n++, base += nChannels) {
+            for (int i = 0; i < mNumBiquads; i++) {
+                final Biquad bq = mBiquads[i];
+                final double b0 = bq.mB0;
+                final double b1 = bq.mB1;
+                final double b2 = bq.mB2;
+                final double a1 = bq.mA1;
+                final double a2 = bq.mA2;
+                final int s = i * STATE_SIZE;
+                if (mDirectFormType == DirectFormAbstract.DIRECT_FORM_I) {
+                    final double[] x1 = mChannelState[s];
+                    final double[] x2 = mChannelState[s + 1];
+                    final double[] y1 = mChannelState[s + 2];
+                    final double[] y2 = mChannelState[s + 3];
+                    for (int c = 0; c < nChannels; c++) {
+                        final double input = out[base + c];
+                        final double output = b0 * input + b1 * x1[c] + b2 * x2[c] - a1 * y1[c] - a2 * y2[c];
+                        x2[c] = x1[c];
+                        y2[c] = y1[c];
+                        x1[c] = input;
+                        y1[c] = output;
+                        out[base + c] = output;
+                    }
+                } else {
+                    final double[] v1 = mChannelState[s];
+                    final double[] v2 = mChannelState[s + 1];
+                    for (int c = 0; c < nChannels; c++) {
+                        final double w = out[base + c] - a1 * v1[c] - a2 * v2[c];
+                        out[base + c] = b0 * w + b1 * v1[c] + b2 * v2[c];
+                        v2[c] = v1[c];
+                        v1[c] = w;
+                    }
+                }
+            }
+        }
+    }
+
     public Biquad getBiquad(final int index) {
         return mBiquads[index];
     }
@@ -69,8 +238,9 @@ public class Cascade {
     }
 
     public void reset() {
-        for (int i = 0; i < mNumBiquads; i++) {
-            mStates[i].reset();
+        Arrays.fill(mState, 0.0);
+        for (final double[] channelState : mChannelState) {
+            Arrays.fill(channelState, 0.0);
         }
     }
 
@@ -103,21 +273,9 @@ public class Cascade {
         final int numPoles = proto.getNumPoles();
         mNumBiquads = (numPoles + 1) / 2;
         mBiquads = new Biquad[mNumBiquads];
-        switch (filterTypes) {
-        case DirectFormAbstract.DIRECT_FORM_I:
-            mStates = new DirectFormI[mNumBiquads];
-            for (int i = 0; i < mNumBiquads; i++) {
-                mStates[i] = new DirectFormI(); // NOPMD
-            }
-            break;
-        case DirectFormAbstract.DIRECT_FORM_II:
-        default:
-            mStates = new DirectFormII[mNumBiquads];
-            for (int i = 0; i < mNumBiquads; i++) {
-                mStates[i] = new DirectFormII(); // NOPMD
-            }
-            break;
-        }
+        mDirectFormType = filterTypes == DirectFormAbstract.DIRECT_FORM_I ? DirectFormAbstract.DIRECT_FORM_I : DirectFormAbstract.DIRECT_FORM_II;
+        mState = new double[mNumBiquads * STATE_SIZE];
+        mChannelState = new double[0][0];
         for (int i = 0; i < mNumBiquads; ++i) {
             final PoleZeroPair p = proto.getPair(i);
             mBiquads[i] = new Biquad(); // NOPMD
@@ -125,4 +283,183 @@ public class Cascade {
         }
         applyScale(proto.getNormalGain() / response(proto.getNormalW() / (2 * Math.PI)).abs());
     }
+
+    /**
+     * filters the samples in-place, two biquads at a time (keeps the coefficients and states in registers). N.B. the
+     * recursion of a single biquad is latency-bound; pairing consecutive stages within the same sample loop allows the
+     * CPU to overlap both dependency chains
+     */
+    private void filterBlock(final double[] state, final double[] data, final int from, final int to) {
+        int i = 0;
+        for (; i + 1 < mNumBiquads; i += 2) {
+            if (mDirectFormType == DirectFormAbstract.DIRECT_FORM_I) {
+                filterBlockDirectFormI(mBiquads[i], mBiquads[i + 1], state, i * STATE_SIZE, data, from, to);
+            } else {
+                filterBlockDirectFormII(mBiquads[i], mBiquads[i + 1], state, i * STATE_SIZE, data, from, to);
+            }
+        }
+        if (i < mNumBiquads) {
+            if (mDirectFormType == DirectFormAbstract.DIRECT_FORM_I) {
+                filterBlockDirectFormI(mBiquads[i], state, i * STATE_SIZE, data, from, to);
+            } else {
+                filterBlockDirectFormII(mBiquads[i], state, i * STATE_SIZE, data, from, to);
+            }
+        }
+    }
+
+    private static void filterBlockDirectFormI(final Biquad bq, final double[] state, final int s, final double[] data, final int from, final int to) {
+        final double b0 = bq.mB0;
+        final double b1 = bq.mB1;
+        final double b2 = bq.mB2;
+        final double a1 = bq.mA1;
+        final double a2 = bq.mA2;
+        double x1 = state[s];
+        double x2 = state[s + 1];
+        double y1 = state[s + 2];
+        double y2 = state[s + 3];
+        for (int k = from; k < to; k++) {
+            final double input = data[k];
+            final double output = b0 * input + b1 * x1 + b2 * x2 - a1 * y1 - a2 * y2;
+            x2 = x1;
+            y2 = y1;
+            x1 = input;
+            y1 = output;
+            data[k] = output;
+        }
+        state[s] = x1;
+        state[s + 1] = x2;
+        state[s + 2] = y1;
+        state[s + 3] = y2;
+    }
+
+    private static void filterBlockDirectFormI(final Biquad bqA, final Biquad bqB, final double[] state, final int s, final double[] data, final int from, final int to) {
+        final double b0A = bqA.mB0;
+        final double b1A = bqA.mB1;
+        final double b2A = bqA.mB2;
+        final double a1A = bqA.mA1;
+        final double a2A = bqA.mA2;
+        final double b0B = bqB.mB0;
+        final double b1B = bqB.mB1;
+        final double b2B = bqB.mB2;
+        final double a1B = bqB.mA1;
+        final double a2B = bqB.mA2;
+        double x1A = state[s];
+        double x2A = state[s + 1];
+        double y1A = state[s + 2];
+        double y2A = state[s + 3];
+        double y1B = state[s + STATE_SIZE + 2];
+        double y2B = state[s + STATE_SIZE + 3];
+        // N.B. the input states of the second stage are the output states of the first
+        for (int k = from; k < to; k++) {
+            final double input = data[k];
+            final double outputA = b0A * input + b1A * x1A + b2A * x2A - a1A * y1A - a2A * y2A;
+            final double outputB = b0B * outputA + b1B * y1A + b2B * y2A - a1B * y1B - a2B * y2B;
+            x2A = x1A;
+            y2A = y1A;
+            y2B = y1B;
+            x1A = input;
+            y1A = outputA;
+            y1B = outputB;
+            data[k] = outputB;
+        }
+        state[s] = x1A;
+        state[s + 1] = x2A;
+        state[s + 2] = y1A;
+        state[s + 3] = y2A;
+        state[s + STATE_SIZE] = y1A;
+        state[s + STATE_SIZE + 1] = y2A;
+        state[s + STATE_SIZE + 2] = y1B;
+        state[s + STATE_SIZE + 3] = y2B;
+    }
+
+    private static void filterBlockDirectFormII(final Biquad bq, final double[] state, final int s, final double[] data, final int from, final int to) {
+        final double b0 = bq.mB0;
+        final double b1 = bq.mB1;
+        final double b2 = bq.mB2;
+        final double a1 = bq.mA1;
+        final double a2 = bq.mA2;
+        double v1 = state[s];
+        double v2 = state[s + 1];
+        for (int k = from; k < to; k++) {
+            final double w = data[k] - a1 * v1 - a2 * v2;
+            data[k] = b0 * w + b1 * v1 + b2 * v2;
+            v2 = v1;
+            v1 = w;
+        }
+        state[s] = v1;
+        state[s + 1] = v2;
+    }
+
+    private static void filterBlockDirectFormII(final Biquad bqA, final Biquad bqB, final double[] state, final int s, final double[] data, final int from, final int to) {
+        final double b0A = bqA.mB0;
+        final double b1A = bqA.mB1;
+        final double b2A = bqA.mB2;
+        final double a1A = bqA.mA1;
+        final double a2A = bqA.mA2;
+        final double b0B = bqB.mB0;
+        final double b1B = bqB.mB1;
+        final double b2B = bqB.mB2;
+        final double a1B = bqB.mA1;
+        final double a2B = bqB.mA2;
+        double v1A = state[s];
+        double v2A = state[s + 1];
+        double v1B = state[s + STATE_SIZE];
+        double v2B = state[s + STATE_SIZE + 1];
+        for (int k = from; k < to; k++) {
+            final double wA = data[k] - a1A * v1A - a2A * v2A;
+            final double outputA = b0A * wA + b1A * v1A + b2A * v2A;
+            final double wB = outputA - a1B * v1B - a2B * v2B;
+            data[k] = b0B * wB + b1B * v1B + b2B * v2B;
+            v2A = v1A;
+            v1A = wA;
+            v2B = v1B;
+            v1B = wB;
+        }
+        state[s] = v1A;
+        state[s + 1] = v2A;
+        state[s + STATE_SIZE] = v1B;
+        state[s + STATE_SIZE + 1] = v2B;
+    }
+
+    /**
+     * initialises the states to the steady-state response of a constant input
+     */
+    private void setSteadyState(final double[] state, final double input) {
+        double x = input;
+        for (int i = 0, s = 0; i < mNumBiquads; i++, s += STATE_SIZE) {
+            final Biquad bq = mBiquads[i];
+            final double denominator = 1.0 + bq.mA1 + bq.mA2;
+            if (denominator == 0.0) {
+                // pole at DC -> no finite steady-state
+                Arrays.fill(state, s, state.length, 0.0);
+                return;
+            }
+            final double y = x * (bq.mB0 + bq.mB1 + bq.mB2) / denominator;
+            if (mDirectFormType == DirectFormAbstract.DIRECT_FORM_I) {
+                state[s] = x;
+                state[s + 1] = x;
+                state[s + 2] = y;
+                state[s + 3] = y;
+            } else {
+                state[s] = x / denominator;
+                state[s + 1] = x / denominator;
+            }
+            x = y;
+        }
+    }
+
+    private static void checkRange(final String name, final double[] array, final int offset, final int length) {
+        AssertUtils.notNull(name, array);
+        AssertUtils.gtEqThanZero("offset", offset);
+        AssertUtils.gtEqThanZero("length", length);
+        AssertUtils.gtOrEqual(name, offset + length, array.length);
+    }
+
+    private static void reverse(final double[] data, final int length) {
+        for (int i = 0, j = length - 1; i < j; i++, j--) {
+            final double tmp = data[i];
+            data[i] = data[j];
+            data[j] = tmp;
+        }
+    }
 }
@@ -0,0 +1,32 @@
+package de.gsi.math.fitter;
+
+/**
+ * Stateless one-dimensional model function for the {@link LeastSquaresFitter}. Unlike {@link de.gsi.math.functions.Function1D}
+ * the parameters are passed with every call rather than stored in the function, so that the same instance can be used
+ * concurrently by many fits. N.B. the parameter array passed by the fitter may be longer than the number of fitted
+ * parameters.
+ *
+ * @author rstein
+ */
+@FunctionalInterface
+public interface FitFunction {
+    /**
+     * Optional analytical derivatives of the model w.r.t. its parameters. The fitter falls back to forward
+     * finite-differences if this returns {@code false} (default).
+     *
+     * @param x horizontal coordinate
+     * @param parameter model parameters (must not be modified)
+     * @param gradient output: d f(x, parameter) / d parameter[i]
+     * @return {@code true} if the gradient has been computed
+     */
+    default boolean getGradient(final double x, final double[] parameter, final double[] gradient) {
+        return false;
+    }
+
+    /**
+     * @param x horizontal coordinate
+     * @param parameter model parameters (must not be modified)
+     * @return model value f(x, parameter)
+     */
+    double getValue(double x, double[] parameter);
+}
@@ -0,0 +1,104 @@
+package de.gsi.math.fitter;
+
+import java.util.Arrays;
+
+import de.gsi.dataset.utils.AssertUtils;
+
+/**
+ * Immutable result of a {@link LeastSquaresFitter} (or {@link GaussFitting}) fit. Safe to be shared between threads.
+ *
+ * @author rstein
+ */
+public final class FitResult {
+    private final double[] parameters;
+    private final double[] parameterErrors;
+    private final double chiSquared;
+    private final int degreesOfFreedom;
+    private final int iterations;
+    private final boolean converged;
+
+    /**
+     * @param parameters best estimates of the parameters (copied)
+     * @param parameterErrors standard deviation estimates of the parameters (copied)
+     * @param chiSquared (weighted) sum of the squared residuals
+     * @param degreesOfFreedom number of data points minus number of parameters
+     * @param iterations number of iterations performed
+     * @param converged {@code true} if the convergence criterion has been met
+     */
+    public FitResult(final double[] parameters, final double[] parameterErrors, final double chiSquared, final int degreesOfFreedom, final int iterations, final boolean converged) {
+        AssertUtils.notNull("parameters", parameters);
+        AssertUtils.checkArrayDimension("parameterErrors", parameterErrors, parameters.length);
+        this.parameters = parameters.clone();
+        this.parameterErrors = parameterErrors.clone();
+        this.chiSquared = chiSquared;
+        this.degreesOfFreedom = degreesOfFreedom;
+        this.iterations = iterations;
+        this.converged = converged;
+    }
+
+    /**
+     * @return (weighted) sum of the squared residuals
+     */
+    public double getChiSquared() {
+        return chiSquared;
+    }
+
+    public int getDegreesOfFreedom() {
+        return degreesOfFreedom;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * @param index parameter index
+     * @return best estimate of the parameter
+     */
+    public double getParameter(final int index) {
+        return parameters[index];
+    }
+
+    public int getParameterCount() {
+        return parameters.length;
+    }
+
+    /**
+     * @param index parameter index
+     * @return standard deviation estimate of the parameter
+     */
+    public double getParameterError(final int index) {
+        return parameterErrors[index];
+    }
+
+    /**
+     * @return copy of the standard deviation estimates of the parameters
+     */
+    public double[] getParameterErrors() {
+        return parameterErrors.clone();
+    }
+
+    /**
+     * @return copy of the best estimates of the parameters
+     */
+    public double[] getParameters() {
+        return parameters.clone();
+    }
+
+    /**
+     * @return chi^2/ndf or NaN if there are no degrees of freedom
+     */
+    public double getReducedChiSquared() {
+        return degreesOfFreedom > 0 ? chiSquared / degreesOfFreedom : Double.NaN;
+    }
+
+    public boolean isConverged() {
+        return converged;
+    }
+
+    @Override
+    public String toString() {
+        return "FitResult [parameters=" + Arrays.toString(parameters) + ", parameterErrors=" + Arrays.toString(parameterErrors) //
+                + ", chiSquared=" + chiSquared + ", degreesOfFreedom=" + degreesOfFreedom + ", iterations=" + iterations + ", converged=" + converged + "]";
+    }
+}
@@ -0,0 +1,89 @@
+package de.gsi.math.fitter;
+
+import de.gsi.dataset.utils.ArrayPool;
+import de.gsi.dataset.utils.AssertUtils;
+
+/**
+ * Caller-provided scratch memory for the {@link LeastSquaresFitter}. The arrays are taken from the
+ * {@link ArrayPool#getDoublePool() double array pool} and returned on {@link #close()}. A workspace may be reused for
+ * any number of consecutive fits with up to {@link #getMaxParameters()} parameters but must not be shared between
+ * concurrently running fits (ie. use one workspace per thread).
+ *
+ * <pre>
+ * try (FitWorkspace workspace = new FitWorkspace(3)) {
+ *     for (double[] slice : slices) {
+ *         results.add(LeastSquaresFitter.fitGaussian(x, slice, null, workspace));
+ *     }
+ * }
+ * </pre>
+ *
+ * @author rstein
+ */
+public final class FitWorkspace implements AutoCloseable {
+    private final int maxParameters;
+    // parameter vectors
+    double[] parameter;
+    double[] trial;
+    double[] gradient;
+    double[] beta;
+    double[] delta;
+    // row-major nParameters x nParameters matrices
+    double[] alpha;
+    double[] factor;
+    double[] covariance;
+
+    /**
+     * @param maxParameters maximum number of model parameters the workspace is used for
+     */
+    public FitWorkspace(final int maxParameters) {
+        AssertUtils.gtThanZero("maxParameters", maxParameters);
+        this.maxParameters = maxParameters;
+        final ArrayPool<double[]> pool = ArrayPool.getDoublePool();
+        parameter = pool.getArray(maxParameters);
+        trial = pool.getArray(maxParameters);
+        gradient = pool.getArray(maxParameters);
+        beta = pool.getArray(maxParameters);
+        delta = pool.getArray(maxParameters);
+        alpha = pool.getArray(maxParameters * maxParameters);
+        factor = pool.getArray(maxParameters * maxParameters);
+        covariance = pool.getArray(maxParameters * maxParameters);
+    }
+
+    @Override
+    public void close() {
+        if (parameter == null) {
+            return;
+        }
+        final ArrayPool<double[]> pool = ArrayPool.getDoublePool();
+        pool.release(parameter);
+        pool.release(trial);
+        pool.release(gradient);
+        pool.release(beta);
+        pool.release(delta);
+        pool.release(alpha);
+        pool.release(factor);
+        pool.release(covariance);
+        parameter = null;
+        trial = null;
+        gradient = null;
+        beta = null;
+        delta = null;
+        alpha = null;
+        factor = null;
+        covariance = null;
+    }
+
+    /**
+     * @return maximum number of model parameters the workspace can be used for
+     */
+    public int getMaxParameters() {
+        return maxParameters;
+    }
+
+    void checkCapacity(final int nParameters) {
+        if (parameter == null) {
+            throw new IllegalStateException("workspace has already been closed");
+        }
+        AssertUtils.gtOrEqual("nParameters", nParameters, maxParameters);
+    }
+}
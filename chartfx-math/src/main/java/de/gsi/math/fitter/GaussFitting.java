@@ -1,157 +1,158 @@
 package de.gsi.math.fitter;
 
+/**
+ * Gaussian profile estimate based on the statistical moments within an n-sigma window around an initial peak estimate.
+ *
+ * N.B. use the stateless {@link #fit(double[], double[], double, double, double)} (or
+ * {@link LeastSquaresFitter#fitGaussian} for a least-squares refinement) rather than the deprecated {@link #fitData}
+ * and static getters, which only expose the result of the last call of any thread.
+ *
+ * @author rstein
+ */
 public class GaussFitting { // NOPMD - nomen est omen
-
-    private static double fmean = 1.0;
-    private static double fmeanError = 0.0;
-    private static double frms = 1.0;
-    private static double frmsError = 0.0;
-    private static double farea = 0.0;
-    private static double fareaError = 0.0;
-    private static double fconstant = 1.0;
-    private static double fconstantError = 1.0;
+    /** parameter indices of the {@link #fit} result */
+    public static final int MEAN = 0;
+    public static final int RMS = 1;
+    public static final int CONSTANT = 2;
+    public static final int AREA = 3;
+    private static final double[] LEGACY_ERRORS = { 0.0, 0.0, 1.0, 0.0 }; // N.B. constant error was never updated
+    private static final FitResult DEFAULT_RESULT = new FitResult(new double[] { 1.0, 1.0, 1.0, 0.0 }, LEGACY_ERRORS, Double.NaN, 0, 0, false);
+    private static volatile FitResult lastResult = DEFAULT_RESULT; // NOPMD - legacy API
 
     /**
-     * fit precise Gaussian curve width and location based on peak indication and width estimate
-     * 
+     * estimate Gaussian curve width and location based on peak indication and width estimate. Stateless and
+     * thread-safe.
+     *
      * @param sliceX horizontal slice
      * @param sliceY vertical slice
-     * @param meanEstimate initial mean estimate
-     * @param sigma initial sigma estimate
+     * @param meanEstimate initial mean estimate (index)
+     * @param sigma initial sigma estimate (in samples)
      * @param nSigma n-sigma definition to be used
+     * @return result with the parameters {@link #MEAN}, {@link #RMS}, {@link #CONSTANT} (=integral) and {@link #AREA}
+     *         (=sum of samples)
      */
-    public static void fitData(double[] sliceX, double[] sliceY, double meanEstimate, double sigma, double nSigma) {
-        int tmin = 0;
-        int tmax = sliceX.length - 1;
-        int center = (int) meanEstimate;
-        int nadd = 100;
-        // for zero padding at the front and end of the measurements to simplify the fit
+    public static FitResult fit(final double[] sliceX, final double[] sliceY, final double meanEstimate, final double sigma, final double nSigma) {
+        final int tmin = 0;
+        final int tmax = sliceX.length - 1;
+        final int center = (int) meanEstimate;
 
         int halfWidth = (int) (nSigma * sigma);
-        if (center - tmin < halfWidth)
+        if (center - tmin < halfWidth) {
             halfWidth = center - tmin;
-        if (tmax - center < halfWidth)
+        }
+        if (tmax - center < halfWidth) {
             halfWidth = tmax - center;
+        }
 
-        // create initial starting values for parameters
+        // moments of the window (N.B. the zero-padding of the former implementation did not contribute)
         double x = 0.;
         double x2 = 0.;
         double norm = 0.;
-        double dx = sliceX[1] - sliceX[0];
+        final double dx = sliceX[1] - sliceX[0];
         double area = 0.0;
         double eqArea = 0.0;
-        double[] pos = new double[2 * halfWidth + 2 * nadd];
-        double[] meas = new double[2 * halfWidth + 2 * nadd];
-        double[] var = new double[2 * halfWidth + 2 * nadd];
-        // GaussFcn theFCN = new GaussFcn(meas, pos, var);
-
-        // copy data
-        for (int i = 0; i < 2 * halfWidth; i++) {
-            double valX = sliceX[center - halfWidth + i];
-            double valY = sliceY[center - halfWidth + i];
-            pos[i + nadd] = valX;
-            meas[i + nadd] = valY;
-        }
-
-        // zero padding at the begin and end of the data sample
-        for (int i = 0; i < nadd; i++) {
-            pos[nadd - i] = pos[nadd] - dx * i;
-            pos[nadd + 2 * halfWidth + i] = pos[nadd + 2 * halfWidth - 1] + dx * i;
-            meas[i] = 0.0;
-            meas[nadd + 2 * halfWidth + i] = 0.0;
+        for (int i = center - halfWidth; i < center + halfWidth; i++) {
+            final double pos = sliceX[i];
+            final double meas = sliceY[i];
+            norm += meas;
+            x += meas * pos;
+            x2 += meas * pos * pos;
+            area += dx * meas;
+            eqArea += meas;
         }
 
-        for (int i = 0; i < meas.length; i++) {
-
-            // pos[i] = (double)i/(double)(meas.length);
-            // meas[i] = testdata.valueAt(pos[i]);
-
-            var[i] = Math.pow(meas[i] * 0.1, 2);
-            norm += meas[i];
-            x += (meas[i] * pos[i]);
-            x2 += (meas[i] * pos[i] * pos[i]);
-            area += dx * meas[i];
-            eqArea += meas[i];
-        }
+        final double mean = x / norm;
+        final double rms2 = x2 / norm - mean * mean;
+        final double rms = rms2 > 0. ? Math.sqrt(rms2) : 1.;
+        return new FitResult(new double[] { mean, rms, area, eqArea }, new double[4], Double.NaN, 0, 1, true);
+    }
 
-        double mean = x / norm;
-        double rms2 = x2 / norm - mean * mean;
-        double rms = rms2 > 0. ? Math.sqrt(rms2) : 1.;
-
-        // System.out.printf("initial assumption: %g %g %g\n",mean,rms,area);
-        // System.out.printf("measurement array as %s elements\n", meas.length);
-        // MnUserParameters upar = new MnUserParameters();
-        // upar.add("mean", mean, 0.01);
-        // upar.add("rms", rms, rms*0.1);
-        // upar.add("area", area, area*0.1);
-        // upar.add("mean", mean, mean);
-        // upar.add("rms", rms, rms);
-        // upar.add("area", area, area);
-
-        // redirect migrad output to nirvana
-        // TODO: redirect output to some error string
-        // PrintStream temp = System.out;
-        // System.setOut(null);
-        // create minimizer (default constructor)
-        // MnMigrad migrad = new MnMigrad(theFCN, init_par, init_err);
-        // MnMigrad migrad = new MnMigrad(theFCN, upar);
-        // migrad.setCheckAnalyticalDerivatives(false);
-        // migrad.setErrorDef(2);
-
-        // ... and minimise
-        // FunctionMinimum min = migrad.minimize(300, 0.3);
-        // fmean = min.userState().value("mean");
-        // frms = min.userState().value("rms");
-        // fconstant = min.userState().value("area");
-
-        fmean = mean;
-        frms = rms;
-        fconstant = area;
-        farea = eqArea;
-
-        // output
-        // System.out.println("minimum: " + min);
-
-        // create MINOS error factory
-        // MnMinos minos = new MnMinos(theFCN, min);
-        // System.setOut(temp);
-        // System.out.printf("mean %s rms %s\n", fmean, frms);
-
-        // fmean_error = choose_absmax(minos.lower(0),minos.upper(0));
-        // frms_error = choose_absmax(minos.lower(1),minos.upper(1));
-        // fconstant_error = choose_absmax(minos.lower(2),minos.upper(2));
+    /**
+     * fit precise Gaussian curve width and location based on peak indication and width estimate
+     *
+     * @param sliceX horizontal slice
+     * @param sliceY vertical slice
+     * @param meanEstimate initial mean estimate
+     * @param sigma initial sigma estimate
+     * @param nSigma n-sigma definition to be used
+     * @deprecated not thread-safe, use {@link #fit(double[], double[], double, double, double)} instead
+     */
+    @Deprecated
+    public static void fitData(double[] sliceX, double[] sliceY, double meanEstimate, double sigma, double nSigma) {
+        final FitResult result = fit(sliceX, sliceY, meanEstimate, sigma, nSigma);
+        lastResult = new FitResult(result.getParameters(), LEGACY_ERRORS, result.getChiSquared(), result.getDegreesOfFreedom(), result.getIterations(), result.isConverged());
     }
 
+    /**
+     * @return area of the last {@link #fitData} call
+     * @deprecated use {@link FitResult#getParameter(int)} with {@link #AREA}
+     */
+    @Deprecated
     public static double getArea() {
-        return farea;
+        return lastResult.getParameter(AREA);
     }
 
+    /**
+     * @return area error of the last {@link #fitData} call
+     * @deprecated use {@link FitResult#getParameterError(int)} with {@link #AREA}
+     */
+    @Deprecated
     public static double getAreaError() {
-        return fareaError;
+        return lastResult.getParameterError(AREA);
     }
 
+    /**
+     * @return constant of the last {@link #fitData} call
+     * @deprecated use {@link FitResult#getParameter(int)} with {@link #CONSTANT}
+     */
+    @Deprecated
     public static double getConstant() {
-        return fconstant;
+        return lastResult.getParameter(CONSTANT);
     }
 
+    /**
+     * @return constant error of the last {@link #fitData} call
+     * @deprecated use {@link FitResult#getParameterError(int)} with {@link #CONSTANT}
+     */
+    @Deprecated
     public static double getConstantError() {
-        return fconstantError;
+        return lastResult.getParameterError(CONSTANT);
     }
 
+    /**
+     * @return mean of the last {@link #fitData} call
+     * @deprecated use {@link FitResult#getParameter(int)} with {@link #MEAN}
+     */
+    @Deprecated
     public static double getMean() {
-        return fmean;
+        return lastResult.getParameter(MEAN);
     }
 
+    /**
+     * @return mean error of the last {@link #fitData} call
+     * @deprecated use {@link FitResult#getParameterError(int)} with {@link #MEAN}
+     */
+    @Deprecated
     public static double getMeanError() {
-        return fmeanError;
+        return lastResult.getParameterError(MEAN);
     }
 
+    /**
+     * @return rms of the last {@link #fitData} call
+     * @deprecated use {@link FitResult#getParameter(int)} with {@link #RMS}
+     */
+    @Deprecated
     public static double getRMS() {
-        return frms;
+        return lastResult.getParameter(RMS);
     }
 
+    /**
+     * @return rms error of the last {@link #fitData} call
+     * @deprecated use {@link FitResult#getParameterError(int)} with {@link #RMS}
+     */
+    @Deprecated
     public static double getRMSError() {
-        return frmsError;
+        return lastResult.getParameterError(RMS);
     }
 
     public static void main(String[] args) {
@@ -163,19 +164,25 @@ public class GaussFitting { // NOPMD - nomen est omen
             valX[i] = 0.1 * i;
             valY[i] = Math.exp(-0.5 * Math.pow((valX[i] - mu) / sigma, 2)) / (Math.sqrt(2 * Math.PI) * sigma);
         }
-        GaussFitting.fitData(valX, valY, 40, 20, 20);
-
-        GaussFitting.print();
+        print(GaussFitting.fit(valX, valY, 40, 20, 20));
     }
 
+    /**
+     * @deprecated use {@link #print(FitResult)}
+     */
+    @Deprecated
     public static void print() {
+        print(lastResult);
+    }
+
+    public static void print(final FitResult result) {
         System.out.printf("mean    : %s \t+- %s%nrms     : %s \t+- %s%nconstant: %s \t+- %s%narea    : %s \t+- %s\n", // NOPMD
                                                                                                                       // --
                                                                                                                       // acceptable
                                                                                                                       // debugging
                                                                                                                       // use
-                getMean(), getMeanError(), getRMS(), getRMSError(), getConstant(), getConstantError(), getArea(),
-                getAreaError());
+                result.getParameter(MEAN), result.getParameterError(MEAN), result.getParameter(RMS), result.getParameterError(RMS), result.getParameter(CONSTANT),
+                result.getParameterError(CONSTANT), result.getParameter(AREA), result.getParameterError(AREA));
     }
 
 //    public static int removeSpuriousPeaks(double[] posX, double[] measY, double sigma) {
@@ -0,0 +1,502 @@
+package de.gsi.math.fitter;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import de.gsi.dataset.utils.AssertUtils;
+
+/**
+ * Stateless, re-entrant (weighted) least-squares fitter for one-dimensional {@link FitFunction} models:
+ * <ul>
+ * <li>{@link #fitLinear} for models that are linear in their parameters (e.g. polynomials) solved directly via the normal
+ * equations,
+ * <li>{@link #fitLevenbergMarquardt} for generic non-linear models,
+ * <li>{@link #fitGaussian} for Gaussian profiles (start values from the statistical moments),
+ * <li>{@link #fitBatch} to fit many independent data sets in parallel on a {@link ForkJoinPool}.
+ * </ul>
+ * All state is kept in the caller-provided {@link FitWorkspace} and the results are returned as immutable
+ * {@link FitResult}s. Contrary to {@link LinearRegressionFitter} and {@link NonLinearRegressionFitter}, any number of
+ * fits may run concurrently as long as each uses its own workspace.
+ *
+ * The parameter errors are derived from the covariance matrix (inverse of the curvature matrix at the minimum). If no
+ * y-errors are given, unit weights are used and the errors are scaled by sqrt(chi^2/ndf).
+ *
+ * @author rstein
+ */
+public final class LeastSquaresFitter {
+    /** parameter indices of the {@link #GAUSSIAN} model */
+    public static final int GAUSS_MEAN = 0;
+    public static final int GAUSS_SIGMA = 1;
+    public static final int GAUSS_AREA = 2;
+    /**
+     * normalised Gaussian: area / (sqrt(2 pi) sigma) * exp(-0.5 ((x - mean) / sigma)^2) with parameters {mean, sigma, area}
+     */
+    public static final FitFunction GAUSSIAN = new GaussianFunction();
+    public static final int DEFAULT_MAX_ITERATIONS = 200;
+    public static final double DEFAULT_TOLERANCE = 1e-10;
+    private static final double LAMBDA_START = 1e-3;
+    private static final double LAMBDA_FACTOR = 10.0;
+    private static final double LAMBDA_MAX = 1e16;
+    private static final double SINGULAR_THRESHOLD = 1e-12; // minimum pivot relative to the original diagonal element
+    private static final double FINITE_DIFFERENCE_STEP = Math.sqrt(Math.ulp(1.0));
+    private static final int BATCH_TASKS_PER_THREAD = 4;
+    private static final String X_VALUES = "xValues";
+    private static final String Y_VALUES = "yValues";
+    private static final String Y_ERRORS = "yErrors";
+
+    private LeastSquaresFitter() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Fits 'nFits' independent data sets on the {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @param nFits number of fits
+     * @param maxParameters maximum number of parameters of the fitted models (size of the per-thread workspaces)
+     * @param task performs the fit with the given index using the given (thread-confined) workspace
+     * @return the fit results, ordered by index
+     */
+    public static FitResult[] fitBatch(final int nFits, final int maxParameters, final FitTask task) {
+        return fitBatch(ForkJoinPool.commonPool(), nFits, maxParameters, task);
+    }
+
+    /**
+     * Fits 'nFits' independent data sets on the given pool. The index range is split into a few tasks per worker, each
+     * task allocates one {@link FitWorkspace} that is reused for all fits of its range.
+     *
+     * @param pool the executing pool
+     * @param nFits number of fits
+     * @param maxParameters maximum number of parameters of the fitted models (size of the per-task workspaces)
+     * @param task performs the fit with the given index using the given (thread-confined) workspace
+     * @return the fit results, ordered by index
+     */
+    public static FitResult[] fitBatch(final ForkJoinPool pool, final int nFits, final int maxParameters, final FitTask task) {
+        AssertUtils.notNull("pool", pool);
+        AssertUtils.notNull("task", task);
+        AssertUtils.gtEqThanZero("nFits", nFits);
+        AssertUtils.gtThanZero("maxParameters", maxParameters);
+        final FitResult[] results = new FitResult[nFits];
+        if (nFits == 0) {
+            return results;
+        }
+        final int grainSize = Math.max(1, nFits / (BATCH_TASKS_PER_THREAD * pool.getParallelism()));
+        pool.invoke(new BatchAction(task, results, maxParameters, grainSize, 0, nFits));
+        return results;
+    }
+
+    /**
+     * Fits a Gaussian to each of the profiles (e.g. the slices of an image) sharing the same horizontal coordinates.
+     *
+     * @param xValues common horizontal coordinates
+     * @param yValues profiles to be fitted, yValues[i].length must equal xValues.length
+     * @return the fit results (parameters: {@link #GAUSS_MEAN}, {@link #GAUSS_SIGMA}, {@link #GAUSS_AREA}), ordered as
+     *         the profiles
+     */
+    public static FitResult[] fitGaussianBatch(final double[] xValues, final double[][] yValues) {
+        AssertUtils.notNull(Y_VALUES, yValues);
+        return fitBatch(yValues.length, 3, (index, workspace) -> fitGaussian(xValues, yValues[index], null, workspace));
+    }
+
+    /**
+     * Fits a normalised Gaussian ({@link #GAUSSIAN}) to the data. The start values are derived from the statistical
+     * moments of the data (see {@link GaussFitting#fit}).
+     *
+     * @param xValues horizontal coordinates
+     * @param yValues vertical coordinates
+     * @param yErrors vertical errors (may be {@code null} for unit weights)
+     * @param workspace the caller-provided workspace
+     * @return fit result with parameters {@link #GAUSS_MEAN}, {@link #GAUSS_SIGMA}, {@link #GAUSS_AREA}, not converged
+     *         (and the parameters NaN) if the profile does not sum to a positive finite value (e.g. all-zero)
+     */
+    public static FitResult fitGaussian(final double[] xValues, final double[] yValues, final double[] yErrors, final FitWorkspace workspace) {
+        checkData(xValues, yValues, yErrors, 3);
+        double norm = 0.0;
+        double sumX = 0.0;
+        double sumX2 = 0.0;
+        double area = 0.0;
+        for (int i = 0; i < xValues.length; i++) {
+            final double x = xValues[i];
+            final double y = yValues[i];
+            norm += y;
+            sumX += y * x;
+            sumX2 += y * x * x;
+            final double dx = i + 1 < xValues.length ? xValues[i + 1] - x : x - xValues[i - 1];
+            area += y * dx;
+        }
+        if (!(norm > 0.0) || !Double.isFinite(norm + sumX + sumX2 + area)) { // NOPMD - also catches NaNs
+            // empty (e.g. all-zero), negative or non-finite profile: no start values -> not fitted
+            return invalidResult(3, xValues.length - 3, 0);
+        }
+        final double mean = sumX / norm;
+        final double rms2 = sumX2 / norm - mean * mean;
+        final double rms = rms2 > 0.0 ? Math.sqrt(rms2) : Math.abs(xValues[xValues.length - 1] - xValues[0]) / xValues.length;
+        return fitLevenbergMarquardt(GAUSSIAN, new double[] { mean, rms, area }, xValues, yValues, yErrors, workspace);
+    }
+
+    /**
+     * Levenberg-Marquardt fit with {@link #DEFAULT_MAX_ITERATIONS} and {@link #DEFAULT_TOLERANCE}.
+     *
+     * @param function model to be fitted
+     * @param initialParameters start values (defines the number of parameters)
+     * @param xValues horizontal coordinates
+     * @param yValues vertical coordinates
+     * @param yErrors vertical errors (may be {@code null} for unit weights)
+     * @param workspace the caller-provided workspace
+     * @return fit result
+     */
+    public static FitResult fitLevenbergMarquardt(final FitFunction function, final double[] initialParameters, final double[] xValues, final double[] yValues, final double[] yErrors, final FitWorkspace workspace) {
+        return fitLevenbergMarquardt(function, initialParameters, xValues, yValues, yErrors, workspace, DEFAULT_MAX_ITERATIONS, DEFAULT_TOLERANCE);
+    }
+
+    /**
+     * Levenberg-Marquardt fit of a generic (non-linear) model. The iteration stops if the relative chi^2 improvement
+     * drops below 'tolerance' (the only criterion for which the result is flagged as converged), after 'maxIterations'
+     * accepted or rejected steps, or if the damping grows beyond any useful value without finding a better step.
+     *
+     * @param function model to be fitted
+     * @param initialParameters start values (defines the number of parameters, not modified)
+     * @param xValues horizontal coordinates
+     * @param yValues vertical coordinates
+     * @param yErrors vertical errors (may be {@code null} for unit weights)
+     * @param workspace the caller-provided workspace
+     * @param maxIterations maximum number of iterations
+     * @param tolerance relative chi^2 convergence criterion
+     * @return fit result
+     */
+    public static FitResult fitLevenbergMarquardt(final FitFunction function, final double[] initialParameters, final double[] xValues, final double[] yValues, final double[] yErrors, final FitWorkspace workspace, final int maxIterations,
+            final double tolerance) {
+        AssertUtils.notNull("function", function);
+        AssertUtils.notNull("initialParameters", initialParameters);
+        AssertUtils.notNull("workspace", workspace);
+        AssertUtils.gtThanZero("maxIterations", maxIterations);
+        AssertUtils.gtEqThanZero("tolerance", tolerance);
+        final int nParameters = initialParameters.length;
+        checkData(xValues, yValues, yErrors, nParameters);
+        workspace.checkCapacity(nParameters);
+
+        final double[] parameter = workspace.parameter;
+        final double[] trial = workspace.trial;
+        System.arraycopy(initialParameters, 0, parameter, 0, nParameters);
+        double chiSquared = chiSquared(function, parameter, xValues, yValues, yErrors);
+        if (!Double.isFinite(chiSquared)) {
+            throw new IllegalArgumentException("model is not finite for the initial parameters " + Arrays.toString(initialParameters));
+        }
+
+        double lambda = LAMBDA_START;
+        boolean converged = false;
+        boolean recompute = true;
+        int iteration = 0;
+        while (iteration < maxIterations && !converged) {
+            iteration++;
+            if (recompute) {
+                normalEquations(function, nParameters, xValues, yValues, yErrors, workspace);
+                recompute = false;
+            }
+            if (!solveDamped(nParameters, lambda, workspace)) {
+                lambda *= LAMBDA_FACTOR;
+                if (lambda > LAMBDA_MAX) {
+                    break; // stalled: not converged
+                }
+                continue;
+            }
+            for (int i = 0; i < nParameters; i++) {
+                trial[i] = parameter[i] + workspace.delta[i];
+            }
+            final double trialChiSquared = chiSquared(function, trial, xValues, yValues, yErrors);
+            if (trialChiSquared <= chiSquared) {
+                final double improvement = chiSquared - trialChiSquared;
+                System.arraycopy(trial, 0, parameter, 0, nParameters);
+                chiSquared = trialChiSquared;
+                lambda /= LAMBDA_FACTOR;
+                recompute = true;
+                converged = improvement <= tolerance * chiSquared;
+            } else {
+                // includes NaN: step rejected -> more gradient-descent like
+                lambda *= LAMBDA_FACTOR;
+                if (lambda > LAMBDA_MAX) {
+                    break; // stalled: no further improvement possible but not converged either
+                }
+            }
+        }
+
+        if (recompute) {
+            normalEquations(function, nParameters, xValues, yValues, yErrors, workspace);
+        }
+        return createResult(nParameters, chiSquared, xValues.length - nParameters, iteration, converged, yErrors == null, workspace);
+    }
+
+    /**
+     * Fit of a model that is linear in its parameters, ie. f(x, p) = sum_i p_i * f_i(x) (e.g. polynomials), solved in
+     * a single step via the normal equations. The basis functions f_i(x) are taken from
+     * {@link FitFunction#getGradient} or evaluated as f(x, e_i) with e_i being the i-th unit vector.
+     *
+     * @param function model to be fitted
+     * @param nParameters number of parameters
+     * @param xValues horizontal coordinates
+     * @param yValues vertical coordinates
+     * @param yErrors vertical errors (may be {@code null} for unit weights)
+     * @param workspace the caller-provided workspace
+     * @return fit result, {@link FitResult#isConverged()} is {@code false} (and the parameters NaN) if the normal
+     *         equations are singular
+     */
+    public static FitResult fitLinear(final FitFunction function, final int nParameters, final double[] xValues, final double[] yValues, final double[] yErrors, final FitWorkspace workspace) {
+        AssertUtils.notNull("function", function);
+        AssertUtils.notNull("workspace", workspace);
+        AssertUtils.gtThanZero("nParameters", nParameters);
+        checkData(xValues, yValues, yErrors, nParameters);
+        workspace.checkCapacity(nParameters);
+
+        // the gradient of a linear model is independent of the parameters -> zero parameter and residual = y
+        final double[] parameter = workspace.parameter;
+        Arrays.fill(parameter, 0, nParameters, 0.0);
+        normalEquations(function, nParameters, xValues, yValues, yErrors, workspace);
+        if (!solveDamped(nParameters, 0.0, workspace)) {
+            return invalidResult(nParameters, xValues.length - nParameters, 1);
+        }
+        System.arraycopy(workspace.delta, 0, parameter, 0, nParameters);
+        final double chiSquared = chiSquared(function, parameter, xValues, yValues, yErrors);
+        return createResult(nParameters, chiSquared, xValues.length - nParameters, 1, true, yErrors == null, workspace);
+    }
+
+    private static FitResult invalidResult(final int nParameters, final int degreesOfFreedom, final int iterations) {
+        final double[] nan = new double[nParameters];
+        Arrays.fill(nan, Double.NaN);
+        return new FitResult(nan, nan, Double.NaN, degreesOfFreedom, iterations, false);
+    }
+
+    private static void checkData(final double[] xValues, final double[] yValues, final double[] yErrors, final int nParameters) {
+        AssertUtils.notNull(X_VALUES, xValues);
+        AssertUtils.checkArrayDimension(Y_VALUES, yValues, xValues.length);
+        if (yErrors != null) {
+            AssertUtils.checkArrayDimension(Y_ERRORS, yErrors, xValues.length);
+        }
+        AssertUtils.gtOrEqual(X_VALUES, nParameters, xValues.length);
+    }
+
+    private static double chiSquared(final FitFunction function, final double[] parameter, final double[] xValues, final double[] yValues, final double[] yErrors) {
+        double chiSquared = 0.0;
+        for (int i = 0; i < xValues.length; i++) {
+            final double residual = yValues[i] - function.getValue(xValues[i], parameter);
+            chiSquared += residual * residual * weight(yErrors, i);
+        }
+        return chiSquared;
+    }
+
+    /**
+     * Cholesky decomposition of the (symmetric) matrix in 'factor' (lower triangle, in-place)
+     *
+     * @return {@code false} if the matrix is not (numerically) positive definite
+     */
+    private static boolean choleskyDecomposition(final double[] factor, final int n) {
+        for (int j = 0; j < n; j++) {
+            final double original = factor[j * n + j];
+            double diagonal = original;
+            for (int k = 0; k < j; k++) {
+                diagonal -= factor[j * n + k] * factor[j * n + k];
+            }
+            if (!(diagonal > SINGULAR_THRESHOLD * original)) {
+                return false;
+            }
+            diagonal = Math.sqrt(diagonal);
+            factor[j * n + j] = diagonal;
+            for (int i = j + 1; i < n; i++) {
+                double sum = factor[i * n + j];
+                for (int k = 0; k < j; k++) {
+                    sum -= factor[i * n + k] * factor[j * n + k];
+                }
+                factor[i * n + j] = sum / diagonal;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * solves L L^T x = b in-place for the lower-triangular Cholesky factor L
+     */
+    private static void choleskySolve(final double[] factor, final int n, final double[] b, final int offset) {
+        for (int i = 0; i < n; i++) {
+            double sum = b[offset + i];
+            for (int k = 0; k < i; k++) {
+                sum -= factor[i * n + k] * b[offset + k];
+            }
+            b[offset + i] = sum / factor[i * n + i];
+        }
+        for (int i = n - 1; i >= 0; i--) {
+            double sum = b[offset + i];
+            for (int k = i + 1; k < n; k++) {
+                sum -= factor[k * n + i] * b[offset + k];
+            }
+            b[offset + i] = sum / factor[i * n + i];
+        }
+    }
+
+    private static FitResult createResult(final int nParameters, final double chiSquared, final int degreesOfFreedom, final int iterations, final boolean converged, final boolean unitWeights, final FitWorkspace workspace) {
+        final double[] parameters = Arrays.copyOf(workspace.parameter, nParameters);
+        final double[] errors = new double[nParameters];
+        final double[] factor = workspace.factor;
+        System.arraycopy(workspace.alpha, 0, factor, 0, nParameters * nParameters);
+        if (choleskyDecomposition(factor, nParameters)) {
+            // covariance = alpha^-1 -> solve for the unit vectors (N.B. only the diagonal is needed)
+            final double[] covariance = workspace.covariance;
+            Arrays.fill(covariance, 0, nParameters * nParameters, 0.0);
+            final double scale = unitWeights && degreesOfFreedom > 0 ? chiSquared / degreesOfFreedom : 1.0;
+            for (int i = 0; i < nParameters; i++) {
+                covariance[i * nParameters + i] = 1.0;
+                choleskySolve(factor, nParameters, covariance, i * nParameters);
+                errors[i] = Math.sqrt(Math.abs(covariance[i * nParameters + i]) * scale);
+            }
+        } else {
+            Arrays.fill(errors, Double.NaN);
+        }
+        return new FitResult(parameters, errors, chiSquared, degreesOfFreedom, iterations, converged);
+    }
+
+    private static void gradient(final FitFunction function, final double x, final double value, final int nParameters, final FitWorkspace workspace) {
+        final double[] parameter = workspace.parameter;
+        final double[] gradient = workspace.gradient;
+        if (function.getGradient(x, parameter, gradient)) {
+            return;
+        }
+        // forward finite-differences on a copy of the parameters
+        final double[] shifted = workspace.trial;
+        System.arraycopy(parameter, 0, shifted, 0, nParameters);
+        for (int j = 0; j < nParameters; j++) {
+            final double original = shifted[j];
+            final double step = FINITE_DIFFERENCE_STEP * Math.max(Math.abs(original), 1.0);
+            shifted[j] = original + step;
+            gradient[j] = (function.getValue(x, shifted) - value) / (shifted[j] - original);
+            shifted[j] = original;
+        }
+    }
+
+    /**
+     * accumulates alpha = J^T W J and beta = J^T W (y - f) at the workspace parameters
+     */
+    private static void normalEquations(final FitFunction function, final int nParameters, final double[] xValues, final double[] yValues, final double[] yErrors, final FitWorkspace workspace) {
+        final double[] parameter = workspace.parameter;
+        final double[] gradient = workspace.gradient;
+        final double[] alpha = workspace.alpha;
+        final double[] beta = workspace.beta;
+        Arrays.fill(alpha, 0, nParameters * nParameters, 0.0);
+        Arrays.fill(beta, 0, nParameters, 0.0);
+        for (int i = 0; i < xValues.length; i++) {
+            final double x = xValues[i];
+            final double value = function.getValue(x, parameter);
+            gradient(function, x, value, nParameters, workspace);
+            final double weight = weight(yErrors, i);
+            final double residual = yValues[i] - value;
+            for (int j = 0; j < nParameters; j++) {
+                final double weightedGradient = weight * gradient[j];
+                beta[j] += weightedGradient * residual;
+                for (int k = 0; k <= j; k++) {
+                    alpha[j * nParameters + k] += weightedGradient * gradient[k];
+                }
+            }
+        }
+        for (int j = 0; j < nParameters; j++) {
+            for (int k = 0; k < j; k++) {
+                alpha[k * nParameters + j] = alpha[j * nParameters + k];
+            }
+        }
+    }
+
+    /**
+     * solves (alpha + lambda diag(alpha)) delta = beta
+     */
+    private static boolean solveDamped(final int nParameters, final double lambda, final FitWorkspace workspace) {
+        final double[] factor = workspace.factor;
+        final double[] delta = workspace.delta;
+        System.arraycopy(workspace.alpha, 0, factor, 0, nParameters * nParameters);
+        for (int i = 0; i < nParameters; i++) {
+            factor[i * nParameters + i] *= 1.0 + lambda;
+        }
+        if (!choleskyDecomposition(factor, nParameters)) {
+            return false;
+        }
+        System.arraycopy(workspace.beta, 0, delta, 0, nParameters);
+        choleskySolve(factor, nParameters, delta, 0);
+        return true;
+    }
+
+    private static double weight(final double[] yErrors, final int index) {
+        if (yErrors == null) {
+            return 1.0;
+        }
+        final double error = yErrors[index];
+        if (!(error > 0.0)) {
+            throw new IllegalArgumentException("yErrors[" + index + "] = " + error + " must be positive");
+        }
+        return 1.0 / (error * error);
+    }
+
+    /**
+     * A single fit of a {@link #fitBatch batch}.
+     */
+    @FunctionalInterface
+    public interface FitTask {
+        /**
+         * @param index index of the fit within the batch
+         * @param workspace workspace exclusively owned by the executing thread for the duration of the call
+         * @return fit result
+         */
+        FitResult fit(int index, FitWorkspace workspace);
+    }
+
+    private static class BatchAction extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final transient FitTask task;
+        private final FitResult[] results;
+        private final int maxParameters;
+        private final int grainSize;
+        private final int from;
+        private final int to;
+
+        BatchAction(final FitTask task, final FitResult[] results, final int maxParameters, final int grainSize, final int from, final int to) {
+            super();
+            this.task = task;
+            this.results = results;
+            this.maxParameters = maxParameters;
+            this.grainSize = grainSize;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > grainSize) {
+                final int middle = (from + to) >>> 1;
+                invokeAll(new BatchAction(task, results, maxParameters, grainSize, from, middle), new BatchAction(task, results, maxParameters, grainSize, middle, to));
+                return;
+            }
+            try (FitWorkspace workspace = new FitWorkspace(maxParameters)) {
+                for (int i = from; i < to; i++) {
+                    results[i] = task.fit(i, workspace);
+                }
+            }
+        }
+    }
+
+    private static class GaussianFunction implements FitFunction {
+        private static final double SQRT_2_PI = Math.sqrt(2 * Math.PI);
+
+        @Override
+        public boolean getGradient(final double x, final double[] parameter, final double[] gradient) {
+            final double sigma = parameter[GAUSS_SIGMA];
+            final double u = (x - parameter[GAUSS_MEAN]) / sigma;
+            final double shape = Math.exp(-0.5 * u * u) / (SQRT_2_PI * sigma);
+            final double value = parameter[GAUSS_AREA] * shape;
+            gradient[GAUSS_MEAN] = value * u / sigma;
+            gradient[GAUSS_SIGMA] = value * (u * u - 1.0) / sigma;
+            gradient[GAUSS_AREA] = shape;
+            return true;
+        }
+
+        @Override
+        public double getValue(final double x, final double[] parameter) {
+            final double sigma = parameter[GAUSS_SIGMA];
+            final double u = (x - parameter[GAUSS_MEAN]) / sigma;
+            return parameter[GAUSS_AREA] * Math.exp(-0.5 * u * u) / (SQRT_2_PI * sigma);
+        }
+    }
+}
@@ -14,6 +14,9 @@ import de.gsi.math.matrix.SingularValueDecomposition;
  * function. This fit works fine for polyonimal function or other functions where scale-type factors need to be fitted
  * For non-linear fits (e.g. Gaussian, etc. ), please use 'NonLinearRegressionFitter'
  *
+ * N.B. the fit state is kept in the instance (fits are serialised via 'synchronized'). For concurrent fits of many
+ * data sets use the stateless {@link LeastSquaresFitter#fitLinear} instead.
+ *
  * @author rstein last modified: 2011-07-25 exported fitted parameter values, errors, added Tikhonov regularisation,
  *         expanded/generalised interface
  */
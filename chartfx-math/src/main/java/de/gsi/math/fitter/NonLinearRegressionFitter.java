@@ -15,6 +15,9 @@ import de.gsi.math.matrix.MatrixD;
  * initial implementation based on the package provided by: Michael Thomas Flanagan at www.ee.ucl.ac.uk/~mflanaga The
  * code has been cleaned up and adapted to further support multi-dimensional fits
  *
+ * N.B. the data and fit state are kept in the instance. For concurrent fits of many data sets use the stateless
+ * {@link LeastSquaresFitter#fitLevenbergMarquardt} instead.
+ *
  * @author rstein
  */
 public class NonLinearRegressionFitter {
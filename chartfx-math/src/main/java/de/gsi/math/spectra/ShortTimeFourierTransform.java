@@ -10,11 +10,13 @@ import org.jtransforms.fft.DoubleFFT_1D;
 
 import de.gsi.dataset.DataSet;
 import de.gsi.dataset.GridDataSet;
+import de.gsi.dataset.spi.CircularDoubleGridDataSet;
 import de.gsi.dataset.spi.DataSetBuilder;
 import de.gsi.dataset.spi.DoubleGridDataSet;
 import de.gsi.dataset.spi.MultiDimDoubleDataSet;
 import de.gsi.dataset.utils.AssertUtils;
 import de.gsi.dataset.utils.DoubleArrayCache;
+import de.gsi.math.spectra.fft.FftPlanCache;
 
 /**
  * Static utility class providing magnitude spectrograms from complex and real valued input data.
@@ -137,7 +139,7 @@ public class ShortTimeFourierTransform {
         final double[] amplitudeData = output == null || output.length != nFFT * nT ? new double[nFFT * nT] : output; // output array
         final double[] currentMagnitudeData = DoubleArrayCache.getInstance().getArray(nFFT);
         // calculate spectrogram
-        final DoubleFFT_1D fastFourierTrafo = new DoubleFFT_1D(nFFT);
+        final DoubleFFT_1D fastFourierTrafo = FftPlanCache.getComplexPlan(nFFT);
         final double[] raw = DoubleArrayCache.getInstance().getArrayExact(2 * nFFT); // array to perform calculations in
         for (int i = 0; i < nT; i++) {
             // obtain input data for FFT
@@ -191,7 +193,7 @@ public class ShortTimeFourierTransform {
         final double[] amplitudeData = output == null || output.length != nFFT * nT ? new double[nFFT * nT] : output; // output array
         final double[] currentMagnitudeData = DoubleArrayCache.getInstance().getArray(nFFT);
         // calculate spectrogram
-        final DoubleFFT_1D fastFourierTrafo = new DoubleFFT_1D(nFFT);
+        final DoubleFFT_1D fastFourierTrafo = FftPlanCache.getComplexPlan(nFFT);
         final double[] raw = DoubleArrayCache.getInstance().getArrayExact(2 * nFFT); // array to perform calculations in
         for (int i = 0; i < nT; i++) {
             // obtain input data for FFT
@@ -332,7 +334,7 @@ public class ShortTimeFourierTransform {
         final double[] amplitudeData = output == null || output.length != nFFT / 2 * nT ? new double[nFFT / 2 * nT] : output; // output array
         final double[] currentMagnitudeData = DoubleArrayCache.getInstance().getArray(nFFT / 2);
         // calculate spectrogram
-        final DoubleFFT_1D fastFourierTrafo = new DoubleFFT_1D(nFFT);
+        final DoubleFFT_1D fastFourierTrafo = FftPlanCache.getRealPlan(nFFT);
         final double[] raw = DoubleArrayCache.getInstance().getArrayExact(nFFT); // array to perform calculations in
         for (int i = 0; i < nT; i++) {
             // obtain input data for FFT
@@ -376,6 +378,91 @@ public class ShortTimeFourierTransform {
         return amplitudeData;
     }
 
+    /**
+     * Perform a Short term fourier transform on a stream of real valued input data and append the magnitude spectra of
+     * all complete time slices as new rows to a waterfall data set (see {@link #realWaterfall(String, double, int, int)}).
+     * Time slices that do not (yet) contain nFFT samples are not computed, thus the caller should retain the samples
+     * starting at {@code from + } the returned value and prepend them to the next chunk of samples.
+     *
+     * @param input array containing the new samples
+     * @param from index of the first sample to be transformed (inclusive)
+     * @param to index of the last sample to be transformed (exclusive)
+     * @param t0 time stamp of sample 'from'
+     * @param dt sampling interval
+     * @param output waterfall data set with nFFT/2 frequency bins
+     * @param step The timestep size in samples
+     * @param apodization function, by default Hann window is used
+     * @param dbScale {@code true} to convert the spectrum to dB scale
+     * @param truncateDCNy {@code true} to interpolate the DC- and Nyquist-bins to their respective nearest neighbours
+     * @return number of consumed samples, i.e. the offset relative to 'from' of the first time slice that has not been
+     *         computed
+     */
+    public static int real(final double[] input, final int from, final int to, final double t0, final double dt, final CircularDoubleGridDataSet output,
+            final int step, final Apodization apodization, final boolean dbScale, final boolean truncateDCNy) {
+        AssertUtils.notNull("input", input);
+        AssertUtils.notNull("output", output);
+        AssertUtils.gtThanZero("step", step);
+        AssertUtils.notNull("apodization", apodization);
+        AssertUtils.indexInBounds(from, input.length + 1, "from out of bounds");
+        AssertUtils.indexOrder(from, "from", to, "to");
+        AssertUtils.indexInBounds(to, input.length + 1, "to out of bounds");
+        final int nFFT = 2 * output.getShape(DIM_X);
+        AssertUtils.gtThanZero("nFFT", nFFT);
+        final int nT = to - from < nFFT ? 0 : (to - from - nFFT) / step + 1; // number of complete time slices
+        if (nT == 0) {
+            return 0;
+        }
+        final double[] timeAxis = new double[nT];
+        final double[] amplitudeData = new double[nFFT / 2 * nT];
+        final double[] currentMagnitudeData = DoubleArrayCache.getInstance().getArray(nFFT / 2);
+        // calculate spectrogram
+        final DoubleFFT_1D fastFourierTrafo = FftPlanCache.getRealPlan(nFFT);
+        final double[] raw = DoubleArrayCache.getInstance().getArrayExact(nFFT); // array to perform calculations in
+        for (int i = 0; i < nT; i++) {
+            final int offset = i * step;
+            timeAxis[i] = t0 + dt * offset;
+            System.arraycopy(input, from + offset, raw, 0, nFFT);
+            // apply apodization function
+            apodization.apodize(raw);
+            // perform Fourier transform
+            fastFourierTrafo.realForward(raw);
+            // calculate magnitude spectrum
+            if (dbScale) {
+                SpectrumTools.computeMagnitudeSpectrum_dB(raw, 0, nFFT, currentMagnitudeData, 0, truncateDCNy);
+            } else {
+                SpectrumTools.computeMagnitudeSpectrum(raw, 0, nFFT, currentMagnitudeData, 0, truncateDCNy);
+            }
+            System.arraycopy(currentMagnitudeData, 0, amplitudeData, i * nFFT / 2, nFFT / 2);
+        }
+        // return cached arrays
+        DoubleArrayCache.getInstance().add(currentMagnitudeData);
+        DoubleArrayCache.getInstance().add(raw);
+
+        // N.B. single notification for all new rows
+        output.appendRows(timeAxis, amplitudeData);
+        return nT * step;
+    }
+
+    /**
+     * Creates an empty waterfall data set to be fed with the spectra of a stream of real valued input data via
+     * {@link #real(double[], int, int, double, double, CircularDoubleGridDataSet, int, Apodization, boolean, boolean)}.
+     *
+     * @param name name of the data set
+     * @param dt sampling interval [s]
+     * @param nFFT the number of samples per time slice (i.e. nFFT/2 frequency bins)
+     * @param capacity number of retained time slices
+     * @return the empty waterfall data set with frequency [Hz] in DIM_X and time [s] in DIM_Y
+     */
+    public static CircularDoubleGridDataSet realWaterfall(final String name, final double dt, final int nFFT, final int capacity) {
+        AssertUtils.gtThanZero("nFFT", nFFT);
+        final CircularDoubleGridDataSet result = new CircularDoubleGridDataSet(name, getFrequencyAxisReal(dt, nFFT, null), capacity);
+        result.getMetaInfo().put("RealSTFT-nFFT", Integer.toString(nFFT));
+        result.getAxisDescription(DIM_X).set("Frequency", "Hz");
+        result.getAxisDescription(DIM_Y).set("Time", "s");
+        result.getAxisDescription(DIM_Z).set("Magnitude");
+        return result;
+    }
+
     public enum Padding {
         ZERO,
         ZOH,
@@ -4,10 +4,12 @@ import java.util.Arrays;
 
 import org.jtransforms.fft.DoubleFFT_1D;
 
+import de.gsi.dataset.utils.AssertUtils;
 import de.gsi.math.Math;
 import de.gsi.math.MathBase;
 import de.gsi.math.fitter.NonLinearRegressionFitter;
 import de.gsi.math.functions.CombFunction;
+import de.gsi.math.spectra.fft.FftPlanCache;
 
 /**
  * Class implements frequency interpolation of spectral peaks. The main idea behind these algorithm is: The resolution
@@ -597,23 +599,37 @@ public class SpectrumTools {
     }
 
     public static synchronized double[] interpolateSpectrum(final double[] data, final int noversampling) {
-        final double[] val1 = Arrays.copyOf(data, data.length);
+        return interpolateSpectrum(data, data.length, noversampling, new double[noversampling * data.length]);
+    }
 
-        DoubleFFT_1D fft1D = new DoubleFFT_1D(data.length);
-        fft1D.realInverse(val1, true);
+    /**
+     * Interpolates the spectrum by zero-padding its (inverse) time-domain representation without allocating any
+     * temporary arrays.
+     *
+     * @param data the input spectrum (not modified)
+     * @param length number of valid samples in 'data'
+     * @param noversampling the over-sampling factor
+     * @param output the storage for the interpolated spectrum (N.B. needs to be at least of size noversampling * length,
+     *            e.g. taken from {@link de.gsi.dataset.utils.ArrayPool})
+     * @return the output array (fluent design)
+     */
+    public static double[] interpolateSpectrum(final double[] data, final int length, final int noversampling, final double[] output) {
+        AssertUtils.gtOrEqual("data", length, data.length);
+        AssertUtils.gtThanZero("noversampling", noversampling);
+        final int fftLength = noversampling * length;
+        AssertUtils.gtOrEqual("output", fftLength, output.length);
 
-        final double[] val2 = new double[noversampling * val1.length];
-        System.arraycopy(val1, 0, val2, 0, val1.length - 2);
+        System.arraycopy(data, 0, output, 0, length);
+        FftPlanCache.getRealPlan(length).realInverse(output, true); // N.B. uses only the first 'length' samples
+        Arrays.fill(output, java.lang.Math.max(0, length - 2), fftLength, 0.0);
 
-        final int fftLength = noversampling * data.length;
-        fft1D = new DoubleFFT_1D(fftLength);
-        fft1D.realForward(val2);
+        FftPlanCache.getRealPlan(fftLength).realForward(output);
 
-        for (int i = 0; i < val2.length; i++) {
-            val2[i] *= noversampling;
+        for (int i = 0; i < fftLength; i++) {
+            output[i] *= noversampling;
         }
 
-        return val2;
+        return output;
     }
 
     public static void main(final String[] args) {
@@ -10,7 +10,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import de.gsi.dataset.spi.utils.DoublePoint;
-import de.gsi.dataset.utils.ArrayCache;
+import de.gsi.dataset.utils.ArrayPool;
 import de.gsi.dataset.utils.AssertUtils;
 import de.gsi.math.ArrayMath;
 import de.gsi.math.ArrayUtils;
@@ -37,12 +37,6 @@ import de.gsi.math.Math;
 
 public class TSpectrum { // NOPMD - nomen est omen
     private static final Logger LOGGER = LoggerFactory.getLogger(TSpectrum.class);
-    private static final String CACHED_ARRAY_BACKGROUND = "TSpectrum::background:workingSpace";
-    private static final String CACHED_ARRAY_SMOOTH_MARKOV = "TSpectrum::smoothMarkov:workingSpace";
-    private static final String CACHED_ARRAY_SEARCH = "TSpectrum::search:workingSpace";
-    private static final String CACHED_ARRAY_DECONVOLUTION = "TSpectrum::deconvolution:workingSpace";
-    private static final String CACHED_ARRAY_DECONVOLUTION_RL = "TSpectrum::deconvolutionLR:workingSpace";
-    private static final String CACHED_ARRAY_UNFOLDING = "TSpectrum::unfolding:workingSpace";
     private static final int PEAK_WINDOW = 1024;
 
     /**
@@ -84,7 +78,7 @@ public class TSpectrum { // NOPMD - nomen est omen
         AssertUtils.notNull("filterOrder", filterOrder);
         AssertUtils.notNull("smoothing", smoothing);
 
-        final double[] workingSpace = ArrayCache.getCachedDoubleArray(CACHED_ARRAY_BACKGROUND, 2 * length);
+        final double[] workingSpace = ArrayPool.getDoublePool().getArray(2 * length);
         System.arraycopy(source, 0, workingSpace, 0, length);
         System.arraycopy(source, 0, workingSpace, length, length);
 
@@ -171,7 +165,7 @@ public class TSpectrum { // NOPMD - nomen est omen
         final double[] returnVector = destination == null || destination.length < length ? new double[length]
                                                                                          : destination;
         System.arraycopy(workingSpace, 0, returnVector, 0, length);
-        ArrayCache.release(CACHED_ARRAY_BACKGROUND, workingSpace);
+        ArrayPool.getDoublePool().release(workingSpace);
 
         return returnVector;
     }
@@ -199,7 +193,7 @@ public class TSpectrum { // NOPMD - nomen est omen
         AssertUtils.gtThanZero("numberRepetitions", numberRepetitions);
 
         // working_space-pointer to the working vector (its size must be 4*length of source spectrum)
-        final double[] workingSpace = ArrayCache.getCachedDoubleArray(CACHED_ARRAY_DECONVOLUTION, 4 * length);
+        final double[] workingSpace = ArrayPool.getDoublePool().getArray(4 * length);
 
         // read response vector
         double maximum = 0;
@@ -321,7 +315,7 @@ public class TSpectrum { // NOPMD - nomen est omen
                                                                                          : destination;
         System.arraycopy(workingSpace, 0, returnVector, 0, length);
         ArrayMath.multiplyInPlace(returnVector, area);
-        ArrayCache.release(CACHED_ARRAY_DECONVOLUTION, workingSpace);
+        ArrayPool.getDoublePool().release(workingSpace);
         return returnVector;
     }
 
@@ -346,7 +340,7 @@ public class TSpectrum { // NOPMD - nomen est omen
         AssertUtils.gtThanZero("numberRepetitions", numberRepetitions);
 
         // working_space-pointer to the working vector (its size must be 4*length of source spectrum)
-        final double[] workingSpace = ArrayCache.getCachedDoubleArray(CACHED_ARRAY_DECONVOLUTION_RL, 4 * length);
+        final double[] workingSpace = ArrayPool.getDoublePool().getArray(4 * length);
 
         // read response vector
         int posit = 0;
@@ -446,7 +440,7 @@ public class TSpectrum { // NOPMD - nomen est omen
                                                                                          : destination;
         System.arraycopy(workingSpace, 0, returnVector, 0, length);
 
-        ArrayCache.release(CACHED_ARRAY_DECONVOLUTION_RL, workingSpace);
+        ArrayPool.getDoublePool().release(workingSpace);
         return returnVector;
     }
 
@@ -1200,7 +1194,7 @@ public class TSpectrum { // NOPMD - nomen est omen
         }
 
         int nWidthSigma = (int) (7 * sigma + 0.5) * 2;
-        final double[] workingSpace = ArrayCache.getCachedDoubleArray(CACHED_ARRAY_SEARCH, 7 * (length + nWidthSigma));
+        final double[] workingSpace = ArrayPool.getDoublePool().getArray(7 * (length + nWidthSigma));
         ArrayUtils.fillArray(workingSpace, 0.0);
 
         for (int i = 0; i < sizeExt; i++) {
@@ -1320,7 +1314,7 @@ public class TSpectrum { // NOPMD - nomen est omen
                 plocha += workingSpace[2 * sizeExt + i];
             }
             if (signalMax == 0) {
-                ArrayCache.release(CACHED_ARRAY_SEARCH, workingSpace);
+                ArrayPool.getDoublePool().release(workingSpace);
                 return Collections.emptyList();
             }
 
@@ -1614,7 +1608,7 @@ public class TSpectrum { // NOPMD - nomen est omen
             System.arraycopy(workingSpace, shift, destVector, 0, length);
         }
 
-        ArrayCache.release(CACHED_ARRAY_SEARCH, workingSpace);
+        ArrayPool.getDoublePool().release(workingSpace);
         if (peakIndex == nMaxPeaks && LOGGER.isWarnEnabled()) {
             LOGGER.atWarn().addArgument(nMaxPeaks).log("maximum specified number of peaks limit reached {}");
         }
@@ -1642,7 +1636,7 @@ public class TSpectrum { // NOPMD - nomen est omen
             throw new IllegalArgumentException("averaging window must be positive");
         }
 
-        final double[] workingSpace = ArrayCache.getCachedDoubleArray(CACHED_ARRAY_SMOOTH_MARKOV, length);
+        final double[] workingSpace = ArrayPool.getDoublePool().getArray(length);
         ArrayUtils.fillArray(workingSpace, 0.0);
 
         final double sourceMax = Math.maximum(source, length);
@@ -1710,7 +1704,7 @@ public class TSpectrum { // NOPMD - nomen est omen
         }
         ArrayMath.multiplyInPlace(workingSpace, area / nom);
 
-        ArrayCache.release(CACHED_ARRAY_SMOOTH_MARKOV, workingSpace);
+        ArrayPool.getDoublePool().release(workingSpace);
         final double[] returnVector = destination == null || destination.length < length ? new double[length]
                                                                                          : destination;
         System.arraycopy(workingSpace, 0, returnVector, 0, length);
@@ -1744,7 +1738,7 @@ public class TSpectrum { // NOPMD - nomen est omen
         AssertUtils.gtThanZero("numberIterations", numberIterations);
 
         final int workSpaceSize = lengthx * lengthy + 2 * lengthy * lengthy + 4 * lengthx;
-        final double[] workingSpace = ArrayCache.getCachedDoubleArray(CACHED_ARRAY_UNFOLDING, workSpaceSize);
+        final double[] workingSpace = ArrayPool.getDoublePool().getArray(workSpaceSize);
 
         /* read response matrix */
         int lhx = 0;
@@ -1872,7 +1866,7 @@ public class TSpectrum { // NOPMD - nomen est omen
                 returnVector[i] = 0;
             }
         }
-        ArrayCache.release(CACHED_ARRAY_UNFOLDING, workingSpace);
+        ArrayPool.getDoublePool().release(workingSpace);
 
         return returnVector;
     }
@@ -0,0 +1,162 @@
+package de.gsi.math.spectra.fft;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.jtransforms.fft.DoubleFFT_1D;
+
+import de.gsi.dataset.utils.AssertUtils;
+
+/**
+ * Thread-safe cache of {@link DoubleFFT_1D} plans keyed by transform length and type.
+ * <p>
+ * Creating a JTransforms plan pre-computes the twiddle factor and bit-reversal tables which, for recurring (e.g.
+ * live-updating) spectra, is more expensive than the transform itself. The plans are not modified by the transforms and
+ * can thus be shared between threads. The cache keeps the least-recently used plans up to a configurable limit.
+ * <p>
+ * usage example:
+ *
+ * <pre>
+ * final DoubleFFT_1D fft = FftPlanCache.getRealPlan(n);
+ * final double[] buffer = DoubleArrayCache.getInstance().getArray(n); // N.B. may be larger than 'n'
+ * [..] fill buffer [..]
+ * fft.realForward(buffer);
+ * [..] user code [..]
+ * DoubleArrayCache.getInstance().add(buffer);
+ * </pre>
+ *
+ * @author rstein
+ */
+public final class FftPlanCache {
+    private static final int DEFAULT_MAX_PLANS = 32;
+    private static final Object LOCK = new Object();
+    private static int maxPlans = DEFAULT_MAX_PLANS;
+    private static final Map<PlanDescription, DoubleFFT_1D> PLANS = new LinkedHashMap<>(2 * DEFAULT_MAX_PLANS, 0.75f, true) {
+        private static final long serialVersionUID = 3295787137585539218L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<PlanDescription, DoubleFFT_1D> eldest) {
+            return size() > maxPlans;
+        }
+    };
+
+    private FftPlanCache() {
+        // static helper class
+    }
+
+    /**
+     * clears all cached plans
+     */
+    public static void clear() {
+        synchronized (LOCK) {
+            PLANS.clear();
+        }
+    }
+
+    /**
+     * @param n number of complex samples (N.B. the interleaved [re, im, ...] array is of size 2*n)
+     * @return cached plan to be used with {@link DoubleFFT_1D#complexForward(double[])} and
+     *         {@link DoubleFFT_1D#complexInverse(double[], boolean)}
+     */
+    public static DoubleFFT_1D getComplexPlan(final int n) {
+        return getPlan(FftType.COMPLEX, n);
+    }
+
+    /**
+     * @return maximum number of plans retained by the cache
+     */
+    public static int getMaxPlans() {
+        synchronized (LOCK) {
+            return maxPlans;
+        }
+    }
+
+    /**
+     * @param type the transform type
+     * @param n transform length
+     * @return cached or newly created plan
+     */
+    public static DoubleFFT_1D getPlan(final FftType type, final int n) {
+        AssertUtils.notNull("type", type);
+        AssertUtils.gtThanZero("n", n);
+        final PlanDescription description = new PlanDescription(type, n);
+        synchronized (LOCK) {
+            final DoubleFFT_1D plan = PLANS.get(description);
+            if (plan != null) {
+                return plan;
+            }
+        }
+        // N.B. plan computation is done outside the lock so that other lengths are not blocked
+        final DoubleFFT_1D newPlan = new DoubleFFT_1D(n);
+        synchronized (LOCK) {
+            final DoubleFFT_1D plan = PLANS.putIfAbsent(description, newPlan);
+            return plan == null ? newPlan : plan;
+        }
+    }
+
+    /**
+     * @param n number of real samples
+     * @return cached plan to be used with {@link DoubleFFT_1D#realForward(double[])} and
+     *         {@link DoubleFFT_1D#realInverse(double[], boolean)}
+     */
+    public static DoubleFFT_1D getRealPlan(final int n) {
+        return getPlan(FftType.REAL, n);
+    }
+
+    /**
+     * @param maxPlans maximum number of plans retained by the cache (least-recently used plans are evicted first)
+     */
+    public static void setMaxPlans(final int maxPlans) {
+        AssertUtils.gtThanZero("maxPlans", maxPlans);
+        synchronized (LOCK) {
+            FftPlanCache.maxPlans = maxPlans;
+            while (PLANS.size() > maxPlans) {
+                PLANS.remove(PLANS.keySet().iterator().next());
+            }
+        }
+    }
+
+    /**
+     * @return number of presently cached plans
+     */
+    public static int size() {
+        synchronized (LOCK) {
+            return PLANS.size();
+        }
+    }
+
+    public enum FftType {
+        REAL,
+        COMPLEX
+    }
+
+    /**
+     * private class identifying a specific plan, used as a key for the plan cache
+     */
+    private static class PlanDescription {
+        private final FftType type;
+        private final int length;
+
+        protected PlanDescription(final FftType type, final int length) {
+            this.type = type;
+            this.length = length;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof PlanDescription)) {
+                return false;
+            }
+            final PlanDescription other = (PlanDescription) obj;
+            return type == other.type && length == other.length;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * type.ordinal() + length;
+        }
+    }
+}
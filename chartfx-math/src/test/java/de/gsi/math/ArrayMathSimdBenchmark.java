@@ -0,0 +1,178 @@
+package de.gsi.math;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark comparing the scalar {@link ArrayMath} functions with the (vectorised) {@link ArrayMathSimd} kernels. The
+ * fused kernels (multiply-add, magnitude-to-dB) are compared against the equivalent sequence of ArrayMath passes.
+ *
+ * The secondary 'bytes' metric reports the memory throughput of each kernel in bytes/ns, ie. GB/s (input arrays read
+ * plus output array written). N.B. the 'simd*' benchmarks need JDK 17+ (forks with '--add-modules
+ * jdk.incubator.vector'), the 'scalar*' ones run on any JDK.
+ *
+ * @author rstein
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ArrayMathSimdBenchmark {
+    private static final String VECTOR_MODULE = "--add-modules=jdk.incubator.vector";
+    private static final int BYTES = Double.BYTES;
+
+    @Param({ "1024", "65536", "4194304" })
+    private int size;
+    private double[] in;
+    private double[] multiplicator;
+    private double[] value;
+    private double[] complex;
+    private double[] out;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        in = new double[size];
+        multiplicator = new double[size];
+        value = new double[size];
+        complex = new double[2 * size];
+        out = new double[size];
+        for (int i = 0; i < size; i++) {
+            in[i] = 0.1 + random.nextDouble();
+            multiplicator[i] = 0.1 + random.nextDouble();
+            value[i] = random.nextDouble();
+            complex[2 * i] = random.nextGaussian();
+            complex[2 * i + 1] = random.nextGaussian();
+        }
+    }
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2)
+    public double[] scalarAdd(final Throughput throughput) {
+        throughput.bytes += 3L * BYTES * size;
+        return ArrayMath.add(in, multiplicator);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2, jvmArgsAppend = VECTOR_MODULE)
+    public double[] simdAdd(final Throughput throughput) {
+        throughput.bytes += 3L * BYTES * size;
+        return ArrayMathSimd.add(in, 0, multiplicator, 0, out, 0, size);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2)
+    public double[] scalarMultiplyScalar(final Throughput throughput) {
+        throughput.bytes += 2L * BYTES * size;
+        return ArrayMath.multiply(in, 0.5);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2, jvmArgsAppend = VECTOR_MODULE)
+    public double[] simdMultiplyScalar(final Throughput throughput) {
+        throughput.bytes += 2L * BYTES * size;
+        return ArrayMathSimd.multiply(in, 0, 0.5, out, 0, size);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2)
+    public double[] scalarDivide(final Throughput throughput) {
+        throughput.bytes += 3L * BYTES * size;
+        return ArrayMath.divide(in, multiplicator);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2, jvmArgsAppend = VECTOR_MODULE)
+    public double[] simdDivide(final Throughput throughput) {
+        throughput.bytes += 3L * BYTES * size;
+        return ArrayMathSimd.divide(in, 0, multiplicator, 0, out, 0, size);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2)
+    public double[] scalarDecibel(final Throughput throughput) {
+        throughput.bytes += 2L * BYTES * size;
+        return ArrayMath.decibel(in);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2, jvmArgsAppend = VECTOR_MODULE)
+    public double[] simdDecibel(final Throughput throughput) {
+        throughput.bytes += 2L * BYTES * size;
+        return ArrayMathSimd.decibel(in, 0, out, 0, size);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2)
+    public double[] scalarMultiplyAdd(final Throughput throughput) {
+        throughput.bytes += 4L * BYTES * size;
+        return ArrayMath.addInPlace(ArrayMath.multiply(in, multiplicator), value);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2, jvmArgsAppend = VECTOR_MODULE)
+    public double[] simdMultiplyAdd(final Throughput throughput) {
+        throughput.bytes += 4L * BYTES * size;
+        return ArrayMathSimd.multiplyAdd(in, 0, multiplicator, 0, value, 0, out, 0, size);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2)
+    public double[] scalarMagnitudeDecibel(final Throughput throughput) {
+        throughput.bytes += 3L * BYTES * size;
+        final double[] magnitude = new double[size];
+        for (int i = 0; i < size; i++) {
+            magnitude[i] = MathBase.sqrt(MathBase.sqr(complex[2 * i]) + MathBase.sqr(complex[2 * i + 1]));
+        }
+        return ArrayMath.decibelInPlace(magnitude);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2, jvmArgsAppend = VECTOR_MODULE)
+    public double[] simdMagnitudeDecibel(final Throughput throughput) {
+        throughput.bytes += 3L * BYTES * size;
+        return ArrayMathSimd.magnitudeDecibel(complex, 0, out, 0, size);
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    /**
+     * counts the number of bytes read and written per benchmark invocation -&gt; reported as bytes/ns = GB/s
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Throughput {
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package de.gsi.math;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Checks the (vectorised) ArrayMathSimd kernels against the scalar ArrayMath reference. N.B. the vector API is only
+ * exercised if the tests are executed with JDK 17+ and '--add-modules jdk.incubator.vector' (see 'jdk17' profile).
+ *
+ * @author rstein
+ */
+class ArrayMathSimdTests {
+    private static final double DB_TOLERANCE_DOUBLE = 1e-12;
+    private static final float DB_TOLERANCE_FLOAT = 1e-4f;
+
+    @ParameterizedTest
+    @CsvSource({ "0, 0", "1, 0", "7, 3", "64, 0", "1001, 5" })
+    void testDoubleKernels(final int length, final int offset) {
+        final double[] a = randomDoubles(length + offset, 1);
+        final double[] b = randomDoubles(length + offset, 2);
+        final double[] c = randomDoubles(length + offset, 3);
+        final double[] a0 = Arrays.copyOfRange(a, offset, offset + length);
+        final double[] b0 = Arrays.copyOfRange(b, offset, offset + length);
+        final double[] c0 = Arrays.copyOfRange(c, offset, offset + length);
+
+        assertArrayEquals(ArrayMath.add(a0, b0), ArrayMathSimd.add(a0, b0));
+        assertArrayEquals(ArrayMath.add(a0, 0.5), ArrayMathSimd.add(a0, 0.5));
+        assertArrayEquals(ArrayMath.subtract(a0, b0), ArrayMathSimd.subtract(a0, b0));
+        assertArrayEquals(ArrayMath.subtract(a0, 0.5), ArrayMathSimd.subtract(a0, 0.5));
+        assertArrayEquals(ArrayMath.multiply(a0, b0), ArrayMathSimd.multiply(a0, b0));
+        assertArrayEquals(ArrayMath.multiply(a0, 0.5), ArrayMathSimd.multiply(a0, 0.5));
+        assertArrayEquals(ArrayMath.divide(a0, b0), ArrayMathSimd.divide(a0, b0));
+        assertArrayEquals(ArrayMath.add(ArrayMath.multiply(a0, b0), c0), ArrayMathSimd.multiplyAdd(a0, b0, c0));
+        assertArrayEquals(ArrayMath.decibel(a0), ArrayMathSimd.decibel(a0), DB_TOLERANCE_DOUBLE);
+
+        // offset variants
+        final double[] out = new double[length + offset];
+        assertArrayEquals(ArrayMath.add(a0, b0), Arrays.copyOfRange(ArrayMathSimd.add(a, offset, b, offset, out, offset, length), offset, offset + length));
+        assertArrayEquals(ArrayMath.multiply(a0, 2.0), Arrays.copyOfRange(ArrayMathSimd.multiply(a, offset, 2.0, out, offset, length), offset, offset + length));
+        assertArrayEquals(ArrayMath.add(ArrayMath.multiply(a0, b0), c0), Arrays.copyOfRange(ArrayMathSimd.multiplyAdd(a, offset, b, offset, c, offset, out, offset, length), offset, offset + length));
+
+        // in-place variants
+        assertArrayEquals(ArrayMath.add(a0, b0), ArrayMathSimd.addInPlace(Arrays.copyOf(a0, length), b0));
+        assertArrayEquals(ArrayMath.subtract(a0, 1.0), ArrayMathSimd.subtractInPlace(Arrays.copyOf(a0, length), 1.0));
+        assertArrayEquals(ArrayMath.multiply(a0, b0), ArrayMathSimd.multiplyInPlace(Arrays.copyOf(a0, length), b0));
+        assertArrayEquals(ArrayMath.divide(a0, b0), ArrayMathSimd.divideInPlace(Arrays.copyOf(a0, length), b0));
+        assertArrayEquals(ArrayMath.add(ArrayMath.multiply(a0, b0), c0), ArrayMathSimd.multiplyAddInPlace(Arrays.copyOf(a0, length), b0, c0));
+        final double[] inPlace = Arrays.copyOf(a0, length);
+        assertSame(inPlace, ArrayMathSimd.decibelInPlace(inPlace));
+        assertArrayEquals(ArrayMath.decibel(a0), inPlace, DB_TOLERANCE_DOUBLE);
+
+        // complex interleaved
+        final double[] complex = randomDoubles(2 * length + offset, 4);
+        final double[] magnitude = new double[length];
+        for (int i = 0; i < length; i++) {
+            final double re = complex[offset + 2 * i];
+            final double im = complex[offset + 2 * i + 1];
+            magnitude[i] = Math.sqrt(re * re + im * im);
+        }
+        assertArrayEquals(magnitude, ArrayMathSimd.magnitude(complex, offset, new double[length], 0, length));
+        assertArrayEquals(ArrayMath.decibel(magnitude), ArrayMathSimd.magnitudeDecibel(complex, offset, new double[length], 0, length), DB_TOLERANCE_DOUBLE);
+        assertEquals(length / 2, ArrayMathSimd.magnitude(new double[length]).length);
+        assertEquals(length / 2, ArrayMathSimd.magnitudeDecibel(new double[length]).length);
+    }
+
+    @ParameterizedTest
+    @CsvSource({ "0, 0", "1, 0", "7, 3", "64, 0", "1001, 5" })
+    void testFloatKernels(final int length, final int offset) {
+        final float[] a = randomFloats(length + offset, 1);
+        final float[] b = randomFloats(length + offset, 2);
+        final float[] c = randomFloats(length + offset, 3);
+        final float[] a0 = Arrays.copyOfRange(a, offset, offset + length);
+        final float[] b0 = Arrays.copyOfRange(b, offset, offset + length);
+        final float[] c0 = Arrays.copyOfRange(c, offset, offset + length);
+
+        assertArrayEquals(ArrayMath.add(a0, b0), ArrayMathSimd.add(a0, b0));
+        assertArrayEquals(ArrayMath.add(a0, 0.5f), ArrayMathSimd.add(a0, 0.5f));
+        assertArrayEquals(ArrayMath.subtract(a0, b0), ArrayMathSimd.subtract(a0, b0));
+        assertArrayEquals(ArrayMath.multiply(a0, b0), ArrayMathSimd.multiply(a0, b0));
+        assertArrayEquals(ArrayMath.multiply(a0, 0.5f), ArrayMathSimd.multiply(a0, 0.5f));
+        assertArrayEquals(ArrayMath.divide(a0, b0), ArrayMathSimd.divide(a0, b0));
+        assertArrayEquals(ArrayMath.add(ArrayMath.multiply(a0, b0), c0), ArrayMathSimd.multiplyAdd(a0, b0, c0));
+        assertArrayEquals(ArrayMath.decibel(a0), ArrayMathSimd.decibel(a0), DB_TOLERANCE_FLOAT);
+
+        final float[] out = new float[length + offset];
+        assertArrayEquals(ArrayMath.subtract(a0, b0), Arrays.copyOfRange(ArrayMathSimd.subtract(a, offset, b, offset, out, offset, length), offset, offset + length));
+
+        final float[] complex = randomFloats(2 * length + offset, 4);
+        final float[] magnitude = new float[length];
+        for (int i = 0; i < length; i++) {
+            final float re = complex[offset + 2 * i];
+            final float im = complex[offset + 2 * i + 1];
+            magnitude[i] = (float) Math.sqrt(re * re + im * im);
+        }
+        assertArrayEquals(magnitude, ArrayMathSimd.magnitude(complex, offset, new float[length], 0, length));
+        assertArrayEquals(ArrayMath.decibel(magnitude), ArrayMathSimd.magnitudeDecibel(complex, offset, new float[length], 0, length), DB_TOLERANCE_FLOAT);
+    }
+
+    @Test
+    void testRangeChecks() {
+        assertThrows(IllegalArgumentException.class, () -> ArrayMathSimd.add(null, 0, new double[3], 0, new double[3], 0, 3));
+        assertThrows(IllegalArgumentException.class, () -> ArrayMathSimd.add(new double[3], new double[2]));
+        assertThrows(IllegalArgumentException.class, () -> ArrayMathSimd.add(new double[3], 1, 1.0, new double[3], 0, 3));
+        assertThrows(IllegalArgumentException.class, () -> ArrayMathSimd.add(new double[3], -1, 1.0, new double[3], 0, 2));
+        assertThrows(IllegalArgumentException.class, () -> ArrayMathSimd.multiply(new double[3], 0, 1.0, new double[2], 0, 3));
+        assertThrows(IllegalArgumentException.class, () -> ArrayMathSimd.multiplyAdd(new double[3], new double[3], new double[2]));
+        assertThrows(IllegalArgumentException.class, () -> ArrayMathSimd.magnitude(new double[5], 0, new double[3], 0, 3));
+        assertThrows(IllegalArgumentException.class, () -> ArrayMathSimd.magnitudeDecibel(new float[6], 0, new float[2], 0, 3));
+        assertThrows(IllegalArgumentException.class, () -> ArrayMathSimd.decibel(new float[3], 0, new float[3], 0, -1));
+    }
+
+    private static double[] randomDoubles(final int length, final long seed) {
+        final Random random = new Random(seed);
+        final double[] ret = new double[length];
+        for (int i = 0; i < length; i++) {
+            ret[i] = 0.1 + 10.0 * random.nextDouble();
+        }
+        return ret;
+    }
+
+    private static float[] randomFloats(final int length, final long seed) {
+        final Random random = new Random(seed);
+        final float[] ret = new float[length];
+        for (int i = 0; i < length; i++) {
+            ret[i] = 0.1f + 10.0f * random.nextFloat();
+        }
+        return ret;
+    }
+}
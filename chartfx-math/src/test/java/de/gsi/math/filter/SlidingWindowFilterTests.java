@@ -0,0 +1,199 @@
+package de.gsi.math.filter;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import static de.gsi.dataset.DataSet.DIM_X;
+import static de.gsi.dataset.DataSet.DIM_Y;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import de.gsi.dataset.DataSet;
+import de.gsi.dataset.event.EventRateLimiter.UpdateStrategy;
+import de.gsi.dataset.spi.DoubleErrorDataSet;
+import de.gsi.math.DataSetMath;
+import de.gsi.math.DataSetMath.Filter;
+import de.gsi.math.MathDataSet;
+import de.gsi.math.TRandom;
+
+/**
+ * Unit-Tests of #de.gsi.math.filter.SlidingWindowFilter against a brute-force reference implementation
+ *
+ * @author rstein
+ */
+class SlidingWindowFilterTests {
+    private static final int N_SAMPLES = 500;
+    private static final double WIDTH = 3.5;
+
+    @Test
+    void testSortedAgainstReference() {
+        final double[] x = new double[N_SAMPLES];
+        final double[] y = new double[N_SAMPLES];
+        double time = 0.0;
+        for (int i = 0; i < N_SAMPLES; i++) {
+            time += i % 7 == 0 ? 0.0 : TRandom.Rndm(); // N.B. includes duplicate x-coordinates
+            x[i] = time;
+            y[i] = i % 11 == 0 ? 0.0 : TRandom.Gaus(1.0, 2.0);
+        }
+
+        for (final Filter filter : Filter.values()) {
+            final double[] result = new double[N_SAMPLES];
+            SlidingWindowFilter.filter(filter, WIDTH, x, y, N_SAMPLES, result, 0, N_SAMPLES, true);
+            assertArrayEquals(reference(filter, WIDTH, x, y), result, 1e-9, filter.getTag());
+        }
+    }
+
+    @Test
+    void testNonFiniteSamples() {
+        final double[] x = new double[N_SAMPLES];
+        final double[] y = new double[N_SAMPLES];
+        for (int i = 0; i < N_SAMPLES; i++) {
+            x[i] = 0.5 * i;
+            y[i] = TRandom.Gaus(1.0, 2.0);
+        }
+        y[50] = Double.NaN;
+        y[150] = Double.POSITIVE_INFINITY;
+        y[250] = Double.NEGATIVE_INFINITY;
+        y[350] = Double.POSITIVE_INFINITY;
+        y[352] = Double.NEGATIVE_INFINITY;
+        y[450] = Double.NaN;
+        y[452] = 0.0;
+
+        for (final Filter filter : Filter.values()) {
+            final double[] result = new double[N_SAMPLES];
+            SlidingWindowFilter.filter(filter, WIDTH, x, y, N_SAMPLES, result, 0, N_SAMPLES, true);
+            assertArrayEquals(reference(filter, WIDTH, x, y), result, 1e-9, filter.getTag());
+            // the filter recovers once the non-finite samples left the window
+            assertTrue(Double.isFinite(result[100]), filter.getTag());
+            assertTrue(Double.isFinite(result[N_SAMPLES - 1]), filter.getTag());
+        }
+    }
+
+    @Test
+    void testUnsortedAgainstReference() {
+        final double[] x = new double[N_SAMPLES];
+        final double[] y = new double[N_SAMPLES];
+        for (int i = 0; i < N_SAMPLES; i++) {
+            x[i] = 100 * TRandom.Rndm();
+            y[i] = TRandom.Gaus(1.0, 2.0);
+        }
+
+        for (final Filter filter : Filter.values()) {
+            final double[] result = new double[N_SAMPLES];
+            SlidingWindowFilter.filter(filter, WIDTH, x, y, N_SAMPLES, result, 0, N_SAMPLES, true);
+            assertArrayEquals(reference(filter, WIDTH, x, y), result, 1e-9, filter.getTag());
+        }
+    }
+
+    @Test
+    void testIncrementalUpdate() {
+        for (final Filter filter : Filter.values()) {
+            final DoubleErrorDataSet source = new DoubleErrorDataSet("source");
+            final DoubleErrorDataSet target = new DoubleErrorDataSet("target");
+            final SlidingWindowFilter slidingWindowFilter = new SlidingWindowFilter(filter, WIDTH);
+            for (int i = 0; i < N_SAMPLES; i++) {
+                source.add(0.5 * i, TRandom.Gaus(1.0, 2.0), TRandom.Rndm(), TRandom.Rndm());
+                if (i % 13 == 0) {
+                    slidingWindowFilter.apply(source, target);
+                }
+            }
+            slidingWindowFilter.apply(source, target);
+
+            final DataSet full = DataSetMath.filterFunction(source, WIDTH, filter);
+            assertEquals(full.getDataCount(), target.getDataCount());
+            assertArrayEquals(Arrays.copyOf(full.getValues(DIM_X), N_SAMPLES), Arrays.copyOf(target.getValues(DIM_X), N_SAMPLES));
+            assertArrayEquals(Arrays.copyOf(full.getValues(DIM_Y), N_SAMPLES), Arrays.copyOf(target.getValues(DIM_Y), N_SAMPLES), 1e-9, filter.getTag());
+            assertArrayEquals(Arrays.copyOf(((DoubleErrorDataSet) full).getErrorsPositive(DIM_Y), N_SAMPLES),
+                    Arrays.copyOf(target.getErrorsPositive(DIM_Y), N_SAMPLES), 1e-9, filter.getTag());
+        }
+    }
+
+    @Test
+    void testMathDataSetChain() {
+        final DoubleErrorDataSet source = new DoubleErrorDataSet("source");
+        final MathDataSet filtered = new MathDataSet("median", new SlidingWindowFilter(Filter.MEDIAN, WIDTH), 0, UpdateStrategy.INSTANTANEOUS_RATE, source);
+        assertEquals(0, filtered.getDataCount());
+        for (int i = 0; i < 100; i++) {
+            source.add(0.5 * i, TRandom.Gaus(1.0, 2.0), TRandom.Rndm(), TRandom.Rndm());
+            assertEquals(source.getDataCount(), filtered.getDataCount());
+        }
+
+        final DataSet full = DataSetMath.filterFunction(source, WIDTH, Filter.MEDIAN);
+        assertArrayEquals(Arrays.copyOf(full.getValues(DIM_X), 100), Arrays.copyOf(filtered.getValues(DIM_X), 100));
+        assertArrayEquals(Arrays.copyOf(full.getValues(DIM_Y), 100), Arrays.copyOf(filtered.getValues(DIM_Y), 100), 1e-9);
+    }
+
+    @Test
+    void testFilterFunctionMean() {
+        final DoubleErrorDataSet source = new DoubleErrorDataSet("source");
+        for (int i = 0; i < 5; i++) {
+            source.add(i, i, 1.0, 2.0);
+        }
+        final DataSet filtered = DataSetMath.filterFunction(source, 1.0, Filter.MEAN);
+        assertEquals(5, filtered.getDataCount());
+        assertEquals(0.5, filtered.get(DIM_Y, 0), 1e-12);
+        assertEquals(2.0, filtered.get(DIM_Y, 2), 1e-12);
+        assertEquals(1.0 / Math.sqrt(3), ((DoubleErrorDataSet) filtered).getErrorNegative(DIM_Y, 2), 1e-12);
+        assertEquals(2.0 / Math.sqrt(3), ((DoubleErrorDataSet) filtered).getErrorPositive(DIM_Y, 2), 1e-12);
+
+        assertThrows(IllegalArgumentException.class, () -> new SlidingWindowFilter(null, 1.0));
+    }
+
+    private static double[] reference(final Filter filter, final double width, final double[] x, final double[] y) {
+        final int n = x.length;
+        final double[] result = new double[n];
+        for (int i = 0; i < n; i++) {
+            final double[] window = new double[n];
+            int count = 0;
+            for (int j = 0; j < n; j++) {
+                if (Math.abs(x[i] - x[j]) <= width) {
+                    window[count++] = y[j];
+                }
+            }
+            final double[] sorted = Arrays.copyOf(window, count);
+            Arrays.sort(sorted);
+            double sum = 0.0;
+            double sum2 = 0.0;
+            double logSum = 0.0;
+            boolean hasNaN = false;
+            boolean hasZero = false;
+            for (final double value : sorted) {
+                hasNaN |= Double.isNaN(value);
+                hasZero |= value == 0.0;
+                sum += value;
+                sum2 += value * value;
+                logSum += value == 0.0 ? Double.NEGATIVE_INFINITY : Math.log(Math.abs(value));
+            }
+            final double mean = sum / count;
+            switch (filter) {
+            case MEDIAN:
+                result[i] = count % 2 == 1 ? sorted[count / 2] : 0.5 * (sorted[count / 2 - 1] + sorted[count / 2]);
+                break;
+            case MIN:
+                result[i] = hasNaN ? Double.NaN : sorted[0];
+                break;
+            case MAX:
+                result[i] = sorted[count - 1];
+                break;
+            case P2P:
+                result[i] = sorted[count - 1] - sorted[0];
+                break;
+            case RMS:
+                result[i] = Math.sqrt(Math.abs(sum2 / count - mean * mean));
+                break;
+            case GEOMMEAN:
+                result[i] = hasZero ? 0.0 : Math.exp(logSum / count);
+                break;
+            case MEAN:
+            default:
+                result[i] = mean;
+                break;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,107 @@
+package de.gsi.math.filter.iir;
+
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark comparing the per-sample {@link Cascade#filter(double)} path with the block-processing
+ * {@link Cascade#filter(double[], double[], int, int)}, the multi-channel
+ * {@link Cascade#filterInterleaved(double[], double[], int, int, int)} and the zero-phase
+ * {@link Cascade#filtfilt(double[], double[], int, int)} variants for the same amount of samples.
+ *
+ * @author rstein
+ */
+@State(Scope.Benchmark)
+public class IirFilterBenchmark {
+    private static final int FILTER_ORDER = 8;
+    private static final double F_CUT = 0.1;
+
+    @Param({ "1", "8", "64" })
+    private int nChannels;
+    @Param({ "4096" })
+    private int nSamples;
+    private Cascade[] channelFilter;
+    private Cascade interleavedFilter;
+    private double[][] channelData;
+    private double[][] channelOut;
+    private double[] interleavedData;
+    private double[] interleavedOut;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(42);
+        channelFilter = new Cascade[nChannels];
+        channelData = new double[nChannels][nSamples];
+        channelOut = new double[nChannels][nSamples];
+        interleavedData = new double[nChannels * nSamples];
+        interleavedOut = new double[nChannels * nSamples];
+        for (int channel = 0; channel < nChannels; channel++) {
+            channelFilter[channel] = newFilter();
+            for (int i = 0; i < nSamples; i++) {
+                channelData[channel][i] = random.nextGaussian();
+                interleavedData[i * nChannels + channel] = channelData[channel][i];
+            }
+        }
+        interleavedFilter = newFilter();
+    }
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2)
+    public double[][] perSample() {
+        for (int channel = 0; channel < nChannels; channel++) {
+            final Cascade filter = channelFilter[channel];
+            final double[] in = channelData[channel];
+            final double[] out = channelOut[channel];
+            for (int i = 0; i < nSamples; i++) {
+                out[i] = filter.filter(in[i]);
+            }
+        }
+        return channelOut;
+    }
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2)
+    public double[][] block() {
+        for (int channel = 0; channel < nChannels; channel++) {
+            channelFilter[channel].filter(channelData[channel], channelOut[channel], 0, nSamples);
+        }
+        return channelOut;
+    }
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2)
+    public double[] interleaved() {
+        interleavedFilter.filterInterleaved(interleavedData, interleavedOut, 0, nSamples, nChannels);
+        return interleavedOut;
+    }
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2)
+    public double[][] zeroPhase() {
+        for (int channel = 0; channel < nChannels; channel++) {
+            channelFilter[channel].filtfilt(channelData[channel], channelOut[channel], 0, nSamples);
+        }
+        return channelOut;
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    private static Cascade newFilter() {
+        final Butterworth filter = new Butterworth();
+        filter.lowPass(FILTER_ORDER, 1.0, F_CUT);
+        return filter;
+    }
+}
@@ -2,6 +2,7 @@ package de.gsi.math.filter.iir;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -13,6 +14,9 @@ import static de.gsi.dataset.DataSet.DIM_Y;
 import static de.gsi.math.SimpleDataSetEstimators.getMaximum;
 import static de.gsi.math.SimpleDataSetEstimators.getRange;
 
+import java.util.Arrays;
+import java.util.Random;
+
 import org.apache.commons.math3.complex.Complex;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -39,6 +43,114 @@ public class IirFilterTests {
     private static final double ALLOWED_OUT_OF_BAND_RIPPLE_DB = 20;
     private final DataSet demoDataSet = generateDemoDataSet();
 
+    @DisplayName("Cascade - block processing")
+    @ParameterizedTest(name = "{displayName}: algorithm: {0}")
+    @CsvSource({ "0", "1" })
+    public void testBlockFilter(final int directFormType) {
+        final double[] input = generateNoise(N_SAMPLES, 42);
+        final Butterworth reference = new Butterworth();
+        reference.lowPass(6, 1.0, F_CUT_LOW, directFormType);
+        final double[] expected = new double[N_SAMPLES];
+        for (int i = 0; i < N_SAMPLES; i++) {
+            expected[i] = reference.filter(input[i]);
+        }
+
+        // two blocks continuing from the same state, followed by single samples
+        final Butterworth filter = new Butterworth();
+        filter.lowPass(6, 1.0, F_CUT_LOW, directFormType);
+        final double[] output = new double[N_SAMPLES];
+        filter.filter(input, output, 0, 100);
+        filter.filter(input, output, 100, N_SAMPLES - 110);
+        for (int i = N_SAMPLES - 10; i < N_SAMPLES; i++) {
+            output[i] = filter.filter(input[i]);
+        }
+        assertArrayEquals(expected, output);
+
+        // in-place processing after reset
+        filter.reset();
+        final double[] inPlace = Arrays.copyOf(input, N_SAMPLES);
+        filter.filter(inPlace, inPlace, 0, N_SAMPLES);
+        assertArrayEquals(expected, inPlace);
+
+        assertThrows(IllegalArgumentException.class, () -> filter.filter(null, output, 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> filter.filter(input, new double[10], 0, 11));
+        assertThrows(IllegalArgumentException.class, () -> filter.filter(input, output, N_SAMPLES - 5, 10));
+    }
+
+    @DisplayName("Cascade - multi-channel processing")
+    @ParameterizedTest(name = "{displayName}: algorithm: {0}, channels: {1}")
+    @CsvSource({ "0, 1", "0, 7", "1, 7", "1, 64" })
+    public void testInterleavedFilter(final int directFormType, final int nChannels) {
+        final double[] interleaved = new double[N_SAMPLES * nChannels];
+        final double[][] expected = new double[nChannels][];
+        for (int c = 0; c < nChannels; c++) {
+            final double[] channel = generateNoise(N_SAMPLES, c);
+            for (int i = 0; i < N_SAMPLES; i++) {
+                interleaved[i * nChannels + c] = channel[i];
+            }
+            final ChebyshevI reference = new ChebyshevI();
+            reference.bandPass(4, 1.0, F_BAND_CENTRE, F_BAND_WIDTH, 1.0, directFormType);
+            reference.filter(channel, channel, 0, N_SAMPLES);
+            expected[c] = channel;
+        }
+
+        final ChebyshevI filter = new ChebyshevI();
+        filter.bandPass(4, 1.0, F_BAND_CENTRE, F_BAND_WIDTH, 1.0, directFormType);
+        final double[] output = new double[interleaved.length];
+        final int nFirst = N_SAMPLES / 3;
+        filter.filterInterleaved(interleaved, output, 0, nFirst, nChannels);
+        filter.filterInterleaved(interleaved, output, nFirst * nChannels, N_SAMPLES - nFirst, nChannels);
+        for (int c = 0; c < nChannels; c++) {
+            for (int i = 0; i < N_SAMPLES; i++) {
+                assertEquals(expected[c][i], output[i * nChannels + c], "channel " + c + " sample " + i);
+            }
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> filter.filterInterleaved(interleaved, output, 0, N_SAMPLES, 0));
+        assertThrows(IllegalArgumentException.class, () -> filter.filterInterleaved(interleaved, output, 0, N_SAMPLES + 1, nChannels));
+    }
+
+    @DisplayName("Cascade - zero-phase filtfilt")
+    @ParameterizedTest(name = "{displayName}: algorithm: {0}")
+    @CsvSource({ "0", "1" })
+    public void testZeroPhaseFilter(final int directFormType) {
+        final Butterworth filter = new Butterworth();
+        filter.lowPass(4, 1.0, F_CUT_LOW, directFormType);
+
+        // impulse response is symmetric around the dirac
+        final double[] dirac = new double[N_SAMPLES];
+        dirac[N_SAMPLES / 2] = 1.0;
+        final double[] impulseResponse = new double[N_SAMPLES];
+        filter.filtfilt(dirac, impulseResponse, 0, N_SAMPLES);
+        for (int i = 1; i < N_SAMPLES / 4; i++) {
+            assertEquals(impulseResponse[N_SAMPLES / 2 - i], impulseResponse[N_SAMPLES / 2 + i], 1e-9, "sample " + i);
+        }
+        assertEquals(Arrays.stream(impulseResponse).max().orElseThrow(), impulseResponse[N_SAMPLES / 2], "peak at the dirac");
+
+        // in-band sine passes without phase-shift (incl. the edges thanks to the steady-state initialisation)
+        final double[] sine = new double[N_SAMPLES];
+        for (int i = 0; i < N_SAMPLES; i++) {
+            sine[i] = 1.0 + Math.sin(2 * Math.PI * 0.01 * i);
+        }
+        final double[] filtered = Arrays.copyOf(sine, N_SAMPLES);
+        filter.filtfilt(filtered, filtered, 0, N_SAMPLES);
+        for (int i = 0; i < N_SAMPLES; i++) {
+            assertEquals(sine[i], filtered[i], 1e-2, "sample " + i);
+        }
+
+        // does not alter the streaming state
+        final double stateProbe = new Butterworth() {
+            {
+                lowPass(4, 1.0, F_CUT_LOW, directFormType);
+            }
+        }.filter(1.0);
+        assertEquals(stateProbe, filter.filter(1.0));
+
+        assertDoesNotThrow(() -> filter.filtfilt(new double[1], new double[1], 0, 1));
+        assertDoesNotThrow(() -> filter.filtfilt(new double[0], new double[0], 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> filter.filtfilt(sine, new double[10], 0, 11));
+    }
+
     @DisplayName("Bessel - Band-Pass")
     @ParameterizedTest(name = "{displayName}: filter-order: {0}, algorithm: {1}")
     @CsvSource({ "2, 0", "3, 0", "4, 0", "2, 1", "3, 1", "4, 1", "2, 2", "3, 2", "4, 2" })
@@ -545,6 +657,15 @@ public class IirFilterTests {
         return DataSetMath.normalisedMagnitudeSpectrumDecibel(filteredDataSet);
     }
 
+    private static double[] generateNoise(final int length, final long seed) {
+        final Random random = new Random(seed);
+        final double[] ret = new double[length];
+        for (int i = 0; i < length; i++) {
+            ret[i] = random.nextGaussian();
+        }
+        return ret;
+    }
+
     private static DataSet generateDemoDataSet() {
         // generate some random samples
         final double[] xValues = new double[N_SAMPLES];
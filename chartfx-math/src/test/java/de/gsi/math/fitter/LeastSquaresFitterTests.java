@@ -0,0 +1,198 @@
+package de.gsi.math.fitter;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of the stateless {@link LeastSquaresFitter}, {@link FitResult} and {@link FitWorkspace}
+ *
+ * @author rstein
+ */
+class LeastSquaresFitterTests {
+    private static final int N_SAMPLES = 200;
+    private static final FitFunction POLYNOMIAL = (x, p) -> p[0] + p[1] * x + p[2] * x * x;
+    private static final FitFunction LINE = (x, p) -> p[0] + p[1] * x;
+    private static final FitFunction EXPONENTIAL = (x, p) -> p[0] * Math.exp(-p[1] * x) + p[2];
+
+    @Test
+    void testLinearFit() {
+        final double[] xValues = new double[N_SAMPLES];
+        final double[] yValues = new double[N_SAMPLES];
+        final double[] yErrors = new double[N_SAMPLES];
+        for (int i = 0; i < N_SAMPLES; i++) {
+            xValues[i] = 0.1 * i - 10.0;
+            yValues[i] = POLYNOMIAL.getValue(xValues[i], new double[] { 0.5, 1.0, 2.0 });
+            yErrors[i] = 0.1;
+        }
+
+        try (FitWorkspace workspace = new FitWorkspace(3)) {
+            final FitResult result = LeastSquaresFitter.fitLinear(POLYNOMIAL, 3, xValues, yValues, null, workspace);
+            assertTrue(result.isConverged());
+            assertArrayEquals(new double[] { 0.5, 1.0, 2.0 }, result.getParameters(), 1e-9);
+            assertEquals(0.0, result.getChiSquared(), 1e-12);
+            assertEquals(N_SAMPLES - 3, result.getDegreesOfFreedom());
+
+            // parameter errors depend only on the y-errors for a linear model
+            final FitResult weighted = LeastSquaresFitter.fitLinear(POLYNOMIAL, 3, xValues, yValues, yErrors, workspace);
+            assertArrayEquals(new double[] { 0.5, 1.0, 2.0 }, weighted.getParameters(), 1e-9);
+            for (int i = 0; i < 3; i++) {
+                assertTrue(weighted.getParameterError(i) > 0.0 && weighted.getParameterError(i) < 0.1);
+            }
+
+            // degenerate basis (p[0] and p[1] both constant) -> singular normal equations
+            final FitResult singular = LeastSquaresFitter.fitLinear((x, p) -> p[0] + p[1], 2, xValues, yValues, null, workspace);
+            assertFalse(singular.isConverged());
+            assertTrue(Double.isNaN(singular.getParameter(0)));
+        }
+    }
+
+    @Test
+    void testLevenbergMarquardtFit() {
+        final Random random = new Random(42);
+        final double[] truth = { 3.0, 0.5, 1.0 };
+        final double[] xValues = new double[N_SAMPLES];
+        final double[] yValues = new double[N_SAMPLES];
+        final double[] yErrors = new double[N_SAMPLES];
+        for (int i = 0; i < N_SAMPLES; i++) {
+            xValues[i] = 0.05 * i;
+            yErrors[i] = 0.01;
+            yValues[i] = EXPONENTIAL.getValue(xValues[i], truth) + yErrors[i] * random.nextGaussian();
+        }
+
+        final double[] start = { 1.0, 1.0, 0.0 };
+        try (FitWorkspace workspace = new FitWorkspace(4)) {
+            final FitResult result = LeastSquaresFitter.fitLevenbergMarquardt(EXPONENTIAL, start, xValues, yValues, yErrors, workspace);
+            assertTrue(result.isConverged(), result.toString());
+            assertArrayEquals(new double[] { 1.0, 1.0, 0.0 }, start, "start values must not be modified");
+            for (int i = 0; i < truth.length; i++) {
+                assertEquals(truth[i], result.getParameter(i), 5 * result.getParameterError(i), "parameter " + i);
+            }
+            assertEquals(1.0, result.getReducedChiSquared(), 0.3);
+
+            // workspace may be reused and yields identical results
+            final FitResult second = LeastSquaresFitter.fitLevenbergMarquardt(EXPONENTIAL, start, xValues, yValues, yErrors, workspace);
+            assertArrayEquals(result.getParameters(), second.getParameters());
+            assertEquals(result.getIterations(), second.getIterations());
+        }
+    }
+
+    @Test
+    void testGaussianFit() {
+        final Random random = new Random(1);
+        final double[] xValues = new double[N_SAMPLES];
+        final double[] yValues = new double[N_SAMPLES];
+        final double[] truth = { 4.2, 0.8, 10.0 };
+        for (int i = 0; i < N_SAMPLES; i++) {
+            xValues[i] = 0.05 * i;
+            yValues[i] = LeastSquaresFitter.GAUSSIAN.getValue(xValues[i], truth) + 0.01 * random.nextGaussian();
+        }
+
+        try (FitWorkspace workspace = new FitWorkspace(3)) {
+            final FitResult result = LeastSquaresFitter.fitGaussian(xValues, yValues, null, workspace);
+            assertTrue(result.isConverged(), result.toString());
+            assertEquals(truth[LeastSquaresFitter.GAUSS_MEAN], result.getParameter(LeastSquaresFitter.GAUSS_MEAN), 1e-2);
+            assertEquals(truth[LeastSquaresFitter.GAUSS_SIGMA], result.getParameter(LeastSquaresFitter.GAUSS_SIGMA), 1e-2);
+            assertEquals(truth[LeastSquaresFitter.GAUSS_AREA], result.getParameter(LeastSquaresFitter.GAUSS_AREA), 1e-1);
+        }
+
+        // moment-based estimate
+        final FitResult moments = GaussFitting.fit(xValues, yValues, 84, 16, 5);
+        assertEquals(truth[0], moments.getParameter(GaussFitting.MEAN), 0.05);
+        assertEquals(truth[1], moments.getParameter(GaussFitting.RMS), 0.05);
+        assertEquals(truth[2], moments.getParameter(GaussFitting.CONSTANT), 0.2);
+
+        // legacy API: same estimate, errors as before
+        GaussFitting.fitData(xValues, yValues, 84, 16, 5);
+        assertEquals(moments.getParameter(GaussFitting.MEAN), GaussFitting.getMean());
+        assertEquals(moments.getParameter(GaussFitting.RMS), GaussFitting.getRMS());
+        assertEquals(0.0, GaussFitting.getMeanError());
+        assertEquals(1.0, GaussFitting.getConstantError());
+    }
+
+    @Test
+    void testStalledFit() {
+        final double[] xValues = { 0, 1, 2, 3, 4 };
+        final double[] yValues = { 1, 3, 0, 4, 2 };
+        // model that is only defined for its start value: no step can ever be accepted
+        try (FitWorkspace workspace = new FitWorkspace(1)) {
+            final FitResult result = LeastSquaresFitter.fitLevenbergMarquardt((x, p) -> p[0] == 1.0 ? x : Double.NaN, new double[] { 1.0 }, xValues, yValues, null, workspace, 1000, 1e-9);
+            assertFalse(result.isConverged(), result.toString());
+            assertTrue(result.getIterations() < 1000);
+        }
+    }
+
+    @Test
+    void testBatchFit() {
+        final int nProfiles = 257;
+        final double[] xValues = new double[N_SAMPLES];
+        final double[][] yValues = new double[nProfiles][N_SAMPLES];
+        final Random random = new Random(7);
+        for (int i = 0; i < N_SAMPLES; i++) {
+            xValues[i] = i;
+        }
+        for (int profile = 0; profile < nProfiles; profile++) {
+            final double[] truth = { 50.0 + 0.4 * profile, 5.0 + 0.01 * profile, 1000.0 };
+            for (int i = 0; i < N_SAMPLES; i++) {
+                yValues[profile][i] = LeastSquaresFitter.GAUSSIAN.getValue(xValues[i], truth) + 0.1 * random.nextGaussian();
+            }
+        }
+        final int emptyProfile = 5;
+        yValues[emptyProfile] = new double[N_SAMPLES]; // N.B. empty slice must not abort the batch
+
+        final FitResult[] parallel = LeastSquaresFitter.fitGaussianBatch(xValues, yValues);
+        final ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            final FitResult[] custom = LeastSquaresFitter.fitBatch(pool, nProfiles, 3, (index, workspace) -> LeastSquaresFitter.fitGaussian(xValues, yValues[index], null, workspace));
+            try (FitWorkspace workspace = new FitWorkspace(3)) {
+                for (int profile = 0; profile < nProfiles; profile++) {
+                    final FitResult sequential = LeastSquaresFitter.fitGaussian(xValues, yValues[profile], null, workspace);
+                    assertArrayEquals(sequential.getParameters(), parallel[profile].getParameters(), "profile " + profile);
+                    assertArrayEquals(sequential.getParameters(), custom[profile].getParameters(), "profile " + profile);
+                    if (profile == emptyProfile) {
+                        assertFalse(parallel[profile].isConverged());
+                        assertTrue(Double.isNaN(parallel[profile].getParameter(LeastSquaresFitter.GAUSS_MEAN)));
+                        continue;
+                    }
+                    assertEquals(50.0 + 0.4 * profile, parallel[profile].getParameter(LeastSquaresFitter.GAUSS_MEAN), 0.05);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+        assertEquals(0, LeastSquaresFitter.fitBatch(0, 1, (index, workspace) -> null).length);
+    }
+
+    @Test
+    void testFitResultAndArguments() {
+        final double[] parameters = { 1.0, 2.0 };
+        final FitResult result = new FitResult(parameters, new double[] { 0.1, 0.2 }, 4.0, 2, 3, true);
+        parameters[0] = 42.0;
+        assertEquals(1.0, result.getParameter(0));
+        assertNotSame(result.getParameters(), result.getParameters());
+        assertEquals(2, result.getParameterCount());
+        assertEquals(2.0, result.getReducedChiSquared());
+        assertTrue(Double.isNaN(new FitResult(parameters, new double[2], 1.0, 0, 1, true).getReducedChiSquared()));
+        assertThrows(IllegalArgumentException.class, () -> new FitResult(parameters, new double[1], 1.0, 0, 1, true));
+
+        final double[] x = { 0, 1, 2, 3 };
+        final double[] y = { 1, 2, 3, 4 };
+        final FitWorkspace workspace = new FitWorkspace(2);
+        assertThrows(IllegalArgumentException.class, () -> LeastSquaresFitter.fitLinear(POLYNOMIAL, 3, x, y, null, workspace));
+        assertThrows(IllegalArgumentException.class, () -> LeastSquaresFitter.fitLinear(LINE, 2, x, new double[3], null, workspace));
+        assertThrows(IllegalArgumentException.class, () -> LeastSquaresFitter.fitLinear(LINE, 2, x, y, new double[4], workspace));
+        assertThrows(IllegalArgumentException.class, () -> LeastSquaresFitter.fitLinear(LINE, 2, new double[1], new double[1], null, workspace));
+        assertThrows(IllegalArgumentException.class, () -> LeastSquaresFitter.fitLevenbergMarquardt((xx, p) -> Double.NaN, new double[1], x, y, null, workspace));
+        workspace.close();
+        workspace.close();
+        assertThrows(IllegalStateException.class, () -> LeastSquaresFitter.fitLinear(LINE, 2, x, y, null, workspace));
+    }
+}
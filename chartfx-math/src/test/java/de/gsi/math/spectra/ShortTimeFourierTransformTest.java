@@ -15,6 +15,7 @@ import org.junit.jupiter.api.Test;
 
 import de.gsi.dataset.DataSetMetaData;
 import de.gsi.dataset.GridDataSet;
+import de.gsi.dataset.spi.CircularDoubleGridDataSet;
 import de.gsi.dataset.spi.DataSetBuilder;
 import de.gsi.dataset.spi.DoubleDataSet;
 import de.gsi.dataset.spi.DoubleErrorDataSet;
@@ -157,6 +158,52 @@ class ShortTimeFourierTransformTest {
         return output;
     }
 
+    @Test
+    public void testStreamingRealSTFT() {
+        final int nFft = 64;
+        final int step = 24;
+        final int nSamples = 1000;
+        final double dt = 1e-3;
+        final double[] samples = new double[nSamples];
+        for (int i = 0; i < nSamples; i++) {
+            samples[i] = Math.sin(25.0 * Math.PI * 2 * i * dt) + 0.1 * Math.cos(0.37 * i);
+        }
+        final double[] reference = ShortTimeFourierTransform.real(samples, null, nFft, step, Apodization.Hann, Padding.ZERO, false, true);
+        final int nComplete = (nSamples - nFft) / step + 1;
+
+        final CircularDoubleGridDataSet waterfall = ShortTimeFourierTransform.realWaterfall("waterfall", dt, nFft, 16);
+        assertArrayEquals(ShortTimeFourierTransform.getFrequencyAxisReal(dt, nFft, null), waterfall.getGridValues(DIM_X));
+        assertEquals("Frequency", waterfall.getAxisDescription(DIM_X).getName());
+        assertEquals("Time", waterfall.getAxisDescription(DIM_Y).getName());
+
+        // feed chunks of 100 samples retaining the samples of incomplete time slices
+        final double[] buffer = new double[nSamples];
+        int nBuffered = 0;
+        int bufferStart = 0; // index of the first buffered sample
+        for (int chunk = 0; chunk < nSamples; chunk += 100) {
+            System.arraycopy(samples, chunk, buffer, nBuffered, 100);
+            nBuffered += 100;
+            final int consumed = ShortTimeFourierTransform.real(buffer, 0, nBuffered, bufferStart * dt, dt, waterfall, step, Apodization.Hann, false, true);
+            assertEquals(0, consumed % step);
+            System.arraycopy(buffer, consumed, buffer, 0, nBuffered - consumed);
+            nBuffered -= consumed;
+            bufferStart += consumed;
+        }
+        assertArrayEquals(new int[] { nFft / 2, 16 }, waterfall.getShape());
+        for (int row = 0; row < 16; row++) {
+            final int slice = nComplete - 16 + row;
+            assertEquals(slice * step * dt, waterfall.getGrid(DIM_Y, row), 1e-12);
+            for (int bin = 0; bin < nFft / 2; bin++) {
+                assertEquals(reference[slice * nFft / 2 + bin], waterfall.get(DIM_Z, bin, row), 1e-12);
+            }
+        }
+
+        // incomplete time slice and argument checks
+        assertEquals(0, ShortTimeFourierTransform.real(samples, 0, nFft - 1, 0.0, dt, waterfall, step, Apodization.Hann, false, true));
+        assertThrows(IndexOutOfBoundsException.class, () -> ShortTimeFourierTransform.real(samples, 10, 5, 0.0, dt, waterfall, step, Apodization.Hann, false, true));
+        assertThrows(IllegalArgumentException.class, () -> ShortTimeFourierTransform.real(samples, 0, 100, 0.0, dt, null, step, Apodization.Hann, false, true));
+    }
+
     @Test
     public void testComplexSTFT() {
         final int nFft = 128;
@@ -0,0 +1,90 @@
+package de.gsi.math.spectra.fft;
+
+import org.jtransforms.fft.DoubleFFT_1D;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import de.gsi.dataset.DataSet;
+import de.gsi.dataset.spi.DoubleDataSet;
+import de.gsi.dataset.utils.DoubleArrayCache;
+import de.gsi.math.DataSetMath;
+import de.gsi.math.spectra.Apodization;
+import de.gsi.math.spectra.SpectrumTools;
+
+/**
+ * Benchmark comparing the per-call creation of FFT plans and work arrays with the {@link FftPlanCache} and
+ * {@link DoubleArrayCache} based implementation.
+ * <p>
+ * The allocation rate per call is best assessed using the GC profiler, e.g. {@code -prof gc} and comparing the
+ * 'gc.alloc.rate.norm' metric.
+ *
+ * @author rstein
+ */
+@State(Scope.Benchmark)
+public class FftPlanCacheBenchmark {
+    @Param({ "4096", "65536", "1048576" })
+    private int nSamples;
+
+    private double[] signal;
+    private double[] magnitude;
+    private DataSet dataSet;
+
+    @Setup()
+    public void initialize() {
+        signal = new double[nSamples];
+        final double[] xValues = new double[nSamples];
+        for (int i = 0; i < nSamples; i++) {
+            xValues[i] = i;
+            signal[i] = Math.sin(0.1 * i) + 0.01 * Math.cos(0.37 * i);
+        }
+        magnitude = new double[nSamples / 2];
+        dataSet = new DoubleDataSet("signal", xValues, signal, nSamples, false);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2)
+    public void cachedPlanAndWorkspace(Blackhole blackhole) {
+        final DoubleFFT_1D fft = FftPlanCache.getRealPlan(nSamples);
+        final double[] buffer = DoubleArrayCache.getInstance().getArray(nSamples);
+        final double[] window = Apodization.Hann.getWindow(nSamples);
+        for (int i = 0; i < nSamples; i++) {
+            buffer[i] = signal[i] * window[i];
+        }
+        fft.realForward(buffer);
+        SpectrumTools.computeMagnitudeSpectrum(buffer, 0, nSamples, magnitude, 0, true);
+        DoubleArrayCache.getInstance().add(buffer);
+        blackhole.consume(magnitude);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2)
+    public void newPlanAndWorkspace(Blackhole blackhole) {
+        final DoubleFFT_1D fft = new DoubleFFT_1D(nSamples);
+        final double[] buffer = new double[nSamples];
+        final double[] window = Apodization.Hann.getWindow(nSamples);
+        for (int i = 0; i < nSamples; i++) {
+            buffer[i] = signal[i] * window[i];
+        }
+        fft.realForward(buffer);
+        blackhole.consume(SpectrumTools.computeMagnitudeSpectrum(buffer, true));
+    }
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2)
+    public void magnitudeSpectrum(Blackhole blackhole) {
+        blackhole.consume(DataSetMath.magnitudeSpectrum(dataSet));
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args);
+    }
+}
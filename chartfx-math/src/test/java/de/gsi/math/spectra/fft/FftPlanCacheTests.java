@@ -0,0 +1,58 @@
+package de.gsi.math.spectra.fft;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.jtransforms.fft.DoubleFFT_1D;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import de.gsi.math.spectra.fft.FftPlanCache.FftType;
+
+/**
+ * @author rstein
+ */
+public class FftPlanCacheTests {
+    @AfterEach
+    public void resetCache() {
+        FftPlanCache.setMaxPlans(32);
+        FftPlanCache.clear();
+    }
+
+    @Test
+    public void basicTests() {
+        FftPlanCache.clear();
+        assertEquals(0, FftPlanCache.size());
+
+        final DoubleFFT_1D real = FftPlanCache.getRealPlan(1024);
+        assertSame(real, FftPlanCache.getRealPlan(1024));
+        assertSame(real, FftPlanCache.getPlan(FftType.REAL, 1024));
+        assertNotSame(real, FftPlanCache.getComplexPlan(1024));
+        assertNotSame(real, FftPlanCache.getRealPlan(2048));
+        assertEquals(3, FftPlanCache.size());
+
+        assertThrows(IllegalArgumentException.class, () -> FftPlanCache.getRealPlan(0));
+        assertThrows(IllegalArgumentException.class, () -> FftPlanCache.getPlan(null, 1024));
+        assertThrows(IllegalArgumentException.class, () -> FftPlanCache.setMaxPlans(0));
+    }
+
+    @Test
+    public void leastRecentlyUsedEviction() {
+        FftPlanCache.clear();
+        FftPlanCache.setMaxPlans(2);
+        assertEquals(2, FftPlanCache.getMaxPlans());
+
+        final DoubleFFT_1D plan1 = FftPlanCache.getRealPlan(16);
+        final DoubleFFT_1D plan2 = FftPlanCache.getRealPlan(32);
+        assertSame(plan1, FftPlanCache.getRealPlan(16)); // touch -> 32 becomes eldest
+        FftPlanCache.getRealPlan(64);
+        assertEquals(2, FftPlanCache.size());
+        assertSame(plan1, FftPlanCache.getRealPlan(16));
+        assertNotSame(plan2, FftPlanCache.getRealPlan(32));
+
+        FftPlanCache.setMaxPlans(1);
+        assertEquals(1, FftPlanCache.size());
+    }
+}
@@ -0,0 +1,146 @@
+package de.gsi.microservice.aggregate;
+
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+import com.lmax.disruptor.EventHandler;
+
+import de.gsi.dataset.DataSet;
+import de.gsi.dataset.event.AddedDataEvent;
+import de.gsi.dataset.spi.CircularDoubleErrorDataSet;
+import de.gsi.dataset.spi.DoubleDataSet;
+
+/**
+ * Bridge between the {@link EventStore} and chart-fx {@link DataSet}s.
+ *
+ * Matching {@link RingBufferEvent}s are converted into (x,y) samples via the given extractor functions and stored in
+ * pre-allocated buffers. The buffered samples are appended to the target data set once per disruptor batch (or once
+ * the buffer is full) while holding the data set's write lock, followed by a single {@link AddedDataEvent}
+ * notification. Thus, the steady-state processing is allocation-free and the listeners (e.g. renderer or derived
+ * {@code MathDataSet}s that are attached to the target data set) are notified once per batch rather than once per event.
+ *
+ * <pre>
+ * final DoubleDataSet dataSet = new DoubleDataSet("beam current");
+ * eventStore.register(DataSetEventHandler.of(dataSet, FilterPredicate.ofPayload(Double.class), //
+ *         evt -&gt; evt.arrivalTimeStamp * 1e-6, evt -&gt; evt.payload.get(Double.class), 1024));
+ * </pre>
+ *
+ * @param <D> generic data set type
+ * @author rstein
+ */
+public class DataSetEventHandler<D extends DataSet> implements EventHandler<RingBufferEvent> {
+    public static final int DEFAULT_BUFFER_SIZE = 1024;
+    private final D dataSet;
+    private final Predicate<RingBufferEvent> filter;
+    private final ToDoubleFunction<RingBufferEvent> xFunction;
+    private final ToDoubleFunction<RingBufferEvent> yFunction;
+    private final DataSetAppender<D> appender;
+    private final double[] xBuffer;
+    private final double[] yBuffer;
+    private int length;
+
+    /**
+     * @param dataSet the target data set
+     * @param filter predicate selecting the events that are appended to the data set
+     * @param xFunction extracts the x coordinate from a matching event
+     * @param yFunction extracts the y coordinate from a matching event
+     * @param appender appends the first {@code length} buffered samples to the data set (N.B. called while holding the
+     *            data set's write lock, the arrays are recycled and must not be stored)
+     * @param bufferSize maximum number of samples that are buffered before being appended to the data set
+     */
+    public DataSetEventHandler(final D dataSet, final Predicate<RingBufferEvent> filter, final ToDoubleFunction<RingBufferEvent> xFunction, final ToDoubleFunction<RingBufferEvent> yFunction, final DataSetAppender<D> appender, final int bufferSize) {
+        if (dataSet == null || filter == null || xFunction == null || yFunction == null || appender == null) {
+            throw new IllegalArgumentException("dataSet, filter, xFunction, yFunction and appender must not be null");
+        }
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("bufferSize = " + bufferSize + " must be >= 1");
+        }
+        this.dataSet = dataSet;
+        this.filter = filter;
+        this.xFunction = xFunction;
+        this.yFunction = yFunction;
+        this.appender = appender;
+        this.xBuffer = new double[bufferSize];
+        this.yBuffer = new double[bufferSize];
+    }
+
+    /**
+     * @return the target data set
+     */
+    public D getDataSet() {
+        return dataSet;
+    }
+
+    @Override
+    public void onEvent(final RingBufferEvent event, final long sequence, final boolean endOfBatch) {
+        if (filter.test(event)) {
+            xBuffer[length] = xFunction.applyAsDouble(event);
+            yBuffer[length] = yFunction.applyAsDouble(event);
+            length++;
+        }
+        if (length > 0 && (endOfBatch || length == xBuffer.length)) {
+            flush();
+        }
+    }
+
+    /**
+     * appends all buffered samples to the data set and notifies its listeners
+     */
+    protected void flush() {
+        final int nSamples = length;
+        length = 0;
+        final int indexMin = dataSet.lock().writeLockGuard(() -> {
+            final int count = dataSet.getDataCount();
+            appender.append(dataSet, xBuffer, yBuffer, nSamples);
+            return count;
+        });
+        if (!dataSet.autoNotification().get()) {
+            return;
+        }
+        final int indexMax = dataSet.getDataCount();
+        // N.B. a (nearly) full circular buffer overwrites its oldest samples -> all indices have shifted
+        final AddedDataEvent event = indexMax == indexMin + nSamples ? new AddedDataEvent(dataSet, "add", indexMin, indexMax) : new AddedDataEvent(dataSet, "add", 0, indexMax);
+        dataSet.invokeListener(event, false);
+    }
+
+    /**
+     * @param dataSet the target circular buffer data set (errors are set to zero)
+     * @param filter predicate selecting the events that are appended to the data set
+     * @param xFunction extracts the x coordinate from a matching event
+     * @param yFunction extracts the y coordinate from a matching event
+     * @param bufferSize maximum number of samples that are buffered before being appended to the data set
+     * @return new event handler
+     */
+    public static DataSetEventHandler<CircularDoubleErrorDataSet> of(final CircularDoubleErrorDataSet dataSet, final Predicate<RingBufferEvent> filter, final ToDoubleFunction<RingBufferEvent> xFunction, final ToDoubleFunction<RingBufferEvent> yFunction, final int bufferSize) {
+        final double[] zeroErrors = new double[Math.max(bufferSize, 0)];
+        return new DataSetEventHandler<>(dataSet, filter, xFunction, yFunction, (ds, x, y, length) -> ds.add(x, y, zeroErrors, zeroErrors, length), bufferSize);
+    }
+
+    /**
+     * @param dataSet the target data set
+     * @param filter predicate selecting the events that are appended to the data set
+     * @param xFunction extracts the x coordinate from a matching event
+     * @param yFunction extracts the y coordinate from a matching event
+     * @param bufferSize maximum number of samples that are buffered before being appended to the data set
+     * @return new event handler
+     */
+    public static DataSetEventHandler<DoubleDataSet> of(final DoubleDataSet dataSet, final Predicate<RingBufferEvent> filter, final ToDoubleFunction<RingBufferEvent> xFunction, final ToDoubleFunction<RingBufferEvent> yFunction, final int bufferSize) {
+        return new DataSetEventHandler<>(dataSet, filter, xFunction, yFunction, (ds, x, y, length) -> ds.add(x, y, length), bufferSize);
+    }
+
+    /**
+     * Appends buffered samples to a data set.
+     *
+     * @param <D> generic data set type
+     */
+    @FunctionalInterface
+    public interface DataSetAppender<D extends DataSet> {
+        /**
+         * @param dataSet the target data set
+         * @param x x coordinates
+         * @param y y coordinates
+         * @param length number of valid samples (N.B. arrays may be longer)
+         */
+        void append(D dataSet, double[] x, double[] y, int length);
+    }
+}
@@ -0,0 +1,628 @@
+package de.gsi.microservice.aggregate;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.EventHandler;
+import com.lmax.disruptor.EventTranslator;
+import com.lmax.disruptor.EventTranslatorOneArg;
+import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.TimeoutBlockingWaitStrategy;
+import com.lmax.disruptor.WaitStrategy;
+import com.lmax.disruptor.dsl.Disruptor;
+import com.lmax.disruptor.dsl.EventHandlerGroup;
+import com.lmax.disruptor.dsl.ProducerType;
+import com.lmax.disruptor.util.Util;
+
+import de.gsi.dataset.utils.Cache;
+import de.gsi.dataset.utils.NoDuplicatesList;
+import de.gsi.microservice.utils.LimitedArrayList;
+import de.gsi.microservice.utils.WorkerThreadFactory;
+
+/**
+ * Event-source with one primary event-stream and arbitrary number of secondary context-multiplexed event-streams.
+ *
+ * Each event-stream is implemented using LMAX's disruptor ring-buffer using the default {@link RingBufferEvent}.
+ *
+ * The multiplexing-context for the secondary ring buffers is controlled via the 'Function&lt;RingBufferEvent, String&gt; muxCtxFunction'
+ * function that produces a unique string hash for a given ring buffer event, e.g.:
+ * {@code Function<RingBufferEvent, String> muxCtx = evt -> "cid=" + evt.getFilter(CtxFilter.class).cid;}
+ *
+ * Ring buffer sizes, wait strategies, producer type and history depth are configured via {@link #builder()}, e.g.:
+ *
+ * <pre>
+ * EventStore es = EventStore.builder().withFilterConfig(CtxFilter.class, EvtTypeFilter.class).withMuxCtxFunction(muxCtx) //
+ *         .withRingBufferSize(1 &lt;&lt; 16).withWaitStrategy(YieldingWaitStrategy::new).build();
+ * </pre>
+ *
+ * Events are published without allocation via {@link #publish(EventTranslatorOneArg, Object)} (blocks if the ring
+ * buffer is full, i.e. back-pressure onto the producer) or {@link #tryPublish(EventTranslatorOneArg, Object)}
+ * (rejects the event if the ring buffer is full). Back-pressure is monitored via {@link #getRemainingCapacity()},
+ * {@link #getBacklog()}, {@link #getMaxBacklog()}, {@link #getRejectedCount()} and {@link #getMuxDroppedCount()}.
+ *
+ * See {@code EventStoreTest} for usage and API examples.
+ *
+ * @author rstein
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public class EventStore {
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventStore.class);
+    public static final int DEFAULT_RING_BUFFER_SIZE = 1024;
+    public static final int DEFAULT_CTX_RING_BUFFER_SIZE = 1024;
+    public static final int DEFAULT_HISTORY_SIZE = 10;
+    private static final int N_THREAD_MAX = 4;
+    private static final EventTranslatorOneArg<RingBufferEvent, RingBufferEvent> COPY_TRANSLATOR = (event, sequence, source) -> {
+        if (event.payload != null && event.payload.getReferenceCount() > 0) {
+            event.payload.release();
+        }
+        source.copyTo(event);
+    };
+
+    /**
+     * list of known filters. N.B. this
+     */
+    public final Filter[] filters;
+    public final WorkerThreadFactory threadFactory;
+    protected final List<LocalEventHandlerGroup> listener = new ArrayList<>();
+    protected final Disruptor<RingBufferEvent> disruptor;
+    protected final List<EventHandler<RingBufferEvent>> allEventHandlers = new NoDuplicatesList<>();
+    protected final List<Function<RingBufferEvent, String>> muxCtxFunctions = new NoDuplicatesList<>();
+    protected final Cache<String, Disruptor<RingBufferEvent>> eventStreams;
+    private final Class<? extends Filter>[] filterConfig;
+    private final int ctxRingBufferSize;
+    private final int historySize;
+    private final Supplier<? extends WaitStrategy> ctxWaitStrategy;
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong muxDroppedCount = new AtomicLong();
+    private volatile long maxBacklog;
+    protected Function<String, Disruptor<RingBufferEvent>> ctxMappingFunction = ctx -> {
+        // mux contexts -> create copy into separate disruptor/ringbuffer if necessary
+        // N.B. only single writer ... no further post-processors (all done in main eventStream)
+        final Disruptor<RingBufferEvent> ld = new Disruptor<>(() -> new RingBufferEvent(EventStore.this.filterConfig), EventStore.this.ctxRingBufferSize, EventStore.this.threadFactory, ProducerType.SINGLE, EventStore.this.ctxWaitStrategy.get());
+        ld.start();
+        return ld;
+    };
+
+    /**
+     * @param muxBuilder optional cache configuration for the multiplexed event-streams (may be {@code null})
+     * @param muxCtxFunction optional multiplexing context function (may be {@code null})
+     * @param filterConfig static filter configuration
+     */
+    @SafeVarargs
+    public EventStore(final Cache.CacheBuilder<String, Disruptor<RingBufferEvent>> muxBuilder, final Function<RingBufferEvent, String> muxCtxFunction, final Class<? extends Filter>... filterConfig) {
+        this(builder().withMuxCacheBuilder(muxBuilder).withMuxCtxFunction(muxCtxFunction).withFilterConfig(filterConfig));
+    }
+
+    protected EventStore(final EventStoreBuilder builder) {
+        if (builder.filterConfig == null) {
+            throw new IllegalArgumentException("filterConfig must not be null");
+        }
+        if (builder.muxCtxFunction != null) {
+            muxCtxFunctions.add(builder.muxCtxFunction);
+        }
+        this.filterConfig = builder.filterConfig;
+        this.filters = new Filter[filterConfig.length];
+        this.ctxRingBufferSize = builder.ctxRingBufferSize;
+        this.historySize = builder.historySize;
+        this.ctxWaitStrategy = builder.ctxWaitStrategy;
+        this.threadFactory = new WorkerThreadFactory(EventStore.class.getSimpleName() + "Worker", builder.maxThreads);
+
+        for (int i = 0; i < filters.length; i++) {
+            try {
+                filters[i] = filterConfig[i].getConstructor().newInstance();
+            } catch (InstantiationException | IllegalAccessException | InvocationTargetException | NoSuchMethodException e) {
+                LOGGER.atError().setCause(e).addArgument(Arrays.asList(filterConfig)).log("caught error while configuring ring buffer filters: {} ");
+                throw new IllegalArgumentException("filter initialisations error - could not instantiate class:" + filterConfig[i], e);
+            }
+        }
+
+        disruptor = new Disruptor<>(() -> new RingBufferEvent(filterConfig), builder.ringBufferSize, threadFactory, builder.producerType, builder.waitStrategy.get());
+        final BiConsumer<String, Disruptor<RingBufferEvent>> clearCacheElement = (muxCtx, d) -> {
+            d.shutdown();
+            final RingBuffer<RingBufferEvent> rb = d.getRingBuffer();
+            for (long i = rb.getMinimumGatingSequence(); i < rb.getCursor(); i++) {
+                rb.get(i).clear();
+            }
+        };
+        eventStreams = builder.muxBuilder != null ? builder.muxBuilder.build() : Cache.<String, Disruptor<RingBufferEvent>>builder().withPostListener(clearCacheElement).build();
+    }
+
+    /**
+     * @return number of published events that have not yet been processed by all registered handlers
+     */
+    public long getBacklog() {
+        final RingBuffer<RingBufferEvent> ringBuffer = getRingBuffer();
+        return Math.max(0, ringBuffer.getCursor() - ringBuffer.getMinimumGatingSequence());
+    }
+
+    /**
+     * @return size of the context-multiplexed ring buffers
+     */
+    public int getCtxRingBufferSize() {
+        return ctxRingBufferSize;
+    }
+
+    /**
+     * @return the primary event-stream disruptor
+     */
+    public Disruptor<RingBufferEvent> getDisruptor() {
+        return disruptor;
+    }
+
+    /**
+     * @return the cached context-multiplexed event-streams
+     */
+    public Cache<String, Disruptor<RingBufferEvent>> getEventStreams() {
+        return eventStreams;
+    }
+
+    public List<RingBufferEvent> getHistory(final String muxCtx, final Predicate<RingBufferEvent> predicate, final int nHistory) {
+        return getHistory(muxCtx, predicate, Long.MAX_VALUE, nHistory);
+    }
+
+    public List<RingBufferEvent> getHistory(final String muxCtx, final Predicate<RingBufferEvent> predicate, final long sequence, final int nHistory) {
+        checkMuxCtx(muxCtx);
+        if (sequence < 0 || nHistory <= 0) {
+            throw new IllegalArgumentException("sequence = " + sequence + " must be >= 0 and nHistory = " + nHistory + " > 0");
+        }
+        final RingBuffer<RingBufferEvent> ringBuffer = eventStreams.computeIfAbsent(muxCtx, ctxMappingFunction).getRingBuffer();
+        if (nHistory >= ringBuffer.getBufferSize()) {
+            throw new IllegalArgumentException("nHistory == " + nHistory + " must be smaller than the ring buffer size " + ringBuffer.getBufferSize());
+        }
+
+        // search the last nHistory matching elements that match the provided predicate
+        final long cursor = ringBuffer.getCursor();
+        final List<RingBufferEvent> history = new ArrayList<>(nHistory);
+        final long seqStart = Math.max(cursor - ringBuffer.getBufferSize() + 1, 0);
+        for (long seq = cursor; history.size() < nHistory && seqStart <= seq; seq--) {
+            final RingBufferEvent evt = ringBuffer.get(seq);
+            if (evt.parentSequenceNumber <= sequence && predicate.test(evt)) {
+                history.add(evt);
+            }
+        }
+        return history;
+    }
+
+    /**
+     * @return number of events kept per context by the {@link HistoryEventHandler}s
+     */
+    public int getHistorySize() {
+        return historySize;
+    }
+
+    public Optional<RingBufferEvent> getLast(final String muxCtx, final Predicate<RingBufferEvent> predicate) {
+        return getLast(muxCtx, predicate, Long.MAX_VALUE);
+    }
+
+    public Optional<RingBufferEvent> getLast(final String muxCtx, final Predicate<RingBufferEvent> predicate, final long sequence) {
+        checkMuxCtx(muxCtx);
+        final RingBuffer<RingBufferEvent> ringBuffer = eventStreams.computeIfAbsent(muxCtx, ctxMappingFunction).getRingBuffer();
+
+        // search for the most recent element that matches the provided predicate
+        final long cursor = ringBuffer.getCursor();
+        final long seqStart = Math.max(cursor - ringBuffer.getBufferSize() + 1, 0);
+        for (long seq = cursor; seqStart <= seq; seq--) {
+            final RingBufferEvent evt = ringBuffer.get(seq);
+            if (evt.parentSequenceNumber <= sequence && predicate.test(evt)) {
+                return Optional.of(evt.clone());
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @return maximum number of events that were queued behind an event when it was dispatched to the multiplexed
+     *         event-streams (high-water mark of the primary ring buffer fill level)
+     */
+    public long getMaxBacklog() {
+        return maxBacklog;
+    }
+
+    /**
+     * @return number of events that could not be copied into a (full) multiplexed event-stream
+     */
+    public long getMuxDroppedCount() {
+        return muxDroppedCount.get();
+    }
+
+    /**
+     * @return number of events that were rejected because the primary ring buffer was full
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    /**
+     * @return number of free slots in the primary ring buffer
+     */
+    public long getRemainingCapacity() {
+        return getRingBuffer().remainingCapacity();
+    }
+
+    public RingBuffer<RingBufferEvent> getRingBuffer() {
+        return disruptor.getRingBuffer();
+    }
+
+    /**
+     * publishes a new event into the primary event-stream, blocks while the ring buffer is full
+     *
+     * @param translator the user-supplied function filling the recycled ring buffer element
+     */
+    public void publish(final EventTranslator<RingBufferEvent> translator) {
+        getRingBuffer().publishEvent(translator);
+    }
+
+    /**
+     * publishes a new event into the primary event-stream, blocks while the ring buffer is full
+     *
+     * @param translator the user-supplied (preferably non-capturing) function filling the recycled ring buffer element
+     * @param arg user-supplied argument
+     * @param <A> argument type
+     */
+    public <A> void publish(final EventTranslatorOneArg<RingBufferEvent, A> translator, final A arg) {
+        getRingBuffer().publishEvent(translator, arg);
+    }
+
+    @SafeVarargs
+    public final LocalEventHandlerGroup register(final EventHandler<RingBufferEvent>... eventHandler) {
+        final LocalEventHandlerGroup group = new LocalEventHandlerGroup(eventHandler);
+        listener.add(group);
+        return group;
+    }
+
+    public final LocalEventHandlerGroup register(final Predicate<RingBufferEvent> filter, Function<RingBufferEvent, String> muxCtxFunction, final HistoryEventHandler... eventHandler) {
+        final LocalEventHandlerGroup group = new LocalEventHandlerGroup(filter, muxCtxFunction, eventHandler);
+        listener.add(group);
+        return group;
+    }
+
+    public void start(final boolean startReaper) {
+        // create single writer that is always executed first
+        final EventHandler<RingBufferEvent> muxCtxWriter = (evt, seq, batch) -> {
+            final long backlog = getRingBuffer().getCursor() - seq;
+            if (backlog > maxBacklog) {
+                maxBacklog = backlog; // N.B. single writer
+            }
+            for (Function<RingBufferEvent, String> muxCtxFunc : muxCtxFunctions) {
+                final String muxCtx = muxCtxFunc.apply(evt);
+                // only single writer ... no further post-processors (all done in main eventStream)
+                final Disruptor<RingBufferEvent> localDisruptor = eventStreams.computeIfAbsent(muxCtx, ctxMappingFunction);
+                if (!localDisruptor.getRingBuffer().tryPublishEvent(COPY_TRANSLATOR, evt)) {
+                    muxDroppedCount.incrementAndGet();
+                    LOGGER.atWarn().addArgument(seq).addArgument(muxCtx).log("could not write event, sequence = {} muxCtx = {}");
+                }
+            }
+        };
+        allEventHandlers.add(muxCtxWriter);
+        final EventHandlerGroup<RingBufferEvent> handlerGroup = disruptor.handleEventsWith(muxCtxWriter);
+
+        // add other handler
+        for (LocalEventHandlerGroup localHandlerGroup : listener) {
+            attachHandler(disruptor, handlerGroup, localHandlerGroup);
+        }
+
+        @SuppressWarnings("unchecked")
+        final EventHandler<RingBufferEvent>[] eventHanders = (EventHandler<RingBufferEvent>[]) allEventHandlers.toArray(new EventHandler[0]);
+        if (startReaper) {
+            // start the reaper thread for this given ring buffer
+            disruptor.after(eventHanders).then(new RingBufferEvent.ClearEventHandler());
+        }
+
+        // register this event store to all DefaultHistoryEventHandler
+        for (EventHandler<?> handler : allEventHandlers) {
+            if (handler instanceof DefaultHistoryEventHandler) {
+                ((DefaultHistoryEventHandler) handler).setEventStore(this);
+            }
+        }
+
+        disruptor.start();
+    }
+
+    public void start() {
+        this.start(true);
+    }
+
+    public void stop() {
+        disruptor.shutdown();
+    }
+
+    /**
+     * publishes a new event into the primary event-stream if there is space left in the ring buffer
+     *
+     * @param translator the user-supplied function filling the recycled ring buffer element
+     * @return {@code false} if the ring buffer was full and the event has been rejected
+     */
+    public boolean tryPublish(final EventTranslator<RingBufferEvent> translator) {
+        if (getRingBuffer().tryPublishEvent(translator)) {
+            return true;
+        }
+        rejectedCount.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * publishes a new event into the primary event-stream if there is space left in the ring buffer
+     *
+     * @param translator the user-supplied (preferably non-capturing) function filling the recycled ring buffer element
+     * @param arg user-supplied argument
+     * @param <A> argument type
+     * @return {@code false} if the ring buffer was full and the event has been rejected
+     */
+    public <A> boolean tryPublish(final EventTranslatorOneArg<RingBufferEvent, A> translator, final A arg) {
+        if (getRingBuffer().tryPublishEvent(translator, arg)) {
+            return true;
+        }
+        rejectedCount.incrementAndGet();
+        return false;
+    }
+
+    protected EventHandlerGroup<RingBufferEvent> attachHandler(final Disruptor<RingBufferEvent> disruptor, final EventHandlerGroup<RingBufferEvent> parentGroup, final LocalEventHandlerGroup localHandlerGroup) {
+        EventHandlerGroup<RingBufferEvent> handlerGroup;
+        @SuppressWarnings("unchecked")
+        EventHandler<RingBufferEvent>[] eventHanders = (EventHandler<RingBufferEvent>[]) localHandlerGroup.handler.toArray(new EventHandler[0]);
+        allEventHandlers.addAll(localHandlerGroup.handler);
+        if (parentGroup == null) {
+            handlerGroup = disruptor.handleEventsWith(eventHanders);
+        } else {
+            handlerGroup = parentGroup.then(eventHanders);
+        }
+
+        if (localHandlerGroup.dependent != null && !localHandlerGroup.handler.isEmpty()) {
+            handlerGroup = attachHandler(disruptor, handlerGroup, localHandlerGroup.dependent);
+        }
+
+        return handlerGroup;
+    }
+
+    public static EventStoreBuilder builder() {
+        return new EventStoreBuilder();
+    }
+
+    private static void checkMuxCtx(final String muxCtx) {
+        if (muxCtx == null || muxCtx.isBlank()) {
+            throw new IllegalArgumentException("muxCtx must not be null or blank");
+        }
+    }
+
+    public static class EventStoreBuilder {
+        private Class<? extends Filter>[] filterConfig;
+        private Function<RingBufferEvent, String> muxCtxFunction;
+        private Cache.CacheBuilder<String, Disruptor<RingBufferEvent>> muxBuilder;
+        private int ringBufferSize = DEFAULT_RING_BUFFER_SIZE;
+        private int ctxRingBufferSize = DEFAULT_CTX_RING_BUFFER_SIZE;
+        private int historySize = DEFAULT_HISTORY_SIZE;
+        private int maxThreads = N_THREAD_MAX;
+        private ProducerType producerType = ProducerType.MULTI;
+        private Supplier<? extends WaitStrategy> waitStrategy = () -> new TimeoutBlockingWaitStrategy(100, TimeUnit.MILLISECONDS);
+        private Supplier<? extends WaitStrategy> ctxWaitStrategy = BlockingWaitStrategy::new;
+
+        protected EventStoreBuilder() {
+            // use EventStore.builder()
+        }
+
+        public EventStore build() {
+            return new EventStore(this);
+        }
+
+        /**
+         * @param size size of the context-multiplexed ring buffers (rounded up to the next power of two)
+         * @return itself (fluent design)
+         */
+        public EventStoreBuilder withCtxRingBufferSize(final int size) {
+            this.ctxRingBufferSize = checkRingBufferSize(size);
+            return this;
+        }
+
+        /**
+         * @param waitStrategy factory of the wait strategies used for the context-multiplexed ring buffers (default:
+         *            blocking)
+         * @return itself (fluent design)
+         */
+        public EventStoreBuilder withCtxWaitStrategy(final Supplier<? extends WaitStrategy> waitStrategy) {
+            this.ctxWaitStrategy = checkNotNull("waitStrategy", waitStrategy);
+            return this;
+        }
+
+        @SafeVarargs
+        public final EventStoreBuilder withFilterConfig(final Class<? extends Filter>... filterConfig) {
+            this.filterConfig = checkNotNull("filterConfig", filterConfig);
+            return this;
+        }
+
+        /**
+         * @param historySize number of events kept per context for the {@link HistoryEventHandler}s
+         * @return itself (fluent design)
+         */
+        public EventStoreBuilder withHistorySize(final int historySize) {
+            if (historySize < 1) {
+                throw new IllegalArgumentException("historySize = " + historySize + " must be >= 1");
+            }
+            this.historySize = historySize;
+            return this;
+        }
+
+        /**
+         * @param maxThreads maximum number of pool threads of the event store's worker thread factory
+         * @return itself (fluent design)
+         */
+        public EventStoreBuilder withMaxThreads(final int maxThreads) {
+            this.maxThreads = maxThreads;
+            return this;
+        }
+
+        public EventStoreBuilder withMuxCacheBuilder(final Cache.CacheBuilder<String, Disruptor<RingBufferEvent>> muxBuilder) {
+            this.muxBuilder = muxBuilder;
+            return this;
+        }
+
+        public EventStoreBuilder withMuxCtxFunction(final Function<RingBufferEvent, String> muxCtxFunction) {
+            this.muxCtxFunction = muxCtxFunction;
+            return this;
+        }
+
+        /**
+         * @param producerType {@link ProducerType#SINGLE} if events are published by one thread only (faster),
+         *            {@link ProducerType#MULTI} otherwise (default)
+         * @return itself (fluent design)
+         */
+        public EventStoreBuilder withProducerType(final ProducerType producerType) {
+            this.producerType = checkNotNull("producerType", producerType);
+            return this;
+        }
+
+        /**
+         * @param size size of the primary ring buffer (rounded up to the next power of two)
+         * @return itself (fluent design)
+         */
+        public EventStoreBuilder withRingBufferSize(final int size) {
+            this.ringBufferSize = checkRingBufferSize(size);
+            return this;
+        }
+
+        /**
+         * @param waitStrategy factory of the wait strategy used for the primary ring buffer (default: blocking with
+         *            100 ms time-out), e.g. {@code YieldingWaitStrategy::new} or {@code BusySpinWaitStrategy::new} for
+         *            low-latency/high-rate applications with dedicated cores
+         * @return itself (fluent design)
+         */
+        public EventStoreBuilder withWaitStrategy(final Supplier<? extends WaitStrategy> waitStrategy) {
+            this.waitStrategy = checkNotNull("waitStrategy", waitStrategy);
+            return this;
+        }
+
+        private static <T> T checkNotNull(final String name, final T value) {
+            if (value == null) {
+                throw new IllegalArgumentException(name + " must not be null");
+            }
+            return value;
+        }
+
+        private static int checkRingBufferSize(final int size) {
+            if (size < 2) {
+                throw new IllegalArgumentException("ring buffer size = " + size + " must be >= 2");
+            }
+            return Util.ceilingNextPowerOfTwo(size);
+        }
+    }
+
+    protected static class LocalEventHandlerGroup {
+        public final List<EventHandler<RingBufferEvent>> handler = new NoDuplicatesList<>();
+        public LocalEventHandlerGroup dependent;
+
+        @SafeVarargs
+        private LocalEventHandlerGroup(final EventHandler<RingBufferEvent>... eventHandler) {
+            assert eventHandler != null;
+            handler.addAll(Arrays.asList(eventHandler));
+        }
+
+        private LocalEventHandlerGroup(final Predicate<RingBufferEvent> filter, Function<RingBufferEvent, String> muxCtxFunction, final HistoryEventHandler... eventHandlerCallbacks) {
+            assert eventHandlerCallbacks != null;
+            for (final HistoryEventHandler callback : eventHandlerCallbacks) {
+                handler.add(new DefaultHistoryEventHandler(null, filter, muxCtxFunction, callback));
+            }
+        }
+
+        @SafeVarargs
+        public final LocalEventHandlerGroup and(final EventHandler<RingBufferEvent>... eventHandler) {
+            assert eventHandler != null;
+            handler.addAll(Arrays.asList(eventHandler));
+            return this;
+        }
+
+        public final LocalEventHandlerGroup and(final Predicate<RingBufferEvent> filter, Function<RingBufferEvent, String> muxCtxFunction, final HistoryEventHandler... eventHandlerCallbacks) {
+            assert eventHandlerCallbacks != null;
+            for (final HistoryEventHandler callback : eventHandlerCallbacks) {
+                handler.add(new DefaultHistoryEventHandler(null, filter, muxCtxFunction, callback));
+            }
+            return this;
+        }
+
+        @SafeVarargs
+        public final LocalEventHandlerGroup then(final EventHandler<RingBufferEvent>... eventHandler) {
+            return (dependent = new LocalEventHandlerGroup(eventHandler));
+        }
+
+        public final LocalEventHandlerGroup then(final Predicate<RingBufferEvent> filter, Function<RingBufferEvent, String> muxCtxFunction, final HistoryEventHandler... eventHandlerCallbacks) {
+            return (dependent = new LocalEventHandlerGroup(filter, muxCtxFunction, eventHandlerCallbacks));
+        }
+    }
+
+    protected static class DefaultHistoryEventHandler implements EventHandler<RingBufferEvent> {
+        private EventStore eventStore;
+        private final Predicate<RingBufferEvent> filter;
+        private final Function<RingBufferEvent, String> muxCtxFunction;
+        private Cache<String, LimitedArrayList<RingBufferEvent>> historyCache;
+        private final HistoryEventHandler callback;
+
+        DefaultHistoryEventHandler(final EventStore eventStore, final Predicate<RingBufferEvent> filter, Function<RingBufferEvent, String> muxCtxFunction, final HistoryEventHandler callback) {
+            assert filter != null : "filter predicate is null";
+            assert muxCtxFunction != null : "muxCtxFunction hash function is null";
+            assert callback != null : "callback function must not be null";
+
+            this.eventStore = eventStore;
+            this.filter = filter;
+            this.muxCtxFunction = muxCtxFunction;
+            this.callback = callback;
+        }
+
+        private void setEventStore(final EventStore eventStore) {
+            this.eventStore = eventStore;
+            // allocate cache
+            final BiConsumer<String, LimitedArrayList<RingBufferEvent>> clearCacheElement = (muxCtx, history) -> history.forEach(RingBufferEvent::clear);
+            final Cache<?, ?> c = eventStore.eventStreams; // re-use existing config limits
+            historyCache = Cache.<String, LimitedArrayList<RingBufferEvent>>builder().withLimit((int) c.getLimit()).withTimeout(c.getTimeout(), c.getTimeUnit()).withPostListener(clearCacheElement).build();
+        }
+
+        public void onEvent(final RingBufferEvent event, final long sequence, final boolean endOfBatch) {
+            if (!filter.test(event)) {
+                return;
+            }
+            final String muxCtx = muxCtxFunction.apply(event);
+            final LimitedArrayList<RingBufferEvent> history = historyCache.computeIfAbsent(muxCtx, ctx -> new LimitedArrayList<>(eventStore.getHistorySize()));
+
+            final RingBufferEvent eventCopy;
+            if (history.size() == history.getLimit()) {
+                // recycle the oldest history element -> no allocation in steady-state
+                eventCopy = history.remove(history.size() - 1);
+                eventCopy.clear();
+                event.copyTo(eventCopy);
+            } else {
+                eventCopy = event.clone();
+            }
+            history.add(0, eventCopy);
+
+            final RingBufferEvent result;
+            try {
+                result = callback.onEvent(history, eventStore, sequence, endOfBatch);
+            } catch (Exception e) { // NOPMD -- call-back may throw any exception
+                LOGGER.atError().setCause(e).addArgument(history.size()).addArgument(sequence).addArgument(endOfBatch) //
+                        .log("caught error for arguments (history={}, eventStore, sequence={}, endOfBatch={})");
+                event.throwables.add(e);
+                return;
+            }
+            if (result == null) {
+                return;
+            }
+            // N.B. non-blocking: a handler blocking on its own (full) ring buffer would dead-lock
+            if (!eventStore.tryPublish((newEvent, newSequence) -> {
+                    result.copyTo(newEvent);
+                    newEvent.parentSequenceNumber = newSequence;
+                })) {
+                LOGGER.atWarn().addArgument(sequence).log("could not publish processed event for sequence = {} - ring buffer full");
+            }
+        }
+    }
+}
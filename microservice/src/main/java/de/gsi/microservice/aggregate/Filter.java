@@ -1,4 +1,4 @@
-package de.gsi.microservice.concepts.aggregate;
+package de.gsi.microservice.aggregate;
 
 /**
  * Basic filter interface description
@@ -0,0 +1,53 @@
+package de.gsi.microservice.aggregate;
+
+import java.util.function.Predicate;
+
+/**
+ * Typed filter predicates for {@link RingBufferEvent}s.
+ *
+ * The static factories convert predicates on a single filter trait (e.g. {@code CtxFilter.matches(3, 2)}) into
+ * event predicates that can be combined via the usual {@link Predicate#and(Predicate)}, {@link Predicate#or(Predicate)}
+ * and {@link Predicate#negate()}, e.g.:
+ *
+ * <pre>
+ * Predicate&lt;RingBufferEvent&gt; filter = FilterPredicate.of(CtxFilter.class, CtxFilter.matches(3, 2)) //
+ *         .and(FilterPredicate.of(EvtTypeFilter.class, EvtTypeFilter.isDeviceData("MyDevice")));
+ * </pre>
+ *
+ * @author rstein
+ */
+public interface FilterPredicate {
+    /**
+     * Evaluates this predicate on the given arguments.
+     *
+     * @param filterClass the filter class
+     * @param filterPredicate the filter predicate object
+     * @param <R> the filter type
+     * @return {@code true} if the input arguments match the predicate, otherwise {@code false}
+     */
+    <R extends Filter> boolean test(Class<R> filterClass, Predicate<R> filterPredicate);
+
+    /**
+     * @param filterClass the filter class
+     * @param filterPredicate the predicate on the given filter trait
+     * @param <R> the filter type
+     * @return event predicate evaluating the given filter predicate
+     */
+    static <R extends Filter> Predicate<RingBufferEvent> of(final Class<R> filterClass, final Predicate<R> filterPredicate) {
+        if (filterClass == null || filterPredicate == null) {
+            throw new IllegalArgumentException("filterClass and filterPredicate must not be null");
+        }
+        return evt -> evt.test(filterClass, filterPredicate);
+    }
+
+    /**
+     * @param payloadType required payload class-type
+     * @return event predicate matching events with a payload of the given type
+     */
+    static Predicate<RingBufferEvent> ofPayload(final Class<?> payloadType) {
+        if (payloadType == null) {
+            throw new IllegalArgumentException("payloadType must not be null");
+        }
+        return evt -> evt.matches(payloadType);
+    }
+}
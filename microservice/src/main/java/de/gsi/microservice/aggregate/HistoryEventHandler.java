@@ -1,16 +1,22 @@
-package de.gsi.microservice.concepts.aggregate;
+package de.gsi.microservice.aggregate;
 
 import java.util.List;
 
 import com.lmax.disruptor.RingBuffer;
 
+/**
+ * Call-back for filtered events that provides the per-context history of matching events.
+ *
+ * @author rstein
+ */
 public interface HistoryEventHandler {
     /**
      * Called when a publisher has published a new event to the {@link EventStore}.
      *
      * N.B. this is a delegate handler based on the {@link com.lmax.disruptor.EventHandler}.
      *
-     * @param events     RingBufferEvent history published to the {@link EventStore}. Newest element is stored in '0'
+     * @param events     RingBufferEvent history published to the {@link EventStore}. Newest element is stored in '0'.
+     *                   N.B. the history elements are recycled and must be copied if needed beyond this call
      * @param eventStore handler to superordinate {@link EventStore} and {@link RingBuffer}
      * @param sequence   of the event being processed
      * @param endOfBatch flag to indicate if this is the last event in a batch from the {@link EventStore}
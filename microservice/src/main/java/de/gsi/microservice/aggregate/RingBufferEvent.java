@@ -1,4 +1,4 @@
-package de.gsi.microservice.concepts.aggregate;
+package de.gsi.microservice.aggregate;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
@@ -16,6 +16,15 @@ import com.lmax.disruptor.EventHandler;
 
 import de.gsi.microservice.utils.SharedPointer;
 
+/**
+ * Default {@link EventStore} ring buffer element: arrival time-stamp, parent sequence number, a static set of
+ * {@link Filter} traits (configured per event store, allocated once per ring buffer slot) and a shared payload.
+ *
+ * N.B. ring buffer elements are recycled, i.e. handlers must not keep references to them beyond the event call-back
+ * and should use {@link #copyTo(RingBufferEvent)} or {@link #clone()} if needed.
+ *
+ * @author rstein
+ */
 public class RingBufferEvent implements FilterPredicate, Cloneable {
     private final static Logger LOGGER = LoggerFactory.getLogger(RingBufferEvent.class);
     /**
@@ -83,7 +92,7 @@ public class RingBufferEvent implements FilterPredicate, Cloneable {
 
     public <T extends Filter> T getFilter(final Class<T> filterType) {
         for (Filter filter : filters) {
-            if (filter.getClass().isAssignableFrom(filterType)) {
+            if (filterType.isInstance(filter)) {
                 return filterType.cast(filter);
             }
         }
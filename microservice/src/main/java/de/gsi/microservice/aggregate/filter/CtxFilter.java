@@ -1,13 +1,19 @@
-package de.gsi.microservice.concepts.aggregate.filter;
+package de.gsi.microservice.aggregate.filter;
 
 import java.text.SimpleDateFormat;
 import java.util.Objects;
 import java.util.function.Predicate;
 
-import org.apache.commons.lang3.StringUtils;
-
-import de.gsi.microservice.concepts.aggregate.Filter;
+import de.gsi.microservice.aggregate.Filter;
 
+/**
+ * Timing context filter trait: beam-production-chain (cid), sequence (sid), beam-process (pid) and timing group (gid)
+ * IDs as well as the beam-production-chain time-stamp, parsed from selector strings such as
+ * 'FAIR.SELECTOR.C=0:S=1:P=3:T=101'. The static {@code matches(..)} factories provide typed predicates that can be
+ * combined via {@link Predicate#and(Predicate)}, e.g.: {@code evt.test(CtxFilter.class, CtxFilter.matches(3, 2))}.
+ *
+ * @author rstein
+ */
 public class CtxFilter implements Filter {
     public static final String WILD_CARD = "ALL";
     public static final int WILD_CARD_VALUE = -1;
@@ -97,8 +103,12 @@ public class CtxFilter implements Filter {
 
     public void setSelector(final String selector, final long bpcts) {
         try {
-            assert selector != null : "selector string must not be null";
-            assert bpcts > 0 : "BPCTS time stamp <= 0 :" + bpcts;
+            if (selector == null) {
+                throw new IllegalArgumentException("selector string must not be null");
+            }
+            if (bpcts <= 0) {
+                throw new IllegalArgumentException("BPCTS time stamp <= 0 :" + bpcts);
+            }
             clear();
             this.selector = selector;
             this.bpcts = bpcts;
@@ -108,14 +118,16 @@ public class CtxFilter implements Filter {
                 return;
             }
 
-            final String[] identifiers = StringUtils.replace(selectorUpper, SELECTOR_PREFIX, "", 1).split(":");
+            final String[] identifiers = (selectorUpper.startsWith(SELECTOR_PREFIX) ? selectorUpper.substring(SELECTOR_PREFIX.length()) : selectorUpper).split(":");
             if (identifiers.length == 1 && WILD_CARD.equals(identifiers[0])) {
                 return;
             }
 
             for (String tag : identifiers) {
                 final String[] splitSubComponent = tag.split("=");
-                assert splitSubComponent.length == 2 : "invalid selector: " + selector;
+                if (splitSubComponent.length != 2) {
+                    throw new IllegalArgumentException("invalid selector: " + selector);
+                }
                 final int value = splitSubComponent[1].equals(WILD_CARD) ? -1 : Integer.parseInt(splitSubComponent[1]);
                 switch (splitSubComponent[0]) {
                 case "C":
@@ -135,9 +147,9 @@ public class CtxFilter implements Filter {
                     throw new IllegalArgumentException("cannot parse selector: '" + selector + "' sub-tag: " + tag);
                 }
             }
-        } catch (Throwable t) {
+        } catch (RuntimeException e) { // NOPMD -- e.g. NumberFormatException
             clear();
-            throw new IllegalArgumentException("cannot parse selector: '" + selector + "'", t);
+            throw new IllegalArgumentException("cannot parse selector: '" + selector + "'", e);
         }
     }
 
@@ -1,10 +1,16 @@
-package de.gsi.microservice.concepts.aggregate.filter;
+package de.gsi.microservice.aggregate.filter;
 
 import java.util.Objects;
 import java.util.function.Predicate;
 
-import de.gsi.microservice.concepts.aggregate.Filter;
+import de.gsi.microservice.aggregate.Filter;
 
+/**
+ * Event type filter trait (timing, device, settings-supply or processed data) with an optional type name, e.g.:
+ * {@code evt.test(EvtTypeFilter.class, EvtTypeFilter.isDeviceData("MyDevice"))}.
+ *
+ * @author rstein
+ */
 public class EvtTypeFilter implements Filter {
     public EvtType evtType = EvtType.UNKNOWN;
     public String typeName = null;
@@ -1,14 +1,14 @@
-package de.gsi.microservice.concepts.majordomo;
+package de.gsi.microservice.majordomo;
 
 import static org.zeromq.ZMQ.Socket;
 
-import static de.gsi.microservice.concepts.majordomo.MajordomoProtocol.MdpClientCommand;
-import static de.gsi.microservice.concepts.majordomo.MajordomoProtocol.MdpClientMessage;
-import static de.gsi.microservice.concepts.majordomo.MajordomoProtocol.MdpMessage;
-import static de.gsi.microservice.concepts.majordomo.MajordomoProtocol.MdpSubProtocol;
-import static de.gsi.microservice.concepts.majordomo.MajordomoProtocol.MdpWorkerCommand;
-import static de.gsi.microservice.concepts.majordomo.MajordomoProtocol.MdpWorkerMessage;
-import static de.gsi.microservice.concepts.majordomo.MajordomoProtocol.receiveMdpMessage;
+import static de.gsi.microservice.majordomo.MajordomoProtocol.MdpClientCommand;
+import static de.gsi.microservice.majordomo.MajordomoProtocol.MdpClientMessage;
+import static de.gsi.microservice.majordomo.MajordomoProtocol.MdpMessage;
+import static de.gsi.microservice.majordomo.MajordomoProtocol.MdpSubProtocol;
+import static de.gsi.microservice.majordomo.MajordomoProtocol.MdpWorkerCommand;
+import static de.gsi.microservice.majordomo.MajordomoProtocol.MdpWorkerMessage;
+import static de.gsi.microservice.majordomo.MajordomoProtocol.receiveMdpMessage;
 
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayDeque;
@@ -49,6 +49,10 @@ import de.gsi.microservice.utils.SystemProperties;
  *
  *  default client time-out [s] is set by system property: 'OpenCMW.clientTimeOut' // default: 3600 [s] -- after which unanswered client messages and infos are being deleted
  *
+ *  Clients may pipeline requests, i.e. send several requests before receiving the replies (see {@link MajordomoClientV2}).
+ *  Worker notifications ({@link MajordomoWorker#notifySubscribers(byte[]...)}) are fanned-out via the PUB sockets bound
+ *  with {@link #bindPublisher(String)} using the service name as subscription topic (see {@link MajordomoSubscriber}).
+ *
 */
 public class MajordomoBroker extends Thread {
     private static final Logger LOGGER = LoggerFactory.getLogger(MajordomoBroker.class);
@@ -67,6 +71,7 @@ public class MajordomoBroker extends Thread {
     private final Socket internalRouterSocket;
     private final Socket internalServiceSocket;
     private final List<Socket> routerSockets = new ArrayList<>(); // Sockets for clients & public external workers
+    private final List<Socket> publishSockets = new ArrayList<>(); // Sockets for subscription fan-out
     private final AtomicBoolean run = new AtomicBoolean(false);
     private final SortedSet<RbacRole<?>> rbacRoles;
     private final Map<String, Service> services = new HashMap<>(); // known services Map<'service name', Service>
@@ -120,6 +125,23 @@ public class MajordomoBroker extends Thread {
         return routerSocket;
     }
 
+    /**
+     * Bind broker publisher socket to endpoint, can call this multiple times.
+     * Subscribers connect via SUB sockets and subscribe to the (UTF-8 encoded) service name.
+     *
+     * @param endpoint the endpoint, e.g. "tcp://*:5557", "ipc://broker-pub" or "inproc://broker-pub"
+     * @return the bound PUB socket
+     */
+    public Socket bindPublisher(final String endpoint) {
+        final Socket publishSocket = ctx.createSocket(SocketType.PUB);
+        publishSocket.bind(endpoint);
+        publishSockets.add(publishSocket);
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.atDebug().addArgument(endpoint).log("Majordomo broker/0.1 publisher is active at '{}'");
+        }
+        return publishSocket;
+    }
+
     public ZContext getContext() {
         return ctx;
     }
@@ -128,6 +150,13 @@ public class MajordomoBroker extends Thread {
         return internalRouterSocket;
     }
 
+    /**
+     * @return unmodifiable list of registered publisher sockets
+     */
+    public List<Socket> getPublishSockets() {
+        return Collections.unmodifiableList(publishSockets);
+    }
+
     /**
      * @return unmodifiable list of registered external sockets
      */
@@ -357,6 +386,19 @@ public class MajordomoBroker extends Thread {
             worker = requireWorker(receiveSocket, msg.senderID, msg.senderIdHex);
             deleteWorker(worker, false);
             break;
+        case W_NOTIFY:
+            worker = isInternal ? null : requireWorker(receiveSocket, msg.senderID, msg.senderIdHex);
+            if (!workerReady || !isInternal && worker.service == null) {
+                // notifications from unknown or not yet ready workers are rejected
+                deleteWorker(worker, true);
+                break;
+            }
+            // fan-out to all subscribers of the service -- N.B. PUB sockets drop messages for slow subscribers rather than blocking the broker
+            final byte[] notifyServiceName = isInternal ? msg.serviceNameBytes : worker.service.nameBytes;
+            for (Socket publishSocket : publishSockets) {
+                MajordomoProtocol.sendNotification(publishSocket, notifyServiceName, msg.payload);
+            }
+            break;
         default:
             // N.B. not too verbose logging since we do not want that sloppy clients can bring down the broker through warning or info messages
             if (LOGGER.isDebugEnabled()) {
@@ -550,7 +592,12 @@ public class MajordomoBroker extends Thread {
         }
 
         public boolean requestsPending() {
-            return requests.entrySet().stream().anyMatch(map -> !map.getValue().isEmpty());
+            for (final Queue<MdpClientMessage> queue : requests.values()) { // N.B. called for every dispatch -> no streams
+                if (!queue.isEmpty()) {
+                    return true;
+                }
+            }
+            return false;
         }
 
         /**
@@ -568,16 +615,19 @@ public class MajordomoBroker extends Thread {
         }
 
         protected void putPrioritisedMessage(final MdpClientMessage queuedMessage) {
+            Queue<MdpClientMessage> roleBasedQueue = null;
             if (queuedMessage.hasRbackToken()) {
                 // find proper RBAC queue
-                final RbacToken rbacToken = RbacToken.from(queuedMessage.getRbacFrame());
-                final Queue<MdpClientMessage> roleBasedQueue = requests.get(rbacToken.getRole());
-                if (roleBasedQueue != null) {
-                    roleBasedQueue.offer(queuedMessage);
+                try {
+                    roleBasedQueue = requests.get(RbacToken.from(queuedMessage.getRbacFrame()).getRole());
+                } catch (IllegalArgumentException e) { // NOPMD -- unknown role name, treated as message w/o RBAC token
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.atDebug().addArgument(queuedMessage).log("Majordomo broker received invalid RBAC token: '{}'");
+                    }
                 }
-            } else {
-                requests.get(BasicRbacRole.NULL).offer(queuedMessage);
             }
+            // N.B. messages with unknown roles are queued with the lowest priority rather than being dropped silently
+            (roleBasedQueue == null ? requests.get(BasicRbacRole.NULL) : roleBasedQueue).offer(queuedMessage);
         }
     }
 
@@ -1,12 +1,11 @@
-package de.gsi.microservice.concepts.majordomo;
+package de.gsi.microservice.majordomo;
 
-import static de.gsi.microservice.concepts.majordomo.MajordomoProtocol.MdpClientCommand;
-import static de.gsi.microservice.concepts.majordomo.MajordomoProtocol.MdpSubProtocol;
+import static de.gsi.microservice.majordomo.MajordomoProtocol.MdpClientCommand;
+import static de.gsi.microservice.majordomo.MajordomoProtocol.MdpSubProtocol;
 
 import java.lang.management.ManagementFactory;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
-import java.util.Formatter;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
@@ -27,17 +26,28 @@ public class MajordomoClientV1 {
     private static final AtomicInteger CLIENT_V1_INSTANCE = new AtomicInteger();
     private final String uniqueID;
     private final byte[] uniqueIdBytes;
-    private String broker;
-    private ZContext ctx;
+    private final String broker;
+    private final ZContext ctx;
+    private final boolean ownsContext;
     private ZMQ.Socket clientSocket;
     private long timeout = 2500;
     private int retries = 3;
-    private Formatter log = new Formatter(System.out);
     private ZMQ.Poller poller;
 
     public MajordomoClientV1(String broker, String clientName) {
+        this(null, broker, clientName);
+    }
+
+    /**
+     * @param ctx shared ZeroMQ context (needed for 'inproc://' brokers, e.g. {@link MajordomoBroker#getContext()}) or
+     *            {@code null} to create a private context
+     * @param broker broker address
+     * @param clientName client name prefix of the unique client ID
+     */
+    public MajordomoClientV1(final ZContext ctx, final String broker, final String clientName) {
         this.broker = broker;
-        ctx = new ZContext();
+        this.ownsContext = ctx == null;
+        this.ctx = ownsContext ? new ZContext() : ctx;
 
         uniqueID = clientName + "PID=" + ManagementFactory.getRuntimeMXBean().getName() + "-InstanceID=" + CLIENT_V1_INSTANCE.getAndIncrement();
         uniqueIdBytes = uniqueID.getBytes(ZMQ.CHARSET);
@@ -67,7 +77,12 @@ public class MajordomoClientV1 {
     }
 
     public void destroy() {
-        ctx.destroy();
+        if (ownsContext) {
+            ctx.destroy();
+            return;
+        }
+        poller.close();
+        ctx.destroySocket(clientSocket);
     }
 
     public int getRetries() {
@@ -150,10 +165,10 @@ public class MajordomoClientV1 {
                 break;
             } else {
                 if (--retriesLeft == 0) {
-                    log.format("W: permanent error, abandoning\n");
+                    LOGGER.atWarn().addArgument(uniqueID).log("client '{}' permanent error, abandoning request");
                     break;
                 }
-                log.format("W: no reply, reconnecting\n");
+                LOGGER.atWarn().addArgument(uniqueID).log("client '{}' no reply, reconnecting");
                 reconnectToBroker();
             }
         }
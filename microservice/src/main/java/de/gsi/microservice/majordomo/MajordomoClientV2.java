@@ -1,10 +1,12 @@
-package de.gsi.microservice.concepts.majordomo;
+package de.gsi.microservice.majordomo;
 
-import static de.gsi.microservice.concepts.majordomo.MajordomoProtocol.MdpClientCommand;
-import static de.gsi.microservice.concepts.majordomo.MajordomoProtocol.MdpSubProtocol;
-import static de.gsi.microservice.concepts.majordomo.MajordomoProtocol.sendClientMessage;
+import static de.gsi.microservice.majordomo.MajordomoProtocol.MdpClientCommand;
+import static de.gsi.microservice.majordomo.MajordomoProtocol.MdpSubProtocol;
+import static de.gsi.microservice.majordomo.MajordomoProtocol.sendClientMessage;
 
+import java.lang.management.ManagementFactory;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,23 +19,46 @@ import org.zeromq.ZMsg;
 /**
  * Majordomo Protocol Client API, asynchronous Java version. Implements the
  * MajordomoProtocol/Worker spec at http://rfc.zeromq.org/spec:7.
+ *
+ * Requests are pipelined, i.e. several requests may be sent before receiving their replies via {@link #recv()}.
+ * N.B. replies of the same worker arrive in request order but replies of different services/workers may be interleaved.
  */
 public class MajordomoClientV2 {
     private static final Logger LOGGER = LoggerFactory.getLogger(MajordomoClientV2.class);
+    private static final AtomicInteger CLIENT_V2_INSTANCE = new AtomicInteger();
     private final String broker;
     private final ZContext ctx;
+    private final boolean ownsContext;
+    private final byte[] uniqueIdBytes;
     private ZMQ.Socket clientSocket;
     private long timeout = 2500;
     private ZMQ.Poller poller;
 
     public MajordomoClientV2(final String broker) {
+        this(null, broker);
+    }
+
+    /**
+     * @param ctx shared ZeroMQ context (needed for 'inproc://' brokers, e.g. {@link MajordomoBroker#getContext()}) or
+     *            {@code null} to create a private context
+     * @param broker broker address
+     */
+    public MajordomoClientV2(final ZContext ctx, final String broker) {
         this.broker = broker;
-        ctx = new ZContext();
+        this.ownsContext = ctx == null;
+        this.ctx = ownsContext ? new ZContext() : ctx;
+        // N.B. unique identity needed to route replies of concurrent clients
+        this.uniqueIdBytes = ("clientV2-PID=" + ManagementFactory.getRuntimeMXBean().getName() + "-InstanceID=" + CLIENT_V2_INSTANCE.getAndIncrement()).getBytes(StandardCharsets.UTF_8);
         reconnectToBroker();
     }
 
     public void destroy() {
-        ctx.destroy();
+        if (ownsContext) {
+            ctx.destroy();
+            return;
+        }
+        poller.close();
+        ctx.destroySocket(clientSocket);
     }
 
     public long getTimeout() {
@@ -49,7 +74,7 @@ public class MajordomoClientV2 {
         ZMsg reply = null;
 
         // Poll socket for a reply, with timeout
-        if (poller.poll(timeout * 1000) == -1) {
+        if (poller.poll(timeout) == -1) {
             return null; // Interrupted
         }
 
@@ -109,7 +134,7 @@ public class MajordomoClientV2 {
         }
         clientSocket = ctx.createSocket(SocketType.DEALER);
         clientSocket.setHWM(0);
-        clientSocket.setIdentity("clientV2".getBytes(StandardCharsets.UTF_8));
+        clientSocket.setIdentity(uniqueIdBytes);
         clientSocket.connect(broker);
         if (poller != null) {
             poller.unregister(clientSocket);
@@ -1,4 +1,4 @@
-package de.gsi.microservice.concepts.majordomo;
+package de.gsi.microservice.majordomo;
 
 import static org.zeromq.ZMQ.Socket;
 
@@ -16,6 +16,9 @@ import zmq.SocketBase;
 /**
  * Majordomo Protocol (MDP) definitions and implementations according to https://rfc.zeromq.org/spec/7/
  *
+ * In addition to the V0.1 specification, workers may send {@link MdpWorkerCommand#W_NOTIFY} messages that the broker
+ * fans out to all subscribers of the service via its PUB socket(s) (see {@link #sendNotification}).
+ *
  * @author rstein
  */
 public class MajordomoProtocol { // NOPMD nomen-est-omen
@@ -81,6 +84,7 @@ public class MajordomoProtocol { // NOPMD nomen-est-omen
                 return new MdpWorkerMessage(senderId, workerCommand, msg.isEmpty() ? null : msg.pop().getData(), null);
             case W_REQUEST:
             case W_REPLY:
+            case W_NOTIFY:
                 final byte[] clientSourceId = msg.pop().getData();
                 assert clientSourceId != null : "clientSourceID must not be null";
                 final ZFrame emptyFrame2 = msg.pop();
@@ -92,7 +96,8 @@ public class MajordomoProtocol { // NOPMD nomen-est-omen
                     workerMessages[i] = dataFrame.hasData() ? dataFrame.getData() : new byte[0];
                     dataFrame.destroy();
                 }
-                return new MdpWorkerMessage(senderId, workerCommand, null, clientSourceId, workerMessages);
+                // N.B. notifications carry the service name (subscription topic) in place of the client ID
+                return new MdpWorkerMessage(senderId, workerCommand, workerCommand == MdpWorkerCommand.W_NOTIFY ? clientSourceId : null, clientSourceId, workerMessages);
 
             case W_UNKNOWN:
             default:
@@ -171,8 +176,9 @@ public class MajordomoProtocol { // NOPMD nomen-est-omen
             return status;
         case W_REQUEST:
         case W_REPLY:
+        case W_NOTIFY:
         case W_READY:
-            socketBase.send(new zmq.Msg(mdpWorkerCommand.getFrameData()), ZMQ.SNDMORE); // frame 3: mdpWorkerCommand (1-byte: W_READY, W_REQUEST, W_REPLY)
+            socketBase.send(new zmq.Msg(mdpWorkerCommand.getFrameData()), ZMQ.SNDMORE); // frame 3: mdpWorkerCommand (1-byte: W_READY, W_REQUEST, W_REPLY, W_NOTIFY)
             assert clientID != null;
             if (msg.length == 0 && mdpWorkerCommand == MdpWorkerCommand.W_READY) {
                 status &= socketBase.send(new zmq.Msg(clientID), 0); // frame 4: client ID (i.e. sourceID of the client that is known to the broker
@@ -193,6 +199,27 @@ public class MajordomoProtocol { // NOPMD nomen-est-omen
         }
     }
 
+    /**
+     * Send notification to subscribers of the given service (SUB sockets subscribe to the UTF-8 encoded service name)
+     *
+     * @param socket ZeroMQ PUB socket to send the message on
+     * @param serviceName UTF-8 encoded service name used as subscription topic
+     * @param msg notification message frame(s)
+     *
+     * @return {@code true} if successful
+     */
+    public static boolean sendNotification(final Socket socket, final byte[] serviceName, final byte[]... msg) {
+        assert socket != null : "socket must not be null";
+        assert serviceName != null : "serviceName must not be null";
+
+        final SocketBase socketBase = socket.base();
+        boolean status = socketBase.send(new zmq.Msg(serviceName), msg.length == 0 ? 0 : ZMQ.SNDMORE); // frame 0: topic
+        for (int i = 0; i < msg.length; i++) {
+            status &= socketBase.send(new zmq.Msg(msg[i]), i < msg.length - 1 ? ZMQ.SNDMORE : 0);
+        }
+        return status;
+    }
+
     public static String strhex(byte[] data) {
         if (data == null) {
             return "";
@@ -258,6 +285,7 @@ public class MajordomoProtocol { // NOPMD nomen-est-omen
         W_REPLY(0x03),
         W_HEARTBEAT(0x04),
         W_DISCONNECT(0x05),
+        W_NOTIFY(0x06), // N.B. extension to MDP V0.1: worker-initiated notification that is fanned-out to the service's subscribers
         W_UNKNOWN(-1);
 
         private final byte[] data;
@@ -0,0 +1,100 @@
+package de.gsi.microservice.majordomo;
+
+import java.nio.charset.StandardCharsets;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.zeromq.SocketType;
+import org.zeromq.ZContext;
+import org.zeromq.ZMQ;
+import org.zeromq.ZMsg;
+
+/**
+ * Subscriber for notifications that Majordomo workers publish via {@link MajordomoWorker#notifySubscribers(byte[]...)}
+ * and that the broker fans out on its publisher socket(s) (see {@link MajordomoBroker#bindPublisher(String)}).
+ *
+ * N.B. ZeroMQ subscriptions are prefix-matches on the UTF-8 encoded service name and are established asynchronously,
+ * i.e. notifications published immediately after {@link #subscribe(String)} may be missed ('slow joiner').
+ *
+ * @author rstein
+ */
+public class MajordomoSubscriber {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MajordomoSubscriber.class);
+    private final String publisher;
+    private final ZContext ctx;
+    private final boolean ownsContext;
+    private final ZMQ.Socket subscribeSocket;
+    private final ZMQ.Poller poller;
+    private long timeout = 2500;
+
+    public MajordomoSubscriber(final String publisher) {
+        this(null, publisher);
+    }
+
+    /**
+     * @param ctx shared ZeroMQ context (needed for 'inproc://' publishers, e.g. {@link MajordomoBroker#getContext()}) or
+     *            {@code null} to create a private context
+     * @param publisher broker publisher address
+     */
+    public MajordomoSubscriber(final ZContext ctx, final String publisher) {
+        this.publisher = publisher;
+        this.ownsContext = ctx == null;
+        this.ctx = ownsContext ? new ZContext() : ctx;
+        subscribeSocket = this.ctx.createSocket(SocketType.SUB);
+        subscribeSocket.setHWM(0);
+        subscribeSocket.connect(publisher);
+        poller = this.ctx.createPoller(1);
+        poller.register(subscribeSocket, ZMQ.Poller.POLLIN);
+        LOGGER.atDebug().addArgument(publisher).log("connecting to broker publisher at: '{}'");
+    }
+
+    public void destroy() {
+        if (ownsContext) {
+            ctx.destroy();
+            return;
+        }
+        poller.close();
+        ctx.destroySocket(subscribeSocket);
+    }
+
+    public String getPublisher() {
+        return publisher;
+    }
+
+    public long getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Returns the next notification or NULL if there was none within the time-out.
+     *
+     * @return notification message, the first frame being the service name followed by the worker's payload frame(s)
+     */
+    public ZMsg recv() {
+        if (poller.poll(timeout) == -1) {
+            return null; // Interrupted
+        }
+        if (!poller.pollin(0)) {
+            return null;
+        }
+        return ZMsg.recvMsg(subscribeSocket);
+    }
+
+    public void setTimeout(final long timeout) {
+        this.timeout = timeout;
+    }
+
+    /**
+     * @param serviceName service (prefix) to subscribe to, empty string to subscribe to all services
+     */
+    public void subscribe(final String serviceName) {
+        subscribeSocket.subscribe(serviceName.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param serviceName service (prefix) to unsubscribe from
+     */
+    public void unsubscribe(final String serviceName) {
+        subscribeSocket.unsubscribe(serviceName.getBytes(StandardCharsets.UTF_8));
+    }
+}
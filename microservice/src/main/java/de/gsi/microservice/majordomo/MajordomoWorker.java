@@ -1,13 +1,14 @@
-package de.gsi.microservice.concepts.majordomo;
+package de.gsi.microservice.majordomo;
 
-import static de.gsi.microservice.concepts.majordomo.MajordomoProtocol.MdpMessage;
-import static de.gsi.microservice.concepts.majordomo.MajordomoProtocol.MdpWorkerCommand;
-import static de.gsi.microservice.concepts.majordomo.MajordomoProtocol.MdpWorkerMessage;
-import static de.gsi.microservice.concepts.majordomo.MajordomoProtocol.receiveMdpMessage;
+import static de.gsi.microservice.majordomo.MajordomoProtocol.MdpMessage;
+import static de.gsi.microservice.majordomo.MajordomoProtocol.MdpWorkerCommand;
+import static de.gsi.microservice.majordomo.MajordomoProtocol.MdpWorkerMessage;
+import static de.gsi.microservice.majordomo.MajordomoProtocol.receiveMdpMessage;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.lang.management.ManagementFactory;
+import java.lang.reflect.Constructor;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.Objects;
@@ -21,7 +22,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.zeromq.SocketType;
 import org.zeromq.ZContext;
+import org.zeromq.ZFrame;
 import org.zeromq.ZMQ;
+import org.zeromq.ZMsg;
 
 import de.gsi.microservice.rbac.RbacRole;
 import de.gsi.microservice.utils.SystemProperties;
@@ -35,6 +38,9 @@ import de.gsi.microservice.utils.SystemProperties;
  * N.B. heartbeat expires when last heartbeat message is more than HEARTBEAT_INTERVAL * HEARTBEAT_LIVENESS ms ago.
  * this implies also, that worker must either return their message within 'HEARTBEAT_INTERVAL * HEARTBEAT_LIVENESS ms' or decouple their secondary handler interface into another thread.
  *
+ * Besides raw byte[] handlers, typed handlers may be registered via {@link #registerHandler(Class, TypedRequestHandler)}
+ * that exchange {@link PayloadCodec IoClassSerialiser-encoded} objects (e.g. DataSets), and
+ * {@link #notifySubscribers(byte[]...)} publishes notifications to all subscribers of this service.
  */
 public class MajordomoWorker extends Thread {
     private static final Logger LOGGER = LoggerFactory.getLogger(MajordomoWorker.class);
@@ -57,6 +63,11 @@ public class MajordomoWorker extends Thread {
     private int reconnect = 2500; // Reconnect delay, msecs
     private RequestHandler requestHandler;
     private ZMQ.Poller poller;
+    private final Object notifyLock = new Object(); // guards 'notifySocket' and 'notifyClosed'
+    private boolean notifyClosed;
+    private ZMQ.Socket notifySocket; // inproc socket for notifications from any thread (guarded by 'notifyLock')
+    private final ZMQ.Socket notifyListenSocket; // inproc socket relaying the notifications to the broker (worker thread)
+    private final ThreadLocal<PayloadCodec> codecs = ThreadLocal.withInitial(PayloadCodec::new);
 
     public MajordomoWorker(String brokerAddress, String serviceName, final RbacRole<?>... rbacRoles) {
         this(null, brokerAddress, serviceName, rbacRoles);
@@ -66,7 +77,7 @@ public class MajordomoWorker extends Thread {
         this(ctx, "inproc://broker", serviceName, rbacRoles);
     }
 
-    protected MajordomoWorker(ZContext ctx, String brokerAddress, String serviceName, final RbacRole<?>... rbacRoles) {
+    public MajordomoWorker(ZContext ctx, String brokerAddress, String serviceName, final RbacRole<?>... rbacRoles) {
         assert (brokerAddress != null);
         assert (serviceName != null);
         this.brokerAddress = brokerAddress;
@@ -85,10 +96,22 @@ public class MajordomoWorker extends Thread {
 
         this.setName(this.getClass().getSimpleName() + "(\"" + this.serviceName + "\")-" + uniqueID);
 
+        notifyListenSocket = this.ctx.createSocket(SocketType.PULL);
+        notifyListenSocket.setHWM(0);
+        notifyListenSocket.bind(getNotifyAddress());
+
         LOGGER.atDebug().addArgument(serviceName).addArgument(uniqueID).log("created new service '{}' worker - uniqueID: {}");
     }
 
     public void destroy() {
+        synchronized (notifyLock) {
+            if (notifySocket != null) {
+                ctx.destroySocket(notifySocket);
+            }
+            notifySocket = null;
+            notifyClosed = true;
+        }
+        ctx.destroySocket(notifyListenSocket);
         ctx.destroy();
     }
 
@@ -169,10 +192,76 @@ public class MajordomoWorker extends Thread {
         return null;
     }
 
+    /**
+     * Publishes a notification to all subscribers of this service (see {@link MajordomoBroker#bindPublisher(String)}).
+     * The notification is relayed to the broker by the (started) worker thread via its registered worker socket since
+     * the broker rejects notifications from unknown or not ready workers.
+     * N.B. thread-safe, may be called from any thread
+     *
+     * @param payload notification message frame(s)
+     * @return {@code true} if successful
+     */
+    public boolean notifySubscribers(final byte[]... payload) {
+        if (payload.length == 0) {
+            throw new IllegalArgumentException("payload must not be empty");
+        }
+        synchronized (notifyLock) {
+            if (notifyClosed) {
+                return false;
+            }
+            if (notifySocket == null) {
+                notifySocket = ctx.createSocket(SocketType.PUSH);
+                notifySocket.setHWM(0);
+                notifySocket.connect(getNotifyAddress());
+            }
+            boolean status = true;
+            for (int i = 0; i < payload.length; i++) {
+                status &= notifySocket.send(payload[i], i < payload.length - 1 ? ZMQ.SNDMORE : 0);
+            }
+            return status;
+        }
+    }
+
     public void registerHandler(final RequestHandler handler) {
         this.requestHandler = handler;
     }
 
+    /**
+     * Registers a handler for requests whose first frame is an {@link PayloadCodec IoClassSerialiser-encoded} object.
+     * The returned object is serialised the same way and sent back as reply (empty frame for {@code null}).
+     *
+     * N.B. the input objects and serialisation buffers are recycled per handler thread, i.e. the input must not be
+     * referenced beyond the call.
+     *
+     * @param inputType the request class type (requires a no-argument constructor)
+     * @param handler the user-supplied call-back function
+     * @param <I> the request type
+     */
+    public <I> void registerHandler(final Class<I> inputType, final TypedRequestHandler<I> handler) {
+        if (inputType == null || handler == null) {
+            throw new IllegalArgumentException("inputType and handler must not be null");
+        }
+        final Constructor<I> constructor;
+        try {
+            constructor = inputType.getDeclaredConstructor();
+            constructor.setAccessible(true); // NOSONAR NOPMD
+        } catch (NoSuchMethodException | SecurityException e) {
+            throw new IllegalArgumentException("no default constructor for " + inputType.getName(), e);
+        }
+        final ThreadLocal<I> inputs = ThreadLocal.withInitial(() -> {
+            try {
+                return constructor.newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("could not instantiate " + inputType.getName(), e);
+            }
+        });
+        registerHandler(payload -> {
+            final PayloadCodec codec = codecs.get();
+            final Object reply = handler.handle(codec.deserialise(payload[0], inputs.get()));
+            return new byte[][] { reply == null ? MajordomoProtocol.EMPTY_FRAME : codec.serialise(reply) };
+        });
+    }
+
     @Override
     public void run() {
         while (!Thread.currentThread().isInterrupted()) {
@@ -206,6 +295,10 @@ public class MajordomoWorker extends Thread {
                 break; // Interrupted
             }
 
+            if (poller.pollin(1)) {
+                relayNotifications();
+            }
+
             if (poller.pollin(0)) {
                 final MdpMessage msg = receiveMdpMessage(workerSocket);
                 if (msg == null) {
@@ -238,7 +331,7 @@ public class MajordomoWorker extends Thread {
                     MajordomoProtocol.sendWorkerMessage(workerSocket, MdpWorkerCommand.W_REPLY, reply.senderID, workerMessage.clientSourceID, reply.payload);
                 }
 
-            } else if (--liveness == 0) {
+            } else if (!poller.pollin(1) && --liveness == 0) {
                 if (LOGGER.isDebugEnabled()) {
                     LOGGER.atDebug().addArgument(uniqueID).log("worker '{}' disconnected from broker - retrying");
                 }
@@ -266,6 +359,11 @@ public class MajordomoWorker extends Thread {
      * Connect or reconnect to broker
      */
     protected void reconnectToBroker() {
+        // N.B. unregister and close the old socket before the new one is created and registered
+        if (poller != null) {
+            poller.unregister(workerSocket);
+            poller.close();
+        }
         if (workerSocket != null) {
             workerSocket.close();
         }
@@ -277,19 +375,45 @@ public class MajordomoWorker extends Thread {
         // Register service with broker
         MajordomoProtocol.sendWorkerMessage(workerSocket, MdpWorkerCommand.W_READY, null, serviceBytes, getUniqueID().getBytes(StandardCharsets.UTF_8));
 
-        if (poller != null) {
-            poller.unregister(workerSocket);
-            poller.close();
-        }
-        poller = ctx.createPoller(1);
-        poller.register(workerSocket, ZMQ.Poller.POLLIN);
+        poller = ctx.createPoller(2);
+        poller.register(workerSocket, ZMQ.Poller.POLLIN); // index 0
+        poller.register(notifyListenSocket, ZMQ.Poller.POLLIN); // index 1
 
         // If liveness hits zero, queue is considered disconnected
         liveness = HEARTBEAT_LIVENESS;
         heartbeatAt = System.currentTimeMillis() + HEARTBEAT_INTERVAL;
     }
 
+    /**
+     * Forwards all pending notifications (see {@link #notifySubscribers(byte[]...)}) to the broker.
+     */
+    protected void relayNotifications() {
+        ZMsg msg;
+        while ((msg = ZMsg.recvMsg(notifyListenSocket, ZMQ.DONTWAIT)) != null) {
+            final byte[][] payload = new byte[msg.size()][];
+            int i = 0;
+            for (final ZFrame frame : msg) {
+                payload[i++] = frame.getData();
+            }
+            msg.destroy();
+            MajordomoProtocol.sendWorkerMessage(workerSocket, MdpWorkerCommand.W_NOTIFY, null, serviceBytes, payload);
+        }
+    }
+
+    private String getNotifyAddress() {
+        return "inproc://notify-" + uniqueID;
+    }
+
     public interface RequestHandler {
         byte[][] handle(byte[][] payload) throws Throwable;
     }
+
+    public interface TypedRequestHandler<I> {
+        /**
+         * @param input the de-serialised request (N.B. recycled)
+         * @return reply object to be serialised, or {@code null} for an empty reply
+         * @throws Exception in case of user-level errors that are courteously returned to the client
+         */
+        Object handle(I input) throws Exception;
+    }
 }
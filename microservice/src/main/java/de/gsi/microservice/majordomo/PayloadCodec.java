@@ -0,0 +1,88 @@
+package de.gsi.microservice.majordomo;
+
+import java.util.Arrays;
+
+import de.gsi.serializer.IoClassSerialiser;
+import de.gsi.serializer.spi.BinarySerialiser;
+import de.gsi.serializer.spi.FastByteBuffer;
+
+/**
+ * Converts objects (e.g. POJOs containing {@code DataSet}s) to and from Majordomo message frames using the
+ * {@link IoClassSerialiser} and {@link BinarySerialiser} wire-format.
+ *
+ * The backing {@link FastByteBuffer} is re-used between calls, i.e. only the returned frame is allocated while
+ * serialising and de-serialising into an existing object is allocation-free for primitive arrays of matching size.
+ *
+ * N.B. not thread-safe: use one instance per thread (see e.g. {@link MajordomoWorker#registerHandler(Class,
+ * MajordomoWorker.TypedRequestHandler)}).
+ *
+ * @author rstein
+ */
+public class PayloadCodec {
+    public static final int DEFAULT_INITIAL_CAPACITY = 1 << 16;
+    private final FastByteBuffer buffer;
+    private final IoClassSerialiser serialiser;
+
+    public PayloadCodec() {
+        this(DEFAULT_INITIAL_CAPACITY);
+    }
+
+    /**
+     * @param initialCapacity initial capacity of the byte buffer (grows on demand)
+     */
+    public PayloadCodec(final int initialCapacity) {
+        buffer = new FastByteBuffer(initialCapacity);
+        serialiser = new IoClassSerialiser(buffer, BinarySerialiser.class);
+    }
+
+    /**
+     * @param frame serialised object frame
+     * @param type the object class type (requires a no-argument constructor)
+     * @param <T> generic object type
+     * @return new de-serialised object
+     */
+    public <T> T deserialise(final byte[] frame, final Class<T> type) {
+        load(frame);
+        return serialiser.deserialiseObject(type);
+    }
+
+    /**
+     * @param frame serialised object frame
+     * @param target object to be updated with the de-serialised values
+     * @param <T> generic object type
+     * @return the updated target
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T deserialise(final byte[] frame, final T target) {
+        load(frame);
+        return (T) serialiser.deserialiseObject(target);
+    }
+
+    /**
+     * @return the re-used backing buffer
+     */
+    public FastByteBuffer getBuffer() {
+        return buffer;
+    }
+
+    /**
+     * @param object the object to be serialised
+     * @return message frame containing the serialised object
+     */
+    public byte[] serialise(final Object object) {
+        buffer.reset();
+        serialiser.serialiseObject(object);
+        // N.B. copy needed since ZeroMQ sends asynchronously and the buffer is re-used
+        return Arrays.copyOf(buffer.elements(), buffer.position());
+    }
+
+    private void load(final byte[] frame) {
+        if (frame == null) {
+            throw new IllegalArgumentException("frame must not be null");
+        }
+        buffer.reset();
+        buffer.ensureCapacity(frame.length);
+        System.arraycopy(frame, 0, buffer.elements(), 0, frame.length);
+        buffer.limit(frame.length);
+    }
+}
@@ -57,12 +57,10 @@ public interface RbacRole<T extends RbacRole<T>> extends Role, Comparable<T> {
     int getPriority();
 
     default int compareTo(T otherRole) {
-        if (otherRole == null || getPriority() > otherRole.getPriority()) {
+        if (otherRole == null) {
             return 1;
         }
-        if (getPriority() == otherRole.getPriority()) {
-            return 0;
-        }
-        return 1;
+        final int diff = Integer.compare(getPriority(), otherRole.getPriority());
+        return diff == 0 ? getName().compareTo(otherRole.getName()) : diff; // N.B. roles with the same priority are still distinct
     }
 }
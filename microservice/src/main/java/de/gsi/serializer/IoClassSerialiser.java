@@ -45,6 +45,8 @@ public class IoClassSerialiser {
     protected final List<IoSerialiser> ioSerialisers = new ArrayList<>();
     private final Map<Type, List<FieldSerialiser<?>>> classMap = new HashMap<>();
     private final Map<FieldSerialiserKey, FieldSerialiserValue> cachedFieldMatch = new HashMap<>();
+    private final Map<Integer, ClassWriter> cachedClassWriter = new HashMap<>();
+    private final Map<Integer, ClassReader> cachedClassReader = new HashMap<>();
     protected IoSerialiser matchedIoSerialiser;
     protected IoBuffer dataBuffer;
     protected Consumer<FieldDescription> startMarkerFunction;
@@ -111,6 +113,8 @@ public class IoClassSerialiser {
                 list.add(serialiser);
             }
         }
+        cachedClassWriter.clear(); // field serialiser matches may have changed
+        cachedClassReader.clear();
     }
 
     /**
@@ -169,22 +173,16 @@ public class IoClassSerialiser {
             return fieldSerialiser.getReturnObjectFunction().apply(matchedIoSerialiser, obj, clazz);
         }
         // deserialise into object
+        final ClassReader classReader = getClassReader(clazz);
         if (!fieldRoot.getChildren().isEmpty() && !fieldRoot.getChildren().get(0).getFieldName().isEmpty()) {
             for (final FieldDescription child : fieldRoot.getChildren()) {
-                deserialise(obj, obj.getClass(), child, clazz, 0);
+                classReader.read(obj, child);
             }
             return obj;
         }
 
         // class reference is not known by name (ie. was empty) parse directly dependent children
-        final List<FieldDescription> fieldRootChildren = fieldRoot.getChildren().get(0).getChildren();
-        for (final FieldDescription fieldDescription : fieldRootChildren) {
-            final ClassFieldDescription subFieldDescription = (ClassFieldDescription) clazz.findChildField(fieldDescription.getFieldNameHashCode(), fieldDescription.getFieldName());
-
-            if (subFieldDescription != null) {
-                deserialise(obj, obj.getClass(), fieldDescription, subFieldDescription, 1);
-            }
-        }
+        classReader.read(obj, fieldRoot.getChildren().get(0));
         return obj;
     }
 
@@ -401,7 +399,7 @@ public class IoClassSerialiser {
 
         if (fieldSerialiser == null) {
             matchedIoSerialiser.putHeaderInfo(classField);
-            serialiseObject(obj, classField, 0);
+            getClassWriter(classField).write(obj);
             matchedIoSerialiser.putEndMarker(classField);
         } else {
             if (existingSerialiser == null) {
@@ -517,6 +515,36 @@ public class IoClassSerialiser {
         }
     }
 
+    /**
+     * @param classField class field description of the (root or nested) class
+     * @return cached straight-line writer for the given class (compiled on first use)
+     */
+    private ClassWriter getClassWriter(final ClassFieldDescription classField) {
+        final int hashCode = computeHashCode(ClassUtils.getRawType(classField.getType()), classField.getActualTypeArguments());
+        final ClassWriter cachedWriter = cachedClassWriter.get(hashCode);
+        if (cachedWriter != null) {
+            return cachedWriter;
+        }
+        final ClassWriter classWriter = new ClassWriter(classField);
+        cachedClassWriter.put(hashCode, classWriter);
+        return classWriter;
+    }
+
+    /**
+     * @param classField class field description of the (root or nested) class
+     * @return cached reader for the given class (compiled on first use)
+     */
+    private ClassReader getClassReader(final ClassFieldDescription classField) {
+        final int hashCode = computeHashCode(ClassUtils.getRawType(classField.getType()), classField.getActualTypeArguments());
+        final ClassReader cachedReader = cachedClassReader.get(hashCode);
+        if (cachedReader != null) {
+            return cachedReader;
+        }
+        final ClassReader classReader = new ClassReader(classField);
+        cachedClassReader.put(hashCode, classReader);
+        return classReader;
+    }
+
     private void setMatchedIoSerialiser(final IoSerialiser matchedIoSerialiser) {
         this.matchedIoSerialiser = matchedIoSerialiser;
         this.matchedIoSerialiser.setBuffer(dataBuffer);
@@ -572,6 +600,156 @@ public class IoClassSerialiser {
         return classArguments.stream().map(Type::getTypeName).collect(Collectors.joining(", ", "<", ">"));
     }
 
+    /**
+     * Pre-resolved, flat sequence of field writers for a given class, ie. the per-call field serialiser lookups,
+     * child-list traversals and recursion of {@link #serialiseObject(Object, ClassFieldDescription, int)} are
+     * resolved once when the writer is compiled. Produces the identical wire-format.
+     */
+    private final class ClassWriter {
+        private final FieldWriter[] fieldWriters;
+
+        @SuppressWarnings({ "rawtypes", "unchecked" })
+        private ClassWriter(final ClassFieldDescription classField) {
+            final List<FieldWriter> writers = new ArrayList<>(classField.getChildren().size());
+            for (final FieldDescription fieldDescription : classField.getChildren()) {
+                final ClassFieldDescription field = (ClassFieldDescription) fieldDescription;
+                final FieldSerialiser existingSerialiser = field.getFieldSerialiser();
+                final FieldSerialiser fieldSerialiser = existingSerialiser == null ? cacheFindFieldSerialiser(field.getType(), field.getActualTypeArguments()) : existingSerialiser;
+                final ClassFieldDescription.FieldAccess fieldAccess = field.getField();
+                if (fieldSerialiser != null) {
+                    if (existingSerialiser == null) {
+                        field.setFieldSerialiser(fieldSerialiser);
+                    }
+                    final FieldSerialiser.TriConsumer writer = fieldSerialiser.getWriterFunction();
+                    final boolean skipNull = !field.isPrimitive();
+                    if (field.getDataType() == DataType.OTHER) {
+                        writers.add(obj -> {
+                            if (skipNull && fieldAccess.get(obj) == null) {
+                                return;
+                            }
+                            final WireDataFieldDescription header = matchedIoSerialiser.putFieldHeader(field.getFieldName(), field.getDataType());
+                            writer.accept(matchedIoSerialiser, obj, field);
+                            matchedIoSerialiser.updateDataEndMarker(header);
+                        });
+                    } else if (skipNull) {
+                        writers.add(obj -> {
+                            if (fieldAccess.get(obj) != null) {
+                                writer.accept(matchedIoSerialiser, obj, field);
+                            }
+                        });
+                    } else {
+                        writers.add(obj -> writer.accept(matchedIoSerialiser, obj, field));
+                    }
+                } else if (!field.getChildren().isEmpty()) {
+                    // container class with serialisable children
+                    final ClassWriter childWriter = new ClassWriter(field);
+                    writers.add(obj -> {
+                        final Object child = fieldAccess.get(obj);
+                        if (child == null) {
+                            // only follow and serialise non-null references of sub-classes
+                            return;
+                        }
+                        if (startMarkerFunction != null) {
+                            startMarkerFunction.accept(field);
+                        }
+                        childWriter.write(child);
+                        if (endMarkerFunction != null) {
+                            endMarkerFunction.accept(field);
+                        }
+                    });
+                }
+            }
+            fieldWriters = writers.toArray(new FieldWriter[0]);
+        }
+
+        private void write(final Object obj) {
+            for (final FieldWriter fieldWriter : fieldWriters) {
+                fieldWriter.write(obj);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface FieldWriter {
+        void write(Object obj);
+    }
+
+    /**
+     * Pre-resolved field readers for a given class, ie. the per-field serialiser lookups and nested class descriptions
+     * of {@link #deserialise(Object, Class, FieldDescription, ClassFieldDescription, int)} are resolved once when the
+     * reader is compiled. Since the wire-format may contain the fields in any order (or omit some of them), the wire
+     * fields are matched by name against the class fields.
+     */
+    private final class ClassReader {
+        private final int[] fieldNameHashCodes;
+        private final String[] fieldNames;
+        private final FieldReader[] fieldReaders;
+
+        @SuppressWarnings({ "rawtypes", "unchecked" })
+        private ClassReader(final ClassFieldDescription classField) {
+            final List<FieldDescription> children = classField.getChildren();
+            fieldNameHashCodes = new int[children.size()];
+            fieldNames = new String[children.size()];
+            fieldReaders = new FieldReader[children.size()];
+            for (int i = 0; i < children.size(); i++) {
+                final ClassFieldDescription field = (ClassFieldDescription) children.get(i);
+                fieldNameHashCodes[i] = field.getFieldNameHashCode();
+                fieldNames[i] = field.getFieldName();
+                final FieldSerialiser existingSerialiser = field.getFieldSerialiser();
+                final FieldSerialiser fieldSerialiser = existingSerialiser == null ? cacheFindFieldSerialiser(field.getType(), field.getActualTypeArguments()) : existingSerialiser;
+                if (fieldSerialiser != null) {
+                    if (existingSerialiser == null) {
+                        field.setFieldSerialiser(fieldSerialiser);
+                    }
+                    final FieldSerialiser.TriConsumer reader = fieldSerialiser.getReaderFunction();
+                    fieldReaders[i] = (obj, wireField) -> {
+                        matchedIoSerialiser.getBuffer().position(wireField.getDataStartPosition());
+                        reader.accept(matchedIoSerialiser, obj, field);
+                    };
+                } else if (field.isFinal() && !ClassUtils.getRawType(field.getType()).isInterface()) {
+                    // cannot set final variables
+                    fieldReaders[i] = (obj, wireField) -> LOGGER.atWarn().addArgument(field.getParent()).addArgument(field.getFieldName()).log("cannot (read: better should not) set final field '{}-{}'");
+                } else {
+                    // container class with de-serialisable children
+                    final ClassReader childReader = new ClassReader(field);
+                    final ClassFieldDescription.FieldAccess fieldAccess = field.getField();
+                    fieldReaders[i] = (obj, wireField) -> {
+                        final Object ref = fieldAccess == null ? obj : fieldAccess.get(obj);
+                        final Object subRef = ref == null ? field.allocateMemberClassField(obj) : ref;
+                        if (subRef != null) {
+                            childReader.read(subRef, wireField);
+                        }
+                    };
+                }
+            }
+        }
+
+        private void read(final Object obj, final FieldDescription wireRoot) {
+            final List<FieldDescription> wireFields = wireRoot.getChildren();
+            for (int i = 0; i < wireFields.size(); i++) {
+                final FieldDescription wireField = wireFields.get(i);
+                final int index = indexOf(wireField.getFieldNameHashCode(), wireField.getFieldName());
+                if (index >= 0) {
+                    fieldReaders[index].read(obj, wireField);
+                }
+            }
+        }
+
+        private int indexOf(final int fieldNameHashCode, final String fieldName) {
+            for (int i = 0; i < fieldNames.length; i++) {
+                if (fieldNames[i] == fieldName || fieldNameHashCodes[i] == fieldNameHashCode && fieldNames[i].equals(fieldName)) { //NOSONAR //NOPMD early return if the same String object reference
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    @FunctionalInterface
+    private interface FieldReader {
+        void read(Object obj, FieldDescription wireField);
+    }
+
     private static class FieldSerialiserKey {
         private final Type clazz;
         private final List<Type> classGenericArguments;
@@ -1,5 +1,8 @@
 package de.gsi.serializer.spi;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
@@ -27,8 +30,6 @@ import de.gsi.serializer.annotations.MetaInfo;
 import de.gsi.serializer.annotations.Unit;
 import de.gsi.serializer.utils.ClassUtils;
 
-import sun.misc.Unsafe;
-
 /**
  * @author rstein
  */
@@ -734,102 +735,234 @@ public class ClassFieldDescription implements FieldDescription {
         return CharBuffer.allocate(spaces).toString().replace('\0', ' ');
     }
 
+    /**
+     * Typed field accessor based on {@link MethodHandle}s that are adapted once to the erased {@code (Object)T} getter
+     * and {@code (Object,T)void} setter signatures (T being the primitive field type or {@code Object}), i.e. primitive
+     * fields are read and written via {@code invokeExact} without boxing and without relying on {@code sun.misc.Unsafe}.
+     *
+     * The typed getter/setter must match the field type (e.g. {@link #getDouble(Object)} for {@code double} fields) and
+     * the object reference must be an instance of the field's declaring class, otherwise an
+     * {@link IllegalArgumentException} is thrown (as for {@link Field}). Static fields ignore the object reference.
+     */
     public static class FieldAccess {
-        private static final Unsafe unsafe; // NOPMD
-
-        static {
-            // get an instance of the otherwise private 'Unsafe' class
-            try {
-                final Field field = Unsafe.class.getDeclaredField("theUnsafe");
-                field.setAccessible(true); //NOSONAR
-                unsafe = (Unsafe) field.get(null);
-            } catch (NoSuchFieldException | SecurityException | IllegalAccessException e) {
-                throw new SecurityException(e); // NOPMD
-            }
-        }
-
+        private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
         private final Field field;
-        private final long fieldByteOffset;
+        private final Class<?> fieldType; // N.B. primitive type or 'Object.class' for references
+        private final Class<?> declaringClass; // null for static fields
+        private final MethodHandle getter;
+        private final MethodHandle setter;
 
         private FieldAccess(final Field field) {
             this.field = field;
             field.setAccessible(true); //NOSONAR
 
-            long offset = -1;
+            fieldType = field.getType().isPrimitive() ? field.getType() : Object.class;
+            final boolean isStatic = Modifier.isStatic(field.getModifiers());
+            declaringClass = isStatic ? null : field.getDeclaringClass();
+            MethodHandle get = null;
+            MethodHandle set = null;
+            try {
+                get = LOOKUP.unreflectGetter(field);
+                get = isStatic ? MethodHandles.dropArguments(get, 0, Object.class) : get;
+                get = get.asType(MethodType.methodType(fieldType, Object.class));
+            } catch (IllegalAccessException e) {
+                LOGGER.atDebug().setCause(e).addArgument(field).log("could not create getter for field '{}'");
+            }
             try {
-                offset = unsafe.objectFieldOffset(field);
-            } catch (IllegalArgumentException e) {
-                // fails for private static final fields
+                set = LOOKUP.unreflectSetter(field);
+                set = isStatic ? MethodHandles.dropArguments(set, 0, Object.class) : set;
+                set = set.asType(MethodType.methodType(void.class, Object.class, fieldType));
+            } catch (IllegalAccessException e) {
+                // N.B. fails for static final fields
+                LOGGER.atTrace().setCause(e).addArgument(field).log("could not create setter for field '{}'");
             }
-            this.fieldByteOffset = offset;
+            this.getter = get;
+            this.setter = set;
         }
 
         public Object get(final Object classReference) {
-            return unsafe.getObject(classReference, fieldByteOffset);
+            checkAccess(Object.class, classReference);
+            try {
+                return getter.invokeExact(classReference);
+            } catch (Throwable t) { // NOPMD NOSONAR -- rethrown
+                throw rethrow(t);
+            }
         }
 
         public boolean getBoolean(final Object classReference) {
-            return unsafe.getBoolean(classReference, fieldByteOffset);
+            checkAccess(boolean.class, classReference);
+            try {
+                return (boolean) getter.invokeExact(classReference);
+            } catch (Throwable t) { // NOPMD NOSONAR -- rethrown
+                throw rethrow(t);
+            }
         }
 
         public byte getByte(final Object classReference) {
-            return unsafe.getByte(classReference, fieldByteOffset);
+            checkAccess(byte.class, classReference);
+            try {
+                return (byte) getter.invokeExact(classReference);
+            } catch (Throwable t) { // NOPMD NOSONAR -- rethrown
+                throw rethrow(t);
+            }
         }
 
         public char getChar(final Object classReference) {
-            return unsafe.getChar(classReference, fieldByteOffset);
+            checkAccess(char.class, classReference);
+            try {
+                return (char) getter.invokeExact(classReference);
+            } catch (Throwable t) { // NOPMD NOSONAR -- rethrown
+                throw rethrow(t);
+            }
         }
 
         public double getDouble(final Object classReference) {
-            return unsafe.getDouble(classReference, fieldByteOffset);
+            checkAccess(double.class, classReference);
+            try {
+                return (double) getter.invokeExact(classReference);
+            } catch (Throwable t) { // NOPMD NOSONAR -- rethrown
+                throw rethrow(t);
+            }
         }
 
         public Field getField() {
             return field;
         }
+
         public float getFloat(final Object classReference) {
-            return unsafe.getFloat(classReference, fieldByteOffset);
+            checkAccess(float.class, classReference);
+            try {
+                return (float) getter.invokeExact(classReference);
+            } catch (Throwable t) { // NOPMD NOSONAR -- rethrown
+                throw rethrow(t);
+            }
         }
+
         public int getInt(final Object classReference) {
-            return unsafe.getInt(classReference, fieldByteOffset);
+            checkAccess(int.class, classReference);
+            try {
+                return (int) getter.invokeExact(classReference);
+            } catch (Throwable t) { // NOPMD NOSONAR -- rethrown
+                throw rethrow(t);
+            }
         }
+
         public long getLong(final Object classReference) {
-            return unsafe.getLong(classReference, fieldByteOffset);
+            checkAccess(long.class, classReference);
+            try {
+                return (long) getter.invokeExact(classReference);
+            } catch (Throwable t) { // NOPMD NOSONAR -- rethrown
+                throw rethrow(t);
+            }
         }
+
         public short getShort(final Object classReference) { // NOPMD
-            return unsafe.getShort(classReference, fieldByteOffset);
+            checkAccess(short.class, classReference);
+            try {
+                return (short) getter.invokeExact(classReference);
+            } catch (Throwable t) { // NOPMD NOSONAR -- rethrown
+                throw rethrow(t);
+            }
         }
+
         public void set(final Object classReference, final Object obj) {
-            unsafe.putObject(classReference, fieldByteOffset, obj);
+            checkAccess(Object.class, classReference);
+            try {
+                setter.invokeExact(classReference, obj);
+            } catch (Throwable t) { // NOPMD NOSONAR -- rethrown
+                throw rethrow(t);
+            }
         }
+
         public void setBoolean(final Object classReference, final boolean value) {
-            unsafe.putBoolean(classReference, fieldByteOffset, value);
+            checkAccess(boolean.class, classReference);
+            try {
+                setter.invokeExact(classReference, value);
+            } catch (Throwable t) { // NOPMD NOSONAR -- rethrown
+                throw rethrow(t);
+            }
         }
+
         public void setByte(final Object classReference, final byte value) {
-            unsafe.putByte(classReference, fieldByteOffset, value);
+            checkAccess(byte.class, classReference);
+            try {
+                setter.invokeExact(classReference, value);
+            } catch (Throwable t) { // NOPMD NOSONAR -- rethrown
+                throw rethrow(t);
+            }
         }
+
         public void setChar(final Object classReference, final char value) {
-            unsafe.putChar(classReference, fieldByteOffset, value);
+            checkAccess(char.class, classReference);
+            try {
+                setter.invokeExact(classReference, value);
+            } catch (Throwable t) { // NOPMD NOSONAR -- rethrown
+                throw rethrow(t);
+            }
         }
 
         public void setDouble(final Object classReference, final double value) {
-            unsafe.putDouble(classReference, fieldByteOffset, value);
+            checkAccess(double.class, classReference);
+            try {
+                setter.invokeExact(classReference, value);
+            } catch (Throwable t) { // NOPMD NOSONAR -- rethrown
+                throw rethrow(t);
+            }
         }
 
         public void setFloat(final Object classReference, final float value) {
-            unsafe.putFloat(classReference, fieldByteOffset, value);
+            checkAccess(float.class, classReference);
+            try {
+                setter.invokeExact(classReference, value);
+            } catch (Throwable t) { // NOPMD NOSONAR -- rethrown
+                throw rethrow(t);
+            }
         }
 
         public void setInt(final Object classReference, final int value) {
-            unsafe.putInt(classReference, fieldByteOffset, value);
+            checkAccess(int.class, classReference);
+            try {
+                setter.invokeExact(classReference, value);
+            } catch (Throwable t) { // NOPMD NOSONAR -- rethrown
+                throw rethrow(t);
+            }
         }
 
         public void setLong(final Object classReference, final long value) {
-            unsafe.putLong(classReference, fieldByteOffset, value);
+            checkAccess(long.class, classReference);
+            try {
+                setter.invokeExact(classReference, value);
+            } catch (Throwable t) { // NOPMD NOSONAR -- rethrown
+                throw rethrow(t);
+            }
         }
 
         public void setShort(final Object classReference, final short value) { // NOPMD
-            unsafe.putShort(classReference, fieldByteOffset, value);
+            checkAccess(short.class, classReference);
+            try {
+                setter.invokeExact(classReference, value);
+            } catch (Throwable t) { // NOPMD NOSONAR -- rethrown
+                throw rethrow(t);
+            }
+        }
+
+        private void checkAccess(final Class<?> accessorType, final Object classReference) {
+            if (fieldType != accessorType) {
+                throw new IllegalArgumentException("cannot access " + fieldType.getName() + " field " + field + " as " + accessorType.getName());
+            }
+            if (declaringClass != null && !declaringClass.isInstance(classReference)) {
+                throw new IllegalArgumentException("cannot access field " + field + " on " + (classReference == null ? "null" : classReference.getClass().getName()));
+            }
+        }
+
+        private RuntimeException rethrow(final Throwable t) {
+            if (t instanceof RuntimeException) {
+                return (RuntimeException) t;
+            }
+            if (t instanceof Error) {
+                throw (Error) t;
+            }
+            return new IllegalStateException("could not access field " + field, t);
         }
     }
 }
@@ -0,0 +1,89 @@
+package de.gsi.microservice.aggregate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import de.gsi.dataset.DataSet;
+import de.gsi.dataset.event.AddedDataEvent;
+import de.gsi.dataset.event.UpdateEvent;
+import de.gsi.dataset.spi.CircularDoubleErrorDataSet;
+import de.gsi.dataset.spi.DoubleDataSet;
+import de.gsi.microservice.aggregate.filter.CtxFilter;
+import de.gsi.microservice.utils.SharedPointer;
+
+class DataSetEventHandlerTest {
+    @Test
+    void testConstructor() {
+        final DoubleDataSet dataSet = new DoubleDataSet("test");
+        assertThrows(IllegalArgumentException.class, () -> DataSetEventHandler.of(dataSet, null, evt -> 0.0, evt -> 0.0, 10));
+        assertThrows(IllegalArgumentException.class, () -> DataSetEventHandler.of(dataSet, evt -> true, evt -> 0.0, evt -> 0.0, 0));
+        assertEquals(dataSet, DataSetEventHandler.of(dataSet, evt -> true, evt -> 0.0, evt -> 0.0, 10).getDataSet());
+    }
+
+    @Test
+    void testBatchedUpdates() {
+        final DoubleDataSet dataSet = new DoubleDataSet("test");
+        final List<UpdateEvent> events = new ArrayList<>();
+        dataSet.addListener(events::add);
+        final DataSetEventHandler<DoubleDataSet> handler = DataSetEventHandler.of(dataSet, FilterPredicate.ofPayload(Double.class), //
+                evt -> evt.parentSequenceNumber, evt -> evt.payload.get(Double.class), 4);
+
+        final RingBufferEvent event = new RingBufferEvent(CtxFilter.class);
+        for (int i = 0; i < 10; i++) {
+            event.parentSequenceNumber = i;
+            event.payload = new SharedPointer<>();
+            if (i != 3) {
+                event.payload.set(2.0 * i);
+            } else {
+                event.payload.set("not a number");
+            }
+            handler.onEvent(event, i, i == 5 || i == 9);
+        }
+
+        assertEquals(9, dataSet.getDataCount());
+        assertEquals(4.0, dataSet.get(DataSet.DIM_X, 3));
+        assertEquals(8.0, dataSet.get(DataSet.DIM_Y, 3));
+        // flushes: full buffer (0,1,2,4), end-of-batch (5), full buffer (6,7,8,9)
+        assertEquals(3, events.size());
+        assertEquals(AddedDataEvent.class, events.get(0).getClass());
+        assertEquals(4, ((AddedDataEvent) events.get(0)).getIndexMax());
+        assertEquals(4, ((AddedDataEvent) events.get(1)).getIndexMin());
+        assertEquals(5, ((AddedDataEvent) events.get(1)).getIndexMax());
+
+        event.payload = null;
+        handler.onEvent(event, 10, true); // filtered and empty buffer -> no notification
+        assertEquals(3, events.size());
+    }
+
+    @Test
+    void testCircularDataSet() {
+        final CircularDoubleErrorDataSet dataSet = new CircularDoubleErrorDataSet("test", 5);
+        final List<UpdateEvent> events = new ArrayList<>();
+        dataSet.addListener(events::add);
+        final DataSetEventHandler<CircularDoubleErrorDataSet> handler = DataSetEventHandler.of(dataSet, evt -> true, evt -> evt.parentSequenceNumber, evt -> -evt.parentSequenceNumber, 3);
+        final RingBufferEvent event = new RingBufferEvent(CtxFilter.class);
+        for (int i = 0; i <= 8; i++) {
+            event.parentSequenceNumber = i;
+            handler.onEvent(event, i, i == 8);
+        }
+        assertEquals(5, dataSet.getDataCount());
+        assertEquals(8.0, dataSet.get(DataSet.DIM_X, 4));
+        assertEquals(-8.0, dataSet.get(DataSet.DIM_Y, 4));
+        assertEquals(0.0, dataSet.getErrorPositive(DataSet.DIM_Y, 4));
+        assertEquals(4.0, dataSet.get(DataSet.DIM_X, 0));
+
+        // one notification per flush: (0,1,2), (3,4,5) wraps, (6,7,8) buffer full -> indices shifted
+        assertEquals(3, events.size());
+        assertEquals(0, ((AddedDataEvent) events.get(0)).getIndexMin());
+        assertEquals(3, ((AddedDataEvent) events.get(0)).getIndexMax());
+        for (int i = 1; i < 3; i++) {
+            assertEquals(0, ((AddedDataEvent) events.get(i)).getIndexMin());
+            assertEquals(5, ((AddedDataEvent) events.get(i)).getIndexMax());
+        }
+    }
+}
@@ -1,9 +1,10 @@
-package de.gsi.microservice.concepts.aggregate;
+package de.gsi.microservice.aggregate;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
@@ -19,16 +20,20 @@ import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.spi.LoggingEventBuilder;
 
 import com.lmax.disruptor.EventHandler;
 import com.lmax.disruptor.LifecycleAware;
 import com.lmax.disruptor.RingBuffer;
 import com.lmax.disruptor.TimeoutHandler;
+import com.lmax.disruptor.YieldingWaitStrategy;
 import com.lmax.disruptor.dsl.Disruptor;
+import com.lmax.disruptor.dsl.ProducerType;
 
 import de.gsi.dataset.utils.Cache;
-import de.gsi.microservice.concepts.aggregate.filter.CtxFilter;
-import de.gsi.microservice.concepts.aggregate.filter.EvtTypeFilter;
+import de.gsi.microservice.aggregate.filter.CtxFilter;
+import de.gsi.microservice.aggregate.filter.EvtTypeFilter;
+import de.gsi.microservice.utils.SharedPointer;
 
 class EventStoreTest {
     private final static Logger LOGGER = LoggerFactory.getLogger(EventStoreTest.class);
@@ -83,12 +88,12 @@ class EventStoreTest {
         assertNotNull(es.getRingBuffer());
 
         es.start();
-        es.publish(LOGGER.atTrace(), "message A", 0);
-        es.publish(LOGGER.atTrace(), "message B", 0);
-        es.publish(LOGGER.atTrace(), "message C", 0);
-        es.publish(LOGGER.atTrace(), "message A", 1);
-        es.publish(LOGGER.atTrace(), "message D", 0);
-        es.publish(LOGGER.atTrace(), "message E", 0);
+        publish(es, LOGGER.atTrace(), "message A", 0);
+        publish(es, LOGGER.atTrace(), "message B", 0);
+        publish(es, LOGGER.atTrace(), "message C", 0);
+        publish(es, LOGGER.atTrace(), "message A", 1);
+        publish(es, LOGGER.atTrace(), "message D", 0);
+        publish(es, LOGGER.atTrace(), "message E", 0);
 
         LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(100)); // give a bit of time until all workers are finished
         es.stop();
@@ -112,12 +117,12 @@ class EventStoreTest {
                 });
 
         es.start();
-        es.publish(LOGGER.atTrace(), "A", 0);
-        es.publish(LOGGER.atTrace(), "B", 0);
-        es.publish(LOGGER.atTrace(), "C", 0);
-        es.publish(LOGGER.atTrace(), "A", 1);
-        es.publish(LOGGER.atTrace(), "D", 0);
-        es.publish(LOGGER.atTrace(), "E", 0);
+        publish(es, LOGGER.atTrace(), "A", 0);
+        publish(es, LOGGER.atTrace(), "B", 0);
+        publish(es, LOGGER.atTrace(), "C", 0);
+        publish(es, LOGGER.atTrace(), "A", 1);
+        publish(es, LOGGER.atTrace(), "D", 0);
+        publish(es, LOGGER.atTrace(), "E", 0);
         Awaitility.await().atMost(200, TimeUnit.MILLISECONDS).until(() -> {
             es.stop();
             return true; });
@@ -151,12 +156,12 @@ class EventStoreTest {
         });
 
         es.start();
-        es.publish(LOGGER.atTrace(), "A", 0);
-        es.publish(LOGGER.atTrace(), "B", 0);
-        es.publish(LOGGER.atTrace(), "C", 0);
-        es.publish(LOGGER.atTrace(), "A", 1);
-        es.publish(LOGGER.atTrace(), "D", 0);
-        es.publish(LOGGER.atTrace(), "E", 0);
+        publish(es, LOGGER.atTrace(), "A", 0);
+        publish(es, LOGGER.atTrace(), "B", 0);
+        publish(es, LOGGER.atTrace(), "C", 0);
+        publish(es, LOGGER.atTrace(), "A", 1);
+        publish(es, LOGGER.atTrace(), "D", 0);
+        publish(es, LOGGER.atTrace(), "E", 0);
         Awaitility.await().atMost(200, TimeUnit.MILLISECONDS).until(() -> {
             es.stop();
             return true; });
@@ -172,12 +177,12 @@ class EventStoreTest {
         final Function<RingBufferEvent, String> muxCtx = evt -> "cid=" + evt.getFilter(CtxFilter.class).cid;
         final EventStore es = new EventStore(ctxCacheBuilder, muxCtx, CtxFilter.class, EvtTypeFilter.class);
         es.start();
-        es.publish(LOGGER.atTrace(), "A", 0);
-        es.publish(LOGGER.atTrace(), "B", 0);
-        es.publish(LOGGER.atTrace(), "C", 0);
-        es.publish(LOGGER.atTrace(), "A", 1);
-        es.publish(LOGGER.atTrace(), "D", 0);
-        es.publish(LOGGER.atTrace(), "E", 0);
+        publish(es, LOGGER.atTrace(), "A", 0);
+        publish(es, LOGGER.atTrace(), "B", 0);
+        publish(es, LOGGER.atTrace(), "C", 0);
+        publish(es, LOGGER.atTrace(), "A", 1);
+        publish(es, LOGGER.atTrace(), "D", 0);
+        publish(es, LOGGER.atTrace(), "E", 0);
         LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(100)); // give a bit of time until all workers are finished
 
         final Optional<RingBufferEvent> lastEvent = es.getLast("cid=0", evt -> true);
@@ -192,6 +197,75 @@ class EventStoreTest {
         es.stop();
     }
 
+    @Test
+    void builderTest() {
+        assertThrows(IllegalArgumentException.class, () -> EventStore.builder().build());
+        assertThrows(IllegalArgumentException.class, () -> EventStore.builder().withRingBufferSize(1));
+        assertThrows(IllegalArgumentException.class, () -> EventStore.builder().withHistorySize(0));
+        assertThrows(IllegalArgumentException.class, () -> EventStore.builder().withWaitStrategy(null));
+
+        final Function<RingBufferEvent, String> muxCtx = evt -> "cid=" + evt.getFilter(CtxFilter.class).cid;
+        final EventStore es = EventStore.builder().withFilterConfig(CtxFilter.class, EvtTypeFilter.class).withMuxCtxFunction(muxCtx) //
+                                      .withRingBufferSize(1000)
+                                      .withCtxRingBufferSize(100)
+                                      .withHistorySize(3)
+                                      .withWaitStrategy(YieldingWaitStrategy::new)
+                                      .withProducerType(ProducerType.SINGLE)
+                                      .build();
+        assertEquals(1024, es.getRingBuffer().getBufferSize());
+        assertEquals(128, es.getCtxRingBufferSize());
+        assertEquals(3, es.getHistorySize());
+        assertEquals(1024, es.getRemainingCapacity());
+        assertThrows(IllegalArgumentException.class, () -> es.getLast("", evt -> true));
+        assertFalse(es.getLast("cid=0", evt -> true).isPresent(), "empty context ring buffer");
+
+        final AtomicInteger historyLength = new AtomicInteger();
+        final Predicate<RingBufferEvent> filterBp0 = FilterPredicate.of(CtxFilter.class, CtxFilter.matches(-1, -1, 0));
+        es.register(filterBp0, muxCtx, (evts, evtStore, seq, eob) -> {
+            historyLength.set(evts.size());
+            return null;
+        });
+        es.start();
+        for (int i = 0; i < 10; i++) {
+            publish(es, LOGGER.atTrace(), "message " + i, 0);
+        }
+        Awaitility.await().atMost(1, TimeUnit.SECONDS).until(() -> es.getBacklog() == 0 && es.getLast("cid=0", FilterPredicate.ofPayload(String.class)).isPresent());
+        assertEquals(3, historyLength.get(), "history limited to configured size");
+        assertEquals(0, es.getRejectedCount());
+        assertEquals(0, es.getMuxDroppedCount());
+        assertEquals(4, es.getHistory("cid=0", filterBp0, 4).size());
+        es.stop();
+    }
+
+    @Test
+    void backPressureTest() {
+        final EventStore es = EventStore.builder().withFilterConfig(CtxFilter.class, EvtTypeFilter.class).withRingBufferSize(4).build();
+        final AtomicInteger handlerCount = new AtomicInteger();
+        final Object block = new Object();
+        synchronized (block) {
+            es.register((evt, seq, eob) -> {
+                synchronized (block) {
+                    handlerCount.incrementAndGet();
+                }
+            });
+            es.start(false);
+            int accepted = 0;
+            for (int i = 0; i < 10; i++) {
+                if (es.tryPublish((event, sequence, arg) -> event.parentSequenceNumber = sequence, "unused")) {
+                    accepted++;
+                }
+            }
+            assertEquals(4, accepted, "ring buffer capacity");
+            assertEquals(6, es.getRejectedCount());
+            assertEquals(0, es.getRemainingCapacity());
+            assertTrue(es.getBacklog() > 0);
+        }
+        Awaitility.await().atMost(1, TimeUnit.SECONDS).until(() -> handlerCount.get() == 4 && es.getBacklog() == 0);
+        assertTrue(es.getMaxBacklog() <= 4);
+        assertTrue(es.tryPublish((event, sequence) -> event.parentSequenceNumber = sequence));
+        es.stop();
+    }
+
     public static void main(final String[] args) {
         // global multiplexing context function -> generate new EventStream per detected context, here: multiplexed on {@see CtxFilter#cid}
         final Function<RingBufferEvent, String> muxCtx = evt -> "cid=" + evt.getFilter(CtxFilter.class).cid;
@@ -237,9 +311,9 @@ class EventStoreTest {
 
         EventHandler<RingBufferEvent> printEndHandler = (evt, seq, buffer) -> //
                 LOGGER.atInfo().addArgument(es.getRingBuffer().getMinimumGatingSequence()) //
-                        .addArgument(es.disruptor.getSequenceValueFor(handler1)) //
-                        .addArgument(es.disruptor.getSequenceValueFor(handler2)) //
-                        .addArgument(es.disruptor.getSequenceValueFor(lambdaEventHandler)) //
+                        .addArgument(es.getDisruptor().getSequenceValueFor(handler1)) //
+                        .addArgument(es.getDisruptor().getSequenceValueFor(handler2)) //
+                        .addArgument(es.getDisruptor().getSequenceValueFor(lambdaEventHandler)) //
                         .addArgument(seq) //
                         .log("### gating position = {} sequences for handler 1: {} 2: {} 3:{} ph: {}");
 
@@ -256,16 +330,27 @@ class EventStoreTest {
 
         es.start();
 
-        es.publish(LOGGER.atInfo(), "message A", 0);
-        es.publish(LOGGER.atInfo(), "message B", 0);
-        es.publish(LOGGER.atInfo(), "message C", 0);
-        es.publish(LOGGER.atInfo(), "message A", 1);
-        es.publish(LOGGER.atInfo(), "message D", 0);
-        es.publish(LOGGER.atInfo(), "message E", 0);
+        publish(es, LOGGER.atInfo(), "message A", 0);
+        publish(es, LOGGER.atInfo(), "message B", 0);
+        publish(es, LOGGER.atInfo(), "message C", 0);
+        publish(es, LOGGER.atInfo(), "message A", 1);
+        publish(es, LOGGER.atInfo(), "message D", 0);
+        publish(es, LOGGER.atInfo(), "message E", 0);
         LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(100)); // give a bit of time until all workers are finished
         es.stop();
     }
 
+    private static void publish(final EventStore es, final LoggingEventBuilder logger, final String payLoad, final int beamProcess) {
+        es.publish((event, sequence) -> {
+            event.arrivalTimeStamp = System.currentTimeMillis() * 1000;
+            event.parentSequenceNumber = sequence;
+            event.getFilter(CtxFilter.class).setSelector("FAIR.SELECTOR.C=0:S=0:P=" + beamProcess, event.arrivalTimeStamp);
+            event.payload = new SharedPointer<>();
+            event.payload.set("pid=" + beamProcess + ": " + payLoad);
+            logger.addArgument(sequence).addArgument(event.payload.get()).log("publish Seq:{} - event:'{}'");
+        });
+    }
+
     public static class MyHandler implements EventHandler<RingBufferEvent>, TimeoutHandler, LifecycleAware {
         private final RingBuffer<?> ringBuffer;
 
@@ -1,4 +1,4 @@
-package de.gsi.microservice.concepts.aggregate;
+package de.gsi.microservice.aggregate;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -10,8 +10,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
 
-import de.gsi.microservice.concepts.aggregate.filter.CtxFilter;
-import de.gsi.microservice.concepts.aggregate.filter.EvtTypeFilter;
+import de.gsi.microservice.aggregate.filter.CtxFilter;
+import de.gsi.microservice.aggregate.filter.EvtTypeFilter;
 import de.gsi.microservice.utils.SharedPointer;
 
 class RingBufferEventTests {
@@ -1,4 +1,4 @@
-package de.gsi.microservice.concepts.aggregate.filter;
+package de.gsi.microservice.aggregate.filter;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -4,6 +4,7 @@ import java.nio.charset.StandardCharsets;
 
 import org.zeromq.ZMsg;
 
+import de.gsi.microservice.majordomo.MajordomoClientV1;
 import de.gsi.microservice.rbac.BasicRbacRole;
 import de.gsi.microservice.rbac.RbacToken;
 
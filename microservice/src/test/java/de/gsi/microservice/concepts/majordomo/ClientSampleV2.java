@@ -4,6 +4,8 @@ import java.nio.charset.StandardCharsets;
 
 import org.zeromq.ZMsg;
 
+import de.gsi.microservice.majordomo.MajordomoClientV2;
+
 /**
  * Majordomo Protocol client example, asynchronous. Uses the mdcli API to hide
  * all MajordomoProtocol aspects
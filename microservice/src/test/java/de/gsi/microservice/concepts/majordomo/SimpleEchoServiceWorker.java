@@ -1,5 +1,6 @@
 package de.gsi.microservice.concepts.majordomo;
 
+import de.gsi.microservice.majordomo.MajordomoWorker;
 import de.gsi.microservice.rbac.BasicRbacRole;
 
 /**
@@ -0,0 +1,186 @@
+package de.gsi.microservice.majordomo;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.zeromq.Utils;
+import org.zeromq.ZMsg;
+
+import de.gsi.dataset.DataSet;
+import de.gsi.dataset.spi.DoubleDataSet;
+import de.gsi.microservice.rbac.BasicRbacRole;
+
+/**
+ * Local throughput and latency benchmark of the Majordomo broker, worker and client API for the different ZeroMQ
+ * transports ('inproc', 'ipc' and 'tcp' via loop-back).
+ *
+ * <ul>
+ * <li>{@code syncRoundTrip}: synchronous request-reply latency (one request in flight, {@link MajordomoClientV1}),
+ * <li>{@code pipelinedRoundTrip}: pipelined request-reply throughput ({@value #N_PIPELINED} requests in flight,
+ * {@link MajordomoClientV2}),
+ * <li>{@code dataSetRoundTrip}: synchronous request-reply of a {@link DataSet} exchanged via
+ * {@link MajordomoWorker#registerHandler(Class, MajordomoWorker.TypedRequestHandler)} and {@link PayloadCodec},
+ * <li>{@code notifyThroughput}: worker notifications that are fanned-out by the broker to a subscriber.
+ * </ul>
+ *
+ * @author rstein
+ */
+@State(Scope.Benchmark)
+public class MajordomoBenchmark {
+    private static final int N_PIPELINED = 1000;
+    private static final int N_NOTIFICATIONS = 1000;
+    private static final String ECHO_SERVICE = "echoService";
+    private static final String DATASET_SERVICE = "dataSetService";
+    private static final byte[] ECHO_SERVICE_BYTES = ECHO_SERVICE.getBytes(StandardCharsets.UTF_8);
+    private static final byte[] REQUEST_BYTES = "Hello World!".getBytes(StandardCharsets.UTF_8);
+    @Param({ "inproc", "ipc", "tcp" })
+    private String transport;
+    @Param({ "1024" })
+    private int nSamples;
+    private MajordomoBroker broker;
+    private MajordomoWorker echoWorker;
+    private MajordomoWorker dataSetWorker;
+    private MajordomoClientV1 syncClient;
+    private MajordomoClientV2 asyncClient;
+    private MajordomoSubscriber subscriber;
+    private final PayloadCodec codec = new PayloadCodec();
+    private final DataSetData request = new DataSetData();
+    private final DataSetData reply = new DataSetData();
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void dataSetRoundTrip(final Blackhole blackhole) {
+        final ZMsg msg = syncClient.send(DATASET_SERVICE, codec.serialise(request));
+        blackhole.consume(codec.deserialise(msg.pollLast().getData(), reply));
+    }
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2)
+    @OperationsPerInvocation(N_NOTIFICATIONS)
+    public void notifyThroughput(final Blackhole blackhole) {
+        for (int i = 0; i < N_NOTIFICATIONS; i++) {
+            echoWorker.notifySubscribers(REQUEST_BYTES);
+        }
+        for (int i = 0; i < N_NOTIFICATIONS; i++) {
+            blackhole.consume(subscriber.recv());
+        }
+    }
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2)
+    @OperationsPerInvocation(N_PIPELINED)
+    public void pipelinedRoundTrip(final Blackhole blackhole) {
+        for (int i = 0; i < N_PIPELINED; i++) {
+            asyncClient.send(ECHO_SERVICE_BYTES, REQUEST_BYTES);
+        }
+        for (int i = 0; i < N_PIPELINED; i++) {
+            blackhole.consume(asyncClient.recv());
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, InterruptedException {
+        broker = new MajordomoBroker(1, BasicRbacRole.values());
+        final String brokerAddress;
+        final String publisherAddress;
+        switch (transport) {
+        case "inproc":
+            brokerAddress = "inproc://benchmark";
+            publisherAddress = "inproc://benchmarkPublisher";
+            break;
+        case "ipc":
+            brokerAddress = "ipc://" + System.getProperty("java.io.tmpdir") + "/mdpBenchmark-" + ProcessHandle.current().pid();
+            publisherAddress = brokerAddress + "-publisher";
+            break;
+        case "tcp":
+        default:
+            brokerAddress = "tcp://localhost:" + Utils.findOpenPort();
+            publisherAddress = "tcp://localhost:" + Utils.findOpenPort();
+            break;
+        }
+        broker.bind(brokerAddress.replace("localhost", "*"));
+        broker.bindPublisher(publisherAddress.replace("localhost", "*"));
+        broker.start();
+
+        echoWorker = new MajordomoWorker(broker.getContext(), brokerAddress, ECHO_SERVICE, BasicRbacRole.ADMIN);
+        echoWorker.registerHandler(input -> input);
+        echoWorker.start();
+        dataSetWorker = new MajordomoWorker(broker.getContext(), brokerAddress, DATASET_SERVICE, BasicRbacRole.ADMIN);
+        dataSetWorker.registerHandler(DataSetData.class, input -> input);
+        dataSetWorker.start();
+
+        syncClient = new MajordomoClientV1(broker.getContext(), brokerAddress, "benchmarkClientV1");
+        asyncClient = new MajordomoClientV2(broker.getContext(), brokerAddress);
+        subscriber = new MajordomoSubscriber(broker.getContext(), publisherAddress);
+        subscriber.subscribe(ECHO_SERVICE);
+
+        final double[] xValues = new double[nSamples];
+        final double[] yValues = new double[nSamples];
+        for (int i = 0; i < nSamples; i++) {
+            xValues[i] = i;
+            yValues[i] = Math.sin(0.01 * i);
+        }
+        request.dataSet = new DoubleDataSet("benchmark", xValues, yValues, nSamples, false);
+
+        // N.B. wait until the workers are registered and the subscription has been established ('slow joiner')
+        Thread.sleep(500);
+        while (syncClient.send(ECHO_SERVICE, REQUEST_BYTES) == null) {
+            Thread.sleep(100);
+        }
+        subscriber.setTimeout(100);
+        do {
+            echoWorker.notifySubscribers(REQUEST_BYTES);
+        } while (subscriber.recv() == null);
+        while (subscriber.recv() != null) {
+            // drain pending notifications
+        }
+        subscriber.setTimeout(2500);
+    }
+
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2)
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void syncRoundTrip(final Blackhole blackhole) {
+        blackhole.consume(syncClient.send(ECHO_SERVICE_BYTES, REQUEST_BYTES));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        subscriber.destroy();
+        asyncClient.destroy();
+        syncClient.destroy();
+        echoWorker.stopWorker();
+        dataSetWorker.stopWorker();
+        broker.stopBroker();
+    }
+
+    public static void main(String[] args) throws IOException {
+        org.openjdk.jmh.Main.main(args);
+    }
+
+    public static class DataSetData {
+        public DataSet dataSet;
+    }
+}
@@ -1,4 +1,4 @@
-package de.gsi.microservice.concepts.majordomo;
+package de.gsi.microservice.majordomo;
 
 import static org.awaitility.Awaitility.await;
 import static org.hamcrest.Matchers.equalTo;
@@ -8,26 +8,29 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import static de.gsi.microservice.concepts.majordomo.MajordomoProtocol.MdpClientCommand;
-import static de.gsi.microservice.concepts.majordomo.MajordomoProtocol.MdpClientMessage;
-import static de.gsi.microservice.concepts.majordomo.MajordomoProtocol.MdpMessage;
-import static de.gsi.microservice.concepts.majordomo.MajordomoProtocol.MdpSubProtocol;
-import static de.gsi.microservice.concepts.majordomo.MajordomoProtocol.receiveMdpMessage;
-import static de.gsi.microservice.concepts.majordomo.MajordomoProtocol.sendClientMessage;
+import static de.gsi.microservice.majordomo.MajordomoProtocol.MdpClientCommand;
+import static de.gsi.microservice.majordomo.MajordomoProtocol.MdpClientMessage;
+import static de.gsi.microservice.majordomo.MajordomoProtocol.MdpMessage;
+import static de.gsi.microservice.majordomo.MajordomoProtocol.MdpSubProtocol;
+import static de.gsi.microservice.majordomo.MajordomoProtocol.receiveMdpMessage;
+import static de.gsi.microservice.majordomo.MajordomoProtocol.sendClientMessage;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
-import org.junit.Test;
+import org.junit.jupiter.api.Test;
 import org.zeromq.SocketType;
 import org.zeromq.Utils;
 import org.zeromq.ZMQ;
 import org.zeromq.ZMsg;
 
+import de.gsi.dataset.DataSet;
+import de.gsi.dataset.spi.DoubleDataSet;
 import de.gsi.microservice.rbac.BasicRbacRole;
 import de.gsi.microservice.rbac.RbacToken;
 
@@ -260,4 +263,92 @@ public class MajordomoBrokerTests {
 
         broker.stopBroker();
     }
+
+    @Test
+    public void typedRequestReplyTest() throws InterruptedException {
+        MajordomoBroker broker = new MajordomoBroker(1, BasicRbacRole.values());
+        broker.start();
+
+        final MajordomoWorker worker = new MajordomoWorker(broker.getContext(), "dataSetService", BasicRbacRole.ADMIN);
+        assertThrows(IllegalArgumentException.class, () -> worker.registerHandler(Integer.class, input -> input));
+        worker.registerHandler(TestData.class, input -> {
+            final TestData reply = new TestData();
+            reply.name = input.name + "-reply";
+            final DoubleDataSet dataSet = new DoubleDataSet(input.dataSet);
+            dataSet.set(0, 0.0, 42.0);
+            reply.dataSet = dataSet;
+            return reply;
+        });
+        worker.start();
+        Thread.sleep(200); // wait until the worker is registered
+
+        final PayloadCodec codec = new PayloadCodec();
+        final TestData request = new TestData();
+        request.name = "request";
+        request.dataSet = new DoubleDataSet("test", new double[] { 1, 2, 3 }, new double[] { 4, 5, 6 }, 3, false);
+
+        final MajordomoClientV1 clientSession = new MajordomoClientV1(broker.getContext(), "inproc://broker", "typedClient");
+        final ZMsg reply = clientSession.send("dataSetService", codec.serialise(request));
+        assertNotNull(reply, "reply message not being null");
+        final TestData replyData = codec.deserialise(reply.pollLast().getData(), new TestData());
+        assertEquals("request-reply", replyData.name);
+        assertEquals(3, replyData.dataSet.getDataCount());
+        assertEquals(42.0, replyData.dataSet.get(DataSet.DIM_Y, 0));
+        assertEquals(5.0, replyData.dataSet.get(DataSet.DIM_Y, 1));
+
+        clientSession.destroy();
+        worker.stopWorker();
+        broker.stopBroker();
+    }
+
+    @Test
+    public void subscriptionTest() throws IOException {
+        MajordomoBroker broker = new MajordomoBroker(1, BasicRbacRole.values());
+        final int openPort = Utils.findOpenPort();
+        broker.bindPublisher("tcp://*:" + openPort);
+        assertEquals(1, broker.getPublishSockets().size());
+        broker.start();
+
+        final MajordomoWorker worker = new MajordomoWorker(broker.getContext(), "notifyService", BasicRbacRole.ADMIN);
+        assertThrows(IllegalArgumentException.class, worker::notifySubscribers);
+        worker.start();
+
+        final MajordomoSubscriber subscriber = new MajordomoSubscriber("tcp://localhost:" + openPort);
+        final MajordomoSubscriber otherSubscriber = new MajordomoSubscriber("tcp://localhost:" + openPort);
+        subscriber.subscribe("notifyService");
+        otherSubscriber.subscribe("otherService");
+        subscriber.setTimeout(100);
+        otherSubscriber.setTimeout(100);
+
+        // N.B. repeat notification until subscription is established ('slow joiner')
+        await().alias("wait for notification").atMost(2, TimeUnit.SECONDS).until(() -> {
+            assertTrue(worker.notifySubscribers(DEFAULT_REQUEST_MESSAGE_BYTES));
+            final ZMsg msg = subscriber.recv();
+            if (msg == null) {
+                return false;
+            }
+            assertEquals(2, msg.size());
+            assertEquals("notifyService", msg.popString());
+            assertArrayEquals(DEFAULT_REQUEST_MESSAGE_BYTES, msg.pop().getData());
+            return true;
+        });
+        assertNull(otherSubscriber.recv(), "not subscribed to 'notifyService'");
+
+        // notifications from unknown (i.e. not ready) workers are rejected
+        final ZMQ.Socket unknownWorker = broker.getContext().createSocket(SocketType.DEALER);
+        unknownWorker.connect("inproc://broker");
+        assertTrue(MajordomoProtocol.sendWorkerMessage(unknownWorker, MajordomoProtocol.MdpWorkerCommand.W_NOTIFY, null, "notifyService".getBytes(StandardCharsets.UTF_8), DEFAULT_REQUEST_MESSAGE_BYTES));
+        assertNull(subscriber.recv(), "notification of unknown worker");
+
+        unknownWorker.close();
+        subscriber.destroy();
+        otherSubscriber.destroy();
+        worker.stopWorker();
+        broker.stopBroker();
+    }
+
+    public static class TestData {
+        public String name;
+        public DataSet dataSet;
+    }
 }
@@ -9,6 +9,8 @@ import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
 
+import de.gsi.serializer.spi.ClassFieldDescription;
+
 import sun.misc.Unsafe;
 
 /**
@@ -43,6 +45,7 @@ public class ReflectionBenchmark {
     private Field field = getField();
     private Field fieldOptimised = getOptimisedField();
     private long fieldOffset = getFieldOffset();
+    private ClassFieldDescription.FieldAccess fieldAccess = getFieldAccess();
 
     @Benchmark
     @Warmup(iterations = 1)
@@ -106,6 +109,14 @@ public class ReflectionBenchmark {
         blackhole.consume(data);
     }
 
+    @Benchmark
+    @Warmup(iterations = 1)
+    @Fork(value = 2, warmups = 2)
+    public void fieldAccess7ViaFieldAccess(Blackhole blackhole, final MyData data) {
+        fieldAccess.setDouble(data, data.a);
+        blackhole.consume(data);
+    }
+
     public static void main(String[] args) throws Throwable {
         MyData data = new MyData();
 
@@ -152,6 +163,11 @@ public class ReflectionBenchmark {
         return null;
     }
 
+    private static ClassFieldDescription.FieldAccess getFieldAccess() {
+        final ClassFieldDescription classField = new ClassFieldDescription(MyData.class, false);
+        return ((ClassFieldDescription) classField.findChildField("value")).getField();
+    }
+
     private static long getFieldOffset() {
         try {
             final Field field = MyData.class.getDeclaredField("value");
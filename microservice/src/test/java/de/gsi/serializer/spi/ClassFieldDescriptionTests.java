@@ -0,0 +1,143 @@
+package de.gsi.serializer.spi;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import de.gsi.serializer.FieldDescription;
+import de.gsi.serializer.IoClassSerialiser;
+
+/**
+ * @author rstein
+ */
+class ClassFieldDescriptionTests {
+    @Test
+    void testFieldAccess() {
+        final ClassFieldDescription classField = new ClassFieldDescription(AccessTestClass.class, true);
+        final AccessTestClass obj = new AccessTestClass();
+
+        final ClassFieldDescription.FieldAccess boolField = getFieldAccess(classField, "boolValue");
+        boolField.setBoolean(obj, true);
+        assertTrue(boolField.getBoolean(obj));
+        final ClassFieldDescription.FieldAccess byteField = getFieldAccess(classField, "byteValue");
+        byteField.setByte(obj, (byte) 2);
+        assertEquals(2, byteField.getByte(obj));
+        final ClassFieldDescription.FieldAccess charField = getFieldAccess(classField, "charValue");
+        charField.setChar(obj, 'c');
+        assertEquals('c', charField.getChar(obj));
+        final ClassFieldDescription.FieldAccess shortField = getFieldAccess(classField, "shortValue");
+        shortField.setShort(obj, (short) 3);
+        assertEquals(3, shortField.getShort(obj));
+        final ClassFieldDescription.FieldAccess intField = getFieldAccess(classField, "intValue");
+        intField.setInt(obj, 4);
+        assertEquals(4, intField.getInt(obj));
+        final ClassFieldDescription.FieldAccess longField = getFieldAccess(classField, "longValue");
+        longField.setLong(obj, 5L);
+        assertEquals(5L, longField.getLong(obj));
+        final ClassFieldDescription.FieldAccess floatField = getFieldAccess(classField, "floatValue");
+        floatField.setFloat(obj, 6.0f);
+        assertEquals(6.0f, floatField.getFloat(obj));
+        final ClassFieldDescription.FieldAccess doubleField = getFieldAccess(classField, "doubleValue");
+        doubleField.setDouble(obj, 7.0);
+        assertEquals(7.0, doubleField.getDouble(obj));
+        final ClassFieldDescription.FieldAccess stringField = getFieldAccess(classField, "stringValue");
+        stringField.set(obj, "test");
+        assertEquals("test", stringField.get(obj));
+
+        // private final (instance) fields
+        final ClassFieldDescription.FieldAccess finalField = getFieldAccess(classField, "finalArray");
+        assertArrayEquals(new double[] { 1, 2, 3 }, (double[]) finalField.get(obj));
+        finalField.set(obj, new double[] { 4, 5 });
+        assertArrayEquals(new double[] { 4, 5 }, (double[]) finalField.get(obj));
+
+        // static fields ignore the object reference
+        final ClassFieldDescription.FieldAccess staticField = getFieldAccess(classField, "staticValue");
+        assertEquals(42, staticField.getInt(obj));
+        assertEquals(42, staticField.getInt(null));
+
+        // mismatching accessor type
+        assertThrows(IllegalArgumentException.class, () -> doubleField.getInt(obj));
+        assertThrows(IllegalArgumentException.class, () -> intField.setDouble(obj, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> intField.get(obj));
+        assertThrows(ClassCastException.class, () -> stringField.set(obj, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> intField.getInt(null));
+
+        // receiver of the wrong type
+        assertThrows(IllegalArgumentException.class, () -> doubleField.getDouble("wrong receiver"));
+        assertThrows(IllegalArgumentException.class, () -> doubleField.setDouble(new Object(), 1.0));
+        assertThrows(IllegalArgumentException.class, () -> stringField.set(new Object(), "test"));
+    }
+
+    @Test
+    void testSerialiseNestedClass() {
+        final FastByteBuffer buffer = new FastByteBuffer(1000);
+        final IoClassSerialiser serialiser = new IoClassSerialiser(buffer, BinarySerialiser.class);
+
+        final NestedTestClass obj = new NestedTestClass();
+        obj.inner.intValue = 3;
+        obj.inner.stringValue = "inner";
+        obj.value = 2.0;
+
+        // serialise twice to cover the cached class writer
+        for (int i = 0; i < 2; i++) {
+            buffer.reset();
+            serialiser.serialiseObject(obj);
+            buffer.flip();
+            final NestedTestClass received = serialiser.deserialiseObject(NestedTestClass.class);
+            assertEquals(2.0, received.value);
+            assertNotNull(received.inner);
+            assertEquals(3, received.inner.intValue);
+            assertEquals("inner", received.inner.stringValue);
+            assertNull(received.nullInner);
+        }
+
+        // de-serialise into existing object (N.B. nested class instances are reused by the cached class reader)
+        final NestedTestClass target = new NestedTestClass();
+        final InnerTestClass targetInner = target.inner;
+        buffer.reset();
+        serialiser.serialiseObject(obj);
+        buffer.flip();
+        serialiser.deserialiseObject(target);
+        assertEquals(2.0, target.value);
+        assertSame(targetInner, target.inner);
+        assertEquals(3, target.inner.intValue);
+        assertEquals("inner", target.inner.stringValue);
+    }
+
+    private static ClassFieldDescription.FieldAccess getFieldAccess(final ClassFieldDescription classField, final String fieldName) {
+        final FieldDescription field = classField.findChildField(fieldName);
+        assertNotNull(field, fieldName);
+        return ((ClassFieldDescription) field).getField();
+    }
+
+    private static class AccessTestClass {
+        private static int staticValue = 42;
+        private boolean boolValue;
+        private byte byteValue;
+        private char charValue;
+        private short shortValue;
+        private int intValue;
+        private long longValue;
+        private float floatValue;
+        private double doubleValue;
+        private String stringValue;
+        private final double[] finalArray = { 1, 2, 3 };
+    }
+
+    public static class NestedTestClass {
+        public double value;
+        public InnerTestClass inner = new InnerTestClass();
+        public InnerTestClass nullInner;
+    }
+
+    public static class InnerTestClass {
+        public int intValue;
+        public String stringValue;
+    }
+}